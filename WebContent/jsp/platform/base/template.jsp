@@ -26,6 +26,7 @@ import = "jp.mosp.framework.base.MospParams"
 import = "jp.mosp.framework.base.BaseVo"
 import = "jp.mosp.framework.constant.MospConst"
 import = "jp.mosp.framework.utils.HtmlUtility"
+import = "jp.mosp.framework.utils.ResourceVersionUtility"
 import = "jp.mosp.platform.portal.vo.LoginVo"
 %><%
 final String APP_BASE_JSP_FILES = "BaseJspFiles";
@@ -35,6 +36,7 @@ int idx = 0;
 String[] baseJspFiles = params.getApplicationProperties(APP_BASE_JSP_FILES);
 String onsubmit = vo instanceof LoginVo ? "" : "return false;";
 String propertyTime = params.getApplicationProperty(MospConst.APP_PROPERTY_TIME);
+String docBase = params.getApplicationProperty(MospConst.APP_DOCBASE);
 %>
 <!DOCTYPE html>
 <html>
@@ -44,12 +46,12 @@ String propertyTime = params.getApplicationProperty(MospConst.APP_PROPERTY_TIME)
 <%
 for (String cssFile : params.getCssFiles()) {
 %>
-<link href="..<%= cssFile %>?var=<%= propertyTime %>" rel="stylesheet" type="text/css" />
+<link href="..<%= cssFile %>?var=<%= ResourceVersionUtility.getVersion(docBase, cssFile, propertyTime) %>" rel="stylesheet" type="text/css" />
 <%
 }
 for (String jsFile : params.getJsFiles()) {
 %>
-<script type="text/javascript" src="..<%= jsFile %>?var=<%= propertyTime %>"></script>
+<script type="text/javascript" src="..<%= jsFile %>?var=<%= ResourceVersionUtility.getVersion(docBase, jsFile, propertyTime) %>"></script>
 <%
 }
 %>
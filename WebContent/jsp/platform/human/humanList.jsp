@@ -158,7 +158,7 @@ HumanListVo vo = (HumanListVo)params.getVo();
 		</tr>
 	</table>
 </div>
-<%= HtmlUtility.getListInfoFlex(params, vo.getList(), vo.getPageCommand(), vo.getDataPerPage(), vo.getSelectIndex()) %>
+<%= HtmlUtility.getListInfoFlex(params, vo.getListCount(), vo.getPageCommand(), vo.getDataPerPage(), vo.getSelectIndex()) %>
 <div class="FixList" id="humanList">
 	<table class="LeftListTable" id="list">
 		<thead>
@@ -206,7 +206,7 @@ if (vo.getList().size() == 0) {
 	return;
 }
 %>
-<%= HtmlUtility.getListInfoFlex(params, vo.getList(), vo.getPageCommand(), vo.getDataPerPage(), vo.getSelectIndex()) %>
+<%= HtmlUtility.getListInfoFlex(params, vo.getListCount(), vo.getPageCommand(), vo.getDataPerPage(), vo.getSelectIndex()) %>
 <div class="MoveUpLink">
 	<a onclick="pageToTop();"><%= params.getName("UpperTriangular","TopOfPage") %></a>
 </div>
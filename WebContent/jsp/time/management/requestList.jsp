@@ -130,7 +130,7 @@ RequestListVo vo = (RequestListVo)params.getVo();
 		</tr>
 	</table>
 </div>
-<%= HtmlUtility.getListInfoFlex(params, vo.getList(), vo.getPageCommand(), vo.getDataPerPage(), vo.getSelectIndex()) %>
+<%= HtmlUtility.getListInfoFlex(params, vo.getListCount(), vo.getPageCommand(), vo.getDataPerPage(), vo.getSelectIndex()) %>
 <div class="FixList">
 	<table class="LeftListTable" id="list">
 		<thead>
@@ -172,7 +172,7 @@ for (int i = 0; i < vo.getAryLblEmployeeCode().length; i++) {
 <%
 if (!vo.getList().isEmpty()) {
 %>
-<%= HtmlUtility.getListInfoFlex(params, vo.getList(), vo.getPageCommand(), vo.getDataPerPage(), vo.getSelectIndex()) %>
+<%= HtmlUtility.getListInfoFlex(params, vo.getListCount(), vo.getPageCommand(), vo.getDataPerPage(), vo.getSelectIndex()) %>
 <div class="MoveUpLink" id="divMoveUp">
 	<a onclick="pageToTop();"><%= params.getName("UpperTriangular","TopOfPage") %></a>
 </div>
@@ -284,6 +284,39 @@ function doSubmitForMulti(objForm, cmd) {
 	}
 }
 
+/**
+ * ジョブの状況を取得する。<br>
+ * 取得した状況(JSON)をオブジェクトに変換し、コールバック関数に渡す。<br>
+ * ジョブが終了していない場合は、一定間隔で再度取得する。<br>
+ * @param jobId    ジョブID
+ * @param callback コールバック関数(引数：ジョブ状況)
+ * @param interval 取得間隔(ミリ秒)
+ */
+function pollJobStatus(jobId, callback, interval) {
+	var request = new XMLHttpRequest();
+	request.open("GET", URL_SRV + "?cmd=PF9130&transferredCode=" + jobId, true);
+	request.onreadystatechange = function() {
+		if (request.readyState != 4 || request.status != 200) {
+			return;
+		}
+		var status = JSON.parse(request.responseText);
+		callback(status);
+		// ジョブが終了していない場合
+		if (status.finished === false) {
+			setTimeout(function() { pollJobStatus(jobId, callback, interval); }, interval);
+		}
+	};
+	request.send(null);
+}
+
+/**
+ * ジョブの結果ファイルを出力する。<br>
+ * @param jobId ジョブID
+ */
+function downloadJobResult(jobId) {
+	location.href = URL_SRV + "?cmd=PF9131&transferredCode=" + jobId;
+}
+
 /**
  * 送信(submit)直前の処理を行う。
  */
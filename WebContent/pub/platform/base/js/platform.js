@@ -51,6 +51,31 @@ var ID_MAIN_MENU = "trMainMenu";
  */
 var ID_SUB_MENU = "divSubMenu";
 
+/**
+ * ジョブ状況表示領域要素ID。
+ */
+var DIV_JOB_STATUS = "divJobStatus";
+
+/**
+ * ジョブ状況取得間隔(ミリ秒)。
+ */
+var INTERVAL_JOB_STATUS = 3000;
+
+/**
+ * ジョブ状態(異常終了)。
+ */
+var CODE_JOB_STATUS_FAILED = "9";
+
+/**
+ * ジョブ状況メッセージ。
+ */
+var MSG_JOB_STATUS = "PFI0009";
+
+/**
+ * ジョブ結果ファイル出力メッセージ。
+ */
+var MSG_JOB_DOWNLOAD = "PFI0010";
+
 /**
  * 半角英数字又は記号("_"、"."、"-"、"@")チェックエラーメッセージ。
  */
@@ -200,6 +225,10 @@ function onLoad(e) {
 		if (typeof(jsScrollTo) != "undefined" && jsScrollTo != "") {
 			scrollToTarget(jsScrollTo);
 		}
+		// 受付ジョブ状況表示
+		if (typeof(jsJobId) != "undefined") {
+			showJobStatus(jsJobId);
+		}
 		// 画面読込時モジュール追加処理
 		onLoadModuleExtra();
 		// 画面読込時処理
@@ -228,6 +257,72 @@ function onLoadExtra(){}
  */
 function onLoadAddonExtra(){}
 
+/**
+ * ジョブの状況を表示する。<br>
+ * MosP内容領域の上にジョブの状態及び進捗率を表示し、ジョブが終了するまで一定間隔で更新する。<br>
+ * ジョブのメッセージがある場合は併せて表示し、
+ * ジョブが終了して結果ファイルがある場合は結果ファイル出力用のリンクを表示する。<br>
+ * @param jobId ジョブID
+ */
+function showJobStatus(jobId) {
+	// ジョブ状況表示領域作成
+	var objStatus = document.createElement("DIV");
+	objStatus.id = DIV_JOB_STATUS;
+	objStatus.className = "Message";
+	var objBody = getObject(DIV_BODY);
+	objBody.parentNode.insertBefore(objStatus, objBody);
+	// ジョブ状況取得
+	pollJobStatus(jobId, function(status) {
+		// ジョブが存在しない場合
+		if (status.status == null) {
+			return;
+		}
+		// 表示内容削除
+		while (objStatus.firstChild != null) {
+			objStatus.removeChild(objStatus.firstChild);
+		}
+		// 状態及び進捗率表示
+		var rep = [status.jobName, status.jobId, status.statusName, status.progress];
+		addJobStatusSpan(objStatus, getMessage(MSG_JOB_STATUS, rep), "MessageSpan");
+		// ジョブのメッセージ表示
+		if (status.message != null && status.message != "") {
+			var className = status.status == CODE_JOB_STATUS_FAILED ? "ErrorMessageSpan" : "MessageSpan";
+			var aryMessage = status.message.split("\n");
+			for (var i = 0; i < aryMessage.length; i++) {
+				addJobStatusSpan(objStatus, aryMessage[i], className);
+			}
+		}
+		// 結果ファイル出力用リンク表示
+		if (status.finished && status.hasResult) {
+			var objSpan = addJobStatusSpan(objStatus, "", "MessageSpan");
+			var objLink = document.createElement(TAG_A);
+			objLink.href = "#";
+			objLink.onclick = function() {
+				downloadJobResult(jobId);
+				return false;
+			};
+			objLink.appendChild(document.createTextNode(getMessage(MSG_JOB_DOWNLOAD, null)));
+			objSpan.appendChild(objLink);
+		}
+	}, INTERVAL_JOB_STATUS);
+}
+
+/**
+ * ジョブ状況表示領域に一行追加する。<br>
+ * @param objStatus ジョブ状況表示領域
+ * @param text      表示文字列
+ * @param className クラス名
+ * @return 追加したSPAN要素
+ */
+function addJobStatusSpan(objStatus, text, className) {
+	var objSpan = document.createElement(TAG_SPAN);
+	objSpan.className = className;
+	objSpan.appendChild(document.createTextNode(text));
+	objStatus.appendChild(objSpan);
+	objStatus.appendChild(document.createElement("BR"));
+	return objSpan;
+}
+
 /**
  * 変更箇所チェックを行った後、パラメータを付加して、リクエストを送信する。<br>
  * 画面遷移時、ソート時等に用いる。<br>
@@ -30,6 +30,7 @@ pfm_naming,
 pfm_ic_card,
 pft_reception_ic_card,
 pft_workflow,
+pft_workflow_approver,
 pft_workflow_comment,
 pft_message,
 pft_sub_approver,
@@ -38,6 +39,9 @@ pfm_import,
 pfa_import_field,
 pfm_export,
 pfa_export_field,
+pft_job,
+pft_mail_outbox,
+pft_section_closure,
 pfm_db_version
  TO usermosp;
 
@@ -81,6 +85,9 @@ pfm_import_id_seq,
 pfa_import_field_id_seq,
 pfm_export_id_seq,
 pfa_export_field_id_seq,
+pft_job_id_seq,
+pft_mail_outbox_id_seq,
+pft_section_closure_id_seq,
 pfm_human_personal_id_seq,
 pft_message_message_no_seq,
 pft_sub_approver_sub_approver_no_seq,
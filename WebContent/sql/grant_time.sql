@@ -33,6 +33,7 @@ tmm_stock_holiday,
 tmm_holiday,
 tmd_holiday,
 tmd_paid_holiday,
+tmd_paid_holiday_ledger,
 tmt_paid_holiday,
 tmd_stock_holiday,
 tmt_stock_holiday,
@@ -44,7 +45,8 @@ tmd_sub_holiday,
 tmd_substitute,
 tmt_attendance,
 tmm_paid_holiday_proportionally,
-tmt_paid_holiday_grant
+tmt_paid_holiday_grant,
+tmt_time_punch
  TO usermosp;
 
 GRANT USAGE, SELECT, UPDATE ON 
@@ -84,6 +86,7 @@ tmm_stock_holiday_id_seq,
 tmm_holiday_id_seq,
 tmd_holiday_id_seq,
 tmd_paid_holiday_id_seq,
+tmd_paid_holiday_ledger_id_seq,
 tmt_paid_holiday_id_seq,
 tmd_stock_holiday_id_seq,
 tmt_stock_holiday_id_seq,
@@ -93,5 +96,6 @@ tmm_cutoff_id_seq,
 tmm_application_id_seq,
 tmt_attendance_id_seq,
 tmm_paid_holiday_proportionally_id_seq,
-tmt_paid_holiday_grant_id_seq
+tmt_paid_holiday_grant_id_seq,
+tmt_time_punch_id_seq
  TO usermosp;
@@ -935,6 +935,34 @@ COMMENT ON COLUMN pft_workflow.update_date IS '更新日';
 COMMENT ON COLUMN pft_workflow.update_user IS '更新者';
 
 
+CREATE TABLE pft_workflow_approver
+(
+  workflow bigint NOT NULL DEFAULT 0,
+  function_code character varying(10) NOT NULL DEFAULT ''::character varying,
+  workflow_stage integer NOT NULL DEFAULT 0,
+  approver_id character varying(10) NOT NULL DEFAULT ''::character varying,
+  route_code character varying(10) NOT NULL DEFAULT ''::character varying,
+  delete_flag integer NOT NULL DEFAULT 0,
+  insert_date timestamp without time zone NOT NULL,
+  insert_user character varying(50) NOT NULL DEFAULT ''::character varying,
+  update_date timestamp without time zone NOT NULL,
+  update_user character varying(50) NOT NULL DEFAULT ''::character varying,
+  CONSTRAINT pft_workflow_approver_pkey PRIMARY KEY (workflow)
+)
+;
+COMMENT ON TABLE pft_workflow_approver IS 'ワークフロー承認者索引';
+COMMENT ON COLUMN pft_workflow_approver.workflow IS 'ワークフロー番号';
+COMMENT ON COLUMN pft_workflow_approver.function_code IS '機能コード';
+COMMENT ON COLUMN pft_workflow_approver.workflow_stage IS '段階';
+COMMENT ON COLUMN pft_workflow_approver.approver_id IS '承認者個人ID(現在の段階)';
+COMMENT ON COLUMN pft_workflow_approver.route_code IS 'ルートコード';
+COMMENT ON COLUMN pft_workflow_approver.delete_flag IS '削除フラグ';
+COMMENT ON COLUMN pft_workflow_approver.insert_date IS '登録日';
+COMMENT ON COLUMN pft_workflow_approver.insert_user IS '登録者';
+COMMENT ON COLUMN pft_workflow_approver.update_date IS '更新日';
+COMMENT ON COLUMN pft_workflow_approver.update_user IS '更新者';
+
+
 CREATE TABLE pft_workflow_comment
 (
   pft_workflow_comment_id bigint NOT NULL DEFAULT 0,
@@ -1313,6 +1341,117 @@ COMMENT ON COLUMN pfa_export_field.update_date IS '更新日';
 COMMENT ON COLUMN pfa_export_field.update_user IS '更新者';
 
 
+CREATE TABLE pft_job
+(
+  pft_job_id bigint NOT NULL DEFAULT 0,
+  user_id character varying(50) NOT NULL DEFAULT ''::character varying,
+  job_name character varying(50) NOT NULL DEFAULT ''::character varying,
+  job_class character varying(255) NOT NULL DEFAULT ''::character varying,
+  job_parameter text NOT NULL DEFAULT ''::text,
+  job_status character varying(10) NOT NULL DEFAULT ''::character varying,
+  progress integer NOT NULL DEFAULT 0,
+  job_message text NOT NULL DEFAULT ''::text,
+  start_time timestamp without time zone,
+  end_time timestamp without time zone,
+  result_file_name character varying(255) NOT NULL DEFAULT ''::character varying,
+  result_file bytea,
+  delete_flag integer NOT NULL DEFAULT 0,
+  insert_date timestamp without time zone NOT NULL,
+  insert_user character varying(50) NOT NULL DEFAULT ''::character varying,
+  update_date timestamp without time zone NOT NULL,
+  update_user character varying(50) NOT NULL DEFAULT ''::character varying,
+  CONSTRAINT pft_job_pkey PRIMARY KEY (pft_job_id)
+)
+;
+COMMENT ON TABLE pft_job IS 'ジョブ';
+COMMENT ON COLUMN pft_job.pft_job_id IS 'レコード識別ID(ジョブID)';
+COMMENT ON COLUMN pft_job.user_id IS '登録ユーザID';
+COMMENT ON COLUMN pft_job.job_name IS 'ジョブ名称';
+COMMENT ON COLUMN pft_job.job_class IS 'ジョブクラス名';
+COMMENT ON COLUMN pft_job.job_parameter IS 'ジョブパラメータ';
+COMMENT ON COLUMN pft_job.job_status IS 'ジョブ状態';
+COMMENT ON COLUMN pft_job.progress IS '進捗率';
+COMMENT ON COLUMN pft_job.job_message IS 'メッセージ';
+COMMENT ON COLUMN pft_job.start_time IS '開始日時';
+COMMENT ON COLUMN pft_job.end_time IS '終了日時';
+COMMENT ON COLUMN pft_job.result_file_name IS '結果ファイル名';
+COMMENT ON COLUMN pft_job.result_file IS '結果ファイル';
+COMMENT ON COLUMN pft_job.delete_flag IS '削除フラグ';
+COMMENT ON COLUMN pft_job.insert_date IS '登録日';
+COMMENT ON COLUMN pft_job.insert_user IS '登録者';
+COMMENT ON COLUMN pft_job.update_date IS '更新日';
+COMMENT ON COLUMN pft_job.update_user IS '更新者';
+
+
+CREATE TABLE pft_mail_outbox
+(
+  pft_mail_outbox_id bigint NOT NULL DEFAULT 0,
+  personal_id character varying(10) NOT NULL DEFAULT ''::character varying,
+  mail_address character varying(255) NOT NULL DEFAULT ''::character varying,
+  mail_title text NOT NULL DEFAULT ''::text,
+  mail_text text NOT NULL DEFAULT ''::text,
+  mail_status character varying(10) NOT NULL DEFAULT ''::character varying,
+  retry_count integer NOT NULL DEFAULT 0,
+  next_send_time timestamp without time zone NOT NULL,
+  send_time timestamp without time zone,
+  mail_message text NOT NULL DEFAULT ''::text,
+  delete_flag integer NOT NULL DEFAULT 0,
+  insert_date timestamp without time zone NOT NULL,
+  insert_user character varying(50) NOT NULL DEFAULT ''::character varying,
+  update_date timestamp without time zone NOT NULL,
+  update_user character varying(50) NOT NULL DEFAULT ''::character varying,
+  CONSTRAINT pft_mail_outbox_pkey PRIMARY KEY (pft_mail_outbox_id)
+)
+;
+COMMENT ON TABLE pft_mail_outbox IS 'メール送信待ち';
+COMMENT ON COLUMN pft_mail_outbox.pft_mail_outbox_id IS 'レコード識別ID';
+COMMENT ON COLUMN pft_mail_outbox.personal_id IS '個人ID(送信先)';
+COMMENT ON COLUMN pft_mail_outbox.mail_address IS 'メールアドレス(送信先)';
+COMMENT ON COLUMN pft_mail_outbox.mail_title IS '件名';
+COMMENT ON COLUMN pft_mail_outbox.mail_text IS '本文';
+COMMENT ON COLUMN pft_mail_outbox.mail_status IS '送信状態';
+COMMENT ON COLUMN pft_mail_outbox.retry_count IS '再送回数';
+COMMENT ON COLUMN pft_mail_outbox.next_send_time IS '次回送信日時';
+COMMENT ON COLUMN pft_mail_outbox.send_time IS '送信日時';
+COMMENT ON COLUMN pft_mail_outbox.mail_message IS 'メッセージ';
+COMMENT ON COLUMN pft_mail_outbox.delete_flag IS '削除フラグ';
+COMMENT ON COLUMN pft_mail_outbox.insert_date IS '登録日';
+COMMENT ON COLUMN pft_mail_outbox.insert_user IS '登録者';
+COMMENT ON COLUMN pft_mail_outbox.update_date IS '更新日';
+COMMENT ON COLUMN pft_mail_outbox.update_user IS '更新者';
+
+CREATE TABLE pft_section_closure
+(
+  pft_section_closure_id bigint NOT NULL DEFAULT 0,
+  ancestor_code character varying(10) NOT NULL DEFAULT ''::character varying,
+  section_code character varying(10) NOT NULL DEFAULT ''::character varying,
+  depth integer NOT NULL DEFAULT 0,
+  activate_date date NOT NULL,
+  end_date date,
+  close_flag integer NOT NULL DEFAULT 0,
+  delete_flag integer NOT NULL DEFAULT 0,
+  insert_date timestamp without time zone NOT NULL,
+  insert_user character varying(50) NOT NULL DEFAULT ''::character varying,
+  update_date timestamp without time zone NOT NULL,
+  update_user character varying(50) NOT NULL DEFAULT ''::character varying,
+  CONSTRAINT pft_section_closure_pkey PRIMARY KEY (pft_section_closure_id)
+)
+;
+COMMENT ON TABLE pft_section_closure IS '所属階層閉包';
+COMMENT ON COLUMN pft_section_closure.pft_section_closure_id IS 'レコード識別ID';
+COMMENT ON COLUMN pft_section_closure.ancestor_code IS '上位所属コード(自身を含む)';
+COMMENT ON COLUMN pft_section_closure.section_code IS '所属コード';
+COMMENT ON COLUMN pft_section_closure.depth IS '階層差';
+COMMENT ON COLUMN pft_section_closure.activate_date IS '有効日';
+COMMENT ON COLUMN pft_section_closure.end_date IS '終了日';
+COMMENT ON COLUMN pft_section_closure.close_flag IS '閉鎖フラグ';
+COMMENT ON COLUMN pft_section_closure.delete_flag IS '削除フラグ';
+COMMENT ON COLUMN pft_section_closure.insert_date IS '登録日';
+COMMENT ON COLUMN pft_section_closure.insert_user IS '登録者';
+COMMENT ON COLUMN pft_section_closure.update_date IS '更新日';
+COMMENT ON COLUMN pft_section_closure.update_user IS '更新者';
+
+
 CREATE SEQUENCE pfm_postal_code_id_seq;
 CREATE SEQUENCE pfm_bank_base_id_seq;
 CREATE SEQUENCE pfm_bank_branch_id_seq;
@@ -1356,6 +1495,9 @@ CREATE SEQUENCE pfm_human_personal_id_seq;
 CREATE SEQUENCE pft_message_message_no_seq;
 CREATE SEQUENCE pft_sub_approver_sub_approver_no_seq;
 CREATE SEQUENCE pft_workflow_workflow_seq;
+CREATE SEQUENCE pft_job_id_seq;
+CREATE SEQUENCE pft_mail_outbox_id_seq;
+CREATE SEQUENCE pft_section_closure_id_seq;
 
 
 CREATE INDEX pfm_postal_code_index1 ON pfm_postal_code(postal_code);
@@ -1399,5 +1541,173 @@ CREATE INDEX pft_sub_approver_index1 ON pft_sub_approver(start_date, end_date, s
 CREATE INDEX pft_workflow_index1 ON pft_workflow(workflow);
 CREATE INDEX pft_workflow_index2 ON pft_workflow(workflow_status);
 CREATE INDEX pft_workflow_comment_index1 ON pft_workflow_comment(workflow);
-
+CREATE INDEX pft_workflow_approver_index1 ON pft_workflow_approver(approver_id);
+CREATE INDEX pft_workflow_approver_index2 ON pft_workflow_approver(route_code);
+CREATE INDEX pft_job_index1 ON pft_job(user_id, job_status);
+CREATE INDEX pft_mail_outbox_index1 ON pft_mail_outbox(mail_status, next_send_time);
+CREATE INDEX pft_section_closure_index1 ON pft_section_closure(ancestor_code, activate_date);
+CREATE INDEX pft_section_closure_index2 ON pft_section_closure(section_code);
+
+
+INSERT INTO pft_workflow_approver
+SELECT workflow, function_code, workflow_stage,
+  CASE WHEN approver_id = '' THEN '' ELSE split_part(approver_id, ',', workflow_stage) END,
+  CASE WHEN approver_id = '' THEN route_code ELSE '' END,
+  0, now(), 'mosp', now(), 'mosp'
+FROM pft_workflow
+WHERE delete_flag = 0 AND workflow_stage <> 0 AND workflow_status IN ('1', '2', '3', '4', '6');
+
+INSERT INTO pft_section_closure
+WITH history AS (
+  SELECT s.section_code, s.activate_date, s.class_route, s.close_flag,
+    (SELECT MIN(n.activate_date) - 1 FROM pfm_section n
+      WHERE n.delete_flag = 0 AND n.section_code = s.section_code AND n.activate_date > s.activate_date) AS end_date,
+    length(s.class_route) - length(replace(s.class_route, ',', '')) - 1 AS levels
+  FROM pfm_section s
+  WHERE s.delete_flag = 0
+)
+SELECT nextval('pft_section_closure_id_seq'), c.ancestor_code, c.section_code, c.depth,
+  c.activate_date, c.end_date, c.close_flag, 0, now(), 'mosp', now(), 'mosp'
+FROM (
+  SELECT h.section_code AS ancestor_code, h.section_code, 0 AS depth, h.activate_date, h.end_date, h.close_flag
+  FROM history h
+  UNION ALL
+  SELECT split_part(h.class_route, ',', g.i + 1), h.section_code, h.levels - g.i + 1, h.activate_date, h.end_date, h.close_flag
+  FROM history h, generate_series(1, h.levels) AS g(i)
+) c;
+
+
+CREATE OR REPLACE FUNCTION pf_update_valid_to_date() RETURNS trigger AS $$
+DECLARE
+  history_condition text := '';
+  key_condition text := '';
+  key_columns text := '';
+  valid_to text;
+  query text;
+  new_key text;
+  old_key text;
+  lock_key text;
+  i integer;
+BEGIN
+  FOR i IN 0 .. TG_NARGS - 1 LOOP
+    history_condition := history_condition || format(' AND n.%1$I = t.%1$I', TG_ARGV[i]);
+    key_condition := key_condition || format(' AND t.%1$I = ($1).%1$I', TG_ARGV[i]);
+    key_columns := key_columns || format(', ($1).%I', TG_ARGV[i]);
+  END LOOP;
+  -- 同じコードの履歴を更新するトランザクションを直列化する(他のトランザクションが追加した履歴を見落とさないため)
+  -- コードが変更された場合のデッドロックを避けるため、キーの順にロックする
+  IF TG_OP <> 'DELETE' THEN
+    EXECUTE 'SELECT concat_ws(chr(31)' || key_columns || ')' INTO new_key USING NEW;
+  END IF;
+  IF TG_OP <> 'INSERT' THEN
+    EXECUTE 'SELECT concat_ws(chr(31)' || key_columns || ')' INTO old_key USING OLD;
+  END IF;
+  FOR lock_key IN SELECT DISTINCT k FROM unnest(ARRAY[new_key, old_key]) AS k WHERE k IS NOT NULL ORDER BY k LOOP
+    PERFORM pg_advisory_xact_lock(hashtext(TG_TABLE_SCHEMA || '.' || TG_TABLE_NAME || chr(31) || lock_key));
+  END LOOP;
+  valid_to := format('CASE WHEN t.delete_flag <> 0 THEN t.activate_date - 1'
+    || ' ELSE COALESCE((SELECT MIN(n.activate_date) - 1 FROM %1$I.%2$I AS n'
+    || ' WHERE n.delete_flag = 0 AND n.activate_date > t.activate_date%3$s), DATE ''9999-12-31'') END',
+    TG_TABLE_SCHEMA, TG_TABLE_NAME, history_condition);
+  query := format('UPDATE %1$I.%2$I AS t SET valid_to_date = %3$s WHERE t.valid_to_date IS DISTINCT FROM %3$s%4$s',
+    TG_TABLE_SCHEMA, TG_TABLE_NAME, valid_to, key_condition);
+  IF TG_OP <> 'DELETE' THEN
+    EXECUTE query USING NEW;
+  END IF;
+  IF TG_OP <> 'INSERT' THEN
+    EXECUTE query USING OLD;
+  END IF;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+ALTER TABLE pfa_human_history ADD COLUMN valid_to_date date NOT NULL DEFAULT '9999-12-31';
+COMMENT ON COLUMN pfa_human_history.valid_to_date IS '有効終了日';
+UPDATE pfa_human_history AS t SET valid_to_date = CASE WHEN t.delete_flag <> 0 THEN t.activate_date - 1
+  ELSE COALESCE((SELECT MIN(n.activate_date) - 1 FROM pfa_human_history AS n
+    WHERE n.delete_flag = 0 AND n.activate_date > t.activate_date AND n.personal_id = t.personal_id AND n.human_item_type = t.human_item_type), DATE '9999-12-31') END;
+CREATE TRIGGER pfa_human_history_valid_to_date AFTER INSERT OR DELETE OR UPDATE OF personal_id, human_item_type, activate_date, delete_flag
+  ON pfa_human_history FOR EACH ROW EXECUTE PROCEDURE pf_update_valid_to_date('personal_id', 'human_item_type');
+CREATE INDEX pfa_human_history_index_valid ON pfa_human_history(valid_to_date, activate_date);
+
+ALTER TABLE pfm_employment_contract ADD COLUMN valid_to_date date NOT NULL DEFAULT '9999-12-31';
+COMMENT ON COLUMN pfm_employment_contract.valid_to_date IS '有効終了日';
+UPDATE pfm_employment_contract AS t SET valid_to_date = CASE WHEN t.delete_flag <> 0 THEN t.activate_date - 1
+  ELSE COALESCE((SELECT MIN(n.activate_date) - 1 FROM pfm_employment_contract AS n
+    WHERE n.delete_flag = 0 AND n.activate_date > t.activate_date AND n.employment_contract_code = t.employment_contract_code), DATE '9999-12-31') END;
+CREATE TRIGGER pfm_employment_contract_valid_to_date AFTER INSERT OR DELETE OR UPDATE OF employment_contract_code, activate_date, delete_flag
+  ON pfm_employment_contract FOR EACH ROW EXECUTE PROCEDURE pf_update_valid_to_date('employment_contract_code');
+CREATE INDEX pfm_employment_contract_index_valid ON pfm_employment_contract(valid_to_date, activate_date);
+
+ALTER TABLE pfm_human ADD COLUMN valid_to_date date NOT NULL DEFAULT '9999-12-31';
+COMMENT ON COLUMN pfm_human.valid_to_date IS '有効終了日';
+UPDATE pfm_human AS t SET valid_to_date = CASE WHEN t.delete_flag <> 0 THEN t.activate_date - 1
+  ELSE COALESCE((SELECT MIN(n.activate_date) - 1 FROM pfm_human AS n
+    WHERE n.delete_flag = 0 AND n.activate_date > t.activate_date AND n.personal_id = t.personal_id), DATE '9999-12-31') END;
+CREATE TRIGGER pfm_human_valid_to_date AFTER INSERT OR DELETE OR UPDATE OF personal_id, activate_date, delete_flag
+  ON pfm_human FOR EACH ROW EXECUTE PROCEDURE pf_update_valid_to_date('personal_id');
+CREATE INDEX pfm_human_index_valid ON pfm_human(valid_to_date, activate_date);
+
+ALTER TABLE pfm_position ADD COLUMN valid_to_date date NOT NULL DEFAULT '9999-12-31';
+COMMENT ON COLUMN pfm_position.valid_to_date IS '有効終了日';
+UPDATE pfm_position AS t SET valid_to_date = CASE WHEN t.delete_flag <> 0 THEN t.activate_date - 1
+  ELSE COALESCE((SELECT MIN(n.activate_date) - 1 FROM pfm_position AS n
+    WHERE n.delete_flag = 0 AND n.activate_date > t.activate_date AND n.position_code = t.position_code), DATE '9999-12-31') END;
+CREATE TRIGGER pfm_position_valid_to_date AFTER INSERT OR DELETE OR UPDATE OF position_code, activate_date, delete_flag
+  ON pfm_position FOR EACH ROW EXECUTE PROCEDURE pf_update_valid_to_date('position_code');
+CREATE INDEX pfm_position_index_valid ON pfm_position(valid_to_date, activate_date);
+
+ALTER TABLE pfm_section ADD COLUMN valid_to_date date NOT NULL DEFAULT '9999-12-31';
+COMMENT ON COLUMN pfm_section.valid_to_date IS '有効終了日';
+UPDATE pfm_section AS t SET valid_to_date = CASE WHEN t.delete_flag <> 0 THEN t.activate_date - 1
+  ELSE COALESCE((SELECT MIN(n.activate_date) - 1 FROM pfm_section AS n
+    WHERE n.delete_flag = 0 AND n.activate_date > t.activate_date AND n.section_code = t.section_code), DATE '9999-12-31') END;
+CREATE TRIGGER pfm_section_valid_to_date AFTER INSERT OR DELETE OR UPDATE OF section_code, activate_date, delete_flag
+  ON pfm_section FOR EACH ROW EXECUTE PROCEDURE pf_update_valid_to_date('section_code');
+CREATE INDEX pfm_section_index_valid ON pfm_section(valid_to_date, activate_date);
+
+ALTER TABLE pfm_work_place ADD COLUMN valid_to_date date NOT NULL DEFAULT '9999-12-31';
+COMMENT ON COLUMN pfm_work_place.valid_to_date IS '有効終了日';
+UPDATE pfm_work_place AS t SET valid_to_date = CASE WHEN t.delete_flag <> 0 THEN t.activate_date - 1
+  ELSE COALESCE((SELECT MIN(n.activate_date) - 1 FROM pfm_work_place AS n
+    WHERE n.delete_flag = 0 AND n.activate_date > t.activate_date AND n.work_place_code = t.work_place_code), DATE '9999-12-31') END;
+CREATE TRIGGER pfm_work_place_valid_to_date AFTER INSERT OR DELETE OR UPDATE OF work_place_code, activate_date, delete_flag
+  ON pfm_work_place FOR EACH ROW EXECUTE PROCEDURE pf_update_valid_to_date('work_place_code');
+CREATE INDEX pfm_work_place_index_valid ON pfm_work_place(valid_to_date, activate_date);
+
+ALTER TABLE pfm_user ADD COLUMN valid_to_date date NOT NULL DEFAULT '9999-12-31';
+COMMENT ON COLUMN pfm_user.valid_to_date IS '有効終了日';
+UPDATE pfm_user AS t SET valid_to_date = CASE WHEN t.delete_flag <> 0 THEN t.activate_date - 1
+  ELSE COALESCE((SELECT MIN(n.activate_date) - 1 FROM pfm_user AS n
+    WHERE n.delete_flag = 0 AND n.activate_date > t.activate_date AND n.user_id = t.user_id), DATE '9999-12-31') END;
+CREATE TRIGGER pfm_user_valid_to_date AFTER INSERT OR DELETE OR UPDATE OF user_id, activate_date, delete_flag
+  ON pfm_user FOR EACH ROW EXECUTE PROCEDURE pf_update_valid_to_date('user_id');
+CREATE INDEX pfm_user_index_valid ON pfm_user(valid_to_date, activate_date);
+
+ALTER TABLE pfm_approval_unit ADD COLUMN valid_to_date date NOT NULL DEFAULT '9999-12-31';
+COMMENT ON COLUMN pfm_approval_unit.valid_to_date IS '有効終了日';
+UPDATE pfm_approval_unit AS t SET valid_to_date = CASE WHEN t.delete_flag <> 0 THEN t.activate_date - 1
+  ELSE COALESCE((SELECT MIN(n.activate_date) - 1 FROM pfm_approval_unit AS n
+    WHERE n.delete_flag = 0 AND n.activate_date > t.activate_date AND n.unit_code = t.unit_code), DATE '9999-12-31') END;
+CREATE TRIGGER pfm_approval_unit_valid_to_date AFTER INSERT OR DELETE OR UPDATE OF unit_code, activate_date, delete_flag
+  ON pfm_approval_unit FOR EACH ROW EXECUTE PROCEDURE pf_update_valid_to_date('unit_code');
+CREATE INDEX pfm_approval_unit_index_valid ON pfm_approval_unit(valid_to_date, activate_date);
+
+ALTER TABLE pfm_approval_route ADD COLUMN valid_to_date date NOT NULL DEFAULT '9999-12-31';
+COMMENT ON COLUMN pfm_approval_route.valid_to_date IS '有効終了日';
+UPDATE pfm_approval_route AS t SET valid_to_date = CASE WHEN t.delete_flag <> 0 THEN t.activate_date - 1
+  ELSE COALESCE((SELECT MIN(n.activate_date) - 1 FROM pfm_approval_route AS n
+    WHERE n.delete_flag = 0 AND n.activate_date > t.activate_date AND n.route_code = t.route_code), DATE '9999-12-31') END;
+CREATE TRIGGER pfm_approval_route_valid_to_date AFTER INSERT OR DELETE OR UPDATE OF route_code, activate_date, delete_flag
+  ON pfm_approval_route FOR EACH ROW EXECUTE PROCEDURE pf_update_valid_to_date('route_code');
+CREATE INDEX pfm_approval_route_index_valid ON pfm_approval_route(valid_to_date, activate_date);
+
+ALTER TABLE pfm_route_application ADD COLUMN valid_to_date date NOT NULL DEFAULT '9999-12-31';
+COMMENT ON COLUMN pfm_route_application.valid_to_date IS '有効終了日';
+UPDATE pfm_route_application AS t SET valid_to_date = CASE WHEN t.delete_flag <> 0 THEN t.activate_date - 1
+  ELSE COALESCE((SELECT MIN(n.activate_date) - 1 FROM pfm_route_application AS n
+    WHERE n.delete_flag = 0 AND n.activate_date > t.activate_date AND n.route_application_code = t.route_application_code), DATE '9999-12-31') END;
+CREATE TRIGGER pfm_route_application_valid_to_date AFTER INSERT OR DELETE OR UPDATE OF route_application_code, activate_date, delete_flag
+  ON pfm_route_application FOR EACH ROW EXECUTE PROCEDURE pf_update_valid_to_date('route_application_code');
+CREATE INDEX pfm_route_application_index_valid ON pfm_route_application(valid_to_date, activate_date);
 
@@ -1808,6 +1808,58 @@ COMMENT ON COLUMN tmd_paid_holiday.update_date IS '更新日';
 COMMENT ON COLUMN tmd_paid_holiday.update_user IS '更新者';
 
 
+CREATE TABLE tmd_paid_holiday_ledger
+(
+  tmd_paid_holiday_ledger_id bigint NOT NULL DEFAULT 0,
+  personal_id character varying(10) NOT NULL DEFAULT ''::character varying,
+  activate_date date NOT NULL,
+  acquisition_date date NOT NULL,
+  limit_date date NOT NULL,
+  hold_day double precision NOT NULL DEFAULT 0,
+  hold_hour integer NOT NULL DEFAULT 0,
+  giving_day double precision NOT NULL DEFAULT 0,
+  giving_hour integer NOT NULL DEFAULT 0,
+  cancel_day double precision NOT NULL DEFAULT 0,
+  cancel_hour integer NOT NULL DEFAULT 0,
+  use_day double precision NOT NULL DEFAULT 0,
+  use_hour integer NOT NULL DEFAULT 0,
+  approved_day double precision NOT NULL DEFAULT 0,
+  approved_hour integer NOT NULL DEFAULT 0,
+  last_event_date date NOT NULL,
+  inactivate_flag integer NOT NULL DEFAULT 0,
+  delete_flag integer NOT NULL DEFAULT 0,
+  insert_date timestamp without time zone NOT NULL,
+  insert_user character varying(50) NOT NULL DEFAULT ''::character varying,
+  update_date timestamp without time zone NOT NULL,
+  update_user character varying(50) NOT NULL DEFAULT ''::character varying,
+  CONSTRAINT tmd_paid_holiday_ledger_pkey PRIMARY KEY (tmd_paid_holiday_ledger_id)
+)
+;
+COMMENT ON TABLE tmd_paid_holiday_ledger IS '有給休暇台帳';
+COMMENT ON COLUMN tmd_paid_holiday_ledger.tmd_paid_holiday_ledger_id IS 'レコード識別ID';
+COMMENT ON COLUMN tmd_paid_holiday_ledger.personal_id IS '個人ID';
+COMMENT ON COLUMN tmd_paid_holiday_ledger.activate_date IS '有効日';
+COMMENT ON COLUMN tmd_paid_holiday_ledger.acquisition_date IS '取得日';
+COMMENT ON COLUMN tmd_paid_holiday_ledger.limit_date IS '期限日';
+COMMENT ON COLUMN tmd_paid_holiday_ledger.hold_day IS '保有日数';
+COMMENT ON COLUMN tmd_paid_holiday_ledger.hold_hour IS '保有時間数';
+COMMENT ON COLUMN tmd_paid_holiday_ledger.giving_day IS '支給日数(手動付与)';
+COMMENT ON COLUMN tmd_paid_holiday_ledger.giving_hour IS '支給時間数(手動付与)';
+COMMENT ON COLUMN tmd_paid_holiday_ledger.cancel_day IS '廃棄日数(手動付与)';
+COMMENT ON COLUMN tmd_paid_holiday_ledger.cancel_hour IS '廃棄時間数(手動付与)';
+COMMENT ON COLUMN tmd_paid_holiday_ledger.use_day IS '利用日数(下書及び取下を除く申請)';
+COMMENT ON COLUMN tmd_paid_holiday_ledger.use_hour IS '利用時間数(下書及び取下を除く申請)';
+COMMENT ON COLUMN tmd_paid_holiday_ledger.approved_day IS '承認済日数';
+COMMENT ON COLUMN tmd_paid_holiday_ledger.approved_hour IS '承認済時間数';
+COMMENT ON COLUMN tmd_paid_holiday_ledger.last_event_date IS '最終事象日';
+COMMENT ON COLUMN tmd_paid_holiday_ledger.inactivate_flag IS '無効フラグ';
+COMMENT ON COLUMN tmd_paid_holiday_ledger.delete_flag IS '削除フラグ';
+COMMENT ON COLUMN tmd_paid_holiday_ledger.insert_date IS '登録日';
+COMMENT ON COLUMN tmd_paid_holiday_ledger.insert_user IS '登録者';
+COMMENT ON COLUMN tmd_paid_holiday_ledger.update_date IS '更新日';
+COMMENT ON COLUMN tmd_paid_holiday_ledger.update_user IS '更新者';
+
+
 CREATE TABLE tmt_paid_holiday
 (
   tmt_paid_holiday_id bigint NOT NULL DEFAULT 0,
@@ -2157,6 +2209,41 @@ COMMENT ON COLUMN tmt_paid_holiday_grant.insert_user IS '登録者';
 COMMENT ON COLUMN tmt_paid_holiday_grant.update_date IS '更新日';
 COMMENT ON COLUMN tmt_paid_holiday_grant.update_user IS '更新者';
 
+CREATE TABLE tmt_time_punch
+(
+  tmt_time_punch_id bigint NOT NULL DEFAULT 0,
+  personal_id character varying(10) NOT NULL DEFAULT ''::character varying,
+  user_id character varying(50) NOT NULL DEFAULT ''::character varying,
+  role_code character varying(50) NOT NULL DEFAULT ''::character varying,
+  record_type character varying(10) NOT NULL DEFAULT ''::character varying,
+  record_time timestamp without time zone NOT NULL,
+  punch_status character varying(1) NOT NULL DEFAULT ''::character varying,
+  process_time timestamp without time zone,
+  punch_message text NOT NULL DEFAULT ''::text,
+  delete_flag integer NOT NULL DEFAULT 0,
+  insert_date timestamp without time zone NOT NULL,
+  insert_user character varying(50) NOT NULL DEFAULT ''::character varying,
+  update_date timestamp without time zone NOT NULL,
+  update_user character varying(50) NOT NULL DEFAULT ''::character varying,
+  CONSTRAINT tmt_time_punch_pkey PRIMARY KEY (tmt_time_punch_id)
+)
+;
+COMMENT ON TABLE tmt_time_punch IS '打刻受付';
+COMMENT ON COLUMN tmt_time_punch.tmt_time_punch_id IS 'レコード識別ID';
+COMMENT ON COLUMN tmt_time_punch.personal_id IS '個人ID';
+COMMENT ON COLUMN tmt_time_punch.user_id IS 'ユーザID(打刻者)';
+COMMENT ON COLUMN tmt_time_punch.role_code IS 'ロールコード(打刻者)';
+COMMENT ON COLUMN tmt_time_punch.record_type IS '打刻区分';
+COMMENT ON COLUMN tmt_time_punch.record_time IS '打刻時刻';
+COMMENT ON COLUMN tmt_time_punch.punch_status IS '反映状態';
+COMMENT ON COLUMN tmt_time_punch.process_time IS '反映日時';
+COMMENT ON COLUMN tmt_time_punch.punch_message IS 'メッセージ';
+COMMENT ON COLUMN tmt_time_punch.delete_flag IS '削除フラグ';
+COMMENT ON COLUMN tmt_time_punch.insert_date IS '登録日';
+COMMENT ON COLUMN tmt_time_punch.insert_user IS '登録者';
+COMMENT ON COLUMN tmt_time_punch.update_date IS '更新日';
+COMMENT ON COLUMN tmt_time_punch.update_user IS '更新者';
+
 
 CREATE SEQUENCE tmd_attendance_id_seq;
 CREATE SEQUENCE tmd_attendance_correction_id_seq;
@@ -2194,6 +2281,7 @@ CREATE SEQUENCE tmm_stock_holiday_id_seq;
 CREATE SEQUENCE tmm_holiday_id_seq;
 CREATE SEQUENCE tmd_holiday_id_seq;
 CREATE SEQUENCE tmd_paid_holiday_id_seq;
+CREATE SEQUENCE tmd_paid_holiday_ledger_id_seq;
 CREATE SEQUENCE tmt_paid_holiday_id_seq;
 CREATE SEQUENCE tmd_stock_holiday_id_seq;
 CREATE SEQUENCE tmt_stock_holiday_id_seq;
@@ -2204,6 +2292,7 @@ CREATE SEQUENCE tmm_application_id_seq;
 CREATE SEQUENCE tmt_attendance_id_seq;
 CREATE SEQUENCE tmm_paid_holiday_proportionally_id_seq;
 CREATE SEQUENCE tmt_paid_holiday_grant_id_seq;
+CREATE SEQUENCE tmt_time_punch_id_seq;
 
 CREATE INDEX tma_work_type_pattern_item_index1 ON tma_work_type_pattern_item(pattern_code, activate_date);
 CREATE INDEX tmd_allowance_index1 ON tmd_allowance(personal_id, work_date);
@@ -2215,6 +2304,7 @@ CREATE INDEX tmd_holiday_index1 ON tmd_holiday(personal_id, activate_date);
 CREATE INDEX tmd_holiday_request_index1 ON tmd_holiday_request(personal_id, request_start_date, request_end_date);
 CREATE INDEX tmd_overtime_request_index1 ON tmd_overtime_request(personal_id, request_date);
 CREATE INDEX tmd_paid_holiday_index1 ON tmd_paid_holiday(personal_id, activate_date, acquisition_date);
+CREATE INDEX tmd_paid_holiday_ledger_index1 ON tmd_paid_holiday_ledger(personal_id, acquisition_date, activate_date);
 CREATE INDEX tmd_rest_index1 ON tmd_rest(personal_id, work_date);
 CREATE INDEX tmd_stock_holiday_index1 ON tmd_stock_holiday(personal_id, activate_date, acquisition_date);
 CREATE INDEX tmd_sub_holiday_index1 ON tmd_sub_holiday(personal_id, work_date);
@@ -2250,4 +2340,6 @@ CREATE INDEX tmt_total_time_index1 ON tmt_total_time(calculation_year, calculati
 CREATE INDEX tmt_total_time_employee_index1 ON tmt_total_time_employee(personal_id, calculation_year, calculation_month);
 CREATE INDEX tmt_attendance_index1 ON tmt_attendance(personal_id, work_date);
 CREATE INDEX tmm_paid_holiday_proportionally_index1 ON tmm_paid_holiday_proportionally(paid_holiday_code, activate_date, prescribed_weekly_working_days, continuous_service_terms_counting_from_the_employment_day);
-CREATE INDEX tmt_paid_holiday_grant_index1 ON tmt_paid_holiday_grant(personal_id, grant_date);
\ No newline at end of file
+CREATE INDEX tmt_paid_holiday_grant_index1 ON tmt_paid_holiday_grant(personal_id, grant_date);
+CREATE INDEX tmt_time_punch_index1 ON tmt_time_punch(punch_status, tmt_time_punch_id);
+CREATE INDEX tmt_time_punch_index2 ON tmt_time_punch(personal_id, record_time);
\ No newline at end of file
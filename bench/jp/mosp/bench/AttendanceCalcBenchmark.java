@@ -0,0 +1,89 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.time.bean.AttendanceCalcBeanInterface;
+import jp.mosp.time.dto.settings.AttendanceDtoInterface;
+
+/**
+ * 勤怠計算(AttendanceCalcBean.attendanceCalc)ベンチマーク。<br>
+ * <br>
+ * 合成した勤怠情報を一日ずつ順に再計算する。<br>
+ * 勤怠設定、勤務形態、カレンダ及び申請情報はインメモリDBから取得される。<br>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AttendanceCalcBenchmark extends BaseDatabaseBenchmark {
+	
+	/**
+	 * 勤怠計算クラス。<br>
+	 */
+	protected AttendanceCalcBeanInterface	attendanceCalc;
+	
+	/**
+	 * 対象勤怠情報リスト(全社員分)。<br>
+	 */
+	protected List<AttendanceDtoInterface>	attendanceList;
+	
+	/**
+	 * 次の対象勤怠情報の位置。<br>
+	 */
+	protected int							attendanceIndex;
+	
+	
+	@Override
+	protected void setUp() throws MospException {
+		attendanceCalc = database.createBean(AttendanceCalcBeanInterface.class);
+		attendanceList = new ArrayList<AttendanceDtoInterface>();
+		for (List<AttendanceDtoInterface> list : fixture.getAttendanceMap().values()) {
+			attendanceList.addAll(list);
+		}
+		attendanceIndex = 0;
+	}
+	
+	/**
+	 * 勤怠情報一日分を計算する。<br>
+	 * 計算結果は勤怠情報に設定されるが、入力値(始業及び終業時刻等)は変わらないため、繰り返し計算できる。<br>
+	 * @return 計算した勤怠情報
+	 * @throws MospException 勤怠計算に失敗した場合
+	 */
+	@Benchmark
+	public AttendanceDtoInterface attendanceCalc() throws MospException {
+		AttendanceDtoInterface dto = attendanceList.get(attendanceIndex);
+		attendanceIndex = (attendanceIndex + 1) % attendanceList.size();
+		attendanceCalc.attendanceCalc(dto);
+		return dto;
+	}
+	
+}
@@ -0,0 +1,398 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ *
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.bench;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jp.mosp.framework.base.BaseDao;
+import jp.mosp.framework.base.DaoMetadata;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.platform.dao.human.impl.PfmHumanDao;
+import jp.mosp.time.dao.settings.impl.TmdAttendanceDao;
+
+/**
+ * {@link BaseDao}のSQL作成ベンチマーク。<br>
+ * <br>
+ * 対象DAOクラスの挿入SQL及び全件検索SQLにつき、
+ * {@link DaoMetadata}に保持したSQL文字列の取得(現行)と、
+ * 呼出毎にリフレクションで列名を取得しStringBufferで組み立てる処理(改修前)とを比較する。<br>
+ * 改修前の処理は、{@link LegacyStatementDao}に複製したものを用いる。<br>
+ * SQLは実行しないため、DBは用いない。<br>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BaseDaoBenchmark {
+	
+	/**
+	 * 対象DAOクラス名。<br>
+	 */
+	@Param({ "TmdAttendanceDao", "PfmHumanDao" })
+	public String					daoName;
+	
+	/**
+	 * SQL作成処理を公開するDAO。<br>
+	 */
+	protected LegacyStatementDao	dao;
+	
+	/**
+	 * 対象DAOクラス。<br>
+	 */
+	protected Class<?>				cls;
+	
+	
+	/**
+	 * DAOを準備し、現行と改修前とで同じSQLが作成されることを確認する。<br>
+	 * @throws MospException DAOの準備或いはSQLの作成に失敗した場合
+	 */
+	@Setup
+	public void setUp() throws MospException {
+		dao = new LegacyStatementDao();
+		dao.setInitParams(BenchmarkDatabase.createMospParams("", ""), null);
+		if (daoName.equals(TmdAttendanceDao.class.getSimpleName())) {
+			cls = TmdAttendanceDao.class;
+		} else if (daoName.equals(PfmHumanDao.class.getSimpleName())) {
+			cls = PfmHumanDao.class;
+		} else {
+			throw new IllegalArgumentException(daoName);
+		}
+		// 現行と改修前とで同じSQLでない場合は比較にならない
+		check(dao.getCachedInsertQuery(cls), dao.createLegacyInsertQuery(cls));
+		check(dao.getCachedSelectQuery(cls).toString(), dao.createLegacySelectQuery(cls).toString());
+	}
+	
+	/**
+	 * 現行と改修前とで同じSQLであることを確認する。<br>
+	 * @param cached 現行のSQL
+	 * @param legacy 改修前のSQL
+	 */
+	protected void check(String cached, String legacy) {
+		if (cached.equals(legacy) == false) {
+			throw new IllegalStateException(cached + " <> " + legacy);
+		}
+	}
+	
+	/**
+	 * 保持した挿入SQLを取得する(現行)。<br>
+	 * @return 挿入SQL
+	 * @throws MospException SQLの取得に失敗した場合
+	 */
+	@Benchmark
+	public String insertQueryCached() throws MospException {
+		return dao.getCachedInsertQuery(cls);
+	}
+	
+	/**
+	 * 挿入SQLをリフレクションで作成する(改修前)。<br>
+	 * @return 挿入SQL
+	 * @throws MospException SQLの作成に失敗した場合
+	 */
+	@Benchmark
+	public String insertQueryLegacy() throws MospException {
+		return dao.createLegacyInsertQuery(cls);
+	}
+	
+	/**
+	 * 保持した全件検索SQLを取得する(現行)。<br>
+	 * @return 全件検索SQL
+	 * @throws MospException SQLの取得に失敗した場合
+	 */
+	@Benchmark
+	public StringBuffer selectQueryCached() throws MospException {
+		return dao.getCachedSelectQuery(cls);
+	}
+	
+	/**
+	 * 全件検索SQLをリフレクションで作成する(改修前)。<br>
+	 * @return 全件検索SQL
+	 * @throws MospException SQLの作成に失敗した場合
+	 */
+	@Benchmark
+	public StringBuffer selectQueryLegacy() throws MospException {
+		return dao.createLegacySelectQuery(cls);
+	}
+	
+	
+	/**
+	 * SQL作成処理を公開するDAOクラス。<br>
+	 * <br>
+	 * 現行のSQL取得処理を公開し、併せて改修前のSQL作成処理
+	 * (呼出毎にクラスのフィールドから列名及びテーブル名を取得する)を複製して保持する。<br>
+	 * 対象DAOクラスは引数で指定するため、継承元のDAOクラスには依存しない。<br>
+	 */
+	public static class LegacyStatementDao extends TmdAttendanceDao {
+		
+		/**
+		 * 保持した挿入SQLを取得する(現行)。<br>
+		 * @param cls DAOクラス
+		 * @return 挿入SQL
+		 * @throws MospException SQLの取得に失敗した場合
+		 */
+		public String getCachedInsertQuery(Class<?> cls) throws MospException {
+			return getInsertQuery(cls);
+		}
+		
+		/**
+		 * 保持した全件検索SQLを取得する(現行)。<br>
+		 * @param cls DAOクラス
+		 * @return 全件検索SQL
+		 * @throws MospException SQLの取得に失敗した場合
+		 */
+		public StringBuffer getCachedSelectQuery(Class<?> cls) throws MospException {
+			return getSelectQuery(cls);
+		}
+		
+		/**
+		 * 全件検索SQLを作成する(改修前)。<br>
+		 * @param cls DAOクラス
+		 * @return 全件検索SQL文字列(SELECT 列名 FROM テーブル名)
+		 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
+		 */
+		public StringBuffer createLegacySelectQuery(Class<?> cls) throws MospException {
+			// テーブル名取得
+			String table = getLegacyTable(cls);
+			// 列名リスト取得
+			List<String> columnList = getLegacyColumnList(cls);
+			// SQL文字列準備
+			StringBuffer query = new StringBuffer();
+			// 検索SQLを取得
+			query.append(getLegacySelectStatement(columnList));
+			query.append(from(table));
+			return query;
+		}
+		
+		/**
+		 * 検索SQLを作成する(改修前)。<br>
+		 * @param columnList 列名リスト
+		 * @return 全件検索SQL文字列(SELECT 列名)
+		 */
+		protected String getLegacySelectStatement(List<String> columnList) {
+			// SQL文字列準備
+			StringBuffer query = new StringBuffer();
+			query.append(select());
+			// 列名毎に処理
+			for (String column : columnList) {
+				query.append(column);
+				query.append(comma());
+			}
+			query.append(getLegacyCommonColumn());
+			query.delete(query.length() - 2, query.length() - 1);
+			return query.toString();
+		}
+		
+		/**
+		 * 挿入SQLを作成する(改修前)。<br>
+		 * @param cls DAOクラス
+		 * @return 挿入SQL文字列
+		 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
+		 */
+		public String createLegacyInsertQuery(Class<?> cls) throws MospException {
+			// テーブル名取得
+			String table = getLegacyTable(cls);
+			// 列名リスト取得
+			List<String> columnList = getLegacyColumnList(cls);
+			// SQL文字列準備
+			StringBuffer query = new StringBuffer();
+			// 挿入SQLのベースを取得
+			query.append(getLegacyInsertQueryBase(table, columnList));
+			// 挿入SQLのパラメータ部を取得
+			query.append(getLegacyInsertQueryParams(columnList));
+			return query.toString();
+		}
+		
+		/**
+		 * 挿入SQLのパラメータ部を作成する(改修前)。<br>
+		 * @param columnList 列名リスト
+		 * @return 挿入SQLパラメータ部文字列
+		 */
+		protected String getLegacyInsertQueryParams(List<String> columnList) {
+			// SQL文字列準備
+			StringBuffer query = new StringBuffer();
+			query.append(leftParenthesis());
+			// 列名の数だけパラメータを追加
+			for (int i = 0; i < columnList.size(); i++) {
+				query.append("?, ");
+			}
+			query.append(getLegacyCommonParams());
+			query.delete(query.length() - 2, query.length());
+			query.append(rightParenthesis());
+			return query.toString();
+		}
+		
+		/**
+		 * 挿入SQLのベースを作成する(改修前)。<br>
+		 * @param table      テーブル名
+		 * @param columnList 列名リスト
+		 * @return 挿入SQLベース文字列
+		 */
+		protected String getLegacyInsertQueryBase(String table, List<String> columnList) {
+			// SQL文字列準備
+			StringBuffer query = new StringBuffer();
+			query.append("INSERT INTO ");
+			query.append(table);
+			query.append(leftParenthesis());
+			// 列名毎に処理
+			for (String column : columnList) {
+				query.append(column);
+				query.append(", ");
+			}
+			query.append(getLegacyCommonColumn());
+			query.delete(query.length() - 2, query.length() - 1);
+			query.append(rightParenthesis());
+			query.append(" VALUES");
+			return query.toString();
+		}
+		
+		/**
+		 * 作成者、作成日、更新者、更新日列SQL文字列を作成する(改修前)。<br>
+		 * @return 作成者、作成日、更新者、更新日列SQL文字列
+		 */
+		protected String getLegacyCommonColumn() {
+			StringBuffer query = new StringBuffer();
+			if (!colDeleteFlag.isEmpty()) {
+				query.append(colDeleteFlag);
+				query.append(comma());
+			}
+			if (!colInsertDate.isEmpty()) {
+				query.append(colInsertDate);
+				query.append(comma());
+			}
+			if (!colInsertUser.isEmpty()) {
+				query.append(colInsertUser);
+				query.append(comma());
+			}
+			if (!colUpdateDate.isEmpty()) {
+				query.append(colUpdateDate);
+				query.append(comma());
+			}
+			if (!colUpdateUser.isEmpty()) {
+				query.append(colUpdateUser);
+				query.append(comma());
+			}
+			return query.toString();
+		}
+		
+		/**
+		 * 作成者、作成日、更新者、更新日列パラメータ設定SQL文字列を作成する(改修前)。<br>
+		 * @return 作成者、作成日、更新者、更新日列パラメータ設定SQL文字列
+		 */
+		protected String getLegacyCommonParams() {
+			StringBuffer query = new StringBuffer();
+			if (!colDeleteFlag.isEmpty()) {
+				query.append("?, ");
+			}
+			if (!colInsertDate.isEmpty()) {
+				query.append("?, ");
+			}
+			if (!colInsertUser.isEmpty()) {
+				query.append("?, ");
+			}
+			if (!colUpdateDate.isEmpty()) {
+				query.append("?, ");
+			}
+			if (!colUpdateUser.isEmpty()) {
+				query.append("?, ");
+			}
+			return query.toString();
+		}
+		
+		/**
+		 * DAOの列名リストを取得する(改修前)。<br>
+		 * @param cls DAOクラス
+		 * @return 列名リスト
+		 * @throws MospException フィールド値の取得に失敗した場合
+		 */
+		protected List<String> getLegacyColumnList(Class<?> cls) throws MospException {
+			return getLegacyFieldList(cls, "COL_");
+		}
+		
+		/**
+		 * DAOのフィールドリストを取得する(改修前)。<br>
+		 * @param cls    DAOクラス
+		 * @param prefix 取得対象フィールド名のプレフィックス
+		 * @return フィールドリスト
+		 * @throws MospException フィールド値の取得に失敗した場合
+		 */
+		protected List<String> getLegacyFieldList(Class<?> cls, String prefix) throws MospException {
+			// 列名リスト準備
+			List<String> list = new ArrayList<String>();
+			// クラスのフィールド配列を取得
+			Field[] fields = cls.getFields();
+			// フィールド毎に処理
+			for (Field field : fields) {
+				// フィールド名確認
+				if (field.getName().indexOf(prefix) == 0) {
+					// 列名リストに追加
+					list.add(getLegacyFieldValue(field));
+				}
+			}
+			return list;
+		}
+		
+		/**
+		 * フィールド値を取得する(改修前)。<br>
+		 * @param field フィールド
+		 * @return フィールド値
+		 * @throws MospException フィールド値の取得に失敗した場合
+		 */
+		protected String getLegacyFieldValue(Field field) throws MospException {
+			try {
+				return (String)field.get(null);
+			} catch (IllegalAccessException e) {
+				throw new MospException(e);
+			}
+		}
+		
+		/**
+		 * テーブル名を取得する(改修前)。<br>
+		 * @param cls DAOクラス
+		 * @return テーブル名文字列
+		 * @throws MospException テーブル名の取得に失敗した場合
+		 */
+		protected String getLegacyTable(Class<?> cls) throws MospException {
+			try {
+				Field table = cls.getField("TABLE");
+				return (String)table.get(null);
+			} catch (IllegalAccessException e) {
+				throw new MospException(e);
+			} catch (NoSuchFieldException e) {
+				throw new MospException(e);
+			}
+		}
+		
+	}
+	
+}
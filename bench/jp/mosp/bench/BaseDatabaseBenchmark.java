@@ -0,0 +1,112 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.bench;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import jp.mosp.framework.base.MospException;
+
+/**
+ * インメモリDBを用いるベンチマークの基本クラス。<br>
+ * <br>
+ * 計測前に合成データを作成してH2に登録し、計測後に破棄する。<br>
+ * 各ベンチマークは、{@link #nextPersonalId()}で対象者を順に切り替えて計測する。<br>
+ */
+@State(Scope.Benchmark)
+public abstract class BaseDatabaseBenchmark {
+	
+	/**
+	 * 社員数。<br>
+	 */
+	@Param({ "20" })
+	public int					employees;
+	
+	/**
+	 * 作成月数。<br>
+	 */
+	@Param({ "3" })
+	public int					months;
+	
+	/**
+	 * 対象年(作成期間の最初の月)。<br>
+	 */
+	protected static final int	YEAR	= 2016;
+	
+	/**
+	 * 対象月(作成期間の最初の月)。<br>
+	 */
+	protected static final int	MONTH	= 4;
+	
+	/**
+	 * 合成データ。<br>
+	 */
+	protected BenchmarkFixture	fixture;
+	
+	/**
+	 * インメモリDB。<br>
+	 */
+	protected BenchmarkDatabase	database;
+	
+	/**
+	 * 次の対象者の通番。<br>
+	 */
+	protected int				next;
+	
+	
+	/**
+	 * 合成データを作成し、インメモリDBに登録する。<br>
+	 * @throws MospException 合成データの作成或いは登録に失敗した場合
+	 */
+	@Setup
+	public void setUpDatabase() throws MospException {
+		fixture = new BenchmarkFixture(employees, YEAR, MONTH, months);
+		database = new BenchmarkDatabase(fixture);
+		next = 0;
+		setUp();
+	}
+	
+	/**
+	 * インメモリDBを破棄する。<br>
+	 * @throws MospException DBの破棄に失敗した場合
+	 */
+	@TearDown
+	public void tearDownDatabase() throws MospException {
+		database.close();
+	}
+	
+	/**
+	 * ベンチマーク毎の準備を行う。<br>
+	 * @throws MospException 準備に失敗した場合
+	 */
+	protected abstract void setUp() throws MospException;
+	
+	/**
+	 * 次の対象者の個人IDを取得する。<br>
+	 * @return 個人ID
+	 */
+	protected String nextPersonalId() {
+		String personalId = fixture.getPersonalId(next);
+		next = (next + 1) % employees;
+		return personalId;
+	}
+	
+}
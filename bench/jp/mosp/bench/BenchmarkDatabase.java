@@ -0,0 +1,448 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.bench;
+
+import java.io.File;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import jp.mosp.framework.base.BaseBeanInterface;
+import jp.mosp.framework.base.BaseDaoInterface;
+import jp.mosp.framework.base.BaseDtoInterface;
+import jp.mosp.framework.base.DBConnBean;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.base.MospPropertiesParser;
+import jp.mosp.framework.base.MospUser;
+import jp.mosp.framework.instance.InstanceFactory;
+import jp.mosp.framework.log.LoggerInterface;
+import jp.mosp.framework.property.MospProperties;
+import jp.mosp.platform.dao.human.EntranceDaoInterface;
+import jp.mosp.platform.dao.human.HumanDaoInterface;
+import jp.mosp.platform.dao.workflow.WorkflowDaoInterface;
+import jp.mosp.time.dao.settings.ApplicationDaoInterface;
+import jp.mosp.time.dao.settings.AttendanceDaoInterface;
+import jp.mosp.time.dao.settings.CutoffDaoInterface;
+import jp.mosp.time.dao.settings.HolidayRequestDaoInterface;
+import jp.mosp.time.dao.settings.OvertimeRequestDaoInterface;
+import jp.mosp.time.dao.settings.PaidHolidayDaoInterface;
+import jp.mosp.time.dao.settings.PaidHolidayDataDaoInterface;
+import jp.mosp.time.dao.settings.RestDaoInterface;
+import jp.mosp.time.dao.settings.ScheduleDaoInterface;
+import jp.mosp.time.dao.settings.ScheduleDateDaoInterface;
+import jp.mosp.time.dao.settings.TimeSettingDaoInterface;
+import jp.mosp.time.dao.settings.WorkTypeDaoInterface;
+import jp.mosp.time.dao.settings.WorkTypeItemDaoInterface;
+
+/**
+ * ベンチマーク用インメモリDBクラス。<br>
+ * <br>
+ * H2(PostgreSQL互換モード)のインメモリDBを作成し、
+ * WebContent/sqlのDDL(platform.sql及びtime.sql)でテーブルを作成した上で、
+ * {@link BenchmarkFixture}の合成データを登録する。<br>
+ * PostgreSQL固有の定義(関数、トリガ及びコメント)は、H2で扱えないため実行しない。<br>
+ * 既存データの移行(INSERT及びUPDATE)も、作成直後のテーブルには対象が無いため実行しない。<br>
+ * <br>
+ * DDLはシステムプロパティ{@link #PROP_DOC_BASE}で指定したドキュメントベース
+ * (未指定の場合はカレントディレクトリのWebContent)から読み込む。<br>
+ * 設定ファイルも同じドキュメントベースから読み込み、DB接続情報のみ上書きする。<br>
+ * <br>
+ */
+public class BenchmarkDatabase {
+	
+	/**
+	 * システムプロパティキー(ドキュメントベース)。<br>
+	 */
+	public static final String				PROP_DOC_BASE		= "mosp.bench.docBase";
+	
+	/**
+	 * ドキュメントベース(デフォルト)。<br>
+	 */
+	public static final String				DEFAULT_DOC_BASE	= "WebContent";
+	
+	/**
+	 * ベンチマーク用ユーザID。<br>
+	 */
+	public static final String				USER_ID				= "bench";
+	
+	/**
+	 * ベンチマーク用ロールコード(スーパーユーザ)。<br>
+	 */
+	public static final String				ROLE_CODE			= "90";
+	
+	/**
+	 * H2ドライバ。<br>
+	 */
+	protected static final String			DRIVER				= "org.h2.Driver";
+	
+	/**
+	 * H2接続URL(DB名を除く)。<br>
+	 */
+	protected static final String			URL_PREFIX			= "jdbc:h2:mem:mosp_bench";
+	
+	/**
+	 * H2接続URLのオプション。<br>
+	 */
+	protected static final String			URL_OPTIONS			= ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+	
+	/**
+	 * H2ユーザ。<br>
+	 */
+	protected static final String			DB_USER				= "sa";
+	
+	/**
+	 * H2パスワード。<br>
+	 */
+	protected static final String			DB_PASS				= "sa";
+	
+	/**
+	 * テーブルを作成するDDLファイル。<br>
+	 */
+	protected static final String[]			DDL_FILES			= { "sql/platform.sql", "sql/time.sql" };
+	
+	/**
+	 * H2で実行しないSQL文の接頭辞。<br>
+	 */
+	protected static final String[]			SKIP_PREFIXES		= { "COMMENT ON", "CREATE OR REPLACE FUNCTION",
+		"CREATE FUNCTION", "CREATE TRIGGER", "DROP TRIGGER", "INSERT INTO", "UPDATE " };
+	
+	/**
+	 * 関数本体の引用符(PostgreSQL)。<br>
+	 */
+	protected static final String			DOLLAR_QUOTE		= "$$";
+	
+	/**
+	 * DB名の通番。<br>
+	 * ベンチマーク毎に別のDBを作成するために用いる。<br>
+	 */
+	protected static final AtomicInteger	SEQUENCE			= new AtomicInteger();
+	
+	/**
+	 * 合成データ。<br>
+	 */
+	protected final BenchmarkFixture		fixture;
+	
+	/**
+	 * MosP処理情報。<br>
+	 */
+	protected final MospParams				mospParams;
+	
+	/**
+	 * DBコネクション。<br>
+	 */
+	protected final Connection				connection;
+	
+	
+	/**
+	 * インメモリDBを作成し、合成データを登録する。<br>
+	 * @param fixture 合成データ
+	 * @throws MospException DBの作成或いはデータの登録に失敗した場合
+	 */
+	public BenchmarkDatabase(BenchmarkFixture fixture) throws MospException {
+		this.fixture = fixture;
+		String url = URL_PREFIX + SEQUENCE.incrementAndGet() + URL_OPTIONS;
+		mospParams = createMospParams(url, fixture.getPersonalId(0));
+		try {
+			Class.forName(DRIVER);
+			connection = DriverManager.getConnection(url, DB_USER, DB_PASS);
+			connection.setAutoCommit(false);
+		} catch (ClassNotFoundException e) {
+			throw new MospException(e);
+		} catch (SQLException e) {
+			throw new MospException(e);
+		}
+		// テーブル作成
+		createTables();
+		// 合成データ登録
+		insertFixture();
+	}
+	
+	/**
+	 * ベンチマーク用のMosP処理情報を作成する。<br>
+	 * 設定ファイルを読み込み、DB接続情報を上書きした上で、
+	 * スーパーユーザとしてログインした状態にする。<br>
+	 * @param url        DB接続URL
+	 * @param personalId ログインユーザの個人ID
+	 * @return MosP処理情報
+	 * @throws MospException 設定ファイルの読込に失敗した場合
+	 */
+	public static MospParams createMospParams(String url, String personalId) throws MospException {
+		// 設定ファイル読込
+		MospProperties properties = MospPropertiesParser.parseMospProperties(getDocBase());
+		// DB接続情報上書き
+		properties.setApplicationProperty(DBConnBean.APP_JDNI_DATA_SOURCE, "");
+		properties.setApplicationProperty(DBConnBean.APP_DB_DRIVER, DRIVER);
+		properties.setApplicationProperty(DBConnBean.APP_DB_URL, url);
+		properties.setApplicationProperty(DBConnBean.APP_DB_USER, DB_USER);
+		properties.setApplicationProperty(DBConnBean.APP_DB_PASS, DB_PASS);
+		// MosP処理情報作成
+		MospParams mospParams = new MospParams(properties, new HashMap<String, LoggerInterface>());
+		// ログインユーザ設定
+		MospUser user = new MospUser();
+		user.setUserId(USER_ID);
+		user.setPersonalId(personalId);
+		user.setRole(ROLE_CODE);
+		mospParams.setUser(user);
+		return mospParams;
+	}
+	
+	/**
+	 * ドキュメントベースを取得する。<br>
+	 * @return ドキュメントベース
+	 */
+	public static String getDocBase() {
+		return new File(System.getProperty(PROP_DOC_BASE, DEFAULT_DOC_BASE)).getAbsolutePath();
+	}
+	
+	/**
+	 * DDLファイルを実行してテーブルを作成する。<br>
+	 * @throws MospException DDLの読込或いは実行に失敗した場合
+	 */
+	protected void createTables() throws MospException {
+		Statement st = null;
+		try {
+			st = connection.createStatement();
+			for (String ddlFile : DDL_FILES) {
+				for (String sql : readStatements(new File(getDocBase(), ddlFile))) {
+					st.execute(sql);
+				}
+			}
+			st.close();
+			connection.commit();
+		} catch (SQLException e) {
+			throw new MospException(e);
+		} finally {
+			closeStatement(st);
+		}
+	}
+	
+	/**
+	 * DDLファイルを読み込み、SQL文に分割する。<br>
+	 * 行末の「;」をSQL文の区切りとする(関数本体の「$$」の間を除く)。<br>
+	 * H2で実行しないSQL文({@link #SKIP_PREFIXES})は除く。<br>
+	 * @param ddlFile DDLファイル
+	 * @return SQL文リスト
+	 * @throws MospException DDLファイルの読込に失敗した場合
+	 */
+	protected List<String> readStatements(File ddlFile) throws MospException {
+		List<String> list = new ArrayList<String>();
+		List<String> lines;
+		try {
+			lines = Files.readAllLines(ddlFile.toPath(), Charset.forName("UTF-8"));
+		} catch (Exception e) {
+			throw new MospException(e);
+		}
+		StringBuilder sb = new StringBuilder();
+		boolean isQuoted = false;
+		for (String line : lines) {
+			String trimmed = line.trim();
+			// 空行及びSQLコメントの場合
+			if (sb.length() == 0 && (trimmed.isEmpty() || trimmed.startsWith("--"))) {
+				continue;
+			}
+			sb.append(line).append('\n');
+			// 関数本体の引用符の開始或いは終了を確認
+			if (line.split(Pattern.quote(DOLLAR_QUOTE), -1).length % 2 == 0) {
+				isQuoted = !isQuoted;
+			}
+			// SQL文の途中である場合
+			if (isQuoted || trimmed.endsWith(";") == false) {
+				continue;
+			}
+			String sql = sb.toString().trim();
+			sb.setLength(0);
+			// H2で実行しないSQL文の場合
+			if (isSkipped(sql)) {
+				continue;
+			}
+			list.add(sql.substring(0, sql.length() - 1));
+		}
+		return list;
+	}
+	
+	/**
+	 * H2で実行しないSQL文であるかを確認する。<br>
+	 * @param sql SQL文
+	 * @return 確認結果(true：実行しない、false：実行する)
+	 */
+	protected boolean isSkipped(String sql) {
+		for (String prefix : SKIP_PREFIXES) {
+			if (sql.startsWith(prefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * 合成データをDAO経由で登録する。<br>
+	 * @throws MospException 登録に失敗した場合
+	 */
+	protected void insertFixture() throws MospException {
+		insert(HumanDaoInterface.class, fixture.getHumanList());
+		insert(EntranceDaoInterface.class, fixture.getEntranceList());
+		insert(ApplicationDaoInterface.class, single(fixture.getApplicationDto()));
+		insert(TimeSettingDaoInterface.class, single(fixture.getTimeSettingDto()));
+		insert(CutoffDaoInterface.class, single(fixture.getCutoffDto()));
+		insert(ScheduleDaoInterface.class, single(fixture.getScheduleDto()));
+		insert(ScheduleDateDaoInterface.class, fixture.getScheduleDateList());
+		insert(WorkTypeDaoInterface.class, single(fixture.getWorkTypeDto()));
+		insert(WorkTypeItemDaoInterface.class, fixture.getWorkTypeItemList());
+		insert(PaidHolidayDaoInterface.class, single(fixture.getPaidHolidayDto()));
+		insert(PaidHolidayDataDaoInterface.class, flatten(fixture.getPaidHolidayDataMap().values()));
+		insert(AttendanceDaoInterface.class, flatten(fixture.getAttendanceMap().values()));
+		insert(RestDaoInterface.class, flatten(fixture.getRestMap().values()));
+		insert(HolidayRequestDaoInterface.class, flatten(fixture.getHolidayRequestMap().values()));
+		insert(OvertimeRequestDaoInterface.class, flatten(fixture.getOvertimeRequestMap().values()));
+		insert(WorkflowDaoInterface.class, flatten(fixture.getWorkflowMap().values()));
+		try {
+			connection.commit();
+		} catch (SQLException e) {
+			throw new MospException(e);
+		}
+	}
+	
+	/**
+	 * DTOリストを一括登録する。<br>
+	 * @param daoInterface DAOインターフェース
+	 * @param dtoList      DTOリスト
+	 * @throws MospException 登録に失敗した場合
+	 */
+	protected void insert(Class<?> daoInterface, List<? extends BaseDtoInterface> dtoList) throws MospException {
+		BaseDaoInterface dao = InstanceFactory.loadDao(daoInterface, mospParams, connection);
+		dao.insertAll(dtoList);
+	}
+	
+	/**
+	 * DTOを要素とするリストを作成する。<br>
+	 * @param dto DTO
+	 * @return DTOリスト
+	 */
+	protected static List<BaseDtoInterface> single(Object dto) {
+		List<BaseDtoInterface> list = new ArrayList<BaseDtoInterface>();
+		list.add((BaseDtoInterface)dto);
+		return list;
+	}
+	
+	/**
+	 * 個人毎のリスト群を一つのリストにまとめる。<br>
+	 * @param lists 個人毎のリスト群
+	 * @return DTOリスト
+	 */
+	protected static List<BaseDtoInterface> flatten(Collection<? extends List<?>> lists) {
+		List<BaseDtoInterface> list = new ArrayList<BaseDtoInterface>();
+		for (List<?> dtoList : lists) {
+			for (Object dto : dtoList) {
+				list.add((BaseDtoInterface)dto);
+			}
+		}
+		return list;
+	}
+	
+	/**
+	 * インメモリDB上で動作するBeanを作成する。<br>
+	 * @param <T> Beanインターフェース
+	 * @param cls Beanインターフェース
+	 * @return Bean
+	 * @throws MospException Beanの作成に失敗した場合
+	 */
+	@SuppressWarnings("unchecked")
+	public <T>T createBean(Class<T> cls) throws MospException {
+		BaseBeanInterface bean = InstanceFactory.loadBean(cls, mospParams, connection);
+		return (T)bean;
+	}
+	
+	/**
+	 * インメモリDB上で動作するDAOを作成する。<br>
+	 * @param <T> DAOインターフェース
+	 * @param cls DAOインターフェース
+	 * @return DAO
+	 * @throws MospException DAOの作成に失敗した場合
+	 */
+	@SuppressWarnings("unchecked")
+	public <T>T createDao(Class<T> cls) throws MospException {
+		BaseDaoInterface dao = InstanceFactory.loadDao(cls, mospParams, connection);
+		return (T)dao;
+	}
+	
+	/**
+	 * インメモリDBを破棄する。<br>
+	 * @throws MospException DBの破棄に失敗した場合
+	 */
+	public void close() throws MospException {
+		Statement st = null;
+		try {
+			connection.rollback();
+			st = connection.createStatement();
+			st.execute("SHUTDOWN");
+			st.close();
+			connection.close();
+		} catch (SQLException e) {
+			throw new MospException(e);
+		} finally {
+			closeStatement(st);
+		}
+	}
+	
+	/**
+	 * ステートメントを閉じる。<br>
+	 * @param st ステートメント
+	 */
+	protected static void closeStatement(Statement st) {
+		if (st == null) {
+			return;
+		}
+		try {
+			st.close();
+		} catch (SQLException e) {
+			// 処理無し
+		}
+	}
+	
+	/**
+	 * @return 合成データ
+	 */
+	public BenchmarkFixture getFixture() {
+		return fixture;
+	}
+	
+	/**
+	 * @return MosP処理情報
+	 */
+	public MospParams getMospParams() {
+		return mospParams;
+	}
+	
+	/**
+	 * @return DBコネクション
+	 */
+	public Connection getConnection() {
+		return connection;
+	}
+	
+}
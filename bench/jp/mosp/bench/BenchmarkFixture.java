@@ -0,0 +1,853 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.bench;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.utils.DateUtility;
+import jp.mosp.platform.constant.PlatformConst;
+import jp.mosp.platform.dto.human.EntranceDtoInterface;
+import jp.mosp.platform.dto.human.HumanDtoInterface;
+import jp.mosp.platform.dto.human.impl.PfaHumanEntranceDto;
+import jp.mosp.platform.dto.human.impl.PfmHumanDto;
+import jp.mosp.platform.dto.workflow.WorkflowDtoInterface;
+import jp.mosp.platform.dto.workflow.impl.PftWorkflowDto;
+import jp.mosp.time.constant.TimeConst;
+import jp.mosp.time.dto.settings.ApplicationDtoInterface;
+import jp.mosp.time.dto.settings.AttendanceDtoInterface;
+import jp.mosp.time.dto.settings.CutoffDtoInterface;
+import jp.mosp.time.dto.settings.HolidayRequestDtoInterface;
+import jp.mosp.time.dto.settings.OvertimeRequestDtoInterface;
+import jp.mosp.time.dto.settings.PaidHolidayDataDtoInterface;
+import jp.mosp.time.dto.settings.PaidHolidayDtoInterface;
+import jp.mosp.time.dto.settings.RestDtoInterface;
+import jp.mosp.time.dto.settings.ScheduleDateDtoInterface;
+import jp.mosp.time.dto.settings.ScheduleDtoInterface;
+import jp.mosp.time.dto.settings.TimeSettingDtoInterface;
+import jp.mosp.time.dto.settings.WorkTypeDtoInterface;
+import jp.mosp.time.dto.settings.WorkTypeItemDtoInterface;
+import jp.mosp.time.dto.settings.impl.TmdAttendanceDto;
+import jp.mosp.time.dto.settings.impl.TmdHolidayRequestDto;
+import jp.mosp.time.dto.settings.impl.TmdOvertimeRequestDto;
+import jp.mosp.time.dto.settings.impl.TmdPaidHolidayDataDto;
+import jp.mosp.time.dto.settings.impl.TmdRestDto;
+import jp.mosp.time.dto.settings.impl.TmmApplicationDto;
+import jp.mosp.time.dto.settings.impl.TmmCutoffDto;
+import jp.mosp.time.dto.settings.impl.TmmPaidHolidayDto;
+import jp.mosp.time.dto.settings.impl.TmmScheduleDateDto;
+import jp.mosp.time.dto.settings.impl.TmmScheduleDto;
+import jp.mosp.time.dto.settings.impl.TmmTimeSettingDto;
+import jp.mosp.time.dto.settings.impl.TmmWorkTypeDto;
+import jp.mosp.time.dto.settings.impl.TmmWorkTypeItemDto;
+
+/**
+ * ベンチマーク用合成データ生成クラス。<br>
+ * <br>
+ * 勤怠設定、勤務形態、カレンダ、締日、有給休暇設定を一組ずつ作成し、
+ * 社員毎に対象月数分の勤怠情報(休憩を含む)、休暇申請、残業申請及び
+ * ワークフロー情報を作成する。<br>
+ * 乱数の種は固定であるため、同じ引数からは常に同じデータが作成される。<br>
+ * <br>
+ * 作成したDTOは、そのままメモリ上のベンチマークに用いる他、
+ * {@link BenchmarkDatabase}でH2に登録して用いる。<br>
+ * <br>
+ */
+public class BenchmarkFixture {
+	
+	/**
+	 * 各種マスタのコード。<br>
+	 */
+	public static final String										CODE				= "BENCH";
+	
+	/**
+	 * 乱数の種。<br>
+	 */
+	protected static final long										SEED				= 20161017L;
+	
+	/**
+	 * 規定始業時刻(分)。<br>
+	 */
+	protected static final int										WORK_START			= 9 * 60;
+	
+	/**
+	 * 規定終業時刻(分)。<br>
+	 */
+	protected static final int										WORK_END			= 18 * 60;
+	
+	/**
+	 * 休憩開始時刻(分)。<br>
+	 */
+	protected static final int										REST_START			= 12 * 60;
+	
+	/**
+	 * 休憩終了時刻(分)。<br>
+	 */
+	protected static final int										REST_END			= 13 * 60;
+	
+	/**
+	 * 所定労働時間(分)。<br>
+	 */
+	protected static final int										GENERAL_WORK_TIME	= 8 * 60;
+	
+	/**
+	 * 有給休暇を申請する間隔(勤務日数)。<br>
+	 */
+	protected static final int										HOLIDAY_INTERVAL	= 15;
+	
+	/**
+	 * 残業申請をする間隔(勤務日数)。<br>
+	 */
+	protected static final int										OVERTIME_INTERVAL	= 3;
+	
+	/**
+	 * 社員数。<br>
+	 */
+	protected final int												employees;
+	
+	/**
+	 * 対象年(作成期間の最初の月)。<br>
+	 */
+	protected final int												year;
+	
+	/**
+	 * 対象月(作成期間の最初の月)。<br>
+	 */
+	protected final int												month;
+	
+	/**
+	 * 作成月数。<br>
+	 */
+	protected final int												months;
+	
+	/**
+	 * 各種マスタの有効日。<br>
+	 */
+	protected final Date											masterDate;
+	
+	/**
+	 * 作成期間初日。<br>
+	 */
+	protected final Date											firstDate;
+	
+	/**
+	 * 作成期間最終日。<br>
+	 */
+	protected final Date											lastDate;
+	
+	/**
+	 * 乱数。<br>
+	 */
+	protected final Random											random;
+	
+	/**
+	 * 最後に採番したレコード識別ID。<br>
+	 */
+	protected long													lastId;
+	
+	/**
+	 * 人事情報リスト。<br>
+	 */
+	protected final List<HumanDtoInterface>							humanList;
+	
+	/**
+	 * 入社情報リスト。<br>
+	 */
+	protected final List<EntranceDtoInterface>						entranceList;
+	
+	/**
+	 * 設定適用情報。<br>
+	 */
+	protected ApplicationDtoInterface								applicationDto;
+	
+	/**
+	 * 勤怠設定情報。<br>
+	 */
+	protected TimeSettingDtoInterface								timeSettingDto;
+	
+	/**
+	 * 締日情報。<br>
+	 */
+	protected CutoffDtoInterface									cutoffDto;
+	
+	/**
+	 * カレンダ情報。<br>
+	 */
+	protected ScheduleDtoInterface									scheduleDto;
+	
+	/**
+	 * 有給休暇設定情報。<br>
+	 */
+	protected PaidHolidayDtoInterface								paidHolidayDto;
+	
+	/**
+	 * 勤務形態情報。<br>
+	 */
+	protected WorkTypeDtoInterface									workTypeDto;
+	
+	/**
+	 * 勤務形態項目情報リスト。<br>
+	 */
+	protected final List<WorkTypeItemDtoInterface>					workTypeItemList;
+	
+	/**
+	 * カレンダ日情報リスト。<br>
+	 */
+	protected final List<ScheduleDateDtoInterface>					scheduleDateList;
+	
+	/**
+	 * 有給休暇データリスト(キー：個人ID)。<br>
+	 */
+	protected final Map<String, List<PaidHolidayDataDtoInterface>>	paidHolidayDataMap;
+	
+	/**
+	 * 勤怠情報リスト(キー：個人ID)。<br>
+	 */
+	protected final Map<String, List<AttendanceDtoInterface>>		attendanceMap;
+	
+	/**
+	 * 休憩情報リスト(キー：個人ID)。<br>
+	 */
+	protected final Map<String, List<RestDtoInterface>>				restMap;
+	
+	/**
+	 * 休暇申請情報リスト(キー：個人ID)。<br>
+	 */
+	protected final Map<String, List<HolidayRequestDtoInterface>>	holidayRequestMap;
+	
+	/**
+	 * 残業申請情報リスト(キー：個人ID)。<br>
+	 */
+	protected final Map<String, List<OvertimeRequestDtoInterface>>	overtimeRequestMap;
+	
+	/**
+	 * ワークフロー情報リスト(キー：個人ID)。<br>
+	 */
+	protected final Map<String, List<WorkflowDtoInterface>>			workflowMap;
+	
+	
+	/**
+	 * 合成データを作成する。<br>
+	 * @param employees 社員数
+	 * @param year      対象年(作成期間の最初の月)
+	 * @param month     対象月(作成期間の最初の月)
+	 * @param months    作成月数
+	 * @throws MospException 日付の変換に失敗した場合
+	 */
+	public BenchmarkFixture(int employees, int year, int month, int months) throws MospException {
+		this.employees = employees;
+		this.year = year;
+		this.month = month;
+		this.months = months;
+		// 各種マスタは作成期間の2年前から有効とする(有給休暇の前年度付与を含めるため)
+		masterDate = DateUtility.getDate(year - 2, 1, 1);
+		firstDate = DateUtility.getDate(year, month, 1);
+		lastDate = DateUtility.addDay(DateUtility.addMonth(firstDate, months), -1);
+		random = new Random(SEED);
+		lastId = 0;
+		humanList = new ArrayList<HumanDtoInterface>();
+		entranceList = new ArrayList<EntranceDtoInterface>();
+		workTypeItemList = new ArrayList<WorkTypeItemDtoInterface>();
+		scheduleDateList = new ArrayList<ScheduleDateDtoInterface>();
+		paidHolidayDataMap = new LinkedHashMap<String, List<PaidHolidayDataDtoInterface>>();
+		attendanceMap = new LinkedHashMap<String, List<AttendanceDtoInterface>>();
+		restMap = new LinkedHashMap<String, List<RestDtoInterface>>();
+		holidayRequestMap = new LinkedHashMap<String, List<HolidayRequestDtoInterface>>();
+		overtimeRequestMap = new LinkedHashMap<String, List<OvertimeRequestDtoInterface>>();
+		workflowMap = new LinkedHashMap<String, List<WorkflowDtoInterface>>();
+		// マスタ作成
+		createMasters();
+		// 社員毎に処理
+		for (int i = 0; i < employees; i++) {
+			createEmployee(getPersonalId(i), i);
+		}
+	}
+	
+	/**
+	 * 勤怠設定、締日、カレンダ、勤務形態、有給休暇設定及び設定適用を作成する。<br>
+	 * @throws MospException 日付の変換に失敗した場合
+	 */
+	protected void createMasters() throws MospException {
+		// 締日(月末締)
+		cutoffDto = new TmmCutoffDto();
+		cutoffDto.setTmmCutoffId(nextId());
+		cutoffDto.setCutoffCode(CODE);
+		cutoffDto.setActivateDate(masterDate);
+		cutoffDto.setCutoffDate(TimeConst.CUTOFF_DATE_LAST_DAY);
+		cutoffDto.setCutoffType(TimeConst.CODE_CUTOFF_TYPE_MONTH_END_CLOSING);
+		fill(cutoffDto);
+		// 勤怠設定(丸め無し、始業前の時間外労働無効)
+		timeSettingDto = new TmmTimeSettingDto();
+		timeSettingDto.setTmmTimeSettingId(nextId());
+		timeSettingDto.setWorkSettingCode(CODE);
+		timeSettingDto.setActivateDate(masterDate);
+		timeSettingDto.setCutoffCode(CODE);
+		timeSettingDto.setBeforeOvertimeFlag(TimeConst.CODE_BEFORE_OVERTIME_INVALID);
+		timeSettingDto.setGeneralWorkTime(DateUtility.getTime(GENERAL_WORK_TIME / 60, 0));
+		timeSettingDto.setStartDayTime(DateUtility.getTime(0, 0));
+		timeSettingDto.setLateEarlyFull(DateUtility.getTime(4, 0));
+		timeSettingDto.setLateEarlyHalf(DateUtility.getTime(2, 0));
+		timeSettingDto.setSubHolidayAllNorm(DateUtility.getTime(GENERAL_WORK_TIME / 60, 0));
+		timeSettingDto.setSubHolidayHalfNorm(DateUtility.getTime(GENERAL_WORK_TIME / 120, 0));
+		timeSettingDto.setStartWeek(1);
+		timeSettingDto.setStartMonth(1);
+		timeSettingDto.setStartYear(1);
+		fill(timeSettingDto);
+		// 勤務形態(9:00-18:00、休憩12:00-13:00)
+		workTypeDto = new TmmWorkTypeDto();
+		workTypeDto.setTmmWorkTypeId(nextId());
+		workTypeDto.setWorkTypeCode(CODE);
+		workTypeDto.setActivateDate(masterDate);
+		fill(workTypeDto);
+		addWorkTypeItem(TimeConst.CODE_WORKSTART, WORK_START);
+		addWorkTypeItem(TimeConst.CODE_WORKEND, WORK_END);
+		addWorkTypeItem(TimeConst.CODE_WORKTIME, GENERAL_WORK_TIME);
+		addWorkTypeItem(TimeConst.CODE_RESTTIME, REST_END - REST_START);
+		addWorkTypeItem(TimeConst.CODE_RESTSTART1, REST_START);
+		addWorkTypeItem(TimeConst.CODE_RESTEND1, REST_END);
+		addWorkTypeItem(TimeConst.CODE_RESTSTART2, 0);
+		addWorkTypeItem(TimeConst.CODE_RESTEND2, 0);
+		addWorkTypeItem(TimeConst.CODE_RESTSTART3, 0);
+		addWorkTypeItem(TimeConst.CODE_RESTEND3, 0);
+		addWorkTypeItem(TimeConst.CODE_RESTSTART4, 0);
+		addWorkTypeItem(TimeConst.CODE_RESTEND4, 0);
+		addWorkTypeItem(TimeConst.CODE_FRONTSTART, WORK_START);
+		addWorkTypeItem(TimeConst.CODE_FRONTEND, REST_START);
+		addWorkTypeItem(TimeConst.CODE_BACKSTART, REST_END);
+		addWorkTypeItem(TimeConst.CODE_BACKEND, WORK_END);
+		addWorkTypeItem(TimeConst.CODE_OVERBEFORE, 0);
+		addWorkTypeItem(TimeConst.CODE_OVERPER, 0);
+		addWorkTypeItem(TimeConst.CODE_OVERREST, 0);
+		addWorkTypeItem(TimeConst.CODE_HALFREST, 0);
+		addWorkTypeItem(TimeConst.CODE_HALFRESTSTART, 0);
+		addWorkTypeItem(TimeConst.CODE_HALFRESTEND, 0);
+		// カレンダ(平日は勤務、土曜は所定休日、日曜は法定休日)
+		scheduleDto = new TmmScheduleDto();
+		scheduleDto.setTmmScheduleId(nextId());
+		scheduleDto.setScheduleCode(CODE);
+		scheduleDto.setActivateDate(masterDate);
+		scheduleDto.setFiscalYear(DateUtility.getYear(masterDate));
+		fill(scheduleDto);
+		Date scheduleLastDate = DateUtility.addMonth(lastDate, 1);
+		for (Date date = masterDate; date.after(scheduleLastDate) == false; date = DateUtility.addDay(date, 1)) {
+			ScheduleDateDtoInterface dto = new TmmScheduleDateDto();
+			dto.setTmmScheduleDateId(nextId());
+			dto.setScheduleCode(CODE);
+			dto.setActivateDate(masterDate);
+			dto.setScheduleDate(date);
+			dto.setWorks(1);
+			dto.setWorkTypeCode(getScheduledWorkTypeCode(date));
+			fill(dto);
+			scheduleDateList.add(dto);
+		}
+		// 有給休暇設定(基準日4月1日)
+		paidHolidayDto = new TmmPaidHolidayDto();
+		paidHolidayDto.setTmmPaidHolidayId(nextId());
+		paidHolidayDto.setPaidHolidayCode(CODE);
+		paidHolidayDto.setActivateDate(masterDate);
+		paidHolidayDto.setPaidHolidayType(TimeConst.CODE_PAID_HOLIDAY_TYPE_STANDARDSDAY);
+		paidHolidayDto.setPointDateMonth(4);
+		paidHolidayDto.setPointDateDay(1);
+		paidHolidayDto.setGeneralPointAmount(1);
+		paidHolidayDto.setMaxCarryOverYear(1);
+		paidHolidayDto.setMaxCarryOverAmount(20);
+		paidHolidayDto.setTotalMaxAmount(40);
+		fill(paidHolidayDto);
+		// 設定適用(全社員に適用)
+		applicationDto = new TmmApplicationDto();
+		applicationDto.setTmmApplicationId(nextId());
+		applicationDto.setApplicationCode(CODE);
+		applicationDto.setActivateDate(masterDate);
+		applicationDto.setApplicationType(Integer.parseInt(PlatformConst.APPLICATION_TYPE_MASTER));
+		applicationDto.setWorkSettingCode(CODE);
+		applicationDto.setScheduleCode(CODE);
+		applicationDto.setPaidHolidayCode(CODE);
+		fill(applicationDto);
+	}
+	
+	/**
+	 * 社員一人分の人事情報、有給休暇データ、勤怠情報及び申請情報を作成する。<br>
+	 * @param personalId 個人ID
+	 * @param index      社員の通番
+	 * @throws MospException 日付の変換に失敗した場合
+	 */
+	protected void createEmployee(String personalId, int index) throws MospException {
+		// 人事情報
+		HumanDtoInterface humanDto = new PfmHumanDto();
+		humanDto.setPfmHumanId(nextId());
+		humanDto.setPersonalId(personalId);
+		humanDto.setActivateDate(masterDate);
+		humanDto.setEmployeeCode(String.format("E%05d", index));
+		humanDto.setLastName("ベンチ");
+		humanDto.setFirstName(String.valueOf(index));
+		humanDto.setLastKana("ベンチ");
+		humanDto.setFirstKana(String.valueOf(index));
+		fill(humanDto);
+		humanList.add(humanDto);
+		// 入社情報
+		EntranceDtoInterface entranceDto = new PfaHumanEntranceDto();
+		entranceDto.setPfaHumanEntranceId(nextId());
+		entranceDto.setPersonalId(personalId);
+		entranceDto.setEntranceDate(DateUtility.addYear(masterDate, -1));
+		fill(entranceDto);
+		entranceList.add(entranceDto);
+		// 有給休暇データ(前年度及び今年度の付与分)
+		for (int i = 2; i >= 1; i--) {
+			Date acquisitionDate = DateUtility.getDate(year - i, 4, 1);
+			PaidHolidayDataDtoInterface dto = new TmdPaidHolidayDataDto();
+			dto.setTmdPaidHolidayId(nextId());
+			dto.setPersonalId(personalId);
+			dto.setActivateDate(acquisitionDate);
+			dto.setAcquisitionDate(acquisitionDate);
+			dto.setLimitDate(DateUtility.addDay(DateUtility.addYear(acquisitionDate, 2), -1));
+			dto.setHoldDay(10 + (2 - i) * 2);
+			dto.setDenominatorDayHour(GENERAL_WORK_TIME / 60);
+			fill(dto);
+			add(paidHolidayDataMap, personalId, dto);
+		}
+		// 作成期間の日毎に処理
+		int workDays = 0;
+		for (Date date = firstDate; date.after(lastDate) == false; date = DateUtility.addDay(date, 1)) {
+			// 休日の場合
+			if (CODE.equals(getScheduledWorkTypeCode(date)) == false) {
+				continue;
+			}
+			workDays++;
+			// 有給休暇を申請する日の場合
+			if (workDays % HOLIDAY_INTERVAL == index % HOLIDAY_INTERVAL) {
+				addHolidayRequest(personalId, date);
+				continue;
+			}
+			// 勤怠情報及び休憩情報を作成
+			AttendanceDtoInterface attendanceDto = addAttendance(personalId, date);
+			// 残業申請をする日の場合
+			if (attendanceDto.getOvertime() > 0 && workDays % OVERTIME_INTERVAL == 0) {
+				addOvertimeRequest(personalId, date, attendanceDto.getOvertime());
+			}
+		}
+	}
+	
+	/**
+	 * 勤怠情報及び休憩情報を作成する。<br>
+	 * 始業は規定始業時刻から0～10分遅れ、終業は規定終業時刻から0～120分の残業とする。<br>
+	 * @param personalId 個人ID
+	 * @param workDate   勤務日
+	 * @return 勤怠情報
+	 */
+	protected AttendanceDtoInterface addAttendance(String personalId, Date workDate) {
+		int start = WORK_START + random.nextInt(11);
+		int end = WORK_END + random.nextInt(121);
+		int lateTime = start - WORK_START;
+		int restTime = REST_END - REST_START;
+		int workTime = end - start - restTime;
+		int overtime = end - WORK_END;
+		long workflow = addWorkflow(personalId, workDate, TimeConst.CODE_FUNCTION_WORK_MANGE);
+		AttendanceDtoInterface dto = new TmdAttendanceDto();
+		dto.setTmdAttendanceId(nextId());
+		dto.setPersonalId(personalId);
+		dto.setWorkDate(workDate);
+		dto.setTimesWork(1);
+		dto.setWorkTypeCode(CODE);
+		dto.setStartTime(DateUtility.addMinute(workDate, start));
+		dto.setActualStartTime(DateUtility.addMinute(workDate, start));
+		dto.setEndTime(DateUtility.addMinute(workDate, end));
+		dto.setActualEndTime(DateUtility.addMinute(workDate, end));
+		dto.setLateDays(lateTime > 0 ? 1 : 0);
+		dto.setLateLessThanThirtyMinutes(lateTime > 0 ? 1 : 0);
+		dto.setLateTime(lateTime);
+		dto.setActualLateTime(lateTime);
+		dto.setLateLessThanThirtyMinutesTime(lateTime);
+		dto.setWorkTime(workTime);
+		dto.setGeneralWorkTime(GENERAL_WORK_TIME);
+		dto.setWorkTimeWithinPrescribedWorkTime(workTime - overtime);
+		dto.setContractWorkTime(workTime - overtime);
+		dto.setRestTime(restTime);
+		dto.setTimesOvertime(overtime > 0 ? 1 : 0);
+		dto.setOvertime(overtime);
+		dto.setOvertimeAfter(overtime);
+		dto.setOvertimeOut(overtime);
+		dto.setWorkdayOvertimeOut(overtime);
+		dto.setOvertimeOutWithoutCompensationDay(overtime);
+		dto.setLegalWorkTime(workTime - overtime);
+		dto.setWorkDays(1);
+		dto.setWorkDaysForPaidLeave(1);
+		dto.setTotalWorkDaysForPaidLeave(1);
+		dto.setWorkflow(workflow);
+		fill(dto);
+		add(attendanceMap, personalId, dto);
+		RestDtoInterface restDto = new TmdRestDto();
+		restDto.setTmdRestId(nextId());
+		restDto.setPersonalId(personalId);
+		restDto.setWorkDate(workDate);
+		restDto.setTimesWork(1);
+		restDto.setRest(1);
+		restDto.setRestStart(DateUtility.addMinute(workDate, REST_START));
+		restDto.setRestEnd(DateUtility.addMinute(workDate, REST_END));
+		restDto.setRestTime(restTime);
+		add(restMap, personalId, restDto);
+		return dto;
+	}
+	
+	/**
+	 * 有給休暇(全休)申請情報を作成する。<br>
+	 * @param personalId  個人ID
+	 * @param requestDate 申請日
+	 */
+	protected void addHolidayRequest(String personalId, Date requestDate) {
+		long workflow = addWorkflow(personalId, requestDate, TimeConst.CODE_FUNCTION_VACATION);
+		HolidayRequestDtoInterface dto = new TmdHolidayRequestDto();
+		dto.setTmdHolidayRequestId(nextId());
+		dto.setPersonalId(personalId);
+		dto.setRequestStartDate(requestDate);
+		dto.setRequestEndDate(requestDate);
+		dto.setHolidayType1(TimeConst.CODE_HOLIDAYTYPE_HOLIDAY);
+		dto.setHolidayType2(String.valueOf(TimeConst.CODE_HOLIDAYTYPE_HOLIDAY));
+		dto.setHolidayRange(TimeConst.CODE_HOLIDAY_RANGE_ALL);
+		dto.setStartTime(requestDate);
+		dto.setEndTime(requestDate);
+		dto.setHolidayAcquisitionDate(requestDate);
+		dto.setUseDay(1);
+		dto.setWorkflow(workflow);
+		fill(dto);
+		add(holidayRequestMap, personalId, dto);
+	}
+	
+	/**
+	 * 残業(勤務後)申請情報を作成する。<br>
+	 * @param personalId  個人ID
+	 * @param requestDate 申請日
+	 * @param requestTime 申請時間(分)
+	 */
+	protected void addOvertimeRequest(String personalId, Date requestDate, int requestTime) {
+		long workflow = addWorkflow(personalId, requestDate, TimeConst.CODE_FUNCTION_OVER_WORK);
+		OvertimeRequestDtoInterface dto = new TmdOvertimeRequestDto();
+		dto.setTmdOvertimeRequestId(nextId());
+		dto.setPersonalId(personalId);
+		dto.setRequestDate(requestDate);
+		dto.setTimesWork(1);
+		dto.setOvertimeType(TimeConst.CODE_OVERTIME_WORK_AFTER);
+		dto.setRequestTime(requestTime);
+		dto.setWorkflow(workflow);
+		fill(dto);
+		add(overtimeRequestMap, personalId, dto);
+	}
+	
+	/**
+	 * 承認済のワークフロー情報を作成する。<br>
+	 * @param personalId   個人ID
+	 * @param workflowDate 対象日
+	 * @param functionCode 機能コード
+	 * @return ワークフロー番号
+	 */
+	protected long addWorkflow(String personalId, Date workflowDate, String functionCode) {
+		long workflow = nextId();
+		WorkflowDtoInterface dto = new PftWorkflowDto();
+		dto.setPftWorkflowId(workflow);
+		dto.setWorkflow(workflow);
+		dto.setWorkflowStage(PlatformConst.WORKFLOW_STAGE_FIRST);
+		dto.setWorkflowStatus(PlatformConst.CODE_STATUS_COMPLETE);
+		dto.setPersonalId(personalId);
+		dto.setWorkflowDate(workflowDate);
+		dto.setFunctionCode(functionCode);
+		fill(dto);
+		add(workflowMap, personalId, dto);
+		return workflow;
+	}
+	
+	/**
+	 * 勤務形態項目情報を作成する。<br>
+	 * @param itemCode 勤務形態項目コード
+	 * @param minutes  項目値(0時からの分)
+	 * @throws MospException 日付の変換に失敗した場合
+	 */
+	protected void addWorkTypeItem(String itemCode, int minutes) throws MospException {
+		WorkTypeItemDtoInterface dto = new TmmWorkTypeItemDto();
+		dto.setTmmWorkTypeItemId(nextId());
+		dto.setWorkTypeCode(CODE);
+		dto.setActivateDate(masterDate);
+		dto.setWorkTypeItemCode(itemCode);
+		dto.setWorkTypeItemValue(DateUtility.getTime(minutes / 60, minutes % 60));
+		fill(dto);
+		workTypeItemList.add(dto);
+	}
+	
+	/**
+	 * カレンダ上の勤務形態コードを取得する。<br>
+	 * @param date 対象日
+	 * @return 勤務形態コード
+	 */
+	protected String getScheduledWorkTypeCode(Date date) {
+		if (DateUtility.isSunday(date)) {
+			return TimeConst.CODE_HOLIDAY_LEGAL_HOLIDAY;
+		}
+		if (DateUtility.isSaturday(date)) {
+			return TimeConst.CODE_HOLIDAY_PRESCRIBED_HOLIDAY;
+		}
+		return CODE;
+	}
+	
+	/**
+	 * レコード識別IDを採番する。<br>
+	 * ワークフロー番号も同じ番号から採番する。<br>
+	 * @return レコード識別ID
+	 */
+	protected long nextId() {
+		return ++lastId;
+	}
+	
+	/**
+	 * 個人IDをキーとするリスト群に追加する。<br>
+	 * @param <T>        DTOの型
+	 * @param map        リスト群
+	 * @param personalId 個人ID
+	 * @param dto        追加するDTO
+	 */
+	protected static <T> void add(Map<String, List<T>> map, String personalId, T dto) {
+		List<T> list = map.get(personalId);
+		if (list == null) {
+			list = new ArrayList<T>();
+			map.put(personalId, list);
+		}
+		list.add(dto);
+	}
+	
+	/**
+	 * DTOの未設定の文字列項目に空文字を設定する。<br>
+	 * 文字列の列は全てNOT NULLであるため、DBに登録する前に補完する。<br>
+	 * @param dto 対象DTO
+	 */
+	protected static void fill(Object dto) {
+		try {
+			for (Method setter : dto.getClass().getMethods()) {
+				// 文字列を設定するsetterでない場合
+				if (setter.getName().startsWith("set") == false || setter.getParameterTypes().length != 1
+						|| setter.getParameterTypes()[0] != String.class) {
+					continue;
+				}
+				// 対応するgetterが値を返す場合
+				Method getter = dto.getClass().getMethod("get" + setter.getName().substring(3));
+				if (getter.invoke(dto) != null) {
+					continue;
+				}
+				setter.invoke(dto, "");
+			}
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	/**
+	 * 個人IDを取得する。<br>
+	 * @param index 社員の通番
+	 * @return 個人ID
+	 */
+	public String getPersonalId(int index) {
+		return String.format("B%09d", index);
+	}
+	
+	/**
+	 * @return 社員数
+	 */
+	public int getEmployees() {
+		return employees;
+	}
+	
+	/**
+	 * @return 対象年(作成期間の最初の月)
+	 */
+	public int getYear() {
+		return year;
+	}
+	
+	/**
+	 * @return 対象月(作成期間の最初の月)
+	 */
+	public int getMonth() {
+		return month;
+	}
+	
+	/**
+	 * @return 作成月数
+	 */
+	public int getMonths() {
+		return months;
+	}
+	
+	/**
+	 * @return 作成期間初日
+	 */
+	public Date getFirstDate() {
+		return firstDate;
+	}
+	
+	/**
+	 * @return 作成期間最終日
+	 */
+	public Date getLastDate() {
+		return lastDate;
+	}
+	
+	/**
+	 * @return 人事情報リスト
+	 */
+	public List<HumanDtoInterface> getHumanList() {
+		return humanList;
+	}
+	
+	/**
+	 * @return 入社情報リスト
+	 */
+	public List<EntranceDtoInterface> getEntranceList() {
+		return entranceList;
+	}
+	
+	/**
+	 * @return 設定適用情報
+	 */
+	public ApplicationDtoInterface getApplicationDto() {
+		return applicationDto;
+	}
+	
+	/**
+	 * @return 勤怠設定情報
+	 */
+	public TimeSettingDtoInterface getTimeSettingDto() {
+		return timeSettingDto;
+	}
+	
+	/**
+	 * @return 締日情報
+	 */
+	public CutoffDtoInterface getCutoffDto() {
+		return cutoffDto;
+	}
+	
+	/**
+	 * @return カレンダ情報
+	 */
+	public ScheduleDtoInterface getScheduleDto() {
+		return scheduleDto;
+	}
+	
+	/**
+	 * @return 有給休暇設定情報
+	 */
+	public PaidHolidayDtoInterface getPaidHolidayDto() {
+		return paidHolidayDto;
+	}
+	
+	/**
+	 * @return 勤務形態情報
+	 */
+	public WorkTypeDtoInterface getWorkTypeDto() {
+		return workTypeDto;
+	}
+	
+	/**
+	 * @return 勤務形態項目情報リスト
+	 */
+	public List<WorkTypeItemDtoInterface> getWorkTypeItemList() {
+		return workTypeItemList;
+	}
+	
+	/**
+	 * @return カレンダ日情報リスト
+	 */
+	public List<ScheduleDateDtoInterface> getScheduleDateList() {
+		return scheduleDateList;
+	}
+	
+	/**
+	 * @return 有給休暇データリスト(キー：個人ID)
+	 */
+	public Map<String, List<PaidHolidayDataDtoInterface>> getPaidHolidayDataMap() {
+		return paidHolidayDataMap;
+	}
+	
+	/**
+	 * @return 勤怠情報リスト(キー：個人ID)
+	 */
+	public Map<String, List<AttendanceDtoInterface>> getAttendanceMap() {
+		return attendanceMap;
+	}
+	
+	/**
+	 * @return 休憩情報リスト(キー：個人ID)
+	 */
+	public Map<String, List<RestDtoInterface>> getRestMap() {
+		return restMap;
+	}
+	
+	/**
+	 * @return 休暇申請情報リスト(キー：個人ID)
+	 */
+	public Map<String, List<HolidayRequestDtoInterface>> getHolidayRequestMap() {
+		return holidayRequestMap;
+	}
+	
+	/**
+	 * @return 残業申請情報リスト(キー：個人ID)
+	 */
+	public Map<String, List<OvertimeRequestDtoInterface>> getOvertimeRequestMap() {
+		return overtimeRequestMap;
+	}
+	
+	/**
+	 * @return ワークフロー情報リスト(キー：個人ID)
+	 */
+	public Map<String, List<WorkflowDtoInterface>> getWorkflowMap() {
+		return workflowMap;
+	}
+	
+	/**
+	 * 対象個人のワークフロー情報群(キー：ワークフロー番号)を取得する。<br>
+	 * @param personalId 個人ID
+	 * @return ワークフロー情報群(キー：ワークフロー番号)
+	 */
+	public Map<Long, WorkflowDtoInterface> getWorkflowMap(String personalId) {
+		Map<Long, WorkflowDtoInterface> map = new HashMap<Long, WorkflowDtoInterface>();
+		for (WorkflowDtoInterface dto : get(workflowMap, personalId)) {
+			map.put(dto.getWorkflow(), dto);
+		}
+		return map;
+	}
+	
+	/**
+	 * 個人IDをキーとするリスト群から対象個人のリストを取得する。<br>
+	 * 存在しない場合は空のリストを返す。<br>
+	 * @param <T>        DTOの型
+	 * @param map        リスト群
+	 * @param personalId 個人ID
+	 * @return 対象個人のリスト
+	 */
+	public static <T> List<T> get(Map<String, List<T>> map, String personalId) {
+		List<T> list = map.get(personalId);
+		if (list == null) {
+			return new ArrayList<T>();
+		}
+		return list;
+	}
+	
+}
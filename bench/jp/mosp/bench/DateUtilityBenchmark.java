@@ -0,0 +1,140 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.bench;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.utils.DateUtility;
+
+/**
+ * {@link DateUtility}の日付変換ベンチマーク。<br>
+ * <br>
+ * 一月分の日付について、文字列との相互変換及び日付計算を行う。<br>
+ * 勤怠計算及び画面表示で日毎に繰り返し呼ばれる処理である。<br>
+ * <br>
+ * ベンチマークは、benchプロファイルでコンパイル及び実行する。<br>
+ * (例：mvn -Pbench test -Dbench.args="DateUtilityBenchmark")<br>
+ * 計測の基準値は、bench/baseline.txtに記録している。<br>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateUtilityBenchmark {
+	
+	/**
+	 * 対象日配列(一月分)。<br>
+	 */
+	protected Date[]	dates;
+	
+	/**
+	 * 対象日文字列配列(一月分)。<br>
+	 */
+	protected String[]	strings;
+	
+	
+	/**
+	 * 対象日を準備する。<br>
+	 * @throws MospException 日付の変換に失敗した場合
+	 */
+	@Setup
+	public void setUp() throws MospException {
+		Date firstDate = DateUtility.getDate(2016, 5, 1);
+		dates = new Date[31];
+		strings = new String[dates.length];
+		for (int i = 0; i < dates.length; i++) {
+			dates[i] = DateUtility.addDay(firstDate, i);
+			strings[i] = DateUtility.getStringDate(dates[i]);
+		}
+	}
+	
+	/**
+	 * 日付を文字列に変換する。<br>
+	 * @param blackhole ブラックホール
+	 */
+	@Benchmark
+	public void getStringDate(Blackhole blackhole) {
+		for (Date date : dates) {
+			blackhole.consume(DateUtility.getStringDate(date));
+		}
+	}
+	
+	/**
+	 * 文字列を日付に変換する。<br>
+	 * @param blackhole ブラックホール
+	 */
+	@Benchmark
+	public void getDateFromString(Blackhole blackhole) {
+		for (String string : strings) {
+			blackhole.consume(DateUtility.getDate(string));
+		}
+	}
+	
+	/**
+	 * 年月日から日付を作成する。<br>
+	 * @param blackhole ブラックホール
+	 * @throws MospException 日付の変換に失敗した場合
+	 */
+	@Benchmark
+	public void getDateFromFields(Blackhole blackhole) throws MospException {
+		for (int i = 1; i <= dates.length; i++) {
+			blackhole.consume(DateUtility.getDate(2016, 5, i));
+		}
+	}
+	
+	/**
+	 * 時刻を作成し、文字列に変換する。<br>
+	 * @param blackhole ブラックホール
+	 * @throws MospException 日付の変換に失敗した場合
+	 */
+	@Benchmark
+	public void getTime(Blackhole blackhole) throws MospException {
+		for (int i = 0; i < dates.length; i++) {
+			blackhole.consume(DateUtility.getStringTime(DateUtility.getTime(i % 24, i)));
+		}
+	}
+	
+	/**
+	 * 日付を加算し、日数差を算出する。<br>
+	 * @param blackhole ブラックホール
+	 */
+	@Benchmark
+	public void addDay(Blackhole blackhole) {
+		for (Date date : dates) {
+			Date nextMonth = DateUtility.addMonth(DateUtility.addDay(date, 1), 1);
+			blackhole.consume(DateUtility.getDayDifference(date, nextMonth));
+		}
+	}
+	
+}
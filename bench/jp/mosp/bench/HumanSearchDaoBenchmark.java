@@ -0,0 +1,116 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ *
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.bench;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.utils.DateUtility;
+import jp.mosp.platform.dao.human.HumanSearchDaoInterface;
+import jp.mosp.platform.dao.human.impl.HumanSearchDao;
+
+/**
+ * {@link HumanSearchDao}の検索SQL作成ベンチマーク。<br>
+ * <br>
+ * 人事情報検索の検索条件SQL(対象日以前の最新の情報を取得するサブクエリを含む)の作成を計測する。<br>
+ * SQLは実行しないため、DBは用いない。<br>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HumanSearchDaoBenchmark {
+	
+	/**
+	 * SQL作成処理を公開する人事情報検索DAO。<br>
+	 */
+	protected StatementDao			dao;
+	
+	/**
+	 * 検索条件マップ。<br>
+	 */
+	protected Map<String, Object>	param;
+	
+	
+	/**
+	 * DAO及び検索条件を準備する。<br>
+	 * @throws MospException DAOの準備に失敗した場合
+	 */
+	@Setup
+	public void setUp() throws MospException {
+		MospParams mospParams = BenchmarkDatabase.createMospParams("", "");
+		dao = new StatementDao();
+		dao.setInitParams(mospParams, null);
+		dao.setDaoInstances();
+		param = dao.getParamsMap();
+		param.put(HumanSearchDaoInterface.SEARCH_TARGET_DATE, DateUtility.getDate(2016, 5, 1));
+		param.put(HumanSearchDaoInterface.SEARCH_EMPLOYEE_CODE, "E0");
+		param.put(HumanSearchDaoInterface.SEARCH_EMPLOYEE_CODE_TYPE, "0");
+		param.put(HumanSearchDaoInterface.SEARCH_EMPLOYEE_NAME, "ベンチ");
+		dao.setSearchParams(param);
+	}
+	
+	/**
+	 * 人事情報検索SQLを作成する。<br>
+	 * @return 人事情報検索SQL
+	 * @throws MospException SQLの作成に失敗した場合
+	 */
+	@Benchmark
+	public String searchQuery() throws MospException {
+		return dao.getQueryForSearch(param);
+	}
+	
+	
+	/**
+	 * SQL作成処理を公開する人事情報検索DAOクラス。<br>
+	 */
+	public static class StatementDao extends HumanSearchDao {
+		
+		@Override
+		public void setDaoInstances() throws MospException {
+			super.setDaoInstances();
+		}
+		
+		@Override
+		public void setSearchParams(Map<String, Object> param) {
+			super.setSearchParams(param);
+		}
+		
+		@Override
+		public String getQueryForSearch(Map<String, Object> param) throws MospException {
+			return super.getQueryForSearch(param);
+		}
+		
+	}
+	
+}
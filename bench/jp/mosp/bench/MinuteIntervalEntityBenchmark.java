@@ -0,0 +1,128 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jp.mosp.time.entity.MinuteIntervalEntity;
+
+/**
+ * {@link MinuteIntervalEntity}の時間帯計算ベンチマーク。<br>
+ * <br>
+ * 勤怠計算一日分に相当する時間帯計算として、休憩及び外出の時間帯を登録し、
+ * 勤務時間帯及び深夜時間帯と重なる分数、並びに始業時刻前の休暇から休憩を除いた分数を算出する。<br>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MinuteIntervalEntityBenchmark {
+	
+	/**
+	 * 休憩及び外出時間帯。<br>
+	 */
+	protected MinuteIntervalEntity	rest;
+	
+	/**
+	 * 残業休憩時間帯。<br>
+	 */
+	protected MinuteIntervalEntity	overtimeRest;
+	
+	/**
+	 * 規定休憩時間帯。<br>
+	 */
+	protected MinuteIntervalEntity	regRest;
+	
+	/**
+	 * 休暇時間帯。<br>
+	 */
+	protected MinuteIntervalEntity	holiday;
+	
+	
+	/**
+	 * 時間帯を準備する。<br>
+	 */
+	@Setup
+	public void setUp() {
+		rest = new MinuteIntervalEntity();
+		overtimeRest = new MinuteIntervalEntity();
+		regRest = new MinuteIntervalEntity();
+		holiday = new MinuteIntervalEntity();
+	}
+	
+	/**
+	 * 休憩(12:00-13:00、15:00-15:15)及び外出(16:30-17:00)を登録し、
+	 * 勤務時間帯(9:05-20:30)から除いた勤務時間を算出する。<br>
+	 * @return 勤務時間
+	 */
+	@Benchmark
+	public int workTime() {
+		rest.clear();
+		rest.put(12 * 60, 13 * 60);
+		rest.put(15 * 60, 15 * 60 + 15);
+		rest.put(16 * 60 + 30, 17 * 60);
+		int start = 9 * 60 + 5;
+		int end = 20 * 60 + 30;
+		return end - start - rest.getMinutes(start, end);
+	}
+	
+	/**
+	 * 日を跨ぐ残業休憩を登録し、深夜時間帯(22:00-29:00)の休憩時間を算出する。<br>
+	 * @return 深夜休憩時間
+	 */
+	@Benchmark
+	public int nightRestTime() {
+		overtimeRest.clear();
+		for (int i = 0; i < 16; i++) {
+			overtimeRest.putLonger(18 * 60 + i * 45, 18 * 60 + i * 45 + 15);
+		}
+		return overtimeRest.getMinutes(22 * 60, 29 * 60);
+	}
+	
+	/**
+	 * 規定休憩(12:00-13:00、15:00-15:15)及び休暇(10:00-14:00)のうち始業時刻(14:30)より前の部分を切り取り、
+	 * 休暇から休憩を除いた分数を算出する。<br>
+	 * @return 遅刻時間から除く休暇時間
+	 */
+	@Benchmark
+	public int tardinessExclusion() {
+		regRest.clear();
+		regRest.put(12 * 60, 13 * 60);
+		regRest.put(15 * 60, 15 * 60 + 15);
+		regRest.clip(Integer.MIN_VALUE, 14 * 60 + 30);
+		holiday.clear();
+		holiday.put(10 * 60, 14 * 60);
+		holiday.clip(Integer.MIN_VALUE, 14 * 60 + 30);
+		holiday.subtract(regRest);
+		return holiday.getMinutes();
+	}
+	
+}
@@ -0,0 +1,68 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.bench;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.time.bean.PaidHolidayInfoReferenceBeanInterface;
+
+/**
+ * 有給休暇情報参照(PaidHolidayInfoReferenceBean.getPaidHolidayInfo)ベンチマーク。<br>
+ * <br>
+ * 社員を順に切り替えて、作成期間最終日時点の有給休暇残日数等を取得する。<br>
+ * 有給休暇データ及び承認済の有給休暇申請はインメモリDBから取得される。<br>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaidHolidayInfoBenchmark extends BaseDatabaseBenchmark {
+	
+	/**
+	 * 有給休暇情報参照クラス。<br>
+	 */
+	protected PaidHolidayInfoReferenceBeanInterface	paidHolidayInfo;
+	
+	
+	@Override
+	protected void setUp() throws MospException {
+		paidHolidayInfo = database.createBean(PaidHolidayInfoReferenceBeanInterface.class);
+	}
+	
+	/**
+	 * 社員一人分の有給休暇情報を取得する。<br>
+	 * @return 有給休暇情報
+	 * @throws MospException 有給休暇情報の取得に失敗した場合
+	 */
+	@Benchmark
+	public Map<String, Object> getPaidHolidayInfo() throws MospException {
+		return paidHolidayInfo.getPaidHolidayInfo(nextPersonalId(), fixture.getLastDate());
+	}
+	
+}
@@ -0,0 +1,125 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.bench;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.utils.DateUtility;
+import jp.mosp.time.entity.RequestIndexEntity;
+
+/**
+ * {@link RequestIndexEntity}の索引作成及び参照ベンチマーク。<br>
+ * <br>
+ * 一人分の勤怠情報及び申請情報から索引を作成し、対象期間の日毎に参照する。<br>
+ * メモリ上の合成データのみを用い、DBは用いない。<br>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestIndexEntityBenchmark {
+	
+	/**
+	 * 作成月数。<br>
+	 */
+	@Param({ "1", "12" })
+	public int					months;
+	
+	/**
+	 * 合成データ。<br>
+	 */
+	protected BenchmarkFixture	fixture;
+	
+	/**
+	 * 対象個人ID。<br>
+	 */
+	protected String			personalId;
+	
+	/**
+	 * 対象日配列。<br>
+	 */
+	protected Date[]			dates;
+	
+	
+	/**
+	 * 合成データを準備する。<br>
+	 * @throws MospException 合成データの作成に失敗した場合
+	 */
+	@Setup
+	public void setUp() throws MospException {
+		fixture = new BenchmarkFixture(1, 2016, 4, months);
+		personalId = fixture.getPersonalId(0);
+		int days = DateUtility.getDayDifference(fixture.getFirstDate(), fixture.getLastDate()) + 1;
+		dates = new Date[days];
+		for (int i = 0; i < days; i++) {
+			dates[i] = DateUtility.addDay(fixture.getFirstDate(), i);
+		}
+	}
+	
+	/**
+	 * 索引を作成する。<br>
+	 * @return 日毎申請索引エンティティ
+	 */
+	@Benchmark
+	public RequestIndexEntity create() {
+		return createEntity();
+	}
+	
+	/**
+	 * 索引を作成し、対象期間の日毎に参照する。<br>
+	 * @param blackhole ブラックホール
+	 */
+	@Benchmark
+	public void createAndLookup(Blackhole blackhole) {
+		RequestIndexEntity entity = createEntity();
+		for (Date date : dates) {
+			blackhole.consume(entity.getAttendanceDto(date));
+			blackhole.consume(entity.getHolidayRequestList(date));
+			blackhole.consume(entity.getOvertimeRequestList(date));
+		}
+	}
+	
+	/**
+	 * 合成データから日毎申請索引エンティティを作成する。<br>
+	 * @return 日毎申請索引エンティティ
+	 */
+	protected RequestIndexEntity createEntity() {
+		return new RequestIndexEntity(BenchmarkFixture.get(fixture.getAttendanceMap(), personalId), null,
+				BenchmarkFixture.get(fixture.getHolidayRequestMap(), personalId), null,
+				BenchmarkFixture.get(fixture.getOvertimeRequestMap(), personalId), null, null, null,
+				fixture.getWorkflowMap(personalId));
+	}
+	
+}
@@ -0,0 +1,68 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.time.bean.TotalTimeCalcBeanInterface;
+import jp.mosp.time.dto.settings.TotalTimeDataDtoInterface;
+
+/**
+ * 勤怠集計(TotalTimeCalcBean.calc)ベンチマーク。<br>
+ * <br>
+ * 社員を順に切り替えて、作成期間の最初の月を集計する。<br>
+ * 集計結果は登録しない。<br>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TotalTimeCalcBenchmark extends BaseDatabaseBenchmark {
+	
+	/**
+	 * 勤怠集計クラス。<br>
+	 */
+	protected TotalTimeCalcBeanInterface	totalTimeCalc;
+	
+	
+	@Override
+	protected void setUp() throws MospException {
+		totalTimeCalc = database.createBean(TotalTimeCalcBeanInterface.class);
+	}
+	
+	/**
+	 * 社員一人一月分を集計する。<br>
+	 * @return 勤怠集計データ
+	 * @throws MospException 勤怠集計に失敗した場合
+	 */
+	@Benchmark
+	public TotalTimeDataDtoInterface calc() throws MospException {
+		return totalTimeCalc.calc(nextPersonalId(), YEAR, MONTH);
+	}
+	
+}
@@ -0,0 +1,102 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.platform.bean.system.PlatformMasterBeanInterface;
+import jp.mosp.time.bean.TimeMasterBeanInterface;
+import jp.mosp.time.bean.TotalTimeEntityReferenceBeanInterface;
+import jp.mosp.time.entity.TotalTimeEntity;
+import jp.mosp.time.entity.TotalTimeEntityInterface;
+
+/**
+ * 勤怠集計エンティティ({@link TotalTimeEntity#total()})ベンチマーク。<br>
+ * <br>
+ * 集計に必要な情報を準備時にインメモリDBから取得しておき、
+ * 計測ではメモリ上の集計処理のみを行う。<br>
+ * 併せて、集計に必要な情報の取得(エンティティの作成)を計測する。<br>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TotalTimeEntityBenchmark extends BaseDatabaseBenchmark {
+	
+	/**
+	 * 勤怠集計エンティティ取得クラス。<br>
+	 */
+	protected TotalTimeEntityReferenceBeanInterface	totalTimeEntityRefer;
+	
+	/**
+	 * 勤怠集計エンティティ(最初の社員の作成期間の最初の月)。<br>
+	 */
+	protected TotalTimeEntityInterface				entity;
+	
+	
+	@Override
+	protected void setUp() throws MospException {
+		totalTimeEntityRefer = database.createBean(TotalTimeEntityReferenceBeanInterface.class);
+		// マスタ参照クラスを勤怠集計エンティティ取得クラスに設定(勤怠集計クラスと同様)
+		totalTimeEntityRefer.setPlatformMasterBean(database.createBean(PlatformMasterBeanInterface.class));
+		totalTimeEntityRefer.setTimeMasterBean(database.createBean(TimeMasterBeanInterface.class));
+		entity = getTotalTimeEntity(fixture.getPersonalId(0));
+	}
+	
+	/**
+	 * 集計処理を行う。<br>
+	 * 集計処理は集計値を初期化してから行うため、繰り返し実行できる。<br>
+	 * @return 勤怠集計エンティティ
+	 */
+	@Benchmark
+	public TotalTimeEntityInterface total() {
+		entity.total();
+		return entity;
+	}
+	
+	/**
+	 * 社員を順に切り替えて、勤怠集計エンティティを作成する。<br>
+	 * @return 勤怠集計エンティティ
+	 * @throws MospException 勤怠集計エンティティの作成に失敗した場合
+	 */
+	@Benchmark
+	public TotalTimeEntityInterface getTotalTimeEntity() throws MospException {
+		return getTotalTimeEntity(nextPersonalId());
+	}
+	
+	/**
+	 * 作成期間の最初の月の勤怠集計エンティティを作成する。<br>
+	 * @param personalId 個人ID
+	 * @return 勤怠集計エンティティ
+	 * @throws MospException 勤怠集計エンティティの作成に失敗した場合
+	 */
+	protected TotalTimeEntityInterface getTotalTimeEntity(String personalId) throws MospException {
+		return totalTimeEntityRefer.getTotalTimeEntity(personalId, YEAR, MONTH, fixture.getCutoffDto());
+	}
+	
+}
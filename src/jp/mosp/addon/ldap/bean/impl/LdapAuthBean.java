@@ -1,15 +1,25 @@
 package jp.mosp.addon.ldap.bean.impl;
 
 import java.sql.Connection;
-import java.util.Properties;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import javax.naming.Context;
 import javax.naming.NameNotFoundException;
 import javax.naming.NamingEnumeration;
-import javax.naming.directory.DirContext;
-import javax.naming.directory.InitialDirContext;
 import javax.naming.directory.SearchControls;
 import javax.naming.directory.SearchResult;
+import javax.naming.ldap.LdapContext;
 
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.base.MospParams;
@@ -22,28 +32,55 @@ import jp.mosp.platform.constant.PlatformMessageConst;
  * 認証クラス。<br>
  * <br>
  * LDAPを用いて認証処理を行う。<br>
+ * LDAPへの接続は{@link LdapContextPool}で再利用し、認証できたものは
+ * {@link LdapAuthCache}で短時間保持する。<br>
  */
 public class LdapAuthBean extends PlatformBean implements AuthBeanInterface {
 	
 	/**
 	 * MosPアプリケーション設定キー(ユーザID接尾辞)。
 	 */
-	public static final String		APP_SUFFIX_USER_ID		= "SuffixUserId";
+	public static final String				APP_SUFFIX_USER_ID			= "SuffixUserId";
 	
 	/**
 	 * MosPアプリケーション設定キー(LDAPプロバイダURL)。
 	 */
-	public static final String		APP_LDAP_PROVIDER_URL	= "LdapProviderUrl";
+	public static final String				APP_LDAP_PROVIDER_URL		= "LdapProviderUrl";
 	
 	/**
 	 * MosPアプリケーション設定キー(LDAPディレクトリ名)。
 	 */
-	public static final String		APP_LDAP_DIR_NAME		= "LdapDirName";
+	public static final String				APP_LDAP_DIR_NAME			= "LdapDirName";
 	
 	/**
 	 * LDAPディレクトリ名置換文字。
 	 */
-	protected static final String	REPLACE_CHARACTER		= "%";
+	protected static final String			REPLACE_CHARACTER			= "%";
+	
+	/**
+	 * LDAPプロバイダ問合せスレッド数。
+	 */
+	protected static final int				PROBE_THREADS				= 16;
+	
+	/**
+	 * LDAPプロバイダ問合せスレッド破棄時間(ミリ秒)。
+	 */
+	protected static final long				PROBE_KEEP_ALIVE			= 60000L;
+	
+	/**
+	 * LDAPプロバイダ問合せスレッド名接頭辞。
+	 */
+	protected static final String			PROBE_THREAD_NAME_PREFIX	= "mosp-ldap-";
+	
+	/**
+	 * LDAPプロバイダ問合せスレッド番号。
+	 */
+	protected static final AtomicInteger	PROBE_THREAD_NUMBER			= new AtomicInteger();
+	
+	/**
+	 * LDAPプロバイダ問合せ用スレッドプール(初回問合せ時に生成)。
+	 */
+	private static ThreadPoolExecutor		probeExecutor;
 	
 	
 	/**
@@ -68,20 +105,79 @@ public class LdapAuthBean extends PlatformBean implements AuthBeanInterface {
 	}
 	
 	@Override
-	@SuppressWarnings("unused")
 	public void authenticate(String userId, String password) throws MospException {
 		// 接尾辞付きユーザID取得
 		String suffixedUserId = userId + mospParams.getApplicationProperty(APP_SUFFIX_USER_ID);
-		for (String providerUrl : mospParams.getApplicationProperties(APP_LDAP_PROVIDER_URL)) {
-			// ユーザ存在確認・パスワード妥当性確認
-			if (isUserExist(suffixedUserId, providerUrl) && isPasswordValid(suffixedUserId, password, providerUrl)) {
-				return;
-			}
+		// 認証キャッシュ確認(保持時間内に同じパスワードで認証済の場合)
+		if (LdapAuthCache.isAuthenticated(mospParams, suffixedUserId, password)) {
+			return;
+		}
+		// ユーザ存在確認・パスワード妥当性確認
+		if (isAuthenticated(suffixedUserId, password, mospParams.getApplicationProperties(APP_LDAP_PROVIDER_URL))) {
+			LdapAuthCache.put(mospParams, suffixedUserId, password);
+			return;
 		}
+		// 認証キャッシュ破棄(パスワードが変更された場合に変更前のパスワードで認証させない)
+		LdapAuthCache.remove(suffixedUserId);
 		// エラーメッセージ追加
 		mospParams.addErrorMessage(PlatformMessageConst.MSG_AUTH_FAILED);
 	}
 	
+	/**
+	 * LDAPプロバイダ群に問い合わせ、認証を行う。<br>
+	 * LDAPプロバイダが複数ある場合は同時に問い合わせ、最初に認証できた時点で認証成功とする。<br>
+	 * 停止しているLDAPプロバイダがあっても、他のLDAPプロバイダで認証できれば待たされない。<br>
+	 * @param userId       ユーザID
+	 * @param password     パスワード
+	 * @param providerUrls LDAPプロバイダURL群
+	 * @return 認証結果(true：認証成功、false：認証失敗)
+	 */
+	protected boolean isAuthenticated(String userId, String password, String[] providerUrls) {
+		if (providerUrls.length == 0) {
+			return false;
+		}
+		if (providerUrls.length == 1) {
+			return isAuthenticated(userId, password, providerUrls[0]);
+		}
+		CompletionService<Boolean> service = new ExecutorCompletionService<Boolean>(getProbeExecutor());
+		List<Future<Boolean>> futures = new ArrayList<Future<Boolean>>();
+		for (String providerUrl : providerUrls) {
+			futures.add(service.submit(new ProviderProbe(userId, password, providerUrl)));
+		}
+		try {
+			for (int i = 0; i < futures.size(); i++) {
+				try {
+					if (service.take().get()) {
+						return true;
+					}
+				} catch (ExecutionException e) {
+					// エラーログ出力(他のLDAPプロバイダの結果を待つ)
+					LogUtility.error(mospParams, e.getCause());
+				}
+			}
+			return false;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		} finally {
+			// 開始されていない問合せは取消(実行中のものは完了後にコンテキストを返却)
+			for (Future<Boolean> future : futures) {
+				future.cancel(false);
+			}
+		}
+	}
+	
+	/**
+	 * LDAPプロバイダに問い合わせ、認証を行う。<br>
+	 * @param userId      ユーザID
+	 * @param password    パスワード
+	 * @param providerUrl LDAPプロバイダURL
+	 * @return 認証結果(true：認証成功、false：認証失敗)
+	 */
+	protected boolean isAuthenticated(String userId, String password, String providerUrl) {
+		return isUserExist(userId, providerUrl) && isPasswordValid(userId, password, providerUrl);
+	}
+	
 	/**
 	 * ユーザの存在確認を行う。<br>
 	 * @param userId ユーザID
@@ -89,15 +185,14 @@ public class LdapAuthBean extends PlatformBean implements AuthBeanInterface {
 	 * @return 確認結果(true：存在する、false：存在しない)
 	 */
 	protected boolean isUserExist(String userId, String providerUrl) {
+		// LDAPコンテキストプール取得
+		LdapContextPool pool = LdapContextPool.getPool(mospParams, providerUrl);
 		// ディレクトリサービスインターフェース宣言
-		DirContext dirContext = null;
-		// 接続情報準備
-		Properties env = new Properties();
-		env.setProperty(Context.INITIAL_CONTEXT_FACTORY, "com.sun.jndi.ldap.LdapCtxFactory");
-		env.put(Context.PROVIDER_URL, providerUrl);
+		LdapContext dirContext = null;
+		boolean isReusable = false;
 		try {
 			// Anonymous(匿名)接続
-			dirContext = new InitialDirContext(env);
+			dirContext = pool.getContext();
 			// 検索準備
 			SearchControls ctrl = new SearchControls();
 			ctrl.setSearchScope(SearchControls.SUBTREE_SCOPE);
@@ -106,66 +201,99 @@ public class LdapAuthBean extends PlatformBean implements AuthBeanInterface {
 			dirName = dirName.replaceAll(REPLACE_CHARACTER, userId);
 			// ユーザIDで検索
 			NamingEnumeration<SearchResult> result = dirContext.search(dirName, "objectclass=*", ctrl);
-			// 検索結果確認
-			if (result.hasMoreElements()) {
-				return true;
+			try {
+				// 検索結果確認
+				boolean isExist = result.hasMoreElements();
+				isReusable = true;
+				return isExist;
+			} finally {
+				result.close();
 			}
-			return false;
 		} catch (NameNotFoundException e) {
 			// ユーザが存在しない場合
+			isReusable = true;
 			return false;
 		} catch (Throwable t) {
 			// エラーログ出力
 			LogUtility.error(mospParams, t);
 			return false;
 		} finally {
-			if (dirContext != null) {
-				try {
-					dirContext.close();
-				} catch (Throwable t) {
-					LogUtility.error(mospParams, t);
-				}
-			}
+			release(pool, dirContext, isReusable);
 		}
 	}
 	
 	/**
 	 * パスワードの妥当性確認を行う。<br>
+	 * パスワードが空の場合は、未認証バインドとなるのを防ぐため、妥当でないとする。<br>
 	 * @param userId   ユーザID
 	 * @param password パスワード
 	 * @param providerUrl プロバイダURL
 	 * @return 確認結果(true：妥当である、false：妥当でない)
 	 */
 	protected boolean isPasswordValid(String userId, String password, String providerUrl) {
+		if (password == null || password.isEmpty()) {
+			// 認証失敗ログ出力
+			LogUtility.application(mospParams, getLdapAuthFailedMessage());
+			return false;
+		}
+		// LDAPコンテキストプール取得
+		LdapContextPool pool = LdapContextPool.getPool(mospParams, providerUrl);
 		// ディレクトリサービスインターフェース宣言
-		DirContext dirContext = null;
+		LdapContext dirContext = null;
+		boolean isReusable = false;
 		// ディレクトリ名作成
 		String dirName = mospParams.getApplicationProperty(APP_LDAP_DIR_NAME);
 		dirName = dirName.replaceAll(REPLACE_CHARACTER, userId);
-		// 接続情報準備
-		Properties env = new Properties();
-		env.setProperty(Context.INITIAL_CONTEXT_FACTORY, "com.sun.jndi.ldap.LdapCtxFactory");
-		env.put(Context.PROVIDER_URL, providerUrl);
-		env.put(Context.SECURITY_AUTHENTICATION, "simple");
-		env.put(DirContext.SECURITY_PRINCIPAL, dirName);
-		env.put(DirContext.SECURITY_CREDENTIALS, password);
 		try {
-			// バインド認証接続
-			dirContext = new InitialDirContext(env);
-			return true;
+			// バインド認証(取得したコンテキストでバインドし直す)
+			dirContext = pool.getContext();
+			boolean isValid = pool.bind(dirContext, dirName, password);
+			// Anonymous(匿名)に戻せた場合はプールへ返却
+			isReusable = pool.resetBind(dirContext);
+			if (isValid == false) {
+				// 認証失敗ログ出力
+				LogUtility.application(mospParams, getLdapAuthFailedMessage());
+			}
+			return isValid;
 		} catch (Throwable t) {
 			// 認証失敗ログ出力
 			LogUtility.application(mospParams, getLdapAuthFailedMessage());
 			return false;
 		} finally {
-			if (dirContext != null) {
-				try {
-					dirContext.close();
-				} catch (Throwable t) {
-					LogUtility.error(mospParams, t);
-				}
-			}
+			release(pool, dirContext, isReusable);
+		}
+	}
+	
+	/**
+	 * コンテキストを返却する。<br>
+	 * 再利用できない場合は、プールへ返却せずに切断する。<br>
+	 * @param pool       LDAPコンテキストプール
+	 * @param dirContext コンテキスト
+	 * @param isReusable 再利用可否(true：再利用可、false：再利用不可)
+	 */
+	protected void release(LdapContextPool pool, LdapContext dirContext, boolean isReusable) {
+		if (dirContext == null) {
+			return;
+		}
+		if (isReusable) {
+			pool.returnContext(dirContext);
+			return;
 		}
+		pool.invalidate(dirContext);
+	}
+	
+	/**
+	 * LDAPプロバイダ問合せ用スレッドプールを取得する。<br>
+	 * 初回のみ生成し、待機しているスレッドは一定時間後に破棄する。<br>
+	 * @return LDAPプロバイダ問合せ用スレッドプール
+	 */
+	protected static synchronized ExecutorService getProbeExecutor() {
+		if (probeExecutor == null) {
+			probeExecutor = new ThreadPoolExecutor(PROBE_THREADS, PROBE_THREADS, PROBE_KEEP_ALIVE,
+					TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(), new ProbeThreadFactory());
+			probeExecutor.allowCoreThreadTimeOut(true);
+		}
+		return probeExecutor;
 	}
 	
 	/**
@@ -175,4 +303,61 @@ public class LdapAuthBean extends PlatformBean implements AuthBeanInterface {
 	protected String getLdapAuthFailedMessage() {
 		return mospParams.getName("ldapAuthFailed");
 	}
+	
+	
+	/**
+	 * LDAPプロバイダ問合せクラス。<br>
+	 */
+	protected class ProviderProbe implements Callable<Boolean> {
+		
+		/**
+		 * ユーザID。
+		 */
+		private final String	userId;
+		
+		/**
+		 * パスワード。
+		 */
+		private final String	password;
+		
+		/**
+		 * LDAPプロバイダURL。
+		 */
+		private final String	providerUrl;
+		
+		
+		/**
+		 * LDAPプロバイダ問合せクラスを生成する。<br>
+		 * @param userId      ユーザID
+		 * @param password    パスワード
+		 * @param providerUrl LDAPプロバイダURL
+		 */
+		protected ProviderProbe(String userId, String password, String providerUrl) {
+			this.userId = userId;
+			this.password = password;
+			this.providerUrl = providerUrl;
+		}
+		
+		@Override
+		public Boolean call() {
+			return isAuthenticated(userId, password, providerUrl);
+		}
+		
+	}
+	
+	/**
+	 * LDAPプロバイダ問合せスレッド生成クラス。<br>
+	 * アプリケーション終了を妨げないように、デーモンスレッドを生成する。<br>
+	 */
+	protected static class ProbeThreadFactory implements ThreadFactory {
+		
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, PROBE_THREAD_NAME_PREFIX + PROBE_THREAD_NUMBER.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+		
+	}
+	
 }
@@ -0,0 +1,225 @@
+package jp.mosp.addon.ldap.bean.impl;
+
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import jp.mosp.framework.base.MospParams;
+
+/**
+ * LDAP認証キャッシュ。<br>
+ * <br>
+ * LDAPで認証できたユーザIDとパスワードを短時間保持し、
+ * 始業時等に認証が集中した場合のLDAPへの問合せを減らす。<br>
+ * 認証に失敗したものは保持しない。<br>
+ * <br>
+ * パスワードは保持せず、アプリケーション起動毎に生成するソルトを付けたハッシュ値のみを保持する。<br>
+ * パスワードが変更された場合は、ハッシュ値が一致しないため、LDAPで認証し直す。<br>
+ * LDAPで認証に失敗した場合は、保持しているものを破棄する。<br>
+ */
+public final class LdapAuthCache {
+	
+	/**
+	 * MosPアプリケーション設定キー(LDAP認証キャッシュ保持時間(秒))。<br>
+	 * 0以下の場合は、キャッシュを利用しない。<br>
+	 */
+	public static final String				APP_LDAP_AUTH_CACHE_TTL	= "LdapAuthCacheTtl";
+	
+	/**
+	 * 保持時間初期値(秒)。
+	 */
+	protected static final int				DEFAULT_TTL				= 60;
+	
+	/**
+	 * 最大保持件数。
+	 */
+	protected static final int				MAX_SIZE				= 10000;
+	
+	/**
+	 * ハッシュアルゴリズム。
+	 */
+	protected static final String			ALGORITHM				= "SHA-256";
+	
+	/**
+	 * ソルト長(バイト)。
+	 */
+	protected static final int				SALT_LENGTH				= 16;
+	
+	/**
+	 * ソルト(アプリケーション起動毎に生成)。
+	 */
+	private static final byte[]				SALT					= createSalt();
+	
+	/**
+	 * 認証情報群(キー：ユーザID、値：ハッシュ値及び有効期限)。
+	 */
+	private static final Map<String, Entry>	ENTRIES					= new LinkedHashMap<String, Entry>();
+	
+	
+	/**
+	 * 他クラスからのインスタンス化を防止する。<br>
+	 */
+	private LdapAuthCache() {
+		// 処理無し
+	}
+	
+	/**
+	 * 認証済であるかを確認する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param userId     ユーザID
+	 * @param password   パスワード
+	 * @return 確認結果(true：保持時間内に同じパスワードで認証済、false：それ以外)
+	 */
+	public static boolean isAuthenticated(MospParams mospParams, String userId, String password) {
+		if (getTtl(mospParams) <= 0) {
+			return false;
+		}
+		String hash = getHash(userId, password);
+		if (hash == null) {
+			return false;
+		}
+		synchronized (ENTRIES) {
+			Entry entry = ENTRIES.get(userId);
+			if (entry == null) {
+				return false;
+			}
+			if (entry.expire < System.currentTimeMillis()) {
+				ENTRIES.remove(userId);
+				return false;
+			}
+			return MessageDigest.isEqual(hash.getBytes(), entry.hash.getBytes());
+		}
+	}
+	
+	/**
+	 * 認証済として保持する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param userId     ユーザID
+	 * @param password   パスワード
+	 */
+	public static void put(MospParams mospParams, String userId, String password) {
+		long ttl = getTtl(mospParams);
+		if (ttl <= 0) {
+			return;
+		}
+		String hash = getHash(userId, password);
+		if (hash == null) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		synchronized (ENTRIES) {
+			// 最大保持件数を超える場合は有効期限切れのものを破棄し、それでも超える場合は古いものから破棄
+			if (ENTRIES.size() >= MAX_SIZE) {
+				removeExpired(now);
+			}
+			while (ENTRIES.size() >= MAX_SIZE) {
+				ENTRIES.remove(ENTRIES.keySet().iterator().next());
+			}
+			ENTRIES.remove(userId);
+			ENTRIES.put(userId, new Entry(hash, now + ttl * 1000L));
+		}
+	}
+	
+	/**
+	 * 認証済として保持しているものを破棄する。<br>
+	 * LDAPで認証に失敗した場合に、変更前のパスワードで認証できないようにするために用いる。<br>
+	 * @param userId ユーザID
+	 */
+	public static void remove(String userId) {
+		synchronized (ENTRIES) {
+			ENTRIES.remove(userId);
+		}
+	}
+	
+	/**
+	 * 保持時間を取得する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 保持時間(秒)
+	 */
+	protected static long getTtl(MospParams mospParams) {
+		return mospParams.getApplicationProperty(APP_LDAP_AUTH_CACHE_TTL, DEFAULT_TTL);
+	}
+	
+	/**
+	 * 有効期限切れのものを破棄する。<br>
+	 * @param now 現在時刻(ミリ秒)
+	 */
+	private static void removeExpired(long now) {
+		Iterator<Entry> iterator = ENTRIES.values().iterator();
+		while (iterator.hasNext()) {
+			if (iterator.next().expire < now) {
+				iterator.remove();
+			}
+		}
+	}
+	
+	/**
+	 * ソルトを付けたハッシュ値を取得する。<br>
+	 * @param userId   ユーザID
+	 * @param password パスワード
+	 * @return ハッシュ値(16進数文字列、ハッシュアルゴリズムが利用できない場合はnull)
+	 */
+	protected static String getHash(String userId, String password) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance(ALGORITHM);
+			digest.update(SALT);
+			digest.update(userId.getBytes("UTF-8"));
+			digest.update((byte)0);
+			digest.update(password.getBytes("UTF-8"));
+			StringBuilder sb = new StringBuilder();
+			for (byte b : digest.digest()) {
+				sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+				sb.append(Character.forDigit(b & 0xF, 16));
+			}
+			return sb.toString();
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		} catch (UnsupportedEncodingException e) {
+			return null;
+		}
+	}
+	
+	/**
+	 * ソルトを生成する。<br>
+	 * @return ソルト
+	 */
+	private static byte[] createSalt() {
+		byte[] salt = new byte[SALT_LENGTH];
+		new SecureRandom().nextBytes(salt);
+		return salt;
+	}
+	
+	
+	/**
+	 * 認証情報。<br>
+	 */
+	private static class Entry {
+		
+		/**
+		 * ハッシュ値。
+		 */
+		private final String	hash;
+		
+		/**
+		 * 有効期限(ミリ秒)。
+		 */
+		private final long		expire;
+		
+		
+		/**
+		 * 認証情報を生成する。<br>
+		 * @param hash   ハッシュ値
+		 * @param expire 有効期限(ミリ秒)
+		 */
+		Entry(String hash, long expire) {
+			this.hash = hash;
+			this.expire = expire;
+		}
+		
+	}
+	
+}
@@ -0,0 +1,462 @@
+package jp.mosp.addon.ldap.bean.impl;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Hashtable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import javax.naming.AuthenticationException;
+import javax.naming.Context;
+import javax.naming.NamingException;
+import javax.naming.ldap.InitialLdapContext;
+import javax.naming.ldap.LdapContext;
+
+import jp.mosp.framework.base.MospParams;
+
+/**
+ * LDAPコンテキストプール。<br>
+ * <br>
+ * LDAPプロバイダURL毎に、Anonymous(匿名)接続したコンテキストを保持し、
+ * 認証毎の接続を不要とする。<br>
+ * プールの設定は、MosPアプリケーション設定(ldap.xml)から取得する。<br>
+ * <br>
+ * 一定時間待機していたコンテキストは、取得時にルートDSEを参照して接続を検証し、
+ * 検証に失敗したものは破棄する。<br>
+ * 貸出中のコンテキストが最大貸出数に達している場合は返却を待ち、
+ * 最大待機時間を超えた場合は取得に失敗する。<br>
+ * パスワードの確認は、取得したコンテキストでバインドし直すことで行い、
+ * 確認後はAnonymous(匿名)に戻してからプールへ返却する。<br>
+ */
+public class LdapContextPool {
+	
+	/**
+	 * MosPアプリケーション設定キー(LDAP接続タイムアウト(ミリ秒))。
+	 */
+	public static final String							APP_LDAP_CONNECT_TIMEOUT	= "LdapConnectTimeout";
+	
+	/**
+	 * MosPアプリケーション設定キー(LDAP読込タイムアウト(ミリ秒))。
+	 */
+	public static final String							APP_LDAP_READ_TIMEOUT		= "LdapReadTimeout";
+	
+	/**
+	 * MosPアプリケーション設定キー(LDAPコンテキストプール：最大待機数)。
+	 */
+	public static final String							APP_LDAP_POOL_MAX_IDLE		= "LdapPoolMaxIdle";
+	
+	/**
+	 * MosPアプリケーション設定キー(LDAPコンテキストプール：最大貸出数)。
+	 */
+	public static final String							APP_LDAP_POOL_MAX_TOTAL		= "LdapPoolMaxTotal";
+	
+	/**
+	 * MosPアプリケーション設定キー(LDAPコンテキストプール：最大待機時間(ミリ秒))。
+	 */
+	public static final String							APP_LDAP_POOL_MAX_WAIT		= "LdapPoolMaxWait";
+	
+	/**
+	 * MosPアプリケーション設定キー(LDAPコンテキストプール：待機コンテキスト破棄時間(秒))。
+	 */
+	public static final String							APP_LDAP_POOL_IDLE_TIMEOUT	= "LdapPoolIdleTimeout";
+	
+	/**
+	 * LDAPコンテキストファクトリ。
+	 */
+	protected static final String						CONTEXT_FACTORY				= "com.sun.jndi.ldap.LdapCtxFactory";
+	
+	/**
+	 * 環境プロパティキー(接続タイムアウト)。
+	 */
+	protected static final String						ENV_CONNECT_TIMEOUT			= "com.sun.jndi.ldap.connect.timeout";
+	
+	/**
+	 * 環境プロパティキー(読込タイムアウト)。
+	 */
+	protected static final String						ENV_READ_TIMEOUT			= "com.sun.jndi.ldap.read.timeout";
+	
+	/**
+	 * 認証方式(匿名)。
+	 */
+	protected static final String						AUTHENTICATION_NONE			= "none";
+	
+	/**
+	 * 認証方式(簡易)。
+	 */
+	protected static final String						AUTHENTICATION_SIMPLE		= "simple";
+	
+	/**
+	 * 検証用属性(ルートDSE)。
+	 */
+	protected static final String[]						VALIDATION_ATTRIBUTES		= { "supportedLDAPVersion" };
+	
+	/**
+	 * 接続タイムアウト初期値(ミリ秒)。
+	 */
+	protected static final int							DEFAULT_CONNECT_TIMEOUT		= 5000;
+	
+	/**
+	 * 読込タイムアウト初期値(ミリ秒)。
+	 */
+	protected static final int							DEFAULT_READ_TIMEOUT		= 10000;
+	
+	/**
+	 * 最大待機数初期値。
+	 */
+	protected static final int							DEFAULT_MAX_IDLE			= 10;
+	
+	/**
+	 * 最大貸出数初期値。
+	 */
+	protected static final int							DEFAULT_MAX_TOTAL			= 20;
+	
+	/**
+	 * 最大待機時間初期値(ミリ秒)。
+	 */
+	protected static final int							DEFAULT_MAX_WAIT			= 5000;
+	
+	/**
+	 * 待機コンテキスト破棄時間初期値(秒)。
+	 */
+	protected static final int							DEFAULT_IDLE_TIMEOUT		= 300;
+	
+	/**
+	 * 検証間隔(ミリ秒)。<br>
+	 * 待機していた時間がこれを超えたコンテキストを、取得時に検証する。<br>
+	 */
+	protected static final long							VALIDATION_INTERVAL			= 30000L;
+	
+	/**
+	 * LDAPコンテキストプール群(キー：LDAPプロバイダURL)。
+	 */
+	protected static final Map<String, LdapContextPool>	POOLS						= new ConcurrentHashMap<String, LdapContextPool>();
+	
+	/**
+	 * LDAPプロバイダURL。
+	 */
+	protected final String								providerUrl;
+	
+	/**
+	 * 接続タイムアウト(ミリ秒)。
+	 */
+	protected final int									connectTimeout;
+	
+	/**
+	 * 読込タイムアウト(ミリ秒)。
+	 */
+	protected final int									readTimeout;
+	
+	/**
+	 * 最大待機数。
+	 */
+	protected final int									maxIdle;
+	
+	/**
+	 * 最大待機時間(ミリ秒)。
+	 */
+	protected final long								maxWait;
+	
+	/**
+	 * 待機コンテキスト破棄時間(ミリ秒)。
+	 */
+	protected final long								idleTimeout;
+	
+	/**
+	 * 待機コンテキスト群(最後に返却されたものが先頭)。
+	 */
+	protected final Deque<PooledContext>				idle						= new ArrayDeque<PooledContext>();
+	
+	/**
+	 * 貸出枠(最大貸出数から貸出中のコンテキスト数を除いたもの)。
+	 */
+	protected final Semaphore							permits;
+	
+	
+	/**
+	 * LDAPコンテキストプールを生成する。<br>
+	 * @param providerUrl LDAPプロバイダURL
+	 * @param mospParams  MosP処理情報
+	 */
+	protected LdapContextPool(String providerUrl, MospParams mospParams) {
+		this.providerUrl = providerUrl;
+		connectTimeout = getTimeout(mospParams, APP_LDAP_CONNECT_TIMEOUT, DEFAULT_CONNECT_TIMEOUT);
+		readTimeout = getTimeout(mospParams, APP_LDAP_READ_TIMEOUT, DEFAULT_READ_TIMEOUT);
+		maxIdle = Math.max(0, mospParams.getApplicationProperty(APP_LDAP_POOL_MAX_IDLE, DEFAULT_MAX_IDLE));
+		maxWait = Math.max(0, mospParams.getApplicationProperty(APP_LDAP_POOL_MAX_WAIT, DEFAULT_MAX_WAIT));
+		permits = new Semaphore(Math.max(1, mospParams.getApplicationProperty(APP_LDAP_POOL_MAX_TOTAL,
+				DEFAULT_MAX_TOTAL)), true);
+		idleTimeout = Math.max(0, mospParams.getApplicationProperty(APP_LDAP_POOL_IDLE_TIMEOUT, DEFAULT_IDLE_TIMEOUT))
+				* 1000L;
+	}
+	
+	/**
+	 * LDAPコンテキストプールを取得する。<br>
+	 * 初回のみ、MosPアプリケーション設定に従って生成する。<br>
+	 * @param mospParams  MosP処理情報
+	 * @param providerUrl LDAPプロバイダURL
+	 * @return LDAPコンテキストプール
+	 */
+	public static LdapContextPool getPool(MospParams mospParams, String providerUrl) {
+		LdapContextPool pool = POOLS.get(providerUrl);
+		if (pool == null) {
+			synchronized (POOLS) {
+				pool = POOLS.get(providerUrl);
+				if (pool == null) {
+					pool = new LdapContextPool(providerUrl, mospParams);
+					POOLS.put(providerUrl, pool);
+				}
+			}
+		}
+		return pool;
+	}
+	
+	/**
+	 * 接続及び読込のタイムアウトを取得する。<br>
+	 * @param mospParams   MosP処理情報
+	 * @param key          MosPアプリケーション設定キー
+	 * @param defaultValue 初期値
+	 * @return 接続及び読込のタイムアウト(ミリ秒)
+	 */
+	public static int getTimeout(MospParams mospParams, String key, int defaultValue) {
+		return Math.max(0, mospParams.getApplicationProperty(key, defaultValue));
+	}
+	
+	/**
+	 * Anonymous(匿名)接続したコンテキストを取得する。<br>
+	 * 待機コンテキストがあればそれを、無ければ新たに接続したものを返す。<br>
+	 * 最大貸出数に達している場合は、最大待機時間まで返却を待つ。<br>
+	 * 取得したコンテキストは、{@link #returnContext(LdapContext)}又は
+	 * {@link #invalidate(LdapContext)}で必ず返却すること。<br>
+	 * @return コンテキスト
+	 * @throws NamingException 接続に失敗した場合、或いは最大待機時間を超えた場合
+	 */
+	public LdapContext getContext() throws NamingException {
+		// 貸出枠確保
+		acquire();
+		boolean isBorrowed = false;
+		try {
+			LdapContext context = pollContext();
+			isBorrowed = true;
+			return context;
+		} finally {
+			if (isBorrowed == false) {
+				permits.release();
+			}
+		}
+	}
+	
+	/**
+	 * 貸出枠を確保する。<br>
+	 * @throws NamingException 最大待機時間を超えた場合、或いは待機中に割込が発生した場合
+	 */
+	protected void acquire() throws NamingException {
+		try {
+			if (permits.tryAcquire(maxWait, TimeUnit.MILLISECONDS)) {
+				return;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new NamingException("LdapContextPool interrupted: " + providerUrl);
+		}
+		throw new NamingException("LdapContextPool wait timeout(" + maxWait + "ms): " + providerUrl);
+	}
+	
+	/**
+	 * 待機コンテキストを取得する。<br>
+	 * 利用できる待機コンテキストが無い場合は、新たに接続する。<br>
+	 * @return コンテキスト
+	 * @throws NamingException 接続に失敗した場合
+	 */
+	protected LdapContext pollContext() throws NamingException {
+		long now = System.currentTimeMillis();
+		PooledContext pooled = poll();
+		while (pooled != null) {
+			long idleTime = now - pooled.lastUsed;
+			if (idleTime > idleTimeout) {
+				// 待機コンテキスト破棄時間を超えた場合は破棄
+				close(pooled.context);
+			} else if (idleTime <= VALIDATION_INTERVAL || isValid(pooled.context)) {
+				return pooled.context;
+			}
+			pooled = poll();
+		}
+		return new InitialLdapContext(getEnvironment(), null);
+	}
+	
+	/**
+	 * コンテキストをプールへ返却する。<br>
+	 * 最大待機数を超える場合は切断する。<br>
+	 * @param context コンテキスト
+	 */
+	public void returnContext(LdapContext context) {
+		if (context == null) {
+			return;
+		}
+		try {
+			synchronized (idle) {
+				if (idle.size() < maxIdle) {
+					idle.addFirst(new PooledContext(context, System.currentTimeMillis()));
+					return;
+				}
+			}
+			close(context);
+		} finally {
+			permits.release();
+		}
+	}
+	
+	/**
+	 * 利用できなくなったコンテキストを、プールへ返却せずに切断する。<br>
+	 * @param context コンテキスト
+	 */
+	public void invalidate(LdapContext context) {
+		if (context == null) {
+			return;
+		}
+		try {
+			close(context);
+		} finally {
+			permits.release();
+		}
+	}
+	
+	/**
+	 * コンテキストでバインドし直し、パスワードを確認する。<br>
+	 * 確認後は、{@link #resetBind(LdapContext)}でAnonymous(匿名)に戻すこと。<br>
+	 * @param context  コンテキスト
+	 * @param dirName  ディレクトリ名
+	 * @param password パスワード
+	 * @return 確認結果(true：妥当である、false：妥当でない)
+	 * @throws NamingException 認証以外の理由でバインドに失敗した場合(コンテキストは利用不可)
+	 */
+	public boolean bind(LdapContext context, String dirName, String password) throws NamingException {
+		context.addToEnvironment(Context.SECURITY_AUTHENTICATION, AUTHENTICATION_SIMPLE);
+		context.addToEnvironment(Context.SECURITY_PRINCIPAL, dirName);
+		context.addToEnvironment(Context.SECURITY_CREDENTIALS, password);
+		try {
+			context.reconnect(null);
+			return true;
+		} catch (AuthenticationException e) {
+			return false;
+		}
+	}
+	
+	/**
+	 * コンテキストをAnonymous(匿名)でバインドし直す。<br>
+	 * @param context コンテキスト
+	 * @return 結果(true：プールへ返却可、false：利用不可)
+	 */
+	public boolean resetBind(LdapContext context) {
+		try {
+			context.removeFromEnvironment(Context.SECURITY_PRINCIPAL);
+			context.removeFromEnvironment(Context.SECURITY_CREDENTIALS);
+			context.addToEnvironment(Context.SECURITY_AUTHENTICATION, AUTHENTICATION_NONE);
+			context.reconnect(null);
+			return true;
+		} catch (NamingException e) {
+			return false;
+		}
+	}
+	
+	/**
+	 * 接続情報を取得する。<br>
+	 * @return 接続情報
+	 */
+	protected Hashtable<String, Object> getEnvironment() {
+		Hashtable<String, Object> env = new Hashtable<String, Object>();
+		env.put(Context.INITIAL_CONTEXT_FACTORY, CONTEXT_FACTORY);
+		env.put(Context.PROVIDER_URL, providerUrl);
+		env.put(Context.SECURITY_AUTHENTICATION, AUTHENTICATION_NONE);
+		env.put(ENV_CONNECT_TIMEOUT, String.valueOf(connectTimeout));
+		env.put(ENV_READ_TIMEOUT, String.valueOf(readTimeout));
+		return env;
+	}
+	
+	/**
+	 * ルートDSEを参照して、コンテキストの接続を検証する。<br>
+	 * 検証に失敗した場合は、コンテキストを切断する。<br>
+	 * @param context コンテキスト
+	 * @return 検証結果(true：利用可能、false：利用不可)
+	 */
+	protected boolean isValid(LdapContext context) {
+		try {
+			context.getAttributes("", VALIDATION_ATTRIBUTES);
+			return true;
+		} catch (NamingException e) {
+			close(context);
+			return false;
+		}
+	}
+	
+	/**
+	 * 待機コンテキスト数を取得する。<br>
+	 * @return 待機コンテキスト数
+	 */
+	public int getIdleCount() {
+		synchronized (idle) {
+			return idle.size();
+		}
+	}
+	
+	/**
+	 * 貸出可能数を取得する。<br>
+	 * @return 貸出可能数(最大貸出数から貸出中のコンテキスト数を除いたもの)
+	 */
+	public int getAvailableCount() {
+		return permits.availablePermits();
+	}
+	
+	/**
+	 * 待機コンテキストを取り出す。<br>
+	 * @return 待機コンテキスト(無い場合はnull)
+	 */
+	protected PooledContext poll() {
+		synchronized (idle) {
+			return idle.pollFirst();
+		}
+	}
+	
+	/**
+	 * コンテキストを切断する。<br>
+	 * @param context コンテキスト
+	 */
+	protected void close(LdapContext context) {
+		try {
+			context.close();
+		} catch (NamingException e) {
+			// 切断に失敗した場合は処理無し
+		}
+	}
+	
+	
+	/**
+	 * 待機コンテキスト。<br>
+	 */
+	protected static class PooledContext {
+		
+		/**
+		 * コンテキスト。
+		 */
+		protected final LdapContext	context;
+		
+		/**
+		 * 最終利用時刻(ミリ秒)。
+		 */
+		protected final long		lastUsed;
+		
+		
+		/**
+		 * 待機コンテキストを生成する。<br>
+		 * @param context  コンテキスト
+		 * @param lastUsed 最終利用時刻(ミリ秒)
+		 */
+		protected PooledContext(LdapContext context, long lastUsed) {
+			this.context = context;
+			this.lastUsed = lastUsed;
+		}
+		
+	}
+	
+}
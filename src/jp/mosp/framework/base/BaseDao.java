@@ -38,7 +38,6 @@ import java.util.Set;
 import jp.mosp.framework.constant.ExceptionConst;
 import jp.mosp.framework.constant.MospConst;
 import jp.mosp.framework.instance.InstanceFactory;
-import jp.mosp.framework.utils.DatabaseUtility;
 import jp.mosp.framework.utils.LogUtility;
 
 /**
@@ -53,7 +52,7 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * {@link #setCommonParams(BaseDtoInterface, boolean)}、
 	 * {@link #mappingCommonInfo(BaseDto)}で用いられる。<br>
 	 */
-	protected String			colDeleteFlag	= "delete_flag";
+	protected String				colDeleteFlag				= "delete_flag";
 	
 	/**
 	 * デフォルト列名(作成日)。<br>
@@ -61,7 +60,7 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * {@link #mappingCommonInfo(BaseDto)}で用いられる。<br>
 	 * 不要な場合は、""(空文字列)を設定する。
 	 */
-	protected String			colInsertDate	= "insert_date";
+	protected String				colInsertDate				= "insert_date";
 	
 	/**
 	 * デフォルト列名(作成者)。<br>
@@ -69,7 +68,7 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * {@link #mappingCommonInfo(BaseDto)}で用いられる。<br>
 	 * 不要な場合は、""(空文字列)を設定する。
 	 */
-	protected String			colInsertUser	= "insert_user";
+	protected String				colInsertUser				= "insert_user";
 	
 	/**
 	 * デフォルト列名(更新日)。<br>
@@ -77,7 +76,7 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * {@link #mappingCommonInfo(BaseDto)}で用いられる。<br>
 	 * 不要な場合は、""(空文字列)を設定する。
 	 */
-	protected String			colUpdateDate	= "update_date";
+	protected String				colUpdateDate				= "update_date";
 	
 	/**
 	 * デフォルト列名(更新者)。<br>
@@ -85,43 +84,111 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * {@link #mappingCommonInfo(BaseDto)}で用いられる。<br>
 	 * 不要な場合は、""(空文字列)を設定する。
 	 */
-	protected String			colUpdateUser	= "update_user";
+	protected String				colUpdateUser				= "update_user";
+	
+	/**
+	 * SQL種類(全件検索)。<br>
+	 */
+	protected static final String	STATEMENT_SELECT			= "SELECT";
+	
+	/**
+	 * SQL種類(検索、テーブル名無し)。<br>
+	 */
+	protected static final String	STATEMENT_SELECT_COLUMN		= "SELECT_COLUMN";
+	
+	/**
+	 * SQL種類(検索、テーブル名有り)。<br>
+	 */
+	protected static final String	STATEMENT_SELECT_TABLE		= "SELECT_TABLE";
+	
+	/**
+	 * SQL種類(件数検索)。<br>
+	 */
+	protected static final String	STATEMENT_COUNT				= "COUNT";
+	
+	/**
+	 * SQL種類(挿入)。<br>
+	 */
+	protected static final String	STATEMENT_INSERT			= "INSERT";
+	
+	/**
+	 * SQL種類(複数レコード挿入)。<br>
+	 */
+	protected static final String	STATEMENT_INSERT_ROWS		= "INSERT_ROWS";
+	
+	/**
+	 * SQL種類(更新)。<br>
+	 */
+	protected static final String	STATEMENT_UPDATE			= "UPDATE";
+	
+	/**
+	 * SQL種類(削除)。<br>
+	 */
+	protected static final String	STATEMENT_DELETE			= "DELETE";
+	
+	/**
+	 * SQL種類(論理削除)。<br>
+	 */
+	protected static final String	STATEMENT_LOGICAL_DELETE	= "LOGICAL_DELETE";
+	
+	/**
+	 * SQL種類(キーによる条件)。<br>
+	 */
+	protected static final String	STATEMENT_KEY_CONDITION		= "KEY_CONDITION";
+	
+	/**
+	 * SQL種類(キーによるソート)。<br>
+	 */
+	protected static final String	STATEMENT_KEY_ORDER			= "KEY_ORDER";
+	
+	/**
+	 * 挿入レコード上限数(一度に挿入する上限)。<br>
+	 * {@link #insertAll(List)}で用いられる。<br>
+	 * パラメータ数がJDBCドライバの上限(32767)を超えないように設定する。<br>
+	 */
+	protected static final int		INSERT_ROWS_MAX				= 100;
 	
 	// フィールド
 	/**
 	 * ログインユーザーID。<br>
 	 */
-	protected String			userId;
+	protected String				userId;
 	
 	/**
 	 * MosP処理情報。
 	 */
-	protected MospParams		mospParams;
+	protected MospParams			mospParams;
 	
 	/**
 	 * DBコネクション。<br>
 	 */
-	protected Connection		connection;
+	protected Connection			connection;
 	
 	/**
 	 * 各種SQL実行の際に利用するステートメント。<br>
 	 */
-	protected PreparedStatement	ps;
+	protected PreparedStatement		ps;
 	
 	/**
 	 * 各種検索SQL実行結果。<br>
 	 */
-	protected ResultSet			rs;
+	protected ResultSet				rs;
 	
 	/**
 	 * 各種更新SQL実行件数。<br>
 	 */
-	protected int				cnt;
+	protected int					cnt;
 	
 	/**
 	 * パラメーターインデックス。<br>
 	 */
-	protected int				index;
+	protected int					index;
+	
+	/**
+	 * 共通列設定(SQL文字列保持用キー)。<br>
+	 * {@link #getStatementKey(String, int)}で初回に作成される。<br>
+	 */
+	private String					commonColumnKey;
 	
 	
 	/**
@@ -186,6 +253,24 @@ public abstract class BaseDao implements BaseDaoInterface {
 		}
 	}
 	
+	/**
+	 * PreparedStatementに一度に取得する件数を設定する。<br>
+	 * PostgreSQLの場合、自動コミットが無効であれば、
+	 * 検索結果を全て保持せずに設定件数ずつ取得するようになる。<br>
+	 * 件数の多い検索結果を順に処理する場合に用いる。<br>
+	 * @param rows 一度に取得する件数
+	 * @throws MospException SQL例外が発生した場合
+	 */
+	protected void setFetchSize(int rows) throws MospException {
+		try {
+			if (ps != null) {
+				ps.setFetchSize(rows);
+			}
+		} catch (SQLException e) {
+			throw new MospException(e);
+		}
+	}
+	
 	/**
 	 * PreparedStatement開放。<br>
 	 * @throws MospException SQL例外が発生した場合
@@ -474,7 +559,12 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 */
 	protected boolean next() throws MospException {
 		try {
-			return rs.next();
+			boolean next = rs.next();
+			if (next) {
+				// コマンド統計情報に取得行数を加算
+				MospCommandStatistics.rowFetched();
+			}
+			return next;
 		} catch (SQLException e) {
 			throw new MospException(e);
 		}
@@ -656,6 +746,45 @@ public abstract class BaseDao implements BaseDaoInterface {
 		}
 	}
 	
+	/**
+	 * シーケンスの次の値を指定件数分取得する。<br>
+	 * 一度のSQL実行で取得する。<br>
+	 * @param sequence シーケンス名
+	 * @param count    取得件数
+	 * @return シーケンスの次の値配列
+	 * @throws MospException シーケンス操作に失敗した場合
+	 */
+	protected long[] nextValues(String sequence, int count) throws MospException {
+		long[] values = new long[count];
+		if (count == 0) {
+			return values;
+		}
+		try {
+			// SQL文字列準備
+			StringBuffer query = new StringBuffer();
+			query.append(select());
+			query.append("NEXTVAL(?)");
+			query.append(from("GENERATE_SERIES(1, ?)"));
+			// ステートメント生成
+			prepareStatement(query.toString());
+			// パラメータ設定
+			index = 1;
+			setParam(index++, sequence);
+			setParam(index++, count);
+			executeQuery();
+			for (int i = 0; i < count; i++) {
+				next();
+				values[i] = rs.getLong(1);
+			}
+			return values;
+		} catch (SQLException e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public long nextRecordId() throws MospException {
 		// シーケンス名を取得
@@ -664,6 +793,14 @@ public abstract class BaseDao implements BaseDaoInterface {
 		return nextValue(sequence);
 	}
 	
+	@Override
+	public long[] nextRecordIds(int count) throws MospException {
+		// シーケンス名を取得
+		String sequence = getTable(getClass()) + "_id_seq";
+		// シーケンスの次の値を取得
+		return nextValues(sequence, count);
+	}
+	
 	// SQL実行メソッド
 	/**
 	 * 検索系SQL実行。<br>
@@ -684,9 +821,14 @@ public abstract class BaseDao implements BaseDaoInterface {
 		try {
 			if (ps != null) {
 				setQueryTimeout(second);
+				long start = MospCommandStatistics.sqlStart();
 				rs = ps.executeQuery();
-				// ログ出力
-				LogUtility.sqlSelect(mospParams, ps.toString());
+				// コマンド統計情報にSQL実行数及び実行時間を加算
+				MospCommandStatistics.sqlEnd(start);
+				// ログ出力(出力される場合のみSQL文字列を作成)
+				if (LogUtility.isSqlSelectLoggable(mospParams)) {
+					LogUtility.sqlSelect(mospParams, ps.toString());
+				}
 			}
 		} catch (SQLException e) {
 			// 一時的な例外の場合
@@ -728,9 +870,14 @@ public abstract class BaseDao implements BaseDaoInterface {
 			// タイムアウト設定
 			setQueryTimeout(seconds);
 			try {
+				long start = MospCommandStatistics.sqlStart();
 				cnt = ps.executeUpdate();
-				if (needLog) {
-					// ログ出力
+				// コマンド統計情報にSQL実行数及び実行時間を加算
+				MospCommandStatistics.sqlEnd(start);
+				// マスタキャッシュに更新を通知
+				notifyUpdated();
+				if (needLog && LogUtility.isSqlRegistLoggable(mospParams)) {
+					// ログ出力(出力される場合のみSQL文字列を作成)
 					LogUtility.sqlRegist(mospParams, ps.toString());
 				}
 			} catch (SQLException e) {
@@ -772,6 +919,58 @@ public abstract class BaseDao implements BaseDaoInterface {
 		}
 	}
 	
+	/**
+	 * 現在のパラメータをバッチに追加する。<br>
+	 * {@link #executeBatch()}と併せて用いる。<br>
+	 * @throws MospException SQL例外が発生した場合
+	 */
+	protected void addBatch() throws MospException {
+		try {
+			if (ps != null) {
+				ps.addBatch();
+			}
+		} catch (SQLException e) {
+			throw new MospException(e);
+		}
+	}
+	
+	/**
+	 * バッチに追加された更新系SQLを一括で実行する。<br>
+	 * 更新件数の合計を{@link #cnt}に設定する。<br>
+	 * @throws MospException SQL例外が発生した場合
+	 */
+	protected void executeBatch() throws MospException {
+		cnt = 0;
+		if (ps == null) {
+			return;
+		}
+		// タイムアウト設定
+		setQueryTimeout(mospParams.getApplicationProperty("", 3600));
+		try {
+			long start = MospCommandStatistics.sqlStart();
+			int[] counts = ps.executeBatch();
+			// コマンド統計情報にSQL実行数及び実行時間を加算
+			MospCommandStatistics.sqlEnd(start);
+			for (int count : counts) {
+				if (count > 0) {
+					cnt += count;
+				}
+			}
+			// マスタキャッシュに更新を通知
+			notifyUpdated();
+			// ログ出力(出力される場合のみSQL文字列を作成)
+			if (LogUtility.isSqlRegistLoggable(mospParams)) {
+				LogUtility.sqlRegist(mospParams, ps.toString() + " (" + counts.length + ")");
+			}
+		} catch (SQLException e) {
+			// バッチ実行時の例外は原因となった例外を保持する
+			if (e.getNextException() != null) {
+				throw new MospException(e.getNextException());
+			}
+			throw new MospException(e);
+		}
+	}
+	
 	// SQL作成及び実行メソッド
 	/**
 	 * 全レコードを取得する。<br>
@@ -819,6 +1018,8 @@ public abstract class BaseDao implements BaseDaoInterface {
 			executeQuery();
 			BaseDto dto = null;
 			if (rs.next()) {
+				// コマンド統計情報に取得行数を加算
+				MospCommandStatistics.rowFetched();
 				dto = mapping();
 			}
 			return dto;
@@ -845,6 +1046,73 @@ public abstract class BaseDao implements BaseDaoInterface {
 		return cnt;
 	}
 	
+	/**
+	 * 挿入SQLを一括で実行する。<br>
+	 * {@link #INSERT_ROWS_MAX}件ずつ、複数レコードを一度に挿入するSQLで挿入する。<br>
+	 * @param dtoList 挿入対象DTOリスト
+	 * @return 結果件数
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	@Override
+	public int insertAll(List<? extends BaseDtoInterface> dtoList) throws MospException {
+		int size = dtoList.size();
+		if (size == 0) {
+			return 0;
+		}
+		try {
+			int count = 0;
+			index = 1;
+			prepareStatement(getInsertQuery(getClass(), size, INSERT_ROWS_MAX));
+			for (int i = 0; i < size; i++) {
+				setParams(dtoList.get(i), true);
+				executeUpdate(getClass(), size, INSERT_ROWS_MAX, i);
+				count += cnt;
+			}
+			cnt = count;
+			chkInsert(size);
+			return cnt;
+		} finally {
+			releasePreparedStatement();
+		}
+	}
+	
+	/**
+	 * 論理削除SQLを一括で実行する。<br>
+	 * レコード識別IDをキーとするDAOで用いる。<br>
+	 * 既に削除されているレコードは更新されないため、
+	 * 結果件数と対象件数を比較することで排他確認ができる。<br>
+	 * @param idList 対象レコード識別IDリスト
+	 * @return 結果件数
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	@Override
+	public int logicalDeleteAll(List<Long> idList) throws MospException {
+		if (idList.isEmpty()) {
+			return 0;
+		}
+		try {
+			Date date = new Date();
+			prepareStatement(getStatement(getClass(), STATEMENT_LOGICAL_DELETE, 0));
+			for (long id : idList) {
+				index = 1;
+				setParam(index++, MospConst.DELETE_FLAG_ON);
+				if (!colUpdateDate.isEmpty()) {
+					setParam(index++, date, true);
+				}
+				if (!colUpdateUser.isEmpty()) {
+					setParam(index++, userId);
+				}
+				setParam(index++, id);
+				setParam(index++, MospConst.DELETE_FLAG_OFF);
+				addBatch();
+			}
+			executeBatch();
+			return cnt;
+		} finally {
+			releasePreparedStatement();
+		}
+	}
+	
 	// SQL作成メソッド
 	/**
 	 * 全件検索SQLを取得する。<br>
@@ -853,6 +1121,16 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
 	 */
 	protected StringBuffer getSelectQuery(Class<?> cls) throws MospException {
+		return new StringBuffer(getStatement(cls, STATEMENT_SELECT, 0));
+	}
+	
+	/**
+	 * 全件検索SQLを作成する。<br>
+	 * @param cls DAOクラス
+	 * @return 全件検索SQL文字列(SELECT 列名 FROM テーブル名)
+	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
+	 */
+	protected String createSelectQuery(Class<?> cls) throws MospException {
 		// テーブル名取得
 		String table = getTable(cls);
 		// 列名リスト取得
@@ -862,7 +1140,7 @@ public abstract class BaseDao implements BaseDaoInterface {
 		// 検索SQLを取得
 		query.append(getSelectStatement(columnList));
 		query.append(from(table));
-		return query;
+		return query.toString();
 	}
 	
 	/**
@@ -893,6 +1171,17 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
 	 */
 	protected String getSelectStatement(Class<?> cls, boolean needTableName) throws MospException {
+		return getStatement(cls, needTableName ? STATEMENT_SELECT_TABLE : STATEMENT_SELECT_COLUMN, 0);
+	}
+	
+	/**
+	 * 検索SQL文を作成する。<br>
+	 * @param cls DAOクラス
+	 * @param needTableName テーブル名追加フラグ
+	 * @return 全件検索SQL文字列
+	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
+	 */
+	protected String createSelectStatement(Class<?> cls, boolean needTableName) throws MospException {
 		// テーブル名取得
 		String table = getTable(cls);
 		// 列名リスト取得
@@ -920,6 +1209,16 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * @throws MospException テーブル名の取得に失敗した場合
 	 */
 	protected String getSelectCountQuery(Class<?> cls) throws MospException {
+		return getStatement(cls, STATEMENT_COUNT, 0);
+	}
+	
+	/**
+	 * 件数検索SQLを作成する。<br>
+	 * @param cls DAOクラス
+	 * @return 全件検索SQL文字列
+	 * @throws MospException テーブル名の取得に失敗した場合
+	 */
+	protected String createSelectCountQuery(Class<?> cls) throws MospException {
 		StringBuffer query = new StringBuffer();
 		query.append(getSelectCountStatement());
 		query.append(from(getTable(cls)));
@@ -944,6 +1243,16 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
 	 */
 	protected String getInsertQuery(Class<?> cls) throws MospException {
+		return getStatement(cls, STATEMENT_INSERT, 0);
+	}
+	
+	/**
+	 * 挿入SQLを作成する。<br>
+	 * @param cls DTOクラス
+	 * @return 挿入SQL文字列
+	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
+	 */
+	protected String createInsertQuery(Class<?> cls) throws MospException {
 		// テーブル名取得
 		String table = getTable(cls);
 		// 列名リスト取得
@@ -1007,6 +1316,16 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
 	 */
 	protected String getUpdateQuery(Class<?> cls) throws MospException {
+		return getStatement(cls, STATEMENT_UPDATE, 0);
+	}
+	
+	/**
+	 * 更新SQLを作成する。<br>
+	 * @param cls DTOクラス
+	 * @return 更新SQL文字列
+	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
+	 */
+	protected String createUpdateQuery(Class<?> cls) throws MospException {
 		// テーブル名取得
 		String table = getTable(cls);
 		// 列名リスト取得
@@ -1045,6 +1364,16 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
 	 */
 	protected String getDeleteQuery(Class<?> cls) throws MospException {
+		return getStatement(cls, STATEMENT_DELETE, 0);
+	}
+	
+	/**
+	 * 削除SQLを作成する。<br>
+	 * @param cls DTOクラス
+	 * @return 削除SQL文字列
+	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
+	 */
+	protected String createDeleteQuery(Class<?> cls) throws MospException {
 		StringBuffer query = new StringBuffer();
 		query.append("DELETE ");
 		query.append(from(getTable(cls)));
@@ -1052,6 +1381,35 @@ public abstract class BaseDao implements BaseDaoInterface {
 		return query.toString();
 	}
 	
+	/**
+	 * 論理削除SQLを作成する。<br>
+	 * 削除フラグ、更新日、更新者のみを更新し、
+	 * 削除されていないレコードのみを対象とする。<br>
+	 * @param cls DTOクラス
+	 * @return 論理削除SQL文字列
+	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
+	 */
+	protected String createLogicalDeleteQuery(Class<?> cls) throws MospException {
+		StringBuffer query = new StringBuffer();
+		query.append("UPDATE ");
+		query.append(getTable(cls));
+		query.append(" SET ");
+		query.append(equal(colDeleteFlag));
+		if (!colUpdateDate.isEmpty()) {
+			query.append(comma());
+			query.append(equal(colUpdateDate));
+		}
+		if (!colUpdateUser.isEmpty()) {
+			query.append(comma());
+			query.append(equal(colUpdateUser));
+		}
+		query.append(" ");
+		query.append(getConditionForKey(cls));
+		query.append(and());
+		query.append(equal(colDeleteFlag));
+		return query.toString();
+	}
+	
 	/**
 	 * キーによる条件SQLを取得する。<br>
 	 * @param cls DTOクラス
@@ -1059,6 +1417,16 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
 	 */
 	protected String getConditionForKey(Class<?> cls) throws MospException {
+		return getStatement(cls, STATEMENT_KEY_CONDITION, 0);
+	}
+	
+	/**
+	 * キーによる条件SQLを作成する。<br>
+	 * @param cls DTOクラス
+	 * @return キーによる条件SQL文字列
+	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
+	 */
+	protected String createConditionForKey(Class<?> cls) throws MospException {
 		// キー列名リスト取得
 		List<String> keyList = getKeyList(cls);
 		// SQL文字列準備
@@ -1082,6 +1450,16 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * @throws MospException フィールド値の取得に失敗した場合
 	 */
 	protected String getOrderForKey(Class<?> cls) throws MospException {
+		return getStatement(cls, STATEMENT_KEY_ORDER, 0);
+	}
+	
+	/**
+	 * キーによるソートSQLを作成する。<br>
+	 * @param cls DAOクラス
+	 * @return キーによるソートSQL文字列
+	 * @throws MospException フィールド値の取得に失敗した場合
+	 */
+	protected String createOrderForKey(Class<?> cls) throws MospException {
 		// キー列名リスト取得
 		List<String> keyList = getKeyList(cls);
 		// SQL文字列準備
@@ -1109,6 +1487,20 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
 	 */
 	protected String getInsertQuery(Class<?> cls, int size, int max) throws MospException {
+		return getStatement(cls, STATEMENT_INSERT_ROWS, Math.min(size, max));
+	}
+	
+	/**
+	 * 挿入SQLを作成する。<br>
+	 * 挿入レコード数分を一度に挿入するSQLを作成する。<br>
+	 * 但し、挿入レコード最大数以上はSQLを作成しない。<br>
+	 * @param cls  DAOクラス
+	 * @param size 挿入レコード数
+	 * @param max  挿入レコード最大数
+	 * @return 挿入SQL文字列
+	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
+	 */
+	protected String createInsertQuery(Class<?> cls, int size, int max) throws MospException {
 		// テーブル名取得
 		String table = getTable(cls);
 		// 列名リスト(挿入文)取得
@@ -1119,7 +1511,7 @@ public abstract class BaseDao implements BaseDaoInterface {
 		query.append(getInsertQueryBase(table, columnList));
 		// 挿入SQLのパラメータ部を取得
 		StringBuffer sb = new StringBuffer(getInsertQueryParams(columnList));
-		sb.append("), ");
+		sb.append(comma());
 		// 件数分作成(但しmaxを上限とする)
 		for (int i = 0; i < size; i++) {
 			if (i == max) {
@@ -1131,6 +1523,92 @@ public abstract class BaseDao implements BaseDaoInterface {
 		return query.toString();
 	}
 	
+	/**
+	 * DAOクラスのSQL文字列を取得する。<br>
+	 * SQL文字列はDAOクラス及び共通列設定毎に初回のみ作成し、以降は{@link DaoMetadata}に保持したものを返す。<br>
+	 * @param cls    DAOクラス
+	 * @param type   SQL種類
+	 * @param option SQL種類毎の補助値(挿入SQLの場合は挿入レコード数)
+	 * @return SQL文字列
+	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
+	 */
+	protected String getStatement(Class<?> cls, String type, int option) throws MospException {
+		// SQL作成情報取得
+		DaoMetadata metadata = DaoMetadata.get(cls);
+		// 保持しているSQL文字列を確認
+		String key = getStatementKey(type, option);
+		String statement = metadata.getStatement(key);
+		if (statement != null) {
+			return statement;
+		}
+		// SQL文字列を作成し保持
+		return metadata.putStatement(key, createStatement(cls, type, option));
+	}
+	
+	/**
+	 * DAOクラスのSQL文字列を作成する。<br>
+	 * @param cls    DAOクラス
+	 * @param type   SQL種類
+	 * @param option SQL種類毎の補助値(挿入SQLの場合は挿入レコード数)
+	 * @return SQL文字列
+	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
+	 */
+	protected String createStatement(Class<?> cls, String type, int option) throws MospException {
+		if (type.equals(STATEMENT_SELECT)) {
+			return createSelectQuery(cls);
+		}
+		if (type.equals(STATEMENT_SELECT_COLUMN)) {
+			return createSelectStatement(cls, false);
+		}
+		if (type.equals(STATEMENT_SELECT_TABLE)) {
+			return createSelectStatement(cls, true);
+		}
+		if (type.equals(STATEMENT_COUNT)) {
+			return createSelectCountQuery(cls);
+		}
+		if (type.equals(STATEMENT_INSERT)) {
+			return createInsertQuery(cls);
+		}
+		if (type.equals(STATEMENT_INSERT_ROWS)) {
+			return createInsertQuery(cls, option, option);
+		}
+		if (type.equals(STATEMENT_UPDATE)) {
+			return createUpdateQuery(cls);
+		}
+		if (type.equals(STATEMENT_DELETE)) {
+			return createDeleteQuery(cls);
+		}
+		if (type.equals(STATEMENT_LOGICAL_DELETE)) {
+			return createLogicalDeleteQuery(cls);
+		}
+		if (type.equals(STATEMENT_KEY_CONDITION)) {
+			return createConditionForKey(cls);
+		}
+		return createOrderForKey(cls);
+	}
+	
+	/**
+	 * SQL文字列保持用キーを取得する。<br>
+	 * 共通列(削除フラグ、作成日等)の設定はDAO毎に異なり得るため、キーに含める。<br>
+	 * @param type   SQL種類
+	 * @param option SQL種類毎の補助値
+	 * @return SQL文字列保持用キー
+	 */
+	protected String getStatementKey(String type, int option) {
+		if (commonColumnKey == null) {
+			StringBuffer sb = new StringBuffer();
+			sb.append(colDeleteFlag).append(comma());
+			sb.append(colInsertDate).append(comma());
+			sb.append(colInsertUser).append(comma());
+			sb.append(colUpdateDate).append(comma());
+			sb.append(colUpdateUser);
+			commonColumnKey = sb.toString();
+		}
+		StringBuffer sb = new StringBuffer(type);
+		sb.append(':').append(option).append(':').append(commonColumnKey);
+		return sb.toString();
+	}
+	
 	/**
 	 * 頁操作用SQL取得。<br>
 	 * @param sortKey     ソートキー
@@ -1148,6 +1626,89 @@ public abstract class BaseDao implements BaseDaoInterface {
 		return query.toString();
 	}
 	
+	/**
+	 * キーセット方式の頁操作用条件SQLを取得する。<br>
+	 * 並び替え列の値の組がキー値の組より後(降順の場合は前)である条件を作成する。<br>
+	 * 並び替え列の末尾には、一意性を保証する列を指定する。<br>
+	 * 並び替え列のNULLは、空文字として扱う。<br>
+	 * @param columns    並び替え列
+	 * @param descending 降順フラグ
+	 * @return キーセット方式の頁操作用条件SQL(AND (column1, column2) &gt; (?, ?))
+	 */
+	protected String getKeysetCondition(String[] columns, boolean descending) {
+		StringBuffer query = new StringBuffer();
+		query.append(and());
+		query.append(leftParenthesis());
+		for (int i = 0; i < columns.length; i++) {
+			if (i > 0) {
+				query.append(comma());
+			}
+			query.append(getPageColumn(columns[i]));
+		}
+		query.append(rightParenthesis());
+		query.append(descending ? less() : greater());
+		query.append(leftParenthesis());
+		for (int i = 0; i < columns.length; i++) {
+			if (i > 0) {
+				query.append(comma());
+			}
+			query.append("?");
+		}
+		query.append(rightParenthesis());
+		return query.toString();
+	}
+	
+	/**
+	 * キーセット方式の頁操作用並び替えSQLを取得する。<br>
+	 * 件数を制限し、必要であれば読み飛ばし件数を指定する。<br>
+	 * @param columns    並び替え列
+	 * @param descending 降順フラグ
+	 * @param needOffset 読み飛ばし要否(true：読み飛ばし件数を指定する、false：指定しない)
+	 * @return 頁操作用並び替えSQL(ORDER BY column1, column2 LIMIT ? OFFSET ?)
+	 */
+	protected String getKeysetOrder(String[] columns, boolean descending, boolean needOffset) {
+		StringBuffer query = new StringBuffer();
+		query.append(getOrderBy());
+		for (int i = 0; i < columns.length; i++) {
+			if (i > 0) {
+				query.append(comma());
+			}
+			query.append(getPageColumn(columns[i]));
+			if (descending) {
+				query.append(getDesc());
+			}
+		}
+		query.append(getLimit() + "? ");
+		if (needOffset) {
+			query.append(getOffset() + "? ");
+		}
+		return query.toString();
+	}
+	
+	/**
+	 * 頁操作用の並び替え列SQLを取得する。<br>
+	 * @param column 並び替え列
+	 * @return 頁操作用の並び替え列SQL(COALESCE(column, ''))
+	 */
+	protected String getPageColumn(String column) {
+		return " COALESCE(" + column + ", '') ";
+	}
+	
+	/**
+	 * キーセット方式の頁操作用条件パラメータを設定する。<br>
+	 * @param index パラメータインデックス
+	 * @param keys  キー値
+	 * @return 設定後のパラメータインデックス
+	 * @throws MospException SQL例外が発生した場合
+	 */
+	protected int setParamsForKeyset(int index, String[] keys) throws MospException {
+		int idx = index;
+		for (String key : keys) {
+			setParam(idx++, key == null ? "" : key);
+		}
+		return idx;
+	}
+	
 	/**
 	 * {@link #colInsertUser}、{@link #colInsertDate}、
 	 * {@link #colUpdateUser}、{@link #colUpdateDate}
@@ -1299,7 +1860,7 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
 	 */
 	protected List<String> getColumnList(Class<?> cls) throws MospException {
-		return getFieldList(cls, "COL_");
+		return DaoMetadata.get(cls).getColumnList();
 	}
 	
 	/**
@@ -1309,7 +1870,7 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
 	 */
 	protected List<String> getKeyList(Class<?> cls) throws MospException {
-		return getFieldList(cls, "KEY_");
+		return DaoMetadata.get(cls).getKeyList();
 	}
 	
 	/**
@@ -1349,6 +1910,18 @@ public abstract class BaseDao implements BaseDaoInterface {
 		}
 	}
 	
+	/**
+	 * 更新系SQLの実行をマスタキャッシュに通知する。<br>
+	 * 対象テーブルに依存するマスタキャッシュが破棄される。<br>
+	 * @throws MospException DAOクラスの情報取得に失敗した場合
+	 */
+	protected void notifyUpdated() throws MospException {
+		DaoMetadata metadata = DaoMetadata.get(getClass());
+		if (metadata.hasTable()) {
+			MospMasterCache.updated(connection, metadata.getTable());
+		}
+	}
+	
 	/**
 	 * テーブル名取得。<br>
 	 * @param cls DAOクラス
@@ -1357,14 +1930,7 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 */
 	@Override
 	public String getTable(Class<?> cls) throws MospException {
-		try {
-			Field table = cls.getField("TABLE");
-			return (String)table.get(null);
-		} catch (IllegalAccessException e) {
-			throw new MospException(e);
-		} catch (NoSuchFieldException e) {
-			throw new MospException(e);
-		}
+		return DaoMetadata.get(cls).getTable();
 	}
 	
 	// SQL文字列取得メソッド
@@ -1936,7 +2502,8 @@ public abstract class BaseDao implements BaseDaoInterface {
 	 * @throws MospException SQL例外が発生した場合、或いはMosPが扱えないRDBMSを取得した場合
 	 */
 	protected RDBMSType getRdbmsType() throws MospException {
-		RDBMSType type = DatabaseUtility.getRDBMS(connection);
+		// コネクション毎に保持しているRDBMS種類を取得
+		RDBMSType type = ConnectionStateTracker.get(connection).getRdbmsType(connection);
 		if (type != null) {
 			return type;
 		}
@@ -1947,7 +2514,10 @@ public abstract class BaseDao implements BaseDaoInterface {
 	
 	/**
 	 * ドライバが Statement オブジェクトの実行を待つ秒数を、指定された秒数に設定します。
+	 * PostgreSQLの場合は、statement_timeoutを設定する。<br>
+	 * 但し、コネクションで有効なタイムアウトと同じ値である場合は、設定SQLを発行しない。<br>
 	 * @see PreparedStatement#setQueryTimeout(int)
+	 * @see ConnectionStateTracker
 	 * @param seconds the new query timeout limit in seconds; zero means there is no limit
 	 * @throws MospException SQL例外が発生した場合
 	 */
@@ -1969,6 +2539,11 @@ public abstract class BaseDao implements BaseDaoInterface {
 			if (msec < 0) {
 				msec = 0;
 			}
+			// 有効なタイムアウトが変わらない場合
+			ConnectionStateTracker tracker = ConnectionStateTracker.get(connection);
+			if (tracker.isChangeRequired(msec) == false) {
+				return;
+			}
 			if (msec == 0) {
 				query = "RESET statement_timeout";
 			} else {
@@ -1978,6 +2553,12 @@ public abstract class BaseDao implements BaseDaoInterface {
 			st = connection.createStatement();
 			st.execute(query);
 			st.close();
+			// 有効なタイムアウトを記録
+			if (msec == 0) {
+				tracker.resetTimeout();
+			} else {
+				tracker.setLocalTimeout(msec);
+			}
 		} catch (SQLException e) {
 			try {
 				if (st != null) {
@@ -2003,6 +2584,8 @@ public abstract class BaseDao implements BaseDaoInterface {
 			st = connection.createStatement();
 			st.execute("RESET statement_timeout");
 			st.close();
+			// 有効なタイムアウトを記録
+			ConnectionStateTracker.get(connection).resetTimeout();
 		} catch (SQLException e) {
 			try {
 				if (st != null) {
@@ -76,6 +76,14 @@ public interface BaseDaoInterface {
 	 */
 	int insert(BaseDtoInterface baseDto) throws MospException;
 	
+	/**
+	 * 一括挿入。
+	 * @param dtoList 対象DTOリスト
+	 * @return 結果件数
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	int insertAll(List<? extends BaseDtoInterface> dtoList) throws MospException;
+	
 	/**
 	 * 更新。
 	 * @param baseDto 対象DTO
@@ -92,6 +100,15 @@ public interface BaseDaoInterface {
 	 */
 	int delete(BaseDtoInterface baseDto) throws MospException;
 	
+	/**
+	 * 一括論理削除。<br>
+	 * 既に削除されているレコードは対象外。<br>
+	 * @param idList 対象レコード識別IDリスト
+	 * @return 結果件数
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	int logicalDeleteAll(List<Long> idList) throws MospException;
+	
 	/**
 	 * パラメータ設定。
 	 * @param baseDto 更新対象DTO
@@ -115,4 +132,12 @@ public interface BaseDaoInterface {
 	 */
 	long nextRecordId() throws MospException;
 	
+	/**
+	 * レコード識別IDの次の値を指定件数分取得する。<br>
+	 * @param count 取得件数
+	 * @return レコード識別IDの次の値配列
+	 * @throws MospException シーケンス操作に失敗した場合
+	 */
+	long[] nextRecordIds(int count) throws MospException;
+	
 }
@@ -0,0 +1,234 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ *
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.base;
+
+import java.sql.Connection;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jp.mosp.framework.utils.DatabaseUtility;
+
+/**
+ * DBコネクション毎の状態を保持する。<br>
+ * <br>
+ * DAOがSQL実行毎に確認するRDBMS種類及びタイムアウト設定をコネクション毎に保持し、
+ * DBへの問合せを削減する。<br>
+ * <ul><li>
+ * RDBMS種類は、コネクション毎に一度だけ{@link DatabaseUtility#getRDBMS(Connection)}で特定する。
+ * <br></li><li>
+ * PostgreSQLのタイムアウト(statement_timeout)は、有効な値が変わる場合にのみ設定SQLを発行する。<br>
+ * SET LOCALによる設定はトランザクション終了時に破棄されるため、
+ * コミット及びロールバック時には{@link #transactionEnded(Connection)}を呼び出す必要がある。
+ * <br></li></ul>
+ */
+public class ConnectionStateTracker {
+	
+	/**
+	 * タイムアウト(未設定)。<br>
+	 */
+	protected static final long										TIMEOUT_UNSET	= -1L;
+	
+	/**
+	 * コネクション毎の状態群。<br>
+	 * コネクションが破棄されれば状態も破棄される。<br>
+	 */
+	protected static final Map<Connection, ConnectionStateTracker>	TRACKERS		= new WeakHashMap<Connection, ConnectionStateTracker>();
+	
+	/**
+	 * タイムアウト設定SQL発行回数。<br>
+	 */
+	protected static final AtomicLong								ISSUED_COUNT	= new AtomicLong();
+	
+	/**
+	 * タイムアウト設定SQL省略回数。<br>
+	 */
+	protected static final AtomicLong								SKIPPED_COUNT	= new AtomicLong();
+	
+	/**
+	 * RDBMS種類特定回数。<br>
+	 */
+	protected static final AtomicLong								RESOLVED_COUNT	= new AtomicLong();
+	
+	/**
+	 * RDBMS種類(特定前はnull)。<br>
+	 */
+	protected RDBMSType												rdbmsType;
+	
+	/**
+	 * セッションのタイムアウト(ミリ秒)。<br>
+	 * 接続直後及びRESET後は、DBの既定値(0)となる。<br>
+	 */
+	protected long													sessionTimeout;
+	
+	/**
+	 * トランザクション内で有効なタイムアウト(ミリ秒)。<br>
+	 * SET LOCALをしていない場合は{@link #TIMEOUT_UNSET}。<br>
+	 */
+	protected long													localTimeout	= TIMEOUT_UNSET;
+	
+	
+	/**
+	 * コネクション状態を生成する。<br>
+	 * 対象コネクションへの参照は保持しない(コネクション毎の状態群から破棄されるように)。<br>
+	 */
+	protected ConnectionStateTracker() {
+		// 処理無し
+	}
+	
+	/**
+	 * コネクション状態を取得する。<br>
+	 * 対象コネクションの状態が存在しない場合は、生成する。<br>
+	 * @param connection 対象コネクション
+	 * @return コネクション状態
+	 */
+	public static ConnectionStateTracker get(Connection connection) {
+		synchronized (TRACKERS) {
+			ConnectionStateTracker tracker = TRACKERS.get(connection);
+			if (tracker == null) {
+				tracker = new ConnectionStateTracker();
+				TRACKERS.put(connection, tracker);
+			}
+			return tracker;
+		}
+	}
+	
+	/**
+	 * トランザクション終了(コミット或いはロールバック)を通知する。<br>
+	 * トランザクション内で有効なタイムアウトを破棄する。<br>
+	 * @param connection 対象コネクション
+	 */
+	public static void transactionEnded(Connection connection) {
+		if (connection == null) {
+			return;
+		}
+		synchronized (TRACKERS) {
+			ConnectionStateTracker tracker = TRACKERS.get(connection);
+			if (tracker != null) {
+				tracker.localTimeout = TIMEOUT_UNSET;
+			}
+		}
+	}
+	
+	/**
+	 * コネクション状態を破棄する。<br>
+	 * コネクション開放時に用いる。<br>
+	 * @param connection 対象コネクション
+	 */
+	public static void remove(Connection connection) {
+		if (connection == null) {
+			return;
+		}
+		synchronized (TRACKERS) {
+			TRACKERS.remove(connection);
+		}
+	}
+	
+	/**
+	 * RDBMS種類を取得する。<br>
+	 * コネクション毎に初回のみDBのメタデータから特定する。<br>
+	 * @param connection 対象コネクション
+	 * @return RDBMS種類(MosPが扱えないRDBMSの場合はnull)
+	 * @throws MospException SQL例外が発生した場合
+	 */
+	public synchronized RDBMSType getRdbmsType(Connection connection) throws MospException {
+		if (rdbmsType == null) {
+			rdbmsType = DatabaseUtility.getRDBMS(connection);
+			RESOLVED_COUNT.incrementAndGet();
+		}
+		return rdbmsType;
+	}
+	
+	/**
+	 * 現在有効なタイムアウト(ミリ秒)を取得する。<br>
+	 * @return 現在有効なタイムアウト
+	 */
+	public synchronized long getEffectiveTimeout() {
+		return localTimeout == TIMEOUT_UNSET ? sessionTimeout : localTimeout;
+	}
+	
+	/**
+	 * タイムアウト設定SQLの発行要否を確認する。<br>
+	 * 現在有効なタイムアウトと同じ値であれば発行不要とし、省略回数を加算する。<br>
+	 * @param msec 設定しようとするタイムアウト(ミリ秒、0はRESET)
+	 * @return 確認結果(true：発行要、false：発行不要)
+	 */
+	public synchronized boolean isChangeRequired(long msec) {
+		if (getEffectiveTimeout() == msec) {
+			SKIPPED_COUNT.incrementAndGet();
+			return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * SET LOCALによるタイムアウト設定を記録する。<br>
+	 * @param msec 設定したタイムアウト(ミリ秒)
+	 */
+	public synchronized void setLocalTimeout(long msec) {
+		localTimeout = msec;
+		ISSUED_COUNT.incrementAndGet();
+	}
+	
+	/**
+	 * RESETによるタイムアウト初期化を記録する。<br>
+	 */
+	public synchronized void resetTimeout() {
+		sessionTimeout = 0L;
+		localTimeout = TIMEOUT_UNSET;
+		ISSUED_COUNT.incrementAndGet();
+	}
+	
+	/**
+	 * タイムアウト設定SQL発行回数を取得する。<br>
+	 * @return タイムアウト設定SQL発行回数
+	 */
+	public static long getIssuedCount() {
+		return ISSUED_COUNT.get();
+	}
+	
+	/**
+	 * タイムアウト設定SQL省略回数を取得する。<br>
+	 * @return タイムアウト設定SQL省略回数
+	 */
+	public static long getSkippedCount() {
+		return SKIPPED_COUNT.get();
+	}
+	
+	/**
+	 * RDBMS種類特定回数を取得する。<br>
+	 * @return RDBMS種類特定回数
+	 */
+	public static long getResolvedCount() {
+		return RESOLVED_COUNT.get();
+	}
+	
+	/**
+	 * 統計情報を取得する。<br>
+	 * @return 統計情報
+	 */
+	public static String getStatistics() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("ConnectionStateTracker[timeoutIssued=").append(getIssuedCount());
+		sb.append(", timeoutSkipped=").append(getSkippedCount());
+		sb.append(", rdbmsResolved=").append(getResolvedCount());
+		sb.append("]");
+		return sb.toString();
+	}
+	
+}
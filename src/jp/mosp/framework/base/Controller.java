@@ -35,6 +35,7 @@ import jp.mosp.framework.constant.MessageConst;
 import jp.mosp.framework.constant.MospConst;
 import jp.mosp.framework.instance.InstanceFactory;
 import jp.mosp.framework.log.LoggerInterface;
+import jp.mosp.framework.log.MospAsyncLogger;
 import jp.mosp.framework.property.CommandProperty;
 import jp.mosp.framework.property.MospProperties;
 import jp.mosp.framework.property.RoleProperty;
@@ -188,6 +189,9 @@ public class Controller extends HttpServlet {
 			ppt = parseMospProperties(docBase);
 			// メッセージファイル(JavaScript)出力
 			MospUtility.outputMessageJs(ppt);
+			// コマンド統計情報設定及び統計情報MBean登録
+			MospCommandStatistics.configure(ppt);
+			MospStatistics.register(ppt, getServletContext().getContextPath());
 			// MosPコントローラ初期化ログ出力
 			LogUtility.controllerInit(new MospParams(ppt, loggers), toString());
 		} catch (ServletException e) {
@@ -197,6 +201,25 @@ public class Controller extends HttpServlet {
 		}
 	}
 	
+	/**
+	 * 終了処理。<br>
+	 * 実行中のジョブを停止し、保持しているデータソース及びコネクションプールを破棄する。<br>
+	 * 統計情報MBeanの登録を解除する。<br>
+	 * 非同期ログ出力の書込スレッドは、未出力のログを出力してから停止する。<br>
+	 */
+	@Override
+	public void destroy() {
+		// ジョブ実行スレッド破棄
+		MospJobExecutor.shutdown();
+		// データソース及びコネクションプール破棄
+		DBConnBean.closeDataSources();
+		// 非同期ログ書込スレッド停止
+		MospAsyncLogger.shutdown();
+		// 統計情報MBean登録解除
+		MospStatistics.unregister();
+		super.destroy();
+	}
+	
 	/**
 	 * Getメソッドリクエスト取得処理。<br>
 	 * Controllerのメインとなる処理を行い、アプリケーションを制御する。<br>
@@ -239,28 +262,39 @@ public class Controller extends HttpServlet {
 	/**
 	 * リクエストに対する処理を行う。<br>
 	 * Controllerのメインとなる処理を行い、アプリケーションを制御する。<br>
+	 * コマンド統計情報の計測が有効な場合、処理時間等をコマンド毎に集計する。<br>
 	 * @param request リクエスト
 	 * @param response レスポンス
 	 * @throws MospException 実行時例外が発生した場合
 	 */
 	protected void doProcess(HttpServletRequest request, HttpServletResponse response) throws MospException {
-		// サーブレット前処理
-		doCommonPreProcess(request);
-		// MosPパラメータ取得
-		MospParams mospParams = getMospParams(request);
-		// アクセスログ出力
-		LogUtility.access(mospParams);
-		// アクションクラス名取得
-		String actionClassName = mospParams.getCommandProperty().getActionClass();
-		// アクションクラスの取得及び初期化
-		ActionInterface action = (ActionInterface)InstanceFactory.loadInstance(actionClassName);
-		action.init(mospParams);
-		// アクション実行
-		action.doAction();
-		// 処理シーケンス発行
-		issueProcSeq(request);
-		// フォワード
-		forward(request, response);
+		// コマンド統計情報計測開始
+		MospCommandStatistics.Measurement measurement = MospCommandStatistics.begin();
+		// コマンド(計測結果の集計用)
+		String command = null;
+		try {
+			// サーブレット前処理
+			doCommonPreProcess(request);
+			// MosPパラメータ取得
+			MospParams mospParams = getMospParams(request);
+			command = mospParams.getCommand();
+			// アクセスログ出力
+			LogUtility.access(mospParams);
+			// アクションクラス名取得
+			String actionClassName = mospParams.getCommandProperty().getActionClass();
+			// アクションクラスの取得及び初期化
+			ActionInterface action = (ActionInterface)InstanceFactory.loadInstance(actionClassName);
+			action.init(mospParams);
+			// アクション実行
+			action.doAction();
+			// 処理シーケンス発行
+			issueProcSeq(request);
+			// フォワード
+			forward(request, response);
+		} finally {
+			// コマンド統計情報計測終了
+			MospCommandStatistics.end(measurement, command);
+		}
 	}
 	
 	/**
@@ -20,6 +20,9 @@ package jp.mosp.framework.base;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.naming.Context;
 import javax.naming.InitialContext;
@@ -37,33 +40,39 @@ public class DBConnBean {
 	/**
 	 * MosPアプリケーション設定キー(DB接続情報：データソース利用設定)。
 	 */
-	public static final String	APP_JDNI_DATA_SOURCE	= "JndiDataSource";
+	public static final String						APP_JDNI_DATA_SOURCE	= "JndiDataSource";
 	
 	/**
 	 * MosPアプリケーション設定キー(DB接続情報：ドライバ)。
 	 */
-	public static final String	APP_DB_DRIVER			= "DbDriver";
+	public static final String						APP_DB_DRIVER			= "DbDriver";
 	
 	/**
 	 * MosPアプリケーション設定キー(DB接続情報：URL)。
 	 */
-	public static final String	APP_DB_URL				= "DbUrl";
+	public static final String						APP_DB_URL				= "DbUrl";
 	
 	/**
 	 * MosPアプリケーション設定キー(DB接続情報：ユーザ)。
 	 */
-	public static final String	APP_DB_USER				= "DbUser";
+	public static final String						APP_DB_USER				= "DbUser";
 	
 	/**
 	 * MosPアプリケーション設定キー(DB接続情報：パスワード)。
 	 */
-	public static final String	APP_DB_PASS				= "DbPass";
+	public static final String						APP_DB_PASS				= "DbPass";
+	
+	/**
+	 * データソース群(キー：JNDI名)。<br>
+	 * JNDIのLookupは初回のみ行い、取得したデータソースを保持する。<br>
+	 */
+	protected static final Map<String, DataSource>	DATA_SOURCES			= new ConcurrentHashMap<String, DataSource>();
 	
 	/**
 	 * コネクション。<br>
 	 * {@link #createConnection(String, String, String, String)}等により設定される。
 	 */
-	private Connection			connection;
+	private Connection								connection;
 	
 	
 	/**
@@ -115,6 +124,12 @@ public class DBConnBean {
 			userid = mospParams.getApplicationProperty(APP_DB_USER);
 			password = mospParams.getApplicationProperty(APP_DB_PASS);
 		}
+		// コネクションプール利用設定確認
+		if (MospConnectionPool.isPoolEnabled(mospParams)) {
+			// コネクションプールからコネクションを取得
+			createPooledConnection(mospParams, rdbdriver, rdbname, userid, password);
+			return;
+		}
 		// DB接続設定を用いてコネクションを生成
 		createConnection(rdbdriver, rdbname, userid, password);
 		// DB接続ログ出力
@@ -165,6 +180,14 @@ public class DBConnBean {
 			String passwordKey) throws MospException {
 		// コネクション初期化
 		connection = null;
+		// コネクションプール利用設定確認
+		if (MospConnectionPool.isPoolEnabled(mospParams)) {
+			// コネクションプールからコネクションを取得
+			createPooledConnection(mospParams, mospParams.getApplicationProperty(rdbDriverKey),
+					mospParams.getApplicationProperty(rdbNameKey), mospParams.getApplicationProperty(userIdKey),
+					mospParams.getApplicationProperty(passwordKey));
+			return;
+		}
 		// DB接続設定を用いてコネクションを生成
 		createConnection(mospParams.getApplicationProperty(rdbDriverKey),
 				mospParams.getApplicationProperty(rdbNameKey), mospParams.getApplicationProperty(userIdKey),
@@ -180,12 +203,19 @@ public class DBConnBean {
 	 * @throws MospException JNDIのLookupに失敗した場合
 	 */
 	protected DataSource getDataSource(String jndiName) throws MospException {
-		// THINK データソースを都度探さずに取っておくことでコスト軽減が図れる
+		// 保持しているデータソースを確認
+		DataSource dataSource = DATA_SOURCES.get(jndiName);
+		if (dataSource != null) {
+			return dataSource;
+		}
 		try {
 			// コンテキスト取得
 			Context ctx = new InitialContext();
 			// データソース取得
-			return (DataSource)ctx.lookup(jndiName);
+			dataSource = (DataSource)ctx.lookup(jndiName);
+			// データソースを保持
+			DATA_SOURCES.put(jndiName, dataSource);
+			return dataSource;
 		} catch (NamingException e) {
 			// JNDIのLookupに失敗した場合
 			throw new MospException(e, ExceptionConst.EX_FAIL_DB_CONNECT, null);
@@ -217,6 +247,41 @@ public class DBConnBean {
 		}
 	}
 	
+	/**
+	 * DBコネクションを取得する。<br>
+	 * DB接続情報に対応する{@link MospConnectionPool}からDBコネクションを取得し、
+	 * {@link #connection}に割当てる。<br>
+	 * 取得したコネクションはAutoCommit機能を利用しない。<br>
+	 * {@link #releaseConnection()}でコネクションはプールへ返却される。<br>
+	 * @param mospParams MosP処理情報
+	 * @param rdbdriver JDBC名
+	 * @param rdbname DBのURL
+	 * @param userid DB接続ユーザーID
+	 * @param password パスワード
+	 * @throws MospException ドライバクラスが見つからない場合、或いはSQL例外が発生した場合
+	 */
+	protected void createPooledConnection(MospParams mospParams, String rdbdriver, String rdbname, String userid,
+			String password) throws MospException {
+		MospConnectionPool pool = null;
+		try {
+			// コネクションプール取得
+			pool = MospConnectionPool.getPool(mospParams, rdbdriver, rdbname, userid, password);
+		} catch (ClassNotFoundException e) {
+			// ドライバクラスが見つからない場合
+			throw new MospException(e, ExceptionConst.EX_FAIL_DB_CONNECT, null);
+		}
+		// コネクションプールからコネクションを生成
+		createConnection(pool);
+		// リーク検出
+		List<String> leaks = pool.detectLeaks();
+		for (String leak : leaks) {
+			// DB接続ログ(リーク検出)出力
+			LogUtility.dbConnect(mospParams, leak);
+		}
+		// DB接続ログ出力
+		LogUtility.dbConnect(mospParams, pool.toString() + connection.toString());
+	}
+	
 	/**
 	 * DBコネクションを取得する。<br>
 	 * DataSourceを用いてDBコネクションを取得し、{@link #connection}に割当てる。<br>
@@ -235,6 +300,15 @@ public class DBConnBean {
 		}
 	}
 	
+	/**
+	 * 保持しているデータソース及びコネクションプールを破棄する。<br>
+	 * アプリケーション終了時に用いる。<br>
+	 */
+	public static void closeDataSources() {
+		DATA_SOURCES.clear();
+		MospConnectionPool.closeAll();
+	}
+	
 	/**
 	 * トランザクションをコミットする。<br>
 	 * {@link #connection}のトランザクションをコミットする。
@@ -245,6 +319,10 @@ public class DBConnBean {
 			if (connection != null && !connection.isClosed()) {
 				// コミット
 				connection.commit();
+				// トランザクション終了通知
+				ConnectionStateTracker.transactionEnded(connection);
+				// マスタキャッシュにコミットを通知
+				MospMasterCache.committed(connection);
 			}
 		} catch (SQLException e) {
 			throw new MospException(e);
@@ -261,6 +339,10 @@ public class DBConnBean {
 			if (connection != null && !connection.isClosed()) {
 				// ロールバック
 				connection.rollback();
+				// マスタキャッシュにロールバックを通知
+				MospMasterCache.rolledBack(connection);
+				// コネクション状態破棄
+				ConnectionStateTracker.remove(connection);
 				// 解除
 				connection.close();
 			}
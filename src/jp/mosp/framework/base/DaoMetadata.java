@@ -0,0 +1,203 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ *
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.base;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * DAOクラスのSQL作成情報。<br>
+ * <br>
+ * DAOクラスの定数(TABLE、COL_*、KEY_*)から取得したテーブル名及び列名と、
+ * それらから作成したSQL文字列を保持する。<br>
+ * リフレクションによる定数の取得はDAOクラス毎に一度だけ行い、
+ * 作成したSQL文字列は{@link BaseDao}が再利用する。<br>
+ * 保持する情報は不変であり、複数のスレッドから参照することができる。<br>
+ */
+public final class DaoMetadata {
+	
+	/**
+	 * 定数名(テーブル名)。<br>
+	 */
+	protected static final String								FIELD_TABLE		= "TABLE";
+	
+	/**
+	 * 定数名プレフィックス(列名)。<br>
+	 */
+	protected static final String								PREFIX_COLUMN	= "COL_";
+	
+	/**
+	 * 定数名プレフィックス(キー列名)。<br>
+	 */
+	protected static final String								PREFIX_KEY		= "KEY_";
+	
+	/**
+	 * DAOクラス毎のSQL作成情報群。<br>
+	 */
+	private static final ConcurrentMap<Class<?>, DaoMetadata>	REGISTRY		= new ConcurrentHashMap<Class<?>, DaoMetadata>();
+	
+	/**
+	 * テーブル名(定数が無い場合はnull)。<br>
+	 */
+	private final String										table;
+	
+	/**
+	 * テーブル名取得時の例外(取得できた場合はnull)。<br>
+	 */
+	private final Exception										tableException;
+	
+	/**
+	 * 列名リスト。<br>
+	 */
+	private final List<String>									columnList;
+	
+	/**
+	 * キー列名リスト。<br>
+	 */
+	private final List<String>									keyList;
+	
+	/**
+	 * SQL文字列群(キー：SQL種類及び共通列設定)。<br>
+	 */
+	private final ConcurrentMap<String, String>					statements		= new ConcurrentHashMap<String, String>();
+	
+	
+	/**
+	 * DAOクラスの定数からSQL作成情報を生成する。<br>
+	 * @param cls DAOクラス
+	 * @throws MospException フィールド値の取得に失敗した場合
+	 */
+	private DaoMetadata(Class<?> cls) throws MospException {
+		// テーブル名取得
+		String tableName = null;
+		Exception exception = null;
+		try {
+			tableName = (String)cls.getField(FIELD_TABLE).get(null);
+		} catch (NoSuchFieldException e) {
+			exception = e;
+		} catch (IllegalAccessException e) {
+			exception = e;
+		}
+		table = tableName;
+		tableException = exception;
+		// 列名及びキー列名取得
+		List<String> columns = new ArrayList<String>();
+		List<String> keys = new ArrayList<String>();
+		for (Field field : cls.getFields()) {
+			if (field.getName().indexOf(PREFIX_COLUMN) == 0) {
+				columns.add(getFieldValue(field));
+			} else if (field.getName().indexOf(PREFIX_KEY) == 0) {
+				keys.add(getFieldValue(field));
+			}
+		}
+		columnList = Collections.unmodifiableList(columns);
+		keyList = Collections.unmodifiableList(keys);
+	}
+	
+	/**
+	 * DAOクラスのSQL作成情報を取得する。<br>
+	 * 初回のみDAOクラスの定数から作成し、以降は保持しているものを返す。<br>
+	 * @param cls DAOクラス
+	 * @return SQL作成情報
+	 * @throws MospException フィールド値の取得に失敗した場合
+	 */
+	public static DaoMetadata get(Class<?> cls) throws MospException {
+		DaoMetadata metadata = REGISTRY.get(cls);
+		if (metadata != null) {
+			return metadata;
+		}
+		metadata = new DaoMetadata(cls);
+		DaoMetadata registered = REGISTRY.putIfAbsent(cls, metadata);
+		return registered == null ? metadata : registered;
+	}
+	
+	/**
+	 * フィールド値を取得する。<br>
+	 * @param field フィールド
+	 * @return フィールド値
+	 * @throws MospException フィールド値の取得に失敗した場合
+	 */
+	private static String getFieldValue(Field field) throws MospException {
+		try {
+			return (String)field.get(null);
+		} catch (IllegalAccessException e) {
+			throw new MospException(e);
+		}
+	}
+	
+	/**
+	 * テーブル名を取得する。<br>
+	 * @return テーブル名
+	 * @throws MospException DAOクラスにテーブル名が定義されていない場合
+	 */
+	public String getTable() throws MospException {
+		if (tableException != null) {
+			throw new MospException(tableException);
+		}
+		return table;
+	}
+	
+	/**
+	 * テーブル名が定義されているかを確認する。<br>
+	 * @return 確認結果(true：定義されている、false：定義されていない)
+	 */
+	public boolean hasTable() {
+		return tableException == null;
+	}
+	
+	/**
+	 * 列名リスト(変更不可)を取得する。<br>
+	 * @return 列名リスト
+	 */
+	public List<String> getColumnList() {
+		return columnList;
+	}
+	
+	/**
+	 * キー列名リスト(変更不可)を取得する。<br>
+	 * @return キー列名リスト
+	 */
+	public List<String> getKeyList() {
+		return keyList;
+	}
+	
+	/**
+	 * 保持しているSQL文字列を取得する。<br>
+	 * @param key SQL種類及び共通列設定
+	 * @return SQL文字列(保持していない場合はnull)
+	 */
+	public String getStatement(String key) {
+		return statements.get(key);
+	}
+	
+	/**
+	 * SQL文字列を保持する。<br>
+	 * @param key       SQL種類及び共通列設定
+	 * @param statement SQL文字列
+	 * @return 保持されたSQL文字列
+	 */
+	public String putStatement(String key, String statement) {
+		String registered = statements.putIfAbsent(key, statement);
+		return registered == null ? statement : registered;
+	}
+	
+}
@@ -0,0 +1,611 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.base;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jp.mosp.framework.property.MospProperties;
+
+/**
+ * MosPコマンド統計情報クラス。<br>
+ * <br>
+ * {@link Controller}が処理したコマンド毎に、処理時間とリクエスト毎の資源利用量を集計する。<br>
+ * リクエスト毎に、SQL実行数、取得行数({@link BaseDao#next()}による)、
+ * {@link jp.mosp.framework.instance.InstanceFactory}で生成したBean及びDAOの数、
+ * SQL実行に要した時間を計測し、コマンド毎に合算する。<br>
+ * 処理時間は、累積の度数分布と、直近の一定件数から算出する百分位数を保持する。<br>
+ * <br>
+ * 計測は設定{@link #APP_COMMAND_STATISTICS}で有効にする(JMXからも切り替えられる)。<br>
+ * 無効の場合、各計測箇所の処理はフラグの確認のみとなる。<br>
+ * <br>
+ * 計測中の情報はスレッド毎に保持するため、リクエストスレッド以外(ジョブ等)で実行されたSQLは計測されない。<br>
+ * 連続実行コマンドにより処理が入れ子になった場合、内側のコマンドの計測値は外側のコマンドにも加算される。<br>
+ */
+public final class MospCommandStatistics {
+	
+	/**
+	 * MosPアプリケーション設定キー(コマンド統計情報計測要否)。<br>
+	 */
+	public static final String								APP_COMMAND_STATISTICS			= "CommandStatistics";
+	
+	/**
+	 * MosPアプリケーション設定キー(百分位数算出対象件数)。<br>
+	 */
+	public static final String								APP_COMMAND_STATISTICS_SAMPLES	= "CommandStatisticsSamples";
+	
+	/**
+	 * 百分位数算出対象件数(デフォルト)。<br>
+	 */
+	protected static final int								DEFAULT_SAMPLES					= 1024;
+	
+	/**
+	 * 度数分布の階級数。<br>
+	 * 階級の上限は1ミリ秒から2倍ずつ増え、最後の階級は上限無しとなる。<br>
+	 */
+	protected static final int								HISTOGRAM_SIZE					= 18;
+	
+	/**
+	 * 1ミリ秒(ナノ秒)。<br>
+	 */
+	protected static final long								NANOS_PER_MILLI					= 1000000L;
+	
+	/**
+	 * コマンド統計情報群(キー：コマンド)。<br>
+	 */
+	protected static final ConcurrentHashMap<String, Entry>	ENTRIES							= new ConcurrentHashMap<String, Entry>();
+	
+	/**
+	 * 計測中のリクエスト情報(スレッド毎)。<br>
+	 */
+	protected static final ThreadLocal<Measurement>			CURRENT							= new ThreadLocal<Measurement>();
+	
+	/**
+	 * 計測要否。<br>
+	 */
+	private static volatile boolean							enabled;
+	
+	/**
+	 * 百分位数算出対象件数。<br>
+	 */
+	private static volatile int								samples							= DEFAULT_SAMPLES;
+	
+	
+	/**
+	 * 他クラスからのインスタンス化を防止する。<br>
+	 */
+	private MospCommandStatistics() {
+		// 処理無し
+	}
+	
+	/**
+	 * MosP設定情報から計測要否及び百分位数算出対象件数を設定する。<br>
+	 * @param properties MosP設定情報
+	 */
+	public static void configure(MospProperties properties) {
+		samples = Math.max(1, properties.getApplicationProperty(APP_COMMAND_STATISTICS_SAMPLES, DEFAULT_SAMPLES));
+		enabled = properties.getApplicationPropertyBool(APP_COMMAND_STATISTICS);
+	}
+	
+	/**
+	 * @return 計測要否
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+	
+	/**
+	 * @param enabled セットする計測要否
+	 */
+	public static void setEnabled(boolean enabled) {
+		MospCommandStatistics.enabled = enabled;
+	}
+	
+	/**
+	 * リクエストの計測を開始する。<br>
+	 * @return 計測中のリクエスト情報(計測しない場合はnull)
+	 */
+	public static Measurement begin() {
+		if (enabled == false) {
+			return null;
+		}
+		Measurement measurement = new Measurement(CURRENT.get());
+		CURRENT.set(measurement);
+		return measurement;
+	}
+	
+	/**
+	 * リクエストの計測を終了し、コマンドの統計情報に加える。<br>
+	 * @param measurement 計測中のリクエスト情報({@link #begin()}の戻り値)
+	 * @param command     コマンド(nullの場合は統計情報に加えない)
+	 */
+	public static void end(Measurement measurement, String command) {
+		if (measurement == null) {
+			return;
+		}
+		long elapsed = System.nanoTime() - measurement.startNanos;
+		// 外側のリクエスト情報に戻す
+		Measurement parent = measurement.parent;
+		if (parent == null) {
+			CURRENT.remove();
+		} else {
+			CURRENT.set(parent);
+			parent.add(measurement);
+		}
+		if (command == null || command.isEmpty()) {
+			return;
+		}
+		// コマンド統計情報取得
+		Entry entry = ENTRIES.get(command);
+		if (entry == null) {
+			entry = new Entry(command);
+			Entry previous = ENTRIES.putIfAbsent(command, entry);
+			if (previous != null) {
+				entry = previous;
+			}
+		}
+		entry.record(elapsed, measurement);
+	}
+	
+	/**
+	 * SQL実行前に呼び出し、計測開始時刻を取得する。<br>
+	 * @return 計測開始時刻(ナノ秒、計測しない場合は0)
+	 */
+	public static long sqlStart() {
+		if (enabled == false) {
+			return 0L;
+		}
+		return System.nanoTime();
+	}
+	
+	/**
+	 * SQL実行後に呼び出し、SQL実行数及び実行時間を加える。<br>
+	 * @param startNanos 計測開始時刻({@link #sqlStart()}の戻り値)
+	 */
+	public static void sqlEnd(long startNanos) {
+		if (startNanos == 0L) {
+			return;
+		}
+		Measurement measurement = CURRENT.get();
+		if (measurement != null) {
+			measurement.sqlCount++;
+			measurement.dbNanos += System.nanoTime() - startNanos;
+		}
+	}
+	
+	/**
+	 * 取得行数を加える。<br>
+	 */
+	public static void rowFetched() {
+		if (enabled == false) {
+			return;
+		}
+		Measurement measurement = CURRENT.get();
+		if (measurement != null) {
+			measurement.rowCount++;
+		}
+	}
+	
+	/**
+	 * 生成したBeanの数を加える。<br>
+	 */
+	public static void beanLoaded() {
+		if (enabled == false) {
+			return;
+		}
+		Measurement measurement = CURRENT.get();
+		if (measurement != null) {
+			measurement.beanCount++;
+		}
+	}
+	
+	/**
+	 * 生成したDAOの数を加える。<br>
+	 */
+	public static void daoLoaded() {
+		if (enabled == false) {
+			return;
+		}
+		Measurement measurement = CURRENT.get();
+		if (measurement != null) {
+			measurement.daoCount++;
+		}
+	}
+	
+	/**
+	 * 処理時間の長いコマンドの統計情報を取得する。<br>
+	 * 直近の処理時間の95パーセンタイルの降順で並べる。<br>
+	 * @param count 取得件数
+	 * @return コマンド統計情報リスト
+	 */
+	public static List<Entry> getSlowEntries(int count) {
+		// 95パーセンタイルを算出
+		Map<Entry, Long> map = new HashMap<Entry, Long>();
+		for (Entry entry : ENTRIES.values()) {
+			map.put(entry, entry.getPercentile(95D));
+		}
+		List<Entry> list = new ArrayList<Entry>(map.keySet());
+		Collections.sort(list, new SlowEntryComparator(map));
+		if (list.size() > count) {
+			return new ArrayList<Entry>(list.subList(0, Math.max(0, count)));
+		}
+		return list;
+	}
+	
+	/**
+	 * 処理時間の長いコマンドの統計情報を文字列で取得する。<br>
+	 * @param count 取得件数
+	 * @return コマンド統計情報文字列リスト
+	 */
+	public static List<String> getSlowCommands(int count) {
+		List<String> list = new ArrayList<String>();
+		for (Entry entry : getSlowEntries(count)) {
+			list.add(entry.toString());
+		}
+		return list;
+	}
+	
+	/**
+	 * 全てのコマンド統計情報を破棄する。<br>
+	 */
+	public static void reset() {
+		ENTRIES.clear();
+	}
+	
+	/**
+	 * ナノ秒をミリ秒(小数点以下1桁)の文字列に変換する。<br>
+	 * @param nanos ナノ秒
+	 * @return ミリ秒文字列
+	 */
+	protected static String toMillis(long nanos) {
+		return String.valueOf(Math.round(nanos / (NANOS_PER_MILLI / 10D)) / 10D);
+	}
+	
+	
+	/**
+	 * 計測中のリクエスト情報クラス。<br>
+	 * 同一スレッドからのみ更新される。<br>
+	 */
+	public static final class Measurement {
+		
+		/**
+		 * 外側のリクエスト情報。<br>
+		 */
+		protected final Measurement	parent;
+		
+		/**
+		 * 計測開始時刻(ナノ秒)。<br>
+		 */
+		protected final long		startNanos;
+		
+		/**
+		 * SQL実行数。<br>
+		 */
+		protected long				sqlCount;
+		
+		/**
+		 * 取得行数。<br>
+		 */
+		protected long				rowCount;
+		
+		/**
+		 * 生成したBeanの数。<br>
+		 */
+		protected long				beanCount;
+		
+		/**
+		 * 生成したDAOの数。<br>
+		 */
+		protected long				daoCount;
+		
+		/**
+		 * SQL実行時間(ナノ秒)。<br>
+		 */
+		protected long				dbNanos;
+		
+		
+		/**
+		 * 計測を開始する。<br>
+		 * @param parent 外側のリクエスト情報
+		 */
+		protected Measurement(Measurement parent) {
+			this.parent = parent;
+			startNanos = System.nanoTime();
+		}
+		
+		/**
+		 * 内側のリクエスト情報の計測値を加える。<br>
+		 * @param other 内側のリクエスト情報
+		 */
+		protected void add(Measurement other) {
+			sqlCount += other.sqlCount;
+			rowCount += other.rowCount;
+			beanCount += other.beanCount;
+			daoCount += other.daoCount;
+			dbNanos += other.dbNanos;
+		}
+		
+	}
+	
+	/**
+	 * コマンド統計情報クラス。<br>
+	 */
+	public static final class Entry {
+		
+		/**
+		 * コマンド。<br>
+		 */
+		protected final String	command;
+		
+		/**
+		 * 処理件数。<br>
+		 */
+		protected long			count;
+		
+		/**
+		 * 処理時間合計(ナノ秒)。<br>
+		 */
+		protected long			totalNanos;
+		
+		/**
+		 * 最大処理時間(ナノ秒)。<br>
+		 */
+		protected long			maxNanos;
+		
+		/**
+		 * SQL実行時間合計(ナノ秒)。<br>
+		 */
+		protected long			dbNanos;
+		
+		/**
+		 * SQL実行数合計。<br>
+		 */
+		protected long			sqlCount;
+		
+		/**
+		 * 取得行数合計。<br>
+		 */
+		protected long			rowCount;
+		
+		/**
+		 * 生成したBeanの数合計。<br>
+		 */
+		protected long			beanCount;
+		
+		/**
+		 * 生成したDAOの数合計。<br>
+		 */
+		protected long			daoCount;
+		
+		/**
+		 * 処理時間の度数分布。<br>
+		 */
+		protected final long[]	histogram;
+		
+		/**
+		 * 直近の処理時間(ナノ秒、循環して格納する)。<br>
+		 */
+		protected final long[]	recent;
+		
+		/**
+		 * 直近の処理時間の格納件数。<br>
+		 */
+		protected int			recentSize;
+		
+		/**
+		 * 直近の処理時間の次の格納位置。<br>
+		 */
+		protected int			recentIndex;
+		
+		
+		/**
+		 * コマンド統計情報を生成する。<br>
+		 * @param command コマンド
+		 */
+		protected Entry(String command) {
+			this.command = command;
+			histogram = new long[HISTOGRAM_SIZE];
+			recent = new long[samples];
+		}
+		
+		/**
+		 * リクエストの計測値を加える。<br>
+		 * @param elapsed     処理時間(ナノ秒)
+		 * @param measurement リクエスト情報
+		 */
+		protected synchronized void record(long elapsed, Measurement measurement) {
+			count++;
+			totalNanos += elapsed;
+			maxNanos = Math.max(maxNanos, elapsed);
+			dbNanos += measurement.dbNanos;
+			sqlCount += measurement.sqlCount;
+			rowCount += measurement.rowCount;
+			beanCount += measurement.beanCount;
+			daoCount += measurement.daoCount;
+			// 度数分布に加える
+			long millis = elapsed / NANOS_PER_MILLI;
+			int bucket = millis <= 0 ? 0 : 64 - Long.numberOfLeadingZeros(millis);
+			histogram[Math.min(bucket, HISTOGRAM_SIZE - 1)]++;
+			// 直近の処理時間に加える
+			recent[recentIndex] = elapsed;
+			recentIndex = (recentIndex + 1) % recent.length;
+			recentSize = Math.min(recentSize + 1, recent.length);
+		}
+		
+		/**
+		 * 直近の処理時間の百分位数を取得する。<br>
+		 * @param percentile 百分位(0～100)
+		 * @return 処理時間(ナノ秒、処理件数が0の場合は0)
+		 */
+		public synchronized long getPercentile(double percentile) {
+			if (recentSize == 0) {
+				return 0L;
+			}
+			long[] sorted = Arrays.copyOf(recent, recentSize);
+			Arrays.sort(sorted);
+			int index = (int)Math.ceil(percentile / 100D * sorted.length) - 1;
+			return sorted[Math.min(Math.max(index, 0), sorted.length - 1)];
+		}
+		
+		/**
+		 * 処理時間の度数分布を文字列で取得する。<br>
+		 * 件数が0の階級は出力しない。<br>
+		 * @return 度数分布文字列(例：&lt;1ms=10 &lt;2ms=3 &gt;=65536ms=1)
+		 */
+		public synchronized String getHistogram() {
+			StringBuilder sb = new StringBuilder();
+			for (int i = 0; i < histogram.length; i++) {
+				if (histogram[i] == 0) {
+					continue;
+				}
+				if (sb.length() > 0) {
+					sb.append(' ');
+				}
+				if (i == histogram.length - 1) {
+					sb.append(">=").append(1L << (i - 1));
+				} else {
+					sb.append('<').append(1L << i);
+				}
+				sb.append("ms=").append(histogram[i]);
+			}
+			return sb.toString();
+		}
+		
+		/**
+		 * @return コマンド
+		 */
+		public String getCommand() {
+			return command;
+		}
+		
+		/**
+		 * @return 処理件数
+		 */
+		public synchronized long getCount() {
+			return count;
+		}
+		
+		/**
+		 * @return 処理時間合計(ナノ秒)
+		 */
+		public synchronized long getTotalNanos() {
+			return totalNanos;
+		}
+		
+		/**
+		 * @return 最大処理時間(ナノ秒)
+		 */
+		public synchronized long getMaxNanos() {
+			return maxNanos;
+		}
+		
+		/**
+		 * @return SQL実行時間合計(ナノ秒)
+		 */
+		public synchronized long getDbNanos() {
+			return dbNanos;
+		}
+		
+		/**
+		 * @return SQL実行数合計
+		 */
+		public synchronized long getSqlCount() {
+			return sqlCount;
+		}
+		
+		/**
+		 * @return 取得行数合計
+		 */
+		public synchronized long getRowCount() {
+			return rowCount;
+		}
+		
+		/**
+		 * @return 生成したBeanの数合計
+		 */
+		public synchronized long getBeanCount() {
+			return beanCount;
+		}
+		
+		/**
+		 * @return 生成したDAOの数合計
+		 */
+		public synchronized long getDaoCount() {
+			return daoCount;
+		}
+		
+		@Override
+		public synchronized String toString() {
+			long n = Math.max(count, 1L);
+			StringBuilder sb = new StringBuilder(command);
+			sb.append(" count=").append(count);
+			sb.append(" avg=").append(toMillis(totalNanos / n)).append("ms");
+			sb.append(" p50=").append(toMillis(getPercentile(50D))).append("ms");
+			sb.append(" p95=").append(toMillis(getPercentile(95D))).append("ms");
+			sb.append(" p99=").append(toMillis(getPercentile(99D))).append("ms");
+			sb.append(" max=").append(toMillis(maxNanos)).append("ms");
+			sb.append(" db=").append(toMillis(dbNanos / n)).append("ms");
+			sb.append(" java=").append(toMillis((totalNanos - dbNanos) / n)).append("ms");
+			sb.append(" sql=").append(sqlCount / n);
+			sb.append(" rows=").append(rowCount / n);
+			sb.append(" beans=").append(beanCount / n);
+			sb.append(" daos=").append(daoCount / n);
+			sb.append(" [").append(getHistogram()).append(']');
+			return sb.toString();
+		}
+		
+	}
+	
+	/**
+	 * コマンド統計情報を直近の処理時間の95パーセンタイルの降順に並べるクラス。<br>
+	 */
+	protected static final class SlowEntryComparator implements Comparator<Entry> {
+		
+		/**
+		 * 95パーセンタイル群(キー：コマンド統計情報)。<br>
+		 */
+		protected final Map<Entry, Long>	percentiles;
+		
+		
+		/**
+		 * 比較クラスを生成する。<br>
+		 * @param percentiles 95パーセンタイル群(キー：コマンド統計情報)
+		 */
+		protected SlowEntryComparator(Map<Entry, Long> percentiles) {
+			this.percentiles = percentiles;
+		}
+		
+		@Override
+		public int compare(Entry o1, Entry o2) {
+			long p1 = percentiles.get(o1).longValue();
+			long p2 = percentiles.get(o2).longValue();
+			if (p1 != p2) {
+				return p1 > p2 ? -1 : 1;
+			}
+			return o1.getCommand().compareTo(o2.getCommand());
+		}
+		
+	}
+	
+}
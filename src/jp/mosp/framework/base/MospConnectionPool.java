@@ -0,0 +1,1017 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ *
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.base;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+/**
+ * MosP組込コネクションプール。<br>
+ * <br>
+ * JNDIのデータソースを利用しない場合に、DB接続情報毎にコネクションを保持し、
+ * リクエスト毎の接続及び認証を不要とする。<br>
+ * プールの設定は、MosPアプリケーション設定(connection.xml等)から取得する。<br>
+ * <br>
+ * {@link #getConnection()}で取得したコネクションを閉じると、
+ * 物理的な接続は切断されずにプールへ返却される。<br>
+ */
+public class MospConnectionPool implements DataSource {
+	
+	/**
+	 * MosPアプリケーション設定キー(コネクションプール利用設定)。
+	 */
+	public static final String								APP_DB_POOL						= "DbPool";
+	
+	/**
+	 * MosPアプリケーション設定キー(コネクションプール：最大接続数)。
+	 */
+	public static final String								APP_DB_POOL_MAX_TOTAL			= "DbPoolMaxTotal";
+	
+	/**
+	 * MosPアプリケーション設定キー(コネクションプール：最大待機接続数)。
+	 */
+	public static final String								APP_DB_POOL_MAX_IDLE			= "DbPoolMaxIdle";
+	
+	/**
+	 * MosPアプリケーション設定キー(コネクションプール：最小待機接続数)。
+	 */
+	public static final String								APP_DB_POOL_MIN_IDLE			= "DbPoolMinIdle";
+	
+	/**
+	 * MosPアプリケーション設定キー(コネクションプール：取得待機時間(ミリ秒))。
+	 */
+	public static final String								APP_DB_POOL_MAX_WAIT			= "DbPoolMaxWait";
+	
+	/**
+	 * MosPアプリケーション設定キー(コネクションプール：待機接続破棄時間(秒))。
+	 */
+	public static final String								APP_DB_POOL_IDLE_TIMEOUT		= "DbPoolIdleTimeout";
+	
+	/**
+	 * MosPアプリケーション設定キー(コネクションプール：取得時検証要否)。
+	 */
+	public static final String								APP_DB_POOL_TEST_ON_BORROW		= "DbPoolTestOnBorrow";
+	
+	/**
+	 * MosPアプリケーション設定キー(コネクションプール：検証SQL)。<br>
+	 * 設定されていない場合は、{@link Connection#isValid(int)}で検証する。<br>
+	 */
+	public static final String								APP_DB_POOL_VALIDATION_QUERY	= "DbPoolValidationQuery";
+	
+	/**
+	 * MosPアプリケーション設定キー(コネクションプール：検証タイムアウト(秒))。
+	 */
+	public static final String								APP_DB_POOL_VALIDATION_TIMEOUT	= "DbPoolValidationTimeout";
+	
+	/**
+	 * MosPアプリケーション設定キー(コネクションプール：リーク検出時間(ミリ秒))。<br>
+	 * 0以下の場合は、リーク検出を行わない。<br>
+	 */
+	public static final String								APP_DB_POOL_LEAK_THRESHOLD		= "DbPoolLeakThreshold";
+	
+	/**
+	 * 最大接続数初期値。
+	 */
+	protected static final int								DEFAULT_MAX_TOTAL				= 20;
+	
+	/**
+	 * 最大待機接続数初期値。
+	 */
+	protected static final int								DEFAULT_MAX_IDLE				= 10;
+	
+	/**
+	 * 取得待機時間初期値(ミリ秒)。
+	 */
+	protected static final int								DEFAULT_MAX_WAIT				= 30000;
+	
+	/**
+	 * 待機接続破棄時間初期値(秒)。
+	 */
+	protected static final int								DEFAULT_IDLE_TIMEOUT			= 600;
+	
+	/**
+	 * 検証タイムアウト初期値(秒)。
+	 */
+	protected static final int								DEFAULT_VALIDATION_TIMEOUT		= 5;
+	
+	/**
+	 * 保守間隔(秒)。<br>
+	 * 待機接続の破棄及び最小待機接続数までの補充を行う間隔。<br>
+	 */
+	protected static final int								MAINTAIN_INTERVAL				= 30;
+	
+	/**
+	 * 保守スレッド名。
+	 */
+	protected static final String							MAINTAIN_THREAD_NAME			= "MospConnectionPool-maintain";
+	
+	/**
+	 * コネクションプール群(キー：DB接続情報)。<br>
+	 */
+	protected static final Map<String, MospConnectionPool>	POOLS							= new ConcurrentHashMap<String, MospConnectionPool>();
+	
+	/**
+	 * 保守処理実行サービス(プール生成時に開始)。<br>
+	 */
+	protected static ScheduledExecutorService				maintainer;
+	
+	/**
+	 * DB接続情報：URL。
+	 */
+	protected final String									url;
+	
+	/**
+	 * DB接続情報：ユーザ。
+	 */
+	protected final String									user;
+	
+	/**
+	 * DB接続情報：パスワード。
+	 */
+	protected final String									password;
+	
+	/**
+	 * 最大接続数。
+	 */
+	protected final int										maxTotal;
+	
+	/**
+	 * 最大待機接続数。
+	 */
+	protected final int										maxIdle;
+	
+	/**
+	 * 最小待機接続数。
+	 */
+	protected final int										minIdle;
+	
+	/**
+	 * 取得待機時間(ミリ秒)。
+	 */
+	protected final long									maxWait;
+	
+	/**
+	 * 待機接続破棄時間(ミリ秒)。
+	 */
+	protected final long									idleTimeout;
+	
+	/**
+	 * 取得時検証要否。
+	 */
+	protected final boolean									testOnBorrow;
+	
+	/**
+	 * 検証SQL。
+	 */
+	protected final String									validationQuery;
+	
+	/**
+	 * 検証タイムアウト(秒)。
+	 */
+	protected final int										validationTimeout;
+	
+	/**
+	 * リーク検出時間(ミリ秒)。
+	 */
+	protected final long									leakThreshold;
+	
+	/**
+	 * 待機接続群(先頭が直近に返却されたもの)。
+	 */
+	protected final Deque<PooledEntry>						idle							= new ArrayDeque<PooledEntry>();
+	
+	/**
+	 * 貸出中接続群。
+	 */
+	protected final Map<PooledEntry, PooledEntry>			active							= new IdentityHashMap<PooledEntry, PooledEntry>();
+	
+	/**
+	 * プール操作用ロック。
+	 */
+	protected final ReentrantLock							lock							= new ReentrantLock();
+	
+	/**
+	 * 接続返却通知。
+	 */
+	protected final Condition								returned						= lock.newCondition();
+	
+	/**
+	 * 閉鎖フラグ。
+	 */
+	protected volatile boolean								closed;
+	
+	/**
+	 * 統計情報(物理接続生成数)。
+	 */
+	protected final AtomicLong								createdCount					= new AtomicLong();
+	
+	/**
+	 * 統計情報(物理接続破棄数)。
+	 */
+	protected final AtomicLong								destroyedCount					= new AtomicLong();
+	
+	/**
+	 * 統計情報(貸出数)。
+	 */
+	protected final AtomicLong								borrowedCount					= new AtomicLong();
+	
+	/**
+	 * 統計情報(取得待機発生数)。
+	 */
+	protected final AtomicLong								waitCount						= new AtomicLong();
+	
+	/**
+	 * 統計情報(取得待機時間合計(ミリ秒))。
+	 */
+	protected final AtomicLong								waitMillis						= new AtomicLong();
+	
+	/**
+	 * 統計情報(取得待機タイムアウト数)。
+	 */
+	protected final AtomicLong								timeoutCount					= new AtomicLong();
+	
+	/**
+	 * 統計情報(検証失敗数)。
+	 */
+	protected final AtomicLong								validationFailedCount			= new AtomicLong();
+	
+	/**
+	 * 統計情報(リーク検出数)。
+	 */
+	protected final AtomicLong								leakCount						= new AtomicLong();
+	
+	
+	/**
+	 * コネクションプールを生成する。<br>
+	 * @param url      DB接続情報：URL
+	 * @param user     DB接続情報：ユーザ
+	 * @param password DB接続情報：パスワード
+	 * @param mospParams MosP処理情報(プール設定取得に用いる)
+	 */
+	protected MospConnectionPool(String url, String user, String password, MospParams mospParams) {
+		this.url = url;
+		this.user = user;
+		this.password = password;
+		maxTotal = Math.max(1, mospParams.getApplicationProperty(APP_DB_POOL_MAX_TOTAL, DEFAULT_MAX_TOTAL));
+		maxIdle = Math.min(maxTotal, mospParams.getApplicationProperty(APP_DB_POOL_MAX_IDLE, DEFAULT_MAX_IDLE));
+		minIdle = Math.min(maxIdle, mospParams.getApplicationProperty(APP_DB_POOL_MIN_IDLE, 0));
+		maxWait = mospParams.getApplicationProperty(APP_DB_POOL_MAX_WAIT, DEFAULT_MAX_WAIT);
+		idleTimeout = TimeUnit.SECONDS
+			.toMillis(mospParams.getApplicationProperty(APP_DB_POOL_IDLE_TIMEOUT, DEFAULT_IDLE_TIMEOUT));
+		String testOnBorrowValue = mospParams.getApplicationProperty(APP_DB_POOL_TEST_ON_BORROW);
+		testOnBorrow = testOnBorrowValue == null || Boolean.parseBoolean(testOnBorrowValue);
+		String query = mospParams.getApplicationProperty(APP_DB_POOL_VALIDATION_QUERY);
+		validationQuery = query == null || query.isEmpty() ? null : query;
+		validationTimeout = mospParams.getApplicationProperty(APP_DB_POOL_VALIDATION_TIMEOUT,
+				DEFAULT_VALIDATION_TIMEOUT);
+		leakThreshold = mospParams.getApplicationProperty(APP_DB_POOL_LEAK_THRESHOLD, 0);
+	}
+	
+	/**
+	 * コネクションプール利用設定を確認する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 確認結果(true：利用する、false：利用しない)
+	 */
+	public static boolean isPoolEnabled(MospParams mospParams) {
+		return mospParams.getApplicationPropertyBool(APP_DB_POOL);
+	}
+	
+	/**
+	 * DB接続情報に対応するコネクションプールを取得する。<br>
+	 * 対象となるプールが存在しない場合は、ドライバを読み込みプールを生成する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param driver     DB接続情報：ドライバ
+	 * @param url        DB接続情報：URL
+	 * @param user       DB接続情報：ユーザ
+	 * @param password   DB接続情報：パスワード
+	 * @return コネクションプール
+	 * @throws ClassNotFoundException ドライバクラスが見つからない場合
+	 */
+	public static MospConnectionPool getPool(MospParams mospParams, String driver, String url, String user,
+			String password) throws ClassNotFoundException {
+		String key = driver + "\n" + url + "\n" + user + "\n" + password;
+		MospConnectionPool pool = POOLS.get(key);
+		if (pool != null) {
+			return pool;
+		}
+		boolean created = false;
+		synchronized (POOLS) {
+			pool = POOLS.get(key);
+			if (pool == null) {
+				// ドライバ読込(プール生成時のみ)
+				Class.forName(driver);
+				pool = new MospConnectionPool(url, user, password, mospParams);
+				POOLS.put(key, pool);
+				// 保守処理開始
+				startMaintainer();
+				created = true;
+			}
+		}
+		if (created) {
+			// 最小待機接続数まで接続(ピーク時の初回接続を待たずに確立しておく)
+			pool.fillIdle();
+		}
+		return pool;
+	}
+	
+	/**
+	 * 保守処理を開始する。<br>
+	 * 開始済の場合は、何もしない。<br>
+	 * {@link #POOLS}の同期中に呼び出す。<br>
+	 */
+	protected static void startMaintainer() {
+		if (maintainer != null) {
+			return;
+		}
+		maintainer = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+			
+			@Override
+			public Thread newThread(Runnable runnable) {
+				// アプリケーション終了を妨げないようにデーモンスレッドとする
+				Thread thread = new Thread(runnable, MAINTAIN_THREAD_NAME);
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		maintainer.scheduleWithFixedDelay(new Runnable() {
+			
+			@Override
+			public void run() {
+				for (MospConnectionPool pool : POOLS.values()) {
+					pool.maintain();
+				}
+			}
+		}, MAINTAIN_INTERVAL, MAINTAIN_INTERVAL, TimeUnit.SECONDS);
+	}
+	
+	/**
+	 * 全てのコネクションプールを閉鎖する。<br>
+	 * アプリケーション終了時に用いる。<br>
+	 */
+	public static void closeAll() {
+		synchronized (POOLS) {
+			// 保守処理停止
+			if (maintainer != null) {
+				maintainer.shutdownNow();
+				maintainer = null;
+			}
+			for (MospConnectionPool pool : POOLS.values()) {
+				pool.close();
+			}
+			POOLS.clear();
+		}
+	}
+	
+	/**
+	 * 全てのコネクションプールの統計情報を取得する。<br>
+	 * @return 統計情報群
+	 */
+	public static List<String> getStatistics() {
+		List<String> list = new ArrayList<String>();
+		for (MospConnectionPool pool : POOLS.values()) {
+			list.add(pool.toString());
+		}
+		return list;
+	}
+	
+	@Override
+	public Connection getConnection() throws SQLException {
+		if (closed) {
+			throw new SQLException("MospConnectionPool is closed: " + url);
+		}
+		long start = System.currentTimeMillis();
+		long deadline = start + maxWait;
+		boolean waited = false;
+		while (true) {
+			PooledEntry entry = null;
+			boolean create = false;
+			lock.lock();
+			try {
+				// 待機接続破棄時間を超過した接続を破棄
+				evictIdle(start);
+				entry = idle.pollFirst();
+				if (entry == null && active.size() < maxTotal) {
+					// 新規接続枠を確保
+					create = true;
+					entry = new PooledEntry(null);
+				}
+				if (entry == null) {
+					// 返却待ち
+					long remain = deadline - System.currentTimeMillis();
+					if (remain <= 0) {
+						timeoutCount.incrementAndGet();
+						throw new SQLException("MospConnectionPool wait timeout(" + maxWait + "ms): " + toString());
+					}
+					if (!waited) {
+						waited = true;
+						waitCount.incrementAndGet();
+					}
+					try {
+						returned.await(remain, TimeUnit.MILLISECONDS);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						throw new SQLException(e);
+					}
+					continue;
+				}
+				active.put(entry, entry);
+			} finally {
+				lock.unlock();
+			}
+			if (create) {
+				// 物理接続生成(ロック外)
+				try {
+					entry.physical = createPhysicalConnection();
+				} catch (SQLException e) {
+					release(entry);
+					throw e;
+				} catch (RuntimeException e) {
+					release(entry);
+					throw e;
+				}
+			} else if (testOnBorrow && !validate(entry.physical)) {
+				// 検証失敗時は破棄して再取得
+				validationFailedCount.incrementAndGet();
+				destroy(entry);
+				continue;
+			}
+			if (waited) {
+				waitMillis.addAndGet(System.currentTimeMillis() - start);
+			}
+			borrowedCount.incrementAndGet();
+			return entry.borrow(leakThreshold > 0);
+		}
+	}
+	
+	@Override
+	public Connection getConnection(String username, String pass) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+	
+	/**
+	 * 物理接続を生成する。<br>
+	 * @return 物理接続
+	 * @throws SQLException 接続に失敗した場合
+	 */
+	protected Connection createPhysicalConnection() throws SQLException {
+		Connection connection = DriverManager.getConnection(url, user, password);
+		createdCount.incrementAndGet();
+		return connection;
+	}
+	
+	/**
+	 * 物理接続を検証する。<br>
+	 * @param connection 物理接続
+	 * @return 検証結果(true：利用可能、false：利用不可)
+	 */
+	protected boolean validate(Connection connection) {
+		try {
+			if (connection.isClosed()) {
+				return false;
+			}
+			if (validationQuery == null) {
+				return connection.isValid(validationTimeout);
+			}
+			Statement statement = connection.createStatement();
+			try {
+				statement.setQueryTimeout(validationTimeout);
+				statement.execute(validationQuery);
+			} finally {
+				statement.close();
+			}
+			if (!connection.getAutoCommit()) {
+				connection.rollback();
+			}
+			return true;
+		} catch (SQLException e) {
+			return false;
+		}
+	}
+	
+	/**
+	 * 待機接続破棄時間を超過した待機接続を破棄する。<br>
+	 * ロック取得中に呼び出す。最小待機接続数は維持する。<br>
+	 * @param now 現在時刻(ミリ秒)
+	 */
+	protected void evictIdle(long now) {
+		if (idleTimeout <= 0) {
+			return;
+		}
+		Iterator<PooledEntry> it = idle.descendingIterator();
+		while (it.hasNext() && idle.size() > minIdle) {
+			PooledEntry entry = it.next();
+			if (now - entry.lastUsed < idleTimeout) {
+				// 末尾ほど古いため以降の確認は不要
+				break;
+			}
+			it.remove();
+			closePhysical(entry);
+		}
+	}
+	
+	/**
+	 * 待機接続を保守する。<br>
+	 * 待機接続破棄時間を超過した待機接続を破棄し、最小待機接続数まで補充する。<br>
+	 * 保守処理実行サービスから定期的に呼び出される。<br>
+	 */
+	protected void maintain() {
+		lock.lock();
+		try {
+			evictIdle(System.currentTimeMillis());
+		} finally {
+			lock.unlock();
+		}
+		fillIdle();
+	}
+	
+	/**
+	 * 最小待機接続数まで物理接続を生成して待機させる。<br>
+	 * 最大接続数は超えない。接続に失敗した場合は、次回の保守で再度補充する。<br>
+	 */
+	protected void fillIdle() {
+		while (true) {
+			PooledEntry entry = null;
+			lock.lock();
+			try {
+				if (closed || idle.size() >= minIdle || active.size() + idle.size() >= maxTotal) {
+					return;
+				}
+				// 新規接続枠を確保
+				entry = new PooledEntry(null);
+				active.put(entry, entry);
+			} finally {
+				lock.unlock();
+			}
+			try {
+				// 物理接続生成(ロック外)
+				entry.physical = createPhysicalConnection();
+				entry.physical.setAutoCommit(false);
+			} catch (SQLException e) {
+				destroy(entry);
+				return;
+			} catch (RuntimeException e) {
+				destroy(entry);
+				return;
+			}
+			lock.lock();
+			try {
+				active.remove(entry);
+				if (closed) {
+					closePhysical(entry);
+					return;
+				}
+				entry.lastUsed = System.currentTimeMillis();
+				idle.addLast(entry);
+				returned.signal();
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+	
+	/**
+	 * 貸出中の接続を返却する。<br>
+	 * 物理接続を初期状態(AutoCommit無効、未確定処理無し)に戻して待機させる。<br>
+	 * @param entry 接続
+	 */
+	protected void giveBack(PooledEntry entry) {
+		Connection physical = entry.physical;
+		boolean reusable = physical != null && !closed;
+		if (reusable) {
+			try {
+				if (physical.isClosed()) {
+					reusable = false;
+				} else {
+					if (!physical.getAutoCommit()) {
+						physical.rollback();
+					}
+					physical.setAutoCommit(false);
+				}
+			} catch (SQLException e) {
+				reusable = false;
+			}
+		}
+		if (!reusable) {
+			destroy(entry);
+			return;
+		}
+		lock.lock();
+		try {
+			active.remove(entry);
+			if (idle.size() < maxIdle) {
+				entry.lastUsed = System.currentTimeMillis();
+				idle.addFirst(entry);
+			} else {
+				closePhysical(entry);
+			}
+			returned.signal();
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * 接続枠を開放する(物理接続は生成されていない)。<br>
+	 * @param entry 接続
+	 */
+	protected void release(PooledEntry entry) {
+		lock.lock();
+		try {
+			active.remove(entry);
+			returned.signal();
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * 接続を破棄する。<br>
+	 * @param entry 接続
+	 */
+	protected void destroy(PooledEntry entry) {
+		lock.lock();
+		try {
+			active.remove(entry);
+			returned.signal();
+		} finally {
+			lock.unlock();
+		}
+		closePhysical(entry);
+	}
+	
+	/**
+	 * 物理接続を切断する。<br>
+	 * @param entry 接続
+	 */
+	protected void closePhysical(PooledEntry entry) {
+		if (entry.physical == null) {
+			return;
+		}
+		try {
+			entry.physical.close();
+		} catch (SQLException e) {
+			// 切断失敗時は処理無し
+		}
+		entry.physical = null;
+		destroyedCount.incrementAndGet();
+	}
+	
+	/**
+	 * リーク(リーク検出時間を超えて貸し出されている接続)を検出する。<br>
+	 * 一度検出された接続は、返却されるまで再度検出されない。<br>
+	 * @return 検出した接続の情報群(貸出スレッド及び貸出箇所)
+	 */
+	public List<String> detectLeaks() {
+		List<String> list = new ArrayList<String>();
+		if (leakThreshold <= 0) {
+			return list;
+		}
+		long now = System.currentTimeMillis();
+		lock.lock();
+		try {
+			for (PooledEntry entry : active.keySet()) {
+				if (entry.leakReported || entry.borrowedTrace == null) {
+					continue;
+				}
+				long held = now - entry.borrowedAt;
+				if (held < leakThreshold) {
+					continue;
+				}
+				entry.leakReported = true;
+				leakCount.incrementAndGet();
+				StringBuilder sb = new StringBuilder();
+				sb.append("Connection leak suspected(").append(held).append("ms, thread=")
+					.append(entry.borrowedThread).append(")");
+				for (StackTraceElement element : entry.borrowedTrace.getStackTrace()) {
+					sb.append("\n\tat ").append(element);
+				}
+				list.add(sb.toString());
+			}
+		} finally {
+			lock.unlock();
+		}
+		return list;
+	}
+	
+	/**
+	 * コネクションプールを閉鎖する。<br>
+	 * 待機接続は切断し、貸出中接続は返却時に切断する。<br>
+	 */
+	public void close() {
+		lock.lock();
+		try {
+			closed = true;
+			while (!idle.isEmpty()) {
+				closePhysical(idle.pollFirst());
+			}
+			returned.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * 貸出中接続数を取得する。
+	 * @return 貸出中接続数
+	 */
+	public int getActiveCount() {
+		lock.lock();
+		try {
+			return active.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * 待機接続数を取得する。
+	 * @return 待機接続数
+	 */
+	public int getIdleCount() {
+		lock.lock();
+		try {
+			return idle.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * 物理接続生成数を取得する。
+	 * @return 物理接続生成数
+	 */
+	public long getCreatedCount() {
+		return createdCount.get();
+	}
+	
+	/**
+	 * 物理接続破棄数を取得する。
+	 * @return 物理接続破棄数
+	 */
+	public long getDestroyedCount() {
+		return destroyedCount.get();
+	}
+	
+	/**
+	 * 貸出数を取得する。
+	 * @return 貸出数
+	 */
+	public long getBorrowedCount() {
+		return borrowedCount.get();
+	}
+	
+	/**
+	 * 取得待機発生数を取得する。
+	 * @return 取得待機発生数
+	 */
+	public long getWaitCount() {
+		return waitCount.get();
+	}
+	
+	/**
+	 * 取得待機時間合計(ミリ秒)を取得する。
+	 * @return 取得待機時間合計
+	 */
+	public long getWaitMillis() {
+		return waitMillis.get();
+	}
+	
+	/**
+	 * 取得待機タイムアウト数を取得する。
+	 * @return 取得待機タイムアウト数
+	 */
+	public long getTimeoutCount() {
+		return timeoutCount.get();
+	}
+	
+	/**
+	 * 検証失敗数を取得する。
+	 * @return 検証失敗数
+	 */
+	public long getValidationFailedCount() {
+		return validationFailedCount.get();
+	}
+	
+	/**
+	 * リーク検出数を取得する。
+	 * @return リーク検出数
+	 */
+	public long getLeakCount() {
+		return leakCount.get();
+	}
+	
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("MospConnectionPool[").append(url).append(", user=").append(user);
+		sb.append(", active=").append(getActiveCount());
+		sb.append(", idle=").append(getIdleCount());
+		sb.append(", maxTotal=").append(maxTotal);
+		sb.append(", created=").append(getCreatedCount());
+		sb.append(", destroyed=").append(getDestroyedCount());
+		sb.append(", borrowed=").append(getBorrowedCount());
+		sb.append(", waited=").append(getWaitCount());
+		sb.append(", waitMillis=").append(getWaitMillis());
+		sb.append(", timeout=").append(getTimeoutCount());
+		sb.append(", invalid=").append(getValidationFailedCount());
+		sb.append(", leak=").append(getLeakCount());
+		sb.append("]");
+		return sb.toString();
+	}
+	
+	@Override
+	public PrintWriter getLogWriter() {
+		return DriverManager.getLogWriter();
+	}
+	
+	@Override
+	public void setLogWriter(PrintWriter out) {
+		// 処理無し
+	}
+	
+	@Override
+	public void setLoginTimeout(int seconds) {
+		// 処理無し
+	}
+	
+	@Override
+	public int getLoginTimeout() {
+		return DriverManager.getLoginTimeout();
+	}
+	
+	@Override
+	public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+		throw new SQLFeatureNotSupportedException();
+	}
+	
+	@Override
+	public <T> T unwrap(Class<T> iface) throws SQLException {
+		if (iface.isInstance(this)) {
+			return iface.cast(this);
+		}
+		throw new SQLException("Not a wrapper for " + iface.getName());
+	}
+	
+	@Override
+	public boolean isWrapperFor(Class<?> iface) {
+		return iface.isInstance(this);
+	}
+	
+	
+	/**
+	 * プール内の接続。<br>
+	 */
+	protected class PooledEntry {
+		
+		/**
+		 * 物理接続。
+		 */
+		protected Connection	physical;
+		
+		/**
+		 * 最終利用時刻(ミリ秒)。
+		 */
+		protected long			lastUsed;
+		
+		/**
+		 * 貸出時刻(ミリ秒)。
+		 */
+		protected long			borrowedAt;
+		
+		/**
+		 * 貸出スレッド名。
+		 */
+		protected String		borrowedThread;
+		
+		/**
+		 * 貸出箇所(リーク検出時のみ)。
+		 */
+		protected Throwable		borrowedTrace;
+		
+		/**
+		 * リーク報告済フラグ。
+		 */
+		protected boolean		leakReported;
+		
+		
+		/**
+		 * 接続を生成する。<br>
+		 * @param physical 物理接続
+		 */
+		protected PooledEntry(Connection physical) {
+			this.physical = physical;
+		}
+		
+		/**
+		 * 貸出用の論理接続を生成する。<br>
+		 * @param trace 貸出箇所記録要否
+		 * @return 論理接続
+		 */
+		protected Connection borrow(boolean trace) {
+			borrowedAt = System.currentTimeMillis();
+			borrowedThread = Thread.currentThread().getName();
+			borrowedTrace = trace ? new Throwable() : null;
+			leakReported = false;
+			return (Connection)Proxy.newProxyInstance(Connection.class.getClassLoader(),
+					new Class<?>[]{ Connection.class }, new LogicalConnectionHandler(this));
+		}
+	}
+	
+	/**
+	 * 論理接続。<br>
+	 * closeで物理接続をプールへ返却し、以降の操作を受け付けない。<br>
+	 */
+	protected class LogicalConnectionHandler implements InvocationHandler {
+		
+		/**
+		 * 対象接続。
+		 */
+		protected PooledEntry	entry;
+		
+		
+		/**
+		 * 論理接続を生成する。<br>
+		 * @param entry 対象接続
+		 */
+		protected LogicalConnectionHandler(PooledEntry entry) {
+			this.entry = entry;
+		}
+		
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+			if (name.equals("close")) {
+				PooledEntry target = entry;
+				entry = null;
+				if (target != null) {
+					giveBack(target);
+				}
+				return null;
+			}
+			if (name.equals("isClosed")) {
+				return entry == null;
+			}
+			if (name.equals("equals")) {
+				return proxy == args[0];
+			}
+			if (name.equals("hashCode")) {
+				return System.identityHashCode(proxy);
+			}
+			if (name.equals("toString")) {
+				PooledEntry target = entry;
+				return "Pooled" + (target == null ? "[closed]" : "[" + target.physical + "]");
+			}
+			PooledEntry target = entry;
+			if (target == null) {
+				throw new SQLException("Connection is closed");
+			}
+			try {
+				return method.invoke(target.physical, args);
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+		}
+	}
+	
+}
@@ -0,0 +1,232 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.base;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jp.mosp.framework.utils.LogUtility;
+
+/**
+ * MosPジョブ実行クラス。<br>
+ * <br>
+ * 時間の掛かる処理をリクエストスレッドとは別のスレッドで実行する。<br>
+ * 同時に実行する数及び実行待ちにできる数は、MosPアプリケーション設定で制限する。<br>
+ * 上限を超えて受け付けようとした場合は、例外を発行する。<br>
+ * <br>
+ * 一定時間後に受け付ける(再実行する)ジョブは、予約用のスレッドで待機させる。<br>
+ * <br>
+ * 実行するのは{@link Runnable}であり、DBコネクションの取得やジョブ情報の更新は、
+ * 実行される側で行う。<br>
+ */
+public final class MospJobExecutor {
+	
+	/**
+	 * MosPアプリケーション設定キー(ジョブ同時実行数)。
+	 */
+	public static final String					APP_JOB_THREADS		= "JobThreads";
+	
+	/**
+	 * MosPアプリケーション設定キー(ジョブ実行待ち上限数)。
+	 */
+	public static final String					APP_JOB_QUEUE_SIZE	= "JobQueueSize";
+	
+	/**
+	 * ジョブ同時実行数初期値。
+	 */
+	protected static final int					DEFAULT_THREADS		= 2;
+	
+	/**
+	 * ジョブ実行待ち上限数初期値。
+	 */
+	protected static final int					DEFAULT_QUEUE_SIZE	= 100;
+	
+	/**
+	 * スレッド名接頭辞。
+	 */
+	protected static final String				THREAD_NAME_PREFIX	= "mosp-job-";
+	
+	/**
+	 * スレッド番号。
+	 */
+	protected static final AtomicInteger		THREAD_NUMBER		= new AtomicInteger();
+	
+	/**
+	 * スレッドプール(初回受付時に生成)。
+	 */
+	private static ThreadPoolExecutor			executor;
+	
+	/**
+	 * 予約用スレッド(初回予約時に生成)。
+	 */
+	private static ScheduledThreadPoolExecutor	scheduler;
+	
+	
+	/**
+	 * 他クラスからのインスタンス化を防止する。<br>
+	 */
+	private MospJobExecutor() {
+		// 処理無し
+	}
+	
+	/**
+	 * ジョブを受け付ける。<br>
+	 * 空いているスレッドがあれば直ちに、なければ実行待ちとした後に実行される。<br>
+	 * @param mospParams MosP処理情報
+	 * @param job        ジョブ
+	 * @throws MospException 実行待ち上限数を超えた場合
+	 */
+	public static synchronized void execute(MospParams mospParams, Runnable job) throws MospException {
+		try {
+			getExecutor(mospParams).execute(job);
+		} catch (RejectedExecutionException e) {
+			throw new MospException(e);
+		}
+	}
+	
+	/**
+	 * ジョブを予約する。<br>
+	 * 指定時間経過後に、{@link #execute(MospParams, Runnable)}で受け付ける。<br>
+	 * その時点で実行待ち上限数を超えている場合、ジョブは破棄される。<br>
+	 * @param mospParams MosP処理情報
+	 * @param job        ジョブ
+	 * @param delay      待機時間(ミリ秒)
+	 */
+	public static synchronized void schedule(MospParams mospParams, Runnable job, long delay) {
+		if (scheduler == null || scheduler.isShutdown()) {
+			scheduler = new ScheduledThreadPoolExecutor(1, new JobThreadFactory());
+		}
+		scheduler.schedule(new ScheduledJob(mospParams, job), Math.max(0L, delay), TimeUnit.MILLISECONDS);
+	}
+	
+	/**
+	 * スレッドプールを取得する。<br>
+	 * 初回のみ、MosPアプリケーション設定に従って生成する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return スレッドプール
+	 */
+	protected static ThreadPoolExecutor getExecutor(MospParams mospParams) {
+		if (executor == null || executor.isShutdown()) {
+			int threads = Math.max(1, mospParams.getApplicationProperty(APP_JOB_THREADS, DEFAULT_THREADS));
+			int queueSize = Math.max(1, mospParams.getApplicationProperty(APP_JOB_QUEUE_SIZE, DEFAULT_QUEUE_SIZE));
+			executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+					new LinkedBlockingQueue<Runnable>(queueSize), new JobThreadFactory());
+		}
+		return executor;
+	}
+	
+	/**
+	 * 実行中のジョブ数を取得する。<br>
+	 * @return 実行中のジョブ数
+	 */
+	public static synchronized int getActiveCount() {
+		return executor == null ? 0 : executor.getActiveCount();
+	}
+	
+	/**
+	 * 実行待ちのジョブ数を取得する。<br>
+	 * @return 実行待ちのジョブ数
+	 */
+	public static synchronized int getQueueSize() {
+		return executor == null ? 0 : executor.getQueue().size();
+	}
+	
+	/**
+	 * 実行済のジョブ数を取得する。<br>
+	 * @return 実行済のジョブ数
+	 */
+	public static synchronized long getCompletedCount() {
+		return executor == null ? 0L : executor.getCompletedTaskCount();
+	}
+	
+	/**
+	 * スレッドプールを破棄する。<br>
+	 * 実行待ち及び予約中のジョブは破棄し、実行中のジョブには割込を行う。<br>
+	 * アプリケーション終了時に用いる。<br>
+	 */
+	public static synchronized void shutdown() {
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+			scheduler = null;
+		}
+		if (executor != null) {
+			executor.shutdownNow();
+			executor = null;
+		}
+	}
+	
+	/**
+	 * ジョブ実行スレッド生成クラス。<br>
+	 * アプリケーション終了を妨げないように、デーモンスレッドを生成する。<br>
+	 */
+	private static class JobThreadFactory implements ThreadFactory {
+		
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + THREAD_NUMBER.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+		
+	}
+	
+	/**
+	 * 予約ジョブクラス。<br>
+	 * 待機時間経過後に、ジョブをスレッドプールに受け付けさせる。<br>
+	 */
+	private static class ScheduledJob implements Runnable {
+		
+		/**
+		 * MosP処理情報。
+		 */
+		private final MospParams	mospParams;
+		
+		/**
+		 * ジョブ。
+		 */
+		private final Runnable		job;
+		
+		
+		/**
+		 * 予約ジョブを生成する。<br>
+		 * @param mospParams MosP処理情報
+		 * @param job        ジョブ
+		 */
+		ScheduledJob(MospParams mospParams, Runnable job) {
+			this.mospParams = mospParams;
+			this.job = job;
+		}
+		
+		@Override
+		public void run() {
+			try {
+				execute(mospParams, job);
+			} catch (MospException e) {
+				// 実行待ち上限数を超えた場合
+				LogUtility.error(mospParams, e);
+			}
+		}
+		
+	}
+	
+}
@@ -0,0 +1,407 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.base;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * MosPマスタキャッシュクラス。<br>
+ * <br>
+ * 有効日で管理されるマスタ情報を、リクエストを跨いでアプリケーション全体で保持する。<br>
+ * キャッシュ毎に上限件数を持ち、上限を超えた場合は最も長く参照されていない情報を破棄する。<br>
+ * <br>
+ * キャッシュには依存するテーブルを登録する。<br>
+ * DAOが依存テーブルに対して更新系SQLを実行した時点とそのトランザクションをコミットした時点で、
+ * キャッシュを破棄する。<br>
+ * 情報をDBから取得している間にキャッシュが破棄された場合は、取得した情報を保持しない
+ * (取得前の版数を{@link #put(Object, Object, long)}に渡す)。<br>
+ * <br>
+ * 保持した情報は複数のリクエストで共有されるため、取得した側で変更してはならない。<br>
+ * また、キャッシュの破棄は同一アプリケーション内でのみ行われるため、
+ * 複数のアプリケーションサーバで同一DBを更新する場合は、キャッシュを無効(上限件数0)にする。<br>
+ */
+public class MospMasterCache {
+	
+	/**
+	 * MosPアプリケーション設定キー(マスタキャッシュ上限件数)。<br>
+	 * 0以下の場合、キャッシュは無効となる。<br>
+	 */
+	public static final String									APP_MASTER_CACHE_SIZE	= "MasterCacheSize";
+	
+	/**
+	 * マスタキャッシュ群(キー：キャッシュ名)。<br>
+	 */
+	protected static final Map<String, MospMasterCache>			CACHES					= new ConcurrentHashMap<String, MospMasterCache>();
+	
+	/**
+	 * テーブル毎のマスタキャッシュ群(キー：テーブル名)。<br>
+	 */
+	protected static final Map<String, List<MospMasterCache>>	TABLE_CACHES			= new ConcurrentHashMap<String, List<MospMasterCache>>();
+	
+	/**
+	 * コネクション毎のコミット待ち更新テーブル群。<br>
+	 * コネクションが破棄されれば更新テーブル群も破棄される。<br>
+	 */
+	protected static final Map<Connection, Set<String>>			PENDING_TABLES			= new WeakHashMap<Connection, Set<String>>();
+	
+	/**
+	 * キャッシュ名。<br>
+	 */
+	protected final String										name;
+	
+	/**
+	 * 上限件数。<br>
+	 */
+	protected final int											maxSize;
+	
+	/**
+	 * 保持情報群(参照順)。<br>
+	 */
+	protected final LruMap										entries;
+	
+	/**
+	 * 版数(破棄毎に加算)。<br>
+	 */
+	protected long												version;
+	
+	/**
+	 * 取得成功回数。<br>
+	 */
+	protected final AtomicLong									hitCount				= new AtomicLong();
+	
+	/**
+	 * 取得失敗回数。<br>
+	 */
+	protected final AtomicLong									missCount				= new AtomicLong();
+	
+	/**
+	 * 上限超過による破棄件数。<br>
+	 */
+	protected final AtomicLong									evictionCount			= new AtomicLong();
+	
+	/**
+	 * 更新による破棄回数。<br>
+	 */
+	protected final AtomicLong									invalidationCount		= new AtomicLong();
+	
+	
+	/**
+	 * マスタキャッシュを生成する。<br>
+	 * @param name    キャッシュ名
+	 * @param maxSize 上限件数
+	 */
+	protected MospMasterCache(String name, int maxSize) {
+		this.name = name;
+		this.maxSize = maxSize;
+		entries = new LruMap(this);
+	}
+	
+	/**
+	 * マスタキャッシュを取得する。<br>
+	 * 初回のみ生成し、依存テーブルを登録する。<br>
+	 * 上限件数はMosPアプリケーション設定から取得する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param name       キャッシュ名
+	 * @param tables     依存テーブル名
+	 * @return マスタキャッシュ
+	 */
+	public static MospMasterCache getCache(MospParams mospParams, String name, String... tables) {
+		MospMasterCache cache = CACHES.get(name);
+		if (cache != null) {
+			return cache;
+		}
+		synchronized (CACHES) {
+			cache = CACHES.get(name);
+			if (cache != null) {
+				return cache;
+			}
+			cache = new MospMasterCache(name, mospParams.getApplicationProperty(APP_MASTER_CACHE_SIZE, 0));
+			// 依存テーブル毎にマスタキャッシュを登録
+			for (String table : tables) {
+				List<MospMasterCache> list = TABLE_CACHES.get(table);
+				if (list == null) {
+					list = new CopyOnWriteArrayList<MospMasterCache>();
+					TABLE_CACHES.put(table, list);
+				}
+				list.add(cache);
+			}
+			CACHES.put(name, cache);
+			return cache;
+		}
+	}
+	
+	/**
+	 * 全てのマスタキャッシュを取得する。<br>
+	 * @return マスタキャッシュ群
+	 */
+	public static Collection<MospMasterCache> getCaches() {
+		return new ArrayList<MospMasterCache>(CACHES.values());
+	}
+	
+	/**
+	 * テーブルの更新を通知する。<br>
+	 * 依存するマスタキャッシュを破棄し、コミット時に再度破棄するために更新テーブルを保持する。<br>
+	 * DAOが更新系SQLを実行した時に用いる。<br>
+	 * @param connection 更新したコネクション
+	 * @param table      更新したテーブル名
+	 */
+	public static void updated(Connection connection, String table) {
+		// 依存するマスタキャッシュが無い場合
+		if (invalidate(table) == false || connection == null) {
+			return;
+		}
+		// コミット待ち更新テーブル群に追加
+		synchronized (PENDING_TABLES) {
+			Set<String> tables = PENDING_TABLES.get(connection);
+			if (tables == null) {
+				tables = new HashSet<String>();
+				PENDING_TABLES.put(connection, tables);
+			}
+			tables.add(table);
+		}
+	}
+	
+	/**
+	 * トランザクションのコミットを通知する。<br>
+	 * コミット待ち更新テーブルに依存するマスタキャッシュを破棄する。<br>
+	 * 更新からコミットまでの間に他のリクエストが取得したコミット前の情報を破棄するために行う。<br>
+	 * @param connection コミットしたコネクション
+	 */
+	public static void committed(Connection connection) {
+		Set<String> tables;
+		synchronized (PENDING_TABLES) {
+			tables = PENDING_TABLES.remove(connection);
+		}
+		if (tables == null) {
+			return;
+		}
+		for (String table : tables) {
+			invalidate(table);
+		}
+	}
+	
+	/**
+	 * トランザクションのロールバックを通知する。<br>
+	 * 更新時にマスタキャッシュは破棄済であるため、コミット待ち更新テーブル群を破棄するのみ。<br>
+	 * @param connection ロールバックしたコネクション
+	 */
+	public static void rolledBack(Connection connection) {
+		synchronized (PENDING_TABLES) {
+			PENDING_TABLES.remove(connection);
+		}
+	}
+	
+	/**
+	 * テーブルに依存するマスタキャッシュを破棄する。<br>
+	 * @param table テーブル名
+	 * @return 破棄結果(true：依存するマスタキャッシュが存在した、false：存在しなかった)
+	 */
+	protected static boolean invalidate(String table) {
+		List<MospMasterCache> list = TABLE_CACHES.get(table);
+		if (list == null) {
+			return false;
+		}
+		for (MospMasterCache cache : list) {
+			cache.invalidate();
+		}
+		return true;
+	}
+	
+	/**
+	 * 全てのマスタキャッシュを破棄する。<br>
+	 */
+	public static void invalidateAll() {
+		for (MospMasterCache cache : CACHES.values()) {
+			cache.invalidate();
+		}
+	}
+	
+	/**
+	 * 保持している情報を取得する。<br>
+	 * @param key キー
+	 * @return 保持している情報(保持していない場合はnull)
+	 */
+	public Object get(Object key) {
+		Object value;
+		synchronized (entries) {
+			value = entries.get(key);
+		}
+		if (value == null) {
+			missCount.incrementAndGet();
+		} else {
+			hitCount.incrementAndGet();
+		}
+		return value;
+	}
+	
+	/**
+	 * 版数を取得する。<br>
+	 * DBから情報を取得する前に取得し、{@link #put(Object, Object, long)}に渡す。<br>
+	 * @return 版数
+	 */
+	public long getVersion() {
+		synchronized (entries) {
+			return version;
+		}
+	}
+	
+	/**
+	 * 情報を保持する。<br>
+	 * 版数が変わっている(取得中に破棄された)場合、或いはキャッシュが無効な場合は、保持しない。<br>
+	 * @param key           キー
+	 * @param value         情報(nullの場合は保持しない)
+	 * @param loadedVersion 情報取得前の版数
+	 */
+	public void put(Object key, Object value, long loadedVersion) {
+		if (maxSize <= 0 || value == null) {
+			return;
+		}
+		synchronized (entries) {
+			if (loadedVersion == version) {
+				entries.put(key, value);
+			}
+		}
+	}
+	
+	/**
+	 * 保持している情報を破棄する。<br>
+	 */
+	public void invalidate() {
+		synchronized (entries) {
+			version++;
+			entries.clear();
+		}
+		invalidationCount.incrementAndGet();
+	}
+	
+	/**
+	 * キャッシュ名を取得する。<br>
+	 * @return キャッシュ名
+	 */
+	public String getName() {
+		return name;
+	}
+	
+	/**
+	 * 上限件数を取得する。<br>
+	 * @return 上限件数
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+	
+	/**
+	 * 保持件数を取得する。<br>
+	 * @return 保持件数
+	 */
+	public int getSize() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+	
+	/**
+	 * 取得成功回数を取得する。<br>
+	 * @return 取得成功回数
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+	
+	/**
+	 * 取得失敗回数を取得する。<br>
+	 * @return 取得失敗回数
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+	
+	/**
+	 * 上限超過による破棄件数を取得する。<br>
+	 * @return 上限超過による破棄件数
+	 */
+	public long getEvictionCount() {
+		return evictionCount.get();
+	}
+	
+	/**
+	 * 更新による破棄回数を取得する。<br>
+	 * @return 更新による破棄回数
+	 */
+	public long getInvalidationCount() {
+		return invalidationCount.get();
+	}
+	
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder(name);
+		sb.append(" size=").append(getSize()).append('/').append(maxSize);
+		sb.append(" hit=").append(getHitCount());
+		sb.append(" miss=").append(getMissCount());
+		sb.append(" eviction=").append(getEvictionCount());
+		sb.append(" invalidation=").append(getInvalidationCount());
+		return sb.toString();
+	}
+	
+	
+	/**
+	 * 参照順保持情報群クラス。<br>
+	 * 上限件数を超えた場合、最も長く参照されていない情報を破棄する。<br>
+	 */
+	protected static class LruMap extends LinkedHashMap<Object, Object> {
+		
+		private static final long		serialVersionUID	= 1L;
+		
+		/**
+		 * 保持元のマスタキャッシュ。<br>
+		 */
+		private final MospMasterCache	cache;
+		
+		
+		/**
+		 * 参照順保持情報群を生成する。<br>
+		 * @param cache 保持元のマスタキャッシュ
+		 */
+		protected LruMap(MospMasterCache cache) {
+			super(16, 0.75f, true);
+			this.cache = cache;
+		}
+		
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Object, Object> eldest) {
+			if (size() > cache.maxSize) {
+				cache.evictionCount.incrementAndGet();
+				return true;
+			}
+			return false;
+		}
+		
+	}
+	
+}
@@ -193,6 +193,27 @@ public class MospParams {
 		errorMessageList = new ArrayList<String>(params.getErrorMessageList());
 	}
 	
+	/**
+	 * ジョブ用のMosP処理情報を生成する。<br>
+	 * <br>
+	 * リクエストスレッドとは別のスレッドで処理を行う際に用いる。<br>
+	 * MosP設定情報、ログ出力クラス群、ログインユーザ情報、コマンド及び
+	 * ログ出力に用いる汎用パラメータ(接続元アドレス等)を引き継ぐ。<br>
+	 * VO、メッセージ、リクエストパラメータ等は引き継がない。<br>
+	 * @return ジョブ用MosP処理情報
+	 */
+	public MospParams createJobParams() {
+		MospParams params = new MospParams(properties, loggers);
+		params.storedInfo.setUser(storedInfo.getUser());
+		if (storedInfo.getRangeMap() != null) {
+			params.storedInfo.setRangeMap(new HashMap<String, RangeProperty>(storedInfo.getRangeMap()));
+		}
+		params.command = command;
+		params.generalParamsMap.put(MospConst.ATT_REMOTE_ADDR, generalParamsMap.get(MospConst.ATT_REMOTE_ADDR));
+		params.generalParamsMap.put(MospConst.ATT_USER_AGENT, generalParamsMap.get(MospConst.ATT_USER_AGENT));
+		return params;
+	}
+	
 	/**
 	 * @return user
 	 */
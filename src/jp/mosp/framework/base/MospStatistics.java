@@ -0,0 +1,158 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.base;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import jp.mosp.framework.property.MospProperties;
+
+/**
+ * MosP統計情報MBeanクラス。<br>
+ * <br>
+ * {@link Controller}の初期化時にプラットフォームMBeanサーバへ登録し、終了時に登録を解除する。<br>
+ * オブジェクト名は「jp.mosp:type=Statistics,context=(コンテキストパス)」となる。<br>
+ */
+public class MospStatistics implements MospStatisticsMBean {
+	
+	/**
+	 * MosPアプリケーション設定キー(処理時間の長いコマンドの取得件数)。<br>
+	 */
+	public static final String		APP_COMMAND_STATISTICS_TOP	= "CommandStatisticsTop";
+	
+	/**
+	 * 処理時間の長いコマンドの取得件数(デフォルト)。<br>
+	 */
+	public static final int			DEFAULT_TOP					= 20;
+	
+	/**
+	 * オブジェクト名のプレフィックス。<br>
+	 */
+	protected static final String	OBJECT_NAME_PREFIX			= "jp.mosp:type=Statistics,context=";
+	
+	/**
+	 * 登録したオブジェクト名。<br>
+	 */
+	private static ObjectName		registered;
+	
+	/**
+	 * 処理時間の長いコマンドの取得件数。<br>
+	 */
+	protected final int				top;
+	
+	
+	/**
+	 * MosP統計情報MBeanを生成する。<br>
+	 * @param properties MosP設定情報
+	 */
+	public MospStatistics(MospProperties properties) {
+		top = properties.getApplicationProperty(APP_COMMAND_STATISTICS_TOP, DEFAULT_TOP);
+	}
+	
+	/**
+	 * MosP統計情報MBeanをプラットフォームMBeanサーバへ登録する。<br>
+	 * 同名のMBeanが登録されている場合(再配備時等)は、置き換える。<br>
+	 * @param properties  MosP設定情報
+	 * @param contextPath コンテキストパス
+	 * @throws MospException MBeanの登録に失敗した場合
+	 */
+	public static synchronized void register(MospProperties properties, String contextPath) throws MospException {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName(OBJECT_NAME_PREFIX + ObjectName.quote(contextPath));
+			if (server.isRegistered(name)) {
+				server.unregisterMBean(name);
+			}
+			server.registerMBean(new MospStatistics(properties), name);
+			registered = name;
+		} catch (Exception e) {
+			throw new MospException(e);
+		}
+	}
+	
+	/**
+	 * MosP統計情報MBeanの登録を解除する。<br>
+	 */
+	public static synchronized void unregister() {
+		if (registered == null) {
+			return;
+		}
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			if (server.isRegistered(registered)) {
+				server.unregisterMBean(registered);
+			}
+		} catch (Exception e) {
+			// 処理無し
+		}
+		registered = null;
+	}
+	
+	@Override
+	public boolean isCommandStatisticsEnabled() {
+		return MospCommandStatistics.isEnabled();
+	}
+	
+	@Override
+	public void setCommandStatisticsEnabled(boolean enabled) {
+		MospCommandStatistics.setEnabled(enabled);
+	}
+	
+	@Override
+	public String[] getSlowCommands() {
+		return listSlowCommands(top);
+	}
+	
+	@Override
+	public String[] listSlowCommands(int count) {
+		return toArray(MospCommandStatistics.getSlowCommands(count));
+	}
+	
+	@Override
+	public String[] getConnectionPoolStatistics() {
+		return toArray(MospConnectionPool.getStatistics());
+	}
+	
+	@Override
+	public String[] getMasterCacheStatistics() {
+		List<String> list = new ArrayList<String>();
+		for (MospMasterCache cache : MospMasterCache.getCaches()) {
+			list.add(cache.toString());
+		}
+		return toArray(list);
+	}
+	
+	@Override
+	public void resetCommandStatistics() {
+		MospCommandStatistics.reset();
+	}
+	
+	/**
+	 * 文字列リストを配列に変換する。<br>
+	 * @param list 文字列リスト
+	 * @return 文字列配列
+	 */
+	protected static String[] toArray(List<String> list) {
+		return list.toArray(new String[list.size()]);
+	}
+	
+}
@@ -0,0 +1,67 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.base;
+
+/**
+ * MosP統計情報MBeanインターフェース。<br>
+ * <br>
+ * JMXクライアント(jconsole等)から、コマンド統計情報、
+ * コネクションプール及びマスタキャッシュの統計情報を参照する。<br>
+ */
+public interface MospStatisticsMBean {
+	
+	/**
+	 * @return コマンド統計情報計測要否
+	 */
+	boolean isCommandStatisticsEnabled();
+	
+	/**
+	 * @param enabled セットするコマンド統計情報計測要否
+	 */
+	void setCommandStatisticsEnabled(boolean enabled);
+	
+	/**
+	 * 処理時間の長いコマンドの統計情報を取得する。<br>
+	 * 取得件数は設定(CommandStatisticsTop)による。<br>
+	 * @return コマンド統計情報文字列配列
+	 */
+	String[] getSlowCommands();
+	
+	/**
+	 * 処理時間の長いコマンドの統計情報を取得する。<br>
+	 * @param count 取得件数
+	 * @return コマンド統計情報文字列配列
+	 */
+	String[] listSlowCommands(int count);
+	
+	/**
+	 * @return コネクションプール統計情報文字列配列
+	 */
+	String[] getConnectionPoolStatistics();
+	
+	/**
+	 * @return マスタキャッシュ統計情報文字列配列
+	 */
+	String[] getMasterCacheStatistics();
+	
+	/**
+	 * コマンド統計情報を破棄する。<br>
+	 */
+	void resetCommandStatistics();
+	
+}
@@ -0,0 +1,230 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.base;
+
+import java.io.Serializable;
+
+/**
+ * 頁操作用カーソル。<br>
+ * <br>
+ * 一覧画面において、検索結果全件をVO(セッション)に保持する代わりに、
+ * 件数、並び順及び表示中の頁の先頭と末尾のキー値だけを保持する。<br>
+ * <br>
+ * 隣の頁へ遷移する場合は、保持しているキー値を条件としたキーセット方式で
+ * 次の頁を検索する(SQLの条件にキー値を用いるため、OFFSETによる読み飛ばしが不要)。<br>
+ * 離れた頁へ遷移する場合は、OFFSETで検索する。<br>
+ * <br>
+ * キー値は、並び替え列の値と、一意性を保証する列(個人ID等)の値からなる。<br>
+ */
+public class PageCursor implements Serializable {
+	
+	private static final long	serialVersionUID	= 4370281936627052144L;
+	
+	/**
+	 * 件数(未算出)。<br>
+	 */
+	public static final int		COUNT_UNKNOWN		= -1;
+	
+	/**
+	 * ソートキー。<br>
+	 */
+	private String				sortKey;
+	
+	/**
+	 * 降順フラグ。<br>
+	 */
+	private boolean				descending;
+	
+	/**
+	 * 1ページ当たりの表示件数。<br>
+	 */
+	private int					dataPerPage;
+	
+	/**
+	 * 表示中のページ番号(1から)。<br>
+	 */
+	private int					page;
+	
+	/**
+	 * 件数。<br>
+	 */
+	private int					count;
+	
+	/**
+	 * 表示中のページの先頭のキー値。<br>
+	 */
+	private String[]			firstKeys;
+	
+	/**
+	 * 表示中のページの末尾のキー値。<br>
+	 */
+	private String[]			lastKeys;
+	
+	
+	/**
+	 * {@link PageCursor}を生成する。<br>
+	 * @param sortKey     ソートキー
+	 * @param descending  降順フラグ
+	 * @param dataPerPage 1ページ当たりの表示件数
+	 */
+	public PageCursor(String sortKey, boolean descending, int dataPerPage) {
+		this.sortKey = sortKey;
+		this.descending = descending;
+		this.dataPerPage = dataPerPage;
+		page = 0;
+		count = COUNT_UNKNOWN;
+		firstKeys = null;
+		lastKeys = null;
+	}
+	
+	/**
+	 * 並び順を変更する。<br>
+	 * 並び順を変更した場合、表示中のページのキー値は無効となる。<br>
+	 * @param sortKey    ソートキー
+	 * @param descending 降順フラグ
+	 */
+	public void setOrder(String sortKey, boolean descending) {
+		this.sortKey = sortKey;
+		this.descending = descending;
+		clearKeys();
+	}
+	
+	/**
+	 * 表示中のページのキー値を破棄する。<br>
+	 */
+	public void clearKeys() {
+		page = 0;
+		firstKeys = null;
+		lastKeys = null;
+	}
+	
+	/**
+	 * 表示中のページを設定する。<br>
+	 * @param page      ページ番号
+	 * @param firstKeys ページの先頭のキー値
+	 * @param lastKeys  ページの末尾のキー値
+	 */
+	public void setPage(int page, String[] firstKeys, String[] lastKeys) {
+		this.page = page;
+		this.firstKeys = firstKeys == null ? null : firstKeys.clone();
+		this.lastKeys = lastKeys == null ? null : lastKeys.clone();
+	}
+	
+	/**
+	 * 対象ページが表示中のページの次のページであるかを確認する。<br>
+	 * @param targetPage 対象ページ番号
+	 * @return 確認結果(true：次のページでありキーセット方式で検索できる、false：そうでない)
+	 */
+	public boolean isNextPage(int targetPage) {
+		return lastKeys != null && page > 0 && targetPage == page + 1;
+	}
+	
+	/**
+	 * 対象ページが表示中のページの前のページであるかを確認する。<br>
+	 * @param targetPage 対象ページ番号
+	 * @return 確認結果(true：前のページでありキーセット方式で検索できる、false：そうでない)
+	 */
+	public boolean isPreviousPage(int targetPage) {
+		return firstKeys != null && page > 1 && targetPage == page - 1;
+	}
+	
+	/**
+	 * 対象ページの先頭の位置(0から)を取得する。<br>
+	 * @param targetPage 対象ページ番号
+	 * @return 先頭の位置
+	 */
+	public int getOffset(int targetPage) {
+		return (targetPage - 1) * dataPerPage;
+	}
+	
+	/**
+	 * 対象ページ番号を有効な範囲に補正する。<br>
+	 * @param targetPage 対象ページ番号
+	 * @return ページ番号
+	 */
+	public int getValidPage(int targetPage) {
+		if (targetPage < 1 || dataPerPage <= 0) {
+			return 1;
+		}
+		if (count == COUNT_UNKNOWN) {
+			return targetPage;
+		}
+		int full = (count + dataPerPage - 1) / dataPerPage;
+		if (targetPage > full) {
+			return full < 1 ? 1 : full;
+		}
+		return targetPage;
+	}
+	
+	/**
+	 * @return sortKey
+	 */
+	public String getSortKey() {
+		return sortKey;
+	}
+	
+	/**
+	 * @return descending
+	 */
+	public boolean isDescending() {
+		return descending;
+	}
+	
+	/**
+	 * @return dataPerPage
+	 */
+	public int getDataPerPage() {
+		return dataPerPage;
+	}
+	
+	/**
+	 * @return page
+	 */
+	public int getPage() {
+		return page;
+	}
+	
+	/**
+	 * @return count
+	 */
+	public int getCount() {
+		return count;
+	}
+	
+	/**
+	 * @param count セットする count
+	 */
+	public void setCount(int count) {
+		this.count = count;
+	}
+	
+	/**
+	 * @return firstKeys
+	 */
+	public String[] getFirstKeys() {
+		return firstKeys == null ? null : firstKeys.clone();
+	}
+	
+	/**
+	 * @return lastKeys
+	 */
+	public String[] getLastKeys() {
+		return lastKeys == null ? null : lastKeys.clone();
+	}
+	
+}
@@ -0,0 +1,220 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.filter;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * レスポンス圧縮フィルタ。<br>
+ * <br>
+ * リクエストのAccept-Encodingに従い、対象となるレスポンスをgzip或いはdeflateで圧縮する。<br>
+ * レスポンス全体をバッファせず、最小サイズ分のみ保持した後に圧縮するかを判断し、
+ * 以降は逐次圧縮して出力する。<br>
+ * <br>
+ * 初期化パラメータ：<br>
+ * minSize   ：圧縮する最小サイズ(バイト、既定値1024)<br>
+ * mimeTypes ：圧縮対象とするContent-Type(カンマ区切り)<br>
+ */
+public class CompressionFilter implements Filter {
+	
+	/**
+	 * 初期化パラメータ名(圧縮する最小サイズ)。<br>
+	 */
+	public static final String		PARAM_MIN_SIZE			= "minSize";
+	
+	/**
+	 * 初期化パラメータ名(圧縮対象Content-Type)。<br>
+	 */
+	public static final String		PARAM_MIME_TYPES		= "mimeTypes";
+	
+	/**
+	 * 圧縮する最小サイズの既定値。<br>
+	 */
+	public static final int			DEFAULT_MIN_SIZE		= 1024;
+	
+	/**
+	 * 圧縮対象Content-Typeの既定値。<br>
+	 */
+	public static final String		DEFAULT_MIME_TYPES		= "text/html,text/css,text/plain,text/xml,text/javascript,"
+			+ "application/javascript,application/x-javascript,application/json,application/xml";
+	
+	/**
+	 * 符号化方式(gzip)。<br>
+	 */
+	public static final String		ENCODING_GZIP			= "gzip";
+	
+	/**
+	 * 符号化方式(deflate)。<br>
+	 */
+	public static final String		ENCODING_DEFLATE		= "deflate";
+	
+	/**
+	 * ヘッダ名(Accept-Encoding)。<br>
+	 */
+	protected static final String	HEADER_ACCEPT_ENCODING	= "Accept-Encoding";
+	
+	/**
+	 * ヘッダ名(Vary)。<br>
+	 */
+	protected static final String	HEADER_VARY				= "Vary";
+	
+	/**
+	 * 圧縮済であることを示すリクエスト属性名。<br>
+	 * フィルタが多重に適用された場合の二重圧縮を防止する。<br>
+	 */
+	protected static final String	ATT_FILTERED			= CompressionFilter.class.getName() + ".FILTERED";
+	
+	/**
+	 * 圧縮する最小サイズ。<br>
+	 */
+	protected int					minSize;
+	
+	/**
+	 * 圧縮対象Content-Type群。<br>
+	 */
+	protected Set<String>			mimeTypes;
+	
+	
+	@Override
+	public void init(FilterConfig filterConfig) throws ServletException {
+		// 圧縮する最小サイズ取得
+		minSize = DEFAULT_MIN_SIZE;
+		String paramMinSize = filterConfig.getInitParameter(PARAM_MIN_SIZE);
+		if (paramMinSize != null && paramMinSize.trim().isEmpty() == false) {
+			try {
+				minSize = Math.max(0, Integer.parseInt(paramMinSize.trim()));
+			} catch (NumberFormatException e) {
+				throw new ServletException(PARAM_MIN_SIZE + "=" + paramMinSize, e);
+			}
+		}
+		// 圧縮対象Content-Type取得
+		String paramMimeTypes = filterConfig.getInitParameter(PARAM_MIME_TYPES);
+		if (paramMimeTypes == null || paramMimeTypes.trim().isEmpty()) {
+			paramMimeTypes = DEFAULT_MIME_TYPES;
+		}
+		mimeTypes = new HashSet<String>();
+		for (String mimeType : paramMimeTypes.split(",")) {
+			if (mimeType.trim().isEmpty() == false) {
+				mimeTypes.add(mimeType.trim().toLowerCase(Locale.ENGLISH));
+			}
+		}
+	}
+	
+	@Override
+	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException,
+			ServletException {
+		// HTTP以外或いは適用済の場合
+		if (request instanceof HttpServletRequest == false || response instanceof HttpServletResponse == false
+				|| request.getAttribute(ATT_FILTERED) != null) {
+			chain.doFilter(request, response);
+			return;
+		}
+		request.setAttribute(ATT_FILTERED, Boolean.TRUE);
+		HttpServletRequest httpRequest = (HttpServletRequest)request;
+		HttpServletResponse httpResponse = (HttpServletResponse)response;
+		// 圧縮の有無でレスポンスが異なるためVaryを付加
+		httpResponse.addHeader(HEADER_VARY, HEADER_ACCEPT_ENCODING);
+		// 符号化方式決定
+		String encoding = getEncoding(httpRequest);
+		if (encoding == null || "HEAD".equals(httpRequest.getMethod())) {
+			chain.doFilter(request, response);
+			return;
+		}
+		// レスポンスをラップして処理
+		CompressionResponse wrapper = new CompressionResponse(httpResponse, encoding, minSize, mimeTypes);
+		try {
+			chain.doFilter(request, wrapper);
+		} finally {
+			// 圧縮終了
+			wrapper.finish();
+		}
+	}
+	
+	@Override
+	public void destroy() {
+		// 処理無し
+	}
+	
+	/**
+	 * リクエストのAccept-Encodingから符号化方式を決定する。<br>
+	 * gzipを優先し、品質値(q)が0の方式は用いない。<br>
+	 * @param request リクエスト
+	 * @return 符号化方式(圧縮しない場合はnull)
+	 */
+	protected String getEncoding(HttpServletRequest request) {
+		String acceptEncoding = request.getHeader(HEADER_ACCEPT_ENCODING);
+		if (acceptEncoding == null) {
+			return null;
+		}
+		boolean gzip = false;
+		boolean deflate = false;
+		for (String token : acceptEncoding.split(",")) {
+			// 方式と品質値を分割
+			String[] parts = token.split(";");
+			String coding = parts[0].trim().toLowerCase(Locale.ENGLISH);
+			if (isAcceptable(parts) == false) {
+				continue;
+			}
+			if (coding.equals(ENCODING_GZIP) || coding.equals("x-gzip") || coding.equals("*")) {
+				gzip = true;
+			} else if (coding.equals(ENCODING_DEFLATE)) {
+				deflate = true;
+			}
+		}
+		if (gzip) {
+			return ENCODING_GZIP;
+		}
+		if (deflate) {
+			return ENCODING_DEFLATE;
+		}
+		return null;
+	}
+	
+	/**
+	 * 品質値が0でないかを確認する。<br>
+	 * @param parts Accept-Encodingの要素(セミコロンで分割したもの)
+	 * @return 確認結果(true：受入可能、false：受入不可)
+	 */
+	protected boolean isAcceptable(String[] parts) {
+		for (int i = 1; i < parts.length; i++) {
+			String param = parts[i].trim();
+			if (param.startsWith("q=") == false) {
+				continue;
+			}
+			try {
+				return Double.parseDouble(param.substring(2).trim()) > 0;
+			} catch (NumberFormatException e) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+}
@@ -0,0 +1,223 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.filter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+
+/**
+ * レスポンス圧縮用出力ストリーム。<br>
+ * <br>
+ * 最小サイズ分のみバッファし、それを超えた時点(或いは送出、終了時点)で圧縮するかを決定する。<br>
+ * 決定後はバッファせずに逐次(圧縮して)出力する。<br>
+ */
+public class CompressionOutputStream extends ServletOutputStream {
+	
+	/**
+	 * 圧縮用バッファサイズ。<br>
+	 */
+	protected static final int			DEFLATE_BUFFER_SIZE	= 8192;
+	
+	/**
+	 * レスポンス。<br>
+	 */
+	protected final CompressionResponse	response;
+	
+	/**
+	 * 決定前バッファ。<br>
+	 */
+	protected byte[]					buffer;
+	
+	/**
+	 * 決定前バッファの使用サイズ。<br>
+	 */
+	protected int						count;
+	
+	/**
+	 * 出力先(決定前はnull)。<br>
+	 */
+	protected OutputStream				target;
+	
+	/**
+	 * 圧縮ストリーム(圧縮しない場合はnull)。<br>
+	 */
+	protected DeflaterOutputStream		deflater;
+	
+	/**
+	 * 終了フラグ。<br>
+	 */
+	protected boolean					closed;
+	
+	
+	/**
+	 * 出力ストリームを生成する。<br>
+	 * @param response レスポンス
+	 * @param minSize  圧縮する最小サイズ
+	 */
+	public CompressionOutputStream(CompressionResponse response, int minSize) {
+		this.response = response;
+		buffer = new byte[minSize];
+	}
+	
+	@Override
+	public void write(int b) throws IOException {
+		write(new byte[]{ (byte)b }, 0, 1);
+	}
+	
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (closed) {
+			throw new IOException("Stream has already been closed.");
+		}
+		if (len == 0) {
+			return;
+		}
+		// 決定済の場合
+		if (target != null) {
+			target.write(b, off, len);
+			return;
+		}
+		// 最小サイズに満たない場合はバッファ
+		if (count + len < buffer.length) {
+			System.arraycopy(b, off, buffer, count, len);
+			count += len;
+			return;
+		}
+		// 圧縮するかを決定(最小サイズ以上)
+		decide(-1);
+		target.write(b, off, len);
+	}
+	
+	@Override
+	public void flush() throws IOException {
+		if (closed) {
+			return;
+		}
+		// 送出を求められた場合はその時点で決定
+		if (target == null) {
+			decide(-1);
+		}
+		target.flush();
+	}
+	
+	@Override
+	public void close() throws IOException {
+		finish();
+	}
+	
+	@Override
+	public boolean isReady() {
+		try {
+			return response.getOriginalOutputStream().isReady();
+		} catch (IOException e) {
+			return false;
+		}
+	}
+	
+	@Override
+	public void setWriteListener(WriteListener writeListener) {
+		try {
+			response.getOriginalOutputStream().setWriteListener(writeListener);
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	/**
+	 * 出力を終了する。<br>
+	 * 決定前の場合は、バッファしたサイズで圧縮するかを決定する。<br>
+	 * 元のレスポンスの出力ストリームは閉じない。<br>
+	 * @throws IOException 出力に失敗した場合
+	 */
+	public void finish() throws IOException {
+		if (closed) {
+			return;
+		}
+		// 出力サイズが確定したため決定
+		if (target == null) {
+			decide(count);
+		}
+		// 圧縮終了
+		if (deflater != null) {
+			deflater.finish();
+		}
+		target.flush();
+		closed = true;
+	}
+	
+	/**
+	 * 圧縮するかが決定済であるかを確認する。<br>
+	 * @return 確認結果(true：決定済、false：未決定)
+	 */
+	public boolean isDecided() {
+		return target != null;
+	}
+	
+	/**
+	 * 圧縮するかを確認する。<br>
+	 * @return 確認結果(true：圧縮する、false：圧縮しない)
+	 */
+	public boolean isCompressed() {
+		return deflater != null;
+	}
+	
+	/**
+	 * 決定前のバッファを破棄する。<br>
+	 */
+	protected void resetBuffer() {
+		if (target == null) {
+			count = 0;
+		}
+	}
+	
+	/**
+	 * 圧縮するかを決定し、バッファした内容を出力する。<br>
+	 * @param length 出力サイズ(不明な場合は-1)
+	 * @throws IOException 出力に失敗した場合
+	 */
+	protected void decide(long length) throws IOException {
+		OutputStream original = response.getOriginalOutputStream();
+		if (length != 0 && response.isCompressible(length)) {
+			// 圧縮
+			response.startCompression();
+			if (CompressionFilter.ENCODING_GZIP.equals(response.getEncoding())) {
+				deflater = new GZIPOutputStream(original, DEFLATE_BUFFER_SIZE, true);
+			} else {
+				deflater = new DeflaterOutputStream(original, new Deflater(), DEFLATE_BUFFER_SIZE, true);
+			}
+			target = deflater;
+		} else {
+			// 圧縮しない
+			response.commitContentLength();
+			target = original;
+		}
+		// バッファした内容を出力
+		if (count > 0) {
+			target.write(buffer, 0, count);
+			count = 0;
+		}
+		buffer = null;
+	}
+	
+}
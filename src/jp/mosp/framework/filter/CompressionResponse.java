@@ -0,0 +1,303 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.filter;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.Set;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * レスポンス圧縮用レスポンスラッパ。<br>
+ * <br>
+ * Content-Lengthは圧縮するかを決定するまで保持し、圧縮しない場合にのみ設定する。<br>
+ * 圧縮するかの決定は{@link CompressionOutputStream}が行う。<br>
+ */
+public class CompressionResponse extends HttpServletResponseWrapper {
+	
+	/**
+	 * ヘッダ名(Content-Encoding)。<br>
+	 */
+	protected static final String		HEADER_CONTENT_ENCODING	= "Content-Encoding";
+	
+	/**
+	 * ヘッダ名(Content-Length)。<br>
+	 */
+	protected static final String		HEADER_CONTENT_LENGTH	= "Content-Length";
+	
+	/**
+	 * 符号化方式。<br>
+	 */
+	protected final String				encoding;
+	
+	/**
+	 * 圧縮する最小サイズ。<br>
+	 */
+	protected final int					minSize;
+	
+	/**
+	 * 圧縮対象Content-Type群。<br>
+	 */
+	protected final Set<String>			mimeTypes;
+	
+	/**
+	 * 保持しているContent-Length(未設定の場合は-1)。<br>
+	 */
+	protected long						contentLength;
+	
+	/**
+	 * 出力ストリーム。<br>
+	 */
+	protected CompressionOutputStream	stream;
+	
+	/**
+	 * ライタ。<br>
+	 */
+	protected PrintWriter				writer;
+	
+	
+	/**
+	 * レスポンスをラップする。<br>
+	 * @param response  レスポンス
+	 * @param encoding  符号化方式
+	 * @param minSize   圧縮する最小サイズ
+	 * @param mimeTypes 圧縮対象Content-Type群
+	 */
+	public CompressionResponse(HttpServletResponse response, String encoding, int minSize, Set<String> mimeTypes) {
+		super(response);
+		this.encoding = encoding;
+		this.minSize = minSize;
+		this.mimeTypes = mimeTypes;
+		contentLength = -1;
+	}
+	
+	@Override
+	public ServletOutputStream getOutputStream() throws IOException {
+		if (writer != null) {
+			throw new IllegalStateException("getWriter() has already been called.");
+		}
+		return getStream();
+	}
+	
+	@Override
+	public PrintWriter getWriter() throws IOException {
+		if (writer != null) {
+			return writer;
+		}
+		if (stream != null) {
+			throw new IllegalStateException("getOutputStream() has already been called.");
+		}
+		writer = new PrintWriter(new OutputStreamWriter(getStream(), getCharacterEncoding()));
+		return writer;
+	}
+	
+	@Override
+	public void setContentLength(int len) {
+		setContentLengthLong(len);
+	}
+	
+	@Override
+	public void setContentLengthLong(long len) {
+		// 圧縮するかが決定済である場合
+		if (stream != null && stream.isDecided()) {
+			if (stream.isCompressed() == false) {
+				super.setContentLengthLong(len);
+			}
+			return;
+		}
+		// 決定まで保持
+		contentLength = len;
+	}
+	
+	@Override
+	public void setHeader(String name, String value) {
+		if (HEADER_CONTENT_LENGTH.equalsIgnoreCase(name)) {
+			setContentLengthHeader(value);
+			return;
+		}
+		super.setHeader(name, value);
+	}
+	
+	@Override
+	public void addHeader(String name, String value) {
+		if (HEADER_CONTENT_LENGTH.equalsIgnoreCase(name)) {
+			setContentLengthHeader(value);
+			return;
+		}
+		super.addHeader(name, value);
+	}
+	
+	@Override
+	public void setIntHeader(String name, int value) {
+		if (HEADER_CONTENT_LENGTH.equalsIgnoreCase(name)) {
+			setContentLengthLong(value);
+			return;
+		}
+		super.setIntHeader(name, value);
+	}
+	
+	@Override
+	public void addIntHeader(String name, int value) {
+		if (HEADER_CONTENT_LENGTH.equalsIgnoreCase(name)) {
+			setContentLengthLong(value);
+			return;
+		}
+		super.addIntHeader(name, value);
+	}
+	
+	@Override
+	public void flushBuffer() throws IOException {
+		// ライタ及びストリームを送出(圧縮するかが決定される)
+		if (writer != null) {
+			writer.flush();
+		} else if (stream != null) {
+			stream.flush();
+		}
+		super.flushBuffer();
+	}
+	
+	@Override
+	public void resetBuffer() {
+		super.resetBuffer();
+		// 決定前のバッファを破棄
+		if (stream != null) {
+			stream.resetBuffer();
+		}
+	}
+	
+	@Override
+	public void reset() {
+		super.reset();
+		// 決定前のバッファ及び保持情報を破棄
+		if (stream != null) {
+			stream.resetBuffer();
+		}
+		contentLength = -1;
+	}
+	
+	/**
+	 * 圧縮を終了する。<br>
+	 * フィルタ処理の最後に呼び出される。<br>
+	 * @throws IOException 出力に失敗した場合
+	 */
+	public void finish() throws IOException {
+		if (writer != null) {
+			writer.flush();
+		}
+		if (stream != null) {
+			stream.finish();
+		}
+	}
+	
+	/**
+	 * 圧縮するかを判断する。<br>
+	 * @param length 出力サイズ(不明な場合は-1)
+	 * @return 判断結果(true：圧縮する、false：圧縮しない)
+	 */
+	protected boolean isCompressible(long length) {
+		// ステータスコード確認
+		int status = getStatus();
+		if (status < HttpServletResponse.SC_OK || status == HttpServletResponse.SC_NO_CONTENT
+				|| status == HttpServletResponse.SC_NOT_MODIFIED) {
+			return false;
+		}
+		// 符号化済確認
+		if (containsHeader(HEADER_CONTENT_ENCODING)) {
+			return false;
+		}
+		// Content-Type確認
+		String contentType = getContentType();
+		if (contentType == null) {
+			return false;
+		}
+		int index = contentType.indexOf(';');
+		if (index >= 0) {
+			contentType = contentType.substring(0, index);
+		}
+		if (mimeTypes.contains(contentType.trim().toLowerCase(Locale.ENGLISH)) == false) {
+			return false;
+		}
+		// サイズ確認
+		if (contentLength >= 0) {
+			length = contentLength;
+		}
+		return length < 0 || length >= minSize;
+	}
+	
+	/**
+	 * 圧縮開始に伴うヘッダを設定する。<br>
+	 */
+	protected void startCompression() {
+		super.setHeader(HEADER_CONTENT_ENCODING, encoding);
+	}
+	
+	/**
+	 * 圧縮しない場合に、保持しているContent-Lengthを設定する。<br>
+	 */
+	protected void commitContentLength() {
+		if (contentLength >= 0) {
+			super.setContentLengthLong(contentLength);
+		}
+	}
+	
+	/**
+	 * 符号化方式を取得する。<br>
+	 * @return 符号化方式
+	 */
+	protected String getEncoding() {
+		return encoding;
+	}
+	
+	/**
+	 * 元のレスポンスの出力ストリームを取得する。<br>
+	 * @return 元のレスポンスの出力ストリーム
+	 * @throws IOException 取得に失敗した場合
+	 */
+	protected ServletOutputStream getOriginalOutputStream() throws IOException {
+		return super.getOutputStream();
+	}
+	
+	/**
+	 * 出力ストリームを取得する。<br>
+	 * @return 出力ストリーム
+	 */
+	protected CompressionOutputStream getStream() {
+		if (stream == null) {
+			stream = new CompressionOutputStream(this, minSize);
+		}
+		return stream;
+	}
+	
+	/**
+	 * Content-Lengthヘッダを設定する。<br>
+	 * @param value 値
+	 */
+	protected void setContentLengthHeader(String value) {
+		try {
+			setContentLengthLong(Long.parseLong(value.trim()));
+		} catch (NumberFormatException e) {
+			// 不正な値は無視
+		}
+	}
+	
+}
@@ -0,0 +1,237 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.filter;
+
+import java.io.File;
+import java.io.IOException;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import jp.mosp.framework.utils.ResourceVersionUtility;
+
+/**
+ * 静的リソースキャッシュフィルタ。<br>
+ * <br>
+ * 静的リソースの内容のハッシュ値をETagとして付加し、If-None-Matchによる条件付リクエストに304で応答する。<br>
+ * また、URLのクエリ(var)が内容のハッシュ値と一致する場合は長期間キャッシュさせる
+ * (内容が変わればURLが変わるため)。<br>
+ * 一致しない場合は、キャッシュさせた上で都度再検証させる。<br>
+ * <br>
+ * 初期化パラメータ：<br>
+ * maxAge ：長期間キャッシュさせる秒数(既定値31536000(1年))<br>
+ */
+public class StaticResourceFilter implements Filter {
+	
+	/**
+	 * 初期化パラメータ名(長期間キャッシュさせる秒数)。<br>
+	 */
+	public static final String		PARAM_MAX_AGE			= "maxAge";
+	
+	/**
+	 * 長期間キャッシュさせる秒数の既定値(1年)。<br>
+	 */
+	public static final long		DEFAULT_MAX_AGE			= 31536000L;
+	
+	/**
+	 * 版数を示すクエリのパラメータ名。<br>
+	 */
+	public static final String		PRM_VERSION				= "var";
+	
+	/**
+	 * ヘッダ名(ETag)。<br>
+	 */
+	protected static final String	HEADER_ETAG				= "ETag";
+	
+	/**
+	 * ヘッダ名(If-None-Match)。<br>
+	 */
+	protected static final String	HEADER_IF_NONE_MATCH	= "If-None-Match";
+	
+	/**
+	 * ヘッダ名(Cache-Control)。<br>
+	 */
+	protected static final String	HEADER_CACHE_CONTROL	= "Cache-Control";
+	
+	/**
+	 * Cache-Control(再検証)。<br>
+	 */
+	protected static final String	CACHE_CONTROL_NO_CACHE	= "no-cache";
+	
+	/**
+	 * サーブレットコンテキスト。<br>
+	 */
+	protected ServletContext		servletContext;
+	
+	/**
+	 * Cache-Control(長期間キャッシュ)。<br>
+	 */
+	protected String				cacheControlImmutable;
+	
+	
+	@Override
+	public void init(FilterConfig filterConfig) throws ServletException {
+		servletContext = filterConfig.getServletContext();
+		// 長期間キャッシュさせる秒数取得
+		long maxAge = DEFAULT_MAX_AGE;
+		String paramMaxAge = filterConfig.getInitParameter(PARAM_MAX_AGE);
+		if (paramMaxAge != null && paramMaxAge.trim().isEmpty() == false) {
+			try {
+				maxAge = Long.parseLong(paramMaxAge.trim());
+			} catch (NumberFormatException e) {
+				throw new ServletException(PARAM_MAX_AGE + "=" + paramMaxAge, e);
+			}
+		}
+		cacheControlImmutable = "public, max-age=" + maxAge + ", immutable";
+	}
+	
+	@Override
+	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException,
+			ServletException {
+		// HTTP以外の場合
+		if (request instanceof HttpServletRequest == false || response instanceof HttpServletResponse == false) {
+			chain.doFilter(request, response);
+			return;
+		}
+		HttpServletRequest httpRequest = (HttpServletRequest)request;
+		HttpServletResponse httpResponse = (HttpServletResponse)response;
+		// GET及びHEAD以外の場合
+		String method = httpRequest.getMethod();
+		if ("GET".equals(method) == false && "HEAD".equals(method) == false) {
+			chain.doFilter(request, response);
+			return;
+		}
+		// リソースファイル及びETag取得
+		File file = getFile(httpRequest);
+		String etag = ResourceVersionUtility.getETag(file);
+		if (etag == null) {
+			chain.doFilter(request, response);
+			return;
+		}
+		// ヘッダ設定
+		httpResponse.setHeader(HEADER_ETAG, etag);
+		if (ResourceVersionUtility.isCurrentVersion(file, httpRequest.getParameter(PRM_VERSION))) {
+			httpResponse.setHeader(HEADER_CACHE_CONTROL, cacheControlImmutable);
+		} else {
+			httpResponse.setHeader(HEADER_CACHE_CONTROL, CACHE_CONTROL_NO_CACHE);
+		}
+		// 条件付リクエスト確認
+		if (isNotModified(httpRequest.getHeader(HEADER_IF_NONE_MATCH), etag)) {
+			httpResponse.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+			return;
+		}
+		// 付加したヘッダを上書きさせずに処理
+		chain.doFilter(request, new StaticResourceResponse(httpResponse));
+	}
+	
+	@Override
+	public void destroy() {
+		// 処理無し
+	}
+	
+	/**
+	 * リクエストに対応するリソースファイルを取得する。<br>
+	 * @param request リクエスト
+	 * @return リソースファイル(取得できない場合はnull)
+	 */
+	protected File getFile(HttpServletRequest request) {
+		String path = request.getServletPath();
+		if (request.getPathInfo() != null) {
+			path = path + request.getPathInfo();
+		}
+		String realPath = servletContext.getRealPath(path);
+		if (realPath == null) {
+			return null;
+		}
+		return new File(realPath);
+	}
+	
+	/**
+	 * If-None-MatchがETagと一致するかを確認する。<br>
+	 * @param ifNoneMatch If-None-Match
+	 * @param etag        ETag
+	 * @return 確認結果(true：一致する、false：一致しない)
+	 */
+	protected boolean isNotModified(String ifNoneMatch, String etag) {
+		if (ifNoneMatch == null) {
+			return false;
+		}
+		for (String token : ifNoneMatch.split(",")) {
+			String value = token.trim();
+			// 弱い比較
+			if (value.startsWith("W/")) {
+				value = value.substring(2);
+			}
+			if (value.equals("*") || value.equals(etag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	
+	/**
+	 * 静的リソースキャッシュ用レスポンスラッパ。<br>
+	 * フィルタが付加したETag及びCache-Controlを、後続の処理に上書きさせない。<br>
+	 */
+	protected static class StaticResourceResponse extends HttpServletResponseWrapper {
+		
+		/**
+		 * レスポンスをラップする。<br>
+		 * @param response レスポンス
+		 */
+		public StaticResourceResponse(HttpServletResponse response) {
+			super(response);
+		}
+		
+		@Override
+		public void setHeader(String name, String value) {
+			if (isProtected(name)) {
+				return;
+			}
+			super.setHeader(name, value);
+		}
+		
+		@Override
+		public void addHeader(String name, String value) {
+			if (isProtected(name)) {
+				return;
+			}
+			super.addHeader(name, value);
+		}
+		
+		/**
+		 * 上書きさせないヘッダであるかを確認する。<br>
+		 * @param name ヘッダ名
+		 * @return 確認結果(true：上書きさせない、false：上書きさせる)
+		 */
+		protected boolean isProtected(String name) {
+			return HEADER_ETAG.equalsIgnoreCase(name) || HEADER_CACHE_CONTROL.equalsIgnoreCase(name);
+		}
+		
+	}
+	
+}
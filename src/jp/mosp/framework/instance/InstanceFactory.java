@@ -24,6 +24,7 @@ import java.util.Date;
 import jp.mosp.framework.base.BaseBeanHandlerInterface;
 import jp.mosp.framework.base.BaseBeanInterface;
 import jp.mosp.framework.base.BaseDaoInterface;
+import jp.mosp.framework.base.MospCommandStatistics;
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.base.MospParams;
 import jp.mosp.framework.constant.ExceptionConst;
@@ -182,6 +183,8 @@ public class InstanceFactory {
 		bean.setParams(mospParams, connection);
 		// 初期化処理を実行
 		bean.initBean();
+		// コマンド統計情報にBean生成数を加算
+		MospCommandStatistics.beanLoaded();
 		// デバッグメッセージ
 		LogUtility.debug(mospParams, bean.toString());
 		return bean;
@@ -223,6 +226,8 @@ public class InstanceFactory {
 		dao.setInitParams(mospParams, connection);
 		// 初期化処理を実行
 		dao.initDao();
+		// コマンド統計情報にDAO生成数を加算
+		MospCommandStatistics.daoLoaded();
 		// デバッグメッセージ
 		LogUtility.debug(mospParams, dao.toString());
 		return dao;
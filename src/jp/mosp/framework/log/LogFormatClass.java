@@ -67,7 +67,7 @@ public final class LogFormatClass extends Formatter {
 	public String format(LogRecord rec) {
 		SimpleDateFormat sdf = new SimpleDateFormat(TIME_FORMAT + separator + DATE_FORMAT + separator + DAY_FORMAT);
 		StringBuffer sb = new StringBuffer();
-		sb.append(sdf.format(new Date()));
+		sb.append(sdf.format(new Date(rec.getMillis())));
 		sb.append(separator);
 		sb.append(rec.getLevel());
 		sb.append(separator);
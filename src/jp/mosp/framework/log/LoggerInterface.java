@@ -31,6 +31,14 @@ public interface LoggerInterface {
 	 */
 	void log(int level, String message);
 	
+	/**
+	 * ログが出力されるかを確認する。<br>
+	 * ログメッセージの作成前に確認することで、出力されないログの作成を省く。<br>
+	 * @param level ログレベル
+	 * @return 確認結果(true：出力される、false：出力されない)
+	 */
+	boolean isLoggable(int level);
+	
 	/**
 	 * ログ出力クラスの設定を行う。<br>
 	 * @param mospParams MosP処理情報
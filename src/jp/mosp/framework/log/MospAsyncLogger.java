@@ -0,0 +1,374 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.log;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.constant.MospConst;
+
+/**
+ * MosP用非同期Loggerクラス。<br>
+ * <br>
+ * ログレコードを固定長のリングバッファに格納し、単一の書込スレッドでファイルへ出力する。<br>
+ * 呼出元のスレッドはファイル出力を待たずに処理を継続する。<br>
+ * バッファが満杯の場合、WARNING以上のログは呼出元スレッドで同期出力し、
+ * それ以外のログは破棄して破棄件数を出力する。<br>
+ * <br>
+ * 出力先ファイル及びログ出力レベルは{@link MospLogger}と共有する。<br>
+ */
+public class MospAsyncLogger extends MospLogger {
+	
+	/**
+	 *  MosPアプリケーション設定キー(非同期ログバッファ件数)。<br>
+	 */
+	protected static final String						APP_LOG_ASYNC_BUFFER_SIZE	= "LogAsyncBufferSize";
+	
+	/**
+	 * 非同期ログバッファ件数(デフォルト)。<br>
+	 */
+	protected static final int							DEFAULT_BUFFER_SIZE			= 8192;
+	
+	/**
+	 * 書込スレッド名。<br>
+	 */
+	protected static final String						THREAD_NAME					= "MospAsyncLogger";
+	
+	/**
+	 * 書込スレッド待機時間(ナノ秒)。<br>
+	 */
+	protected static final long							PARK_NANOS					= 100000000L;
+	
+	/**
+	 * 書込スレッド群(キー：ログ出力クラス名)。<br>
+	 */
+	protected static final Map<String, AsyncLogWriter>	WRITERS						= new ConcurrentHashMap<String, AsyncLogWriter>();
+	
+	/**
+	 * 書込スレッド。<br>
+	 */
+	protected AsyncLogWriter							writer;
+	
+	
+	@Override
+	public void log(int level, String message) {
+		try {
+			// ログレベル取得
+			Level logLevel = getLevel(level);
+			// ログ出力要否確認
+			if (logger.isLoggable(logLevel) == false) {
+				return;
+			}
+			// ログレコード作成(出力日時はここで確定)
+			LogRecord record = new LogRecord(logLevel, message);
+			record.setLoggerName(logger.getName());
+			// バッファに格納できた場合
+			if (writer.offer(record)) {
+				return;
+			}
+			// バッファが満杯でWARNING以上の場合は同期出力
+			if (logLevel.intValue() >= Level.WARNING.intValue()) {
+				logger.log(record);
+				return;
+			}
+			// 破棄件数加算
+			writer.drop();
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+	}
+	
+	@Override
+	public void setLogger(MospParams mospParams) {
+		// ログ出力クラス及びハンドラ設定
+		super.setLogger(mospParams);
+		// 書込スレッド確認
+		if (writer != null || logger == null) {
+			return;
+		}
+		synchronized (WRITERS) {
+			// 書込スレッド取得
+			writer = WRITERS.get(logger.getName());
+			if (writer != null) {
+				return;
+			}
+			// 書込スレッド生成及び開始
+			int size = mospParams.getApplicationProperty(APP_LOG_ASYNC_BUFFER_SIZE, DEFAULT_BUFFER_SIZE);
+			writer = new AsyncLogWriter(logger, size);
+			writer.start();
+			WRITERS.put(logger.getName(), writer);
+		}
+	}
+	
+	/**
+	 * ログ出力クラス名を取得する。<br>
+	 * {@link MospLogger}と同一のログ出力クラス(出力先ファイル)を用いる。<br>
+	 * @param mospParams MosP処理情報
+	 * @return ログ出力クラス名
+	 */
+	@Override
+	protected String getLoggerName(MospParams mospParams) {
+		return mospParams.getApplicationProperty(MospConst.APP_DOCBASE) + MospLogger.class.getName();
+	}
+	
+	/**
+	 * 全ての書込スレッドを停止する。<br>
+	 * バッファに残っているログを出力してから停止する。<br>
+	 * アプリケーション終了時に用いる。<br>
+	 */
+	public static void shutdown() {
+		synchronized (WRITERS) {
+			for (AsyncLogWriter asyncLogWriter : WRITERS.values()) {
+				asyncLogWriter.stop();
+			}
+			WRITERS.clear();
+		}
+	}
+	
+	/**
+	 * 破棄されたログ件数を取得する。<br>
+	 * @return 破棄されたログ件数(書込スレッド累計)
+	 */
+	public static long getDroppedCount() {
+		long count = 0L;
+		for (AsyncLogWriter asyncLogWriter : WRITERS.values()) {
+			count += asyncLogWriter.getDroppedTotal();
+		}
+		return count;
+	}
+	
+	
+	/**
+	 * 非同期ログ書込クラス。<br>
+	 * <br>
+	 * 複数の書込元と単一の読出元を持つ固定長リングバッファを保持する。<br>
+	 * 書込元はCASで書込位置を確保するため、ロックを取得しない。<br>
+	 */
+	protected static class AsyncLogWriter implements Runnable {
+		
+		/**
+		 * 出力先ログ出力クラス。<br>
+		 */
+		private final Logger							logger;
+		
+		/**
+		 * リングバッファ。<br>
+		 */
+		private final AtomicReferenceArray<LogRecord>	slots;
+		
+		/**
+		 * リングバッファ件数。<br>
+		 */
+		private final int								capacity;
+		
+		/**
+		 * 位置算出用マスク。<br>
+		 */
+		private final int								mask;
+		
+		/**
+		 * 書込位置(書込元が確保した次の位置)。<br>
+		 */
+		private final AtomicLong						tail			= new AtomicLong();
+		
+		/**
+		 * 読出位置(書込スレッドのみが更新)。<br>
+		 */
+		private volatile long							head;
+		
+		/**
+		 * 未出力の破棄件数。<br>
+		 */
+		private final AtomicLong						dropped			= new AtomicLong();
+		
+		/**
+		 * 破棄件数累計。<br>
+		 */
+		private final AtomicLong						droppedTotal	= new AtomicLong();
+		
+		/**
+		 * 書込スレッド。<br>
+		 */
+		private final Thread							thread;
+		
+		/**
+		 * 実行中フラグ。<br>
+		 */
+		private volatile boolean						running			= true;
+		
+		/**
+		 * 待機中フラグ。<br>
+		 */
+		private volatile boolean						waiting;
+		
+		
+		/**
+		 * コンストラクタ。<br>
+		 * バッファ件数は2の累乗に切り上げる。<br>
+		 * @param logger 出力先ログ出力クラス
+		 * @param size   バッファ件数
+		 */
+		protected AsyncLogWriter(Logger logger, int size) {
+			this.logger = logger;
+			int cap = 1;
+			while (cap < size && cap < (1 << 30)) {
+				cap <<= 1;
+			}
+			capacity = cap;
+			mask = cap - 1;
+			slots = new AtomicReferenceArray<LogRecord>(cap);
+			thread = new Thread(this, THREAD_NAME);
+			thread.setDaemon(true);
+		}
+		
+		/**
+		 * 書込スレッドを開始する。<br>
+		 */
+		protected void start() {
+			thread.start();
+		}
+		
+		/**
+		 * 書込スレッドを停止する。<br>
+		 * バッファに残っているログの出力を待つ。<br>
+		 */
+		protected void stop() {
+			running = false;
+			LockSupport.unpark(thread);
+			try {
+				thread.join(PARK_NANOS / 1000000L * 10);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		
+		/**
+		 * ログレコードをバッファに格納する。<br>
+		 * バッファが満杯の場合は待たずに偽を返す。<br>
+		 * @param record ログレコード
+		 * @return 格納結果(true：格納できた、false：バッファが満杯)
+		 */
+		protected boolean offer(LogRecord record) {
+			while (true) {
+				long current = tail.get();
+				// バッファ満杯確認
+				if (current - head >= capacity) {
+					return false;
+				}
+				// 書込位置確保
+				if (tail.compareAndSet(current, current + 1)) {
+					slots.lazySet((int)(current & mask), record);
+					// 書込スレッドが待機中であれば起床
+					if (waiting) {
+						LockSupport.unpark(thread);
+					}
+					return true;
+				}
+			}
+		}
+		
+		/**
+		 * 破棄件数を加算する。<br>
+		 */
+		protected void drop() {
+			dropped.incrementAndGet();
+			droppedTotal.incrementAndGet();
+		}
+		
+		/**
+		 * 破棄件数累計を取得する。<br>
+		 * @return 破棄件数累計
+		 */
+		protected long getDroppedTotal() {
+			return droppedTotal.get();
+		}
+		
+		/**
+		 * バッファからログレコードを取り出す。<br>
+		 * 書込位置が確保されていても格納が完了していない場合はnullを返す。<br>
+		 * @return ログレコード
+		 */
+		private LogRecord poll() {
+			long current = head;
+			int index = (int)(current & mask);
+			LogRecord record = slots.get(index);
+			if (record == null) {
+				return null;
+			}
+			slots.lazySet(index, null);
+			head = current + 1;
+			return record;
+		}
+		
+		@Override
+		public void run() {
+			while (true) {
+				// バッファが空になるまで出力
+				LogRecord record = poll();
+				while (record != null) {
+					publish(record);
+					record = poll();
+				}
+				// 破棄件数出力
+				long count = dropped.getAndSet(0L);
+				if (count > 0L) {
+					publish(new LogRecord(Level.WARNING, "log buffer overflow: " + count + " records dropped"));
+				}
+				// バッファに未格納のログがなければ停止確認
+				if (running == false && tail.get() == head) {
+					break;
+				}
+				// 待機
+				waiting = true;
+				if (tail.get() == head) {
+					LockSupport.parkNanos(this, PARK_NANOS);
+				} else {
+					// 格納完了待ち
+					Thread.yield();
+				}
+				waiting = false;
+			}
+			// ハンドラのバッファを出力
+			for (Handler handler : logger.getHandlers()) {
+				handler.flush();
+			}
+		}
+		
+		/**
+		 * ログレコードを出力する。<br>
+		 * @param record ログレコード
+		 */
+		private void publish(LogRecord record) {
+			try {
+				logger.log(record);
+			} catch (Exception e) {
+				e.printStackTrace();
+			}
+		}
+		
+	}
+	
+}
@@ -133,6 +133,20 @@ public class MospLogger implements LoggerInterface {
 		}
 	}
 	
+	@Override
+	public boolean isLoggable(int level) {
+		return logger != null && logger.isLoggable(getLevel(level));
+	}
+	
+	/**
+	 * ログ出力クラス名を取得する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return ログ出力クラス名(DocBase+クラス名)
+	 */
+	protected String getLoggerName(MospParams mospParams) {
+		return mospParams.getApplicationProperty(MospConst.APP_DOCBASE) + getClass().getName();
+	}
+	
 	@Override
 	public void setLogger(MospParams mospParams) {
 		try {
@@ -141,10 +155,8 @@ public class MospLogger implements LoggerInterface {
 				// ログ出力クラスが存在していれば処理不要
 				return;
 			}
-			// ログ出力クラス名生成(DocBase+クラス名)
-			String loggerName = mospParams.getApplicationProperty(MospConst.APP_DOCBASE) + getClass().getName();
 			// ログ出力クラス取得
-			logger = Logger.getLogger(loggerName);
+			logger = Logger.getLogger(getLoggerName(mospParams));
 			// ハンドラ確認
 			if (logger.getHandlers().length > 0) {
 				// ハンドラが設定されていれば処理不要
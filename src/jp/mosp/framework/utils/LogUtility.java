@@ -218,18 +218,61 @@ public class LogUtility {
 		return log.toString();
 	}
 	
+	/**
+	 * ログタイプに設定されたログ出力クラスのいずれかでログが出力されるかを確認する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param logType    ログタイプ
+	 * @param level      ログレベル
+	 * @return 確認結果(true：出力される、false：出力されない)
+	 */
+	protected static boolean isLoggable(MospParams mospParams, String logType, int level) {
+		// ログ出力クラス毎に確認
+		for (String loggerName : mospParams.getApplicationProperties(logType)) {
+			if (loadLogger(loggerName, mospParams).isLoggable(level)) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * 参照SQL実行ログが出力されるかを確認する。<br>
+	 * SQL文字列の作成前に確認することで、出力されないSQL文字列の作成を省く。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 確認結果(true：出力される、false：出力されない)
+	 */
+	public static boolean isSqlSelectLoggable(MospParams mospParams) {
+		return isLoggable(mospParams, APP_LOG_TYPE_SQL_SELECT,
+				mospParams.getApplicationProperty(APP_LOG_LEVEL_SQL_SELECT, 0));
+	}
+	
+	/**
+	 * 登録SQL実行ログが出力されるかを確認する。<br>
+	 * SQL文字列の作成前に確認することで、出力されないSQL文字列の作成を省く。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 確認結果(true：出力される、false：出力されない)
+	 */
+	public static boolean isSqlRegistLoggable(MospParams mospParams) {
+		return isLoggable(mospParams, APP_LOG_TYPE_SQL_REGIST,
+				mospParams.getApplicationProperty(APP_LOG_LEVEL_SQL_REGIST, 0));
+	}
+	
 	/**
 	 * コントローラ初期化ログを出力する。
 	 * @param mospParams MosP処理情報
 	 * @param message    ログメッセージ
 	 */
 	public static void controllerInit(MospParams mospParams, String message) {
+		// ログレベル取得
+		int level = mospParams.getApplicationProperty(APP_LOG_LEVEL_CONTROLLER_INIT, 0);
+		// ログ出力要否確認
+		if (isLoggable(mospParams, APP_LOG_TYPE_CONTROLLER_INIT, level) == false) {
+			return;
+		}
 		// ログメッセージ作成
 		String msg = getLogMessage(mospParams, APP_LOG_TYPE_CONTROLLER_INIT, message);
 		// ログ出力クラス毎にログを出力
 		for (String loggerName : mospParams.getApplicationProperties(APP_LOG_TYPE_CONTROLLER_INIT)) {
-			// ログレベル取得
-			int level = mospParams.getApplicationProperty(APP_LOG_LEVEL_CONTROLLER_INIT, 0);
 			// ログ出力
 			loadLogger(loggerName, mospParams).log(level, msg);
 		}
@@ -240,6 +283,12 @@ public class LogUtility {
 	 * @param mospParams MosP処理情報
 	 */
 	public static void access(MospParams mospParams) {
+		// ログレベル取得
+		int level = mospParams.getApplicationProperty(APP_LOG_LEVEL_ACCESS, 0);
+		// ログ出力要否確認
+		if (isLoggable(mospParams, APP_LOG_TYPE_ACCESS, level) == false) {
+			return;
+		}
 		// アクセス情報作成
 		StringBuffer sb = new StringBuffer();
 		sb.append(mospParams.getGeneralParam(MospConst.ATT_REMOTE_ADDR));
@@ -249,8 +298,6 @@ public class LogUtility {
 		String msg = getLogMessage(mospParams, APP_LOG_TYPE_ACCESS, sb.toString());
 		// ログ出力クラス毎にログを出力
 		for (String loggerName : mospParams.getApplicationProperties(APP_LOG_TYPE_ACCESS)) {
-			// ログレベル取得
-			int level = mospParams.getApplicationProperty(APP_LOG_LEVEL_ACCESS, 0);
 			// ログ出力
 			loadLogger(loggerName, mospParams).log(level, msg);
 		}
@@ -262,12 +309,16 @@ public class LogUtility {
 	 * @param message    ログメッセージ
 	 */
 	public static void actionStart(MospParams mospParams, String message) {
+		// ログレベル取得
+		int level = mospParams.getApplicationProperty(APP_LOG_LEVEL_ACTION_START, 0);
+		// ログ出力要否確認
+		if (isLoggable(mospParams, APP_LOG_TYPE_ACTION_START, level) == false) {
+			return;
+		}
 		// ログメッセージ作成
 		String msg = getLogMessage(mospParams, APP_LOG_TYPE_ACTION_START, message);
 		// ログ出力クラス毎にログを出力
 		for (String loggerName : mospParams.getApplicationProperties(APP_LOG_TYPE_ACTION_START)) {
-			// ログレベル取得
-			int level = mospParams.getApplicationProperty(APP_LOG_LEVEL_ACTION_START, 0);
 			// ログ出力
 			loadLogger(loggerName, mospParams).log(level, msg);
 		}
@@ -279,12 +330,16 @@ public class LogUtility {
 	 * @param message    ログメッセージ
 	 */
 	public static void actionEnd(MospParams mospParams, String message) {
+		// ログレベル取得
+		int level = mospParams.getApplicationProperty(APP_LOG_LEVEL_ACTION_END, 0);
+		// ログ出力要否確認
+		if (isLoggable(mospParams, APP_LOG_TYPE_ACTION_END, level) == false) {
+			return;
+		}
 		// ログメッセージ作成
 		String msg = getLogMessage(mospParams, APP_LOG_TYPE_ACTION_END, message);
 		// ログ出力クラス毎にログを出力
 		for (String loggerName : mospParams.getApplicationProperties(APP_LOG_TYPE_ACTION_END)) {
-			// ログレベル取得
-			int level = mospParams.getApplicationProperty(APP_LOG_LEVEL_ACTION_END, 0);
 			// ログ出力
 			loadLogger(loggerName, mospParams).log(level, msg);
 		}
@@ -296,12 +351,16 @@ public class LogUtility {
 	 * @param message    ログメッセージ
 	 */
 	public static void dbConnect(MospParams mospParams, String message) {
+		// ログレベル取得
+		int level = mospParams.getApplicationProperty(APP_LOG_LEVEL_DB_CONNECT, 0);
+		// ログ出力要否確認
+		if (isLoggable(mospParams, APP_LOG_TYPE_DB_CONNECT, level) == false) {
+			return;
+		}
 		// ログメッセージ作成
 		String msg = getLogMessage(mospParams, APP_LOG_TYPE_DB_CONNECT, message);
 		// ログ出力クラス毎にログを出力
 		for (String loggerName : mospParams.getApplicationProperties(APP_LOG_TYPE_DB_CONNECT)) {
-			// ログレベル取得
-			int level = mospParams.getApplicationProperty(APP_LOG_LEVEL_DB_CONNECT, 0);
 			// ログ出力
 			loadLogger(loggerName, mospParams).log(level, msg);
 		}
@@ -313,12 +372,16 @@ public class LogUtility {
 	 * @param message    ログメッセージ
 	 */
 	public static void sqlSelect(MospParams mospParams, String message) {
+		// ログレベル取得
+		int level = mospParams.getApplicationProperty(APP_LOG_LEVEL_SQL_SELECT, 0);
+		// ログ出力要否確認
+		if (isLoggable(mospParams, APP_LOG_TYPE_SQL_SELECT, level) == false) {
+			return;
+		}
 		// ログメッセージ作成
 		String msg = getLogMessage(mospParams, APP_LOG_TYPE_SQL_SELECT, message);
 		// ログ出力クラス毎にログを出力
 		for (String loggerName : mospParams.getApplicationProperties(APP_LOG_TYPE_SQL_SELECT)) {
-			// ログレベル取得
-			int level = mospParams.getApplicationProperty(APP_LOG_LEVEL_SQL_SELECT, 0);
 			// ログ出力
 			loadLogger(loggerName, mospParams).log(level, msg);
 		}
@@ -330,12 +393,16 @@ public class LogUtility {
 	 * @param message    ログメッセージ
 	 */
 	public static void sqlRegist(MospParams mospParams, String message) {
+		// ログレベル取得
+		int level = mospParams.getApplicationProperty(APP_LOG_LEVEL_SQL_REGIST, 0);
+		// ログ出力要否確認
+		if (isLoggable(mospParams, APP_LOG_TYPE_SQL_REGIST, level) == false) {
+			return;
+		}
 		// ログメッセージ作成
 		String msg = getLogMessage(mospParams, APP_LOG_TYPE_SQL_REGIST, message);
 		// ログ出力クラス毎にログを出力
 		for (String loggerName : mospParams.getApplicationProperties(APP_LOG_TYPE_SQL_REGIST)) {
-			// ログレベル取得
-			int level = mospParams.getApplicationProperty(APP_LOG_LEVEL_SQL_REGIST, 0);
 			// ログ出力
 			loadLogger(loggerName, mospParams).log(level, msg);
 		}
@@ -347,12 +414,16 @@ public class LogUtility {
 	 * @param message    ログメッセージ
 	 */
 	public static void internalControl(MospParams mospParams, String message) {
+		// ログレベル取得
+		int level = mospParams.getApplicationProperty(APP_LOG_LEVEL_INTERNAL_CONTROL, 0);
+		// ログ出力要否確認
+		if (isLoggable(mospParams, APP_LOG_TYPE_INTERNAL_CONTROL, level) == false) {
+			return;
+		}
 		// ログメッセージ作成
 		String msg = getLogMessage(mospParams, APP_LOG_TYPE_INTERNAL_CONTROL, message);
 		// ログ出力クラス毎にログを出力
 		for (String loggerName : mospParams.getApplicationProperties(APP_LOG_TYPE_INTERNAL_CONTROL)) {
-			// ログレベル取得
-			int level = mospParams.getApplicationProperty(APP_LOG_LEVEL_INTERNAL_CONTROL, 0);
 			// ログ出力
 			loadLogger(loggerName, mospParams).log(level, msg);
 		}
@@ -364,14 +435,18 @@ public class LogUtility {
 	 * @param thrown     スローされたオブジェクト
 	 */
 	public static void error(MospParams mospParams, Throwable thrown) {
+		// ログレベル取得
+		int level = mospParams.getApplicationProperty(APP_LOG_LEVEL_ERROR, 0);
+		// ログ出力要否確認
+		if (isLoggable(mospParams, APP_LOG_TYPE_ERROR, level) == false) {
+			return;
+		}
 		// スタックトレースを取得
 		String message = MospUtility.getStackTrace(thrown);
 		// エラーログメッセージ作成
 		message = getLogMessage(mospParams, APP_LOG_TYPE_ERROR, message);
 		// ログ出力クラス毎にログを出力
 		for (String loggerName : mospParams.getApplicationProperties(APP_LOG_TYPE_ERROR)) {
-			// ログレベル取得
-			int level = mospParams.getApplicationProperty(APP_LOG_LEVEL_ERROR, 0);
 			// ログ出力
 			loadLogger(loggerName, mospParams).log(level, message);
 		}
@@ -383,12 +458,16 @@ public class LogUtility {
 	 * @param message    ログメッセージ
 	 */
 	public static void application(MospParams mospParams, String message) {
+		// ログレベル取得
+		int level = mospParams.getApplicationProperty(APP_LOG_LEVEL_APPLICATION, 0);
+		// ログ出力要否確認
+		if (isLoggable(mospParams, APP_LOG_TYPE_APPLICATION, level) == false) {
+			return;
+		}
 		// ログメッセージ作成
 		String msg = getLogMessage(mospParams, APP_LOG_TYPE_APPLICATION, message);
 		// ログ出力クラス毎にログを出力
 		for (String loggerName : mospParams.getApplicationProperties(APP_LOG_TYPE_APPLICATION)) {
-			// ログレベル取得
-			int level = mospParams.getApplicationProperty(APP_LOG_LEVEL_APPLICATION, 0);
 			// ログ出力
 			loadLogger(loggerName, mospParams).log(level, msg);
 		}
@@ -400,12 +479,16 @@ public class LogUtility {
 	 * @param message    ログメッセージ
 	 */
 	public static void debug(MospParams mospParams, String message) {
+		// ログレベル取得
+		int level = mospParams.getApplicationProperty(APP_LOG_LEVEL_DEBUG, 0);
+		// ログ出力要否確認
+		if (isLoggable(mospParams, APP_LOG_TYPE_DEBUG, level) == false) {
+			return;
+		}
 		// ログメッセージ作成
 		String msg = getLogMessage(mospParams, APP_LOG_TYPE_DEBUG, message);
 		// ログ出力クラス毎にログを出力
 		for (String loggerName : mospParams.getApplicationProperties(APP_LOG_TYPE_DEBUG)) {
-			// ログレベル取得
-			int level = mospParams.getApplicationProperty(APP_LOG_LEVEL_DEBUG, 0);
 			// ログ出力
 			loadLogger(loggerName, mospParams).log(level, msg);
 		}
@@ -418,6 +501,10 @@ public class LogUtility {
 	 * @param message    ログメッセージ
 	 */
 	public static void log(MospParams mospParams, int level, String message) {
+		// ログ出力要否確認
+		if (isLoggable(mospParams, APP_LOG_TYPE_GENERAL, level) == false) {
+			return;
+		}
 		// ログメッセージ作成
 		String msg = getLogMessage(mospParams, APP_LOG_TYPE_GENERAL, message);
 		// ログ出力クラス毎にログを出力
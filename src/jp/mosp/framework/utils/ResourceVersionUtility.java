@@ -0,0 +1,210 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.framework.utils;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 静的リソースの版数に関する有用なメソッドを提供する。<br>
+ * <br>
+ * 静的リソース(JavaScript、CSS、画像等)の内容からハッシュ値を算出し、
+ * URLの版数(クエリ)及びETagとして用いる。<br>
+ * 内容が変わった場合にのみURLが変わるため、ブラウザに長期間キャッシュさせることができる。<br>
+ * <br>
+ * ハッシュ値はファイル毎に保持し、ファイルの更新日時或いはサイズが変わった場合に再算出する
+ * (起動時に出力されるmessage.js等にも対応する)。<br>
+ */
+public class ResourceVersionUtility {
+	
+	/**
+	 * ハッシュ値算出アルゴリズム。<br>
+	 */
+	protected static final String					DIGEST_ALGORITHM	= "MD5";
+	
+	/**
+	 * 版数の文字数。<br>
+	 * ハッシュ値(16進数)の先頭から用いる。<br>
+	 */
+	protected static final int						VERSION_LENGTH		= 16;
+	
+	/**
+	 * 読込バッファサイズ。<br>
+	 */
+	protected static final int						BUFFER_SIZE			= 8192;
+	
+	/**
+	 * 保持しているハッシュ値群(キー：ファイルの絶対パス)。<br>
+	 */
+	protected static final Map<String, Fingerprint>	FINGERPRINTS		= new ConcurrentHashMap<String, Fingerprint>();
+	
+	
+	/**
+	 * 他クラスからのインスタンス化を防止する。<br>
+	 */
+	private ResourceVersionUtility() {
+		// 処理無し
+	}
+	
+	/**
+	 * 静的リソースの版数を取得する。<br>
+	 * テンプレートJSPでURLのクエリとして付加する。<br>
+	 * @param docBase        ドキュメントベース
+	 * @param path           リソースのパス(ドキュメントベースからの相対パス)
+	 * @param defaultVersion ファイルが存在しない場合の版数
+	 * @return 版数
+	 */
+	public static String getVersion(String docBase, String path, String defaultVersion) {
+		String hash = getHash(new File(docBase, path));
+		if (hash == null) {
+			return defaultVersion;
+		}
+		return hash.substring(0, VERSION_LENGTH);
+	}
+	
+	/**
+	 * 版数がリソースの現在の版数と一致するかを確認する。<br>
+	 * @param file    リソースファイル
+	 * @param version 版数
+	 * @return 確認結果(true：一致する、false：一致しない)
+	 */
+	public static boolean isCurrentVersion(File file, String version) {
+		if (version == null || version.length() != VERSION_LENGTH) {
+			return false;
+		}
+		String hash = getHash(file);
+		return hash != null && hash.startsWith(version);
+	}
+	
+	/**
+	 * リソースファイルのETagを取得する。<br>
+	 * @param file リソースファイル
+	 * @return ETag(ファイルが存在しない場合はnull)
+	 */
+	public static String getETag(File file) {
+		String hash = getHash(file);
+		if (hash == null) {
+			return null;
+		}
+		return "\"" + hash + "\"";
+	}
+	
+	/**
+	 * リソースファイルのハッシュ値を取得する。<br>
+	 * @param file リソースファイル
+	 * @return ハッシュ値(16進数、ファイルが存在しないか読み込めない場合はnull)
+	 */
+	public static String getHash(File file) {
+		if (file == null || file.isFile() == false) {
+			return null;
+		}
+		String key = file.getAbsolutePath();
+		long lastModified = file.lastModified();
+		long length = file.length();
+		// 保持しているハッシュ値を確認
+		Fingerprint fingerprint = FINGERPRINTS.get(key);
+		if (fingerprint != null && fingerprint.lastModified == lastModified && fingerprint.length == length) {
+			return fingerprint.hash;
+		}
+		// ハッシュ値を算出し保持
+		String hash = digest(file);
+		if (hash != null) {
+			FINGERPRINTS.put(key, new Fingerprint(lastModified, length, hash));
+		}
+		return hash;
+	}
+	
+	/**
+	 * ファイルの内容からハッシュ値を算出する。<br>
+	 * @param file ファイル
+	 * @return ハッシュ値(16進数、読み込めない場合はnull)
+	 */
+	protected static String digest(File file) {
+		InputStream is = null;
+		try {
+			MessageDigest md = MessageDigest.getInstance(DIGEST_ALGORITHM);
+			is = new FileInputStream(file);
+			byte[] buffer = new byte[BUFFER_SIZE];
+			int read;
+			while ((read = is.read(buffer)) != -1) {
+				md.update(buffer, 0, read);
+			}
+			StringBuilder sb = new StringBuilder();
+			for (byte b : md.digest()) {
+				sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+				sb.append(Character.forDigit(b & 0xF, 16));
+			}
+			return sb.toString();
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		} catch (IOException e) {
+			return null;
+		} finally {
+			if (is != null) {
+				try {
+					is.close();
+				} catch (IOException e) {
+					// 処理無し
+				}
+			}
+		}
+	}
+	
+	
+	/**
+	 * ファイル毎のハッシュ値を保持するクラス。<br>
+	 */
+	protected static final class Fingerprint {
+		
+		/**
+		 * 算出時のファイル更新日時。<br>
+		 */
+		protected final long	lastModified;
+		
+		/**
+		 * 算出時のファイルサイズ。<br>
+		 */
+		protected final long	length;
+		
+		/**
+		 * ハッシュ値(16進数)。<br>
+		 */
+		protected final String	hash;
+		
+		
+		/**
+		 * ハッシュ値を保持する。<br>
+		 * @param lastModified 算出時のファイル更新日時
+		 * @param length       算出時のファイルサイズ
+		 * @param hash         ハッシュ値(16進数)
+		 */
+		protected Fingerprint(long lastModified, long length, String hash) {
+			this.lastModified = lastModified;
+			this.length = length;
+			this.hash = hash;
+		}
+		
+	}
+	
+}
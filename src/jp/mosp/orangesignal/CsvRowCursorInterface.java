@@ -0,0 +1,44 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.orangesignal;
+
+import jp.mosp.framework.base.MospException;
+
+/**
+ * CSV行カーソルインターフェース。<br>
+ * <br>
+ * CSVの行を一行ずつ提供する。<br>
+ * 全ての行をリストとして保持せずに出力する場合に用いる。<br>
+ * 取得を終えた(或いは中断した)場合は、{@link #close()}を呼び出す必要がある。<br>
+ */
+public interface CsvRowCursorInterface {
+	
+	/**
+	 * 次の行を取得する。<br>
+	 * @return 次の行(全ての行を取得済である場合はnull)
+	 * @throws MospException 行の取得に失敗した場合
+	 */
+	String[] next() throws MospException;
+	
+	/**
+	 * カーソルを終了し、保持している資源を開放する。<br>
+	 * @throws MospException 資源の開放に失敗した場合
+	 */
+	void close() throws MospException;
+	
+}
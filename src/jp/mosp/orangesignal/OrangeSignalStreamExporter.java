@@ -0,0 +1,88 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.orangesignal;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.util.Arrays;
+
+import javax.servlet.http.HttpServletResponse;
+
+import jp.mosp.framework.base.BaseExporter;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospExporterInterface;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.constant.ExceptionConst;
+import jp.sf.orangesignal.csv.CsvConfig;
+import jp.sf.orangesignal.csv.CsvWriter;
+
+/**
+ * CSV行カーソルの内容を、CSVで逐次出力する。<br>
+ * {@link MospParams#getFile()}により得られる物が、
+ * 下記いずれかのクラスのオブジェクトでなくてはならない。
+ * <ul><li>
+ * jp.mosp.orangesignal.OrangeSignalStreamParams
+ * </li></ul>
+ * 行は取得した順に一定の大きさのバッファを経てレスポンスに書き出されるため、
+ * 出力件数に関わらず使用するメモリはほぼ一定となる。<br>
+ */
+public class OrangeSignalStreamExporter extends BaseExporter implements MospExporterInterface {
+	
+	/**
+	 * 書込バッファの大きさ(文字数)。<br>
+	 */
+	protected static final int	BUFFER_SIZE	= 8192;
+	
+	
+	@Override
+	public void export(MospParams mospParams, HttpServletResponse response) throws MospException {
+		// コンテンツタイプ設定
+		setFileContentType(mospParams, response);
+		// ファイル名設定
+		setFileName(mospParams, response);
+		// 各画面で設定したOrangeSignal逐次出力処理情報を取得
+		OrangeSignalStreamParams orangeParams = (OrangeSignalStreamParams)mospParams.getFile();
+		// OrangeSignal処理情報から区切り文字形式情報生成
+		CsvConfig cfg = OrangeSignalUtility.getCsvConfig(orangeParams);
+		// 文字コード設定
+		String encoding = orangeParams.getEncoding() != null ? orangeParams.getEncoding()
+				: OrangeSignalParams.DEFAULT_ENCODING;
+		// CSV行カーソルを取得
+		CsvRowCursorInterface cursor = orangeParams.getCursor();
+		try {
+			// OUTPUTSTREAMに一行ずつ出力する
+			CsvWriter writer = new CsvWriter(new OutputStreamWriter(response.getOutputStream(), encoding),
+					BUFFER_SIZE, cfg);
+			String[] row = cursor.next();
+			while (row != null) {
+				writer.writeValues(Arrays.asList(row));
+				row = cursor.next();
+			}
+			writer.flush();
+		} catch (IOException e) {
+			// ClientAbortException確認(ClientAbortExceptionの場合は処理無し)
+			if (isClientAbortException(e) == false) {
+				throw new MospException(e, ExceptionConst.EX_FAIL_OUTPUT_FILE, null);
+			}
+		} finally {
+			// CSV行カーソル終了
+			cursor.close();
+		}
+	}
+	
+}
@@ -0,0 +1,57 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.orangesignal;
+
+/**
+ * OrangeSignal逐次出力処理情報を保持するクラス。<br>
+ * <br>
+ * 出力対象リストの代わりにCSV行カーソルを保持し、
+ * {@link OrangeSignalStreamExporter}により一行ずつ出力される。<br>
+ */
+public class OrangeSignalStreamParams extends OrangeSignalParams {
+	
+	/**
+	 * CSV行カーソル。<br>
+	 */
+	private CsvRowCursorInterface	cursor;
+	
+	
+	/**
+	 * CSV行カーソルを設定する。<br>
+	 * @param cursor CSV行カーソル
+	 */
+	public OrangeSignalStreamParams(CsvRowCursorInterface cursor) {
+		super();
+		this.cursor = cursor;
+	}
+	
+	/**
+	 * @return cursor
+	 */
+	public CsvRowCursorInterface getCursor() {
+		return cursor;
+	}
+	
+	/**
+	 * @param cursor セットする cursor
+	 */
+	public void setCursor(CsvRowCursorInterface cursor) {
+		this.cursor = cursor;
+	}
+	
+}
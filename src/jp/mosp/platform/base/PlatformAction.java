@@ -456,6 +456,29 @@ public abstract class PlatformAction extends BaseAction {
 	 * @throws MospException 比較クラスのインスタンス生成に失敗した場合
 	 */
 	public List<? extends BaseDtoInterface> sortList(String sortKey) throws MospException {
+		// VO取得
+		PlatformVo vo = (PlatformVo)mospParams.getVo();
+		// ソートキー及び昇順降順フラグ設定
+		setSortKey(sortKey);
+		// 比較クラスインスタンス取得
+		Comparator<Object> comp = InstanceFactory.loadComparator(vo.getComparatorName());
+		// ソート
+		if (vo.isAscending()) {
+			Collections.sort(vo.getList(), Collections.reverseOrder(comp));
+		} else {
+			Collections.sort(vo.getList(), comp);
+		}
+		// 1ページ目のリストを取得
+		return getFirstPageList();
+	}
+	
+	/**
+	 * ソートキー(比較クラス名)及び昇順降順フラグをVOに設定する。<br>
+	 * VOのソートキーと同じソートキーが指定された場合は、昇順降順フラグを反転する。<br>
+	 * 異なるソートキーが指定された場合は、昇順降順フラグを初期化する。<br>
+	 * @param sortKey ソートキー(比較クラス名)
+	 */
+	protected void setSortKey(String sortKey) {
 		// VO取得
 		PlatformVo vo = (PlatformVo)mospParams.getVo();
 		// ソートキー確認
@@ -474,16 +497,6 @@ public abstract class PlatformAction extends BaseAction {
 			// ソートキーをVOに設定
 			vo.setComparatorName(sortKey);
 		}
-		// 比較クラスインスタンス取得
-		Comparator<Object> comp = InstanceFactory.loadComparator(vo.getComparatorName());
-		// ソート
-		if (vo.isAscending()) {
-			Collections.sort(vo.getList(), Collections.reverseOrder(comp));
-		} else {
-			Collections.sort(vo.getList(), comp);
-		}
-		// 1ページ目のリストを取得
-		return getFirstPageList();
 	}
 	
 	/**
@@ -1415,6 +1428,17 @@ public abstract class PlatformAction extends BaseAction {
 		mospParams.addMessage(PlatformMessageConst.MSG_IMPORT_SUCCEED, rep);
 	}
 	
+	/**
+	 * ジョブ受付メッセージの設定。<br>
+	 * 併せて、画面表示時にジョブの状況を表示するよう、ジョブIDをJavaScript変数として設定する。<br>
+	 * @param jobName ジョブ名
+	 * @param jobId   ジョブID
+	 */
+	protected void addJobAcceptedMessage(String jobName, long jobId) {
+		mospParams.addMessage(PlatformMessageConst.MSG_JOB_ACCEPTED, jobName, String.valueOf(jobId));
+		mospParams.addGeneralParam(PlatformConst.JS_JOB_ID, jobId);
+	}
+	
 	/**
 	 * 登録失敗メッセージの設定。
 	 */
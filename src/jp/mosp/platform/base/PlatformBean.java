@@ -28,6 +28,7 @@ import jp.mosp.framework.base.BaseBean;
 import jp.mosp.framework.base.BaseDaoInterface;
 import jp.mosp.framework.base.BaseDtoInterface;
 import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospMasterCache;
 import jp.mosp.framework.base.MospParams;
 import jp.mosp.framework.constant.MospConst;
 import jp.mosp.framework.instance.InstanceFactory;
@@ -595,6 +596,23 @@ public abstract class PlatformBean extends BaseBean {
 		return array;
 	}
 	
+	/**
+	 * マスタキャッシュを取得する。<br>
+	 * 対象DAOのテーブルを依存テーブルとして登録する。<br>
+	 * @param name キャッシュ名
+	 * @param daos 依存テーブルのDAOクラス
+	 * @return マスタキャッシュ
+	 * @throws MospException テーブル名の取得に失敗した場合
+	 */
+	protected MospMasterCache getMasterCache(String name, BaseDaoInterface... daos) throws MospException {
+		// 依存テーブル名を取得
+		String[] tables = new String[daos.length];
+		for (int i = 0; i < daos.length; i++) {
+			tables[i] = daos[i].getTable(daos[i].getClass());
+		}
+		return MospMasterCache.getCache(mospParams, name, tables);
+	}
+	
 	/**
 	 * DTOの無効フラグが有効に設定されているかの確認をする。<br>
 	 * @param dto 確認対象DTO
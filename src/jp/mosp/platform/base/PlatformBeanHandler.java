@@ -57,6 +57,7 @@ import jp.mosp.platform.bean.system.BankBranchRegistBeanInterface;
 import jp.mosp.platform.bean.system.EmploymentContractRegistBeanInterface;
 import jp.mosp.platform.bean.system.GeneralRegistBeanInterface;
 import jp.mosp.platform.bean.system.IcCardRegistBeanInterface;
+import jp.mosp.platform.bean.system.JobRegistBeanInterface;
 import jp.mosp.platform.bean.system.NamingRegistBeanInterface;
 import jp.mosp.platform.bean.system.PlatformMasterCheckBeanInterface;
 import jp.mosp.platform.bean.system.PositionRegistBeanInterface;
@@ -212,6 +213,11 @@ public class PlatformBeanHandler extends BaseBeanHandler implements PlatformBean
 		return (ReceptionIcCardRegistBeanInterface)createBean(ReceptionIcCardRegistBeanInterface.class);
 	}
 	
+	@Override
+	public JobRegistBeanInterface jobRegist() throws MospException {
+		return (JobRegistBeanInterface)createBean(JobRegistBeanInterface.class);
+	}
+	
 	@Override
 	public HumanHistoryRegistBeanInterface humanHistoryRegist() throws MospException {
 		return (HumanHistoryRegistBeanInterface)createBean(HumanHistoryRegistBeanInterface.class);
@@ -55,6 +55,7 @@ import jp.mosp.platform.bean.system.BankBranchRegistBeanInterface;
 import jp.mosp.platform.bean.system.EmploymentContractRegistBeanInterface;
 import jp.mosp.platform.bean.system.GeneralRegistBeanInterface;
 import jp.mosp.platform.bean.system.IcCardRegistBeanInterface;
+import jp.mosp.platform.bean.system.JobRegistBeanInterface;
 import jp.mosp.platform.bean.system.NamingRegistBeanInterface;
 import jp.mosp.platform.bean.system.PlatformMasterCheckBeanInterface;
 import jp.mosp.platform.bean.system.PositionRegistBeanInterface;
@@ -248,6 +249,13 @@ public interface PlatformBeanHandlerInterface extends BaseBeanHandlerInterface {
 	 */
 	ReceptionIcCardRegistBeanInterface receptionIcCardRegist() throws MospException;
 	
+	/**
+	 * ジョブ登録クラスを取得する。
+	 * @return ジョブ登録クラス
+	 * @throws MospException Beanインスタンスの生成及び初期化に失敗した場合
+	 */
+	JobRegistBeanInterface jobRegist() throws MospException;
+	
 	/**
 	 * 人事汎用履歴情報登録クラスを取得する。
 	 * @return 人事汎用履歴情報登録クラス
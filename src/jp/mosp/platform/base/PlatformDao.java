@@ -25,6 +25,8 @@ import java.util.Set;
 
 import jp.mosp.framework.base.BaseDao;
 import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.RDBMSType;
+import jp.mosp.platform.constant.PlatformConst;
 
 /**
  * プラットフォームにおけるBeanの基本機能を提供する。<br>
@@ -32,6 +34,23 @@ import jp.mosp.framework.base.MospException;
  */
 public abstract class PlatformDao extends BaseDao {
 	
+	/**
+	 * 有効終了日列名。<br>
+	 * 履歴毎に、次の有効日の前日(最新の履歴の場合は{@link #MAX_VALID_TO_DATE})がトリガで保持される。<br>
+	 * 公開した列定数は各DAOの登録及び更新の対象列となる({@link jp.mosp.framework.base.DaoMetadata})ため、公開しない。<br>
+	 */
+	protected static final String	COL_VALID_TO_DATE	= "valid_to_date";
+	
+	/**
+	 * 最新の履歴の有効終了日。<br>
+	 */
+	public static final String		MAX_VALID_TO_DATE	= "9999-12-31";
+	
+	/**
+	 * 対象日列名(有効終了日を利用する場合の一時テーブル列名)。<br>
+	 */
+	protected static final String	COL_TARGET_DATE		= "target_date";
+	
 	/**
 	 * 検索条件を取得する。<br>
 	 * キーの検索条件が設定されていない場合、空文字列を返す。<br>
@@ -101,6 +120,10 @@ public abstract class PlatformDao extends BaseDao {
 	 * @return 有効日における最新の情報を抽出する条件SQL
 	 */
 	protected String getQueryForMaxActivateDate(String table, String codeColumn, String activateDateColumn) {
+		// 有効終了日を利用する場合
+		if (isValidToDateAvailable(table)) {
+			return getQueryForValidToDate(table, activateDateColumn);
+		}
 		// SQL作成準備
 		StringBuffer sb = new StringBuffer();
 		// 有効日における最新の情報を抽出する条件SQLを追加
@@ -139,6 +162,10 @@ public abstract class PlatformDao extends BaseDao {
 	 * @return 有効日における最新の情報を抽出する条件SQL
 	 */
 	protected String getQueryForMaxActivateDate(String table, String activateDateColumn, String... codeColumns) {
+		// 有効終了日を利用する場合
+		if (isValidToDateAvailable(table)) {
+			return getQueryForValidToDate(table, activateDateColumn);
+		}
 		// SQL作成準備
 		StringBuffer sb = new StringBuffer();
 		// 有効日における最新の情報を抽出する条件SQLを追加
@@ -192,6 +219,67 @@ public abstract class PlatformDao extends BaseDao {
 		return idx;
 	}
 	
+	/**
+	 * 有効終了日を用いて有効日における最新の情報を抽出する条件SQLを取得する。<br>
+	 * {@link #getQueryForMaxActivateDate(String, String, String)}と同じ位置で利用でき、
+	 * パラメータも対象日一つで同じである。<br>
+	 * 集約の代わりに有効日と有効終了日の範囲条件となるため、索引で絞り込むことができる。<br>
+	 * @param table テーブル名
+	 * @param activateDateColumn 有効日列名
+	 * @return 有効日における最新の情報を抽出する条件SQL
+	 */
+	protected String getQueryForValidToDate(String table, String activateDateColumn) {
+		// SQL作成準備
+		StringBuffer sb = new StringBuffer();
+		// 対象日を一時テーブルとして結合
+		sb.append(join());
+		sb.append(leftParenthesis());
+		sb.append(select());
+		sb.append("CAST(? AS date)");
+		sb.append(asTmpTable(COL_TARGET_DATE));
+		sb.append(rightParenthesis());
+		sb.append(asTmpTable(table));
+		sb.append(on());
+		// 有効日が対象日以前で有効終了日が対象日以降である条件を追加
+		sb.append(activateDateColumn);
+		sb.append(lessEqual());
+		sb.append(getExplicitTableColumn(getTmpTable(table), getTmpColumn(COL_TARGET_DATE)));
+		sb.append(and());
+		sb.append(COL_VALID_TO_DATE);
+		sb.append(greaterEqual());
+		sb.append(getExplicitTableColumn(getTmpTable(table), getTmpColumn(COL_TARGET_DATE)));
+		return sb.toString();
+	}
+	
+	/**
+	 * 有効終了日を利用するかを確認する。<br>
+	 * 接続先がPostgreSQLで、対象テーブルが有効終了日利用テーブルに設定されている場合に利用する。<br>
+	 * 有効終了日の列及びトリガは、platform.sqlで作成される(既存の履歴も埋め戻される)。<br>
+	 * @param table テーブル名
+	 * @return 確認結果(true：利用する、false：利用しない)
+	 */
+	protected boolean isValidToDateAvailable(String table) {
+		// MosP処理情報及びコネクションを確認
+		if (mospParams == null || connection == null) {
+			return false;
+		}
+		// 有効終了日利用テーブル毎に処理
+		for (String target : mospParams.getApplicationProperties(PlatformConst.APP_VALID_TO_DATE_TABLES)) {
+			// 対象テーブルでない場合
+			if (target.trim().equals(table) == false) {
+				continue;
+			}
+			try {
+				// 接続先がPostgreSQLであるかを確認
+				return RDBMSType.PostgreSQL.equals(getRdbmsType());
+			} catch (MospException e) {
+				// RDBMS種類を特定できない場合は集約による条件を用いる
+				return false;
+			}
+		}
+		return false;
+	}
+	
 	/**
 	 * ResultSetの内容から対象列の値を文字列として取得し、セットにして返す。<br>
 	 * @param column 対象列
@@ -22,6 +22,7 @@ import java.util.List;
 
 import jp.mosp.framework.base.BaseDtoInterface;
 import jp.mosp.framework.base.BaseVo;
+import jp.mosp.framework.base.PageCursor;
 
 /**
  * MosPプラットフォームにおける画面の基本情報を格納する。<br>
@@ -76,6 +77,13 @@ public class PlatformVo extends BaseVo {
 	 */
 	private List<? extends BaseDtoInterface>	list;
 	
+	/**
+	 * 頁操作用カーソル。<br>
+	 * 一覧表示時に、検索結果をDBから頁単位で取得する場合に用いる。<br>
+	 * この場合、リストには表示中の頁の情報だけを保持する。<br>
+	 */
+	private PageCursor							pageCursor;
+	
 	/**
 	 * 共通承認者プルダウン。<br>
 	 */
@@ -274,6 +282,32 @@ public class PlatformVo extends BaseVo {
 		this.list = list;
 	}
 	
+	/**
+	 * @return pageCursor
+	 */
+	public PageCursor getPageCursor() {
+		return pageCursor;
+	}
+	
+	/**
+	 * @param pageCursor セットする pageCursor
+	 */
+	public void setPageCursor(PageCursor pageCursor) {
+		this.pageCursor = pageCursor;
+	}
+	
+	/**
+	 * 一覧の件数を取得する。<br>
+	 * 頁操作用カーソルを用いる場合はカーソルの件数を、そうでない場合はリストの件数を取得する。<br>
+	 * @return 一覧の件数
+	 */
+	public int getListCount() {
+		if (pageCursor != null && pageCursor.getCount() != PageCursor.COUNT_UNKNOWN) {
+			return pageCursor.getCount();
+		}
+		return list == null ? 0 : list.size();
+	}
+	
 	/**
 	 * @return aryAryPltApproverSetting
 	 */
@@ -54,6 +54,7 @@ import jp.mosp.platform.bean.system.EmploymentContractSearchBeanInterface;
 import jp.mosp.platform.bean.system.GeneralReferenceBeanInterface;
 import jp.mosp.platform.bean.system.IcCardReferenceBeanInterface;
 import jp.mosp.platform.bean.system.IcCardSearchBeanInterface;
+import jp.mosp.platform.bean.system.JobReferenceBeanInterface;
 import jp.mosp.platform.bean.system.NamingReferenceBeanInterface;
 import jp.mosp.platform.bean.system.NamingSearchBeanInterface;
 import jp.mosp.platform.bean.system.PositionReferenceBeanInterface;
@@ -388,6 +389,11 @@ public class ReferenceBeanHandler extends BaseBeanHandler implements ReferenceBe
 		return (ReceptionIcCardReferenceBeanInterface)createBean(ReceptionIcCardReferenceBeanInterface.class);
 	}
 	
+	@Override
+	public JobReferenceBeanInterface job() throws MospException {
+		return (JobReferenceBeanInterface)createBean(JobReferenceBeanInterface.class);
+	}
+	
 	@Override
 	public EmployeeNumberingBeanInterface employeeNumbering() throws MospException {
 		return (EmployeeNumberingBeanInterface)createBean(EmployeeNumberingBeanInterface.class);
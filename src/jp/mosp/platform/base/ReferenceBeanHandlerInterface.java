@@ -54,6 +54,7 @@ import jp.mosp.platform.bean.system.EmploymentContractSearchBeanInterface;
 import jp.mosp.platform.bean.system.GeneralReferenceBeanInterface;
 import jp.mosp.platform.bean.system.IcCardReferenceBeanInterface;
 import jp.mosp.platform.bean.system.IcCardSearchBeanInterface;
+import jp.mosp.platform.bean.system.JobReferenceBeanInterface;
 import jp.mosp.platform.bean.system.NamingReferenceBeanInterface;
 import jp.mosp.platform.bean.system.NamingSearchBeanInterface;
 import jp.mosp.platform.bean.system.PositionReferenceBeanInterface;
@@ -128,6 +129,12 @@ public interface ReferenceBeanHandlerInterface extends BaseBeanHandlerInterface
 	 */
 	ReceptionIcCardReferenceBeanInterface receptionIcCard() throws MospException;
 	
+	/**
+	 * @return ジョブ参照
+	 * @throws MospException Beanインスタンスの生成及び初期化に失敗した場合
+	 */
+	JobReferenceBeanInterface job() throws MospException;
+	
 	/**
 	 * @return 名称区分マスタ参照
 	 * @throws MospException Beanインスタンスの生成及び初期化に失敗した場合
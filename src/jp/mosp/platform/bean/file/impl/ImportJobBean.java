@@ -0,0 +1,129 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.bean.file.impl;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.constant.ExceptionConst;
+import jp.mosp.framework.instance.InstanceFactory;
+import jp.mosp.platform.base.PlatformBean;
+import jp.mosp.platform.bean.file.ImportBeanInterface;
+import jp.mosp.platform.bean.file.ImportReferenceBeanInterface;
+import jp.mosp.platform.bean.system.JobBeanInterface;
+import jp.mosp.platform.bean.system.JobProgressInterface;
+import jp.mosp.platform.constant.PlatformMessageConst;
+import jp.mosp.platform.dto.file.ImportDtoInterface;
+
+/**
+ * インポートジョブクラス。<br>
+ * <br>
+ * インポート画面で受け付けたインポートを行う。<br>
+ * ジョブパラメータは、インポートコード、インポートクラス名、インポートファイル(一時ファイル)のパスの順で指定する。<br>
+ * インポートファイルは、インポートの成否に関わらず、処理後に削除する。<br>
+ */
+public class ImportJobBean extends PlatformBean implements JobBeanInterface {
+	
+	/**
+	 * インポートマスタ参照クラス。<br>
+	 */
+	protected ImportReferenceBeanInterface	importReference;
+	
+	
+	/**
+	 * {@link PlatformBean#PlatformBean()}を実行する。<br>
+	 */
+	public ImportJobBean() {
+		super();
+	}
+	
+	/**
+	 * {@link PlatformBean#PlatformBean(MospParams, Connection)}を実行する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param connection DBコネクション
+	 */
+	protected ImportJobBean(MospParams mospParams, Connection connection) {
+		super(mospParams, connection);
+	}
+	
+	@Override
+	public void initBean() throws MospException {
+		importReference = (ImportReferenceBeanInterface)createBean(ImportReferenceBeanInterface.class);
+	}
+	
+	@Override
+	public void execute(JobProgressInterface progress, String... parameters) throws MospException {
+		// インポートファイル取得
+		File file = new File(parameters[2]);
+		try {
+			// インポートマスタ取得及び確認
+			ImportDtoInterface importDto = importReference.findForKey(parameters[0]);
+			if (importDto == null) {
+				mospParams.addErrorMessage(PlatformMessageConst.MSG_NO_DATA);
+				return;
+			}
+			// インポートクラス取得
+			ImportBeanInterface importBean = (ImportBeanInterface)InstanceFactory.loadBean(parameters[1], mospParams,
+					connection);
+			// インポート実施
+			int count = importFile(importBean, importDto, file);
+			if (mospParams.hasErrorMessage()) {
+				return;
+			}
+			// インポート成功メッセージ設定
+			mospParams.addMessage(PlatformMessageConst.MSG_IMPORT_SUCCEED, String.valueOf(count));
+		} finally {
+			// インポートファイル削除
+			file.delete();
+		}
+	}
+	
+	/**
+	 * インポートファイルを読み込み、インポートを行う。<br>
+	 * @param importBean インポートクラス
+	 * @param importDto  インポートマスタ情報
+	 * @param file       インポートファイル
+	 * @return 登録件数
+	 * @throws MospException インポートファイルの読込、インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected int importFile(ImportBeanInterface importBean, ImportDtoInterface importDto, File file)
+			throws MospException {
+		InputStream in = null;
+		try {
+			in = new BufferedInputStream(new FileInputStream(file));
+			return importBean.importFile(importDto, in);
+		} catch (IOException e) {
+			throw new MospException(e, ExceptionConst.EX_FAIL_INPUT_FILE, null);
+		} finally {
+			if (in != null) {
+				try {
+					in.close();
+				} catch (IOException e) {
+					throw new MospException(e, ExceptionConst.EX_FAIL_INPUT_FILE, null);
+				}
+			}
+		}
+	}
+	
+}
@@ -21,7 +21,9 @@ import java.io.InputStream;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.base.MospParams;
@@ -47,6 +49,12 @@ public class SectionImportBean extends SectionRegistBean implements SectionImpor
 	 */
 	protected List<SectionDtoInterface>	sectionList;
 	
+	/**
+	 * 所属階層閉包再作成対象所属コード群。<br>
+	 * インポート中に登録した所属の所属階層閉包は、全ての所属を登録した後にまとめて再作成する。<br>
+	 */
+	protected Set<String>				closureCodeSet;
+	
 	
 	/**
 	 * {@link PlatformBean#PlatformBean()}を実行する。<br>
@@ -74,15 +82,40 @@ public class SectionImportBean extends SectionRegistBean implements SectionImpor
 		if (mospParams.hasErrorMessage()) {
 			return 0;
 		}
-		// 所属マスタ情報毎に登録
-		for (int i = 0; i < sectionList.size(); i++) {
-			// 所属マスタ情報登録
-			registSectionDto(sectionList.get(i));
+		// 所属階層閉包再作成対象所属コード群準備
+		closureCodeSet = new LinkedHashSet<String>();
+		try {
+			// 所属マスタ情報毎に登録
+			for (int i = 0; i < sectionList.size(); i++) {
+				// 所属マスタ情報登録
+				registSectionDto(sectionList.get(i));
+			}
+			// 所属コード毎に所属階層閉包を再作成
+			for (String sectionCode : closureCodeSet) {
+				super.registClosure(sectionCode);
+			}
+		} finally {
+			closureCodeSet = null;
 		}
 		// 登録件数取得
 		return sectionList.size();
 	}
 	
+	/**
+	 * インポート中は、所属階層閉包を再作成する所属コードを保持するのみとする。<br>
+	 * 同一所属の複数の履歴をインポートする場合に、再作成を一度で済ませるためである。<br>
+	 */
+	@Override
+	protected void registClosure(String sectionCode) throws MospException {
+		// インポート中でない場合
+		if (closureCodeSet == null) {
+			super.registClosure(sectionCode);
+			return;
+		}
+		// 所属階層閉包再作成対象所属コードを追加
+		closureCodeSet.add(sectionCode);
+	}
+	
 	/**
 	 * 登録対象リスト群を取得する。<br>
 	 * インポートマスタ情報に従い、登録情報リストから所属マスタ情報リストに変換する。<br>
@@ -23,6 +23,7 @@ import java.util.Map;
 import java.util.Set;
 
 import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.PageCursor;
 import jp.mosp.platform.dto.human.HumanDtoInterface;
 import jp.mosp.platform.dto.human.HumanListDtoInterface;
 
@@ -46,6 +47,24 @@ public interface HumanSearchBeanInterface {
 	 */
 	List<HumanListDtoInterface> getHumanList() throws MospException;
 	
+	/**
+	 * 検索条件から人事マスタの件数を取得する。<br>
+	 * @return 件数
+	 * @throws MospException インスタンスの取得、SQLの作成及び実行に失敗した場合
+	 */
+	int getHumanCount() throws MospException;
+	
+	/**
+	 * 検索条件から人事マスタリストを頁単位で取得する。<br>
+	 * 並び替え及び件数の制限はSQLで行い、対象頁の情報だけを取得する。<br>
+	 * 頁操作用カーソルには、対象頁の先頭と末尾のキー値が設定される。<br>
+	 * @param cursor 頁操作用カーソル(ソートキーは比較クラス名)
+	 * @param page   対象頁番号
+	 * @return 人事マスタリスト
+	 * @throws MospException インスタンスの取得、SQLの作成及び実行に失敗した場合
+	 */
+	List<HumanListDtoInterface> getHumanList(PageCursor cursor, int page) throws MospException;
+	
 	/**
 	 * 個人IDセットを取得する。<br>
 	 * 設定された条件で、検索を行う。<br>
@@ -221,6 +240,14 @@ public interface HumanSearchBeanInterface {
 	 */
 	void setNeedApproverRole(boolean needApproverRole);
 	
+	/**
+	 * 個人ID群を設定する。<br>
+	 * 設定すると、個人ID群に含まれる人事情報のみが抽出される。<br>
+	 * 未設定、或いはnullの場合、個人ID群は考慮されない。<br>
+	 * @param personalIdSet セットする個人ID群
+	 */
+	void setPersonalIdSet(Set<String> personalIdSet);
+	
 	/**
 	 * 操作区分を設定する。<br>
 	 * 設定された操作区分から各マスタの設定を取得し、抽出される人事情報を制限する。<br>
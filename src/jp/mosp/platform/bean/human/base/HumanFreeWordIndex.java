@@ -0,0 +1,396 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.bean.human.base;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jp.mosp.framework.base.MospMasterCache;
+import jp.mosp.platform.utils.PlatformUtility;
+
+/**
+ * 人事情報フリーワード検索用索引。<br>
+ * <br>
+ * 情報区分(個人基本情報、休職情報、人事汎用管理区分等)毎に、
+ * 個人IDとフリーワード検索対象文字列群の組を、アプリケーション全体で保持する。<br>
+ * 文字列は2文字ずつ(1文字の場合は1文字)に分割し、分割した文字列毎に個人IDの集合(転置索引)を作成する。<br>
+ * 検索時は、検索ワードを同様に分割して個人IDの集合の積を求め、候補の文字列を部分一致で確認する。<br>
+ * <br>
+ * 保持する情報には、作成時の条件(有効日等)を表す識別子を付し、識別子が異なる場合は保持していないものとする。<br>
+ * 人事情報を登録した場合は{@link #remove(String)}で対象個人の情報を破棄する。<br>
+ * 名称を参照するマスタ(勤務地、所属等)が更新された場合は、依存テーブルを登録した
+ * マスタキャッシュの版数が変わるため、全ての情報を破棄する。<br>
+ * マスタキャッシュが無効(上限件数0)の場合は、索引も無効とする。<br>
+ */
+public class HumanFreeWordIndex {
+	
+	/**
+	 * 索引群(キー：情報区分)。<br>
+	 */
+	protected static final Map<String, HumanFreeWordIndex>	INDEXES		= new ConcurrentHashMap<String, HumanFreeWordIndex>();
+	
+	/**
+	 * 情報区分。<br>
+	 */
+	protected final String									informationType;
+	
+	/**
+	 * 文書群(キー：個人ID)。<br>
+	 */
+	protected final Map<String, Document>					documents	= new HashMap<String, Document>();
+	
+	/**
+	 * 転置索引(キー：分割文字列、値：個人IDの集合)。<br>
+	 */
+	protected final Map<String, Set<String>>				postings	= new HashMap<String, Set<String>>();
+	
+	/**
+	 * 版数(破棄毎に加算)。<br>
+	 */
+	protected long											version;
+	
+	/**
+	 * 参照しているマスタキャッシュの版数。<br>
+	 */
+	protected long											masterVersion;
+	
+	
+	/**
+	 * 索引を生成する。<br>
+	 * @param informationType 情報区分
+	 * @param masterVersion   マスタキャッシュの版数
+	 */
+	protected HumanFreeWordIndex(String informationType, long masterVersion) {
+		this.informationType = informationType;
+		this.masterVersion = masterVersion;
+	}
+	
+	/**
+	 * 索引を取得する。<br>
+	 * 初回のみ生成する。<br>
+	 * マスタキャッシュの版数が変わっている場合は、保持している情報を破棄する。<br>
+	 * @param informationType 情報区分
+	 * @param masterCache     名称を参照するマスタの依存テーブルを登録したマスタキャッシュ
+	 * @return 索引(マスタキャッシュが無効な場合はnull)
+	 */
+	public static HumanFreeWordIndex getIndex(String informationType, MospMasterCache masterCache) {
+		// マスタキャッシュが無効な場合
+		if (masterCache.getMaxSize() <= 0) {
+			return null;
+		}
+		long currentVersion = masterCache.getVersion();
+		HumanFreeWordIndex index = INDEXES.get(informationType);
+		if (index == null) {
+			synchronized (INDEXES) {
+				index = INDEXES.get(informationType);
+				if (index == null) {
+					index = new HumanFreeWordIndex(informationType, currentVersion);
+					INDEXES.put(informationType, index);
+				}
+			}
+		}
+		index.checkMasterVersion(currentVersion);
+		return index;
+	}
+	
+	/**
+	 * 全ての索引から対象個人の情報を破棄する。<br>
+	 * 人事情報を登録、更新或いは削除した場合に用いる。<br>
+	 * @param personalId 個人ID
+	 */
+	public static void remove(String personalId) {
+		for (HumanFreeWordIndex index : INDEXES.values()) {
+			index.removeDocument(personalId);
+		}
+	}
+	
+	/**
+	 * 全ての索引の情報を破棄する。<br>
+	 */
+	public static void clearAll() {
+		for (HumanFreeWordIndex index : INDEXES.values()) {
+			index.clear();
+		}
+	}
+	
+	/**
+	 * 文字列群のいずれかに、検索ワードのいずれかが含まれるかを確認する。<br>
+	 * @param texts 文字列群
+	 * @param words 検索ワード
+	 * @return 確認結果(true：含まれる、false：含まれない)
+	 */
+	public static boolean isMatch(Collection<String> texts, String[] words) {
+		for (String text : texts) {
+			for (String word : words) {
+				if (PlatformUtility.isBroadMatch(word, text)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * 文字列を分割する。<br>
+	 * 2文字ずつ1文字ずらしながら分割する。1文字の場合は1文字とする。<br>
+	 * @param text 文字列
+	 * @return 分割文字列群
+	 */
+	public static Set<String> getTokens(String text) {
+		Set<String> tokens = new HashSet<String>();
+		if (text.length() == 1) {
+			tokens.add(text);
+			return tokens;
+		}
+		for (int i = 0; i + 1 < text.length(); i++) {
+			tokens.add(text.substring(i, i + 2));
+		}
+		return tokens;
+	}
+	
+	/**
+	 * 版数を取得する。<br>
+	 * 文字列群を作成する前に取得し、{@link #put(String, String, List, long)}に渡す。<br>
+	 * @return 版数
+	 */
+	public synchronized long getVersion() {
+		return version;
+	}
+	
+	/**
+	 * 対象個人の文字列群を保持する。<br>
+	 * 版数が変わっている(作成中に破棄された)場合は、保持しない。<br>
+	 * @param personalId    個人ID
+	 * @param stamp         作成条件識別子
+	 * @param texts         文字列群
+	 * @param loadedVersion 作成前の版数
+	 */
+	public synchronized void put(String personalId, String stamp, List<String> texts, long loadedVersion) {
+		if (loadedVersion != version) {
+			return;
+		}
+		// 保持している情報を破棄
+		removePostings(personalId);
+		// 文書及び転置索引に追加
+		Document document = new Document(stamp, texts.toArray(new String[texts.size()]));
+		documents.put(personalId, document);
+		for (String text : document.texts) {
+			for (String token : getTokens(text)) {
+				Set<String> set = postings.get(token);
+				if (set == null) {
+					set = new HashSet<String>();
+					postings.put(token, set);
+				}
+				set.add(personalId);
+			}
+		}
+	}
+	
+	/**
+	 * 検索する。<br>
+	 * 対象個人のうち、検索ワードのいずれかを含む文字列を保持している個人の個人IDを取得する。<br>
+	 * 作成条件識別子が一致する情報を保持していない個人の個人IDは、未作成個人IDリストに追加する。<br>
+	 * @param words      検索ワード
+	 * @param targets    対象個人(キー：個人ID、値：作成条件識別子)
+	 * @param unindexed  未作成個人IDリスト
+	 * @return 個人IDの集合
+	 */
+	public synchronized Set<String> search(String[] words, Map<String, String> targets, List<String> unindexed) {
+		// 未作成の個人を確認
+		for (Map.Entry<String, String> entry : targets.entrySet()) {
+			Document document = documents.get(entry.getKey());
+			if (document == null || document.stamp.equals(entry.getValue()) == false) {
+				unindexed.add(entry.getKey());
+			}
+		}
+		Set<String> result = new HashSet<String>();
+		// 検索ワード毎に処理
+		for (String word : words) {
+			// 候補の個人ID毎に処理
+			for (String personalId : getCandidates(word)) {
+				// 対象個人でない或いは既に該当している場合
+				if (result.contains(personalId) || targets.containsKey(personalId) == false) {
+					continue;
+				}
+				// 作成条件識別子及び文字列を確認
+				Document document = documents.get(personalId);
+				if (document.stamp.equals(targets.get(personalId)) && document.contains(word)) {
+					result.add(personalId);
+				}
+			}
+		}
+		return result;
+	}
+	
+	/**
+	 * 検索ワードの候補となる個人IDの集合を取得する。<br>
+	 * 検索ワードの分割文字列毎の個人IDの集合の積を、小さい集合から順に求める。<br>
+	 * 検索ワードが1文字の場合は、全ての個人を候補とする。<br>
+	 * @param word 検索ワード
+	 * @return 個人IDの集合
+	 */
+	protected Collection<String> getCandidates(String word) {
+		if (word.length() < 2) {
+			return new ArrayList<String>(documents.keySet());
+		}
+		// 分割文字列毎の個人IDの集合を取得
+		List<Set<String>> sets = new ArrayList<Set<String>>();
+		for (String token : getTokens(word)) {
+			Set<String> set = postings.get(token);
+			if (set == null) {
+				return new ArrayList<String>();
+			}
+			// 小さい順に並べる
+			int i = 0;
+			while (i < sets.size() && sets.get(i).size() <= set.size()) {
+				i++;
+			}
+			sets.add(i, set);
+		}
+		// 積を求める
+		List<String> candidates = new ArrayList<String>();
+		for (String personalId : sets.get(0)) {
+			boolean contains = true;
+			for (int i = 1; i < sets.size(); i++) {
+				if (sets.get(i).contains(personalId) == false) {
+					contains = false;
+					break;
+				}
+			}
+			if (contains) {
+				candidates.add(personalId);
+			}
+		}
+		return candidates;
+	}
+	
+	/**
+	 * 対象個人の情報を破棄する。<br>
+	 * @param personalId 個人ID
+	 */
+	protected synchronized void removeDocument(String personalId) {
+		version++;
+		removePostings(personalId);
+	}
+	
+	/**
+	 * 対象個人の文書及び転置索引を破棄する。<br>
+	 * @param personalId 個人ID
+	 */
+	protected void removePostings(String personalId) {
+		Document document = documents.remove(personalId);
+		if (document == null) {
+			return;
+		}
+		for (String text : document.texts) {
+			for (String token : getTokens(text)) {
+				Set<String> set = postings.get(token);
+				if (set == null) {
+					continue;
+				}
+				set.remove(personalId);
+				if (set.isEmpty()) {
+					postings.remove(token);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * マスタキャッシュの版数を確認し、変わっている場合は保持している情報を破棄する。<br>
+	 * @param currentVersion マスタキャッシュの版数
+	 */
+	protected synchronized void checkMasterVersion(long currentVersion) {
+		if (masterVersion != currentVersion) {
+			clear();
+			masterVersion = currentVersion;
+		}
+	}
+	
+	/**
+	 * 保持している情報を破棄する。<br>
+	 */
+	public synchronized void clear() {
+		version++;
+		documents.clear();
+		postings.clear();
+	}
+	
+	/**
+	 * 保持している個人の件数を取得する。<br>
+	 * @return 件数
+	 */
+	public synchronized int getSize() {
+		return documents.size();
+	}
+	
+	/**
+	 * @return informationType
+	 */
+	public String getInformationType() {
+		return informationType;
+	}
+	
+	/**
+	 * 文書(個人毎のフリーワード検索対象文字列群)。<br>
+	 */
+	protected static class Document {
+		
+		/**
+		 * 作成条件識別子。<br>
+		 */
+		protected final String		stamp;
+		
+		/**
+		 * 文字列群。<br>
+		 */
+		protected final String[]	texts;
+		
+		
+		/**
+		 * 文書を生成する。<br>
+		 * @param stamp 作成条件識別子
+		 * @param texts 文字列群
+		 */
+		protected Document(String stamp, String[] texts) {
+			this.stamp = stamp;
+			this.texts = texts;
+		}
+		
+		/**
+		 * 文字列群のいずれかに、検索ワードが含まれるかを確認する。<br>
+		 * @param word 検索ワード
+		 * @return 確認結果(true：含まれる、false：含まれない)
+		 */
+		protected boolean contains(String word) {
+			for (String text : texts) {
+				if (PlatformUtility.isBroadMatch(word, text)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+	
+}
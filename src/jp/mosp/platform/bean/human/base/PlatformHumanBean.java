@@ -20,6 +20,8 @@ package jp.mosp.platform.bean.human.base;
 import java.sql.Connection;
 import java.util.Date;
 
+import jp.mosp.framework.base.BaseDaoInterface;
+import jp.mosp.framework.base.BaseDto;
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.base.MospParams;
 import jp.mosp.framework.utils.MospUtility;
@@ -35,6 +37,7 @@ import jp.mosp.platform.dao.system.NamingDaoInterface;
 import jp.mosp.platform.dao.system.PositionDaoInterface;
 import jp.mosp.platform.dao.system.SectionDaoInterface;
 import jp.mosp.platform.dao.system.WorkPlaceDaoInterface;
+import jp.mosp.platform.dto.base.PersonalIdDtoInterface;
 import jp.mosp.platform.dto.human.EntranceDtoInterface;
 import jp.mosp.platform.dto.human.HumanDtoInterface;
 import jp.mosp.platform.dto.human.RetirementDtoInterface;
@@ -76,6 +79,34 @@ public abstract class PlatformHumanBean extends PlatformFileBean {
 		masterCheck = (PlatformMasterCheckBeanInterface)createBean(PlatformMasterCheckBeanInterface.class);
 	}
 	
+	/**
+	 * 論理削除を行う。<br>
+	 * 対象が個人IDを有する情報である場合は、フリーワード検索用索引から対象個人の情報を破棄する。<br>
+	 * @param dao 対象DAO
+	 * @param id  対象レコード識別ID
+	 * @throws MospException SQLの作成及び実行に失敗した場合
+	 */
+	@Override
+	protected void logicalDelete(BaseDaoInterface dao, long id) throws MospException {
+		// 削除対象情報取得
+		BaseDto dto = dao.findForKey(id, false);
+		// 論理削除
+		super.logicalDelete(dao, id);
+		// 個人IDを有する情報である場合
+		if (dto instanceof PersonalIdDtoInterface) {
+			removeFreeWordIndex(((PersonalIdDtoInterface)dto).getPersonalId());
+		}
+	}
+	
+	/**
+	 * フリーワード検索用索引から、対象個人の情報を破棄する。<br>
+	 * 人事情報を登録した場合に用いる。<br>
+	 * @param personalId 個人ID
+	 */
+	protected void removeFreeWordIndex(String personalId) {
+		HumanFreeWordIndex.remove(personalId);
+	}
+	
 	/**
 	 * 社員名を取得する。<br>
 	 * @param dto 人事マスタDTO。
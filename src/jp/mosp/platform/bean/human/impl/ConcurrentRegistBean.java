@@ -130,6 +130,8 @@ public class ConcurrentRegistBean extends PlatformHumanBean implements Concurren
 		dto.setPfaHumanConcurrentId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// フリーワード検索用索引破棄
+		removeFreeWordIndex(dto.getPersonalId());
 	}
 	
 	/**
@@ -157,6 +159,8 @@ public class ConcurrentRegistBean extends PlatformHumanBean implements Concurren
 		dto.setPfaHumanConcurrentId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// フリーワード検索用索引破棄
+		removeFreeWordIndex(dto.getPersonalId());
 	}
 	
 	/**
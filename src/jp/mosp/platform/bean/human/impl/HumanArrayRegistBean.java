@@ -278,6 +278,8 @@ public class HumanArrayRegistBean extends PlatformHumanBean implements HumanArra
 		dto.setPfaHumanArrayId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// フリーワード検索用索引破棄
+		removeFreeWordIndex(dto.getPersonalId());
 	}
 	
 	/**
@@ -302,6 +304,8 @@ public class HumanArrayRegistBean extends PlatformHumanBean implements HumanArra
 		dto.setPfaHumanArrayId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// フリーワード検索用索引破棄
+		removeFreeWordIndex(dto.getPersonalId());
 	}
 	
 }
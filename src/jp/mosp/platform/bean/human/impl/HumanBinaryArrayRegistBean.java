@@ -107,6 +107,8 @@ public class HumanBinaryArrayRegistBean extends PlatformHumanBean implements Hum
 		dto.setHumanRowId(getRowId());
 		// 登録処理
 		dao.insert(dto);
+		// フリーワード検索用索引破棄
+		removeFreeWordIndex(dto.getPersonalId());
 	}
 	
 	@Override
@@ -196,6 +198,8 @@ public class HumanBinaryArrayRegistBean extends PlatformHumanBean implements Hum
 		dto.setPfaHumanBinaryArrayId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// フリーワード検索用索引破棄
+		removeFreeWordIndex(dto.getPersonalId());
 	}
 	
 	/**
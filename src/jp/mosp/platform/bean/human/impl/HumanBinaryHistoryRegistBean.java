@@ -147,6 +147,8 @@ public class HumanBinaryHistoryRegistBean extends HumanGeneralBean implements Hu
 		dto.setPfaHumanBinaryHistoryId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// フリーワード検索用索引破棄
+		removeFreeWordIndex(dto.getPersonalId());
 	}
 	
 	@Override
@@ -165,6 +167,8 @@ public class HumanBinaryHistoryRegistBean extends HumanGeneralBean implements Hu
 		dto.setPfaHumanBinaryHistoryId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// フリーワード検索用索引破棄
+		removeFreeWordIndex(dto.getPersonalId());
 	}
 	
 	/**
@@ -148,6 +148,8 @@ public class HumanBinaryNormalRegistBean extends PlatformHumanBean implements Hu
 		dto.setPfaHumanBinaryNormalId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// フリーワード検索用索引破棄
+		removeFreeWordIndex(dto.getPersonalId());
 	}
 	
 	@Override
@@ -168,6 +170,8 @@ public class HumanBinaryNormalRegistBean extends PlatformHumanBean implements Hu
 		dto.setPfaHumanBinaryNormalId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// フリーワード検索用索引破棄
+		removeFreeWordIndex(dto.getPersonalId());
 	}
 	
 	/**
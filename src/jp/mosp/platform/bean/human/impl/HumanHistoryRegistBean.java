@@ -115,6 +115,8 @@ public class HumanHistoryRegistBean extends HumanGeneralBean implements HumanHis
 		dto.setPfaHumanHistoryId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// フリーワード検索用索引破棄
+		removeFreeWordIndex(dto.getPersonalId());
 	}
 	
 	@Override
@@ -135,6 +137,8 @@ public class HumanHistoryRegistBean extends HumanGeneralBean implements HumanHis
 		dto.setPfaHumanHistoryId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// フリーワード検索用索引破棄
+		removeFreeWordIndex(dto.getPersonalId());
 	}
 	
 	@Override
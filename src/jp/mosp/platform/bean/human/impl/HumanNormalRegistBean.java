@@ -196,6 +196,8 @@ public class HumanNormalRegistBean extends PlatformHumanBean implements HumanNor
 		dto.setPfaHumanNormalId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// フリーワード検索用索引破棄
+		removeFreeWordIndex(dto.getPersonalId());
 	}
 	
 	@Override
@@ -308,6 +310,8 @@ public class HumanNormalRegistBean extends PlatformHumanBean implements HumanNor
 		dto.setPfaHumanNormalId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// フリーワード検索用索引破棄
+		removeFreeWordIndex(dto.getPersonalId());
 	}
 	
 	/**
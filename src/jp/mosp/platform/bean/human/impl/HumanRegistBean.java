@@ -110,6 +110,8 @@ public class HumanRegistBean extends PlatformHumanBean implements HumanRegistBea
 		dto.setPfmHumanId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// フリーワード検索用索引破棄
+		removeFreeWordIndex(dto.getPersonalId());
 	}
 	
 	@Override
@@ -128,6 +130,8 @@ public class HumanRegistBean extends PlatformHumanBean implements HumanRegistBea
 		dto.setPfmHumanId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// フリーワード検索用索引破棄
+		removeFreeWordIndex(dto.getPersonalId());
 	}
 	
 	@Override
@@ -148,6 +152,8 @@ public class HumanRegistBean extends PlatformHumanBean implements HumanRegistBea
 		dto.setPfmHumanId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// フリーワード検索用索引破棄
+		removeFreeWordIndex(dto.getPersonalId());
 	}
 	
 	@Override
@@ -19,16 +19,20 @@ package jp.mosp.platform.bean.human.impl;
 
 import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospMasterCache;
 import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.base.PageCursor;
+import jp.mosp.framework.instance.InstanceFactory;
 import jp.mosp.framework.constant.MospConst;
 import jp.mosp.framework.property.RangeProperty;
 import jp.mosp.framework.property.ViewConfigProperty;
@@ -46,17 +50,31 @@ import jp.mosp.platform.bean.human.HumanNormalReferenceBeanInterface;
 import jp.mosp.platform.bean.human.HumanSearchBeanInterface;
 import jp.mosp.platform.bean.human.RetirementReferenceBeanInterface;
 import jp.mosp.platform.bean.human.SuspensionReferenceBeanInterface;
+import jp.mosp.platform.bean.human.base.HumanFreeWordIndex;
 import jp.mosp.platform.bean.human.base.PlatformHumanBean;
 import jp.mosp.platform.bean.system.EmploymentContractReferenceBeanInterface;
 import jp.mosp.platform.bean.system.NamingReferenceBeanInterface;
 import jp.mosp.platform.bean.system.PositionReferenceBeanInterface;
 import jp.mosp.platform.bean.system.SectionReferenceBeanInterface;
 import jp.mosp.platform.bean.system.WorkPlaceReferenceBeanInterface;
+import jp.mosp.platform.comparator.base.EmployeeCodeComparator;
+import jp.mosp.platform.comparator.base.EmployeeNameComparator;
+import jp.mosp.platform.comparator.base.EmploymentContractCodeComparator;
+import jp.mosp.platform.comparator.base.PositionCodeComparator;
+import jp.mosp.platform.comparator.base.SectionCodeComparator;
+import jp.mosp.platform.comparator.base.WorkPlaceCodeComparator;
+import jp.mosp.platform.comparator.human.HumanListEmployeeKanaComparator;
+import jp.mosp.platform.comparator.human.HumanListRetireStateComparator;
 import jp.mosp.platform.constant.PlatformConst;
 import jp.mosp.platform.dao.human.EntranceDaoInterface;
 import jp.mosp.platform.dao.human.HumanSearchDaoInterface;
 import jp.mosp.platform.dao.human.RetirementDaoInterface;
 import jp.mosp.platform.dao.human.SuspensionDaoInterface;
+import jp.mosp.platform.dao.system.EmploymentContractDaoInterface;
+import jp.mosp.platform.dao.system.NamingDaoInterface;
+import jp.mosp.platform.dao.system.PositionDaoInterface;
+import jp.mosp.platform.dao.system.SectionDaoInterface;
+import jp.mosp.platform.dao.system.WorkPlaceDaoInterface;
 import jp.mosp.platform.dto.human.ConcurrentDtoInterface;
 import jp.mosp.platform.dto.human.HumanBinaryArrayDtoInterface;
 import jp.mosp.platform.dto.human.HumanBinaryHistoryDtoInterface;
@@ -168,6 +186,12 @@ public class HumanSearchBean extends PlatformHumanBean implements HumanSearchBea
 	 */
 	EntranceDaoInterface						enreanceDao;
 	
+	/**
+	 * マスタキャッシュ(フリーワード検索用索引の破棄判定用)。<br>
+	 * フリーワード検索対象文字列が参照するマスタのテーブルを、依存テーブルとする。<br>
+	 */
+	protected MospMasterCache					freeWordCache;
+	
 	/**
 	 * 休職情報DAOクラス。
 	 */
@@ -308,6 +332,11 @@ public class HumanSearchBean extends PlatformHumanBean implements HumanSearchBea
 	 */
 	protected Boolean							needApproverRole;
 	
+	/**
+	 * 個人ID群。
+	 */
+	protected Set<String>						personalIdSet;
+	
 	/**
 	 * 操作区分。
 	 */
@@ -328,6 +357,16 @@ public class HumanSearchBean extends PlatformHumanBean implements HumanSearchBea
 	 */
 	public static final String					KEY_VIEW_HUMAN_SEARCH	= "HumanSearch";
 	
+	/**
+	 * マスタキャッシュ名(フリーワード検索用索引の破棄判定用)。<br>
+	 */
+	protected static final String				CACHE_FREE_WORD			= "HumanSearchBean.freeWord";
+	
+	/**
+	 * 頁単位検索時に休退職区分及びフリーワードで絞り込む場合の、一度に検索する件数。<br>
+	 */
+	protected static final int					PAGE_CHUNK_SIZE			= 1000;
+	
 	
 	/**
 	 * {@link PlatformBean#PlatformBean()}を実行する。<br>
@@ -368,10 +407,26 @@ public class HumanSearchBean extends PlatformHumanBean implements HumanSearchBea
 		enreanceDao = (EntranceDaoInterface)createDao(EntranceDaoInterface.class);
 		suspensionDao = (SuspensionDaoInterface)createDao(SuspensionDaoInterface.class);
 		retirementDao = (RetirementDaoInterface)createDao(RetirementDaoInterface.class);
+		// フリーワード検索用索引の破棄判定用マスタキャッシュ準備
+		freeWordCache = getMasterCache(CACHE_FREE_WORD, createDao(WorkPlaceDaoInterface.class),
+				createDao(SectionDaoInterface.class), createDao(PositionDaoInterface.class),
+				createDao(EmploymentContractDaoInterface.class), createDao(NamingDaoInterface.class));
 	}
 	
 	@Override
 	public List<HumanDtoInterface> search() throws MospException {
+		// TODO 在職・退職・休職検索
+		List<HumanDtoInterface> humanList = searchForState(dao.findForSearch(getSearchParams()));
+		// フリーワード検索
+		return searchForFreeWord(humanList);
+	}
+	
+	/**
+	 * 設定された条件から、人事情報検索条件マップを取得する。<br>
+	 * @return 人事情報検索条件マップ
+	 * @throws MospException インスタンスの取得、SQLの作成及び実行に失敗した場合
+	 */
+	protected Map<String, Object> getSearchParams() throws MospException {
 		// パラメータ準備
 		Map<String, Object> param = dao.getParamsMap();
 		param.put(HumanSearchDaoInterface.SEARCH_TARGET_DATE, targetDate);
@@ -400,6 +455,8 @@ public class HumanSearchBean extends PlatformHumanBean implements HumanSearchBea
 		param.put(HumanSearchDaoInterface.SEARCH_UNNECESSARY_PERSONAL_ID, unnecessaryPersonalId);
 		// 承認ロール要否条件パラメータ設定
 		param.put(HumanSearchDaoInterface.SEARCH_NEED_APPROVER_ROLE, needApproverRole);
+		// 個人ID群条件パラメータ設定
+		param.put(HumanSearchDaoInterface.SEARCH_PERSONAL_ID_SET, personalIdSet);
 		// 範囲条件パラメータ設定
 		param.put(HumanSearchDaoInterface.SEARCH_RANGE_WORK_PLACE, getRangeWorkPlace(operationType, targetDate));
 		param.put(HumanSearchDaoInterface.SEARCH_RANGE_EMPLOYMENT_CONTRACT,
@@ -412,10 +469,22 @@ public class HumanSearchBean extends PlatformHumanBean implements HumanSearchBea
 		// 期間設定
 		param.put(HumanSearchDaoInterface.SEARCH_START_DATE, startDate);
 		param.put(HumanSearchDaoInterface.SEARCH_END_DATE, endDate);
-		// TODO 在職・退職・休職検索
-		List<HumanDtoInterface> humanList = searchForState(dao.findForSearch(param));
-		// フリーワード検索
-		return searchForFreeWord(humanList);
+		return param;
+	}
+	
+	/**
+	 * 休退職区分或いはフリーワードによる絞込が必要であるかを確認する。<br>
+	 * これらの絞込はSQLで行えないため、検索後に行う。<br>
+	 * @return 確認結果(true：絞込が必要、false：不要)
+	 */
+	protected boolean needFilter() {
+		// 休退職区分確認
+		if (stateType != null && stateType.isEmpty() == false) {
+			return true;
+		}
+		// 情報区分及び検索ワード確認
+		return informationType != null && informationType.isEmpty() == false && searchWord != null
+				&& searchWord.isEmpty() == false;
 	}
 	
 	/**
@@ -636,6 +705,10 @@ public class HumanSearchBean extends PlatformHumanBean implements HumanSearchBea
 	/**
 	 * フリーワードによる検索を行う。<br>
 	 * 対象人事情報リストのうち、フリーワードの条件に合致する人事情報のみを取得する。<br>
+	 * <br>
+	 * 情報区分毎のフリーワード検索対象文字列群は、フリーワード検索用索引に保持し、
+	 * 索引を保持していない人事情報についてのみ作成する(DBを参照する)。<br>
+	 * 検索ワードのいずれかが、文字列群のいずれかに含まれる場合に、条件に合致するものとする。<br>
 	 * @param humanList 対象人事情報リスト
 	 * @return 人事情報リスト
 	 * @throws MospException インスタンスの取得、SQLの作成及び実行に失敗した場合
@@ -647,687 +720,529 @@ public class HumanSearchBean extends PlatformHumanBean implements HumanSearchBea
 			return humanList;
 		}
 		// 検索ワード配列準備
-		String[] arySearchWord = MospUtility.split(searchWord, FREE_WORD_SEPARATOR);
-		// 人事汎用管理区分型取得
-		ViewConfigProperty viewConfig = mospParams.getProperties().getViewConfigProperties().get(informationType);
-		// 情報区分毎に処理
-		if (informationType.equals(PlatformConst.FREE_WORD_HUMAN)) {
-			// 個人基本情報でフリーワード検索
-			return searchForFreeWordHuman(humanList, arySearchWord);
-		} else if (informationType.equals(PlatformConst.FREE_WORD_SUSPEND)) {
-			// 休職情報でフリーワード検索
-			return searchForFreeWordSuspensionInfo(humanList, arySearchWord);
-		} else if (informationType.equals(PlatformConst.FREE_WORD_RETIRE)) {
-			// 退職情報でフリーワード検索
-			return searchForFreeWordRetirementInfo(humanList, arySearchWord);
-		} else if (informationType.equals(PlatformConst.FREE_WORD_CONCUR)) {
-			// 兼務情報でフリーワード検索
-			return searchForFreeWordConcurrentInfo(humanList, arySearchWord);
-		} else if (viewConfig != null && viewConfig.getType().equals(PlatformHumanConst.PRM_HUMAN_DIVISION_TYPE_NORMAL)) {
-			// 人事汎用通常情報でフリーワード検索
-			return searchForFreeWordHumanNormalInfo(informationType, humanList, arySearchWord);
-		} else if (viewConfig != null
-				&& viewConfig.getType().equals(PlatformHumanConst.PRM_HUMAN_DIVISION_TYPE_HISTORY)) {
-			// 人事汎用履歴情報でフリーワード検索
-			return searchForFreeWordHumanHistoryInfo(informationType, humanList, arySearchWord);
-		} else if (viewConfig != null && viewConfig.getType().equals(PlatformHumanConst.PRM_HUMAN_DIVISION_TYPE_ARRAY)) {
-			// 人事汎用一覧情報でフリーワード検索
-			return searchForFreeWordHumanArrayInfo(informationType, humanList, arySearchWord, targetDate);
-		} else if (viewConfig != null
-				&& viewConfig.getType().equals(PlatformHumanConst.PRM_HUMAN_DIVISION_TYPE_BINARY_NORMAL)) {
-			// 人事バイナリ汎用通常情報でフリーワード検索
-			return searchForFreeWordHumanBinaryNormalInfo(informationType, humanList, arySearchWord);
-		} else if (viewConfig != null
-				&& viewConfig.getType().equals(PlatformHumanConst.PRM_HUMAN_DIVISION_TYPE_BINARY_HISTORY)) {
-			// 人事バイナリ汎用履歴情報でフリーワード検索
-			return searchForFreeWordHumanBinaryHistoryInfo(informationType, humanList, arySearchWord);
-		} else if (viewConfig != null
-				&& viewConfig.getType().equals(PlatformHumanConst.PRM_HUMAN_DIVISION_TYPE_BINARY_ARRAY)) {
-			// 人事バイナリ汎用一覧情報でフリーワード検索
-			return searchForFreeWordHumanBinaryArrayInfo(informationType, humanList, arySearchWord);
+		String[] arySearchWord = getFreeWords(MospUtility.split(searchWord, FREE_WORD_SEPARATOR));
+		if (arySearchWord.length == 0) {
+			return new ArrayList<HumanDtoInterface>();
 		}
-		// 人事汎用情報でフリーワード検索
-		return humanList;
-	}
-	
-	/**
-	 * 個人基本情報に対して、フリーワードによる検索を行う。<br>
-	 * @param humanList     対象人事情報リスト
-	 * @param arySearchWord フリーワード配列
-	 * @return 人事情報リスト
-	 * @throws MospException インスタンスの取得、SQLの作成及び実行に失敗した場合
-	 */
-	protected List<HumanDtoInterface> searchForFreeWordHuman(List<HumanDtoInterface> humanList, String[] arySearchWord)
-			throws MospException {
-		// 検索結果リスト準備
+		// 対象個人(キー：個人ID、値：作成条件識別子)及び人事情報マップ準備
+		Map<String, String> targets = new HashMap<String, String>();
+		Map<String, HumanDtoInterface> humanMap = new HashMap<String, HumanDtoInterface>();
+		for (HumanDtoInterface humanDto : humanList) {
+			targets.put(humanDto.getPersonalId(), getFreeWordStamp(humanDto));
+			humanMap.put(humanDto.getPersonalId(), humanDto);
+		}
+		// 索引を検索
+		HumanFreeWordIndex index = HumanFreeWordIndex.getIndex(informationType, freeWordCache);
+		List<String> unindexed = new ArrayList<String>();
+		Set<String> hitSet;
+		long version = 0L;
+		if (index == null) {
+			// 索引が無効な場合は全ての個人が未作成
+			unindexed.addAll(targets.keySet());
+			hitSet = new HashSet<String>();
+		} else {
+			version = index.getVersion();
+			hitSet = index.search(arySearchWord, targets, unindexed);
+		}
+		// 索引を保持していない個人毎に処理
+		for (String personalId : unindexed) {
+			// フリーワード検索対象文字列群を作成
+			List<String> texts = getFreeWordTexts(humanMap.get(personalId));
+			if (index != null) {
+				index.put(personalId, targets.get(personalId), texts, version);
+			}
+			if (HumanFreeWordIndex.isMatch(texts, arySearchWord)) {
+				hitSet.add(personalId);
+			}
+		}
+		// 検索結果リスト作成(対象人事情報リストの順序を維持)
 		List<HumanDtoInterface> resultList = new ArrayList<HumanDtoInterface>();
-		// 役職要否確認
-		boolean isPost = false;
-		isPost = mospParams.getApplicationPropertyBool(PlatformConst.APP_ADD_USE_POST);
-		// 対象人事リスト毎に処理
 		for (HumanDtoInterface humanDto : humanList) {
-			// 対象社員有効日取得
-			Date targetDate = humanDto.getActivateDate();
-			// フリーワード毎に処理
-			for (String searchWord : arySearchWord) {
-				// フリーワードがない場合
-				if (searchWord.isEmpty()) {
-					break;
-				}
-				// 勤務地コード取得
-				String resultWorkPlaceCode = humanDto.getWorkPlaceCode();
-				// 勤務地が登録されている場合(必須ではない)
-				if (resultWorkPlaceCode.isEmpty() == false) {
-					// 勤務地情報取得
-					WorkPlaceDtoInterface resultWorkPlaceDto = workPlace.getWorkPlaceInfo(resultWorkPlaceCode,
-							targetDate);
-					// 勤務地名で検索結果がある場合
-					if (isBroadMatch(searchWord, resultWorkPlaceDto.getWorkPlaceName())) {
-						resultList.add(humanDto);
-						break;
-					}
-					// 勤務地略称で検索結果がある場合
-					if (isBroadMatch(searchWord, resultWorkPlaceDto.getWorkPlaceAbbr())) {
-						resultList.add(humanDto);
-						break;
-					}
-					// 勤務地カナで検索結果がある場合
-					if (isBroadMatch(searchWord, resultWorkPlaceDto.getWorkPlaceKana())) {
-						resultList.add(humanDto);
-						break;
-					}
-				}
-				// 職位コード取得(必須ではない)
-				String resultPositionCode = humanDto.getPositionCode();
-				if (isSearchPosition(resultPositionCode, searchWord, targetDate)) {
-					resultList.add(humanDto);
-					break;
-				}
-				// 所属コード取得(必須ではない)
-				String resultSectionCode = humanDto.getSectionCode();
-				// 所属情報を検索
-				if (isSearchSecition(resultSectionCode, searchWord, targetDate)) {
-					resultList.add(humanDto);
-					break;
-				}
-				// 雇用契約コード取得(必須ではない)
-				String resultEmployementCode = humanDto.getEmploymentContractCode();
-				// 雇用契約が登録されている場合
-				if (resultEmployementCode.isEmpty() == false) {
-					// 雇用契約情報取得
-					EmploymentContractDtoInterface resultEmploymentDto = employmentContract.getContractInfo(
-							resultEmployementCode, targetDate);
-					// 雇用契約名で検索結果がある場合
-					if (isBroadMatch(searchWord, resultEmploymentDto.getEmploymentContractName())) {
-						resultList.add(humanDto);
-						break;
-					}
-					// 雇用契約略称で検索結果がある場合
-					if (isBroadMatch(searchWord, resultEmploymentDto.getEmploymentContractAbbr())) {
-						resultList.add(humanDto);
-						break;
-					}
-				}
-				// 役職情報有効の場合
-				if (isPost) {
-					// 役職情報取得
-					HumanHistoryDtoInterface humanHistory = humanHistoryReference.findForInfo(humanDto.getPersonalId(),
-							PlatformConst.NAMING_TYPE_POST, targetDate);
-					// 人事汎用情報がない場合
-					if (humanHistory == null) {
-						break;
-					}
-					// 役職コード取得
-					String namingItemCode = humanHistory.getHumanItemValue();
-					// 役職コードが空の場合
-					if (namingItemCode.isEmpty()) {
-						break;
-					}
-					// 役職マスタ情報取得
-					NamingDtoInterface namingDto = namingReference.getNamingItemInfo(PlatformConst.NAMING_TYPE_POST,
-							namingItemCode, targetDate);
-					// 役職名で検索結果がある場合
-					if (isBroadMatch(searchWord, namingDto.getNamingItemName())) {
-						resultList.add(humanDto);
-						break;
-					}
-					// 役職略称で検索結果がある場合
-					if (isBroadMatch(searchWord, namingDto.getNamingItemAbbr())) {
-						resultList.add(humanDto);
-						break;
-					}
-				}
+			if (hitSet.contains(humanDto.getPersonalId())) {
+				resultList.add(humanDto);
 			}
 		}
-		// 検索結果を返す
 		return resultList;
 	}
 	
 	/**
-	 * 休職情報に対して、フリーワードによる検索を行う。<br>
-	 * @param humanList     対象人事情報リスト
-	 * @param arySearchWord フリーワード配列
-	 * @return 人事情報リスト
-	 * @throws MospException インスタンスの取得、SQLの作成及び実行に失敗した場合
+	 * 検索ワード配列を取得する。<br>
+	 * 空の検索ワード以降は、用いない。<br>
+	 * @param arySearchWord 分割した検索ワード配列
+	 * @return 検索ワード配列
 	 */
-	protected List<HumanDtoInterface> searchForFreeWordSuspensionInfo(List<HumanDtoInterface> humanList,
-			String[] arySearchWord) throws MospException {
-		// 検索結果リスト準備
-		List<HumanDtoInterface> resultList = new ArrayList<HumanDtoInterface>();
-		// 対象人事リスト毎に処理
-		for (HumanDtoInterface humanDto : humanList) {
-			// 休職情報履歴一覧所得
-			List<SuspensionDtoInterface> suspensionList = suspensionReference.getSuspentionList(humanDto
-				.getPersonalId());
-			// 休職情報がない場合
-			if (suspensionList.isEmpty()) {
-				continue;
-			}
-			// 休職情報リスト毎に処理
-			for (SuspensionDtoInterface suspensionDto : suspensionList) {
-				// フリーワード毎に処理
-				for (String searchWord : arySearchWord) {
-					// フリーワードがない場合
-					if (searchWord.isEmpty()) {
-						break;
-					}
-					// 開始日で検索結果がある場合
-					if (isBroadMatch(searchWord, DateUtility.getStringDate(suspensionDto.getStartDate()))) {
-						resultList.add(humanDto);
-						break;
-					}
-					// 終了予定日で検索結果がある場合
-					if (isBroadMatch(searchWord, DateUtility.getStringDate(suspensionDto.getScheduleEndDate()))) {
-						resultList.add(humanDto);
-						break;
-					}
-					// 給与区分で検索結果がある場合(必須ではない)
-					String allwanceType = suspensionDto.getAllowanceType();
-					if (allwanceType.isEmpty() == false && isBroadMatch(searchWord, allwanceType)) {
-						resultList.add(humanDto);
-						break;
-					}
-					// 終了日で検索結果がある場合(必須ではない)
-					String endDate = DateUtility.getStringDate(suspensionDto.getEndDate());
-					if (endDate.isEmpty() == false && isBroadMatch(searchWord, endDate)) {
-						resultList.add(humanDto);
-						break;
-					}
-					// 休職理由で検索結果がある場合(必須ではない)
-					String suspentionReason = suspensionDto.getSuspensionReason();
-					if (suspentionReason.isEmpty() == false && isBroadMatch(searchWord, suspentionReason)) {
-						resultList.add(humanDto);
-						break;
-					}
-				}
+	protected String[] getFreeWords(String[] arySearchWord) {
+		List<String> list = new ArrayList<String>();
+		for (String word : arySearchWord) {
+			// フリーワードがない場合
+			if (word.isEmpty()) {
+				break;
 			}
+			list.add(word);
 		}
-		return resultList;
+		return list.toArray(new String[list.size()]);
 	}
 	
 	/**
-	 * 退職情報に対して、フリーワードによる検索を行う。<br>
-	 * @param humanList     対象人事情報リスト
-	 * @param arySearchWord フリーワード配列
-	 * @return 人事情報リスト
-	 * @throws MospException インスタンスの取得、SQLの作成及び実行に失敗した場合
+	 * フリーワード検索対象文字列群の作成条件識別子を取得する。<br>
+	 * 人事情報(履歴)及び対象日が同じであれば、同じ文字列群が作成される。<br>
+	 * @param humanDto 人事情報
+	 * @return 作成条件識別子
 	 */
-	protected List<HumanDtoInterface> searchForFreeWordRetirementInfo(List<HumanDtoInterface> humanList,
-			String[] arySearchWord) throws MospException {
-		// 検索結果リスト準備
-		List<HumanDtoInterface> resultList = new ArrayList<HumanDtoInterface>();
-		// 対象人事リスト毎に処理
-		for (HumanDtoInterface humanDto : humanList) {
-			// 退職情報取得
-			RetirementDtoInterface retirementDto = retirementReference.getRetireInfo(humanDto.getPersonalId());
-			// 退職情報がない場合
-			if (retirementDto == null) {
-				continue;
-			}
-			// フリーワード毎に処理
-			for (String searchWord : arySearchWord) {
-				// フリーワードがない場合
-				if (searchWord.isEmpty()) {
-					break;
-				}
-				// 退職日で検索結果がある場合
-				if (isBroadMatch(searchWord, DateUtility.getStringDate(retirementDto.getRetirementDate()))) {
-					resultList.add(humanDto);
-					break;
-				}
-				// 退職理由コード取得
-				String retirementResonCode = retirementDto.getRetirementReason();
-				// 退職理由取得
-				String retirementReson = getCodeName(retirementResonCode, PlatformConst.CODE_KEY_RETIREMENT);
-				// 退職理由で検索結果がある場合
-				if (isBroadMatch(searchWord, retirementReson)) {
-					resultList.add(humanDto);
-					break;
-				}
-				// 退職詳細で検索結果がある場合(必須ではない)
-				String retirementDetail = retirementDto.getRetirementDetail();
-				if (retirementDetail.isEmpty() == false && isBroadMatch(searchWord, retirementDetail)) {
-					resultList.add(humanDto);
-					break;
-				}
-			}
-		}
-		return resultList;
+	protected String getFreeWordStamp(HumanDtoInterface humanDto) {
+		return humanDto.getPfmHumanId() + "," + DateUtility.getStringDate(targetDate);
 	}
 	
 	/**
-	 * 兼務情報に対して、フリーワードによる検索を行う。<br>
-	 * @param humanList     対象人事情報リスト
-	 * @param arySearchWord フリーワード配列
-	 * @return 人事情報リスト
+	 * 人事情報のフリーワード検索対象文字列群を作成する。<br>
+	 * 情報区分に応じて、対象となる情報を取得する。<br>
+	 * @param humanDto 人事情報
+	 * @return フリーワード検索対象文字列群
 	 * @throws MospException インスタンスの取得、SQLの作成及び実行に失敗した場合
 	 */
-	protected List<HumanDtoInterface> searchForFreeWordConcurrentInfo(List<HumanDtoInterface> humanList,
-			String[] arySearchWord) throws MospException {
-		// 検索結果リスト準備
-		List<HumanDtoInterface> resultList = new ArrayList<HumanDtoInterface>();
-		// 対象人事リスト毎に処理
-		for (HumanDtoInterface humanDto : humanList) {
-			// 兼務情報履歴一覧所得
-			List<ConcurrentDtoInterface> concurrentList = concurrentReference.getConcurrentList(
-					humanDto.getPersonalId(), targetDate);
-			// 兼務情報リストがない場合
-			if (concurrentList.isEmpty()) {
-				continue;
+	protected List<String> getFreeWordTexts(HumanDtoInterface humanDto) throws MospException {
+		// フリーワード検索対象文字列群準備
+		List<String> texts = new ArrayList<String>();
+		// 人事汎用管理区分型取得
+		ViewConfigProperty viewConfig = mospParams.getProperties().getViewConfigProperties().get(informationType);
+		String type = viewConfig == null ? "" : viewConfig.getType();
+		// 情報区分毎に処理
+		if (informationType.equals(PlatformConst.FREE_WORD_HUMAN)) {
+			// 個人基本情報
+			addFreeWordTextsHuman(texts, humanDto);
+		} else if (informationType.equals(PlatformConst.FREE_WORD_SUSPEND)) {
+			// 休職情報
+			addFreeWordTextsSuspension(texts, humanDto);
+		} else if (informationType.equals(PlatformConst.FREE_WORD_RETIRE)) {
+			// 退職情報
+			addFreeWordTextsRetirement(texts, humanDto);
+		} else if (informationType.equals(PlatformConst.FREE_WORD_CONCUR)) {
+			// 兼務情報
+			addFreeWordTextsConcurrent(texts, humanDto);
+		} else if (type.equals(PlatformHumanConst.PRM_HUMAN_DIVISION_TYPE_NORMAL)) {
+			// 人事汎用通常情報
+			addFreeWordTexts(texts, humanNormalReference.getShowHumanNormalMapInfo(informationType,
+					KEY_VIEW_HUMAN_SEARCH, humanDto.getPersonalId(), humanDto.getActivateDate(), targetDate));
+		} else if (type.equals(PlatformHumanConst.PRM_HUMAN_DIVISION_TYPE_HISTORY)) {
+			// 人事汎用履歴情報
+			for (Map<String, String> itemMap : humanHistoryReference.getHumanHistoryMapInfo(informationType,
+					KEY_VIEW_HUMAN_SEARCH, humanDto.getPersonalId(), targetDate, targetDate).values()) {
+				addFreeWordTexts(texts, itemMap);
 			}
-			// 所属マスタ・職位マスタ情報取得
-			// 兼務情報リスト毎に処理
-			for (ConcurrentDtoInterface concurrentDto : concurrentList) {
-				// フリーワード毎に処理
-				for (String searchWord : arySearchWord) {
-					// フリーワードがない場合
-					if (searchWord.isEmpty()) {
-						break;
-					}
-					// 開始日で検索結果がある場合
-					if (isBroadMatch(searchWord, DateUtility.getStringDate(concurrentDto.getStartDate()))) {
-						resultList.add(humanDto);
-						break;
-					}
-					// 兼務備考で検索結果がある場合(必須ではない)
-					String concurrentRemark = concurrentDto.getConcurrentRemark();
-					if (concurrentRemark.isEmpty() == false && isBroadMatch(searchWord, concurrentRemark)) {
-						resultList.add(humanDto);
-						break;
-					}
-					// 終了日で検索結果がある場合(必須ではない)
-					String endDate = DateUtility.getStringDate(concurrentDto.getEndDate());
-					if (endDate.isEmpty() == false && isBroadMatch(searchWord, endDate)) {
-						resultList.add(humanDto);
-						break;
-					}
-					// 職位コード取得
-					String resultPositionCode = concurrentDto.getPositionCode();
-					if (isSearchPosition(resultPositionCode, searchWord, targetDate)) {
-						resultList.add(humanDto);
-						break;
-					}
-					// 所属コード取得
-					String resultSectionCode = concurrentDto.getSectionCode();
-					if (isSearchSecition(resultSectionCode, searchWord, targetDate)) {
-						resultList.add(humanDto);
-						break;
-					}
-				}
+		} else if (type.equals(PlatformHumanConst.PRM_HUMAN_DIVISION_TYPE_ARRAY)) {
+			// 人事汎用一覧情報
+			for (Map<String, String> itemMap : humanArrayReference.getRowIdArrayMapInfo(informationType,
+					KEY_VIEW_HUMAN_SEARCH, humanDto.getPersonalId(), targetDate).values()) {
+				addFreeWordTexts(texts, itemMap);
+			}
+		} else if (type.equals(PlatformHumanConst.PRM_HUMAN_DIVISION_TYPE_BINARY_NORMAL)) {
+			// 人事バイナリ汎用通常情報
+			HumanBinaryNormalDtoInterface dto = humanBinaryNormal.findForInfo(humanDto.getPersonalId(),
+					informationType);
+			if (dto != null) {
+				addFreeWordTextsBinary(texts, dto.getFileType(), dto.getFileName(), dto.getFileRemark());
+			}
+		} else if (type.equals(PlatformHumanConst.PRM_HUMAN_DIVISION_TYPE_BINARY_HISTORY)) {
+			// 人事バイナリ汎用履歴情報
+			for (HumanBinaryHistoryDtoInterface dto : humanBinaryHistory.findForHistory(humanDto.getPersonalId(),
+					informationType)) {
+				addFreeWordTextsBinary(texts, dto.getFileType(), dto.getFileName(), dto.getFileRemark());
+			}
+		} else if (type.equals(PlatformHumanConst.PRM_HUMAN_DIVISION_TYPE_BINARY_ARRAY)) {
+			// 人事バイナリ汎用一覧情報
+			for (HumanBinaryArrayDtoInterface dto : humanBinaryArray.findForItemType(humanDto.getPersonalId(),
+					informationType)) {
+				addFreeWordTextsBinary(texts, dto.getFileType(), dto.getFileName(), dto.getFileRemark());
 			}
 		}
-		return resultList;
+		return texts;
 	}
 	
 	/**
-	 * 人事汎用通常情報に対して、フリーワードによる検索を行う。<br>
-	 * @param division 人事汎用管理区分
-	 * @param humanList 対象人事情報リスト
-	 * @param arySearchWord フリーワード配列
-	  * @return 人事情報リスト
+	 * 個人基本情報のフリーワード検索対象文字列(勤務地、職位、所属、雇用契約及び役職の名称)を追加する。<br>
+	 * 名称は、人事情報の有効日時点のものとする。<br>
+	 * @param texts    フリーワード検索対象文字列群
+	 * @param humanDto 人事情報
 	 * @throws MospException インスタンスの取得、SQLの作成及び実行に失敗した場合
 	 */
-	protected List<HumanDtoInterface> searchForFreeWordHumanNormalInfo(String division,
-			List<HumanDtoInterface> humanList, String[] arySearchWord) throws MospException {
-		// 検索結果リスト準備
-		List<HumanDtoInterface> resultList = new ArrayList<HumanDtoInterface>();
-		// 対象人事リスト毎に処理
-		for (HumanDtoInterface humanDto : humanList) {
-			// 対象社員有効日取得
-			Date activeDate = humanDto.getActivateDate();
-			// 個人ID取得
-			String personalId = humanDto.getPersonalId();
-			Map<String, String> normalMap = humanNormalReference.getShowHumanNormalMapInfo(division,
-					KEY_VIEW_HUMAN_SEARCH, personalId, activeDate, targetDate);
-			// 人事汎用通常情報がない場合
-			if (normalMap.isEmpty()) {
-				continue;
+	protected void addFreeWordTextsHuman(List<String> texts, HumanDtoInterface humanDto) throws MospException {
+		// 対象社員有効日取得
+		Date activateDate = humanDto.getActivateDate();
+		// 勤務地が登録されている場合(必須ではない)
+		if (humanDto.getWorkPlaceCode().isEmpty() == false) {
+			WorkPlaceDtoInterface dto = workPlace.getWorkPlaceInfo(humanDto.getWorkPlaceCode(), activateDate);
+			if (dto != null) {
+				addFreeWordText(texts, dto.getWorkPlaceName());
+				addFreeWordText(texts, dto.getWorkPlaceAbbr());
+				addFreeWordText(texts, dto.getWorkPlaceKana());
 			}
-			// 人事汎用情報を検索
-			if (isSearchHumanGeneral(arySearchWord, normalMap)) {
-				// 検索結果リスト追加
-				resultList.add(humanDto);
-				continue;
+		}
+		// 職位及び所属(必須ではない)
+		addFreeWordTextsPosition(texts, humanDto.getPositionCode(), activateDate);
+		addFreeWordTextsSection(texts, humanDto.getSectionCode(), activateDate);
+		// 雇用契約が登録されている場合(必須ではない)
+		if (humanDto.getEmploymentContractCode().isEmpty() == false) {
+			EmploymentContractDtoInterface dto = employmentContract.getContractInfo(
+					humanDto.getEmploymentContractCode(), activateDate);
+			if (dto != null) {
+				addFreeWordText(texts, dto.getEmploymentContractName());
+				addFreeWordText(texts, dto.getEmploymentContractAbbr());
 			}
 		}
-		return resultList;
+		// 役職情報無効の場合
+		if (mospParams.getApplicationPropertyBool(PlatformConst.APP_ADD_USE_POST) == false) {
+			return;
+		}
+		// 役職情報取得
+		HumanHistoryDtoInterface humanHistory = humanHistoryReference.findForInfo(humanDto.getPersonalId(),
+				PlatformConst.NAMING_TYPE_POST, activateDate);
+		// 人事汎用情報がない或いは役職コードが空の場合
+		if (humanHistory == null || humanHistory.getHumanItemValue().isEmpty()) {
+			return;
+		}
+		// 役職マスタ情報取得
+		NamingDtoInterface namingDto = namingReference.getNamingItemInfo(PlatformConst.NAMING_TYPE_POST,
+				humanHistory.getHumanItemValue(), activateDate);
+		if (namingDto != null) {
+			addFreeWordText(texts, namingDto.getNamingItemName());
+			addFreeWordText(texts, namingDto.getNamingItemAbbr());
+		}
 	}
 	
 	/**
-	 * 人事汎用履歴情報に対して、フリーワードによる検索を行う。<br>
-	 * @param division 人事汎用管理区分
-	 * @param humanList 対象人事情報リスト
-	 * @param arySearchWord フリーワード配列
-	 * @return 人事情報リスト
+	 * 休職情報のフリーワード検索対象文字列(開始日、終了予定日、給与区分、終了日、休職理由)を追加する。<br>
+	 * @param texts    フリーワード検索対象文字列群
+	 * @param humanDto 人事情報
 	 * @throws MospException インスタンスの取得、SQLの作成及び実行に失敗した場合
 	 */
-	protected List<HumanDtoInterface> searchForFreeWordHumanHistoryInfo(String division,
-			List<HumanDtoInterface> humanList, String[] arySearchWord) throws MospException {
-		// 検索結果リスト準備
-		List<HumanDtoInterface> resultList = new ArrayList<HumanDtoInterface>();
-		// 対象人事リスト毎に処理
-		for (HumanDtoInterface humanDto : humanList) {
-			// 個人ID取得
-			String personalId = humanDto.getPersonalId();
-			LinkedHashMap<String, Map<String, String>> historyMap = humanHistoryReference.getHumanHistoryMapInfo(
-					division, KEY_VIEW_HUMAN_SEARCH, personalId, targetDate, targetDate);
-			// 人事汎用通常情報がない場合
-			if (historyMap.isEmpty()) {
-				continue;
-			}
-			// 有効日のリストを取得
-			List<String> historyList = new ArrayList<String>(historyMap.keySet());
-			// 履歴情報有効日キー毎に処理
-			for (String mapDate : historyList) {
-				// 項目名項目値マップ取得
-				Map<String, String> historyItemMap = historyMap.get(mapDate);
-				// キー取得
-				if (isSearchHumanGeneral(arySearchWord, historyItemMap)) {
-					// 検索結果リスト追加
-					resultList.add(humanDto);
-					break;
-				}
-			}
+	protected void addFreeWordTextsSuspension(List<String> texts, HumanDtoInterface humanDto) throws MospException {
+		// 休職情報リスト毎に処理
+		for (SuspensionDtoInterface dto : suspensionReference.getSuspentionList(humanDto.getPersonalId())) {
+			addFreeWordText(texts, DateUtility.getStringDate(dto.getStartDate()));
+			addFreeWordText(texts, DateUtility.getStringDate(dto.getScheduleEndDate()));
+			addFreeWordText(texts, dto.getAllowanceType());
+			addFreeWordText(texts, DateUtility.getStringDate(dto.getEndDate()));
+			addFreeWordText(texts, dto.getSuspensionReason());
 		}
-		return resultList;
 	}
 	
 	/**
-	 * 人事汎用一覧情報に対して、フリーワードによる検索を行う。<br>
-	 * @param division 人事汎用管理区分
-	 * @param humanList 対象人事情報リスト
-	 * @param arySearchWord フリーワード配列
-	 * @param targetDate 対象日
-	 * @return 人事情報リスト
+	 * 退職情報のフリーワード検索対象文字列(退職日、退職理由、退職詳細)を追加する。<br>
+	 * @param texts    フリーワード検索対象文字列群
+	 * @param humanDto 人事情報
 	 * @throws MospException インスタンスの取得、SQLの作成及び実行に失敗した場合
 	 */
-	protected List<HumanDtoInterface> searchForFreeWordHumanArrayInfo(String division,
-			List<HumanDtoInterface> humanList, String[] arySearchWord, Date targetDate) throws MospException {
-		// 検索結果リスト準備
-		List<HumanDtoInterface> resultList = new ArrayList<HumanDtoInterface>();
-		// 対象人事リスト毎に処理
-		for (HumanDtoInterface humanDto : humanList) {
-			// 個人ID取得
-			String personalId = humanDto.getPersonalId();
-			LinkedHashMap<String, Map<String, String>> arrayMap = humanArrayReference.getRowIdArrayMapInfo(division,
-					KEY_VIEW_HUMAN_SEARCH, personalId, targetDate);
-			// 人事汎用通常情報がない場合
-			if (arrayMap.isEmpty()) {
-				continue;
-			}
-			// 有効日のリストを取得
-			List<String> rowIdList = new ArrayList<String>(arrayMap.keySet());
-			// 履歴情報有効日キー毎に処理
-			for (String rowId : rowIdList) {
-				// 項目名項目値マップ取得
-				Map<String, String> arrayItemMap = arrayMap.get(rowId);
-				// キー取得
-				if (isSearchHumanGeneral(arySearchWord, arrayItemMap)) {
-					// 検索結果リスト追加
-					resultList.add(humanDto);
-					break;
-				}
-			}
+	protected void addFreeWordTextsRetirement(List<String> texts, HumanDtoInterface humanDto) throws MospException {
+		// 退職情報取得
+		RetirementDtoInterface dto = retirementReference.getRetireInfo(humanDto.getPersonalId());
+		// 退職情報がない場合
+		if (dto == null) {
+			return;
 		}
-		return resultList;
+		addFreeWordText(texts, DateUtility.getStringDate(dto.getRetirementDate()));
+		addFreeWordText(texts, getCodeName(dto.getRetirementReason(), PlatformConst.CODE_KEY_RETIREMENT));
+		addFreeWordText(texts, dto.getRetirementDetail());
 	}
 	
 	/**
-	 * 人事バイナリ汎用通常情報に対して、フリーワードによる検索を行う。<br>
-	 * @param division 人事汎用管理区分
-	 * @param humanList 対象人事情報リスト
-	 * @param arySearchWord フリーワード配列
-	 * @return 人事情報リスト
+	 * 兼務情報のフリーワード検索対象文字列(開始日、兼務備考、終了日、職位及び所属の名称)を追加する。<br>
+	 * 名称は、対象日時点のものとする。<br>
+	 * @param texts    フリーワード検索対象文字列群
+	 * @param humanDto 人事情報
 	 * @throws MospException インスタンスの取得、SQLの作成及び実行に失敗した場合
 	 */
-	protected List<HumanDtoInterface> searchForFreeWordHumanBinaryNormalInfo(String division,
-			List<HumanDtoInterface> humanList, String[] arySearchWord) throws MospException {
-		// 検索結果リスト準備
-		List<HumanDtoInterface> resultList = new ArrayList<HumanDtoInterface>();
-		// 対象人事リスト毎に処理
-		for (HumanDtoInterface humanDto : humanList) {
-			// 個人ID取得
-			String personalId = humanDto.getPersonalId();
-			// 人事バイナリ汎用情報取得
-			HumanBinaryNormalDtoInterface binarynormal = humanBinaryNormal.findForInfo(personalId, division);
-			// 人事バイナリ汎用情報がない場合
-			if (binarynormal == null) {
-				continue;
-			}
-			// フリーワード毎に処理
-			for (String searchWord : arySearchWord) {
-				// フリーワードがない場合
-				if (searchWord.isEmpty()) {
-					break;
-				}
-				// 検索
-				if (isSearchHumanBinaryGeneral(binarynormal.getFileType(), binarynormal.getFileName(),
-						binarynormal.getFileRemark(), searchWord)) {
-					// 検索結果リスト追加
-					resultList.add(humanDto);
-					break;
-				}
-			}
+	protected void addFreeWordTextsConcurrent(List<String> texts, HumanDtoInterface humanDto) throws MospException {
+		// 兼務情報リスト毎に処理
+		for (ConcurrentDtoInterface dto : concurrentReference.getConcurrentList(humanDto.getPersonalId(), targetDate)) {
+			addFreeWordText(texts, DateUtility.getStringDate(dto.getStartDate()));
+			addFreeWordText(texts, dto.getConcurrentRemark());
+			addFreeWordText(texts, DateUtility.getStringDate(dto.getEndDate()));
+			addFreeWordTextsPosition(texts, dto.getPositionCode(), targetDate);
+			addFreeWordTextsSection(texts, dto.getSectionCode(), targetDate);
 		}
-		return resultList;
 	}
 	
 	/**
-	 * 人事バイナリ汎用履歴情報に対して、フリーワードによる検索を行う。<br>
-	 * @param division 人事汎用管理区分
-	 * @param humanList 対象人事情報リスト
-	 * @param arySearchWord フリーワード配列
-	 * @return 人事情報リスト
+	 * 職位のフリーワード検索対象文字列(職位名称、職位略称)を追加する。<br>
+	 * @param texts        フリーワード検索対象文字列群
+	 * @param positionCode 職位コード
+	 * @param targetDate   対象日
 	 * @throws MospException インスタンスの取得、SQLの作成及び実行に失敗した場合
 	 */
-	protected List<HumanDtoInterface> searchForFreeWordHumanBinaryHistoryInfo(String division,
-			List<HumanDtoInterface> humanList, String[] arySearchWord) throws MospException {
-		// 検索結果リスト準備
-		List<HumanDtoInterface> resultList = new ArrayList<HumanDtoInterface>();
-		// 対象人事リスト毎に処理
-		for (HumanDtoInterface humanDto : humanList) {
-			// 個人ID取得
-			String personalId = humanDto.getPersonalId();
-			// 人事バイナリ汎用情報リスト取得
-			List<HumanBinaryHistoryDtoInterface> binaryHistoryList = humanBinaryHistory.findForHistory(personalId,
-					division);
-			// 人事バイナリ汎用情報リストがない場合
-			if (binaryHistoryList.isEmpty()) {
-				continue;
-			}
-			// 履歴情報有効日キー毎に処理
-			for (HumanBinaryHistoryDtoInterface binaryHistory : binaryHistoryList) {
-				// フリーワード毎に処理
-				for (String searchWord : arySearchWord) {
-					// フリーワードがない場合
-					if (searchWord.isEmpty()) {
-						break;
-					}
-					// 検索
-					if (isSearchHumanBinaryGeneral(binaryHistory.getFileType(), binaryHistory.getFileName(),
-							binaryHistory.getFileRemark(), searchWord)) {
-						// 検索結果リスト追加
-						resultList.add(humanDto);
-						break;
-					}
-				}
-			}
+	protected void addFreeWordTextsPosition(List<String> texts, String positionCode, Date targetDate)
+			throws MospException {
+		// 職位が登録されている場合
+		if (positionCode.isEmpty() == false) {
+			addFreeWordText(texts, position.getPositionName(positionCode, targetDate));
+			addFreeWordText(texts, position.getPositionAbbr(positionCode, targetDate));
 		}
-		return resultList;
 	}
 	
 	/**
-	 * 人事バイナリ汎用一覧情報に対して、フリーワードによる検索を行う。<br>
-	 * @param division 人事汎用管理区分
-	 * @param humanList 対象人事情報リスト
-	 * @param arySearchWord フリーワード配列
-	 * @return 人事情報リスト
+	 * 所属のフリーワード検索対象文字列(所属名称、所属略称)を追加する。<br>
+	 * @param texts       フリーワード検索対象文字列群
+	 * @param sectionCode 所属コード
+	 * @param targetDate  対象日
 	 * @throws MospException インスタンスの取得、SQLの作成及び実行に失敗した場合
 	 */
-	protected List<HumanDtoInterface> searchForFreeWordHumanBinaryArrayInfo(String division,
-			List<HumanDtoInterface> humanList, String[] arySearchWord) throws MospException {
-		// 検索結果リスト準備
-		List<HumanDtoInterface> resultList = new ArrayList<HumanDtoInterface>();
-		// 対象人事リスト毎に処理
-		for (HumanDtoInterface humanDto : humanList) {
-			// 個人ID取得
-			String personalId = humanDto.getPersonalId();
-			// 人事バイナリ汎用情報リスト取得
-			List<HumanBinaryArrayDtoInterface> binaryArrayList = humanBinaryArray.findForItemType(personalId, division);
-			// 人事バイナリ汎用情報リストがない場合
-			if (binaryArrayList.isEmpty()) {
-				continue;
-			}
-			// 履歴情報有効日キー毎に処理
-			for (HumanBinaryArrayDtoInterface binaryArray : binaryArrayList) {
-				// フリーワード毎に処理
-				for (String searchWord : arySearchWord) {
-					// フリーワードがない場合
-					if (searchWord.isEmpty()) {
-						break;
-					}
-					// 検索
-					if (isSearchHumanBinaryGeneral(binaryArray.getFileType(), binaryArray.getFileName(),
-							binaryArray.getFileRemark(), searchWord)) {
-						// 検索結果リスト追加
-						resultList.add(humanDto);
-						break;
-					}
-				}
-			}
+	protected void addFreeWordTextsSection(List<String> texts, String sectionCode, Date targetDate)
+			throws MospException {
+		// 所属が登録されている場合
+		if (sectionCode.isEmpty() == false) {
+			addFreeWordText(texts, section.getSectionName(sectionCode, targetDate));
+			addFreeWordText(texts, section.getSectionAbbr(sectionCode, targetDate));
 		}
-		return resultList;
 	}
 	
 	/**
-	 * 人事汎用情報(通常・履歴・一覧)を検索する。
-	 * @param arySearchWord 検索ワード配列
+	 * 人事汎用情報(通常・履歴・一覧)のフリーワード検索対象文字列(項目値)を追加する。<br>
+	 * @param texts   フリーワード検索対象文字列群
 	 * @param itemMap 項目、項目値のマップ
-	 * @return 確認結果(true：存在する、false：存在しない)
-	 * @throws MospException インスタンスの取得、SQLの作成及び実行に失敗した場合
 	 */
-	protected boolean isSearchHumanGeneral(String[] arySearchWord, Map<String, String> itemMap) throws MospException {
-		// 項目名のリストを取得
-		List<String> itemNameList = new ArrayList<String>(itemMap.keySet());
-		// 通常情報キー毎に処理
-		for (String itemKey : itemNameList) {
-			String value = itemMap.get(itemKey);
-			// フリーワード毎に処理
-			for (String searchWord : arySearchWord) {
-				// フリーワードがない場合
-				if (searchWord.isEmpty()) {
-					return false;
-				}
-				// 検索結果がある場合
-				if (value.isEmpty() == false && isBroadMatch(searchWord, value)) {
-					return true;
-				}
-			}
+	protected void addFreeWordTexts(List<String> texts, Map<String, String> itemMap) {
+		for (String value : itemMap.values()) {
+			addFreeWordText(texts, value);
 		}
-		return false;
 	}
 	
 	/**
-	 * 人事汎用バイナリ情報(通常・履歴・一覧)を検索する。
+	 * 人事汎用バイナリ情報(通常・履歴・一覧)のフリーワード検索対象文字列
+	 * (ファイル区分名称、ファイル名、ファイル備考)を追加する。<br>
+	 * @param texts    フリーワード検索対象文字列群
 	 * @param fileType ファイル区分
 	 * @param fileName ファイル名
-	 * @param remark ファイル備考
-	 * @param searchWord 検索ワード
-	 * @return 検索結果(true：検索結果有、false：検索結果無)
-	 * @throws MospException インスタンスの取得、SQLの作成及び実行に失敗した場合
+	 * @param remark   ファイル備考
 	 */
-	protected boolean isSearchHumanBinaryGeneral(String fileType, String fileName, String remark, String searchWord)
-			throws MospException {
-		// ファイル区分で検索結果がある場合
+	protected void addFreeWordTextsBinary(List<String> texts, String fileType, String fileName, String remark) {
 		if (fileType.isEmpty() == false) {
-			if (isBroadMatch(searchWord, getCodeName(fileType, PlatformConst.CODE_KEY_BINARY_FILE_TYPE))) {
-				return true;
-			}
+			addFreeWordText(texts, getCodeName(fileType, PlatformConst.CODE_KEY_BINARY_FILE_TYPE));
 		}
-		// ファイル名で検索結果がある場合
-		if (isBroadMatch(searchWord, fileName)) {
-			return true;
+		addFreeWordText(texts, fileName);
+		addFreeWordText(texts, remark);
+	}
+	
+	/**
+	 * フリーワード検索対象文字列を追加する。<br>
+	 * null或いは空文字の場合は、追加しない。<br>
+	 * @param texts フリーワード検索対象文字列群
+	 * @param text  フリーワード検索対象文字列
+	 */
+	protected void addFreeWordText(List<String> texts, String text) {
+		if (text != null && text.isEmpty() == false) {
+			texts.add(text);
 		}
-		// ファイル備考で検索結果がある場合(必須ではない)
-		if (remark.isEmpty() == false && isBroadMatch(searchWord, remark)) {
-			return true;
+	}
+	
+	@Override
+	public List<HumanListDtoInterface> getHumanList() throws MospException {
+		// 人事マスタ検索
+		return getHumanList(search());
+	}
+	
+	@Override
+	public int getHumanCount() throws MospException {
+		// 絞込が必要な場合
+		if (needFilter()) {
+			// 全件を検索して絞り込んだ件数
+			return search().size();
+		}
+		// 件数検索
+		return dao.countForSearch(getSearchParams());
+	}
+	
+	@Override
+	public List<HumanListDtoInterface> getHumanList(PageCursor cursor, int page) throws MospException {
+		// ソートキー取得
+		String sortKey = getSortKey(cursor.getSortKey());
+		// 頁単位で検索できない場合
+		if (sortKey == null || dao.isPageable(sortKey) == false) {
+			// 全件を検索して並び替え
+			return getHumanListForPage(cursor, page);
 		}
-		return false;
+		// 検索条件取得
+		Map<String, Object> param = getSearchParams();
+		int limit = cursor.getDataPerPage();
+		// 人事マスタ検索
+		List<HumanDtoInterface> list;
+		if (cursor.isNextPage(page)) {
+			// 表示中の頁の末尾より後を検索
+			list = findForPage(param, sortKey, cursor.isDescending(), cursor.getLastKeys(), limit, 0);
+		} else if (cursor.isPreviousPage(page)) {
+			// 表示中の頁の先頭より前を逆順で検索
+			list = findForPage(param, sortKey, !cursor.isDescending(), cursor.getFirstKeys(), limit, 0);
+			Collections.reverse(list);
+		} else {
+			// 頁の先頭の位置まで読み飛ばして検索
+			list = findForPage(param, sortKey, cursor.isDescending(), null, limit, cursor.getOffset(page));
+		}
+		// カーソルに表示する頁を設定
+		if (list.isEmpty()) {
+			cursor.clearKeys();
+		} else {
+			cursor.setPage(page, getKeys(list.get(0), sortKey), getKeys(list.get(list.size() - 1), sortKey));
+		}
+		return getHumanList(list);
 	}
 	
 	/**
-	 * 職位を検索する。<br>
-	 * 検索ワードに検索された社員情報の職位があてはまるか確認する。<br>
-	 * @param resultPositionCode 職位コード
-	 * @param searchWord 検索ワード
-	 * @param targetDate 対象社員有効日
-	 * @return 検索結果(true：検索結果有、false：検索結果無)
+	 * 人事マスタを頁単位で検索する。<br>
+	 * 休退職区分或いはフリーワードによる絞込が必要な場合は、
+	 * {@link #PAGE_CHUNK_SIZE}件ずつ検索して絞り込み、取得件数に達するまで繰り返す。<br>
+	 * @param param      検索条件マップ
+	 * @param sortKey    ソートキー
+	 * @param descending 降順フラグ
+	 * @param keys       キー値(キー値を指定しない場合はnull)
+	 * @param limit      取得件数
+	 * @param offset     読み飛ばし件数(絞込後の件数)
+	 * @return 人事マスタリスト
 	 * @throws MospException インスタンスの取得、SQLの作成及び実行に失敗した場合
 	 */
-	protected boolean isSearchPosition(String resultPositionCode, String searchWord, Date targetDate)
-			throws MospException {
-		// 職位が登録されている場合
-		if (resultPositionCode.isEmpty() == false) {
-			// 職位名称で検索結果がある場合
-			if (isBroadMatch(searchWord, position.getPositionName(resultPositionCode, targetDate))) {
-				return true;
+	protected List<HumanDtoInterface> findForPage(Map<String, Object> param, String sortKey, boolean descending,
+			String[] keys, int limit, int offset) throws MospException {
+		// 絞込が不要な場合
+		if (needFilter() == false) {
+			return dao.findForPage(param, sortKey, descending, keys, limit, offset);
+		}
+		// 人事マスタリスト準備
+		List<HumanDtoInterface> list = new ArrayList<HumanDtoInterface>();
+		String[] chunkKeys = keys;
+		int skip = offset;
+		while (list.size() < limit) {
+			// 人事マスタ検索
+			List<HumanDtoInterface> chunk = dao.findForPage(param, sortKey, descending, chunkKeys, PAGE_CHUNK_SIZE, 0);
+			if (chunk.isEmpty()) {
+				break;
 			}
-			// 職位略称で検索結果がある場合
-			if (isBroadMatch(searchWord, position.getPositionAbbr(resultPositionCode, targetDate))) {
-				return true;
+			// 次の検索のキー値を取得
+			chunkKeys = getKeys(chunk.get(chunk.size() - 1), sortKey);
+			// 休退職区分及びフリーワードで絞込
+			for (HumanDtoInterface dto : searchForFreeWord(searchForState(chunk))) {
+				// 読み飛ばし
+				if (skip > 0) {
+					skip--;
+					continue;
+				}
+				list.add(dto);
+				if (list.size() == limit) {
+					break;
+				}
+			}
+			// 最後まで検索した場合
+			if (chunk.size() < PAGE_CHUNK_SIZE) {
+				break;
 			}
 		}
-		return false;
+		return list;
 	}
 	
 	/**
-	 * 所属を検索する。<br>
-	 * 検索ワードに検索された社員情報の所属があてはまるか確認する。<br>
-	 * @param resultSectionCode 所属コード
-	 * @param searchWord 検索ワード
-	 * @param targetDate 対象社員有効日
-	 * @return 検索結果(true：検索結果有、false：検索結果無)
+	 * 全件を検索して並び替え、対象頁の人事一覧情報リストを取得する。<br>
+	 * SQLで並び替えられないソートキーの場合に用いる。<br>
+	 * 表示中の頁のキー値は、保持しない。<br>
+	 * @param cursor 頁操作用カーソル
+	 * @param page   対象頁番号
+	 * @return 人事一覧情報リスト
 	 * @throws MospException インスタンスの取得、SQLの作成及び実行に失敗した場合
 	 */
-	protected boolean isSearchSecition(String resultSectionCode, String searchWord, Date targetDate)
-			throws MospException {
-		if (resultSectionCode.isEmpty() == false) {
-			// 所属名称で検索結果がある場合
-			if (isBroadMatch(searchWord, section.getSectionName(resultSectionCode, targetDate))) {
-				return true;
-			}
-			// 所属略称で検索結果がある場合
-			if (isBroadMatch(searchWord, section.getSectionAbbr(resultSectionCode, targetDate))) {
-				return true;
-			}
+	protected List<HumanListDtoInterface> getHumanListForPage(PageCursor cursor, int page) throws MospException {
+		// 人事マスタ検索
+		List<HumanListDtoInterface> list = getHumanList();
+		// 並び替え
+		Comparator<Object> comp = InstanceFactory.loadComparator(cursor.getSortKey());
+		if (cursor.isDescending()) {
+			Collections.sort(list, Collections.reverseOrder(comp));
+		} else {
+			Collections.sort(list, comp);
+		}
+		// 対象頁のリストを取得
+		cursor.clearKeys();
+		int offset = cursor.getOffset(page);
+		int end = Math.min(offset + cursor.getDataPerPage(), list.size());
+		List<HumanListDtoInterface> pageList = new ArrayList<HumanListDtoInterface>();
+		for (int i = offset; i < end; i++) {
+			pageList.add(list.get(i));
 		}
-		return false;
+		return pageList;
 	}
 	
-	@Override
-	public List<HumanListDtoInterface> getHumanList() throws MospException {
-		// 人事マスタ検索
-		List<HumanDtoInterface> list = search();
+	/**
+	 * 人事マスタ情報のキー値を取得する。<br>
+	 * 休退職区分の場合は、人事情報検索DAOで取得できないキー値を補う。<br>
+	 * @param dto     人事マスタ情報
+	 * @param sortKey ソートキー
+	 * @return キー値
+	 * @throws MospException インスタンスの取得、SQLの作成及び実行に失敗した場合
+	 */
+	protected String[] getKeys(HumanDtoInterface dto, String sortKey) throws MospException {
+		// 人事情報検索DAOからキー値を取得
+		String[] keys = dao.getKeys(dto, sortKey);
+		// 休退職区分確認
+		if (HumanSearchDaoInterface.SORT_RETIRE_STATE.equals(sortKey)) {
+			keys[0] = getRetireStateKey(dto.getPersonalId());
+		}
+		return keys;
+	}
+	
+	/**
+	 * 対象日時点の休退職区分キー値を取得する。<br>
+	 * 人事情報検索DAOの休退職区分の並び替え(CASE式)と同じ順で判定する。<br>
+	 * @param personalId 個人ID
+	 * @return 休退職区分キー値
+	 * @throws MospException インスタンスの取得、SQLの作成及び実行に失敗した場合
+	 */
+	protected String getRetireStateKey(String personalId) throws MospException {
+		if (retirementReference.isRetired(personalId, targetDate)) {
+			return HumanSearchDaoInterface.RETIRE_STATE_RETIRE;
+		}
+		if (suspensionReference.isSuspended(personalId, targetDate)) {
+			return HumanSearchDaoInterface.RETIRE_STATE_SUSPEND;
+		}
+		if (entranceReference.isEntered(personalId, targetDate) == false) {
+			return HumanSearchDaoInterface.RETIRE_STATE_NOT_ENTERED;
+		}
+		return HumanSearchDaoInterface.RETIRE_STATE_PRESENCE;
+	}
+	
+	/**
+	 * 比較クラス名に対応する、人事情報検索DAOのソートキーを取得する。<br>
+	 * @param comparatorName 比較クラス名
+	 * @return ソートキー(SQLで並び替えられない場合はnull)
+	 */
+	protected String getSortKey(String comparatorName) {
+		if (comparatorName == null || comparatorName.equals(EmployeeCodeComparator.class.getName())) {
+			return HumanSearchDaoInterface.SORT_EMPLOYEE_CODE;
+		}
+		if (comparatorName.equals(EmployeeNameComparator.class.getName())) {
+			return HumanSearchDaoInterface.SORT_EMPLOYEE_NAME;
+		}
+		if (comparatorName.equals(HumanListEmployeeKanaComparator.class.getName())) {
+			return HumanSearchDaoInterface.SORT_EMPLOYEE_KANA;
+		}
+		if (comparatorName.equals(WorkPlaceCodeComparator.class.getName())) {
+			return HumanSearchDaoInterface.SORT_WORK_PLACE_CODE;
+		}
+		if (comparatorName.equals(EmploymentContractCodeComparator.class.getName())) {
+			return HumanSearchDaoInterface.SORT_EMPLOYMENT_CONTRACT_CODE;
+		}
+		if (comparatorName.equals(SectionCodeComparator.class.getName())) {
+			return HumanSearchDaoInterface.SORT_SECTION_CODE;
+		}
+		if (comparatorName.equals(PositionCodeComparator.class.getName())) {
+			return HumanSearchDaoInterface.SORT_POSITION_CODE;
+		}
+		if (comparatorName.equals(HumanListRetireStateComparator.class.getName())) {
+			return HumanSearchDaoInterface.SORT_RETIRE_STATE;
+		}
+		return null;
+	}
+	
+	/**
+	 * 人事マスタリストから人事一覧情報リストを作成する。<br>
+	 * @param list 人事マスタリスト
+	 * @return 人事一覧情報リスト
+	 * @throws MospException インスタンスの取得、SQLの作成及び実行に失敗した場合
+	 */
+	protected List<HumanListDtoInterface> getHumanList(List<HumanDtoInterface> list) throws MospException {
 		String[][] aryWorkPlace = workPlace.getSelectArray(targetDate, true, null);
 		String[][] aryEmploymentContract = employmentContract.getSelectArray(targetDate, true, null);
 		String[][] arySection = section.getNameSelectArray(targetDate, true, null);
@@ -1368,11 +1283,12 @@ public class HumanSearchBean extends PlatformHumanBean implements HumanSearchBea
 						aryEmploymentContract));
 			}
 			// 休退職情報設定
-			if (retirementReference.isRetired(dto.getPersonalId(), targetDate)) {
+			String retireState = getRetireStateKey(dto.getPersonalId());
+			if (retireState.equals(HumanSearchDaoInterface.RETIRE_STATE_RETIRE)) {
 				humanListDto.setRetireState(mospParams.getProperties().getName("RetirementOn"));
-			} else if (suspensionReference.isSuspended(dto.getPersonalId(), targetDate)) {
+			} else if (retireState.equals(HumanSearchDaoInterface.RETIRE_STATE_SUSPEND)) {
 				humanListDto.setRetireState(mospParams.getProperties().getName("RetirementLeave"));
-			} else if (entranceReference.isEntered(dto.getPersonalId(), targetDate) == false) {
+			} else if (retireState.equals(HumanSearchDaoInterface.RETIRE_STATE_NOT_ENTERED)) {
 				humanListDto.setRetireState("");
 			} else {
 				humanListDto.setRetireState(mospParams.getProperties().getName("RetirementOff"));
@@ -1595,6 +1511,11 @@ public class HumanSearchBean extends PlatformHumanBean implements HumanSearchBea
 		this.needApproverRole = Boolean.valueOf(needApproverRole);
 	}
 	
+	@Override
+	public void setPersonalIdSet(Set<String> personalIdSet) {
+		this.personalIdSet = personalIdSet;
+	}
+	
 	@Override
 	public void setOperationType(String operationType) {
 		this.operationType = operationType;
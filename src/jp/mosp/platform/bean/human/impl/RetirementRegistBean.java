@@ -125,6 +125,8 @@ public class RetirementRegistBean extends PlatformHumanBean implements Retiremen
 		dto.setPfaHumanRetirementId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// フリーワード検索用索引破棄
+		removeFreeWordIndex(dto.getPersonalId());
 	}
 	
 	/**
@@ -146,6 +148,8 @@ public class RetirementRegistBean extends PlatformHumanBean implements Retiremen
 		dto.setPfaHumanRetirementId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// フリーワード検索用索引破棄
+		removeFreeWordIndex(dto.getPersonalId());
 	}
 	
 	/**
@@ -130,6 +130,8 @@ public class SuspensionRegistBean extends PlatformHumanBean implements Suspensio
 		dto.setPfaHumanSuspensionId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// フリーワード検索用索引破棄
+		removeFreeWordIndex(dto.getPersonalId());
 	}
 	
 	/**
@@ -157,6 +159,8 @@ public class SuspensionRegistBean extends PlatformHumanBean implements Suspensio
 		dto.setPfaHumanSuspensionId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// フリーワード検索用索引破棄
+		removeFreeWordIndex(dto.getPersonalId());
 	}
 	
 	/**
@@ -18,6 +18,7 @@
 package jp.mosp.platform.bean.mail;
 
 import java.io.File;
+import java.util.Date;
 
 import jp.mosp.framework.base.MospException;
 import jp.mosp.platform.dto.mail.impl.MailTemplateDto;
@@ -57,4 +58,33 @@ public interface MailBeanInterface {
 	 */
 	boolean sendMail(String[][] aryPersonalId, String title, String text, File file) throws MospException;
 	
+	/**
+	 * メールを送信待ちに登録する(設定チェックなし)。<br>
+	 * 送信はメール送信スレッドで行うため、送信結果は待たない。<br>
+	 * メールアドレスが設定されていない送信先は登録しない。<br>
+	 * @param aryPersonalId 個人ID配列(個人ID及びメールアドレスの配列)
+	 * @param title         タイトル
+	 * @param text          本文
+	 * @return 登録件数
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	int enqueueMail(String[][] aryPersonalId, String title, String text) throws MospException;
+	
+	/**
+	 * 送信待ちのメールを送信する。<br>
+	 * 次回送信日時を過ぎたものを上限件数まで取得し、一つの接続で送信する。<br>
+	 * 送信に失敗したものは、再送上限回数に達するまで、再送間隔を倍にしながら再送待ちとする。<br>
+	 * @param limit 上限件数
+	 * @return 送信件数(送信に失敗したものは含まない)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	int sendOutbox(int limit) throws MospException;
+	
+	/**
+	 * 送信待ちのメールのうち、最も早い次回送信日時を取得する。<br>
+	 * @return 次回送信日時(送信待ちのメールが無い場合はnull)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	Date getNextSendTime() throws MospException;
+	
 }
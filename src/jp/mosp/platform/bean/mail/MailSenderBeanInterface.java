@@ -48,6 +48,28 @@ public interface MailSenderBeanInterface {
 	 */
 	boolean isSend();
 	
+	/**
+	 * メールサーバと接続する。<br>
+	 * 既に接続している場合は、その接続を用いる。<br>
+	 * 複数のメールを同じ接続で送信する場合は、{@link #sendMessage()}及び
+	 * {@link #closeConnection()}と併せて用いる。<br>
+	 * @return 接続できた場合true、そうでない場合false
+	 */
+	boolean openConnection();
+	
+	/**
+	 * 設定したメッセージを、接続済のメールサーバに送信する。<br>
+	 * 接続が切れている場合は、再接続してから送信する。<br>
+	 * 送信後も接続は維持する。<br>
+	 * @throws MospException 送信に失敗した場合
+	 */
+	void sendMessage() throws MospException;
+	
+	/**
+	 * メールサーバとの接続を解除する。
+	 */
+	void closeConnection();
+	
 	/**
 	 * 接続テスト。
 	 * @return メールサーバの利用可否
@@ -20,11 +20,14 @@ package jp.mosp.platform.bean.mail.impl;
 import java.io.File;
 import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 
 import jp.mosp.framework.base.BaseBean;
+import jp.mosp.framework.base.DBConnBean;
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.instance.InstanceFactory;
 import jp.mosp.framework.utils.LogUtility;
 import jp.mosp.framework.utils.MospUtility;
 import jp.mosp.platform.base.PlatformBean;
@@ -33,9 +36,12 @@ import jp.mosp.platform.bean.human.HumanReferenceBeanInterface;
 import jp.mosp.platform.bean.mail.MailBeanInterface;
 import jp.mosp.platform.bean.mail.MailSenderBeanInterface;
 import jp.mosp.platform.constant.PlatformMailConst;
+import jp.mosp.platform.dao.mail.MailOutboxDaoInterface;
 import jp.mosp.platform.dto.human.HumanDtoInterface;
 import jp.mosp.platform.dto.human.HumanNormalDtoInterface;
+import jp.mosp.platform.dto.mail.MailOutboxDtoInterface;
 import jp.mosp.platform.dto.mail.impl.MailTemplateDto;
+import jp.mosp.platform.dto.mail.impl.PftMailOutboxDto;
 import jp.mosp.platform.utils.MailTemplateUtility;
 
 /**
@@ -58,6 +64,11 @@ public class MailBean extends PlatformBean implements MailBeanInterface {
 	 */
 	protected HumanNormalReferenceBeanInterface	humanNormalReference;
 	
+	/**
+	 * メール送信待ちDAO。
+	 */
+	protected MailOutboxDaoInterface			outboxDao;
+	
 	/**
 	 * テンプレートパス。
 	 */
@@ -90,6 +101,7 @@ public class MailBean extends PlatformBean implements MailBeanInterface {
 		mailSender = (MailSenderBeanInterface)createBean(MailSenderBeanInterface.class);
 		humanReference = (HumanReferenceBeanInterface)createBean(HumanReferenceBeanInterface.class);
 		humanNormalReference = (HumanNormalReferenceBeanInterface)createBean(HumanNormalReferenceBeanInterface.class);
+		outboxDao = (MailOutboxDaoInterface)createDao(MailOutboxDaoInterface.class);
 	}
 	
 	@Override
@@ -152,6 +164,141 @@ public class MailBean extends PlatformBean implements MailBeanInterface {
 		return isSend;
 	}
 	
+	@Override
+	public int enqueueMail(String[][] aryPersonalId, String title, String text) throws MospException {
+		Date systemTime = getSystemTimeAndSecond();
+		List<MailOutboxDtoInterface> list = new ArrayList<MailOutboxDtoInterface>();
+		for (String[] personal : aryPersonalId) {
+			if (!checkMailAddress(personal[1])) {
+				continue;
+			}
+			MailOutboxDtoInterface dto = new PftMailOutboxDto();
+			dto.setPersonalId(personal[0]);
+			dto.setMailAddress(personal[1]);
+			dto.setMailTitle(title);
+			dto.setMailText(text);
+			dto.setMailStatus(PlatformMailConst.CODE_MAIL_STATUS_WAITING);
+			dto.setRetryCount(0);
+			dto.setNextSendTime(systemTime);
+			dto.setMailMessage("");
+			list.add(dto);
+		}
+		if (list.isEmpty()) {
+			return 0;
+		}
+		// メール送信スレッドから参照できるように専用のDBコネクションで登録してコミット
+		DBConnBean dbConnBean = new DBConnBean(mospParams);
+		try {
+			MailOutboxDaoInterface dao = (MailOutboxDaoInterface)InstanceFactory.loadDao(
+					MailOutboxDaoInterface.class, mospParams, dbConnBean.getConnection());
+			long[] ids = dao.nextRecordIds(list.size());
+			for (int i = 0; i < ids.length; i++) {
+				list.get(i).setPftMailOutboxId(ids[i]);
+			}
+			dao.insertAll(list);
+			dbConnBean.commit();
+		} finally {
+			dbConnBean.releaseConnection();
+		}
+		// メール送信スレッドに送信を依頼
+		MailOutboxRunner.request(mospParams);
+		return list.size();
+	}
+	
+	@Override
+	public int sendOutbox(int limit) throws MospException {
+		List<MailOutboxDtoInterface> list = outboxDao.findForSend(getSystemTimeAndSecond(), limit);
+		if (list.isEmpty()) {
+			return 0;
+		}
+		int count = 0;
+		// 初期化及び接続
+		mailSender.init();
+		boolean isConnected = mailSender.openConnection();
+		try {
+			for (MailOutboxDtoInterface dto : list) {
+				if (!isConnected) {
+					// メールサーバに接続できない場合は再送待ち
+					setRetry(dto, PlatformMailConst.MSG_MAIL_CONNECT_FAILED);
+					outboxDao.update(dto);
+					continue;
+				}
+				String personal = getPersonal(dto);
+				StringBuffer sb = new StringBuffer();
+				sb.append(dto.getPersonalId());
+				try {
+					// メッセージ(接続は維持したまま送信)
+					mailSender.setMessage(new String[][]{ { personal, dto.getMailAddress() } }, dto.getMailTitle(),
+							dto.getMailText(), null);
+					mailSender.sendMessage();
+					dto.setMailStatus(PlatformMailConst.CODE_MAIL_STATUS_SENT);
+					dto.setSendTime(getSystemTimeAndSecond());
+					dto.setMailMessage("");
+					sb.append(PlatformMailConst.MSG_MAIL_SEND_SUCCESS);
+					count++;
+				} catch (MospException e) {
+					setRetry(dto, String.valueOf(e.getCause() != null ? e.getCause() : e));
+					sb.append(PlatformMailConst.MSG_MAIL_SEND_FAILED);
+					// 送信途中の接続は続けて使えないため再接続
+					mailSender.closeConnection();
+					isConnected = mailSender.openConnection();
+				}
+				outboxDao.update(dto);
+				// ログ出力
+				LogUtility.log(mospParams, 800, sb.toString());
+			}
+		} finally {
+			mailSender.closeConnection();
+		}
+		return count;
+	}
+	
+	@Override
+	public Date getNextSendTime() throws MospException {
+		MailOutboxDtoInterface dto = outboxDao.findForNext();
+		if (dto == null) {
+			return null;
+		}
+		return dto.getNextSendTime();
+	}
+	
+	/**
+	 * 送信に失敗したメールを再送待ちとする。<br>
+	 * 再送間隔は再送毎に倍にし、再送上限回数を超えた場合は送信失敗とする。<br>
+	 * @param dto     対象メール送信待ち情報
+	 * @param message メッセージ
+	 */
+	protected void setRetry(MailOutboxDtoInterface dto, String message) {
+		int retryLimit = mospParams.getApplicationProperty(PlatformMailConst.APP_MAIL_RETRY_LIMIT,
+				PlatformMailConst.DEFAULT_MAIL_RETRY_LIMIT);
+		int retryInterval = mospParams.getApplicationProperty(PlatformMailConst.APP_MAIL_RETRY_INTERVAL,
+				PlatformMailConst.DEFAULT_MAIL_RETRY_INTERVAL);
+		int retryCount = dto.getRetryCount() + 1;
+		dto.setRetryCount(retryCount);
+		dto.setMailMessage(message);
+		if (retryCount > retryLimit) {
+			dto.setMailStatus(PlatformMailConst.CODE_MAIL_STATUS_FAILED);
+			return;
+		}
+		long delay = (Math.max(1, retryInterval) * 1000L) << Math.min(retryCount - 1, 16);
+		dto.setNextSendTime(new Date(getSystemTimeAndSecond().getTime() + delay));
+	}
+	
+	/**
+	 * 送信先の表示名を取得する。<br>
+	 * 人名を取得できない場合は、メールアドレスとする。<br>
+	 * @param dto 対象メール送信待ち情報
+	 * @return 送信先の表示名
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	protected String getPersonal(MailOutboxDtoInterface dto) throws MospException {
+		String name = getName(dto.getPersonalId());
+		if (name.isEmpty()) {
+			return dto.getMailAddress();
+		}
+		return name;
+	}
+	
 	/**
 	 * メール送信
 	 * @param personalId 個人ID
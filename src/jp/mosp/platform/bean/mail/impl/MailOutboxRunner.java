@@ -0,0 +1,197 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.bean.mail.impl;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jp.mosp.framework.base.DBConnBean;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospJobExecutor;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.instance.InstanceFactory;
+import jp.mosp.framework.utils.DateUtility;
+import jp.mosp.framework.utils.LogUtility;
+import jp.mosp.platform.bean.mail.MailBeanInterface;
+import jp.mosp.platform.constant.PlatformMailConst;
+
+/**
+ * メール送信実行クラス。<br>
+ * <br>
+ * ジョブ実行スレッドで、送信待ちのメールを送信する。<br>
+ * 送信はメール送信件数毎にDBコネクションを取得してコミットし、
+ * その間はメールサーバとの接続を維持する。<br>
+ * 同時に送信するスレッドは一つとし、送信中に依頼された場合は、
+ * 送信中のスレッドが続けて送信する。<br>
+ * <br>
+ * 再送待ちのメールが残った場合は、次回送信日時に再度送信されるように予約する。<br>
+ * アプリケーションの再起動等で送信待ちのまま残ったメールは、次回の依頼時に送信される。<br>
+ */
+public class MailOutboxRunner implements Runnable {
+	
+	/**
+	 * 送信中フラグ。
+	 */
+	protected static final AtomicBoolean	RUNNING		= new AtomicBoolean();
+	
+	/**
+	 * 送信依頼フラグ。
+	 */
+	protected static final AtomicBoolean	REQUESTED	= new AtomicBoolean();
+	
+	/**
+	 * MosP処理情報(ジョブ用)。<br>
+	 */
+	protected MospParams					mospParams;
+	
+	
+	/**
+	 * メール送信実行クラスを生成する。<br>
+	 * @param mospParams MosP処理情報(ジョブ用)
+	 */
+	protected MailOutboxRunner(MospParams mospParams) {
+		this.mospParams = mospParams;
+	}
+	
+	/**
+	 * 送信待ちのメールの送信を依頼する。<br>
+	 * 送信中でなければ、ジョブ実行スレッドに送信を受け付けさせる。<br>
+	 * 実行待ち上限数を超えた場合、メールは送信待ちのまま残り、次回の依頼時に送信される。<br>
+	 * @param mospParams MosP処理情報
+	 */
+	public static void request(MospParams mospParams) {
+		REQUESTED.set(true);
+		if (RUNNING.compareAndSet(false, true) == false) {
+			// 送信中のスレッドが続けて送信する
+			return;
+		}
+		try {
+			MospJobExecutor.execute(mospParams, new MailOutboxRunner(mospParams.createJobParams()));
+		} catch (MospException e) {
+			RUNNING.set(false);
+			LogUtility.error(mospParams, e);
+		}
+	}
+	
+	@Override
+	public void run() {
+		try {
+			execute();
+		} catch (Throwable e) {
+			LogUtility.error(mospParams, e);
+		} finally {
+			RUNNING.set(false);
+		}
+		// 送信中に依頼された場合
+		if (REQUESTED.get()) {
+			request(mospParams);
+		}
+	}
+	
+	/**
+	 * 送信待ちのメールを送信する。<br>
+	 * 送信できるメールが無くなるか、全て送信に失敗するまで続ける。<br>
+	 * @throws MospException メール送信待ち情報の取得或いは更新に失敗した場合
+	 */
+	protected void execute() throws MospException {
+		int batchSize = Math.max(1, mospParams.getApplicationProperty(PlatformMailConst.APP_MAIL_BATCH_SIZE,
+				PlatformMailConst.DEFAULT_MAIL_BATCH_SIZE));
+		while (REQUESTED.getAndSet(false)) {
+			int count = sendOutbox(batchSize);
+			while (count > 0 && Thread.currentThread().isInterrupted() == false) {
+				count = sendOutbox(batchSize);
+			}
+		}
+		// 再送待ちのメールが残っている場合は予約
+		schedule();
+	}
+	
+	/**
+	 * 送信待ちのメールを上限件数まで送信し、コミットする。<br>
+	 * @param limit 上限件数
+	 * @return 送信件数
+	 * @throws MospException メール送信待ち情報の取得或いは更新に失敗した場合
+	 */
+	protected int sendOutbox(int limit) throws MospException {
+		DBConnBean dbConnBean = new DBConnBean(mospParams);
+		try {
+			MailBeanInterface mail = (MailBeanInterface)InstanceFactory.loadBean(MailBeanInterface.class, mospParams,
+					dbConnBean.getConnection());
+			int count = mail.sendOutbox(limit);
+			dbConnBean.commit();
+			return count;
+		} finally {
+			dbConnBean.releaseConnection();
+		}
+	}
+	
+	/**
+	 * 送信待ちのメールが残っている場合、次回送信日時に送信されるように予約する。<br>
+	 * 次回送信日時を過ぎたメールが残っている場合(送信に全て失敗した場合)は、再送間隔後に予約する。<br>
+	 * @throws MospException メール送信待ち情報の取得に失敗した場合
+	 */
+	protected void schedule() throws MospException {
+		Date nextSendTime = null;
+		DBConnBean dbConnBean = new DBConnBean(mospParams);
+		try {
+			MailBeanInterface mail = (MailBeanInterface)InstanceFactory.loadBean(MailBeanInterface.class, mospParams,
+					dbConnBean.getConnection());
+			nextSendTime = mail.getNextSendTime();
+		} finally {
+			dbConnBean.releaseConnection();
+		}
+		if (nextSendTime == null) {
+			return;
+		}
+		long delay = nextSendTime.getTime() - DateUtility.getSystemTimeAndSecond().getTime();
+		if (delay <= 0) {
+			delay = Math.max(1, mospParams.getApplicationProperty(PlatformMailConst.APP_MAIL_RETRY_INTERVAL,
+					PlatformMailConst.DEFAULT_MAIL_RETRY_INTERVAL)) * 1000L;
+		}
+		MospJobExecutor.schedule(mospParams, new RequestJob(mospParams), delay);
+	}
+	
+	
+	/**
+	 * 送信依頼ジョブクラス。<br>
+	 * 予約された時刻に、送信待ちのメールの送信を依頼する。<br>
+	 */
+	protected static class RequestJob implements Runnable {
+		
+		/**
+		 * MosP処理情報(ジョブ用)。
+		 */
+		private final MospParams	mospParams;
+		
+		
+		/**
+		 * 送信依頼ジョブを生成する。<br>
+		 * @param mospParams MosP処理情報(ジョブ用)
+		 */
+		protected RequestJob(MospParams mospParams) {
+			this.mospParams = mospParams;
+		}
+		
+		@Override
+		public void run() {
+			request(mospParams);
+		}
+		
+	}
+	
+}
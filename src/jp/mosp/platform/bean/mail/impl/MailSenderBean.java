@@ -100,6 +100,8 @@ public class MailSenderBean extends PlatformBean implements MailSenderBeanInterf
 	
 	@Override
 	public void setMessage(String[][] receiver, String title, String text, File file) throws MospException {
+		// 同じ接続で続けて送信できるようにメッセージ毎に生成
+		setMimeMessage();
 		setReceiver(receiver);
 		setAddresses();
 		setTitle(title);
@@ -136,6 +138,25 @@ public class MailSenderBean extends PlatformBean implements MailSenderBeanInterf
 		return isSend;
 	}
 	
+	@Override
+	public boolean openConnection() {
+		if (isConnected()) {
+			return true;
+		}
+		return createConnection();
+	}
+	
+	@Override
+	public void sendMessage() throws MospException {
+		// 接続が切れている場合は再接続
+		openConnection();
+		try {
+			transport.sendMessage(mimeMessage, addresses);
+		} catch (Throwable e) {
+			throw new MospException(e);
+		}
+	}
+	
 	/**
 	 * セッション取得
 	 */
@@ -152,7 +173,7 @@ public class MailSenderBean extends PlatformBean implements MailSenderBeanInterf
 		if (useSSL) {
 			props.setProperty(PlatformMailConst.SF_CLASS, SSLSocketFactory.class.getCanonicalName());
 			props.setProperty(PlatformMailConst.SF_FALLBACK, String.valueOf(false));
-			props.setProperty(PlatformMailConst.SF_PORT, PlatformMailConst.SSL_PORT_465);
+			props.setProperty(PlatformMailConst.SF_PORT, changeSMTPPort());
 		}
 		session = Session.getDefaultInstance(props, new MailAuth());
 	}
@@ -198,6 +219,11 @@ public class MailSenderBean extends PlatformBean implements MailSenderBeanInterf
 	 * @return ポート番号
 	 */
 	protected String changeSMTPPort() {
+		// メールポートが設定されている場合
+		int mailPort = mospParams.getApplicationProperty(PlatformMailConst.APP_MAIL_PORT, 0);
+		if (mailPort > 0) {
+			return String.valueOf(mailPort);
+		}
 		String port = PlatformMailConst.PORT_25;
 		if (useSSL) {
 			port = PlatformMailConst.SSL_PORT_465;
@@ -250,10 +276,8 @@ public class MailSenderBean extends PlatformBean implements MailSenderBeanInterf
 		return false;
 	}
 	
-	/**
-	 * メールサーバーとのConnectionを解除
-	 */
-	protected void closeConnection() {
+	@Override
+	public void closeConnection() {
 		try {
 			if (checkTransport()) {
 				transport.close();
@@ -279,6 +303,14 @@ public class MailSenderBean extends PlatformBean implements MailSenderBeanInterf
 		return transport != null;
 	}
 	
+	/**
+	 * メールサーバとの接続を確認する。
+	 * @return 接続している場合true、そうでない場合false
+	 */
+	protected boolean isConnected() {
+		return checkTransport() && transport.isConnected();
+	}
+	
 	/**
 	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
 	 */
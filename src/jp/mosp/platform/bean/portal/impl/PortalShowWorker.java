@@ -0,0 +1,127 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.bean.portal.impl;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jp.mosp.framework.base.DBConnBean;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.base.TopicPath;
+import jp.mosp.framework.instance.InstanceFactory;
+import jp.mosp.platform.bean.portal.PortalBeanInterface;
+import jp.mosp.platform.portal.vo.PortalVo;
+
+/**
+ * ポータルBean表示処理の並列実行単位。<br>
+ * <br>
+ * 専用のMosP処理情報、ポータルVO及びDBコネクションを用いてポータルBeanの表示処理を行い、
+ * 結果をポータル表示情報として返す。<br>
+ * 他の実行単位や呼出元と並列に実行することができる。<br>
+ * DBへの参照のみを行うポータルBeanに用いる。<br>
+ * <br>
+ * 実行開始前に呼出元が{@link #claim()}で処理を引き取った場合は、何もせずにnullを返す。<br>
+ */
+public class PortalShowWorker implements Callable<PortalSnapshot> {
+	
+	/**
+	 * MosP処理情報(専用)。<br>
+	 */
+	protected MospParams	mospParams;
+	
+	/**
+	 * ポータルBeanクラス名。<br>
+	 */
+	protected String		className;
+	
+	/**
+	 * 更新通番(実行単位生成時)。<br>
+	 */
+	protected long			sequence;
+	
+	/**
+	 * 実行開始済或いは引取済フラグ。<br>
+	 */
+	protected AtomicBoolean	claimed;
+	
+	
+	/**
+	 * ポータルBean表示処理の並列実行単位を生成する。<br>
+	 * @param mospParams MosP処理情報(専用)
+	 * @param className  ポータルBeanクラス名
+	 */
+	public PortalShowWorker(MospParams mospParams, String className) {
+		this.mospParams = mospParams;
+		this.className = className;
+		sequence = PortalSnapshotCache.getSequence();
+		claimed = new AtomicBoolean();
+	}
+	
+	/**
+	 * 処理を引き取る。<br>
+	 * 実行開始前であれば、以降実行されても何も処理しない。<br>
+	 * @return 確認結果(true：引き取った、false：既に実行を開始している)
+	 */
+	public boolean claim() {
+		return claimed.compareAndSet(false, true);
+	}
+	
+	@Override
+	public PortalSnapshot call() throws MospException {
+		// 呼出元が引き取った場合
+		if (claim() == false) {
+			return null;
+		}
+		// 専用のポータルVOをパンくずに設定(ポータルBeanはパンくずからVOを取得する)
+		PortalVo portalVo = new PortalVo();
+		TopicPath topicPath = new TopicPath();
+		topicPath.setId(PortalVo.class.getName());
+		topicPath.setVo(portalVo);
+		mospParams.getTopicPathList().add(topicPath);
+		// 表示処理前の汎用パラメータキーを取得
+		Set<String> formerKeySet = new HashSet<String>(mospParams.getGeneralParamKeySet());
+		// 専用のDBコネクションを取得
+		DBConnBean dbConnBean = new DBConnBean(mospParams);
+		try {
+			// 専用のポータルBeanを取得
+			PortalBeanInterface portalBean = (PortalBeanInterface)InstanceFactory.loadBean(className, mospParams,
+					dbConnBean.getConnection());
+			// 表示処理
+			portalBean.show();
+			// 表示処理で追加された汎用パラメータを取得
+			Map<String, Object> generalParams = new HashMap<String, Object>();
+			for (String key : mospParams.getGeneralParamKeySet()) {
+				if (formerKeySet.contains(key) == false) {
+					generalParams.put(key, mospParams.getGeneralParam(key));
+				}
+			}
+			// ポータル表示情報作成
+			return new PortalSnapshot(className, sequence, portalVo, generalParams, mospParams.getMessageList(),
+					mospParams.getErrorMessageList());
+		} finally {
+			// DBコネクション開放
+			dbConnBean.releaseConnection();
+		}
+	}
+	
+}
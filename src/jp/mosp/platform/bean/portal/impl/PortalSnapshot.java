@@ -0,0 +1,148 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.bean.portal.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.platform.portal.vo.PortalVo;
+
+/**
+ * ポータル表示情報。<br>
+ * <br>
+ * ポータルBeanの表示処理で設定された内容(ポータルパラメータ、ポータルJSP、
+ * 汎用パラメータ及びメッセージ)を保持する。<br>
+ * 別スレッドで実行した表示処理の結果を画面に反映するため、
+ * 及び{@link PortalSnapshotCache}で再利用するために用いる。<br>
+ * 一度作成した後は変更しない。<br>
+ */
+public class PortalSnapshot {
+	
+	/**
+	 * ポータルBeanクラス名。<br>
+	 */
+	protected String				className;
+	
+	/**
+	 * 作成開始時の更新通番(キャッシュ登録可否の判断に用いる)。<br>
+	 */
+	protected long					sequence;
+	
+	/**
+	 * 作成時刻(ミリ秒)。<br>
+	 */
+	protected long					createdTime;
+	
+	/**
+	 * ポータルパラメータ。<br>
+	 */
+	protected Map<String, String[]>	portalParameters;
+	
+	/**
+	 * ポータルJSPリスト。<br>
+	 */
+	protected List<String>			portalViewList;
+	
+	/**
+	 * 汎用パラメータ(表示処理で追加されたもの)。<br>
+	 */
+	protected Map<String, Object>	generalParams;
+	
+	/**
+	 * メッセージリスト。<br>
+	 */
+	protected List<String>			messageList;
+	
+	/**
+	 * エラーメッセージリスト。<br>
+	 */
+	protected List<String>			errorMessageList;
+	
+	
+	/**
+	 * ポータル表示情報を生成する。<br>
+	 * @param className        ポータルBeanクラス名
+	 * @param sequence         作成開始時の更新通番
+	 * @param portalVo         表示処理を行ったポータルVO
+	 * @param generalParams    表示処理で追加された汎用パラメータ
+	 * @param messageList      メッセージリスト
+	 * @param errorMessageList エラーメッセージリスト
+	 */
+	public PortalSnapshot(String className, long sequence, PortalVo portalVo, Map<String, Object> generalParams,
+			List<String> messageList, List<String> errorMessageList) {
+		this.className = className;
+		this.sequence = sequence;
+		createdTime = System.currentTimeMillis();
+		portalParameters = new HashMap<String, String[]>(portalVo.getPortalParameters());
+		portalViewList = new ArrayList<String>(portalVo.getPortalViewList());
+		this.generalParams = new HashMap<String, Object>(generalParams);
+		this.messageList = new ArrayList<String>(messageList);
+		this.errorMessageList = new ArrayList<String>(errorMessageList);
+	}
+	
+	/**
+	 * ポータル表示情報をMosP処理情報及びポータルVOに反映する。<br>
+	 * ポータルJSP及びメッセージは、既に設定されているものの後に追加する。<br>
+	 * 表示処理を呼出元で行った場合と同じ状態になる。<br>
+	 * @param mospParams MosP処理情報
+	 * @param portalVo   ポータルVO
+	 */
+	public void apply(MospParams mospParams, PortalVo portalVo) {
+		// ポータルパラメータ設定
+		for (Entry<String, String[]> entry : portalParameters.entrySet()) {
+			portalVo.putPortalParameters(entry.getKey(), entry.getValue());
+		}
+		// ポータルJSP追加
+		for (String view : portalViewList) {
+			portalVo.addPortalViewList(view);
+		}
+		// 汎用パラメータ設定
+		for (Entry<String, Object> entry : generalParams.entrySet()) {
+			mospParams.addGeneralParam(entry.getKey(), entry.getValue());
+		}
+		// メッセージ追加
+		mospParams.getMessageList().addAll(messageList);
+		mospParams.getErrorMessageList().addAll(errorMessageList);
+	}
+	
+	/**
+	 * @return className
+	 */
+	public String getClassName() {
+		return className;
+	}
+	
+	/**
+	 * @return sequence
+	 */
+	public long getSequence() {
+		return sequence;
+	}
+	
+	/**
+	 * @return createdTime
+	 */
+	public long getCreatedTime() {
+		return createdTime;
+	}
+	
+}
@@ -0,0 +1,235 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.bean.portal.impl;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import jp.mosp.framework.base.MospParams;
+
+/**
+ * ポータル表示情報キャッシュ。<br>
+ * <br>
+ * 個人ID毎に、ポータルBeanクラス毎のポータル表示情報を保持する。<br>
+ * 保持期間はMosPアプリケーション設定で指定し、0の場合はキャッシュしない。<br>
+ * 再表示やパンくずで戻ってきた際には、保持期間内であれば表示処理を行わずに再利用する。<br>
+ * <br>
+ * 勤怠の登録やワークフローの操作等で表示内容が変わる場合は、
+ * 登録処理側で{@link #invalidate(String)}或いは{@link #invalidateAll()}を呼び出す。<br>
+ * 破棄より前に作成を開始したポータル表示情報は、作成完了後もキャッシュしない。<br>
+ * 但し、破棄はコミット前に行われるため、その間に作成されたものは保持期間まで残り得る。<br>
+ * <br>
+ * 複数のアプリケーションサーバで同一DBを更新する場合は、保持期間を0とする。<br>
+ */
+public final class PortalSnapshotCache {
+	
+	/**
+	 * MosPアプリケーション設定キー(ポータル表示情報保持期間(秒))。
+	 */
+	public static final String										APP_PORTAL_SNAPSHOT_SECONDS	= "PortalSnapshotSeconds";
+	
+	/**
+	 * キャッシュ対象個人ID数上限(超えた場合は期限切れのものを破棄)。
+	 */
+	protected static final int										MAX_PERSONS					= 1000;
+	
+	/**
+	 * ポータル表示情報群(キー：個人ID、値：ポータルBeanクラス名毎のポータル表示情報)。
+	 */
+	private static final Map<String, Map<String, PortalSnapshot>>	CACHE						= new HashMap<String, Map<String, PortalSnapshot>>();
+	
+	/**
+	 * 個人ID毎の破棄時更新通番。
+	 */
+	private static final Map<String, Long>							INVALIDATED					= new HashMap<String, Long>();
+	
+	/**
+	 * 更新通番(破棄毎に増加)。
+	 */
+	private static long												sequence;
+	
+	/**
+	 * 全破棄時更新通番。
+	 */
+	private static long												clearedSequence;
+	
+	
+	/**
+	 * 他クラスからのインスタンス化を防止する。<br>
+	 */
+	private PortalSnapshotCache() {
+		// 処理無し
+	}
+	
+	/**
+	 * ポータル表示情報をキャッシュするかを確認する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 確認結果(true：キャッシュする、false：キャッシュしない)
+	 */
+	public static boolean isEnabled(MospParams mospParams) {
+		return getExpireMillis(mospParams) > 0L;
+	}
+	
+	/**
+	 * 現在の更新通番を取得する。<br>
+	 * ポータル表示情報の作成を開始する前に取得し、{@link PortalSnapshot}に設定する。<br>
+	 * @return 現在の更新通番
+	 */
+	public static synchronized long getSequence() {
+		return sequence;
+	}
+	
+	/**
+	 * キャッシュからポータル表示情報を取得する。<br>
+	 * 保持期間を過ぎている場合は破棄し、nullを返す。<br>
+	 * @param mospParams MosP処理情報
+	 * @param personalId 個人ID
+	 * @param className  ポータルBeanクラス名
+	 * @return ポータル表示情報(キャッシュされていない場合はnull)
+	 */
+	public static synchronized PortalSnapshot get(MospParams mospParams, String personalId, String className) {
+		// 保持期間取得
+		long expireMillis = getExpireMillis(mospParams);
+		// 個人IDのポータル表示情報群取得
+		Map<String, PortalSnapshot> map = CACHE.get(personalId);
+		if (expireMillis <= 0L || map == null) {
+			return null;
+		}
+		// ポータル表示情報取得
+		PortalSnapshot snapshot = map.get(className);
+		if (snapshot == null) {
+			return null;
+		}
+		// 保持期間確認
+		if (isExpired(snapshot, expireMillis)) {
+			map.remove(className);
+			return null;
+		}
+		return snapshot;
+	}
+	
+	/**
+	 * ポータル表示情報をキャッシュする。<br>
+	 * 作成開始後に対象個人IDの破棄が行われていた場合は、キャッシュしない。<br>
+	 * @param mospParams MosP処理情報
+	 * @param personalId 個人ID
+	 * @param snapshot   ポータル表示情報
+	 */
+	public static synchronized void put(MospParams mospParams, String personalId, PortalSnapshot snapshot) {
+		// 保持期間取得
+		long expireMillis = getExpireMillis(mospParams);
+		if (expireMillis <= 0L) {
+			return;
+		}
+		// 作成開始後に破棄が行われていた場合
+		Long invalidated = INVALIDATED.get(personalId);
+		if (snapshot.getSequence() < clearedSequence
+				|| (invalidated != null && snapshot.getSequence() < invalidated.longValue())) {
+			return;
+		}
+		// 上限確認
+		if (CACHE.size() >= MAX_PERSONS && CACHE.containsKey(personalId) == false) {
+			purge(expireMillis);
+			// 全て破棄された場合
+			if (snapshot.getSequence() < clearedSequence) {
+				return;
+			}
+		}
+		// 個人IDのポータル表示情報群取得
+		Map<String, PortalSnapshot> map = CACHE.get(personalId);
+		if (map == null) {
+			map = new HashMap<String, PortalSnapshot>();
+			CACHE.put(personalId, map);
+		}
+		map.put(snapshot.getClassName(), snapshot);
+	}
+	
+	/**
+	 * 対象個人IDのポータル表示情報を破棄する。<br>
+	 * @param personalId 個人ID
+	 */
+	public static synchronized void invalidate(String personalId) {
+		// 破棄時更新通番が上限を超える場合
+		if (INVALIDATED.size() >= MAX_PERSONS && INVALIDATED.containsKey(personalId) == false) {
+			// 全て破棄
+			invalidateAll();
+			return;
+		}
+		// 更新通番を進めて記録
+		INVALIDATED.put(personalId, Long.valueOf(++sequence));
+		CACHE.remove(personalId);
+	}
+	
+	/**
+	 * 全てのポータル表示情報を破棄する。<br>
+	 */
+	public static synchronized void invalidateAll() {
+		// 更新通番を進めて記録
+		clearedSequence = ++sequence;
+		INVALIDATED.clear();
+		CACHE.clear();
+	}
+	
+	/**
+	 * 保持期間を過ぎたポータル表示情報を破棄する。<br>
+	 * それでも上限を超えている場合は、全て破棄する。<br>
+	 * @param expireMillis 保持期間(ミリ秒)
+	 */
+	private static void purge(long expireMillis) {
+		// 個人ID毎に処理
+		Iterator<Map<String, PortalSnapshot>> personIterator = CACHE.values().iterator();
+		while (personIterator.hasNext()) {
+			Map<String, PortalSnapshot> map = personIterator.next();
+			// 保持期間を過ぎたものを破棄
+			Iterator<PortalSnapshot> iterator = map.values().iterator();
+			while (iterator.hasNext()) {
+				if (isExpired(iterator.next(), expireMillis)) {
+					iterator.remove();
+				}
+			}
+			if (map.isEmpty()) {
+				personIterator.remove();
+			}
+		}
+		// 上限確認
+		if (CACHE.size() >= MAX_PERSONS) {
+			invalidateAll();
+		}
+	}
+	
+	/**
+	 * ポータル表示情報が保持期間を過ぎているかを確認する。<br>
+	 * @param snapshot     ポータル表示情報
+	 * @param expireMillis 保持期間(ミリ秒)
+	 * @return 確認結果(true：過ぎている、false：過ぎていない)
+	 */
+	private static boolean isExpired(PortalSnapshot snapshot, long expireMillis) {
+		return System.currentTimeMillis() - snapshot.getCreatedTime() > expireMillis;
+	}
+	
+	/**
+	 * MosPアプリケーション設定から保持期間(ミリ秒)を取得する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 保持期間(ミリ秒)
+	 */
+	private static long getExpireMillis(MospParams mospParams) {
+		return mospParams.getApplicationProperty(APP_PORTAL_SNAPSHOT_SECONDS, 0) * 1000L;
+	}
+	
+}
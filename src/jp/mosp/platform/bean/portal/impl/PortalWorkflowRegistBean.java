@@ -0,0 +1,88 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.bean.portal.impl;
+
+import java.sql.Connection;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.platform.base.PlatformBean;
+import jp.mosp.platform.bean.workflow.ExtraWorkflowRegistBeanInterface;
+import jp.mosp.platform.dto.workflow.WorkflowDtoInterface;
+
+/**
+ * ポータル用ワークフロー登録追加クラス。<br>
+ * ワークフロー情報の登録及び削除時に、
+ * 表示内容が変わるポータル表示情報をキャッシュから破棄する。<br>
+ * <br>
+ * 申請者、操作者及び承認者個人IDで指定された承認者のポータル表示情報を破棄する。<br>
+ * 承認者がルートで指定されている場合は、承認者を特定せずに全て破棄する。<br>
+ * 代理承認者のポータル表示情報は、保持期間を過ぎるまで残り得る。<br>
+ */
+public class PortalWorkflowRegistBean extends PlatformBean implements ExtraWorkflowRegistBeanInterface {
+	
+	/**
+	 * {@link PlatformBean#PlatformBean()}を実行する。<br>
+	 */
+	public PortalWorkflowRegistBean() {
+		super();
+	}
+	
+	/**
+	 * {@link PlatformBean#PlatformBean(MospParams, Connection)}を実行する。<br>
+	 * @param mospParams MosPパラメータクラス
+	 * @param connection DBコネクション
+	 */
+	public PortalWorkflowRegistBean(MospParams mospParams, Connection connection) {
+		super(mospParams, connection);
+	}
+	
+	@Override
+	public void initBean() {
+		// 処理無し
+	}
+	
+	@Override
+	public void regist(WorkflowDtoInterface dto) throws MospException {
+		// ポータル表示情報をキャッシュしない場合
+		if (PortalSnapshotCache.isEnabled(mospParams) == false) {
+			return;
+		}
+		// 承認者がルートで指定されている場合
+		if (dto.getRouteCode() != null && dto.getRouteCode().isEmpty() == false) {
+			// 全て破棄
+			PortalSnapshotCache.invalidateAll();
+			return;
+		}
+		// 申請者のポータル表示情報を破棄
+		PortalSnapshotCache.invalidate(dto.getPersonalId());
+		// 操作者のポータル表示情報を破棄
+		if (mospParams.getUser() != null) {
+			PortalSnapshotCache.invalidate(mospParams.getUser().getPersonalId());
+		}
+		// 承認者個人ID確認
+		if (dto.getApproverId() == null || dto.getApproverId().isEmpty()) {
+			return;
+		}
+		// 承認者のポータル表示情報を破棄
+		for (String approverId : split(dto.getApproverId(), SEPARATOR_DATA)) {
+			PortalSnapshotCache.invalidate(approverId);
+		}
+	}
+	
+}
@@ -0,0 +1,44 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.bean.system;
+
+import jp.mosp.framework.base.BaseBeanInterface;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+
+/**
+ * ジョブインターフェース。<br>
+ * <br>
+ * {@link JobRegistBeanInterface#submit(String, Class, String...)}で受け付けられ、
+ * リクエストスレッドとは別のスレッドで実行される処理。<br>
+ * <br>
+ * 処理結果としてファイルを出力する場合は、同期処理と同様に
+ * {@link MospParams#setFile(Object)}及び{@link MospParams#setFileName(String)}で設定する。<br>
+ * エラーメッセージを設定した場合は異常終了となり、DBへの登録内容は破棄される。<br>
+ */
+public interface JobBeanInterface extends BaseBeanInterface {
+	
+	/**
+	 * ジョブを実行する。<br>
+	 * @param progress   ジョブ進捗
+	 * @param parameters ジョブパラメータ
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	void execute(JobProgressInterface progress, String... parameters) throws MospException;
+	
+}
@@ -0,0 +1,46 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.bean.system;
+
+import jp.mosp.framework.base.MospException;
+
+/**
+ * ジョブ進捗インターフェース。<br>
+ * <br>
+ * 実行中のジョブが、進捗率及びメッセージを通知するために用いる。<br>
+ * 通知された内容は、ジョブのDBコネクションとは別のコネクションで即時に登録される。<br>
+ */
+public interface JobProgressInterface {
+	
+	/**
+	 * 進捗を通知する。<br>
+	 * 進捗率(百分率)が変わらない場合は、登録しない。<br>
+	 * @param count 処理済件数
+	 * @param total 全件数
+	 * @throws MospException SQL実行に失敗した場合
+	 */
+	void setProgress(int count, int total) throws MospException;
+	
+	/**
+	 * メッセージを通知する。<br>
+	 * @param message メッセージ
+	 * @throws MospException SQL実行に失敗した場合
+	 */
+	void setMessage(String message) throws MospException;
+	
+}
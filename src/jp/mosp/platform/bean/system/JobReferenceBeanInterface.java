@@ -0,0 +1,65 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.bean.system;
+
+import java.util.List;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.platform.dto.system.JobDtoInterface;
+
+/**
+ * ジョブ参照インターフェース。
+ */
+public interface JobReferenceBeanInterface {
+	
+	/**
+	 * ジョブ情報を取得する。<br>
+	 * ログインユーザが登録したジョブでない場合は、nullを返す。<br>
+	 * @param jobId ジョブID
+	 * @return ジョブ情報
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	JobDtoInterface findForKey(long jobId) throws MospException;
+	
+	/**
+	 * ジョブ情報(状況確認用)を取得する。<br>
+	 * 結果ファイルは取得せず、結果ファイル有無のみを設定する。<br>
+	 * ログインユーザが登録したジョブでない場合は、nullを返す。<br>
+	 * @param jobId ジョブID
+	 * @return ジョブ情報(結果ファイル無し)
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	JobDtoInterface findForStatus(long jobId) throws MospException;
+	
+	/**
+	 * ログインユーザが登録したジョブ情報リストを取得する。<br>
+	 * ジョブIDの降順で取得する。結果ファイルは取得しない。<br>
+	 * @return ジョブ情報リスト
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	List<JobDtoInterface> getJobList() throws MospException;
+	
+	/**
+	 * ジョブが終了しているかを確認する。<br>
+	 * 実行待或いは実行中のまま中断された(アプリケーションの再起動等)ジョブも、終了しているとみなす。<br>
+	 * @param dto 対象ジョブ情報
+	 * @return 確認結果(true：終了している、false：終了していない)
+	 */
+	boolean isFinished(JobDtoInterface dto);
+	
+}
@@ -0,0 +1,62 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.bean.system;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.platform.dto.system.JobDtoInterface;
+
+/**
+ * ジョブ登録インターフェース。
+ */
+public interface JobRegistBeanInterface {
+	
+	/**
+	 * 登録用DTOを取得する。<br>
+	 * @return 初期DTO
+	 */
+	JobDtoInterface getInitDto();
+	
+	/**
+	 * ジョブを受け付ける。<br>
+	 * <br>
+	 * ジョブ情報を実行待として登録(コミット)した後、ジョブ実行スレッドに渡す。<br>
+	 * ジョブの終了を待たずに、ジョブIDを返す。<br>
+	 * 実行待上限数を超えていた場合は、ジョブを異常終了とし、エラーメッセージを設定する。<br>
+	 * @param jobName    ジョブ名称
+	 * @param cls        ジョブクラス({@link JobBeanInterface}を実装したクラス或いはそのインターフェース)
+	 * @param parameters ジョブパラメータ
+	 * @return ジョブID
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	long submit(String jobName, Class<?> cls, String... parameters) throws MospException;
+	
+	/**
+	 * 新規登録を行う。<br>
+	 * @param dto 対象DTO
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	void insert(JobDtoInterface dto) throws MospException;
+	
+	/**
+	 * 更新を行う。<br>
+	 * @param dto 対象DTO
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	void update(JobDtoInterface dto) throws MospException;
+	
+}
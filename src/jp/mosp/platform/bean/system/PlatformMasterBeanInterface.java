@@ -61,6 +61,21 @@ public interface PlatformMasterBeanInterface {
 	RouteApplicationDtoInterface getRouteApplication(String personalId, Date targetDate, int workflowType)
 			throws MospException;
 	
+	/**
+	 * 対象日時点における最新の有効な情報から、
+	 * 対象ルート群の何れかが適用されている申請者の個人ID群を取得する。<br>
+	 * <br>
+	 * ルート別の申請者個人ID群はマスタキャッシュに保持され、
+	 * ルート適用情報或いは人事情報が更新されるまで再利用される。<br>
+	 * <br>
+	 * @param routeSet     ルートコード群
+	 * @param targetDate   対象日
+	 * @param workflowType フロー区分
+	 * @return 申請者個人ID群
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	Set<String> getApplicantSet(Set<String> routeSet, Date targetDate, int workflowType) throws MospException;
+	
 	/**
 	 * 人事情報を取得する。<br>
 	 * <br>
@@ -0,0 +1,63 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.bean.system;
+
+import java.util.List;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.platform.dto.system.SectionClosureDtoInterface;
+import jp.mosp.platform.dto.system.SectionDtoInterface;
+
+/**
+ * 所属階層閉包登録インターフェース。<br>
+ */
+public interface SectionClosureRegistBeanInterface {
+	
+	/**
+	 * 所属階層閉包を利用するかを確認する。<br>
+	 * @return 確認結果(true：利用する、false：利用しない)
+	 */
+	boolean isAvailable();
+	
+	/**
+	 * 所属コードの所属階層閉包を再作成する。<br>
+	 * 所属マスタの履歴(削除されていないもの)から算出し、既存の情報を置き換える。<br>
+	 * @param sectionCode 所属コード
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	void regist(String sectionCode) throws MospException;
+	
+	/**
+	 * 所属コードの所属階層閉包が、所属マスタの履歴から算出したものと一致するかを確認する。<br>
+	 * @param sectionCode 所属コード
+	 * @return 確認結果(true：一致する、false：一致しない)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	boolean verify(String sectionCode) throws MospException;
+	
+	/**
+	 * 所属マスタの履歴から所属階層閉包情報リストを算出する。<br>
+	 * 履歴毎に、自身(階層差0)及び階層経路上の上位所属の情報を作成する。<br>
+	 * 終了日は次の履歴の有効日の前日とし、最新の履歴はnullとする。<br>
+	 * @param historyList 所属マスタ履歴(有効日昇順)
+	 * @return 所属階層閉包情報リスト(有効日、階層差の昇順)
+	 * @throws MospException インスタンスの取得に失敗した場合
+	 */
+	List<SectionClosureDtoInterface> calculate(List<SectionDtoInterface> historyList) throws MospException;
+	
+}
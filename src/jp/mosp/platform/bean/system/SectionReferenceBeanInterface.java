@@ -19,8 +19,10 @@ package jp.mosp.platform.bean.system;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 
 import jp.mosp.framework.base.MospException;
+import jp.mosp.platform.dao.system.SectionDaoInterface;
 import jp.mosp.platform.dto.system.SectionDtoInterface;
 
 /**
@@ -226,4 +228,28 @@ public interface SectionReferenceBeanInterface {
 	 */
 	String[] getClassRouteArray(SectionDtoInterface dto);
 	
+	/**
+	 * 対象日における下位所属コード群(対象所属を含む)を取得する。<br>
+	 * 下位所属条件SQL({@link SectionDaoInterface#getQueryForLowerSection(String)})と同じく、
+	 * 対象所属以外は閉鎖されていない所属のみとする。<br>
+	 * 対象日における所属の階層をマスタキャッシュに保持し、DBにアクセスすることなく取得する。<br>
+	 * 取得した所属コード群は変更できない。<br>
+	 * @param sectionCode 対象所属コード
+	 * @param targetDate  対象年月日
+	 * @return 下位所属コード群
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	Set<String> getLowerSectionCodeSet(String sectionCode, Date targetDate) throws MospException;
+	
+	/**
+	 * 対象日において、所属が上位所属(自身を含む)の下位所属であるかを確認する。<br>
+	 * 詳細は、{@link #getLowerSectionCodeSet(String, Date)}参照。<br>
+	 * @param sectionCode      所属コード
+	 * @param upperSectionCode 上位所属コード
+	 * @param targetDate       対象年月日
+	 * @return 確認結果(true：下位所属である、false：下位所属でない)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	boolean isLowerSection(String sectionCode, String upperSectionCode, Date targetDate) throws MospException;
+	
 }
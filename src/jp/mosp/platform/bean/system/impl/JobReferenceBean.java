@@ -0,0 +1,100 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.bean.system.impl;
+
+import java.sql.Connection;
+import java.util.List;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.platform.base.PlatformBean;
+import jp.mosp.platform.bean.system.JobReferenceBeanInterface;
+import jp.mosp.platform.constant.PlatformConst;
+import jp.mosp.platform.dao.system.JobDaoInterface;
+import jp.mosp.platform.dto.system.JobDtoInterface;
+
+/**
+ * ジョブ参照クラス。
+ */
+public class JobReferenceBean extends PlatformBean implements JobReferenceBeanInterface {
+	
+	/**
+	 * ジョブDAO。
+	 */
+	protected JobDaoInterface	dao;
+	
+	
+	/**
+	 * {@link PlatformBean#PlatformBean()}を実行する。<br>
+	 */
+	public JobReferenceBean() {
+		super();
+	}
+	
+	/**
+	 * {@link PlatformBean#PlatformBean(MospParams, Connection)}を実行する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param connection DBコネクション
+	 */
+	protected JobReferenceBean(MospParams mospParams, Connection connection) {
+		super(mospParams, connection);
+	}
+	
+	@Override
+	public void initBean() throws MospException {
+		dao = (JobDaoInterface)createDao(JobDaoInterface.class);
+	}
+	
+	@Override
+	public JobDtoInterface findForKey(long jobId) throws MospException {
+		JobDtoInterface dto = dao.findForKey(jobId);
+		// ログインユーザが登録したジョブでない場合
+		if (dto == null || dto.getUserId().equals(mospParams.getUser().getUserId()) == false) {
+			return null;
+		}
+		return dto;
+	}
+	
+	@Override
+	public JobDtoInterface findForStatus(long jobId) throws MospException {
+		JobDtoInterface dto = dao.findForStatus(jobId);
+		// ログインユーザが登録したジョブでない場合
+		if (dto == null || dto.getUserId().equals(mospParams.getUser().getUserId()) == false) {
+			return null;
+		}
+		return dto;
+	}
+	
+	@Override
+	public List<JobDtoInterface> getJobList() throws MospException {
+		return dao.findForUser(mospParams.getUser().getUserId());
+	}
+	
+	@Override
+	public boolean isFinished(JobDtoInterface dto) {
+		// ジョブ状態確認
+		String status = dto.getJobStatus();
+		if (PlatformConst.CODE_JOB_STATUS_WAITING.equals(status) == false
+				&& PlatformConst.CODE_JOB_STATUS_RUNNING.equals(status) == false) {
+			return true;
+		}
+		// ジョブ実行スレッドが保持していない場合(中断された場合)
+		return JobRunner.isAccepted(dto.getPftJobId()) == false;
+	}
+	
+}
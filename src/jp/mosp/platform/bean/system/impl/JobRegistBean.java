@@ -0,0 +1,135 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.bean.system.impl;
+
+import java.sql.Connection;
+
+import jp.mosp.framework.base.DBConnBean;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospJobExecutor;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.instance.InstanceFactory;
+import jp.mosp.framework.utils.LogUtility;
+import jp.mosp.framework.utils.MospUtility;
+import jp.mosp.platform.base.PlatformBean;
+import jp.mosp.platform.bean.system.JobRegistBeanInterface;
+import jp.mosp.platform.constant.PlatformConst;
+import jp.mosp.platform.constant.PlatformMessageConst;
+import jp.mosp.platform.dao.system.JobDaoInterface;
+import jp.mosp.platform.dto.system.JobDtoInterface;
+import jp.mosp.platform.dto.system.impl.PftJobDto;
+
+/**
+ * ジョブ登録クラス。
+ */
+public class JobRegistBean extends PlatformBean implements JobRegistBeanInterface {
+	
+	/**
+	 * ジョブパラメータ区切文字。<br>
+	 */
+	public static final String	SEPARATOR_PARAMETER	= "\t";
+	
+	/**
+	 * ジョブDAO。
+	 */
+	protected JobDaoInterface	dao;
+	
+	
+	/**
+	 * {@link PlatformBean#PlatformBean()}を実行する。<br>
+	 */
+	public JobRegistBean() {
+		super();
+	}
+	
+	/**
+	 * {@link PlatformBean#PlatformBean(MospParams, Connection)}を実行する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param connection DBコネクション
+	 */
+	protected JobRegistBean(MospParams mospParams, Connection connection) {
+		super(mospParams, connection);
+	}
+	
+	@Override
+	public void initBean() throws MospException {
+		dao = (JobDaoInterface)createDao(JobDaoInterface.class);
+	}
+	
+	@Override
+	public JobDtoInterface getInitDto() {
+		return new PftJobDto();
+	}
+	
+	@Override
+	public long submit(String jobName, Class<?> cls, String... parameters) throws MospException {
+		// ジョブクラス名取得(インターフェースの場合はモデル設定から取得)
+		String jobClass = cls.getName();
+		if (cls.isInterface()) {
+			jobClass = MospUtility.getModelClass(cls, mospParams.getProperties(), null);
+		}
+		// ジョブ情報準備
+		JobDtoInterface dto = getInitDto();
+		dto.setUserId(mospParams.getUser().getUserId());
+		dto.setJobName(jobName);
+		dto.setJobClass(jobClass);
+		dto.setJobParameter(toSeparatedString(parameters, SEPARATOR_PARAMETER));
+		dto.setJobStatus(PlatformConst.CODE_JOB_STATUS_WAITING);
+		dto.setProgress(0);
+		// ジョブ情報を登録(ジョブ実行スレッドから参照できるように専用のDBコネクションでコミット)
+		DBConnBean dbConnBean = new DBConnBean(mospParams);
+		try {
+			JobRegistBeanInterface regist = (JobRegistBeanInterface)InstanceFactory.loadBean(
+					JobRegistBeanInterface.class, mospParams, dbConnBean.getConnection());
+			regist.insert(dto);
+			dbConnBean.commit();
+			// ジョブ実行スレッドに渡す
+			JobRunner runner = new JobRunner(mospParams.createJobParams(), dto);
+			try {
+				MospJobExecutor.execute(mospParams, runner);
+			} catch (MospException e) {
+				// 実行待上限数を超えた場合
+				LogUtility.error(mospParams, e);
+				runner.release();
+				dto.setJobStatus(PlatformConst.CODE_JOB_STATUS_FAILED);
+				dto.setEndTime(getSystemTimeAndSecond());
+				regist.update(dto);
+				dbConnBean.commit();
+				mospParams.addErrorMessage(PlatformMessageConst.MSG_JOB_REJECTED, jobName);
+			}
+		} finally {
+			dbConnBean.releaseConnection();
+		}
+		return dto.getPftJobId();
+	}
+	
+	@Override
+	public void insert(JobDtoInterface dto) throws MospException {
+		// レコード識別ID最大値をインクリメントしてDTOに設定
+		dto.setPftJobId(dao.nextRecordId());
+		// 登録処理
+		dao.insert(dto);
+	}
+	
+	@Override
+	public void update(JobDtoInterface dto) throws MospException {
+		// 更新処理
+		dao.update(dto);
+	}
+	
+}
@@ -0,0 +1,263 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.bean.system.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import jp.mosp.framework.base.DBConnBean;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.constant.ExceptionConst;
+import jp.mosp.framework.constant.MospConst;
+import jp.mosp.framework.exporter.TextContents;
+import jp.mosp.framework.instance.InstanceFactory;
+import jp.mosp.framework.utils.DateUtility;
+import jp.mosp.framework.utils.LogUtility;
+import jp.mosp.framework.utils.MospUtility;
+import jp.mosp.orangesignal.OrangeSignalParams;
+import jp.mosp.orangesignal.OrangeSignalUtility;
+import jp.mosp.platform.bean.system.JobBeanInterface;
+import jp.mosp.platform.bean.system.JobProgressInterface;
+import jp.mosp.platform.bean.system.JobRegistBeanInterface;
+import jp.mosp.platform.constant.PlatformConst;
+import jp.mosp.platform.dto.system.JobDtoInterface;
+import jp.sf.orangesignal.csv.Csv;
+import jp.sf.orangesignal.csv.handlers.StringArrayListHandler;
+
+/**
+ * ジョブ実行クラス。<br>
+ * <br>
+ * ジョブ実行スレッドで、受け付けたジョブを実行し、ジョブ情報を更新する。<br>
+ * ジョブ情報(状態、進捗)は、ジョブの処理とは別のDBコネクションで都度コミットするため、
+ * 実行中であっても他のリクエストから参照することができる。<br>
+ * ジョブの処理は、正常終了した場合にのみコミットする。<br>
+ * <br>
+ * ジョブが設定したファイルはバイト配列に変換し、結果ファイルとして登録する。<br>
+ */
+public class JobRunner implements Runnable, JobProgressInterface {
+	
+	/**
+	 * 受付済ジョブID群(実行待及び実行中)。<br>
+	 * アプリケーションの再起動等で中断されたジョブを判別するために用いる。<br>
+	 */
+	protected static final Set<Long>	ACCEPTED_JOBS	= Collections.synchronizedSet(new HashSet<Long>());
+	
+	/**
+	 * MosP処理情報(ジョブ用)。<br>
+	 */
+	protected MospParams				mospParams;
+	
+	/**
+	 * ジョブ情報。<br>
+	 */
+	protected JobDtoInterface			dto;
+	
+	/**
+	 * ジョブ登録クラス(ジョブ情報更新用DBコネクション)。<br>
+	 */
+	protected JobRegistBeanInterface	regist;
+	
+	/**
+	 * ジョブ情報更新用DBコネクション。<br>
+	 */
+	protected DBConnBean				statusConnBean;
+	
+	
+	/**
+	 * ジョブ実行クラスを生成し、受付済とする。<br>
+	 * @param mospParams MosP処理情報(ジョブ用)
+	 * @param dto        ジョブ情報
+	 */
+	public JobRunner(MospParams mospParams, JobDtoInterface dto) {
+		this.mospParams = mospParams;
+		this.dto = dto;
+		ACCEPTED_JOBS.add(dto.getPftJobId());
+	}
+	
+	/**
+	 * 受付済であるかを確認する。<br>
+	 * @param jobId ジョブID
+	 * @return 確認結果(true：受付済、false：受付済でない)
+	 */
+	public static boolean isAccepted(long jobId) {
+		return ACCEPTED_JOBS.contains(jobId);
+	}
+	
+	/**
+	 * 受付済を解除する。<br>
+	 */
+	public void release() {
+		ACCEPTED_JOBS.remove(dto.getPftJobId());
+	}
+	
+	@Override
+	public void run() {
+		try {
+			execute();
+		} catch (Throwable e) {
+			LogUtility.error(mospParams, e);
+		} finally {
+			release();
+		}
+	}
+	
+	/**
+	 * ジョブを実行する。<br>
+	 * @throws MospException ジョブ情報の更新に失敗した場合
+	 */
+	protected void execute() throws MospException {
+		statusConnBean = new DBConnBean(mospParams);
+		DBConnBean jobConnBean = null;
+		try {
+			regist = (JobRegistBeanInterface)InstanceFactory.loadBean(JobRegistBeanInterface.class, mospParams,
+					statusConnBean.getConnection());
+			// 実行中に更新
+			dto.setJobStatus(PlatformConst.CODE_JOB_STATUS_RUNNING);
+			dto.setStartTime(DateUtility.getSystemTimeAndSecond());
+			updateStatus();
+			try {
+				// ジョブ処理用DBコネクション取得
+				jobConnBean = new DBConnBean(mospParams);
+				// ジョブを実行
+				JobBeanInterface job = (JobBeanInterface)InstanceFactory.loadBean(dto.getJobClass(), mospParams,
+						jobConnBean.getConnection());
+				job.execute(this, getParameters());
+				// エラーメッセージが無い場合はコミット
+				if (mospParams.hasErrorMessage() == false) {
+					jobConnBean.commit();
+				}
+			} catch (Throwable e) {
+				// ジョブの処理で例外が発生した場合
+				LogUtility.error(mospParams, e);
+				mospParams.addErrorMessage(ExceptionConst.EX_RUNTIME);
+			}
+			// 結果ファイル設定
+			setResultFile();
+			// 終了状態に更新
+			if (mospParams.hasErrorMessage()) {
+				dto.setJobStatus(PlatformConst.CODE_JOB_STATUS_FAILED);
+				dto.setJobMessage(toMessage(mospParams.getErrorMessageList()));
+			} else {
+				dto.setJobStatus(PlatformConst.CODE_JOB_STATUS_COMPLETED);
+				dto.setProgress(100);
+				dto.setJobMessage(toMessage(mospParams.getMessageList()));
+			}
+			dto.setEndTime(DateUtility.getSystemTimeAndSecond());
+			updateStatus();
+		} finally {
+			// DBコネクション開放(コミットしていない処理はロールバック)
+			if (jobConnBean != null) {
+				jobConnBean.releaseConnection();
+			}
+			statusConnBean.releaseConnection();
+		}
+	}
+	
+	@Override
+	public void setProgress(int count, int total) throws MospException {
+		// 進捗率(百分率)取得(終了状態更新時に100とするため、99を上限とする)
+		int progress = total <= 0 ? 0 : Math.min(99, (int)(count * 100L / total));
+		// 進捗率が変わらない場合は登録しない
+		if (progress == dto.getProgress()) {
+			return;
+		}
+		dto.setProgress(progress);
+		updateStatus();
+	}
+	
+	@Override
+	public void setMessage(String message) throws MospException {
+		dto.setJobMessage(message);
+		updateStatus();
+	}
+	
+	/**
+	 * ジョブ情報を更新し、コミットする。<br>
+	 * @throws MospException SQL実行に失敗した場合
+	 */
+	protected void updateStatus() throws MospException {
+		regist.update(dto);
+		statusConnBean.commit();
+	}
+	
+	/**
+	 * ジョブパラメータを取得する。<br>
+	 * @return ジョブパラメータ
+	 */
+	protected String[] getParameters() {
+		if (dto.getJobParameter() == null) {
+			return new String[0];
+		}
+		return MospUtility.split(dto.getJobParameter(), JobRegistBean.SEPARATOR_PARAMETER);
+	}
+	
+	/**
+	 * ジョブが設定したファイルをバイト配列に変換し、結果ファイルとしてジョブ情報に設定する。<br>
+	 * @throws MospException ファイルの変換に失敗した場合
+	 */
+	protected void setResultFile() throws MospException {
+		Object file = mospParams.getFile();
+		if (file == null) {
+			return;
+		}
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try {
+			if (file instanceof OrangeSignalParams) {
+				// CSV
+				OrangeSignalParams orangeParams = (OrangeSignalParams)file;
+				String encoding = orangeParams.getEncoding() != null ? orangeParams.getEncoding() : "MS932";
+				Csv.save(orangeParams.getCsvDataList(), out, encoding, OrangeSignalUtility.getCsvConfig(orangeParams),
+						new StringArrayListHandler());
+			} else if (file instanceof InputStream) {
+				// バイナリ
+				InputStream in = (InputStream)file;
+				byte[] data = new byte[MospConst.PROCESS_BYTES];
+				int len;
+				while ((len = in.read(data, 0, MospConst.PROCESS_BYTES)) != -1) {
+					out.write(data, 0, len);
+				}
+				in.close();
+			} else if (file instanceof TextContents) {
+				// テキスト
+				TextContents text = (TextContents)file;
+				out.write(text.getContents().getBytes(text.getEncoding()));
+			} else {
+				out.write(MospUtility.getBytes(file.toString()));
+			}
+		} catch (Exception e) {
+			throw new MospException(e, ExceptionConst.EX_FAIL_OUTPUT_FILE, null);
+		}
+		dto.setResultFileName(mospParams.getFileName());
+		dto.setResultFile(out.toByteArray());
+	}
+	
+	/**
+	 * メッセージリストを改行で連結する。<br>
+	 * @param list メッセージリスト
+	 * @return 連結したメッセージ
+	 */
+	protected String toMessage(List<String> list) {
+		return MospUtility.toSeparatedString(MospUtility.toArray(list), "\n");
+	}
+	
+}
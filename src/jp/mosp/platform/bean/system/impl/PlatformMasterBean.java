@@ -18,6 +18,7 @@
 package jp.mosp.platform.bean.system.impl;
 
 import java.sql.Connection;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -26,6 +27,7 @@ import java.util.Map;
 import java.util.Set;
 
 import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospMasterCache;
 import jp.mosp.framework.base.MospParams;
 import jp.mosp.platform.base.PlatformBean;
 import jp.mosp.platform.bean.system.PlatformMasterBeanInterface;
@@ -52,9 +54,26 @@ import jp.mosp.platform.utils.PlatformUtility;
  * DBにアクセスする回数が減る分メモリを使うことになるため、
  * 保持する情報の量に応じてメモリを調整する必要がある。<br>
  * <br>
+ * DBから取得した情報は{@link MospMasterCache}にも保持し、リクエストを跨いで再利用する。<br>
+ * <br>
  */
 public class PlatformMasterBean extends PlatformBean implements PlatformMasterBeanInterface {
 	
+	/**
+	 * マスタキャッシュ名(ルート適用情報リスト、キー：対象日)。<br>
+	 */
+	protected static final String							CACHE_ROUTE_APPLICATION	= "PlatformMasterBean.routeApplication";
+	
+	/**
+	 * マスタキャッシュ名(人事情報履歴、キー：個人ID)。<br>
+	 */
+	protected static final String							CACHE_HUMAN				= "PlatformMasterBean.human";
+	
+	/**
+	 * マスタキャッシュ名(ルート別申請者個人ID群、キー：対象日及びフロー区分)。<br>
+	 */
+	protected static final String							CACHE_APPLICANT_INDEX	= "PlatformMasterBean.applicantIndex";
+	
 	/**
 	 * ルート適用マスタDAOクラス。<br>
 	 */
@@ -88,6 +107,24 @@ public class PlatformMasterBean extends PlatformBean implements PlatformMasterBe
 	 */
 	protected Map<String, List<HumanDtoInterface>>			humanMap;
 	
+	/**
+	 * マスタキャッシュ(ルート適用情報リスト)。<br>
+	 */
+	protected MospMasterCache								routeApplicationCache;
+	
+	/**
+	 * マスタキャッシュ(人事情報履歴)。<br>
+	 */
+	protected MospMasterCache								humanCache;
+	
+	/**
+	 * マスタキャッシュ(ルート別申請者個人ID群)。<br>
+	 * <br>
+	 * ルート適用情報及び人事情報が更新されると破棄される。<br>
+	 * <br>
+	 */
+	protected MospMasterCache								applicantIndexCache;
+	
 	
 	/**
 	 * {@link PlatformBean#PlatformBean()}を実行する。<br>
@@ -114,6 +151,10 @@ public class PlatformMasterBean extends PlatformBean implements PlatformMasterBe
 		applicationPersonMap = new HashMap<Date, Set<RouteApplicationDtoInterface>>();
 		applicationMasterMap = new HashMap<Date, Set<RouteApplicationDtoInterface>>();
 		humanMap = new HashMap<String, List<HumanDtoInterface>>();
+		// マスタキャッシュの準備
+		routeApplicationCache = getMasterCache(CACHE_ROUTE_APPLICATION, routeApplicationDao);
+		humanCache = getMasterCache(CACHE_HUMAN, humanDao);
+		applicantIndexCache = getMasterCache(CACHE_APPLICANT_INDEX, routeApplicationDao, humanDao);
 	}
 	
 	@Override
@@ -135,6 +176,88 @@ public class PlatformMasterBean extends PlatformBean implements PlatformMasterBe
 		return getRouteApplication(humanDto, targetDate, workflowType);
 	}
 	
+	@Override
+	public Set<String> getApplicantSet(Set<String> routeSet, Date targetDate, int workflowType)
+			throws MospException {
+		// 申請者個人ID群を準備
+		Set<String> applicantSet = new HashSet<String>();
+		// ルート別申請者個人ID群を取得
+		Map<String, Set<String>> index = getApplicantIndex(targetDate, workflowType);
+		// ルートコード毎に処理
+		for (String routeCode : routeSet) {
+			// ルートが適用されている申請者個人ID群を取得
+			Set<String> set = index.get(routeCode);
+			if (set != null) {
+				applicantSet.addAll(set);
+			}
+		}
+		return applicantSet;
+	}
+	
+	/**
+	 * ルート別申請者個人ID群(キー：ルートコード)を取得する。<br>
+	 * マスタキャッシュから取得できなかった場合は、作成しマスタキャッシュに設定する。<br>
+	 * マスタキャッシュ上の情報は複数のスレッドから参照されるため、変更してはならない。<br>
+	 * @param targetDate   対象日
+	 * @param workflowType フロー区分
+	 * @return ルート別申請者個人ID群(キー：ルートコード)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	@SuppressWarnings("unchecked")
+	protected Map<String, Set<String>> getApplicantIndex(Date targetDate, int workflowType) throws MospException {
+		// マスタキャッシュのキーを準備
+		String key = targetDate.getTime() + "_" + workflowType;
+		// マスタキャッシュから取得
+		long version = applicantIndexCache.getVersion();
+		Map<String, Set<String>> index = (Map<String, Set<String>>)applicantIndexCache.get(key);
+		if (index == null) {
+			// 作成しマスタキャッシュに設定
+			index = createApplicantIndex(targetDate, workflowType);
+			applicantIndexCache.put(key, index, version);
+		}
+		return index;
+	}
+	
+	/**
+	 * ルート別申請者個人ID群(キー：ルートコード)を作成する。<br>
+	 * <br>
+	 * 対象日時点の全社員につき適用されているルート適用情報を解決し、
+	 * ルートコードから申請者を引けるように纏める。<br>
+	 * 適用情報群の抽出は一度だけ行うため、社員毎に
+	 * {@link #getRouteApplication(HumanDtoInterface, Date, int)}を呼ぶより軽い。<br>
+	 * <br>
+	 * @param targetDate   対象日
+	 * @param workflowType フロー区分
+	 * @return ルート別申請者個人ID群(キー：ルートコード)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected Map<String, Set<String>> createApplicantIndex(Date targetDate, int workflowType)
+			throws MospException {
+		// ルート別申請者個人ID群を準備
+		Map<String, Set<String>> index = new HashMap<String, Set<String>>();
+		// ルート適用情報群取得
+		Set<RouteApplicationDtoInterface> personSet = getApplicationPersonSet(targetDate, workflowType);
+		Set<RouteApplicationDtoInterface> masterSet = getApplicationMasterSet(targetDate, workflowType);
+		// 対象日時点の人事情報毎に処理
+		for (HumanDtoInterface humanDto : humanDao.findForTargetDate(targetDate).values()) {
+			// 適用されているルート適用情報を取得
+			RouteApplicationDtoInterface dto = (RouteApplicationDtoInterface)PlatformUtility.getApplicationMaster(
+					humanDto, personSet, masterSet);
+			// ルート適用情報が取得できない場合
+			if (dto == null) {
+				continue;
+			}
+			// ルートコード毎の申請者個人ID群に追加
+			Set<String> set = index.get(dto.getRouteCode());
+			if (set == null) {
+				set = new HashSet<String>();
+				index.put(dto.getRouteCode(), set);
+			}
+			set.add(humanDto.getPersonalId());
+		}
+		return index;
+	}
+	
 	/**
 	 * ルート適用情報(個人)群(キー：対象日)を取得する。<br>
 	 * <br>
@@ -206,8 +329,8 @@ public class PlatformMasterBean extends PlatformBean implements PlatformMasterBe
 		// 適用範囲区分(比較用)を準備
 		int person = Integer.parseInt(PlatformConst.APPLICATION_TYPE_PERSON);
 		int master = Integer.parseInt(PlatformConst.APPLICATION_TYPE_MASTER);
-		// 適用情報リストをDBから取得
-		List<RouteApplicationDtoInterface> list = routeApplicationDao.findForActivateDate(targetDate);
+		// 適用情報リストをマスタキャッシュ或いはDBから取得
+		List<RouteApplicationDtoInterface> list = findRouteApplicationList(targetDate);
 		// 適用情報毎に処理
 		for (RouteApplicationDtoInterface dto : list) {
 			// 適用範囲区分が個人指定の場合
@@ -267,12 +390,53 @@ public class PlatformMasterBean extends PlatformBean implements PlatformMasterBe
 		List<HumanDtoInterface> list = humanMap.get(personalId);
 		// 人事情報履歴群から取得できなかった場合
 		if (list == null) {
-			// DBから取得し勤怠集計管理情報群に設定
-			list = humanDao.findForHistory(personalId);
+			// マスタキャッシュ或いはDBから取得し人事情報履歴群に設定(マスタキャッシュを変更しないように複製)
+			list = new ArrayList<HumanDtoInterface>(findHumanHistory(personalId));
 			humanMap.put(personalId, list);
 		}
 		// 人事情報履歴を取得
 		return list;
 	}
 	
+	/**
+	 * ルート適用情報リストを取得する。<br>
+	 * マスタキャッシュから取得できなかった場合は、DBから取得しマスタキャッシュに設定する。<br>
+	 * @param targetDate 対象日
+	 * @return 対象日における最新のルート適用情報リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	@SuppressWarnings("unchecked")
+	protected List<RouteApplicationDtoInterface> findRouteApplicationList(Date targetDate) throws MospException {
+		// マスタキャッシュから取得
+		long version = routeApplicationCache.getVersion();
+		List<RouteApplicationDtoInterface> list = (List<RouteApplicationDtoInterface>)routeApplicationCache
+			.get(targetDate);
+		if (list == null) {
+			// DBから取得しマスタキャッシュに設定
+			list = routeApplicationDao.findForActivateDate(targetDate);
+			routeApplicationCache.put(targetDate, list, version);
+		}
+		return list;
+	}
+	
+	/**
+	 * 人事情報履歴(有効日昇順)を取得する。<br>
+	 * マスタキャッシュから取得できなかった場合は、DBから取得しマスタキャッシュに設定する。<br>
+	 * @param personalId 個人ID
+	 * @return 人事情報履歴(有効日昇順)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	@SuppressWarnings("unchecked")
+	protected List<HumanDtoInterface> findHumanHistory(String personalId) throws MospException {
+		// マスタキャッシュから取得
+		long version = humanCache.getVersion();
+		List<HumanDtoInterface> list = (List<HumanDtoInterface>)humanCache.get(personalId);
+		if (list == null) {
+			// DBから取得しマスタキャッシュに設定
+			list = humanDao.findForHistory(personalId);
+			humanCache.put(personalId, list, version);
+		}
+		return list;
+	}
+	
 }
@@ -0,0 +1,136 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.bean.system.impl;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.exporter.TextContents;
+import jp.mosp.framework.utils.MospUtility;
+import jp.mosp.platform.base.PlatformBean;
+import jp.mosp.platform.bean.system.JobBeanInterface;
+import jp.mosp.platform.bean.system.JobProgressInterface;
+import jp.mosp.platform.bean.system.SectionClosureRegistBeanInterface;
+import jp.mosp.platform.constant.PlatformMessageConst;
+import jp.mosp.platform.dao.system.SectionDaoInterface;
+
+/**
+ * 所属階層閉包ジョブクラス。<br>
+ * <br>
+ * 全ての所属について、所属階層閉包の再作成或いは確認を行う。<br>
+ * ジョブパラメータで処理({@link #PRM_REBUILD}：再作成、{@link #PRM_VERIFY}：確認)を指定する。<br>
+ * 確認の場合、所属階層閉包が一致しない所属コードを結果ファイルに出力する。<br>
+ * 所属階層閉包の導入時や、所属マスタ登録クラスを経由せずに所属マスタを更新した後に実行する。<br>
+ */
+public class SectionClosureJobBean extends PlatformBean implements JobBeanInterface {
+	
+	/**
+	 * ジョブパラメータ(再作成)。<br>
+	 */
+	public static final String					PRM_REBUILD		= "rebuild";
+	
+	/**
+	 * ジョブパラメータ(確認)。<br>
+	 */
+	public static final String					PRM_VERIFY		= "verify";
+	
+	/**
+	 * 結果ファイル名。<br>
+	 */
+	protected static final String				FILE_RESULT		= "sectionClosure.txt";
+	
+	/**
+	 * 改行コード。<br>
+	 */
+	protected static final String				LINE_SEPARATOR	= "\r\n";
+	
+	/**
+	 * 所属マスタDAO。<br>
+	 */
+	protected SectionDaoInterface				sectionDao;
+	
+	/**
+	 * 所属階層閉包登録クラス。<br>
+	 */
+	protected SectionClosureRegistBeanInterface	sectionClosureRegist;
+	
+	
+	/**
+	 * {@link PlatformBean#PlatformBean()}を実行する。<br>
+	 */
+	public SectionClosureJobBean() {
+		super();
+	}
+	
+	/**
+	 * {@link PlatformBean#PlatformBean(MospParams, Connection)}を実行する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param connection DBコネクション
+	 */
+	protected SectionClosureJobBean(MospParams mospParams, Connection connection) {
+		super(mospParams, connection);
+	}
+	
+	@Override
+	public void initBean() throws MospException {
+		sectionDao = (SectionDaoInterface)createDao(SectionDaoInterface.class);
+		sectionClosureRegist = (SectionClosureRegistBeanInterface)createBean(SectionClosureRegistBeanInterface.class);
+	}
+	
+	@Override
+	public void execute(JobProgressInterface progress, String... parameters) throws MospException {
+		// ジョブパラメータ取得
+		boolean isVerify = parameters.length > 0 && PRM_VERIFY.equals(parameters[0]);
+		// 対象所属コード群取得(所属コードの昇順)
+		List<String> sectionCodeList = new ArrayList<String>(new TreeSet<String>(sectionDao.findForCodeSet()));
+		// 一致しない所属コードリスト準備
+		List<String> mismatchList = new ArrayList<String>();
+		// 所属コード毎に処理
+		int total = sectionCodeList.size();
+		for (int i = 0; i < total; i++) {
+			String sectionCode = sectionCodeList.get(i);
+			if (isVerify) {
+				// 確認
+				if (sectionClosureRegist.verify(sectionCode) == false) {
+					mismatchList.add(sectionCode);
+				}
+			} else {
+				// 再作成
+				sectionClosureRegist.regist(sectionCode);
+			}
+			// 進捗設定
+			progress.setProgress(i + 1, total);
+		}
+		// 結果ファイル設定
+		StringBuilder sb = new StringBuilder();
+		sb.append(isVerify ? PRM_VERIFY : PRM_REBUILD).append(" total=").append(total);
+		sb.append(" mismatch=").append(mismatchList.size()).append(LINE_SEPARATOR);
+		for (String sectionCode : mismatchList) {
+			sb.append(sectionCode).append(LINE_SEPARATOR);
+		}
+		mospParams.setFile(new TextContents(MospUtility.CHARACTER_ENCODING, sb.toString()));
+		mospParams.setFileName(FILE_RESULT);
+		// 処理成功メッセージ設定
+		mospParams.addMessage(PlatformMessageConst.MSG_PROCESS_SUCCEED, mospParams.getName("Section"));
+	}
+	
+}
@@ -0,0 +1,189 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.bean.system.impl;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.utils.DateUtility;
+import jp.mosp.platform.base.PlatformBean;
+import jp.mosp.platform.bean.system.SectionClosureRegistBeanInterface;
+import jp.mosp.platform.bean.system.SectionReferenceBeanInterface;
+import jp.mosp.platform.constant.PlatformConst;
+import jp.mosp.platform.dao.system.SectionClosureDaoInterface;
+import jp.mosp.platform.dao.system.SectionDaoInterface;
+import jp.mosp.platform.dto.system.SectionClosureDtoInterface;
+import jp.mosp.platform.dto.system.SectionDtoInterface;
+import jp.mosp.platform.dto.system.impl.PftSectionClosureDto;
+
+/**
+ * 所属階層閉包登録クラス。<br>
+ * <br>
+ * 所属マスタの登録時に、対象所属の所属階層閉包を同一トランザクションで再作成する。<br>
+ * 所属階層閉包は所属自身の階層経路のみから作成されるため、
+ * 上位所属の履歴が変わっても下位所属の再作成は不要である。<br>
+ */
+public class SectionClosureRegistBean extends PlatformBean implements SectionClosureRegistBeanInterface {
+	
+	/**
+	 * 所属階層閉包DAO。<br>
+	 */
+	protected SectionClosureDaoInterface	dao;
+	
+	/**
+	 * 所属マスタDAO。<br>
+	 */
+	protected SectionDaoInterface			sectionDao;
+	
+	/**
+	 * 所属マスタ参照クラス。<br>
+	 */
+	protected SectionReferenceBeanInterface	sectionReference;
+	
+	
+	/**
+	 * {@link PlatformBean#PlatformBean()}を実行する。<br>
+	 */
+	public SectionClosureRegistBean() {
+		super();
+	}
+	
+	/**
+	 * {@link PlatformBean#PlatformBean(MospParams, Connection)}を実行する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param connection DBコネクション
+	 */
+	protected SectionClosureRegistBean(MospParams mospParams, Connection connection) {
+		super(mospParams, connection);
+	}
+	
+	@Override
+	public void initBean() throws MospException {
+		// DAO準備
+		dao = (SectionClosureDaoInterface)createDao(SectionClosureDaoInterface.class);
+		sectionDao = (SectionDaoInterface)createDao(SectionDaoInterface.class);
+		// Bean準備
+		sectionReference = (SectionReferenceBeanInterface)createBean(SectionReferenceBeanInterface.class);
+	}
+	
+	@Override
+	public boolean isAvailable() {
+		return mospParams.getApplicationPropertyBool(PlatformConst.APP_SECTION_CLOSURE);
+	}
+	
+	@Override
+	public void regist(String sectionCode) throws MospException {
+		// 所属階層閉包情報リストを算出
+		List<SectionClosureDtoInterface> list = calculate(sectionDao.findForHistory(sectionCode));
+		// 既存の所属階層閉包情報を削除
+		dao.deleteForSectionCode(sectionCode);
+		// 所属階層閉包情報が存在しない場合
+		if (list.isEmpty()) {
+			return;
+		}
+		// レコード識別IDを取得
+		long[] ids = dao.nextRecordIds(list.size());
+		for (int i = 0; i < ids.length; i++) {
+			list.get(i).setPftSectionClosureId(ids[i]);
+		}
+		// 登録処理
+		dao.insertAll(list);
+	}
+	
+	@Override
+	public boolean verify(String sectionCode) throws MospException {
+		// 算出した所属階層閉包情報リスト及び登録されている所属階層閉包情報リストを取得
+		List<SectionClosureDtoInterface> expected = calculate(sectionDao.findForHistory(sectionCode));
+		List<SectionClosureDtoInterface> actual = dao.findForSectionCode(sectionCode);
+		// 件数確認
+		if (expected.size() != actual.size()) {
+			return false;
+		}
+		// 所属階層閉包情報毎に確認
+		for (int i = 0; i < expected.size(); i++) {
+			if (isSame(expected.get(i), actual.get(i)) == false) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	@Override
+	public List<SectionClosureDtoInterface> calculate(List<SectionDtoInterface> historyList) throws MospException {
+		// 所属階層閉包情報リスト準備
+		List<SectionClosureDtoInterface> list = new ArrayList<SectionClosureDtoInterface>();
+		// 履歴毎に処理
+		for (int i = 0; i < historyList.size(); i++) {
+			SectionDtoInterface dto = historyList.get(i);
+			// 終了日取得(次の履歴の有効日の前日)
+			Date endDate = null;
+			if (i + 1 < historyList.size()) {
+				endDate = DateUtility.addDay(historyList.get(i + 1).getActivateDate(), -1);
+			}
+			// 自身を追加
+			list.add(createClosure(dto, dto.getSectionCode(), 0, endDate));
+			// 階層経路から上位所属を取得(最上位から順)
+			String[] route = sectionReference.getClassRouteArray(dto);
+			// 直近の上位所属から順に追加
+			for (int j = route.length - 1; j >= 0; j--) {
+				list.add(createClosure(dto, route[j], route.length - j, endDate));
+			}
+		}
+		return list;
+	}
+	
+	/**
+	 * 所属階層閉包情報を作成する。<br>
+	 * @param dto          所属マスタ情報
+	 * @param ancestorCode 上位所属コード
+	 * @param depth        階層差
+	 * @param endDate      終了日
+	 * @return 所属階層閉包情報
+	 */
+	protected SectionClosureDtoInterface createClosure(SectionDtoInterface dto, String ancestorCode, int depth,
+			Date endDate) {
+		SectionClosureDtoInterface closure = new PftSectionClosureDto();
+		closure.setAncestorCode(ancestorCode);
+		closure.setSectionCode(dto.getSectionCode());
+		closure.setDepth(depth);
+		closure.setActivateDate(dto.getActivateDate());
+		closure.setEndDate(endDate);
+		closure.setCloseFlag(dto.getCloseFlag());
+		return closure;
+	}
+	
+	/**
+	 * 所属階層閉包情報が一致するかを確認する(レコード識別ID及び共通情報は除く)。<br>
+	 * @param expected 算出した所属階層閉包情報
+	 * @param actual   登録されている所属階層閉包情報
+	 * @return 確認結果(true：一致する、false：一致しない)
+	 */
+	protected boolean isSame(SectionClosureDtoInterface expected, SectionClosureDtoInterface actual) {
+		return expected.getAncestorCode().equals(actual.getAncestorCode())
+				&& expected.getSectionCode().equals(actual.getSectionCode())
+				&& expected.getDepth() == actual.getDepth()
+				&& expected.getActivateDate().equals(actual.getActivateDate())
+				&& (expected.getEndDate() == null ? actual.getEndDate() == null : expected.getEndDate().equals(
+						actual.getEndDate())) && expected.getCloseFlag() == actual.getCloseFlag();
+	}
+	
+}
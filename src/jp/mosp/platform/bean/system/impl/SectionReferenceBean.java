@@ -19,12 +19,17 @@ package jp.mosp.platform.bean.system.impl;
 
 import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDto;
 import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospMasterCache;
 import jp.mosp.framework.base.MospParams;
 import jp.mosp.framework.constant.MospConst;
 import jp.mosp.framework.property.RangeProperty;
@@ -74,11 +79,25 @@ public class SectionReferenceBean extends PlatformBean implements SectionReferen
 	 */
 	protected static final String	STR_SECTION_LEVEL				= "-";
 	
+	/**
+	 * マスタキャッシュ名(下位所属コード群索引、キー：対象日)。<br>
+	 */
+	protected static final String	CACHE_LOWER_SECTION				= "SectionReferenceBean.lowerSection";
+	
 	/**
 	 * 所属マスタDAO。<br>
 	 */
 	protected SectionDaoInterface	dao;
 	
+	/**
+	 * マスタキャッシュ(下位所属コード群索引)。<br>
+	 * <br>
+	 * 対象日毎に、所属コードと下位所属コード群(自身を含む)の索引を保持する。<br>
+	 * 索引の大きさは、所属数と階層数の積程度となる。<br>
+	 * 所属マスタが更新されると破棄される。<br>
+	 */
+	protected MospMasterCache		lowerSectionCache;
+	
 	
 	/**
 	 * {@link PlatformBean#PlatformBean()}を実行する。<br>
@@ -99,6 +118,8 @@ public class SectionReferenceBean extends PlatformBean implements SectionReferen
 	@Override
 	public void initBean() throws MospException {
 		dao = (SectionDaoInterface)createDao(SectionDaoInterface.class);
+		// マスタキャッシュの準備
+		lowerSectionCache = getMasterCache(CACHE_LOWER_SECTION, dao);
 	}
 	
 	@Override
@@ -481,4 +502,84 @@ public class SectionReferenceBean extends PlatformBean implements SectionReferen
 		return higherSectionCode;
 	}
 	
+	@Override
+	public Set<String> getLowerSectionCodeSet(String sectionCode, Date targetDate) throws MospException {
+		// 下位所属コード群索引から取得
+		Set<String> set = getLowerSectionIndex(targetDate).get(sectionCode);
+		if (set == null) {
+			return Collections.emptySet();
+		}
+		return set;
+	}
+	
+	@Override
+	public boolean isLowerSection(String sectionCode, String upperSectionCode, Date targetDate) throws MospException {
+		return getLowerSectionCodeSet(upperSectionCode, targetDate).contains(sectionCode);
+	}
+	
+	/**
+	 * 対象日における下位所属コード群索引を取得する。<br>
+	 * マスタキャッシュから取得できなかった場合は、DBから取得した対象日における所属の階層経路から作成し、
+	 * マスタキャッシュに設定する。<br>
+	 * @param targetDate 対象年月日
+	 * @return 下位所属コード群索引(キー：所属コード)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	@SuppressWarnings("unchecked")
+	protected Map<String, Set<String>> getLowerSectionIndex(Date targetDate) throws MospException {
+		// マスタキャッシュから取得
+		long version = lowerSectionCache.getVersion();
+		Map<String, Set<String>> index = (Map<String, Set<String>>)lowerSectionCache.get(targetDate);
+		if (index != null) {
+			return index;
+		}
+		// 対象日における所属情報リスト(閉鎖されている所属を含む)を取得
+		Map<String, Object> param = dao.getParamsMap();
+		param.put(SectionDaoInterface.SEARCH_TARGET_DATE, targetDate);
+		param.put(SectionDaoInterface.SEARCH_SECTION_TYPE, "");
+		param.put(SectionDaoInterface.SEARCH_SECTION_CODE, "");
+		param.put(SectionDaoInterface.SEARCH_SECTION_NAME, "");
+		param.put(SectionDaoInterface.SEARCH_SECTION_ABBR, "");
+		param.put(SectionDaoInterface.SEARCH_CLOSE_FLAG, "");
+		List<SectionDtoInterface> list = dao.findForSearch(param);
+		// 下位所属コード群索引作成
+		Map<String, Set<String>> work = new HashMap<String, Set<String>>();
+		for (SectionDtoInterface dto : list) {
+			String sectionCode = dto.getSectionCode();
+			// 自身を追加
+			addLowerSectionCode(work, sectionCode, sectionCode);
+			// 閉鎖されている場合は上位所属には追加しない
+			if (dto.getCloseFlag() != MospConst.INACTIVATE_FLAG_OFF) {
+				continue;
+			}
+			// 階層経路上の上位所属毎に追加
+			for (String upperSectionCode : getClassRouteArray(dto)) {
+				addLowerSectionCode(work, upperSectionCode, sectionCode);
+			}
+		}
+		// 変更できないようにしてマスタキャッシュに設定
+		index = new HashMap<String, Set<String>>();
+		for (Map.Entry<String, Set<String>> entry : work.entrySet()) {
+			index.put(entry.getKey(), Collections.unmodifiableSet(entry.getValue()));
+		}
+		index = Collections.unmodifiableMap(index);
+		lowerSectionCache.put(targetDate, index, version);
+		return index;
+	}
+	
+	/**
+	 * 下位所属コード群索引に下位所属コードを追加する。<br>
+	 * @param index            下位所属コード群索引
+	 * @param upperSectionCode 上位所属コード
+	 * @param sectionCode      下位所属コード
+	 */
+	protected void addLowerSectionCode(Map<String, Set<String>> index, String upperSectionCode, String sectionCode) {
+		Set<String> set = index.get(upperSectionCode);
+		if (set == null) {
+			set = new HashSet<String>();
+			index.put(upperSectionCode, set);
+		}
+		set.add(sectionCode);
+	}
+	
 }
@@ -29,6 +29,7 @@ import jp.mosp.platform.base.PlatformBean;
 import jp.mosp.platform.base.PlatformDtoInterface;
 import jp.mosp.platform.bean.file.PlatformFileBean;
 import jp.mosp.platform.bean.human.RetirementReferenceBeanInterface;
+import jp.mosp.platform.bean.system.SectionClosureRegistBeanInterface;
 import jp.mosp.platform.bean.system.SectionRegistBeanInterface;
 import jp.mosp.platform.constant.PlatformMessageConst;
 import jp.mosp.platform.dao.system.SectionDaoInterface;
@@ -46,27 +47,32 @@ public class SectionRegistBean extends PlatformFileBean implements SectionRegist
 	/**
 	 * 所属コード項目長。<br>
 	 */
-	protected static final int		LEN_SECTION_CODE	= 10;
+	protected static final int					LEN_SECTION_CODE	= 10;
 	
 	/**
 	 * 所属名称項目長。<br>
 	 */
-	protected static final int		LEN_SECTION_NAME	= 40;
+	protected static final int					LEN_SECTION_NAME	= 40;
 	
 	/**
 	 * 所属略称項目長(バイト数)。<br>
 	 */
-	protected static final int		LEN_SECTION_ABBR	= 6;
+	protected static final int					LEN_SECTION_ABBR	= 6;
 	
 	/**
 	 * 所属表示名称項目長。<br>
 	 */
-	protected static final int		LEN_SECTION_DISPLAY	= 16;
+	protected static final int					LEN_SECTION_DISPLAY	= 16;
 	
 	/**
 	 * 所属マスタDAOクラス。<br>
 	 */
-	protected SectionDaoInterface	dao;
+	protected SectionDaoInterface				dao;
+	
+	/**
+	 * 所属階層閉包登録クラス。<br>
+	 */
+	protected SectionClosureRegistBeanInterface	sectionClosureRegist;
 	
 	
 	/**
@@ -89,6 +95,8 @@ public class SectionRegistBean extends PlatformFileBean implements SectionRegist
 	public void initBean() throws MospException {
 		// DAO準備
 		dao = (SectionDaoInterface)createDao(SectionDaoInterface.class);
+		// Bean準備
+		sectionClosureRegist = (SectionClosureRegistBeanInterface)createBean(SectionClosureRegistBeanInterface.class);
 	}
 	
 	@Override
@@ -112,6 +120,8 @@ public class SectionRegistBean extends PlatformFileBean implements SectionRegist
 		dto.setPfmSectionId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 所属階層閉包登録
+		registClosure(dto.getSectionCode());
 	}
 	
 	@Override
@@ -132,6 +142,8 @@ public class SectionRegistBean extends PlatformFileBean implements SectionRegist
 		dto.setPfmSectionId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 所属階層閉包登録
+		registClosure(dto.getSectionCode());
 	}
 	
 	@Override
@@ -154,6 +166,8 @@ public class SectionRegistBean extends PlatformFileBean implements SectionRegist
 		dto.setPfmSectionId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 所属階層閉包登録
+		registClosure(dto.getSectionCode());
 	}
 	
 	@Override
@@ -194,6 +208,8 @@ public class SectionRegistBean extends PlatformFileBean implements SectionRegist
 				dto.setPfmSectionId(dao.nextRecordId());
 				// 登録処理
 				dao.insert(dto);
+				// 所属階層閉包登録
+				registClosure(dto.getSectionCode());
 			} else {
 				// DTOに無効フラグを設定
 				dto.setInactivateFlag(inactivateFlag);
@@ -213,6 +229,8 @@ public class SectionRegistBean extends PlatformFileBean implements SectionRegist
 				dto.setPfmSectionId(dao.nextRecordId());
 				// 登録処理
 				dao.insert(dto);
+				// 所属階層閉包登録
+				registClosure(dto.getSectionCode());
 			}
 		}
 	}
@@ -255,6 +273,8 @@ public class SectionRegistBean extends PlatformFileBean implements SectionRegist
 				dto.setPfmSectionId(dao.nextRecordId());
 				// 登録処理
 				dao.insert(dto);
+				// 所属階層閉包登録
+				registClosure(dto.getSectionCode());
 			} else {
 				// DTOに経路を設定
 				dto.setClassRoute(classRoute);
@@ -274,6 +294,8 @@ public class SectionRegistBean extends PlatformFileBean implements SectionRegist
 				dto.setPfmSectionId(dao.nextRecordId());
 				// 登録処理
 				dao.insert(dto);
+				// 所属階層閉包登録
+				registClosure(dto.getSectionCode());
 			}
 		}
 	}
@@ -299,7 +321,24 @@ public class SectionRegistBean extends PlatformFileBean implements SectionRegist
 			}
 			// 論理削除
 			logicalDelete(dao, id);
+			// 所属階層閉包登録
+			registClosure(dto.getSectionCode());
+		}
+	}
+	
+	/**
+	 * 所属階層閉包を再作成する。<br>
+	 * 所属階層閉包を利用しない場合は、何もしない。<br>
+	 * @param sectionCode 所属コード
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected void registClosure(String sectionCode) throws MospException {
+		// 所属階層閉包を利用しない場合
+		if (sectionClosureRegist.isAvailable() == false) {
+			return;
 		}
+		// 所属階層閉包再作成
+		sectionClosureRegist.regist(sectionCode);
 	}
 	
 	/**
@@ -0,0 +1,37 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.bean.workflow;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.platform.dto.workflow.WorkflowDtoInterface;
+
+/**
+ * ワークフロー登録追加クラスインターフェース。<br>
+ * ワークフロー情報の登録及び削除時に、
+ * 各アドオン側で同一トランザクション内に行うべき処理を実装する。<br>
+ */
+public interface ExtraWorkflowRegistBeanInterface {
+	
+	/**
+	 * ワークフロー情報の登録或いは削除後の処理を行う。<br>
+	 * @param dto 登録或いは削除したワークフロー情報
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	void regist(WorkflowDtoInterface dto) throws MospException;
+	
+}
@@ -77,6 +77,20 @@ public interface WorkflowIntegrateBeanInterface {
 	 */
 	Set<String> getApproverRouteSet(String personalId, Date targetDate) throws MospException;
 	
+	/**
+	 * 対象個人IDが承認できる申請者の個人ID群を取得する。<br>
+	 * <br>
+	 * 対象個人IDが属する承認ルート及び対象個人IDが対象日時点で代理承認者となっている
+	 * 承認者が属する承認ルートを集め、それらのルートが適用されている申請者を対象とする。<br>
+	 * <br>
+	 * @param personalId   個人ID
+	 * @param targetDate   対象年月日
+	 * @param workflowType フロー区分
+	 * @return 申請者個人ID群
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	Set<String> getApplicantSet(String personalId, Date targetDate, int workflowType) throws MospException;
+	
 	/**
 	 * 対象個人IDが属する承認ユニットコード群を取得する。<br>
 	 * <br>
@@ -188,6 +202,48 @@ public interface WorkflowIntegrateBeanInterface {
 			Set<String> functionCodeSet, String state, Set<String> personalIdSet, Set<String> subordinateIdSet)
 			throws MospException;
 	
+	/**
+	 * 対象期間における有効ワークフロー情報一覧を頁単位で取得する。<br>
+	 * {@link #getEffectiveList(String, Date, Date, Set, String, Set, Set)}と同じ条件で抽出し、
+	 * ソートキー順に取得件数分を取得する。<br>
+	 * キー値が指定されている場合は、キー値より後(降順の場合は前)の情報を取得する(キーセット方式)。<br>
+	 * @param personalId       対象個人ID
+	 * @param fromDate         対象期間自
+	 * @param toDate           対象期間至
+	 * @param functionCodeSet  対象機能コードセット
+	 * @param state            対象ワークフロー状態
+	 * @param personalIdSet    対象申請者個人IDセット(検索条件による)
+	 * @param subordinateIdSet 対象申請者個人IDセット(部下)
+	 * @param sortKey          ソートキー
+	 * @param descending       降順フラグ
+	 * @param keys             キー値(キー値を指定しない場合はnull)
+	 * @param limit            取得件数
+	 * @param offset           読み飛ばし件数(抽出後の件数)
+	 * @return 有効ワークフロー情報一覧
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	List<WorkflowDtoInterface> getEffectiveList(String personalId, Date fromDate, Date toDate,
+			Set<String> functionCodeSet, String state, Set<String> personalIdSet, Set<String> subordinateIdSet,
+			String sortKey, boolean descending, String[] keys, int limit, int offset) throws MospException;
+	
+	/**
+	 * 対象期間における有効ワークフロー情報の件数を取得する。<br>
+	 * {@link #getEffectiveList(String, Date, Date, Set, String, Set, Set)}で抽出する件数を、
+	 * 全件を取得せずにSQLで数える。<br>
+	 * 承認ルートで承認者が決まる情報は、ルートコード毎に承認者であるかを確認する。<br>
+	 * @param personalId       対象個人ID
+	 * @param fromDate         対象期間自
+	 * @param toDate           対象期間至
+	 * @param functionCodeSet  対象機能コードセット
+	 * @param state            対象ワークフロー状態
+	 * @param personalIdSet    対象申請者個人IDセット(検索条件による)
+	 * @param subordinateIdSet 対象申請者個人IDセット(部下)
+	 * @return 件数
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	int getEffectiveCount(String personalId, Date fromDate, Date toDate, Set<String> functionCodeSet, String state,
+			Set<String> personalIdSet, Set<String> subordinateIdSet) throws MospException;
+	
 	/**
 	 * 対象期間における承認済ワークフロー情報一覧を取得する。<br>
 	 * @param personalId 個人ID
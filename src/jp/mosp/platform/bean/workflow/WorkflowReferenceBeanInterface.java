@@ -99,6 +99,33 @@ public interface WorkflowReferenceBeanInterface {
 	 */
 	List<WorkflowDtoInterface> getCancelableList(Set<String> functionCodeSet) throws MospException;
 	
+	/**
+	 * 対象個人IDが承認者となりうる承認可能ワークフロー情報リストを取得する。<br>
+	 * ワークフロー承認者索引を用いて、現在の段階の承認者個人IDが対象個人IDであるもの、
+	 * 或いは承認ルートがルートコードセットに含まれるものを抽出する。<br>
+	 * 対象個人IDが承認者であるかどうかは、別途確認する必要がある。<br>
+	 * 機能コードセットに含まれるワークフロー情報が抽出される。<br>
+	 * @param personalId      対象個人ID
+	 * @param routeCodeSet    対象個人IDが承認者となりうるルートコードセット
+	 * @param functionCodeSet 機能コードセット
+	 * @return 承認可能ワークフロー情報リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	List<WorkflowDtoInterface> getApprovableList(String personalId, Set<String> routeCodeSet,
+			Set<String> functionCodeSet) throws MospException;
+	
+	/**
+	 * 対象個人IDが承認者となりうる解除承認可能ワークフロー情報リストを取得する。<br>
+	 * 抽出条件は{@link #getApprovableList(String, Set, Set)}と同様である。<br>
+	 * @param personalId      対象個人ID
+	 * @param routeCodeSet    対象個人IDが承認者となりうるルートコードセット
+	 * @param functionCodeSet 機能コードセット
+	 * @return 解除承認可能ワークフロー情報リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	List<WorkflowDtoInterface> getCancelableList(String personalId, Set<String> routeCodeSet,
+			Set<String> functionCodeSet) throws MospException;
+	
 	/**
 	 * 対象期間における有効ワークフロー情報リストを取得する。<br>
 	 * 機能コードセットに含まれるワークフロー情報が抽出される。<br>
@@ -206,6 +233,71 @@ public interface WorkflowReferenceBeanInterface {
 	List<WorkflowDtoInterface> getCancelAppliedList(Date fromDate, Date toDate, Set<String> functionCodeSet)
 			throws MospException;
 	
+	/**
+	 * 対象期間におけるワークフロー情報リストを頁単位で取得する。<br>
+	 * 対象ワークフロー状態が未承認、承認済、差戻、解除申の場合はそれぞれのワークフロー情報を、
+	 * それ以外の場合は有効ワークフロー情報を、ソートキー順に取得件数分取得する。<br>
+	 * キー値が指定されている場合は、キー値より後(降順の場合は前)の情報を取得する。<br>
+	 * @param fromDate        対象期間自
+	 * @param toDate          対象期間至
+	 * @param functionCodeSet 機能コードセット
+	 * @param state           対象ワークフロー状態
+	 * @param sortKey         ソートキー
+	 * @param descending      降順フラグ
+	 * @param keys            キー値(キー値を指定しない場合はnull)
+	 * @param limit           取得件数
+	 * @return ワークフロー情報リスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<WorkflowDtoInterface> getListForPage(Date fromDate, Date toDate, Set<String> functionCodeSet, String state,
+			String sortKey, boolean descending, String[] keys, int limit) throws MospException;
+	
+	/**
+	 * ワークフロー情報のキー値を取得する。<br>
+	 * {@link #getListForPage(Date, Date, Set, String, String, boolean, String[], int)}のキー値として用いる。<br>
+	 * 申請者の人事情報で並び替えるソートキーの場合、人事情報のキー値は申請者のワークフロー日付以前で最新の人事情報から取得する。<br>
+	 * @param dto     ワークフロー情報
+	 * @param sortKey ソートキー
+	 * @return キー値
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	String[] getKeys(WorkflowDtoInterface dto, String sortKey) throws MospException;
+	
+	/**
+	 * 対象期間において対象個人IDが参照可能なワークフロー情報の件数を取得する。<br>
+	 * 申請者が部下である、承認者個人IDに対象個人IDが含まれる、或いは自己承認の申請者である情報を数える。<br>
+	 * 対象個人IDがnullの場合は、申請者による絞込のみを行う。<br>
+	 * 承認ルートで承認者が決まる情報は、
+	 * {@link #getRouteCountMap(Date, Date, Set, String, Set, Set, String)}で数える。<br>
+	 * @param fromDate         対象期間自
+	 * @param toDate           対象期間至
+	 * @param functionCodeSet  機能コードセット
+	 * @param state            対象ワークフロー状態
+	 * @param personalIdSet    対象申請者個人IDセット(絞り込まない場合はnull)
+	 * @param subordinateIdSet 対象申請者個人IDセット(部下)
+	 * @param personalId       対象個人ID
+	 * @return 件数
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	int getEffectiveCount(Date fromDate, Date toDate, Set<String> functionCodeSet, String state,
+			Set<String> personalIdSet, Set<String> subordinateIdSet, String personalId) throws MospException;
+	
+	/**
+	 * 対象期間において承認ルートで承認者が決まるワークフロー情報の件数を、ルートコード毎に取得する。<br>
+	 * 承認者個人IDが無く、申請者が部下でも自己承認の対象個人IDでもない情報を数える。<br>
+	 * @param fromDate         対象期間自
+	 * @param toDate           対象期間至
+	 * @param functionCodeSet  機能コードセット
+	 * @param state            対象ワークフロー状態
+	 * @param personalIdSet    対象申請者個人IDセット(絞り込まない場合はnull)
+	 * @param subordinateIdSet 対象申請者個人IDセット(部下)
+	 * @param personalId       対象個人ID
+	 * @return 件数マップ(キー：ルートコード)
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	Map<String, Integer> getRouteCountMap(Date fromDate, Date toDate, Set<String> functionCodeSet, String state,
+			Set<String> personalIdSet, Set<String> subordinateIdSet, String personalId) throws MospException;
+	
 	/**
 	 * 個人IDと期間でワークフロー情報を取得する。
 	 * @param personalId 個人ID
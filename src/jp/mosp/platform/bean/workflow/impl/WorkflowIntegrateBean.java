@@ -25,6 +25,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import jp.mosp.framework.base.MospException;
@@ -66,6 +67,11 @@ import jp.mosp.platform.utils.PlatformUtility;
  */
 public class WorkflowIntegrateBean extends PlatformBean implements WorkflowIntegrateBeanInterface {
 	
+	/**
+	 * 頁単位で検索する際に、1回のSQLで取得する件数。<br>
+	 */
+	protected static final int							PAGE_CHUNK_SIZE	= 1000;
+	
 	/**
 	 * ワークフロー参照クラス。
 	 */
@@ -239,6 +245,22 @@ public class WorkflowIntegrateBean extends PlatformBean implements WorkflowInteg
 		return set;
 	}
 	
+	@Override
+	public Set<String> getApplicantSet(String personalId, Date targetDate, int workflowType) throws MospException {
+		// 対象個人IDが属する承認ルートコード群を取得
+		Set<String> routeSet = getApproverRouteSet(personalId, targetDate);
+		// 対象日時点で対象個人IDが代理承認者となっている代理情報を取得
+		List<SubApproverDtoInterface> subApproverList = subApproverReference.findForSubApproverId(personalId,
+				workflowType, targetDate, targetDate);
+		// 代理情報毎に処理
+		for (SubApproverDtoInterface subApproverDto : subApproverList) {
+			// 代理元の承認者が属する承認ルートコード群を追加
+			routeSet.addAll(getApproverRouteSet(subApproverDto.getPersonalId(), targetDate));
+		}
+		// 承認ルートコード群が適用されている申請者個人ID群を取得
+		return platformMaster.getApplicantSet(routeSet, targetDate, workflowType);
+	}
+	
 	@Override
 	public Set<String> getApproverUnitSet(String personalId, Date targetDate) throws MospException {
 		// 承認ユニットコード群を準備
@@ -410,11 +432,23 @@ public class WorkflowIntegrateBean extends PlatformBean implements WorkflowInteg
 			}
 			return false;
 		}
+		// 承認ルートの承認者であるかを確認
+		return isRouteApprover(dto.getRouteCode(), personalId);
+	}
+	
+	/**
+	 * 対象個人IDが、システム日付時点で承認ルートのいずれかのユニットの承認者であるかを確認する。<br>
+	 * @param routeCode  ルートコード
+	 * @param personalId 対象個人ID
+	 * @return 確認結果(true：承認者である、false：承認者ではない)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected boolean isRouteApprover(String routeCode, String personalId) throws MospException {
 		// システム日付を取得
 		Date systemDate = getSystemDate();
 		// ルートユニット情報取得
-		List<ApprovalRouteUnitDtoInterface> routeUnitList = routeUnitReference.getApprovalRouteUnitList(
-				dto.getRouteCode(), systemDate);
+		List<ApprovalRouteUnitDtoInterface> routeUnitList = routeUnitReference.getApprovalRouteUnitList(routeCode,
+				systemDate);
 		// ルートユニット毎に確認
 		for (ApprovalRouteUnitDtoInterface routeUnitDto : routeUnitList) {
 			// ユニット承認者リスト取得
@@ -802,6 +836,7 @@ public class WorkflowIntegrateBean extends PlatformBean implements WorkflowInteg
 	/**
 	 * 承認可能ワークフロー情報リストを取得する。<br>
 	 * 対象個人IDが承認可能なものを抽出する。<br>
+	 * ワークフロー承認者索引で候補を絞り込んだ上で、承認者であるかを確認する。<br>
 	 * 但し、ログインユーザが特権ロールを持つ場合、全ての承認可能なワークフローを返す。<br>
 	 * 対象機能コードセットに含まれる機能コードのワークフローのみを取得する。<br>
 	 * @param personalId      対象個人ID
@@ -811,13 +846,16 @@ public class WorkflowIntegrateBean extends PlatformBean implements WorkflowInteg
 	 */
 	public List<WorkflowDtoInterface> getApprovableList(String personalId, Set<String> functionCodeSet)
 			throws MospException {
-		// 承認可能ワークフロー情報リスト取得
-		List<WorkflowDtoInterface> approvableList = workflowReference.getApprovableList(functionCodeSet);
 		// 特権ロール確認
 		if (mospParams.getUserRole().isSuper()) {
 			// 全ての承認可能ワークフロー情報を取得
-			return approvableList;
+			return workflowReference.getApprovableList(functionCodeSet);
 		}
+		// 対象個人IDが承認者となりうるルートコード群を取得
+		Set<String> routeSet = getApproverRouteSet(personalId, getSystemDate());
+		// ワークフロー承認者索引から承認可能ワークフロー情報リスト取得
+		List<WorkflowDtoInterface> approvableList = workflowReference.getApprovableList(personalId, routeSet,
+				functionCodeSet);
 		// 対象個人IDが承認可能なワークフロー情報リストを準備
 		List<WorkflowDtoInterface> list = new ArrayList<WorkflowDtoInterface>();
 		// ルートユニットリスト群を準備
@@ -841,6 +879,7 @@ public class WorkflowIntegrateBean extends PlatformBean implements WorkflowInteg
 	/**
 	 * 解除承認可能ワークフロー情報リストを取得する。<br>
 	 * 対象個人IDが解除承認可能なものを抽出する。<br>
+	 * ワークフロー承認者索引で候補を絞り込んだ上で、承認者であるかを確認する。<br>
 	 * 但し、ログインユーザが特権ロールを持つ場合、全ての解除承認可能なワークフローを返す。<br>
 	 * 対象機能コードセットに含まれる機能コードのワークフローのみを取得する。<br>
 	 * @param personalId 対象個人ID
@@ -850,13 +889,16 @@ public class WorkflowIntegrateBean extends PlatformBean implements WorkflowInteg
 	 */
 	public List<WorkflowDtoInterface> getCancelableList(String personalId, Set<String> functionCodeSet)
 			throws MospException {
-		// 承認可能ワークフロー情報リスト取得
-		List<WorkflowDtoInterface> cancelableList = workflowReference.getCancelableList(functionCodeSet);
 		// 特権ロール確認
 		if (mospParams.getUserRole().isSuper()) {
 			// 全ての承認可能ワークフロー情報を取得
-			return cancelableList;
+			return workflowReference.getCancelableList(functionCodeSet);
 		}
+		// 対象個人IDが承認者となりうるルートコード群を取得
+		Set<String> routeSet = getApproverRouteSet(personalId, getSystemDate());
+		// ワークフロー承認者索引から解除承認可能ワークフロー情報リスト取得
+		List<WorkflowDtoInterface> cancelableList = workflowReference.getCancelableList(personalId, routeSet,
+				functionCodeSet);
 		// 対象個人IDが承認可能なワークフロー情報リストを準備
 		List<WorkflowDtoInterface> list = new ArrayList<WorkflowDtoInterface>();
 		// ルートユニットリスト群を準備
@@ -1011,40 +1053,114 @@ public class WorkflowIntegrateBean extends PlatformBean implements WorkflowInteg
 			// 有効ワークフロー情報取得
 			effectiveList = workflowReference.getEffectiveList(fromDate, toDate, functionCodeSet);
 		}
-		// 検索条件絞込用ワークフロー情報リストを準備
-		List<WorkflowDtoInterface> searchList = new ArrayList<WorkflowDtoInterface>();
+		// 対象個人IDが参照可能なワークフロー情報リストを準備
+		List<WorkflowDtoInterface> list = new ArrayList<WorkflowDtoInterface>();
 		// ワークフロー情報毎に処理
 		for (WorkflowDtoInterface dto : effectiveList) {
-			// 検索条件による絞込
-			if (personalIdSet == null || personalIdSet.contains(dto.getPersonalId())) {
-				// 検索条件絞込用ワークフロー情報リストに追加
-				searchList.add(dto);
+			// 参照可能確認
+			if (isEffective(dto, personalId, personalIdSet, subordinateIdSet)) {
+				// リストにワークフロー情報を追加
+				list.add(dto);
 			}
 		}
-		// 計算ロール確認
-		if (mospParams.getUserRole().isCalculator()) {
-			// 全ての有効ワークフロー情報を取得
-			return searchList;
-		}
-		// 対象個人IDが承認可能なワークフロー情報リストを準備
+		return list;
+	}
+	
+	@Override
+	public List<WorkflowDtoInterface> getEffectiveList(String personalId, Date fromDate, Date toDate,
+			Set<String> functionCodeSet, String state, Set<String> personalIdSet, Set<String> subordinateIdSet,
+			String sortKey, boolean descending, String[] keys, int limit, int offset) throws MospException {
+		// 対象個人IDが参照可能なワークフロー情報リストを準備
 		List<WorkflowDtoInterface> list = new ArrayList<WorkflowDtoInterface>();
-		// ワークフロー情報毎に処理
-		for (WorkflowDtoInterface dto : searchList) {
-			// 部下確認
-			if (subordinateIdSet.contains(dto.getPersonalId())) {
-				// リストにワークフロー情報を追加
-				list.add(dto);
-				continue;
+		String[] chunkKeys = keys;
+		int skip = offset;
+		while (list.size() < limit) {
+			// ワークフロー情報をPAGE_CHUNK_SIZE件ずつ取得
+			List<WorkflowDtoInterface> chunk = workflowReference.getListForPage(fromDate, toDate, functionCodeSet,
+					state, sortKey, descending, chunkKeys, PAGE_CHUNK_SIZE);
+			if (chunk.isEmpty()) {
+				break;
 			}
-			// 承認者確認
-			if (isOneOfApprover(dto, personalId)) {
-				// リストにワークフロー情報を追加
+			// 次の検索のキー値を取得
+			chunkKeys = workflowReference.getKeys(chunk.get(chunk.size() - 1), sortKey);
+			// ワークフロー情報毎に処理
+			for (WorkflowDtoInterface dto : chunk) {
+				// 参照可能確認
+				if (isEffective(dto, personalId, personalIdSet, subordinateIdSet) == false) {
+					continue;
+				}
+				// 読み飛ばし
+				if (skip > 0) {
+					skip--;
+					continue;
+				}
 				list.add(dto);
+				if (list.size() == limit) {
+					break;
+				}
+			}
+			// 最後まで検索した場合
+			if (chunk.size() < PAGE_CHUNK_SIZE) {
+				break;
 			}
 		}
 		return list;
 	}
 	
+	@Override
+	public int getEffectiveCount(String personalId, Date fromDate, Date toDate, Set<String> functionCodeSet,
+			String state, Set<String> personalIdSet, Set<String> subordinateIdSet) throws MospException {
+		// 計算ロール確認
+		if (mospParams.getUserRole().isCalculator()) {
+			// 申請者による絞込のみで件数を取得
+			return workflowReference.getEffectiveCount(fromDate, toDate, functionCodeSet, state, personalIdSet,
+					subordinateIdSet, null);
+		}
+		// 部下、承認者個人ID或いは自己承認により参照可能な件数を取得
+		int count = workflowReference.getEffectiveCount(fromDate, toDate, functionCodeSet, state, personalIdSet,
+				subordinateIdSet, personalId);
+		// 承認ルートで承認者が決まる件数をルートコード毎に取得
+		Map<String, Integer> routeCountMap = workflowReference.getRouteCountMap(fromDate, toDate, functionCodeSet,
+				state, personalIdSet, subordinateIdSet, personalId);
+		// ルートコード毎に処理
+		for (Entry<String, Integer> entry : routeCountMap.entrySet()) {
+			// 承認ルートの承認者である場合
+			if (isRouteApprover(entry.getKey(), personalId)) {
+				count += entry.getValue();
+			}
+		}
+		return count;
+	}
+	
+	/**
+	 * 対象個人IDがワークフロー情報を参照可能であるかを確認する。<br>
+	 * 申請者が対象申請者個人IDセット(検索条件による)に含まれ、
+	 * 且つ計算ロールであるか、申請者が部下であるか、対象個人IDが承認者として含まれる場合に、参照可能とする。<br>
+	 * @param dto              ワークフロー情報
+	 * @param personalId       対象個人ID
+	 * @param personalIdSet    対象申請者個人IDセット(検索条件による)
+	 * @param subordinateIdSet 対象申請者個人IDセット(部下)
+	 * @return 確認結果(true：参照可能、false：参照不可)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected boolean isEffective(WorkflowDtoInterface dto, String personalId, Set<String> personalIdSet,
+			Set<String> subordinateIdSet) throws MospException {
+		// 検索条件による絞込
+		if (personalIdSet != null && personalIdSet.contains(dto.getPersonalId()) == false) {
+			return false;
+		}
+		// 計算ロール確認
+		if (mospParams.getUserRole().isCalculator()) {
+			return true;
+		}
+		// 部下確認
+		if (subordinateIdSet.contains(dto.getPersonalId())) {
+			return true;
+		}
+		// 承認者確認
+		return isOneOfApprover(dto, personalId);
+	}
+	
 	@Override
 	public List<WorkflowDtoInterface> getCompletedList(String personalId, Date fromDate, Date toDate,
 			Set<String> functionCodeSet) throws MospException {
@@ -32,6 +32,7 @@ import jp.mosp.platform.base.PlatformBean;
 import jp.mosp.platform.bean.workflow.WorkflowReferenceBeanInterface;
 import jp.mosp.platform.constant.PlatformConst;
 import jp.mosp.platform.dao.workflow.WorkflowDaoInterface;
+import jp.mosp.platform.dto.human.HumanDtoInterface;
 import jp.mosp.platform.dto.workflow.WorkflowDtoInterface;
 
 /**
@@ -108,6 +109,18 @@ public class WorkflowReferenceBean extends PlatformBean implements WorkflowRefer
 		return dao.findForCondition(null, null, functionCodeSet, getCancelAppliedSet());
 	}
 	
+	@Override
+	public List<WorkflowDtoInterface> getApprovableList(String personalId, Set<String> routeCodeSet,
+			Set<String> functionCodeSet) throws MospException {
+		return dao.findForApprover(personalId, routeCodeSet, functionCodeSet, getApprovableSet());
+	}
+	
+	@Override
+	public List<WorkflowDtoInterface> getCancelableList(String personalId, Set<String> routeCodeSet,
+			Set<String> functionCodeSet) throws MospException {
+		return dao.findForApprover(personalId, routeCodeSet, functionCodeSet, getCancelAppliedSet());
+	}
+	
 	@Override
 	public List<WorkflowDtoInterface> getEffectiveList(Date fromDate, Date toDate, Set<String> functionCodeSet)
 			throws MospException {
@@ -144,6 +157,79 @@ public class WorkflowReferenceBean extends PlatformBean implements WorkflowRefer
 		return dao.findForCondition(fromDate, toDate, functionCodeSet, getCancelAppliedSet());
 	}
 	
+	@Override
+	public List<WorkflowDtoInterface> getListForPage(Date fromDate, Date toDate, Set<String> functionCodeSet,
+			String state, String sortKey, boolean descending, String[] keys, int limit) throws MospException {
+		return dao.findForPage(fromDate, toDate, functionCodeSet, getStatusSet(state), sortKey, descending, keys,
+				limit);
+	}
+	
+	@Override
+	public String[] getKeys(WorkflowDtoInterface dto, String sortKey) throws MospException {
+		// キー値取得
+		String[] keys = dao.getKeys(dto, sortKey);
+		// 申請者の人事情報で並び替えるソートキーでない場合
+		if (WorkflowDaoInterface.SORT_EMPLOYEE_CODE.equals(sortKey) == false
+				&& WorkflowDaoInterface.SORT_EMPLOYEE_NAME.equals(sortKey) == false
+				&& WorkflowDaoInterface.SORT_SECTION_CODE.equals(sortKey) == false) {
+			return keys;
+		}
+		// 申請者のワークフロー日付以前で最新の人事情報を取得
+		HumanDtoInterface humanDto = getHumanInfo(dto.getPersonalId(), dto.getWorkflowDate());
+		if (humanDto == null) {
+			return keys;
+		}
+		// 人事情報のキー値を設定
+		if (WorkflowDaoInterface.SORT_EMPLOYEE_CODE.equals(sortKey)) {
+			keys[0] = humanDto.getEmployeeCode();
+		} else if (WorkflowDaoInterface.SORT_EMPLOYEE_NAME.equals(sortKey)) {
+			keys[0] = humanDto.getLastName();
+			keys[1] = humanDto.getFirstName();
+		} else {
+			keys[0] = humanDto.getSectionCode();
+		}
+		return keys;
+	}
+	
+	@Override
+	public int getEffectiveCount(Date fromDate, Date toDate, Set<String> functionCodeSet, String state,
+			Set<String> personalIdSet, Set<String> subordinateIdSet, String personalId) throws MospException {
+		return dao.countForEffective(fromDate, toDate, functionCodeSet, getStatusSet(state), personalIdSet,
+				subordinateIdSet, personalId);
+	}
+	
+	@Override
+	public Map<String, Integer> getRouteCountMap(Date fromDate, Date toDate, Set<String> functionCodeSet,
+			String state, Set<String> personalIdSet, Set<String> subordinateIdSet, String personalId)
+			throws MospException {
+		return dao.countForRoute(fromDate, toDate, functionCodeSet, getStatusSet(state), personalIdSet,
+				subordinateIdSet, personalId);
+	}
+	
+	/**
+	 * 対象ワークフロー状態に対応するワークフロー状況セットを取得する。<br>
+	 * 対象ワークフロー状態が未承認、承認済、差戻、解除申の場合はそれぞれのワークフロー状況セットを、
+	 * それ以外の場合は有効ワークフロー状況セットを取得する。<br>
+	 * @param state 対象ワークフロー状態
+	 * @return ワークフロー状況セット
+	 */
+	protected Set<String> getStatusSet(String state) {
+		// ワークフロー状態確認
+		if (state.equals(PlatformConst.CODE_STATUS_APPLY)) {
+			return getNonApprovedSet();
+		}
+		if (state.equals(PlatformConst.CODE_STATUS_COMPLETE)) {
+			return getCompletedSet();
+		}
+		if (state.equals(PlatformConst.CODE_STATUS_REVERT)) {
+			return getRevertedSet();
+		}
+		if (state.equals(PlatformConst.CODE_STATUS_CANCEL_APPLY)) {
+			return getCancelAppliedSet();
+		}
+		return getEffectiveSet();
+	}
+	
 	/**
 	 * 有効ワークフロー状況セットを取得する。<br>
 	 * @return 有効ワークフロー状況セット
@@ -160,6 +246,22 @@ public class WorkflowReferenceBean extends PlatformBean implements WorkflowRefer
 		return set;
 	}
 	
+	/**
+	 * 承認可能ワークフロー状況セットを取得する。<br>
+	 * 差戻は段階が0でないものが承認可能となるが、
+	 * ワークフロー承認者索引は段階が0でないものしか保持しないため、段階は確認しない。<br>
+	 * @return 承認可能ワークフロー状況セット
+	 */
+	protected Set<String> getApprovableSet() {
+		// ワークフロー状況セット準備
+		Set<String> set = new HashSet<String>();
+		set.add(PlatformConst.CODE_STATUS_APPLY);
+		set.add(PlatformConst.CODE_STATUS_APPROVED);
+		set.add(PlatformConst.CODE_STATUS_CANCEL);
+		set.add(PlatformConst.CODE_STATUS_REVERT);
+		return set;
+	}
+	
 	/**
 	 * 差戻ワークフロー状況セットを取得する。<br>
 	 * @return 差戻ワークフロー状況セット
@@ -28,16 +28,20 @@ import jp.mosp.framework.utils.MospUtility;
 import jp.mosp.platform.base.PlatformBean;
 import jp.mosp.platform.bean.system.PlatformMasterBeanInterface;
 import jp.mosp.platform.bean.workflow.ApprovalRouteReferenceBeanInterface;
+import jp.mosp.platform.bean.workflow.ExtraWorkflowRegistBeanInterface;
 import jp.mosp.platform.bean.workflow.WorkflowCommentReferenceBeanInterface;
 import jp.mosp.platform.bean.workflow.WorkflowCommentRegistBeanInterface;
 import jp.mosp.platform.bean.workflow.WorkflowRegistBeanInterface;
 import jp.mosp.platform.constant.PlatformConst;
 import jp.mosp.platform.constant.PlatformMessageConst;
+import jp.mosp.platform.dao.workflow.WorkflowApproverDaoInterface;
 import jp.mosp.platform.dao.workflow.WorkflowDaoInterface;
 import jp.mosp.platform.dto.workflow.ApprovalRouteDtoInterface;
 import jp.mosp.platform.dto.workflow.RouteApplicationDtoInterface;
+import jp.mosp.platform.dto.workflow.WorkflowApproverDtoInterface;
 import jp.mosp.platform.dto.workflow.WorkflowCommentDtoInterface;
 import jp.mosp.platform.dto.workflow.WorkflowDtoInterface;
+import jp.mosp.platform.dto.workflow.impl.PftWorkflowApproverDto;
 import jp.mosp.platform.dto.workflow.impl.PftWorkflowDto;
 import jp.mosp.platform.utils.PlatformMessageUtility;
 
@@ -46,30 +50,46 @@ import jp.mosp.platform.utils.PlatformMessageUtility;
  */
 public class WorkflowRegistBean extends PlatformBean implements WorkflowRegistBeanInterface {
 	
+	/**
+	 * MosPアプリケーション設定キー(ワークフロー登録追加クラス群)。
+	 */
+	protected static final String						APP_KEY_EXTRA_REGIST_BEANS	= "WorkflowExtraRegistBeans";
+	
 	/**
 	 * ワークフローDAOクラス。<br>
 	 */
-	protected WorkflowDaoInterface					dao;
+	protected WorkflowDaoInterface						dao;
+	
+	/**
+	 * ワークフロー承認者索引DAOクラス。<br>
+	 */
+	protected WorkflowApproverDaoInterface				approverDao;
 	
 	/**
 	 * 承認ルート参照クラス。
 	 */
-	protected ApprovalRouteReferenceBeanInterface	routeReference;
+	protected ApprovalRouteReferenceBeanInterface		routeReference;
 	
 	/**
 	 * プラットフォームマスタ参照クラス。<br>
 	 */
-	protected PlatformMasterBeanInterface			platformMaster;
+	protected PlatformMasterBeanInterface				platformMaster;
 	
 	/**
 	 * ワークフローコメント参照クラス。<br>
 	 */
-	protected WorkflowCommentReferenceBeanInterface	workflowCommentRefer;
+	protected WorkflowCommentReferenceBeanInterface		workflowCommentRefer;
 	
 	/**
 	 * ワークフローコメント登録クラス。<br>
 	 */
-	protected WorkflowCommentRegistBeanInterface	workflowCommentRegist;
+	protected WorkflowCommentRegistBeanInterface		workflowCommentRegist;
+	
+	/**
+	 * ワークフロー登録追加クラスリスト。<br>
+	 * 初めて利用する際に生成する。<br>
+	 */
+	protected List<ExtraWorkflowRegistBeanInterface>	extraRegistList;
 	
 	
 	/**
@@ -92,6 +112,7 @@ public class WorkflowRegistBean extends PlatformBean implements WorkflowRegistBe
 	public void initBean() throws MospException {
 		// クラス準備
 		dao = (WorkflowDaoInterface)createDao(WorkflowDaoInterface.class);
+		approverDao = (WorkflowApproverDaoInterface)createDao(WorkflowApproverDaoInterface.class);
 		routeReference = (ApprovalRouteReferenceBeanInterface)createBean(ApprovalRouteReferenceBeanInterface.class);
 		platformMaster = (PlatformMasterBeanInterface)createBean(PlatformMasterBeanInterface.class);
 		workflowCommentRefer = (WorkflowCommentReferenceBeanInterface)createBean(WorkflowCommentReferenceBeanInterface.class);
@@ -475,6 +496,10 @@ public class WorkflowRegistBean extends PlatformBean implements WorkflowRegistBe
 		dto.setPftWorkflowId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// ワークフロー承認者索引登録
+		registApprover(dto);
+		// 追加処理
+		registExtra(dto);
 		// ワークフロー番号を設定したDTOを取得
 		return dto;
 	}
@@ -505,10 +530,68 @@ public class WorkflowRegistBean extends PlatformBean implements WorkflowRegistBe
 		dto.setPftWorkflowId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// ワークフロー承認者索引登録
+		registApprover(dto);
+		// 追加処理
+		registExtra(dto);
 		// ワークフロー番号を設定したDTOを取得
 		return dto;
 	}
 	
+	/**
+	 * ワークフロー承認者索引を登録する。<br>
+	 * 対象ワークフローのワークフロー承認者索引を削除した上で、
+	 * 承認可能或いは解除承認可能な状況である場合は、現在の段階の承認者を登録する。<br>
+	 * 承認者個人IDが指定されている場合は現在の段階の承認者個人IDを、
+	 * そうでない場合はルートコードを登録する。<br>
+	 * @param dto 対象ワークフロー情報
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	protected void registApprover(WorkflowDtoInterface dto) throws MospException {
+		// ワークフロー承認者索引削除
+		approverDao.deleteForWorkflow(dto.getWorkflow());
+		// ワークフロー段階確認
+		if (dto.getWorkflowStage() == PlatformConst.WORKFLOW_STAGE_ZERO) {
+			// 段階が0の場合は承認対象外
+			return;
+		}
+		// ワークフロー状況確認
+		String status = dto.getWorkflowStatus();
+		if (status.equals(PlatformConst.CODE_STATUS_APPLY) == false
+				&& status.equals(PlatformConst.CODE_STATUS_APPROVED) == false
+				&& status.equals(PlatformConst.CODE_STATUS_CANCEL) == false
+				&& status.equals(PlatformConst.CODE_STATUS_REVERT) == false
+				&& status.equals(PlatformConst.CODE_STATUS_CANCEL_APPLY) == false) {
+			// 承認可能或いは解除承認可能な状況でない場合
+			return;
+		}
+		// ワークフロー承認者索引準備
+		WorkflowApproverDtoInterface approverDto = new PftWorkflowApproverDto();
+		approverDto.setWorkflow(dto.getWorkflow());
+		approverDto.setFunctionCode(dto.getFunctionCode());
+		approverDto.setWorkflowStage(dto.getWorkflowStage());
+		approverDto.setApproverId("");
+		approverDto.setRouteCode("");
+		// 承認者個人ID確認
+		if (dto.getApproverId().isEmpty() == false) {
+			// 承認者個人ID配列取得
+			String[] approverArray = split(dto.getApproverId(), SEPARATOR_DATA);
+			// 現在の段階の承認者個人IDを設定
+			if (dto.getWorkflowStage() <= approverArray.length) {
+				approverDto.setApproverId(approverArray[dto.getWorkflowStage() - 1]);
+			}
+		} else {
+			// ルートコードを設定
+			approverDto.setRouteCode(dto.getRouteCode());
+		}
+		// 承認者を特定できない場合
+		if (approverDto.getApproverId().isEmpty() && approverDto.getRouteCode().isEmpty()) {
+			return;
+		}
+		// 登録処理
+		approverDao.insert(approverDto);
+	}
+	
 	/**
 	 * 登録情報の妥当性を確認する。<br>
 	 * @param dto 対象DTO
@@ -826,6 +909,44 @@ public class WorkflowRegistBean extends PlatformBean implements WorkflowRegistBe
 	public void delete(WorkflowDtoInterface dto) throws MospException {
 		// 論理削除
 		logicalDelete(dao, dto.getPftWorkflowId());
+		// ワークフロー承認者索引削除
+		approverDao.deleteForWorkflow(dto.getWorkflow());
+		// 追加処理
+		registExtra(dto);
+	}
+	
+	/**
+	 * 設定ファイルに記載されたワークフロー登録追加クラスの処理を行う。<br>
+	 * @param dto 登録或いは削除したワークフロー情報
+	 * @throws MospException インスタンスの生成、或いはSQL実行に失敗した場合
+	 */
+	protected void registExtra(WorkflowDtoInterface dto) throws MospException {
+		// ワークフロー登録追加クラス毎に処理
+		for (ExtraWorkflowRegistBeanInterface extraRegist : getExtraRegistList()) {
+			extraRegist.regist(dto);
+		}
+	}
+	
+	/**
+	 * 設定ファイルに記載されたワークフロー登録追加クラスのインスタンスを取得する。<br>
+	 * @return ワークフロー登録追加クラスリスト
+	 * @throws MospException インスタンスの生成に失敗した場合
+	 */
+	protected List<ExtraWorkflowRegistBeanInterface> getExtraRegistList() throws MospException {
+		// 生成済である場合
+		if (extraRegistList != null) {
+			return extraRegistList;
+		}
+		// リストを準備
+		extraRegistList = new ArrayList<ExtraWorkflowRegistBeanInterface>();
+		// 設定ファイルからワークフロー登録追加クラス名群を取得
+		String[] extraBeans = mospParams.getApplicationProperties(APP_KEY_EXTRA_REGIST_BEANS);
+		// クラス名毎に処理
+		for (String className : extraBeans) {
+			// インスタンスを生成してリストに追加
+			extraRegistList.add((ExtraWorkflowRegistBeanInterface)createBean(className));
+		}
+		return extraRegistList;
 	}
 	
 	@Override
@@ -316,6 +316,11 @@ public class PlatformConst {
 	 */
 	public static final String	CODE_KEY_WORKFLOW_TYPE				= "WorkflowType";
 	
+	/**
+	 * コードキー(ジョブ状態)。
+	 */
+	public static final String	CODE_KEY_JOB_STATUS					= "JobStatus";
+	
 	/**
 	 * フロー区分(勤怠)。
 	 */
@@ -386,6 +391,26 @@ public class PlatformConst {
 	 */
 	public static final String	CODE_STATUS_COMPLETE				= "9";
 	
+	/**
+	 * ジョブ状態(実行待)。
+	 */
+	public static final String	CODE_JOB_STATUS_WAITING				= "0";
+	
+	/**
+	 * ジョブ状態(実行中)。
+	 */
+	public static final String	CODE_JOB_STATUS_RUNNING				= "1";
+	
+	/**
+	 * ジョブ状態(正常終了)。
+	 */
+	public static final String	CODE_JOB_STATUS_COMPLETED			= "2";
+	
+	/**
+	 * ジョブ状態(異常終了)。
+	 */
+	public static final String	CODE_JOB_STATUS_FAILED				= "9";
+	
 	/**
 	 * ワークフロー段階0(申請者)。
 	 */
@@ -421,4 +446,25 @@ public class PlatformConst {
 	 */
 	public static final String	PREFIX_DIRECT_JS					= "js";
 	
+	/**
+	 * JavaScript変数名(受付ジョブID)。<br>
+	 * 画面表示時に、受け付けたジョブの状況を表示するために用いる。<br>
+	 */
+	public static final String	JS_JOB_ID							= PREFIX_DIRECT_JS + "JobId";
+	
+	/**
+	 * MosPアプリケーション設定キー(所属階層閉包利用要否)。
+	 */
+	public static final String	APP_SECTION_CLOSURE					= "SectionClosure";
+	
+	/**
+	 * MosPアプリケーション設定キー(有効終了日利用テーブル)。
+	 */
+	public static final String	APP_VALID_TO_DATE_TABLES			= "ValidToDateTables";
+	
+	/**
+	 * MosPアプリケーション設定キー(インポートジョブ実行要否)。
+	 */
+	public static final String	APP_IMPORT_ASYNC					= "ImportAsync";
+	
 }
@@ -92,10 +92,63 @@ public class PlatformMailConst {
 	 */
 	public static final String	APP_MAIL_SSL				= "MailSsl";
 	
+	/**
+	 * MosPアプリケーション設定キー(メールポート)。<br>
+	 * 設定されていない場合は、SSL利用可否に応じたポートを用いる。<br>
+	 */
+	public static final String	APP_MAIL_PORT				= "MailPort";
+	
+	/**
+	 * MosPアプリケーション設定キー(メール送信件数)。<br>
+	 * 1回のSMTP接続で送信する上限件数。<br>
+	 */
+	public static final String	APP_MAIL_BATCH_SIZE			= "MailBatchSize";
+	
+	/**
+	 * MosPアプリケーション設定キー(メール再送上限回数)。
+	 */
+	public static final String	APP_MAIL_RETRY_LIMIT		= "MailRetryLimit";
+	
+	/**
+	 * MosPアプリケーション設定キー(メール再送間隔(秒))。
+	 */
+	public static final String	APP_MAIL_RETRY_INTERVAL		= "MailRetryInterval";
+	
+	/**
+	 * メール送信件数初期値。
+	 */
+	public static final int		DEFAULT_MAIL_BATCH_SIZE		= 100;
+	
+	/**
+	 * メール再送上限回数初期値。
+	 */
+	public static final int		DEFAULT_MAIL_RETRY_LIMIT	= 5;
+	
+	/**
+	 * メール再送間隔(秒)初期値。
+	 */
+	public static final int		DEFAULT_MAIL_RETRY_INTERVAL	= 60;
+	
+	/**
+	 * メール送信状態(送信待)。
+	 */
+	public static final String	CODE_MAIL_STATUS_WAITING	= "0";
+	
+	/**
+	 * メール送信状態(送信済)。
+	 */
+	public static final String	CODE_MAIL_STATUS_SENT		= "2";
+	
+	/**
+	 * メール送信状態(送信失敗)。
+	 */
+	public static final String	CODE_MAIL_STATUS_FAILED		= "9";
+	
 	public static final String	STR_UNDER_SEPARATOR			= ",";
 	
 	public static final String	MSG_MAIL_SEND_SUCCESS		= "へメールを送信しました。";
 	public static final String	MSG_MAIL_SEND_FAILED		= "への送信を失敗しました。";
+	public static final String	MSG_MAIL_CONNECT_FAILED		= "メールサーバに接続できませんでした。";
 	
 	/* テンプレート関連 */
 	public static final String	RUNTIME_LOG_LOGSYSTEM_CLASS	= "runtime.log.logsystem.class";
@@ -328,6 +328,14 @@ public class PlatformMessageConst {
 	 * 処理失敗時メッセージコード。<br>
 	 */
 	public static final String	MSG_PROCESS_FAILED_3							= "PFI0006";
+	/**
+	 * ジョブを受け付けた場合のメッセージコード。<br>
+	 */
+	public static final String	MSG_JOB_ACCEPTED								= "PFI0007";
+	/**
+	 * ジョブを受け付けられなかった場合のメッセージコード。<br>
+	 */
+	public static final String	MSG_JOB_REJECTED								= "PFI0008";
 	/**
 	 * データ情報が存在しない際のメッセージコード。<br>
 	 */
@@ -77,6 +77,17 @@ public interface HumanDaoInterface extends BaseDaoInterface {
 	 */
 	List<HumanDtoInterface> findForEmployeeCode(String employeeCode) throws MospException;
 	
+	/**
+	 * 人事マスタリストを取得する。<br>
+	 * 対象社員コードのいずれかが設定されたことのある個人の、全履歴を取得する。<br>
+	 * 個人ID、有効日の昇順で並べる。<br>
+	 * インポート等、大量の社員コードを有効日毎に個人IDへ変換する場合に用いる。<br>
+	 * @param employeeCodeSet 社員コードセット
+	 * @return 人事マスタリスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<HumanDtoInterface> findForEmployeeCodeHistory(Set<String> employeeCodeSet) throws MospException;
+	
 	/**
 	 * 履歴一覧。
 	 * <p>
@@ -108,6 +108,11 @@ public interface HumanSearchDaoInterface {
 	 */
 	String	SEARCH_UNNECESSARY_PERSONAL_ID		= "unnecessary";
 	
+	/**
+	 * 検索条件(個人ID群)。
+	 */
+	String	SEARCH_PERSONAL_ID_SET				= "personalIdSet";
+	
 	/**
 	 * 検索条件(承認ロール要否)。
 	 */
@@ -153,6 +158,68 @@ public interface HumanSearchDaoInterface {
 	 */
 	String	SEARCH_END_DATE						= "endDate";
 	
+	/**
+	 * ソートキー(社員コード)。
+	 */
+	String	SORT_EMPLOYEE_CODE					= "employeeCode";
+	
+	/**
+	 * ソートキー(氏名)。
+	 */
+	String	SORT_EMPLOYEE_NAME					= "employeeName";
+	
+	/**
+	 * ソートキー(カナ)。
+	 */
+	String	SORT_EMPLOYEE_KANA					= "employeeKana";
+	
+	/**
+	 * ソートキー(勤務地コード)。
+	 */
+	String	SORT_WORK_PLACE_CODE				= "workPlaceCode";
+	
+	/**
+	 * ソートキー(雇用契約コード)。
+	 */
+	String	SORT_EMPLOYMENT_CONTRACT_CODE		= "employmentContractCode";
+	
+	/**
+	 * ソートキー(所属コード)。
+	 */
+	String	SORT_SECTION_CODE					= "sectionCode";
+	
+	/**
+	 * ソートキー(職位コード)。
+	 */
+	String	SORT_POSITION_CODE					= "positionCode";
+	
+	/**
+	 * ソートキー(休退職区分)。<br>
+	 * 並び順は{@link #RETIRE_STATE_NOT_ENTERED}、{@link #RETIRE_STATE_SUSPEND}、
+	 * {@link #RETIRE_STATE_PRESENCE}、{@link #RETIRE_STATE_RETIRE}の順とする。<br>
+	 */
+	String	SORT_RETIRE_STATE					= "retireState";
+	
+	/**
+	 * 休退職区分キー値(未入社)。
+	 */
+	String	RETIRE_STATE_NOT_ENTERED			= "0";
+	
+	/**
+	 * 休退職区分キー値(休職)。
+	 */
+	String	RETIRE_STATE_SUSPEND				= "1";
+	
+	/**
+	 * 休退職区分キー値(在職)。
+	 */
+	String	RETIRE_STATE_PRESENCE				= "2";
+	
+	/**
+	 * 休退職区分キー値(退職)。
+	 */
+	String	RETIRE_STATE_RETIRE					= "3";
+	
 	
 	/**
 	 * 検索条件から人事マスタリストを取得する。<br>
@@ -162,6 +229,47 @@ public interface HumanSearchDaoInterface {
 	 */
 	List<HumanDtoInterface> findForSearch(Map<String, Object> param) throws MospException;
 	
+	/**
+	 * 検索条件から人事マスタの件数を取得する。<br>
+	 * @param param 検索条件マップ
+	 * @return 件数
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	int countForSearch(Map<String, Object> param) throws MospException;
+	
+	/**
+	 * 検索条件から人事マスタリストを頁単位で取得する。<br>
+	 * キー値が指定されている場合は、キー値より後(降順の場合は前)の情報を取得する(キーセット方式)。<br>
+	 * @param param      検索条件マップ
+	 * @param sortKey    ソートキー
+	 * @param descending 降順フラグ
+	 * @param keys       キー値(キー値を指定しない場合はnull)
+	 * @param limit      取得件数
+	 * @param offset     読み飛ばし件数
+	 * @return 人事マスタリスト
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	List<HumanDtoInterface> findForPage(Map<String, Object> param, String sortKey, boolean descending, String[] keys,
+			int limit, int offset) throws MospException;
+	
+	/**
+	 * 人事マスタ情報のキー値を取得する。<br>
+	 * {@link #findForPage(Map, String, boolean, String[], int, int)}のキー値として用いる。<br>
+	 * 休退職区分は人事マスタ情報から判断できないため、
+	 * {@link #SORT_RETIRE_STATE}の場合は先頭のキー値をnullとし、呼出元で休退職区分キー値を設定する。<br>
+	 * @param dto     人事マスタ情報
+	 * @param sortKey ソートキー
+	 * @return キー値
+	 */
+	String[] getKeys(HumanDtoInterface dto, String sortKey);
+	
+	/**
+	 * ソートキーで頁単位の検索ができるかを確認する。<br>
+	 * @param sortKey ソートキー
+	 * @return 確認結果(true：頁単位で検索できる、false：できない)
+	 */
+	boolean isPageable(String sortKey);
+	
 	/**
 	 * 検索条件取得。
 	 * @return 人事マスタ検索条件マップ
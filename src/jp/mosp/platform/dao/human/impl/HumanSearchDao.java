@@ -17,10 +17,14 @@
  */
 package jp.mosp.platform.dao.human.impl;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.MospException;
 import jp.mosp.platform.constant.PlatformConst;
@@ -38,140 +42,150 @@ import jp.mosp.platform.dto.human.HumanDtoInterface;
  */
 public class HumanSearchDao extends PfmHumanDao implements HumanSearchDaoInterface {
 	
+	/**
+	 * 検索条件(個人ID群)を登録する一時テーブル名。<br>
+	 */
+	protected static final String	TMP_TABLE_PERSONAL_ID	= "tmp_search_personal_id";
+	
 	/**
 	 * 所属マスタDAOクラス(サブクエリ等取得用)。
 	 */
-	SectionDaoInterface		sectionDao;
+	SectionDaoInterface				sectionDao;
 	
 	/**
 	 * 職位マスタDAOクラス(サブクエリ等取得用)。
 	 */
-	PositionDaoInterface	positionDao;
+	PositionDaoInterface			positionDao;
 	
 	/**
 	 * 人事兼務情報DAOクラス(サブクエリ等取得用)。
 	 */
-	ConcurrentDaoInterface	concurrentDao;
+	ConcurrentDaoInterface			concurrentDao;
 	
 	/**
 	 * ユーザマスタDAOクラス(サブクエリ等取得用)。
 	 */
-	UserMasterDaoInterface	userDao;
+	UserMasterDaoInterface			userDao;
 	
 	/**
 	 * 検索条件(対象日)。
 	 */
-	private Date			targetDate;
+	private Date					targetDate;
 	
 	/**
 	 * 検索条件(社員コード)。
 	 */
-	private String			employeeCode;
+	private String					employeeCode;
 	
 	/**
 	 * 検索条件(from社員コード)。
 	 */
-	private String			fromEmployeeCode;
+	private String					fromEmployeeCode;
 	
 	/**
 	 * 検索条件(to社員コード)。
 	 */
-	private String			toEmployeeCode;
+	private String					toEmployeeCode;
 	
 	/**
 	 * 検索条件(社員コード検索条件区分)。
 	 */
-	private String			employeeCodeType;
+	private String					employeeCodeType;
 	
 	/**
 	 * 検索条件(姓)。
 	 */
-	private String			lastName;
+	private String					lastName;
 	
 	/**
 	 * 検索条件(姓検索条件区分)。
 	 */
-	private String			lastNameType;
+	private String					lastNameType;
 	
 	/**
 	 * 検索条件(名)。
 	 */
-	private String			firstName;
+	private String					firstName;
 	
 	/**
 	 * 検索条件(名検索条件区分)。
 	 */
-	private String			firstNameType;
+	private String					firstNameType;
 	
 	/**
 	 * 検索条件(姓(カナ))。
 	 */
-	private String			lastKana;
+	private String					lastKana;
 	
 	/**
 	 * 検索条件(姓(カナ)検索条件区分)。
 	 */
-	private String			lastKanaType;
+	private String					lastKanaType;
 	
 	/**
 	 * 検索条件(名(カナ))。
 	 */
-	private String			firstKana;
+	private String					firstKana;
 	
 	/**
 	 * 検索条件(名(カナ)検索条件区分)。
 	 */
-	private String			firstKanaType;
+	private String					firstKanaType;
 	
 	/**
 	 * 検索条件(氏名)。
 	 */
-	private String			employeeName;
+	private String					employeeName;
 	
 	/**
 	 * 検索条件(勤務地コード)。
 	 */
-	private String			workPlaceCode;
+	private String					workPlaceCode;
 	
 	/**
 	 * 検索条件(雇用契約コード)。
 	 */
-	private String			employmentContractCode;
+	private String					employmentContractCode;
 	
 	/**
 	 * 検索条件(所属コード)。
 	 */
-	private String			sectionCode;
+	private String					sectionCode;
 	
 	/**
 	 * 検索条件(下位所属要否)。
 	 */
-	private boolean			needLowerSection;
+	private boolean					needLowerSection;
 	
 	/**
 	 * 検索条件(職位コード)。
 	 */
-	private String			positionCode;
+	private String					positionCode;
 	
 	/**
 	 * 検索条件(職位等級範囲)。
 	 */
-	private String			positionGradeRange;
+	private String					positionGradeRange;
 	
 	/**
 	 * 検索条件(兼務要否)。
 	 */
-	private boolean			needConcurrent;
+	private boolean					needConcurrent;
 	
 	/**
 	 * 検索条件(不要個人ID)。
 	 */
-	private String			unnecessaryPersonalId;
+	private String					unnecessaryPersonalId;
 	
 	/**
 	 * 検索条件(承認権限要否)。
 	 */
-	private boolean			needApproverRole;
+	private boolean					needApproverRole;
+	
+	/**
+	 * 検索条件(個人ID群)。
+	 */
+	private Set<String>				personalIdSet;
 	
 	
 	/**
@@ -188,6 +202,8 @@ public class HumanSearchDao extends PfmHumanDao implements HumanSearchDaoInterfa
 			setDaoInstances();
 			// 検索条件設定
 			setSearchParams(param);
+			// 検索条件(個人ID群)を一時テーブルに登録
+			insertTmpPersonalIds();
 			// ステートメント生成
 			prepareStatement(getQueryForSearch(param));
 			// 検索条件パラメータ設定
@@ -204,6 +220,235 @@ public class HumanSearchDao extends PfmHumanDao implements HumanSearchDaoInterfa
 		}
 	}
 	
+	@Override
+	public int countForSearch(Map<String, Object> param) throws MospException {
+		try {
+			// サブクエリ等を取得するためのDAOクラスを設定
+			setDaoInstances();
+			// 検索条件設定
+			setSearchParams(param);
+			// 検索条件(個人ID群)を一時テーブルに登録
+			insertTmpPersonalIds();
+			// ステートメント生成
+			prepareStatement(getSelectCountQuery(getClass()) + getQueryForSearchCondition(param));
+			// 検索条件パラメータ設定
+			setParamsForSearch(param);
+			// SQL実行
+			executeQuery();
+			// 検索結果取得
+			int count = 0;
+			if (next()) {
+				count = rs.getInt(1);
+			}
+			return count;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public List<HumanDtoInterface> findForPage(Map<String, Object> param, String sortKey, boolean descending,
+			String[] keys, int limit, int offset) throws MospException {
+		try {
+			// 並び替え列取得
+			String[] columns = getSortColumns(sortKey);
+			// サブクエリ等を取得するためのDAOクラスを設定
+			setDaoInstances();
+			// 検索条件設定
+			setSearchParams(param);
+			// 検索条件(個人ID群)を一時テーブルに登録
+			insertTmpPersonalIds();
+			// ステートメント生成
+			StringBuffer sb = new StringBuffer(getSelectQuery(getClass()));
+			sb.append(getQueryForSearchCondition(param));
+			if (keys != null) {
+				sb.append(getKeysetCondition(columns, descending));
+			}
+			sb.append(getKeysetOrder(columns, descending, offset > 0));
+			prepareStatement(sb.toString());
+			// 検索条件パラメータ設定
+			setParamsForSearch(param);
+			// キー値パラメータ設定
+			if (keys != null) {
+				index = setParamsForSortColumns(index, sortKey);
+				index = setParamsForKeyset(index, keys);
+			}
+			// 並び替え及び件数パラメータ設定
+			index = setParamsForSortColumns(index, sortKey);
+			setParam(index++, limit);
+			if (offset > 0) {
+				setParam(index++, offset);
+			}
+			// SQL実行
+			executeQuery();
+			// 検索結果取得
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public String[] getKeys(HumanDtoInterface dto, String sortKey) {
+		String[] keys;
+		if (SORT_EMPLOYEE_NAME.equals(sortKey)) {
+			keys = new String[]{ dto.getLastName(), dto.getFirstName(), dto.getPersonalId() };
+		} else if (SORT_EMPLOYEE_KANA.equals(sortKey)) {
+			keys = new String[]{ dto.getLastKana(), dto.getFirstKana(), dto.getPersonalId() };
+		} else if (SORT_WORK_PLACE_CODE.equals(sortKey)) {
+			keys = new String[]{ dto.getWorkPlaceCode(), dto.getPersonalId() };
+		} else if (SORT_EMPLOYMENT_CONTRACT_CODE.equals(sortKey)) {
+			keys = new String[]{ dto.getEmploymentContractCode(), dto.getPersonalId() };
+		} else if (SORT_SECTION_CODE.equals(sortKey)) {
+			keys = new String[]{ dto.getSectionCode(), dto.getPersonalId() };
+		} else if (SORT_POSITION_CODE.equals(sortKey)) {
+			keys = new String[]{ dto.getPositionCode(), dto.getPersonalId() };
+		} else if (SORT_RETIRE_STATE.equals(sortKey)) {
+			// 休退職区分キー値は呼出元で設定
+			keys = new String[]{ null, dto.getPersonalId() };
+		} else {
+			keys = new String[]{ dto.getEmployeeCode(), dto.getPersonalId() };
+		}
+		return keys;
+	}
+	
+	@Override
+	public boolean isPageable(String sortKey) {
+		return SORT_EMPLOYEE_CODE.equals(sortKey) || SORT_EMPLOYEE_NAME.equals(sortKey)
+				|| SORT_EMPLOYEE_KANA.equals(sortKey) || SORT_WORK_PLACE_CODE.equals(sortKey)
+				|| SORT_EMPLOYMENT_CONTRACT_CODE.equals(sortKey) || SORT_SECTION_CODE.equals(sortKey)
+				|| SORT_POSITION_CODE.equals(sortKey) || SORT_RETIRE_STATE.equals(sortKey);
+	}
+	
+	/**
+	 * ソートキーに対応する並び替え列を取得する。<br>
+	 * 末尾は、一意性を保証する個人IDとする。<br>
+	 * 並び順は{@link #getKeys(HumanDtoInterface, String)}と対応させる。<br>
+	 * @param sortKey ソートキー
+	 * @return 並び替え列
+	 */
+	protected String[] getSortColumns(String sortKey) {
+		if (SORT_EMPLOYEE_NAME.equals(sortKey)) {
+			return new String[]{ COL_LAST_NAME, COL_FIRST_NAME, COL_PERSONAL_ID };
+		}
+		if (SORT_EMPLOYEE_KANA.equals(sortKey)) {
+			return new String[]{ COL_LAST_KANA, COL_FIRST_KANA, COL_PERSONAL_ID };
+		}
+		if (SORT_WORK_PLACE_CODE.equals(sortKey)) {
+			return new String[]{ COL_WORK_PLACE_CODE, COL_PERSONAL_ID };
+		}
+		if (SORT_EMPLOYMENT_CONTRACT_CODE.equals(sortKey)) {
+			return new String[]{ COL_EMPLOYMENT_CONTRACT_CODE, COL_PERSONAL_ID };
+		}
+		if (SORT_SECTION_CODE.equals(sortKey)) {
+			return new String[]{ COL_SECTION_CODE, COL_PERSONAL_ID };
+		}
+		if (SORT_POSITION_CODE.equals(sortKey)) {
+			return new String[]{ COL_POSITION_CODE, COL_PERSONAL_ID };
+		}
+		if (SORT_RETIRE_STATE.equals(sortKey)) {
+			return new String[]{ getQueryForRetireState(), COL_PERSONAL_ID };
+		}
+		return new String[]{ COL_EMPLOYEE_CODE, COL_PERSONAL_ID };
+	}
+	
+	/**
+	 * 並び替え列のパラメータを設定する。<br>
+	 * 並び替え列にパラメータを含むのは、休退職区分の場合のみである。<br>
+	 * @param index   パラメータインデックス
+	 * @param sortKey ソートキー
+	 * @return 加算されたパラメータインデックス
+	 * @throws MospException SQL例外が発生した場合
+	 */
+	protected int setParamsForSortColumns(int index, String sortKey) throws MospException {
+		// パラメータインデックス準備
+		int idx = index;
+		// 休退職区分確認
+		if (SORT_RETIRE_STATE.equals(sortKey)) {
+			// 退職、休職(3件)、入社の順に対象日を設定
+			for (int i = 0; i < 5; i++) {
+				setParam(idx++, targetDate, false);
+			}
+		}
+		return idx;
+	}
+	
+	/**
+	 * 対象日時点の休退職区分キー値を取得するSQL(CASE式)を取得する。<br>
+	 * 判定順は人事情報検索クラスの休退職区分設定と同じとする(退職、休職、未入社、在職)。<br>
+	 * @return 休退職区分キー値を取得するSQL
+	 */
+	protected String getQueryForRetireState() {
+		// SQL作成準備
+		StringBuffer sb = new StringBuffer();
+		// 退職(対象日より前に退職日がある場合)
+		sb.append(" CASE WHEN ");
+		sb.append(COL_PERSONAL_ID);
+		sb.append(in());
+		sb.append(leftParenthesis());
+		sb.append(select());
+		sb.append(PfaHumanRetirementDao.COL_PERSONAL_ID);
+		sb.append(from(PfaHumanRetirementDao.TABLE));
+		sb.append(where());
+		sb.append(deleteFlagOff());
+		sb.append(and());
+		sb.append(less(PfaHumanRetirementDao.COL_RETIREMENT_DATE));
+		sb.append(rightParenthesis());
+		sb.append(" THEN '");
+		sb.append(RETIRE_STATE_RETIRE);
+		// 休職(対象日が休職期間内の場合)
+		sb.append("' WHEN ");
+		sb.append(COL_PERSONAL_ID);
+		sb.append(in());
+		sb.append(leftParenthesis());
+		sb.append(select());
+		sb.append(PfaHumanSuspensionDao.COL_PERSONAL_ID);
+		sb.append(from(PfaHumanSuspensionDao.TABLE));
+		sb.append(where());
+		sb.append(deleteFlagOff());
+		sb.append(and());
+		sb.append(lessEqual(PfaHumanSuspensionDao.COL_START_DATE));
+		sb.append(and());
+		sb.append(leftParenthesis());
+		sb.append(leftParenthesis());
+		sb.append(isNull(PfaHumanSuspensionDao.COL_END_DATE));
+		sb.append(and());
+		sb.append(greaterEqual(PfaHumanSuspensionDao.COL_SCHEDULE_END_DATE));
+		sb.append(rightParenthesis());
+		sb.append(or());
+		sb.append(greaterEqual(PfaHumanSuspensionDao.COL_END_DATE));
+		sb.append(rightParenthesis());
+		sb.append(rightParenthesis());
+		sb.append(" THEN '");
+		sb.append(RETIRE_STATE_SUSPEND);
+		// 未入社(対象日以前に入社日がない場合)
+		sb.append("' WHEN ");
+		sb.append(COL_PERSONAL_ID);
+		sb.append(notIn());
+		sb.append(leftParenthesis());
+		sb.append(select());
+		sb.append(PfaHumanEntranceDao.COL_PERSONAL_ID);
+		sb.append(from(PfaHumanEntranceDao.TABLE));
+		sb.append(where());
+		sb.append(deleteFlagOff());
+		sb.append(and());
+		sb.append(lessEqual(PfaHumanEntranceDao.COL_ENTRANCE_DATE));
+		sb.append(rightParenthesis());
+		sb.append(" THEN '");
+		sb.append(RETIRE_STATE_NOT_ENTERED);
+		// 在職
+		sb.append("' ELSE '");
+		sb.append(RETIRE_STATE_PRESENCE);
+		sb.append("' END ");
+		return sb.toString();
+	}
+	
 	@Override
 	public Map<String, Object> getParamsMap() {
 		return new HashMap<String, Object>();
@@ -249,6 +494,72 @@ public class HumanSearchDao extends PfmHumanDao implements HumanSearchDaoInterfa
 		needConcurrent = getSearchBoolParam(param, HumanSearchDaoInterface.SEARCH_NEED_CONCURRENT);
 		unnecessaryPersonalId = getSearchParam(param, HumanSearchDaoInterface.SEARCH_UNNECESSARY_PERSONAL_ID);
 		needApproverRole = getSearchBoolParam(param, HumanSearchDaoInterface.SEARCH_NEED_APPROVER_ROLE);
+		personalIdSet = getSearchSetParam(param, HumanSearchDaoInterface.SEARCH_PERSONAL_ID_SET);
+	}
+	
+	/**
+	 * 検索条件(文字列の集合)を取得する。<br>
+	 * キーの検索条件が設定されていない場合、nullを返す。<br>
+	 * @param param 検索条件マップ
+	 * @param key   検索条件キー
+	 * @return 検索条件
+	 */
+	@SuppressWarnings("unchecked")
+	protected Set<String> getSearchSetParam(Map<String, Object> param, String key) {
+		Object obj = param.get(key);
+		if (obj instanceof Set) {
+			return (Set<String>)obj;
+		}
+		return null;
+	}
+	
+	/**
+	 * 検索条件(個人ID群)を一時テーブルに登録する。<br>
+	 * <br>
+	 * 個人ID群を検索SQLのIN句に並べるとパラメータ数が個人IDの数だけ増えるため、
+	 * 一時テーブルに登録して副問合せで結合する。<br>
+	 * 一時テーブルはDBコネクション毎に作成されコネクションを閉じるまで残るため、
+	 * 存在しない場合に限り作成し、前回の検索で登録した個人IDは削除してから登録する。<br>
+	 * 一時テーブルの更新でマスタキャッシュが破棄されないよう、
+	 * {@link #executeUpdate()}は用いずにステートメントを直接実行する。<br>
+	 * 検索条件(個人ID群)が設定されていない場合は、何もしない。<br>
+	 * @throws MospException SQL例外が発生した場合
+	 */
+	protected void insertTmpPersonalIds() throws MospException {
+		// 検索条件(個人ID群)が設定されていない場合
+		if (personalIdSet == null) {
+			return;
+		}
+		Statement statement = null;
+		PreparedStatement insert = null;
+		try {
+			// 一時テーブル作成及び前回登録分の削除
+			statement = connection.createStatement();
+			statement.executeUpdate("CREATE LOCAL TEMPORARY TABLE IF NOT EXISTS " + TMP_TABLE_PERSONAL_ID + " ("
+					+ COL_PERSONAL_ID + " varchar(10) PRIMARY KEY)");
+			statement.executeUpdate("DELETE FROM " + TMP_TABLE_PERSONAL_ID);
+			// 個人ID登録
+			insert = connection.prepareStatement("INSERT INTO " + TMP_TABLE_PERSONAL_ID + " (" + COL_PERSONAL_ID
+					+ ") VALUES (?)");
+			for (String personalId : personalIdSet) {
+				insert.setString(1, personalId);
+				insert.addBatch();
+			}
+			insert.executeBatch();
+		} catch (SQLException e) {
+			throw new MospException(e);
+		} finally {
+			try {
+				if (insert != null) {
+					insert.close();
+				}
+				if (statement != null) {
+					statement.close();
+				}
+			} catch (SQLException e) {
+				throw new MospException(e);
+			}
+		}
 	}
 	
 	/**
@@ -260,6 +571,23 @@ public class HumanSearchDao extends PfmHumanDao implements HumanSearchDaoInterfa
 	protected String getQueryForSearch(Map<String, Object> param) throws MospException {
 		// SQL作成準備(SELECT文追加)
 		StringBuffer sb = new StringBuffer(getSelectQuery(getClass()));
+		// 検索条件SQL追加
+		sb.append(getQueryForSearchCondition(param));
+		// 並び替え
+		sb.append(getOrderByColumnForParam(param));
+		return sb.toString();
+	}
+	
+	/**
+	 * 検索条件SQL(WHERE部)を取得する。<br>
+	 * 検索SQL及び件数検索SQLで共通して用いる。<br>
+	 * @param param 検索条件マップ
+	 * @return 検索条件SQL
+	 * @throws MospException SQLの作成に失敗した場合
+	 */
+	protected String getQueryForSearchCondition(Map<String, Object> param) throws MospException {
+		// SQL作成準備
+		StringBuffer sb = new StringBuffer();
 		// WHERE部追加(対象日以前で削除されていない最新の情報を取得)
 		sb.append(getQueryForMaxActivateDate(TABLE, COL_PERSONAL_ID, COL_ACTIVATE_DATE));
 		sb.append(where());
@@ -378,6 +706,17 @@ public class HumanSearchDao extends PfmHumanDao implements HumanSearchDaoInterfa
 			sb.append(and());
 			sb.append(notEqual(COL_PERSONAL_ID));
 		}
+		// 個人ID群条件SQL追加(一時テーブルに登録した個人IDに限定)
+		if (personalIdSet != null) {
+			sb.append(and());
+			sb.append(COL_PERSONAL_ID);
+			sb.append(in());
+			sb.append(leftParenthesis());
+			sb.append(select());
+			sb.append(COL_PERSONAL_ID);
+			sb.append(from(TMP_TABLE_PERSONAL_ID));
+			sb.append(rightParenthesis());
+		}
 		// 承認ロール条件SQL追加
 		if (needApproverRole) {
 			sb.append(userDao.getQueryForApprover(COL_PERSONAL_ID));
@@ -387,8 +726,6 @@ public class HumanSearchDao extends PfmHumanDao implements HumanSearchDaoInterfa
 		sb.append(getQueryForRange(param, COL_PERSONAL_ID));
 		// その他条件SQL追加
 		sb.append(getAdditionalQuery(param));
-		// 並び替え
-		sb.append(getOrderByColumnForParam(param));
 		return sb.toString();
 	}
 	
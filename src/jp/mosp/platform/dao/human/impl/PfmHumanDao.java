@@ -311,6 +311,40 @@ public class PfmHumanDao extends PlatformDao implements HumanDaoInterface {
 		}
 	}
 	
+	@Override
+	public List<HumanDtoInterface> findForEmployeeCodeHistory(Set<String> employeeCodeSet) throws MospException {
+		if (employeeCodeSet.isEmpty()) {
+			return new ArrayList<HumanDtoInterface>();
+		}
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(COL_PERSONAL_ID);
+			sb.append(in());
+			sb.append(leftParenthesis());
+			sb.append(select());
+			sb.append(COL_PERSONAL_ID);
+			sb.append(from(TABLE));
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_EMPLOYEE_CODE, employeeCodeSet.size()));
+			sb.append(rightParenthesis());
+			sb.append(getOrderByColumn(COL_PERSONAL_ID, COL_ACTIVATE_DATE));
+			prepareStatement(sb.toString());
+			setParamsIn(employeeCodeSet.toArray(new String[employeeCodeSet.size()]));
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public List<HumanDtoInterface> findForHistory(String personalId) throws MospException {
 		try {
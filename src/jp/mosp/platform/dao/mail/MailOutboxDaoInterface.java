@@ -0,0 +1,50 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.dao.mail;
+
+import java.util.Date;
+import java.util.List;
+
+import jp.mosp.framework.base.BaseDaoInterface;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.platform.dto.mail.MailOutboxDtoInterface;
+
+/**
+ * メール送信待ちDAOインターフェース。
+ */
+public interface MailOutboxDaoInterface extends BaseDaoInterface {
+	
+	/**
+	 * 送信対象のメール送信待ち情報リストを取得する。<br>
+	 * 送信状態が送信待で次回送信日時が対象日時以前のものを、
+	 * 次回送信日時の昇順で上限件数まで取得する。<br>
+	 * @param targetTime 対象日時
+	 * @param limit      上限件数
+	 * @return メール送信待ち情報リスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<MailOutboxDtoInterface> findForSend(Date targetTime, int limit) throws MospException;
+	
+	/**
+	 * 送信待のメール送信待ち情報のうち、次回送信日時が最も早いものを取得する。<br>
+	 * @return メール送信待ち情報(送信待のものが無い場合はnull)
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	MailOutboxDtoInterface findForNext() throws MospException;
+	
+}
@@ -0,0 +1,235 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.dao.mail.impl;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import jp.mosp.framework.base.BaseDto;
+import jp.mosp.framework.base.BaseDtoInterface;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.platform.base.PlatformDao;
+import jp.mosp.platform.constant.PlatformMailConst;
+import jp.mosp.platform.dao.mail.MailOutboxDaoInterface;
+import jp.mosp.platform.dto.mail.MailOutboxDtoInterface;
+import jp.mosp.platform.dto.mail.impl.PftMailOutboxDto;
+
+/**
+ * メール送信待ちDAO。
+ */
+public class PftMailOutboxDao extends PlatformDao implements MailOutboxDaoInterface {
+	
+	/**
+	 * メール送信待ちテーブル。
+	 */
+	public static final String	TABLE					= "pft_mail_outbox";
+	
+	/**
+	 * レコード識別ID。
+	 */
+	public static final String	COL_PFT_MAIL_OUTBOX_ID	= "pft_mail_outbox_id";
+	
+	/**
+	 * 個人ID(送信先)。
+	 */
+	public static final String	COL_PERSONAL_ID			= "personal_id";
+	
+	/**
+	 * メールアドレス(送信先)。
+	 */
+	public static final String	COL_MAIL_ADDRESS		= "mail_address";
+	
+	/**
+	 * 件名。
+	 */
+	public static final String	COL_MAIL_TITLE			= "mail_title";
+	
+	/**
+	 * 本文。
+	 */
+	public static final String	COL_MAIL_TEXT			= "mail_text";
+	
+	/**
+	 * 送信状態。
+	 */
+	public static final String	COL_MAIL_STATUS			= "mail_status";
+	
+	/**
+	 * 再送回数。
+	 */
+	public static final String	COL_RETRY_COUNT			= "retry_count";
+	
+	/**
+	 * 次回送信日時。
+	 */
+	public static final String	COL_NEXT_SEND_TIME		= "next_send_time";
+	
+	/**
+	 * 送信日時。
+	 */
+	public static final String	COL_SEND_TIME			= "send_time";
+	
+	/**
+	 * メッセージ。
+	 */
+	public static final String	COL_MAIL_MESSAGE		= "mail_message";
+	
+	/**
+	 * キー。
+	 */
+	public static final String	KEY_1					= COL_PFT_MAIL_OUTBOX_ID;
+	
+	
+	@Override
+	public void initDao() {
+		// 処理なし
+	}
+	
+	@Override
+	public BaseDto mapping() throws MospException {
+		PftMailOutboxDto dto = new PftMailOutboxDto();
+		dto.setPftMailOutboxId(getLong(COL_PFT_MAIL_OUTBOX_ID));
+		dto.setPersonalId(getString(COL_PERSONAL_ID));
+		dto.setMailAddress(getString(COL_MAIL_ADDRESS));
+		dto.setMailTitle(getString(COL_MAIL_TITLE));
+		dto.setMailText(getString(COL_MAIL_TEXT));
+		dto.setMailStatus(getString(COL_MAIL_STATUS));
+		dto.setRetryCount(getInt(COL_RETRY_COUNT));
+		dto.setNextSendTime(getTimestamp(COL_NEXT_SEND_TIME));
+		dto.setSendTime(getTimestamp(COL_SEND_TIME));
+		dto.setMailMessage(getString(COL_MAIL_MESSAGE));
+		mappingCommonInfo(dto);
+		return dto;
+	}
+	
+	@Override
+	public List<MailOutboxDtoInterface> mappingAll() throws MospException {
+		List<MailOutboxDtoInterface> all = new ArrayList<MailOutboxDtoInterface>();
+		while (next()) {
+			all.add(castDto(mapping()));
+		}
+		return all;
+	}
+	
+	@Override
+	public void setParams(BaseDtoInterface baseDto, boolean isInsert) throws MospException {
+		MailOutboxDtoInterface dto = castDto(baseDto);
+		setParam(index++, dto.getPftMailOutboxId());
+		setParam(index++, dto.getPersonalId());
+		setParam(index++, dto.getMailAddress());
+		setParam(index++, dto.getMailTitle());
+		setParam(index++, dto.getMailText());
+		setParam(index++, dto.getMailStatus());
+		setParam(index++, dto.getRetryCount());
+		setParam(index++, dto.getNextSendTime(), true);
+		setParam(index++, dto.getSendTime(), true);
+		setParam(index++, dto.getMailMessage());
+		setCommonParams(dto, isInsert);
+	}
+	
+	@Override
+	public int update(BaseDtoInterface baseDto) throws MospException {
+		try {
+			index = 1;
+			prepareStatement(getUpdateQuery(getClass()));
+			setParams(baseDto, false);
+			MailOutboxDtoInterface dto = castDto(baseDto);
+			setParam(index++, dto.getPftMailOutboxId());
+			executeUpdate();
+			chkUpdate(1);
+			return cnt;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public int delete(BaseDtoInterface baseDto) {
+		// 処理なし
+		return 0;
+	}
+	
+	/**
+	 * DTOインスタンスのキャストを行う。<br>
+	 * @param baseDto 対象DTO
+	 * @return キャストされたDTO
+	 */
+	protected MailOutboxDtoInterface castDto(BaseDtoInterface baseDto) {
+		return (MailOutboxDtoInterface)baseDto;
+	}
+	
+	@Override
+	public List<MailOutboxDtoInterface> findForSend(Date targetTime, int limit) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(equal(COL_MAIL_STATUS));
+			sb.append(and());
+			sb.append(lessEqual(COL_NEXT_SEND_TIME));
+			sb.append(getOrderByColumn(COL_NEXT_SEND_TIME, COL_PFT_MAIL_OUTBOX_ID));
+			sb.append(getLimit());
+			sb.append("?");
+			prepareStatement(sb.toString());
+			setParam(index++, PlatformMailConst.CODE_MAIL_STATUS_WAITING);
+			setParam(index++, targetTime, true);
+			setParam(index++, limit);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public MailOutboxDtoInterface findForNext() throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(equal(COL_MAIL_STATUS));
+			sb.append(getOrderByColumn(COL_NEXT_SEND_TIME));
+			sb.append(getLimit());
+			sb.append("1");
+			prepareStatement(sb.toString());
+			setParam(index++, PlatformMailConst.CODE_MAIL_STATUS_WAITING);
+			executeQuery();
+			MailOutboxDtoInterface dto = null;
+			if (next()) {
+				dto = castDto(mapping());
+			}
+			return dto;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+}
@@ -0,0 +1,58 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.dao.system;
+
+import java.util.List;
+
+import jp.mosp.framework.base.BaseDaoInterface;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.platform.dto.system.JobDtoInterface;
+
+/**
+ * ジョブDAOインターフェース。
+ */
+public interface JobDaoInterface extends BaseDaoInterface {
+	
+	/**
+	 * ジョブIDからジョブ情報を取得する。<br>
+	 * @param jobId ジョブID(レコード識別ID)
+	 * @return ジョブ情報
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	JobDtoInterface findForKey(long jobId) throws MospException;
+	
+	/**
+	 * ジョブIDからジョブ情報(状況確認用)を取得する。<br>
+	 * 結果ファイルは取得せず、結果ファイル有無のみを設定する。<br>
+	 * @param jobId ジョブID(レコード識別ID)
+	 * @return ジョブ情報(結果ファイル無し)
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	JobDtoInterface findForStatus(long jobId) throws MospException;
+	
+	/**
+	 * 登録ユーザIDからジョブ情報リストを取得する。<br>
+	 * ジョブIDの降順(新しいもの順)で取得する。<br>
+	 * 結果ファイルは取得せず、結果ファイル有無のみを設定する。<br>
+	 * @param userId 登録ユーザID
+	 * @return ジョブ情報リスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<JobDtoInterface> findForUser(String userId) throws MospException;
+	
+}
@@ -0,0 +1,49 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.dao.system;
+
+import java.util.List;
+
+import jp.mosp.framework.base.BaseDaoInterface;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.platform.dto.system.SectionClosureDtoInterface;
+
+/**
+ * 所属階層閉包DAOインターフェース。<br>
+ */
+public interface SectionClosureDaoInterface extends BaseDaoInterface {
+	
+	/**
+	 * 所属コードの所属階層閉包情報リストを取得する。<br>
+	 * 有効日、階層差の昇順で並べる。<br>
+	 * @param sectionCode 所属コード
+	 * @return 所属階層閉包情報リスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<SectionClosureDtoInterface> findForSectionCode(String sectionCode) throws MospException;
+	
+	/**
+	 * 所属コードの所属階層閉包情報を物理削除する。<br>
+	 * 条件と合致する情報が存在しない場合は、何もしない。<br>
+	 * @param sectionCode 所属コード
+	 * @return 削除件数
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	int deleteForSectionCode(String sectionCode) throws MospException;
+	
+}
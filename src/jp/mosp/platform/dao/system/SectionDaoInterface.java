@@ -21,6 +21,7 @@ import java.sql.PreparedStatement;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDaoInterface;
 import jp.mosp.framework.base.MospException;
@@ -94,6 +95,14 @@ public interface SectionDaoInterface extends BaseDaoInterface {
 	 */
 	List<SectionDtoInterface> findForHistory(String sectionCode) throws MospException;
 	
+	/**
+	 * 所属コード群を取得する。<br>
+	 * 削除されていない履歴が存在する全ての所属コードを取得する。<br>
+	 * @return 所属コード群
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	Set<String> findForCodeSet() throws MospException;
+	
 	/**
 	 * 有効日マスタ一覧を取得する。<br>
 	 * 有効日から所属マスタリストを取得する。<br>
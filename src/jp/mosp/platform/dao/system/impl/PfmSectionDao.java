@@ -23,12 +23,14 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDto;
 import jp.mosp.framework.base.BaseDtoInterface;
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.constant.MospConst;
 import jp.mosp.platform.base.PlatformDao;
+import jp.mosp.platform.constant.PlatformConst;
 import jp.mosp.platform.dao.system.SectionDaoInterface;
 import jp.mosp.platform.dto.system.SectionDtoInterface;
 import jp.mosp.platform.dto.system.impl.PfmSectionDto;
@@ -208,6 +210,27 @@ public class PfmSectionDao extends PlatformDao implements SectionDaoInterface {
 		}
 	}
 	
+	@Override
+	public Set<String> findForCodeSet() throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = new StringBuffer();
+			sb.append(select());
+			sb.append(COL_SECTION_CODE);
+			sb.append(from(TABLE));
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			prepareStatement(sb.toString());
+			executeQuery();
+			return getResultAsSet(COL_SECTION_CODE);
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public SectionDtoInterface findForInfo(String sectionCode, Date activateDate) throws MospException {
 		try {
@@ -505,6 +528,10 @@ public class PfmSectionDao extends PlatformDao implements SectionDaoInterface {
 	
 	@Override
 	public StringBuffer getQueryForLowerSection(String targetColumn) {
+		// 所属階層閉包を利用する場合
+		if (isSectionClosureAvailable()) {
+			return getQueryForLowerSectionClosure(targetColumn);
+		}
 		// SQL作成準備
 		StringBuffer sb = new StringBuffer();
 		sb.append(targetColumn);
@@ -536,6 +563,15 @@ public class PfmSectionDao extends PlatformDao implements SectionDaoInterface {
 			throws MospException {
 		// パラメータインデックス準備
 		int idx = index;
+		// 所属階層閉包を利用する場合
+		if (isSectionClosureAvailable()) {
+			// 下位所属条件パラメータ設定
+			setParam(idx++, sectionCode, ps);
+			setParam(idx++, targetDate, false, ps);
+			setParam(idx++, targetDate, false, ps);
+			// インデックス返却
+			return idx;
+		}
 		// 下位所属条件パラメータ設定
 		setParam(idx++, targetDate, false, ps);
 		setParam(idx++, sectionCode, ps);
@@ -544,6 +580,53 @@ public class PfmSectionDao extends PlatformDao implements SectionDaoInterface {
 		return idx;
 	}
 	
+	/**
+	 * 所属階層閉包を用いた下位所属条件SQLを作成する。<br>
+	 * 対象日に有効な所属階層閉包のうち、上位所属コードが一致するものを対象とする。<br>
+	 * 自身(階層差0)以外は、閉鎖されていない所属のみを対象とする。<br>
+	 * 上位所属コード及び有効日の索引で絞り込めるため、階層経路の部分一致検索は行わない。<br>
+	 * @param targetColumn 対象所属コード列名
+	 * @return 下位所属条件SQL
+	 */
+	protected StringBuffer getQueryForLowerSectionClosure(String targetColumn) {
+		// SQL作成準備
+		StringBuffer sb = new StringBuffer();
+		sb.append(targetColumn);
+		sb.append(in());
+		sb.append(leftParenthesis());
+		sb.append(select());
+		sb.append(PftSectionClosureDao.COL_SECTION_CODE);
+		sb.append(from(PftSectionClosureDao.TABLE));
+		sb.append(where());
+		sb.append(deleteFlagOff());
+		sb.append(and());
+		sb.append(equal(PftSectionClosureDao.COL_ANCESTOR_CODE));
+		sb.append(and());
+		sb.append(lessEqual(PftSectionClosureDao.COL_ACTIVATE_DATE));
+		sb.append(and());
+		sb.append(leftParenthesis());
+		sb.append(isNull(PftSectionClosureDao.COL_END_DATE));
+		sb.append(or());
+		sb.append(greaterEqual(PftSectionClosureDao.COL_END_DATE));
+		sb.append(rightParenthesis());
+		sb.append(and());
+		sb.append(leftParenthesis());
+		sb.append(equal(PftSectionClosureDao.COL_DEPTH, 0));
+		sb.append(or());
+		sb.append(equal(PftSectionClosureDao.COL_CLOSE_FLAG, MospConst.INACTIVATE_FLAG_OFF));
+		sb.append(rightParenthesis());
+		sb.append(rightParenthesis());
+		return sb;
+	}
+	
+	/**
+	 * 所属階層閉包を利用するかを確認する。<br>
+	 * @return 確認結果(true：利用する、false：利用しない)
+	 */
+	protected boolean isSectionClosureAvailable() {
+		return mospParams != null && mospParams.getApplicationPropertyBool(PlatformConst.APP_SECTION_CLOSURE);
+	}
+	
 	@Override
 	public String getQueryForRange(String[] rangeArray, String targetColumn) {
 		// SQL作成準備
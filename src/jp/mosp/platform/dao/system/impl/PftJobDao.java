@@ -0,0 +1,315 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.dao.system.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jp.mosp.framework.base.BaseDto;
+import jp.mosp.framework.base.BaseDtoInterface;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.platform.base.PlatformDao;
+import jp.mosp.platform.dao.system.JobDaoInterface;
+import jp.mosp.platform.dto.system.JobDtoInterface;
+import jp.mosp.platform.dto.system.impl.PftJobDto;
+
+/**
+ * ジョブDAO。
+ */
+public class PftJobDao extends PlatformDao implements JobDaoInterface {
+	
+	/**
+	 * ジョブテーブル。
+	 */
+	public static final String	TABLE					= "pft_job";
+	
+	/**
+	 * レコード識別ID。
+	 */
+	public static final String	COL_PFT_JOB_ID			= "pft_job_id";
+	
+	/**
+	 * 登録ユーザID。
+	 */
+	public static final String	COL_USER_ID				= "user_id";
+	
+	/**
+	 * ジョブ名称。
+	 */
+	public static final String	COL_JOB_NAME			= "job_name";
+	
+	/**
+	 * ジョブクラス名。
+	 */
+	public static final String	COL_JOB_CLASS			= "job_class";
+	
+	/**
+	 * ジョブパラメータ。
+	 */
+	public static final String	COL_JOB_PARAMETER		= "job_parameter";
+	
+	/**
+	 * ジョブ状態。
+	 */
+	public static final String	COL_JOB_STATUS			= "job_status";
+	
+	/**
+	 * 進捗率。
+	 */
+	public static final String	COL_PROGRESS			= "progress";
+	
+	/**
+	 * メッセージ。
+	 */
+	public static final String	COL_JOB_MESSAGE			= "job_message";
+	
+	/**
+	 * 開始日時。
+	 */
+	public static final String	COL_START_TIME			= "start_time";
+	
+	/**
+	 * 終了日時。
+	 */
+	public static final String	COL_END_TIME			= "end_time";
+	
+	/**
+	 * 結果ファイル名。
+	 */
+	public static final String	COL_RESULT_FILE_NAME	= "result_file_name";
+	
+	/**
+	 * 結果ファイル。
+	 */
+	public static final String	COL_RESULT_FILE			= "result_file";
+	
+	/**
+	 * キー。
+	 */
+	public static final String	KEY_1					= COL_PFT_JOB_ID;
+	
+	/**
+	 * 結果ファイル有無(状況確認時の別名、1：有、0：無)。
+	 */
+	public static final String	AS_RESULT_FILE_EXIST	= "result_file_exist";
+	
+	
+	@Override
+	public void initDao() {
+		// 処理なし
+	}
+	
+	@Override
+	public BaseDto mapping() throws MospException {
+		PftJobDto dto = new PftJobDto();
+		dto.setPftJobId(getLong(COL_PFT_JOB_ID));
+		dto.setUserId(getString(COL_USER_ID));
+		dto.setJobName(getString(COL_JOB_NAME));
+		dto.setJobClass(getString(COL_JOB_CLASS));
+		dto.setJobParameter(getString(COL_JOB_PARAMETER));
+		dto.setJobStatus(getString(COL_JOB_STATUS));
+		dto.setProgress(getInt(COL_PROGRESS));
+		dto.setJobMessage(getString(COL_JOB_MESSAGE));
+		dto.setStartTime(getTimestamp(COL_START_TIME));
+		dto.setEndTime(getTimestamp(COL_END_TIME));
+		dto.setResultFileName(getString(COL_RESULT_FILE_NAME));
+		dto.setResultFile(getBytes(COL_RESULT_FILE));
+		mappingCommonInfo(dto);
+		return dto;
+	}
+	
+	@Override
+	public List<JobDtoInterface> mappingAll() throws MospException {
+		List<JobDtoInterface> all = new ArrayList<JobDtoInterface>();
+		while (next()) {
+			all.add(castDto(mapping()));
+		}
+		return all;
+	}
+	
+	@Override
+	public void setParams(BaseDtoInterface baseDto, boolean isInsert) throws MospException {
+		JobDtoInterface dto = castDto(baseDto);
+		setParam(index++, dto.getPftJobId());
+		setParam(index++, dto.getUserId());
+		setParam(index++, dto.getJobName());
+		setParam(index++, dto.getJobClass());
+		setParam(index++, dto.getJobParameter());
+		setParam(index++, dto.getJobStatus());
+		setParam(index++, dto.getProgress());
+		setParam(index++, dto.getJobMessage());
+		setParam(index++, dto.getStartTime(), true);
+		setParam(index++, dto.getEndTime(), true);
+		setParam(index++, dto.getResultFileName());
+		setParam(index++, dto.getResultFile());
+		setCommonParams(dto, isInsert);
+	}
+	
+	@Override
+	public int update(BaseDtoInterface baseDto) throws MospException {
+		try {
+			index = 1;
+			prepareStatement(getUpdateQuery(getClass()));
+			setParams(baseDto, false);
+			JobDtoInterface dto = castDto(baseDto);
+			setParam(index++, dto.getPftJobId());
+			executeUpdate();
+			chkUpdate(1);
+			return cnt;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public int delete(BaseDtoInterface baseDto) {
+		// 処理なし
+		return 0;
+	}
+	
+	/**
+	 * 状況確認用の検索SQLを取得する。<br>
+	 * 結果ファイル(bytea)は取得せず、結果ファイル有無を取得する。<br>
+	 * 状況確認は実行中に繰り返し行われるため、結果ファイルの読込を避ける。<br>
+	 * @return 状況確認用の検索SQL(SELECT 列名 FROM テーブル名)
+	 * @throws MospException テーブル名、フィールド値の取得に失敗した場合
+	 */
+	protected StringBuffer getStatusSelectQuery() throws MospException {
+		// 結果ファイルを除く列名リストを準備
+		List<String> columnList = new ArrayList<String>(getColumnList(getClass()));
+		columnList.remove(COL_RESULT_FILE);
+		// 結果ファイル有無を追加
+		columnList.add("CASE WHEN " + COL_RESULT_FILE + " IS NULL THEN 0 ELSE 1 END AS " + AS_RESULT_FILE_EXIST);
+		// SQL文字列準備
+		StringBuffer sb = new StringBuffer(getSelectStatement(columnList));
+		sb.append(from(TABLE));
+		return sb;
+	}
+	
+	/**
+	 * 状況確認用の検索結果をDTOに設定する。<br>
+	 * @return ジョブ情報(結果ファイル無し)
+	 * @throws MospException 検索結果の取得に失敗した場合
+	 */
+	protected JobDtoInterface mappingStatus() throws MospException {
+		PftJobDto dto = new PftJobDto();
+		dto.setPftJobId(getLong(COL_PFT_JOB_ID));
+		dto.setUserId(getString(COL_USER_ID));
+		dto.setJobName(getString(COL_JOB_NAME));
+		dto.setJobClass(getString(COL_JOB_CLASS));
+		dto.setJobParameter(getString(COL_JOB_PARAMETER));
+		dto.setJobStatus(getString(COL_JOB_STATUS));
+		dto.setProgress(getInt(COL_PROGRESS));
+		dto.setJobMessage(getString(COL_JOB_MESSAGE));
+		dto.setStartTime(getTimestamp(COL_START_TIME));
+		dto.setEndTime(getTimestamp(COL_END_TIME));
+		dto.setResultFileName(getString(COL_RESULT_FILE_NAME));
+		dto.setResultFileExist(getInt(AS_RESULT_FILE_EXIST) == 1);
+		mappingCommonInfo(dto);
+		return dto;
+	}
+	
+	/**
+	 * DTOインスタンスのキャストを行う。<br>
+	 * @param baseDto 対象DTO
+	 * @return キャストされたDTO
+	 */
+	protected JobDtoInterface castDto(BaseDtoInterface baseDto) {
+		return (JobDtoInterface)baseDto;
+	}
+	
+	@Override
+	public JobDtoInterface findForKey(long jobId) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(equal(COL_PFT_JOB_ID));
+			prepareStatement(sb.toString());
+			setParam(index++, jobId);
+			executeQuery();
+			JobDtoInterface dto = null;
+			if (next()) {
+				dto = castDto(mapping());
+			}
+			return dto;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public JobDtoInterface findForStatus(long jobId) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getStatusSelectQuery();
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(equal(COL_PFT_JOB_ID));
+			prepareStatement(sb.toString());
+			setParam(index++, jobId);
+			executeQuery();
+			JobDtoInterface dto = null;
+			if (next()) {
+				dto = mappingStatus();
+			}
+			return dto;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public List<JobDtoInterface> findForUser(String userId) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getStatusSelectQuery();
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(equal(COL_USER_ID));
+			sb.append(getOrderByColumn(COL_PFT_JOB_ID));
+			sb.append(getDesc());
+			prepareStatement(sb.toString());
+			setParam(index++, userId);
+			executeQuery();
+			List<JobDtoInterface> list = new ArrayList<JobDtoInterface>();
+			while (next()) {
+				list.add(mappingStatus());
+			}
+			return list;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+}
@@ -0,0 +1,197 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.dao.system.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jp.mosp.framework.base.BaseDto;
+import jp.mosp.framework.base.BaseDtoInterface;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.platform.base.PlatformDao;
+import jp.mosp.platform.dao.system.SectionClosureDaoInterface;
+import jp.mosp.platform.dto.system.SectionClosureDtoInterface;
+import jp.mosp.platform.dto.system.impl.PftSectionClosureDto;
+
+/**
+ * 所属階層閉包DAOクラス。<br>
+ * <br>
+ * 下位所属条件は、{@link PfmSectionDao#getQueryForLowerSection(String)}で、
+ * 本テーブルを上位所属コード及び有効期間で絞り込んで作成される。<br>
+ */
+public class PftSectionClosureDao extends PlatformDao implements SectionClosureDaoInterface {
+	
+	/**
+	 * 所属階層閉包。
+	 */
+	public static final String	TABLE						= "pft_section_closure";
+	
+	/**
+	 * レコード識別ID。
+	 */
+	public static final String	COL_PFT_SECTION_CLOSURE_ID	= "pft_section_closure_id";
+	
+	/**
+	 * 上位所属コード。
+	 */
+	public static final String	COL_ANCESTOR_CODE			= "ancestor_code";
+	
+	/**
+	 * 所属コード。
+	 */
+	public static final String	COL_SECTION_CODE			= "section_code";
+	
+	/**
+	 * 階層差。
+	 */
+	public static final String	COL_DEPTH					= "depth";
+	
+	/**
+	 * 有効日。
+	 */
+	public static final String	COL_ACTIVATE_DATE			= "activate_date";
+	
+	/**
+	 * 終了日。
+	 */
+	public static final String	COL_END_DATE				= "end_date";
+	
+	/**
+	 * 閉鎖フラグ。
+	 */
+	public static final String	COL_CLOSE_FLAG				= "close_flag";
+	
+	/**
+	 * キー。
+	 */
+	public static final String	KEY_1						= COL_PFT_SECTION_CLOSURE_ID;
+	
+	
+	/**
+	 * コンストラクタ。
+	 */
+	public PftSectionClosureDao() {
+		// 処理無し
+	}
+	
+	@Override
+	public void initDao() {
+		// 処理無し
+	}
+	
+	@Override
+	public BaseDto mapping() throws MospException {
+		PftSectionClosureDto dto = new PftSectionClosureDto();
+		dto.setPftSectionClosureId(getLong(COL_PFT_SECTION_CLOSURE_ID));
+		dto.setAncestorCode(getString(COL_ANCESTOR_CODE));
+		dto.setSectionCode(getString(COL_SECTION_CODE));
+		dto.setDepth(getInt(COL_DEPTH));
+		dto.setActivateDate(getDate(COL_ACTIVATE_DATE));
+		dto.setEndDate(getDate(COL_END_DATE));
+		dto.setCloseFlag(getInt(COL_CLOSE_FLAG));
+		mappingCommonInfo(dto);
+		return dto;
+	}
+	
+	@Override
+	public List<SectionClosureDtoInterface> mappingAll() throws MospException {
+		List<SectionClosureDtoInterface> all = new ArrayList<SectionClosureDtoInterface>();
+		while (next()) {
+			all.add(castDto(mapping()));
+		}
+		return all;
+	}
+	
+	@Override
+	public void setParams(BaseDtoInterface baseDto, boolean isInsert) throws MospException {
+		SectionClosureDtoInterface dto = castDto(baseDto);
+		setParam(index++, dto.getPftSectionClosureId());
+		setParam(index++, dto.getAncestorCode());
+		setParam(index++, dto.getSectionCode());
+		setParam(index++, dto.getDepth());
+		setParam(index++, dto.getActivateDate());
+		setParam(index++, dto.getEndDate());
+		setParam(index++, dto.getCloseFlag());
+		setCommonParams(dto, isInsert);
+	}
+	
+	@Override
+	public int update(BaseDtoInterface baseDto) {
+		// 処理無し
+		return 0;
+	}
+	
+	@Override
+	public int delete(BaseDtoInterface baseDto) {
+		// 処理無し
+		return 0;
+	}
+	
+	@Override
+	public List<SectionClosureDtoInterface> findForSectionCode(String sectionCode) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(equal(COL_SECTION_CODE));
+			sb.append(getOrderByColumn(COL_ACTIVATE_DATE, COL_DEPTH));
+			prepareStatement(sb.toString());
+			setParam(index++, sectionCode);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public int deleteForSectionCode(String sectionCode) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = new StringBuffer();
+			sb.append("DELETE");
+			sb.append(from(TABLE));
+			sb.append(where());
+			sb.append(equal(COL_SECTION_CODE));
+			prepareStatement(sb.toString());
+			setParam(index++, sectionCode);
+			executeUpdate();
+			return cnt;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	/**
+	 * DTOインスタンスのキャストを行う。<br>
+	 * @param baseDto 対象DTO
+	 * @return キャストされたDTO
+	 */
+	protected SectionClosureDtoInterface castDto(BaseDtoInterface baseDto) {
+		return (SectionClosureDtoInterface)baseDto;
+	}
+	
+}
@@ -0,0 +1,56 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.dao.workflow;
+
+import jp.mosp.framework.base.BaseDaoInterface;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.platform.dto.workflow.WorkflowApproverDtoInterface;
+
+/**
+ * ワークフロー承認者索引DAOインターフェース。<br>
+ */
+public interface WorkflowApproverDaoInterface extends BaseDaoInterface {
+	
+	/**
+	 * ワークフロー番号からワークフロー承認者索引情報を取得する。<br>
+	 * 条件と合致する情報が存在しない場合は、nullを返す。<br>
+	 * @param workflow ワークフロー番号
+	 * @return ワークフロー承認者索引DTO
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	WorkflowApproverDtoInterface findForKey(long workflow) throws MospException;
+	
+	/**
+	 * ワークフロー番号でワークフロー承認者索引情報を物理削除する。<br>
+	 * 条件と合致する情報が存在しない場合は、何もしない。<br>
+	 * @param workflow ワークフロー番号
+	 * @return 削除件数
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	int deleteForWorkflow(long workflow) throws MospException;
+	
+	/**
+	 * 承認者からワークフロー番号を取得するサブクエリを取得する。<br>
+	 * 承認者個人ID(パラメータ1つ)及びルートコード(パラメータはルートコード数)で検索する。<br>
+	 * ルートコード数が0の場合は、承認者個人IDのみで検索する。<br>
+	 * @param routeCount ルートコード数
+	 * @return サブクエリ
+	 */
+	String getSubQueryForApprover(int routeCount);
+	
+}
@@ -31,6 +31,37 @@ import jp.mosp.platform.dto.workflow.WorkflowDtoInterface;
  */
 public interface WorkflowDaoInterface extends BaseDaoInterface {
 	
+	/**
+	 * ソートキー(ワークフロー日付)。
+	 */
+	String	SORT_WORKFLOW_DATE	= "workflowDate";
+	
+	/**
+	 * ソートキー(機能コード)。
+	 */
+	String	SORT_FUNCTION_CODE	= "functionCode";
+	
+	/**
+	 * ソートキー(申請者社員コード)。
+	 */
+	String	SORT_EMPLOYEE_CODE	= "employeeCode";
+	
+	/**
+	 * ソートキー(申請者氏名)。
+	 */
+	String	SORT_EMPLOYEE_NAME	= "employeeName";
+	
+	/**
+	 * ソートキー(申請者所属コード)。
+	 */
+	String	SORT_SECTION_CODE	= "sectionCode";
+	
+	/**
+	 * ソートキー(承認段階及びワークフロー状況)。
+	 */
+	String	SORT_STAGE_STATE	= "stageState";
+	
+	
 	/**
 	 * ワークフロー番号からワークフロー情報を取得する。<br>
 	 * 条件と合致する情報が存在しない場合は、nullを返す。<br>
@@ -140,6 +171,22 @@ public interface WorkflowDaoInterface extends BaseDaoInterface {
 	 */
 	List<WorkflowDtoInterface> findApprovable(Set<String> functionCodeSet) throws MospException;
 	
+	/**
+	 * 承認者からワークフロー情報リストを取得する。<br>
+	 * ワークフロー承認者索引を用いて、現在の段階の承認者個人IDが一致するもの、
+	 * 或いは承認ルートがルートコードセットに含まれるものを抽出する。<br>
+	 * 抽出したワークフローの承認者であるかどうかは、別途確認する必要がある。<br>
+	 * 機能コードセット及びワークフロー状況セットに含まれるワークフロー情報が抽出される。<br>
+	 * @param approverId      承認者個人ID
+	 * @param routeCodeSet    ルートコードセット
+	 * @param functionCodeSet 機能コードセット
+	 * @param statusSet       ワークフロー状況セット
+	 * @return ワークフロー情報リスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<WorkflowDtoInterface> findForApprover(String approverId, Set<String> routeCodeSet,
+			Set<String> functionCodeSet, Set<String> statusSet) throws MospException;
+	
 	/**
 	 * ワークフロー情報リストを取得する。<br>
 	 * 設定された条件で、検索を行う。<br>
@@ -153,6 +200,72 @@ public interface WorkflowDaoInterface extends BaseDaoInterface {
 	List<WorkflowDtoInterface> findForCondition(Date fromDate, Date toDate, Set<String> functionCodeSet,
 			Set<String> workflowStateSet) throws MospException;
 	
+	/**
+	 * ワークフロー情報リストを頁単位で取得する。<br>
+	 * {@link #findForCondition(Date, Date, Set, Set)}と同じ条件で検索し、ソートキー順に取得件数分を取得する。<br>
+	 * キー値が指定されている場合は、キー値より後(降順の場合は前)の情報を取得する(キーセット方式)。<br>
+	 * @param fromDate         期間自
+	 * @param toDate           期間至
+	 * @param functionCodeSet  機能コードセット
+	 * @param workflowStateSet ワークフロー状況セット
+	 * @param sortKey          ソートキー
+	 * @param descending       降順フラグ
+	 * @param keys             キー値(キー値を指定しない場合はnull)
+	 * @param limit            取得件数
+	 * @return ワークフロー情報リスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<WorkflowDtoInterface> findForPage(Date fromDate, Date toDate, Set<String> functionCodeSet,
+			Set<String> workflowStateSet, String sortKey, boolean descending, String[] keys, int limit)
+			throws MospException;
+	
+	/**
+	 * ワークフロー情報のキー値を取得する。<br>
+	 * {@link #findForPage(Date, Date, Set, Set, String, boolean, String[], int)}のキー値として用いる。<br>
+	 * 申請者の人事情報で並び替えるソートキーの場合、人事情報のキー値はnullとするため、呼出元で設定する。<br>
+	 * @param dto     ワークフロー情報
+	 * @param sortKey ソートキー
+	 * @return キー値
+	 */
+	String[] getKeys(WorkflowDtoInterface dto, String sortKey);
+	
+	/**
+	 * 対象個人IDが参照可能なワークフロー情報の件数を取得する。<br>
+	 * {@link #findForCondition(Date, Date, Set, Set)}と同じ条件で検索し、
+	 * 申請者が部下である、承認者個人IDに対象個人IDが含まれる、或いは自己承認の申請者である情報を数える。<br>
+	 * 対象個人IDがnullの場合は、申請者による絞込のみを行う。<br>
+	 * 承認ルートで承認者が決まる情報は、{@link #countForRoute(Date, Date, Set, Set, Set, Set, String)}で数える。<br>
+	 * @param fromDate         期間自
+	 * @param toDate           期間至
+	 * @param functionCodeSet  機能コードセット
+	 * @param workflowStateSet ワークフロー状況セット
+	 * @param personalIdSet    申請者個人IDセット(絞り込まない場合はnull)
+	 * @param subordinateIdSet 部下個人IDセット
+	 * @param personalId       対象個人ID
+	 * @return 件数
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	int countForEffective(Date fromDate, Date toDate, Set<String> functionCodeSet, Set<String> workflowStateSet,
+			Set<String> personalIdSet, Set<String> subordinateIdSet, String personalId) throws MospException;
+	
+	/**
+	 * 承認ルートで承認者が決まるワークフロー情報の件数を、ルートコード毎に取得する。<br>
+	 * {@link #findForCondition(Date, Date, Set, Set)}と同じ条件で検索し、
+	 * 承認者個人IDが無く、申請者が部下でも自己承認の対象個人IDでもない情報を数える。<br>
+	 * @param fromDate         期間自
+	 * @param toDate           期間至
+	 * @param functionCodeSet  機能コードセット
+	 * @param workflowStateSet ワークフロー状況セット
+	 * @param personalIdSet    申請者個人IDセット(絞り込まない場合はnull)
+	 * @param subordinateIdSet 部下個人IDセット
+	 * @param personalId       対象個人ID
+	 * @return 件数マップ(キー：ルートコード)
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	Map<String, Integer> countForRoute(Date fromDate, Date toDate, Set<String> functionCodeSet,
+			Set<String> workflowStateSet, Set<String> personalIdSet, Set<String> subordinateIdSet, String personalId)
+			throws MospException;
+	
 	/**
 	 * ワークフロー情報リストを取得する。<br>
 	 * 設定された条件で、検索を行う。<br>
@@ -0,0 +1,232 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.dao.workflow.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jp.mosp.framework.base.BaseDto;
+import jp.mosp.framework.base.BaseDtoInterface;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.platform.base.PlatformDao;
+import jp.mosp.platform.dao.workflow.WorkflowApproverDaoInterface;
+import jp.mosp.platform.dto.workflow.WorkflowApproverDtoInterface;
+import jp.mosp.platform.dto.workflow.impl.PftWorkflowApproverDto;
+
+/**
+ * ワークフロー承認者索引DAOクラス。<br>
+ * <br>
+ * ワークフロー毎に1レコードを保持し、ワークフロー番号をキーとする。<br>
+ * 論理削除は行わず、ワークフロー更新時に物理削除及び登録を行う。<br>
+ */
+public class PftWorkflowApproverDao extends PlatformDao implements WorkflowApproverDaoInterface {
+	
+	/**
+	 * ワークフロー承認者索引。
+	 */
+	public static final String	TABLE				= "pft_workflow_approver";
+	
+	/**
+	 * ワークフロー番号。
+	 */
+	public static final String	COL_WORKFLOW		= "workflow";
+	
+	/**
+	 * 機能コード。
+	 */
+	public static final String	COL_FUNCTION_CODE	= "function_code";
+	
+	/**
+	 * 段階。
+	 */
+	public static final String	COL_WORKFLOW_STAGE	= "workflow_stage";
+	
+	/**
+	 * 承認者個人ID(現在の段階)。
+	 */
+	public static final String	COL_APPROVER_ID		= "approver_id";
+	
+	/**
+	 * ルートコード。
+	 */
+	public static final String	COL_ROUTE_CODE		= "route_code";
+	
+	/**
+	 * キー。
+	 */
+	public static final String	KEY_1				= COL_WORKFLOW;
+	
+	
+	/**
+	 * コンストラクタ。
+	 */
+	public PftWorkflowApproverDao() {
+		// 処理無し
+	}
+	
+	@Override
+	public void initDao() {
+		// 処理無し
+	}
+	
+	@Override
+	public BaseDto mapping() throws MospException {
+		PftWorkflowApproverDto dto = new PftWorkflowApproverDto();
+		dto.setWorkflow(getLong(COL_WORKFLOW));
+		dto.setFunctionCode(getString(COL_FUNCTION_CODE));
+		dto.setWorkflowStage(getInt(COL_WORKFLOW_STAGE));
+		dto.setApproverId(getString(COL_APPROVER_ID));
+		dto.setRouteCode(getString(COL_ROUTE_CODE));
+		mappingCommonInfo(dto);
+		return dto;
+	}
+	
+	@Override
+	public List<WorkflowApproverDtoInterface> mappingAll() throws MospException {
+		List<WorkflowApproverDtoInterface> all = new ArrayList<WorkflowApproverDtoInterface>();
+		while (next()) {
+			all.add(castDto(mapping()));
+		}
+		return all;
+	}
+	
+	@Override
+	public int update(BaseDtoInterface baseDto) throws MospException {
+		try {
+			index = 1;
+			prepareStatement(getUpdateQuery(getClass()));
+			setParams(baseDto, false);
+			WorkflowApproverDtoInterface dto = castDto(baseDto);
+			setParam(index++, dto.getWorkflow());
+			executeUpdate();
+			chkUpdate(1);
+			return cnt;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public int delete(BaseDtoInterface baseDto) throws MospException {
+		try {
+			index = 1;
+			prepareStatement(getDeleteQuery(getClass()));
+			WorkflowApproverDtoInterface dto = castDto(baseDto);
+			setParam(index++, dto.getWorkflow());
+			executeUpdate();
+			chkDelete(1);
+			return cnt;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public void setParams(BaseDtoInterface baseDto, boolean isInsert) throws MospException {
+		WorkflowApproverDtoInterface dto = castDto(baseDto);
+		setParam(index++, dto.getWorkflow());
+		setParam(index++, dto.getFunctionCode());
+		setParam(index++, dto.getWorkflowStage());
+		setParam(index++, dto.getApproverId());
+		setParam(index++, dto.getRouteCode());
+		setCommonParams(baseDto, isInsert);
+	}
+	
+	@Override
+	public WorkflowApproverDtoInterface findForKey(long workflow) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(equal(COL_WORKFLOW));
+			prepareStatement(sb.toString());
+			setParam(index++, workflow);
+			executeQuery();
+			WorkflowApproverDtoInterface dto = null;
+			if (next()) {
+				dto = castDto(mapping());
+			}
+			return dto;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public int deleteForWorkflow(long workflow) throws MospException {
+		try {
+			index = 1;
+			prepareStatement(getDeleteQuery(getClass()));
+			setParam(index++, workflow);
+			executeUpdate();
+			return cnt;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public String getSubQueryForApprover(int routeCount) {
+		StringBuffer sb = new StringBuffer();
+		sb.append(select());
+		sb.append(COL_WORKFLOW);
+		sb.append(from(TABLE));
+		sb.append(where());
+		sb.append(deleteFlagOff());
+		sb.append(and());
+		sb.append(leftParenthesis());
+		sb.append(equal(COL_APPROVER_ID));
+		if (routeCount > 0) {
+			sb.append(or());
+			sb.append(COL_ROUTE_CODE);
+			sb.append(in());
+			sb.append(leftParenthesis());
+			for (int i = 0; i < routeCount - 1; i++) {
+				sb.append(" ?,");
+			}
+			sb.append(" ? ");
+			sb.append(rightParenthesis());
+		}
+		sb.append(rightParenthesis());
+		return sb.toString();
+	}
+	
+	/**
+	 * DTOインスタンスのキャストを行う。<br>
+	 * @param baseDto 対象DTO
+	 * @return キャストされたDTO
+	 */
+	protected WorkflowApproverDtoInterface castDto(BaseDtoInterface baseDto) {
+		return (WorkflowApproverDtoInterface)baseDto;
+	}
+	
+}
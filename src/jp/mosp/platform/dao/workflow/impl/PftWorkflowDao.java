@@ -27,8 +27,11 @@ import java.util.Set;
 import jp.mosp.framework.base.BaseDto;
 import jp.mosp.framework.base.BaseDtoInterface;
 import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.utils.DateUtility;
 import jp.mosp.platform.base.PlatformDao;
 import jp.mosp.platform.constant.PlatformConst;
+import jp.mosp.platform.dao.human.impl.PfmHumanDao;
+import jp.mosp.platform.dao.workflow.WorkflowApproverDaoInterface;
 import jp.mosp.platform.dao.workflow.WorkflowDaoInterface;
 import jp.mosp.platform.dto.workflow.WorkflowDtoInterface;
 import jp.mosp.platform.dto.workflow.impl.PftWorkflowDto;
@@ -41,62 +44,72 @@ public class PftWorkflowDao extends PlatformDao implements WorkflowDaoInterface
 	/**
 	 * ワークフロー。
 	 */
-	public static final String	TABLE				= "pft_workflow";
+	public static final String				TABLE				= "pft_workflow";
 	
 	/**
 	 * レコード識別ID。
 	 */
-	public static final String	COL_PFT_WORKFLOW_ID	= "pft_workflow_id";
+	public static final String				COL_PFT_WORKFLOW_ID	= "pft_workflow_id";
 	
 	/**
 	 * ワークフロー番号。
 	 */
-	public static final String	COL_WORKFLOW		= "workflow";
+	public static final String				COL_WORKFLOW		= "workflow";
 	
 	/**
 	 * 段階。
 	 */
-	public static final String	COL_WORKFLOW_STAGE	= "workflow_stage";
+	public static final String				COL_WORKFLOW_STAGE	= "workflow_stage";
 	
 	/**
 	 * 状況。
 	 */
-	public static final String	COL_WORKFLOW_STATUS	= "workflow_status";
+	public static final String				COL_WORKFLOW_STATUS	= "workflow_status";
 	
 	/**
 	 * 申請者個人ID。
 	 */
-	public static final String	COL_PERSONAL_ID		= "personal_id";
+	public static final String				COL_PERSONAL_ID		= "personal_id";
 	
 	/**
 	 * ワークフロー対象日。
 	 */
-	public static final String	COL_WORKFLOW_DATE	= "workflow_date";
+	public static final String				COL_WORKFLOW_DATE	= "workflow_date";
 	
 	/**
 	 * ルートコード。
 	 */
-	public static final String	COL_ROUTE_CODE		= "route_code";
+	public static final String				COL_ROUTE_CODE		= "route_code";
 	
 	/**
 	 * 機能コード。
 	 */
-	public static final String	COL_FUNCTION_CODE	= "function_code";
+	public static final String				COL_FUNCTION_CODE	= "function_code";
 	
 	/**
 	 * 承認者個人ID。
 	 */
-	public static final String	COL_APPROVER_ID		= "approver_id";
+	public static final String				COL_APPROVER_ID		= "approver_id";
 	
 	/**
 	 * キー。
 	 */
-	public static final String	KEY_1				= COL_PFT_WORKFLOW_ID;
+	public static final String				KEY_1				= COL_PFT_WORKFLOW_ID;
 	
 	/**
 	 * シーケンス。
 	 */
-	public static final String	SEQUENCE			= "pft_workflow_workflow_seq";
+	public static final String				SEQUENCE			= "pft_workflow_workflow_seq";
+	
+	/**
+	 * 承認者個人IDの区切文字。
+	 */
+	protected static final String			SEPARATOR_APPROVER	= ",";
+	
+	/**
+	 * ワークフロー承認者索引DAOクラス。<br>
+	 */
+	protected WorkflowApproverDaoInterface	approverDao;
 	
 	
 	/**
@@ -107,8 +120,8 @@ public class PftWorkflowDao extends PlatformDao implements WorkflowDaoInterface
 	}
 	
 	@Override
-	public void initDao() {
-		// 処理無し
+	public void initDao() throws MospException {
+		approverDao = (WorkflowApproverDaoInterface)loadDao(WorkflowApproverDaoInterface.class);
 	}
 	
 	@Override
@@ -429,40 +442,93 @@ public class PftWorkflowDao extends PlatformDao implements WorkflowDaoInterface
 	}
 	
 	@Override
-	public List<WorkflowDtoInterface> findForCondition(Date fromDate, Date toDate, Set<String> functionCodeSet,
-			Set<String> workflowStateSet) throws MospException {
+	public List<WorkflowDtoInterface> findForApprover(String approverId, Set<String> routeCodeSet,
+			Set<String> functionCodeSet, Set<String> statusSet) throws MospException {
 		try {
 			index = 1;
 			// SQL作成準備
 			StringBuffer sb = getSelectQuery(getClass());
 			sb.append(where());
 			sb.append(deleteFlagOff());
-			// ワークフロー対象日による条件を設定
-			if (fromDate != null) {
-				sb.append(and());
-				sb.append(greaterEqual(COL_WORKFLOW_DATE));
-			}
-			if (toDate != null) {
-				sb.append(and());
-				sb.append(lessEqual(COL_WORKFLOW_DATE));
-			}
 			// 機能コードによる条件を設定
 			sb.append(getQueryForSet(COL_FUNCTION_CODE, functionCodeSet));
-			// ワークロー状況による条件を設定
-			sb.append(getQueryForSet(COL_WORKFLOW_STATUS, workflowStateSet));
+			// ワークフロー状況による条件を設定
+			sb.append(getQueryForSet(COL_WORKFLOW_STATUS, statusSet));
+			// ワークフロー承認者索引による条件を設定
+			sb.append(and());
+			sb.append(COL_WORKFLOW);
+			sb.append(in());
+			sb.append(leftParenthesis());
+			sb.append(approverDao.getSubQueryForApprover(routeCodeSet.size()));
+			sb.append(rightParenthesis());
+			// ステートメント生成
+			prepareStatement(sb.toString());
+			// 機能コード及びワークフロー状況による条件のパラメータを設定
+			setParamsForSet(functionCodeSet);
+			setParamsForSet(statusSet);
+			// ワークフロー承認者索引による条件のパラメータを設定
+			setParam(index++, approverId);
+			setParamsForSet(routeCodeSet);
+			// SQL実行
+			executeQuery();
+			// 検索結果取得
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public List<WorkflowDtoInterface> findForCondition(Date fromDate, Date toDate, Set<String> functionCodeSet,
+			Set<String> workflowStateSet) throws MospException {
+		try {
+			index = 1;
+			// SQL作成準備
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(getQueryForCondition(fromDate, toDate, functionCodeSet, workflowStateSet));
 			// ステートメント生成
 			prepareStatement(sb.toString());
 			// 検索条件パラメータ設定
-			if (fromDate != null) {
-				setParam(index++, fromDate, false);
+			setParamsForCondition(fromDate, toDate, functionCodeSet, workflowStateSet);
+			// SQL実行
+			executeQuery();
+			// 検索結果取得
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public List<WorkflowDtoInterface> findForPage(Date fromDate, Date toDate, Set<String> functionCodeSet,
+			Set<String> workflowStateSet, String sortKey, boolean descending, String[] keys, int limit)
+			throws MospException {
+		try {
+			index = 1;
+			// 並び替え列取得
+			String[] columns = getSortColumns(sortKey);
+			// SQL作成準備
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(getQueryForCondition(fromDate, toDate, functionCodeSet, workflowStateSet));
+			if (keys != null) {
+				sb.append(getKeysetCondition(columns, descending));
 			}
-			if (toDate != null) {
-				setParam(index++, toDate, false);
+			sb.append(getKeysetOrder(columns, descending, false));
+			// ステートメント生成
+			prepareStatement(sb.toString());
+			// 検索条件パラメータ設定
+			setParamsForCondition(fromDate, toDate, functionCodeSet, workflowStateSet);
+			// キー値及び件数パラメータ設定
+			if (keys != null) {
+				setParamsForKeyset(sortKey, keys);
 			}
-			// 機能コードによる条件のパラメータを設定
-			setParamsForSet(functionCodeSet);
-			// ワークロー状況による条件のパラメータを設定
-			setParamsForSet(workflowStateSet);
+			setParam(index++, limit);
 			// SQL実行
 			executeQuery();
 			// 検索結果取得
@@ -475,6 +541,328 @@ public class PftWorkflowDao extends PlatformDao implements WorkflowDaoInterface
 		}
 	}
 	
+	@Override
+	public int countForEffective(Date fromDate, Date toDate, Set<String> functionCodeSet,
+			Set<String> workflowStateSet, Set<String> personalIdSet, Set<String> subordinateIdSet, String personalId)
+			throws MospException {
+		// 申請者個人IDセット確認
+		if (personalIdSet != null && personalIdSet.isEmpty()) {
+			return 0;
+		}
+		try {
+			index = 1;
+			// SQL作成準備
+			StringBuffer sb = new StringBuffer(getSelectCountQuery(getClass()));
+			sb.append(getQueryForCondition(fromDate, toDate, functionCodeSet, workflowStateSet));
+			// 申請者による条件を設定
+			sb.append(in(COL_PERSONAL_ID, personalIdSet == null ? 0 : personalIdSet.size()));
+			// 部下、承認者個人ID或いは自己承認による条件を設定
+			if (personalId != null) {
+				sb.append(and());
+				sb.append(leftParenthesis());
+				if (subordinateIdSet.isEmpty() == false) {
+					sb.append(COL_PERSONAL_ID);
+					sb.append(in());
+					sb.append(leftParenthesis());
+					for (int i = 0; i < subordinateIdSet.size() - 1; i++) {
+						sb.append(" ?,");
+					}
+					sb.append(" ? ");
+					sb.append(rightParenthesis());
+					sb.append(or());
+				}
+				sb.append(getQueryForSelfApproval());
+				sb.append(or());
+				sb.append(leftParenthesis());
+				sb.append(notEqual(COL_APPROVER_ID));
+				sb.append(and());
+				String separator = "'" + SEPARATOR_APPROVER + "'";
+				sb.append(like(concat(separator, COL_APPROVER_ID, separator)));
+				sb.append(rightParenthesis());
+				sb.append(rightParenthesis());
+			}
+			// ステートメント生成
+			prepareStatement(sb.toString());
+			// 検索条件パラメータ設定
+			setParamsForCondition(fromDate, toDate, functionCodeSet, workflowStateSet);
+			setParamsForSet(personalIdSet);
+			if (personalId != null) {
+				setParamsForSet(subordinateIdSet);
+				setParamsForSelfApproval(personalId);
+				setParam(index++, "");
+				setParam(index++, containsParam(SEPARATOR_APPROVER + personalId + SEPARATOR_APPROVER));
+			}
+			// SQL実行
+			executeQuery();
+			// 検索結果取得
+			int count = 0;
+			if (next()) {
+				count = rs.getInt(1);
+			}
+			return count;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public Map<String, Integer> countForRoute(Date fromDate, Date toDate, Set<String> functionCodeSet,
+			Set<String> workflowStateSet, Set<String> personalIdSet, Set<String> subordinateIdSet, String personalId)
+			throws MospException {
+		// 件数マップ準備
+		Map<String, Integer> map = new HashMap<String, Integer>();
+		// 申請者個人IDセット確認
+		if (personalIdSet != null && personalIdSet.isEmpty()) {
+			return map;
+		}
+		try {
+			index = 1;
+			// SQL作成準備
+			StringBuffer sb = new StringBuffer();
+			sb.append(select());
+			sb.append(COL_ROUTE_CODE);
+			sb.append(comma());
+			sb.append(" COUNT(*) ");
+			sb.append(from(TABLE));
+			sb.append(getQueryForCondition(fromDate, toDate, functionCodeSet, workflowStateSet));
+			// 申請者による条件を設定
+			sb.append(in(COL_PERSONAL_ID, personalIdSet == null ? 0 : personalIdSet.size()));
+			// 承認者個人IDが無く、申請者が部下でも自己承認の対象個人IDでもない
+			sb.append(and());
+			sb.append(equal(COL_APPROVER_ID));
+			sb.append(notIn(COL_PERSONAL_ID, subordinateIdSet.size()));
+			sb.append(and());
+			sb.append(" NOT ");
+			sb.append(getQueryForSelfApproval());
+			sb.append(groupBy(COL_ROUTE_CODE));
+			// ステートメント生成
+			prepareStatement(sb.toString());
+			// 検索条件パラメータ設定
+			setParamsForCondition(fromDate, toDate, functionCodeSet, workflowStateSet);
+			setParamsForSet(personalIdSet);
+			setParam(index++, "");
+			setParamsForSet(subordinateIdSet);
+			setParamsForSelfApproval(personalId);
+			// SQL実行
+			executeQuery();
+			// 検索結果取得
+			while (next()) {
+				map.put(rs.getString(1), rs.getInt(2));
+			}
+			return map;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	/**
+	 * 自己承認の申請者であることを条件とするSQLを取得する。<br>
+	 * パラメータは、{@link #setParamsForSelfApproval(String)}で設定する。<br>
+	 * @return 条件SQL(((approver_id = ? OR route_code = ?) AND personal_id = ?))
+	 */
+	protected String getQueryForSelfApproval() {
+		StringBuffer sb = new StringBuffer();
+		sb.append(leftParenthesis());
+		sb.append(leftParenthesis());
+		sb.append(equal(COL_APPROVER_ID));
+		sb.append(or());
+		sb.append(equal(COL_ROUTE_CODE));
+		sb.append(rightParenthesis());
+		sb.append(and());
+		sb.append(equal(COL_PERSONAL_ID));
+		sb.append(rightParenthesis());
+		return sb.toString();
+	}
+	
+	/**
+	 * 自己承認の申請者であることを条件とするSQLのパラメータを設定する。<br>
+	 * @param personalId 対象個人ID
+	 * @throws MospException SQL例外が発生した場合
+	 */
+	protected void setParamsForSelfApproval(String personalId) throws MospException {
+		setParam(index++, PlatformConst.APPROVAL_ROUTE_SELF);
+		setParam(index++, PlatformConst.APPROVAL_ROUTE_SELF);
+		setParam(index++, personalId);
+	}
+	
+	@Override
+	public String[] getKeys(WorkflowDtoInterface dto, String sortKey) {
+		String workflowDate = DateUtility.getStringDate(dto.getWorkflowDate());
+		String workflow = String.valueOf(dto.getWorkflow());
+		if (SORT_FUNCTION_CODE.equals(sortKey)) {
+			return new String[]{ dto.getFunctionCode(), workflowDate, workflow };
+		}
+		if (SORT_EMPLOYEE_CODE.equals(sortKey) || SORT_SECTION_CODE.equals(sortKey)) {
+			// 人事情報のキー値は呼出元で設定
+			return new String[]{ null, workflow };
+		}
+		if (SORT_EMPLOYEE_NAME.equals(sortKey)) {
+			// 人事情報のキー値は呼出元で設定
+			return new String[]{ null, null, workflow };
+		}
+		if (SORT_STAGE_STATE.equals(sortKey)) {
+			// 承認段階は降順で並べるため符号を反転
+			return new String[]{ String.valueOf(-dto.getWorkflowStage()), dto.getWorkflowStatus(), workflow };
+		}
+		return new String[]{ workflowDate, workflow };
+	}
+	
+	/**
+	 * ソートキーに対応する並び替え列を取得する。<br>
+	 * 末尾は、一意性を保証するワークフロー番号とする。<br>
+	 * 並び順は{@link #getKeys(WorkflowDtoInterface, String)}と対応させる。<br>
+	 * @param sortKey ソートキー
+	 * @return 並び替え列
+	 */
+	protected String[] getSortColumns(String sortKey) {
+		if (SORT_FUNCTION_CODE.equals(sortKey)) {
+			return new String[]{ COL_FUNCTION_CODE, COL_WORKFLOW_DATE, COL_WORKFLOW };
+		}
+		if (SORT_EMPLOYEE_CODE.equals(sortKey)) {
+			return new String[]{ getQueryForHuman(PfmHumanDao.COL_EMPLOYEE_CODE), COL_WORKFLOW };
+		}
+		if (SORT_EMPLOYEE_NAME.equals(sortKey)) {
+			return new String[]{ getQueryForHuman(PfmHumanDao.COL_LAST_NAME),
+				getQueryForHuman(PfmHumanDao.COL_FIRST_NAME), COL_WORKFLOW };
+		}
+		if (SORT_SECTION_CODE.equals(sortKey)) {
+			return new String[]{ getQueryForHuman(PfmHumanDao.COL_SECTION_CODE), COL_WORKFLOW };
+		}
+		if (SORT_STAGE_STATE.equals(sortKey)) {
+			// 承認段階の降順及びワークフロー状況の昇順(承認段階の符号を反転して同じ向きに揃える)
+			return new String[]{ "(0 - " + COL_WORKFLOW_STAGE + ")", COL_WORKFLOW_STATUS, COL_WORKFLOW };
+		}
+		return new String[]{ COL_WORKFLOW_DATE, COL_WORKFLOW };
+	}
+	
+	/**
+	 * 申請者のワークフロー日付以前で最新の人事情報の列を取得するサブクエリを取得する。<br>
+	 * 人事情報が無い場合は、空文字とする。<br>
+	 * @param column 人事マスタの列名
+	 * @return サブクエリ(COALESCE((SELECT column FROM pfm_human ...), ''))
+	 */
+	protected String getQueryForHuman(String column) {
+		StringBuffer sb = new StringBuffer();
+		sb.append("COALESCE(");
+		sb.append(leftParenthesis());
+		sb.append(select());
+		sb.append(getExplicitTableColumn(PfmHumanDao.TABLE, column));
+		sb.append(from(PfmHumanDao.TABLE));
+		sb.append(where());
+		sb.append(getExplicitTableColumn(PfmHumanDao.TABLE, PfmHumanDao.COL_PERSONAL_ID));
+		sb.append(equal());
+		sb.append(getExplicitTableColumn(TABLE, COL_PERSONAL_ID));
+		sb.append(and());
+		sb.append(getExplicitTableColumn(PfmHumanDao.TABLE, PfmHumanDao.COL_ACTIVATE_DATE));
+		sb.append(lessEqual());
+		sb.append(getExplicitTableColumn(TABLE, COL_WORKFLOW_DATE));
+		sb.append(and());
+		sb.append(deleteFlagOff(getExplicitTableColumn(PfmHumanDao.TABLE, colDeleteFlag)));
+		sb.append(getOrderByColumnDescLimit1(
+				getExplicitTableColumn(PfmHumanDao.TABLE, PfmHumanDao.COL_ACTIVATE_DATE)));
+		sb.append(rightParenthesis());
+		sb.append(", '')");
+		return sb.toString();
+	}
+	
+	/**
+	 * {@inheritDoc}<br>
+	 * 並び替え列は全てNOT NULLであるため、列をそのまま用いる。<br>
+	 * また、キー値は列の型に合わせて{@link #setParamsForKeyset(String, String[])}で設定する。<br>
+	 */
+	@Override
+	protected String getPageColumn(String column) {
+		return " " + column + " ";
+	}
+	
+	/**
+	 * キー値のパラメータを設定する。<br>
+	 * @param sortKey ソートキー
+	 * @param keys    キー値
+	 * @throws MospException SQL例外が発生した場合
+	 */
+	protected void setParamsForKeyset(String sortKey, String[] keys) throws MospException {
+		int idx = 0;
+		if (SORT_EMPLOYEE_CODE.equals(sortKey) || SORT_EMPLOYEE_NAME.equals(sortKey)
+				|| SORT_SECTION_CODE.equals(sortKey)) {
+			// 人事情報のキー値(人事情報が無い場合は空文字)
+			for (; idx < keys.length - 1; idx++) {
+				setParam(index++, keys[idx] == null ? "" : keys[idx]);
+			}
+			setParam(index++, Long.parseLong(keys[idx]));
+			return;
+		}
+		if (SORT_STAGE_STATE.equals(sortKey)) {
+			setParam(index++, Integer.parseInt(keys[idx++]));
+			setParam(index++, keys[idx++]);
+			setParam(index++, Long.parseLong(keys[idx++]));
+			return;
+		}
+		if (SORT_FUNCTION_CODE.equals(sortKey)) {
+			setParam(index++, keys[idx++]);
+		}
+		setParam(index++, DateUtility.getDate(keys[idx++]), false);
+		setParam(index++, Long.parseLong(keys[idx++]));
+	}
+	
+	/**
+	 * 期間、機能コード及びワークフロー状況による検索条件SQL(WHERE部)を取得する。<br>
+	 * @param fromDate         期間自
+	 * @param toDate           期間至
+	 * @param functionCodeSet  機能コードセット
+	 * @param workflowStateSet ワークフロー状況セット
+	 * @return 検索条件SQL
+	 */
+	protected String getQueryForCondition(Date fromDate, Date toDate, Set<String> functionCodeSet,
+			Set<String> workflowStateSet) {
+		StringBuffer sb = new StringBuffer();
+		sb.append(where());
+		sb.append(deleteFlagOff());
+		// ワークフロー対象日による条件を設定
+		if (fromDate != null) {
+			sb.append(and());
+			sb.append(greaterEqual(COL_WORKFLOW_DATE));
+		}
+		if (toDate != null) {
+			sb.append(and());
+			sb.append(lessEqual(COL_WORKFLOW_DATE));
+		}
+		// 機能コードによる条件を設定
+		sb.append(getQueryForSet(COL_FUNCTION_CODE, functionCodeSet));
+		// ワークロー状況による条件を設定
+		sb.append(getQueryForSet(COL_WORKFLOW_STATUS, workflowStateSet));
+		return sb.toString();
+	}
+	
+	/**
+	 * 期間、機能コード及びワークフロー状況による検索条件のパラメータを設定する。<br>
+	 * @param fromDate         期間自
+	 * @param toDate           期間至
+	 * @param functionCodeSet  機能コードセット
+	 * @param workflowStateSet ワークフロー状況セット
+	 * @throws MospException 検索条件パラメータの設定に失敗した場合
+	 */
+	protected void setParamsForCondition(Date fromDate, Date toDate, Set<String> functionCodeSet,
+			Set<String> workflowStateSet) throws MospException {
+		// 検索条件パラメータ設定
+		if (fromDate != null) {
+			setParam(index++, fromDate, false);
+		}
+		if (toDate != null) {
+			setParam(index++, toDate, false);
+		}
+		// 機能コードによる条件のパラメータを設定
+		setParamsForSet(functionCodeSet);
+		// ワークロー状況による条件のパラメータを設定
+		setParamsForSet(workflowStateSet);
+	}
+	
 	@Override
 	public List<WorkflowDtoInterface> findForCondition(String personalId, Date fromDate, Date toDate,
 			Set<String> functionCodeSet) throws MospException {
@@ -20,11 +20,12 @@ package jp.mosp.platform.dto.human;
 import java.util.Date;
 
 import jp.mosp.framework.base.BaseDtoInterface;
+import jp.mosp.platform.dto.base.PersonalIdDtoInterface;
 
 /**
  * 人事兼務情報DTOインターフェース。
  */
-public interface ConcurrentDtoInterface extends BaseDtoInterface {
+public interface ConcurrentDtoInterface extends BaseDtoInterface, PersonalIdDtoInterface {
 	
 	/**
 	 * @return レコード識別ID。
@@ -18,11 +18,12 @@
 package jp.mosp.platform.dto.human;
 
 import jp.mosp.platform.base.PlatformDtoInterface;
+import jp.mosp.platform.dto.base.PersonalIdDtoInterface;
 
 /**
  * 人事汎用一覧情報DTOインターフェース。
  */
-public interface HumanArrayDtoInterface extends PlatformDtoInterface {
+public interface HumanArrayDtoInterface extends PlatformDtoInterface, PersonalIdDtoInterface {
 	
 	/**
 	 * @return レコード識別ID。
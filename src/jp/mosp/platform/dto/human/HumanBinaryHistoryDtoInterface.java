@@ -18,11 +18,12 @@
 package jp.mosp.platform.dto.human;
 
 import jp.mosp.platform.base.PlatformDtoInterface;
+import jp.mosp.platform.dto.base.PersonalIdDtoInterface;
 
 /**
  * 人事汎用バイナリ履歴情報DTOインターフェース。
  */
-public interface HumanBinaryHistoryDtoInterface extends PlatformDtoInterface {
+public interface HumanBinaryHistoryDtoInterface extends PlatformDtoInterface, PersonalIdDtoInterface {
 	
 	/**
 	 * @return レコード識別ID。
@@ -20,11 +20,12 @@ package jp.mosp.platform.dto.human;
 import java.util.Date;
 
 import jp.mosp.framework.base.BaseDtoInterface;
+import jp.mosp.platform.dto.base.PersonalIdDtoInterface;
 
 /**
  * 人事退職情報DTOインターフェース。
  */
-public interface RetirementDtoInterface extends BaseDtoInterface {
+public interface RetirementDtoInterface extends BaseDtoInterface, PersonalIdDtoInterface {
 	
 	/**
 	 * @return レコード識別ID。
@@ -0,0 +1,129 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.dto.mail;
+
+import java.util.Date;
+
+import jp.mosp.framework.base.BaseDtoInterface;
+
+/**
+ * メール送信待ちDTOインターフェース。
+ */
+public interface MailOutboxDtoInterface extends BaseDtoInterface {
+	
+	/**
+	 * @return レコード識別ID。
+	 */
+	long getPftMailOutboxId();
+	
+	/**
+	 * @return 個人ID(送信先)。
+	 */
+	String getPersonalId();
+	
+	/**
+	 * @return メールアドレス(送信先)。
+	 */
+	String getMailAddress();
+	
+	/**
+	 * @return 件名。
+	 */
+	String getMailTitle();
+	
+	/**
+	 * @return 本文。
+	 */
+	String getMailText();
+	
+	/**
+	 * @return 送信状態。
+	 */
+	String getMailStatus();
+	
+	/**
+	 * @return 再送回数。
+	 */
+	int getRetryCount();
+	
+	/**
+	 * @return 次回送信日時。
+	 */
+	Date getNextSendTime();
+	
+	/**
+	 * @return 送信日時。
+	 */
+	Date getSendTime();
+	
+	/**
+	 * @return メッセージ。
+	 */
+	String getMailMessage();
+	
+	/**
+	 * @param pftMailOutboxId セットする レコード識別ID。
+	 */
+	void setPftMailOutboxId(long pftMailOutboxId);
+	
+	/**
+	 * @param personalId セットする 個人ID(送信先)。
+	 */
+	void setPersonalId(String personalId);
+	
+	/**
+	 * @param mailAddress セットする メールアドレス(送信先)。
+	 */
+	void setMailAddress(String mailAddress);
+	
+	/**
+	 * @param mailTitle セットする 件名。
+	 */
+	void setMailTitle(String mailTitle);
+	
+	/**
+	 * @param mailText セットする 本文。
+	 */
+	void setMailText(String mailText);
+	
+	/**
+	 * @param mailStatus セットする 送信状態。
+	 */
+	void setMailStatus(String mailStatus);
+	
+	/**
+	 * @param retryCount セットする 再送回数。
+	 */
+	void setRetryCount(int retryCount);
+	
+	/**
+	 * @param nextSendTime セットする 次回送信日時。
+	 */
+	void setNextSendTime(Date nextSendTime);
+	
+	/**
+	 * @param sendTime セットする 送信日時。
+	 */
+	void setSendTime(Date sendTime);
+	
+	/**
+	 * @param mailMessage セットする メッセージ。
+	 */
+	void setMailMessage(String mailMessage);
+	
+}
@@ -0,0 +1,183 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.dto.mail.impl;
+
+import java.util.Date;
+
+import jp.mosp.framework.base.BaseDto;
+import jp.mosp.platform.dto.mail.MailOutboxDtoInterface;
+
+/**
+ * メール送信待ちDTO。
+ */
+public class PftMailOutboxDto extends BaseDto implements MailOutboxDtoInterface {
+	
+	private static final long	serialVersionUID	= -6254307788861693504L;
+	
+	/**
+	 * レコード識別ID。
+	 */
+	private long				pftMailOutboxId;
+	
+	/**
+	 * 個人ID(送信先)。
+	 */
+	private String				personalId;
+	
+	/**
+	 * メールアドレス(送信先)。
+	 */
+	private String				mailAddress;
+	
+	/**
+	 * 件名。
+	 */
+	private String				mailTitle;
+	
+	/**
+	 * 本文。
+	 */
+	private String				mailText;
+	
+	/**
+	 * 送信状態。
+	 */
+	private String				mailStatus;
+	
+	/**
+	 * 再送回数。
+	 */
+	private int					retryCount;
+	
+	/**
+	 * 次回送信日時。
+	 */
+	private Date				nextSendTime;
+	
+	/**
+	 * 送信日時。
+	 */
+	private Date				sendTime;
+	
+	/**
+	 * メッセージ。
+	 */
+	private String				mailMessage;
+	
+	
+	@Override
+	public long getPftMailOutboxId() {
+		return pftMailOutboxId;
+	}
+	
+	@Override
+	public String getPersonalId() {
+		return personalId;
+	}
+	
+	@Override
+	public String getMailAddress() {
+		return mailAddress;
+	}
+	
+	@Override
+	public String getMailTitle() {
+		return mailTitle;
+	}
+	
+	@Override
+	public String getMailText() {
+		return mailText;
+	}
+	
+	@Override
+	public String getMailStatus() {
+		return mailStatus;
+	}
+	
+	@Override
+	public int getRetryCount() {
+		return retryCount;
+	}
+	
+	@Override
+	public Date getNextSendTime() {
+		return nextSendTime;
+	}
+	
+	@Override
+	public Date getSendTime() {
+		return sendTime;
+	}
+	
+	@Override
+	public String getMailMessage() {
+		return mailMessage;
+	}
+	
+	@Override
+	public void setPftMailOutboxId(long pftMailOutboxId) {
+		this.pftMailOutboxId = pftMailOutboxId;
+	}
+	
+	@Override
+	public void setPersonalId(String personalId) {
+		this.personalId = personalId;
+	}
+	
+	@Override
+	public void setMailAddress(String mailAddress) {
+		this.mailAddress = mailAddress;
+	}
+	
+	@Override
+	public void setMailTitle(String mailTitle) {
+		this.mailTitle = mailTitle;
+	}
+	
+	@Override
+	public void setMailText(String mailText) {
+		this.mailText = mailText;
+	}
+	
+	@Override
+	public void setMailStatus(String mailStatus) {
+		this.mailStatus = mailStatus;
+	}
+	
+	@Override
+	public void setRetryCount(int retryCount) {
+		this.retryCount = retryCount;
+	}
+	
+	@Override
+	public void setNextSendTime(Date nextSendTime) {
+		this.nextSendTime = nextSendTime;
+	}
+	
+	@Override
+	public void setSendTime(Date sendTime) {
+		this.sendTime = sendTime;
+	}
+	
+	@Override
+	public void setMailMessage(String mailMessage) {
+		this.mailMessage = mailMessage;
+	}
+	
+}
@@ -0,0 +1,159 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.dto.system;
+
+import java.util.Date;
+
+import jp.mosp.framework.base.BaseDtoInterface;
+
+/**
+ * ジョブDTOインターフェース。
+ */
+public interface JobDtoInterface extends BaseDtoInterface {
+	
+	/**
+	 * @return レコード識別ID(ジョブID)。
+	 */
+	long getPftJobId();
+	
+	/**
+	 * @return 登録ユーザID。
+	 */
+	String getUserId();
+	
+	/**
+	 * @return ジョブ名称。
+	 */
+	String getJobName();
+	
+	/**
+	 * @return ジョブクラス名。
+	 */
+	String getJobClass();
+	
+	/**
+	 * @return ジョブパラメータ。
+	 */
+	String getJobParameter();
+	
+	/**
+	 * @return ジョブ状態。
+	 */
+	String getJobStatus();
+	
+	/**
+	 * @return 進捗率。
+	 */
+	int getProgress();
+	
+	/**
+	 * @return メッセージ。
+	 */
+	String getJobMessage();
+	
+	/**
+	 * @return 開始日時。
+	 */
+	Date getStartTime();
+	
+	/**
+	 * @return 終了日時。
+	 */
+	Date getEndTime();
+	
+	/**
+	 * @return 結果ファイル名。
+	 */
+	String getResultFileName();
+	
+	/**
+	 * @return 結果ファイル。
+	 */
+	byte[] getResultFile();
+	
+	/**
+	 * @return 結果ファイル有無。
+	 */
+	boolean isResultFileExist();
+	
+	/**
+	 * @param pftJobId セットする レコード識別ID(ジョブID)。
+	 */
+	void setPftJobId(long pftJobId);
+	
+	/**
+	 * @param userId セットする 登録ユーザID。
+	 */
+	void setUserId(String userId);
+	
+	/**
+	 * @param jobName セットする ジョブ名称。
+	 */
+	void setJobName(String jobName);
+	
+	/**
+	 * @param jobClass セットする ジョブクラス名。
+	 */
+	void setJobClass(String jobClass);
+	
+	/**
+	 * @param jobParameter セットする ジョブパラメータ。
+	 */
+	void setJobParameter(String jobParameter);
+	
+	/**
+	 * @param jobStatus セットする ジョブ状態。
+	 */
+	void setJobStatus(String jobStatus);
+	
+	/**
+	 * @param progress セットする 進捗率。
+	 */
+	void setProgress(int progress);
+	
+	/**
+	 * @param jobMessage セットする メッセージ。
+	 */
+	void setJobMessage(String jobMessage);
+	
+	/**
+	 * @param startTime セットする 開始日時。
+	 */
+	void setStartTime(Date startTime);
+	
+	/**
+	 * @param endTime セットする 終了日時。
+	 */
+	void setEndTime(Date endTime);
+	
+	/**
+	 * @param resultFileName セットする 結果ファイル名。
+	 */
+	void setResultFileName(String resultFileName);
+	
+	/**
+	 * @param resultFile セットする 結果ファイル。
+	 */
+	void setResultFile(byte[] resultFile);
+	
+	/**
+	 * @param resultFileExist セットする 結果ファイル有無。
+	 */
+	void setResultFileExist(boolean resultFileExist);
+	
+}
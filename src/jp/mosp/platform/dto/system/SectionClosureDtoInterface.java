@@ -0,0 +1,102 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.dto.system;
+
+import java.util.Date;
+
+import jp.mosp.framework.base.BaseDtoInterface;
+
+/**
+ * 所属階層閉包DTOインターフェース。<br>
+ * <br>
+ * 所属マスタの履歴毎に、所属とその上位所属(自身を含む)の組を、有効期間と共に保持する。<br>
+ * 所属マスタの階層経路から作成され、所属マスタの登録時に再作成される。<br>
+ */
+public interface SectionClosureDtoInterface extends BaseDtoInterface {
+	
+	/**
+	 * @return レコード識別ID。
+	 */
+	long getPftSectionClosureId();
+	
+	/**
+	 * @return 上位所属コード。
+	 */
+	String getAncestorCode();
+	
+	/**
+	 * @return 所属コード。
+	 */
+	String getSectionCode();
+	
+	/**
+	 * @return 階層差(自身は0)。
+	 */
+	int getDepth();
+	
+	/**
+	 * @return 有効日。
+	 */
+	Date getActivateDate();
+	
+	/**
+	 * @return 終了日(次の履歴の有効日の前日、最新の履歴はnull)。
+	 */
+	Date getEndDate();
+	
+	/**
+	 * @return 閉鎖フラグ。
+	 */
+	int getCloseFlag();
+	
+	/**
+	 * @param pftSectionClosureId セットする レコード識別ID。
+	 */
+	void setPftSectionClosureId(long pftSectionClosureId);
+	
+	/**
+	 * @param ancestorCode セットする 上位所属コード。
+	 */
+	void setAncestorCode(String ancestorCode);
+	
+	/**
+	 * @param sectionCode セットする 所属コード。
+	 */
+	void setSectionCode(String sectionCode);
+	
+	/**
+	 * @param depth セットする 階層差。
+	 */
+	void setDepth(int depth);
+	
+	/**
+	 * @param activateDate セットする 有効日。
+	 */
+	void setActivateDate(Date activateDate);
+	
+	/**
+	 * @param endDate セットする 終了日。
+	 */
+	void setEndDate(Date endDate);
+	
+	/**
+	 * @param closeFlag セットする 閉鎖フラグ。
+	 */
+	void setCloseFlag(int closeFlag);
+	
+}
@@ -0,0 +1,230 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.dto.system.impl;
+
+import java.util.Date;
+
+import jp.mosp.framework.base.BaseDto;
+import jp.mosp.platform.dto.system.JobDtoInterface;
+
+/**
+ * ジョブDTO。
+ */
+public class PftJobDto extends BaseDto implements JobDtoInterface {
+	
+	private static final long	serialVersionUID	= 3528760317940281446L;
+	
+	/**
+	 * レコード識別ID(ジョブID)。
+	 */
+	private long				pftJobId;
+	
+	/**
+	 * 登録ユーザID。
+	 */
+	private String				userId;
+	
+	/**
+	 * ジョブ名称。
+	 */
+	private String				jobName;
+	
+	/**
+	 * ジョブクラス名。
+	 */
+	private String				jobClass;
+	
+	/**
+	 * ジョブパラメータ。
+	 */
+	private String				jobParameter;
+	
+	/**
+	 * ジョブ状態。
+	 */
+	private String				jobStatus;
+	
+	/**
+	 * 進捗率。
+	 */
+	private int					progress;
+	
+	/**
+	 * メッセージ。
+	 */
+	private String				jobMessage;
+	
+	/**
+	 * 開始日時。
+	 */
+	private Date				startTime;
+	
+	/**
+	 * 終了日時。
+	 */
+	private Date				endTime;
+	
+	/**
+	 * 結果ファイル名。
+	 */
+	private String				resultFileName;
+	
+	/**
+	 * 結果ファイル。
+	 */
+	private byte[]				resultFile;
+	
+	/**
+	 * 結果ファイル有無。<br>
+	 * 結果ファイルを取得しない場合(状況確認時)にも、結果ファイルの有無を保持する。<br>
+	 */
+	private boolean				resultFileExist;
+	
+	
+	@Override
+	public long getPftJobId() {
+		return pftJobId;
+	}
+	
+	@Override
+	public String getUserId() {
+		return userId;
+	}
+	
+	@Override
+	public String getJobName() {
+		return jobName;
+	}
+	
+	@Override
+	public String getJobClass() {
+		return jobClass;
+	}
+	
+	@Override
+	public String getJobParameter() {
+		return jobParameter;
+	}
+	
+	@Override
+	public String getJobStatus() {
+		return jobStatus;
+	}
+	
+	@Override
+	public int getProgress() {
+		return progress;
+	}
+	
+	@Override
+	public String getJobMessage() {
+		return jobMessage;
+	}
+	
+	@Override
+	public Date getStartTime() {
+		return getDateClone(startTime);
+	}
+	
+	@Override
+	public Date getEndTime() {
+		return getDateClone(endTime);
+	}
+	
+	@Override
+	public String getResultFileName() {
+		return resultFileName;
+	}
+	
+	@Override
+	public byte[] getResultFile() {
+		return resultFile;
+	}
+	
+	@Override
+	public boolean isResultFileExist() {
+		return resultFileExist;
+	}
+	
+	@Override
+	public void setPftJobId(long pftJobId) {
+		this.pftJobId = pftJobId;
+	}
+	
+	@Override
+	public void setUserId(String userId) {
+		this.userId = userId;
+	}
+	
+	@Override
+	public void setJobName(String jobName) {
+		this.jobName = jobName;
+	}
+	
+	@Override
+	public void setJobClass(String jobClass) {
+		this.jobClass = jobClass;
+	}
+	
+	@Override
+	public void setJobParameter(String jobParameter) {
+		this.jobParameter = jobParameter;
+	}
+	
+	@Override
+	public void setJobStatus(String jobStatus) {
+		this.jobStatus = jobStatus;
+	}
+	
+	@Override
+	public void setProgress(int progress) {
+		this.progress = progress;
+	}
+	
+	@Override
+	public void setJobMessage(String jobMessage) {
+		this.jobMessage = jobMessage;
+	}
+	
+	@Override
+	public void setStartTime(Date startTime) {
+		this.startTime = getDateClone(startTime);
+	}
+	
+	@Override
+	public void setEndTime(Date endTime) {
+		this.endTime = getDateClone(endTime);
+	}
+	
+	@Override
+	public void setResultFileName(String resultFileName) {
+		this.resultFileName = resultFileName;
+	}
+	
+	@Override
+	public void setResultFile(byte[] resultFile) {
+		this.resultFile = resultFile;
+		resultFileExist = resultFile != null;
+	}
+	
+	@Override
+	public void setResultFileExist(boolean resultFileExist) {
+		this.resultFileExist = resultFileExist;
+	}
+	
+}
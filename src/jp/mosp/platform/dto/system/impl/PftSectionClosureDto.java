@@ -0,0 +1,132 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.dto.system.impl;
+
+import java.util.Date;
+
+import jp.mosp.framework.base.BaseDto;
+import jp.mosp.platform.dto.system.SectionClosureDtoInterface;
+
+/**
+ * 所属階層閉包DTO。<br>
+ */
+public class PftSectionClosureDto extends BaseDto implements SectionClosureDtoInterface {
+	
+	private static final long	serialVersionUID	= -3318507215862402375L;
+	
+	/**
+	 * レコード識別ID。
+	 */
+	private long				pftSectionClosureId;
+	/**
+	 * 上位所属コード。
+	 */
+	private String				ancestorCode;
+	/**
+	 * 所属コード。
+	 */
+	private String				sectionCode;
+	/**
+	 * 階層差。
+	 */
+	private int					depth;
+	/**
+	 * 有効日。
+	 */
+	private Date				activateDate;
+	/**
+	 * 終了日。
+	 */
+	private Date				endDate;
+	/**
+	 * 閉鎖フラグ。
+	 */
+	private int					closeFlag;
+	
+	
+	@Override
+	public long getPftSectionClosureId() {
+		return pftSectionClosureId;
+	}
+	
+	@Override
+	public String getAncestorCode() {
+		return ancestorCode;
+	}
+	
+	@Override
+	public String getSectionCode() {
+		return sectionCode;
+	}
+	
+	@Override
+	public int getDepth() {
+		return depth;
+	}
+	
+	@Override
+	public Date getActivateDate() {
+		return getDateClone(activateDate);
+	}
+	
+	@Override
+	public Date getEndDate() {
+		return getDateClone(endDate);
+	}
+	
+	@Override
+	public int getCloseFlag() {
+		return closeFlag;
+	}
+	
+	@Override
+	public void setPftSectionClosureId(long pftSectionClosureId) {
+		this.pftSectionClosureId = pftSectionClosureId;
+	}
+	
+	@Override
+	public void setAncestorCode(String ancestorCode) {
+		this.ancestorCode = ancestorCode;
+	}
+	
+	@Override
+	public void setSectionCode(String sectionCode) {
+		this.sectionCode = sectionCode;
+	}
+	
+	@Override
+	public void setDepth(int depth) {
+		this.depth = depth;
+	}
+	
+	@Override
+	public void setActivateDate(Date activateDate) {
+		this.activateDate = getDateClone(activateDate);
+	}
+	
+	@Override
+	public void setEndDate(Date endDate) {
+		this.endDate = getDateClone(endDate);
+	}
+	
+	@Override
+	public void setCloseFlag(int closeFlag) {
+		this.closeFlag = closeFlag;
+	}
+	
+}
@@ -0,0 +1,81 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.dto.workflow;
+
+import jp.mosp.framework.base.BaseDtoInterface;
+
+/**
+ * ワークフロー承認者索引DTOインターフェース。<br>
+ * <br>
+ * 承認可能なワークフロー毎に、現在の段階で承認を行う者を特定するための情報を保持する。<br>
+ * 承認者個人IDが指定されている場合は現在の段階の承認者個人IDを、
+ * そうでない場合はルートコードを保持する。<br>
+ */
+public interface WorkflowApproverDtoInterface extends BaseDtoInterface {
+	
+	/**
+	 * @return ワークフロー番号。
+	 */
+	long getWorkflow();
+	
+	/**
+	 * @return 機能コード。
+	 */
+	String getFunctionCode();
+	
+	/**
+	 * @return 段階。
+	 */
+	int getWorkflowStage();
+	
+	/**
+	 * @return 承認者個人ID(現在の段階)。
+	 */
+	String getApproverId();
+	
+	/**
+	 * @return ルートコード。
+	 */
+	String getRouteCode();
+	
+	/**
+	 * @param workflow セットする ワークフロー番号。
+	 */
+	void setWorkflow(long workflow);
+	
+	/**
+	 * @param functionCode セットする 機能コード。
+	 */
+	void setFunctionCode(String functionCode);
+	
+	/**
+	 * @param workflowStage セットする 段階。
+	 */
+	void setWorkflowStage(int workflowStage);
+	
+	/**
+	 * @param approverId セットする 承認者個人ID(現在の段階)。
+	 */
+	void setApproverId(String approverId);
+	
+	/**
+	 * @param routeCode セットする ルートコード。
+	 */
+	void setRouteCode(String routeCode);
+	
+}
@@ -0,0 +1,106 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.dto.workflow.impl;
+
+import jp.mosp.framework.base.BaseDto;
+import jp.mosp.platform.dto.workflow.WorkflowApproverDtoInterface;
+
+/**
+ * ワークフロー承認者索引DTO。
+ */
+public class PftWorkflowApproverDto extends BaseDto implements WorkflowApproverDtoInterface {
+	
+	private static final long	serialVersionUID	= 6402871534186329754L;
+	
+	/**
+	 * ワークフロー番号。
+	 */
+	private long				workflow;
+	
+	/**
+	 * 機能コード。
+	 */
+	private String				functionCode;
+	
+	/**
+	 * 段階。
+	 */
+	private int					workflowStage;
+	
+	/**
+	 * 承認者個人ID(現在の段階)。
+	 */
+	private String				approverId;
+	
+	/**
+	 * ルートコード。
+	 */
+	private String				routeCode;
+	
+	
+	@Override
+	public long getWorkflow() {
+		return workflow;
+	}
+	
+	@Override
+	public String getFunctionCode() {
+		return functionCode;
+	}
+	
+	@Override
+	public int getWorkflowStage() {
+		return workflowStage;
+	}
+	
+	@Override
+	public String getApproverId() {
+		return approverId;
+	}
+	
+	@Override
+	public String getRouteCode() {
+		return routeCode;
+	}
+	
+	@Override
+	public void setWorkflow(long workflow) {
+		this.workflow = workflow;
+	}
+	
+	@Override
+	public void setFunctionCode(String functionCode) {
+		this.functionCode = functionCode;
+	}
+	
+	@Override
+	public void setWorkflowStage(int workflowStage) {
+		this.workflowStage = workflowStage;
+	}
+	
+	@Override
+	public void setApproverId(String approverId) {
+		this.approverId = approverId;
+	}
+	
+	@Override
+	public void setRouteCode(String routeCode) {
+		this.routeCode = routeCode;
+	}
+	
+}
@@ -19,6 +19,7 @@ package jp.mosp.platform.file.action;
 
 import jp.mosp.framework.base.MospException;
 import jp.mosp.platform.bean.file.ImportBeanInterface;
+import jp.mosp.platform.constant.PlatformConst;
 import jp.mosp.platform.constant.PlatformFileConst;
 import jp.mosp.platform.dto.file.ImportDtoInterface;
 import jp.mosp.platform.file.base.ImportListAction;
@@ -201,6 +202,12 @@ public class HumanImportListAction extends ImportListAction {
 			addInsertFailedMessage();
 			return;
 		}
+		// ジョブ実行確認
+		if (mospParams.getApplicationPropertyBool(PlatformConst.APP_IMPORT_ASYNC)) {
+			// インポートをジョブとして受付
+			submitImport(importDto, importBean);
+			return;
+		}
 		// インポート実施
 		int count = importBean.importFile(importDto, mospParams.getRequestFile(PRM_FIL_IMPORT));
 		// 履歴追加結果確認
@@ -0,0 +1,186 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.file.action;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.constant.ExceptionConst;
+import jp.mosp.framework.exporter.TextContents;
+import jp.mosp.framework.utils.DateUtility;
+import jp.mosp.framework.utils.MospUtility;
+import jp.mosp.platform.base.PlatformAction;
+import jp.mosp.platform.bean.system.JobReferenceBeanInterface;
+import jp.mosp.platform.constant.PlatformConst;
+import jp.mosp.platform.constant.PlatformMessageConst;
+import jp.mosp.platform.dto.system.JobDtoInterface;
+import net.arnx.jsonic.JSON;
+
+/**
+ * ジョブの状況確認及び結果ファイルの出力を行う。<br>
+ * <br>
+ * リクエストパラメータ{@link PlatformConst#PRM_TRANSFERRED_CODE}でジョブIDを指定する。<br>
+ * ログインユーザが登録したジョブのみを対象とする(スーパーユーザは全てのジョブを対象とする)。<br>
+ * <br>
+ * 状況確認の例(JSON形式で出力)：<br>
+ * ../srv/?cmd=PF9130&amp;transferredCode=1<br>
+ * <br>
+ * 結果ファイル出力の例：<br>
+ * ../srv/?cmd=PF9131&amp;transferredCode=1<br>
+ */
+public class JobStatusAction extends PlatformAction {
+	
+	/**
+	 * 状況確認コマンド。<br>
+	 * <br>
+	 * ジョブの状態、進捗率、メッセージ等をJSON形式で出力する。<br>
+	 */
+	public static final String		CMD_STATUS		= "PF9130";
+	
+	/**
+	 * 結果ファイル出力コマンド。<br>
+	 * <br>
+	 * 終了したジョブの結果ファイルを出力する。<br>
+	 */
+	public static final String		CMD_DOWNLOAD	= "PF9131";
+	
+	/**
+	 * 状況確認出力ファイル名。<br>
+	 */
+	protected static final String	FILE_STATUS		= "job.json";
+	
+	
+	/**
+	 * {@link PlatformAction#PlatformAction()}を実行する。<br>
+	 */
+	public JobStatusAction() {
+		super();
+	}
+	
+	@Override
+	public void action() throws MospException {
+		if (mospParams.getCommand().equals(CMD_STATUS)) {
+			// 状況確認
+			status();
+		} else if (mospParams.getCommand().equals(CMD_DOWNLOAD)) {
+			// 結果ファイル出力
+			download();
+		} else {
+			throwInvalidCommandException();
+		}
+	}
+	
+	/**
+	 * ジョブの状況をJSON形式で出力する。<br>
+	 * 対象ジョブが存在しない場合は、ジョブIDのみを出力する。<br>
+	 * @throws MospException インスタンスの取得、SQL実行に失敗した場合、或いは対象ジョブの参照権限が無い場合
+	 */
+	protected void status() throws MospException {
+		// ジョブID取得
+		long jobId = getLong(getTransferredCode());
+		// 出力内容準備
+		Map<String, Object> map = new LinkedHashMap<String, Object>();
+		map.put("jobId", jobId);
+		// ジョブ情報取得(結果ファイルは取得しない)
+		JobReferenceBeanInterface reference = reference().job();
+		JobDtoInterface dto = reference.findForStatus(jobId);
+		// 参照権限確認
+		checkJobAuthority(dto);
+		if (dto != null) {
+			String status = dto.getJobStatus();
+			// 中断されたジョブは異常終了とする
+			if (reference.isFinished(dto) && (PlatformConst.CODE_JOB_STATUS_WAITING.equals(status)
+					|| PlatformConst.CODE_JOB_STATUS_RUNNING.equals(status))) {
+				status = PlatformConst.CODE_JOB_STATUS_FAILED;
+			}
+			map.put("jobName", dto.getJobName());
+			map.put("status", status);
+			map.put("statusName", getCodeName(status, PlatformConst.CODE_KEY_JOB_STATUS));
+			map.put("finished", reference.isFinished(dto));
+			map.put("progress", dto.getProgress());
+			map.put("message", dto.getJobMessage());
+			map.put("startTime", getStringDateAndTime(dto.getStartTime()));
+			map.put("endTime", getStringDateAndTime(dto.getEndTime()));
+			map.put("hasResult", dto.isResultFileExist());
+		}
+		// MosP処理情報に設定
+		mospParams.setFile(new TextContents(MospUtility.CHARACTER_ENCODING, JSON.encode(map)));
+		mospParams.setFileName(FILE_STATUS);
+	}
+	
+	/**
+	 * ジョブの結果ファイルを出力する。<br>
+	 * @throws MospException インスタンスの取得、SQL実行に失敗した場合、或いは対象ジョブの参照権限が無い場合
+	 */
+	protected void download() throws MospException {
+		// ジョブ情報取得
+		JobDtoInterface dto = reference().job().findForKey(getLong(getTransferredCode()));
+		// 参照権限確認
+		checkJobAuthority(dto);
+		// 結果ファイル確認
+		if (dto == null || dto.getResultFile() == null) {
+			mospParams.addErrorMessage(PlatformMessageConst.MSG_NO_DATA);
+			return;
+		}
+		// MosP処理情報に設定
+		mospParams.setFile(new BufferedInputStream(new ByteArrayInputStream(dto.getResultFile())));
+		mospParams.setFileName(dto.getResultFileName());
+	}
+	
+	/**
+	 * 対象ジョブの参照権限を確認する。<br>
+	 * ジョブを登録したユーザ或いはスーパーユーザでない場合は、例外を発行する。<br>
+	 * ジョブの結果には個人IDの一覧等が含まれ、ジョブIDは推測できるため、ジョブIDのみで参照させない。<br>
+	 * @param dto 対象ジョブ情報(存在しない場合はnull)
+	 * @throws MospException 対象ジョブの参照権限が無い場合
+	 */
+	protected void checkJobAuthority(JobDtoInterface dto) throws MospException {
+		// 対象ジョブが存在しない場合
+		if (dto == null) {
+			return;
+		}
+		// ジョブを登録したユーザの場合
+		if (dto.getUserId() != null && dto.getUserId().equals(mospParams.getUser().getUserId())) {
+			return;
+		}
+		// スーパーユーザの場合
+		if (mospParams.getUserRole() != null && mospParams.getUserRole().isSuper()) {
+			return;
+		}
+		mospParams.addErrorMessage(ExceptionConst.EX_NO_AUTHORITY);
+		mospParams.setErrorViewUrl();
+		throw new MospException(ExceptionConst.EX_NO_AUTHORITY);
+	}
+	
+	/**
+	 * 日時文字列を取得する。<br>
+	 * @param date 対象日時
+	 * @return 日時文字列(対象日時がnullの場合は空文字)
+	 */
+	protected String getStringDateAndTime(Date date) {
+		if (date == null) {
+			return "";
+		}
+		return DateUtility.getStringDateAndTime(date);
+	}
+	
+}
@@ -17,15 +17,23 @@
  */
 package jp.mosp.platform.file.base;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 
 import jp.mosp.framework.base.BaseDtoInterface;
 import jp.mosp.framework.base.BaseVo;
 import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.constant.ExceptionConst;
 import jp.mosp.framework.constant.MospConst;
 import jp.mosp.platform.base.PlatformAction;
+import jp.mosp.platform.bean.file.ImportBeanInterface;
 import jp.mosp.platform.bean.file.ImportSearchBeanInterface;
 import jp.mosp.platform.bean.file.TemplateOutputBeanInterface;
+import jp.mosp.platform.bean.file.impl.ImportJobBean;
 import jp.mosp.platform.comparator.file.ImportMasterImportCodeComparator;
 import jp.mosp.platform.constant.PlatformConst;
 import jp.mosp.platform.constant.PlatformFileConst;
@@ -117,6 +125,62 @@ public abstract class ImportListAction extends PlatformAction {
 		templateOutput.output(vo.getRadSelect());
 	}
 	
+	/**
+	 * インポートをジョブとして受け付ける。<br>
+	 * リクエストされたインポートファイルを一時ファイルに保存し、ジョブで一時ファイルからインポートを行う。<br>
+	 * 一時ファイルはジョブの終了時に削除する(ジョブを受け付けられなかった場合はすぐに削除する)。<br>
+	 * @param importDto  インポートマスタ情報
+	 * @param importBean インポートクラス
+	 * @throws MospException 一時ファイルの保存、インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected void submitImport(ImportDtoInterface importDto, ImportBeanInterface importBean) throws MospException {
+		// インポートファイルを一時ファイルに保存
+		File file = saveRequestFile(mospParams.getRequestFile(PRM_FIL_IMPORT));
+		// ジョブ名取得
+		String jobName = mospParams.getName("Import");
+		// ジョブ登録
+		long jobId = platform().jobRegist().submit(jobName, ImportJobBean.class, importDto.getImportCode(),
+				importBean.getClass().getName(), file.getPath());
+		if (mospParams.hasErrorMessage()) {
+			// 一時ファイル削除
+			file.delete();
+			return;
+		}
+		// 受付メッセージ設定(画面表示時にジョブの状況を表示)
+		addJobAcceptedMessage(jobName, jobId);
+	}
+	
+	/**
+	 * リクエストされたファイルを一時ファイルに保存する。<br>
+	 * @param in リクエストされたファイル
+	 * @return 一時ファイル
+	 * @throws MospException 一時ファイルの保存に失敗した場合
+	 */
+	protected File saveRequestFile(InputStream in) throws MospException {
+		OutputStream out = null;
+		try {
+			File file = File.createTempFile("mospImport", null);
+			out = new FileOutputStream(file);
+			byte[] data = new byte[MospConst.PROCESS_BYTES];
+			int len;
+			while ((len = in.read(data, 0, MospConst.PROCESS_BYTES)) != -1) {
+				out.write(data, 0, len);
+			}
+			return file;
+		} catch (IOException e) {
+			throw new MospException(e, ExceptionConst.EX_FAIL_INPUT_FILE, null);
+		} finally {
+			try {
+				in.close();
+				if (out != null) {
+					out.close();
+				}
+			} catch (IOException e) {
+				throw new MospException(e, ExceptionConst.EX_FAIL_INPUT_FILE, null);
+			}
+		}
+	}
+	
 	/**
 	 * 検索結果リストの内容をVOに設定する。<br>
 	 * @param list 対象リスト
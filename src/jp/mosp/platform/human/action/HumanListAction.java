@@ -24,6 +24,7 @@ import java.util.List;
 import jp.mosp.framework.base.BaseDtoInterface;
 import jp.mosp.framework.base.BaseVo;
 import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.PageCursor;
 import jp.mosp.framework.constant.MospConst;
 import jp.mosp.framework.utils.MospUtility;
 import jp.mosp.platform.base.PlatformAction;
@@ -208,6 +209,8 @@ public class HumanListAction extends PlatformHumanAction {
 		setList(new ArrayList<BaseDtoInterface>());
 		// データ配列初期化
 		vo.setList(new ArrayList<BaseDtoInterface>());
+		// 頁操作用カーソル初期化
+		vo.setPageCursor(null);
 	}
 	
 	/**
@@ -233,7 +236,40 @@ public class HumanListAction extends PlatformHumanAction {
 			return;
 		}
 		// 検索条件設定
-		humanSearch.setTargetDate(getActivateDate());
+		setSearchCondition(humanSearch, getActivateDate());
+		// ソートキー及びソート順設定
+		vo.setComparatorName(EmployeeCodeComparator.class.getName());
+		vo.setAscending(false);
+		// 頁操作用カーソル準備(件数はここでのみ算出)
+		PageCursor cursor = new PageCursor(vo.getComparatorName(), vo.isAscending(), vo.getDataPerPage());
+		cursor.setCount(humanSearch.getHumanCount());
+		vo.setPageCursor(cursor);
+		// 1頁目を検索
+		vo.setSelectIndex(String.valueOf(1));
+		List<HumanListDtoInterface> list = humanSearch.getHumanList(cursor, 1);
+		// 検索結果設定(表示中の頁のみ)
+		vo.setList(list);
+		setList(list);
+		// 検索結果確認
+		if (list.size() == 0) {
+			// 検索結果無しメッセージ設定
+			addNoSearchResultMessage();
+			return;
+		}
+		// 検索有効日設定
+		vo.setActivateDate(getActivateDate());
+	}
+	
+	/**
+	 * 人事情報検索クラスに、VOの検索条件を設定する。<br>
+	 * @param humanSearch 人事情報検索クラス
+	 * @param targetDate  対象日
+	 */
+	protected void setSearchCondition(HumanSearchBeanInterface humanSearch, Date targetDate) {
+		// VO準備
+		HumanListVo vo = (HumanListVo)mospParams.getVo();
+		// 検索条件設定
+		humanSearch.setTargetDate(targetDate);
 		humanSearch.setEmployeeCode(vo.getTxtEmployeeCode());
 		humanSearch.setLastName(vo.getTxtLastName());
 		humanSearch.setWorkPlaceCode(vo.getPltWorkPlaceAbbr());
@@ -257,41 +293,65 @@ public class HumanListAction extends PlatformHumanAction {
 		humanSearch.setNeedConcurrent(true);
 		// 検索条件設定(操作区分)
 		humanSearch.setOperationType(MospConst.OPERATION_TYPE_REFER);
-		// 検索
-		List<HumanListDtoInterface> list = humanSearch.getHumanList();
-		// 検索結果設定
-		vo.setList(list);
-		// ソートキー及びソート順設定
-		vo.setComparatorName(EmployeeCodeComparator.class.getName());
-		vo.setAscending(false);
-		// ソート
-		sort();
-		// 検索結果確認
-		if (list.size() == 0) {
-			// 検索結果無しメッセージ設定
-			addNoSearchResultMessage();
-			return;
-		}
-		// 検索有効日設定
-		vo.setActivateDate(getActivateDate());
 	}
 	
 	/**
 	 * ソート処理を行う。<br>
+	 * 並び替えはSQLで行い、1頁目を検索する。<br>
 	 * @throws MospException VO、或いは比較クラスの取得に失敗した場合
 	 */
 	protected void sort() throws MospException {
-		// 検索
-		setList(sortList(getTransferredSortKey()));
+		// VO準備
+		HumanListVo vo = (HumanListVo)mospParams.getVo();
+		// 頁操作用カーソル確認
+		if (vo.getPageCursor() == null) {
+			// 検索前はVOのリストをソート
+			setList(sortList(getTransferredSortKey()));
+			return;
+		}
+		// ソートキー及びソート順設定
+		setSortKey(getTransferredSortKey());
+		vo.getPageCursor().setOrder(vo.getComparatorName(), vo.isAscending());
+		// 1頁目を検索
+		searchPage(1);
 	}
 	
 	/**
 	 * ページ繰り処理を行う。<br>
+	 * 選択ページをDBから検索する。<br>
 	 * @throws MospException VOの取得に失敗した場合
 	 */
 	protected void page() throws MospException {
-		// ページ繰り及びリスト設定
-		setList(pageList());
+		// VO準備
+		HumanListVo vo = (HumanListVo)mospParams.getVo();
+		// 頁操作用カーソル確認
+		if (vo.getPageCursor() == null) {
+			// ページ繰り及びリスト設定
+			setList(pageList());
+			return;
+		}
+		// 選択ページを検索
+		searchPage(vo.getPageCursor().getValidPage(getInt(vo.getSelectIndex())));
+	}
+	
+	/**
+	 * 頁操作用カーソルを用いて、対象頁を検索しVOに設定する。<br>
+	 * 検索条件は、VOの検索条件及び検索有効日とする。<br>
+	 * @param page 対象頁番号
+	 * @throws MospException インスタンスの取得、SQLの作成及び実行に失敗した場合
+	 */
+	protected void searchPage(int page) throws MospException {
+		// VO準備
+		HumanListVo vo = (HumanListVo)mospParams.getVo();
+		// 検索クラス取得及び検索条件設定
+		HumanSearchBeanInterface humanSearch = reference().humanSearch();
+		setSearchCondition(humanSearch, vo.getActivateDate());
+		// 対象頁を検索
+		vo.setSelectIndex(String.valueOf(page));
+		List<HumanListDtoInterface> list = humanSearch.getHumanList(vo.getPageCursor(), page);
+		// 検索結果設定(表示中の頁のみ)
+		vo.setList(list);
+		setList(list);
 	}
 	
 	/**
@@ -408,14 +408,8 @@ public class MessageCardAction extends PlatformSystemAction {
 			mospParams.addErrorMessage(PlatformMessageConst.MSG_WORKFORM_EXISTENCE, mospParams.getName("Set"));
 			return;
 		}
-		int count = 0;
-		for (String[] strings : aryPersonalIds) {
-			if (mail.sendMail(new String[][]{ strings }, dto.getMessageTitle(), dto.getMessageBody(), null)) {
-				count++;
-				continue;
-			}
-			break;
-		}
+		// 送信待ちに登録(送信はメール送信スレッドで行う)
+		int count = mail.enqueueMail(aryPersonalIds, dto.getMessageTitle(), dto.getMessageBody());
 		if (count > 0) {
 			// 0より大きい場合
 			addSendMailMessage(count);
@@ -18,14 +18,33 @@
 package jp.mosp.platform.portal.action;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jp.mosp.framework.base.BaseVo;
 import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
 import jp.mosp.framework.constant.MospConst;
+import jp.mosp.framework.utils.LogUtility;
 import jp.mosp.framework.utils.MospUtility;
 import jp.mosp.platform.base.PlatformAction;
 import jp.mosp.platform.bean.portal.PortalBeanInterface;
+import jp.mosp.platform.bean.portal.impl.PortalShowWorker;
+import jp.mosp.platform.bean.portal.impl.PortalSnapshot;
+import jp.mosp.platform.bean.portal.impl.PortalSnapshotCache;
 import jp.mosp.platform.portal.vo.PortalVo;
 
 /**
@@ -38,43 +57,88 @@ public class PortalAction extends PlatformAction {
 	 * <br>
 	 * 初期表示を行う。<br>
 	 */
-	public static final String		CMD_SHOW					= "PF0040";
+	public static final String				CMD_SHOW					= "PF0040";
 	
 	/**
 	 * 認証処理後用表示コマンド。<br>
 	 * <br>
 	 * XMLファイルで、処理シーケンス発行不要設定が施されている。<br>
 	 */
-	public static final String		CMD_AFTER_AUTH				= "PF0041";
+	public static final String				CMD_AFTER_AUTH				= "PF0041";
 	
 	/**
 	 * 再表示コマンド。<br>
 	 * <br>
 	 * パンくず等で戻って来る際にリクエストされる。<br>
 	 */
-	public static final String		CMD_RE_SHOW					= "PF0043";
+	public static final String				CMD_RE_SHOW					= "PF0043";
 	
 	/**
 	 * 登録コマンド。<br>
 	 * <br>
 	 * 登録処理を行う。<br>
 	 */
-	public static final String		CMD_REGIST					= "PF0047";
+	public static final String				CMD_REGIST					= "PF0047";
 	
 	/**
 	 * リクエストパラメータ名(ポータルBeanクラス名)。
 	 */
-	public static final String		PRM_PORTAL_BEAN_CLASS_NAME	= "portalBeanClassName";
+	public static final String				PRM_PORTAL_BEAN_CLASS_NAME	= "portalBeanClassName";
 	
 	/**
 	 * MosPアプリケーション設定キー(ポータル用Beanクラス群)。
 	 */
-	protected static final String	APP_AFTER_AUTH_PORTAL_BEANS	= "AfterAuthPortalBeans";
+	protected static final String			APP_AFTER_AUTH_PORTAL_BEANS	= "AfterAuthPortalBeans";
 	
 	/**
 	 * MosPアプリケーション設定キー(ポータル用Beanクラス群)。
 	 */
-	protected static final String	APP_PORTAL_BEANS			= "PortalBeans";
+	protected static final String			APP_PORTAL_BEANS			= "PortalBeans";
+	
+	/**
+	 * MosPアプリケーション設定キー(並列実行ポータルBeanクラス群)。
+	 */
+	protected static final String			APP_PORTAL_PARALLEL_BEANS	= "PortalParallelBeans";
+	
+	/**
+	 * MosPアプリケーション設定キー(ポータルBean並列実行数)。
+	 */
+	protected static final String			APP_PORTAL_PARALLEL_THREADS	= "PortalParallelThreads";
+	
+	/**
+	 * MosPアプリケーション設定キー(ポータルBean並列実行待機時間(ミリ秒))。
+	 */
+	protected static final String			APP_PORTAL_PARALLEL_TIMEOUT	= "PortalParallelTimeout";
+	
+	/**
+	 * ポータルBean並列実行数初期値。
+	 */
+	protected static final int				DEFAULT_PARALLEL_THREADS	= 4;
+	
+	/**
+	 * ポータルBean並列実行待機時間初期値(ミリ秒)。
+	 */
+	protected static final int				DEFAULT_PARALLEL_TIMEOUT	= 5000;
+	
+	/**
+	 * 待機しているスレッドの破棄までの時間(ミリ秒)。
+	 */
+	protected static final long				PARALLEL_KEEP_ALIVE			= 60000L;
+	
+	/**
+	 * スレッド名接頭辞。
+	 */
+	protected static final String			THREAD_NAME_PREFIX			= "mosp-portal-";
+	
+	/**
+	 * スレッド番号。
+	 */
+	protected static final AtomicInteger	THREAD_NUMBER				= new AtomicInteger();
+	
+	/**
+	 * ポータルBean並列実行用スレッドプール(初回実行時に生成)。
+	 */
+	private static ThreadPoolExecutor		parallelExecutor;
 	
 	
 	/**
@@ -165,7 +229,13 @@ public class PortalAction extends PlatformAction {
 	}
 	
 	/**
-	 * ポータルBeanクラス群(クラス名)に対して、クラス毎に処理を行う。
+	 * ポータルBeanクラス群(クラス名)に対して、クラス毎に処理を行う。<br>
+	 * <br>
+	 * 並列実行ポータルBeanクラス群に含まれるものは、キャッシュされたポータル表示情報を用いる。<br>
+	 * キャッシュされていない場合は、専用のDBコネクションを用いて別スレッドで並列に表示処理を行う。<br>
+	 * 待機時間を過ぎても実行が開始されていない場合は、呼出元のスレッドで表示処理を行い、
+	 * 実行中の場合は当該ポータルを表示しない。<br>
+	 * 画面への反映は、ポータルBeanクラス群の順序で行う。<br>
 	 * @param portalBeansClassNames ポータルBeanクラス群(クラス名)
 	 * @throws MospException MosP例外が発生した場合
 	 */
@@ -174,8 +244,64 @@ public class PortalAction extends PlatformAction {
 		if (mospParams.getStoredInfo().getRangeMap() != null) {
 			mospParams.getStoredInfo().setRangeMap(null);
 		}
+		// 並列実行ポータルBeanクラス群を取得
+		Set<String> parallelSet = getParallelPortalBeansClassNames();
+		// ログインユーザの個人IDを取得
+		String personalId = mospParams.getUser().getPersonalId();
+		// ポータル表示情報群及び並列実行単位群を準備
+		Map<String, PortalSnapshot> snapshotMap = new HashMap<String, PortalSnapshot>();
+		Map<String, PortalShowWorker> workerMap = new HashMap<String, PortalShowWorker>();
+		Map<String, Future<PortalSnapshot>> futureMap = new HashMap<String, Future<PortalSnapshot>>();
+		// 並列実行ポータルBeanクラス毎に処理
+		for (String className : portalBeansClassNames) {
+			if (parallelSet.contains(className) == false || snapshotMap.containsKey(className)
+					|| workerMap.containsKey(className)) {
+				continue;
+			}
+			// キャッシュされたポータル表示情報を取得
+			PortalSnapshot snapshot = PortalSnapshotCache.get(mospParams, personalId, className);
+			if (snapshot != null) {
+				snapshotMap.put(className, snapshot);
+				continue;
+			}
+			// 専用のMosP処理情報で並列実行開始
+			PortalShowWorker worker = new PortalShowWorker(mospParams.createJobParams(), className);
+			workerMap.put(className, worker);
+			futureMap.put(className, getParallelExecutor(mospParams).submit(worker));
+		}
+		// 待機期限を取得
+		long deadline = System.currentTimeMillis()
+				+ mospParams.getApplicationProperty(APP_PORTAL_PARALLEL_TIMEOUT, DEFAULT_PARALLEL_TIMEOUT);
+		// VO取得
+		PortalVo vo = (PortalVo)mospParams.getVo();
 		// ポータルBeanクラス毎に処理を行う
 		for (String className : portalBeansClassNames) {
+			// キャッシュされたポータル表示情報がある場合
+			PortalSnapshot snapshot = snapshotMap.remove(className);
+			if (snapshot != null) {
+				// 画面へ反映
+				snapshot.apply(mospParams, vo);
+				continue;
+			}
+			// 並列実行している場合
+			PortalShowWorker worker = workerMap.remove(className);
+			if (worker != null) {
+				// 並列実行結果を取得
+				snapshot = getSnapshot(futureMap.get(className), deadline);
+				if (snapshot != null) {
+					// 画面へ反映及びキャッシュ
+					snapshot.apply(mospParams, vo);
+					PortalSnapshotCache.put(mospParams, personalId, snapshot);
+					continue;
+				}
+				// 実行中である場合
+				if (worker.claim() == false) {
+					// 当該ポータルは表示しない
+					LogUtility.application(mospParams, mospParams.getName("PortalShowTimeout") + className);
+					continue;
+				}
+				// 実行開始前である場合は以下で表示処理
+			}
 			// ポータルBeanクラス取得
 			PortalBeanInterface portalBean = platform().portal(className);
 			// エラーメッセージ取得
@@ -191,6 +317,30 @@ public class PortalAction extends PlatformAction {
 		}
 	}
 	
+	/**
+	 * 並列実行結果を取得する。<br>
+	 * 待機期限を過ぎた場合はnullを返す。<br>
+	 * @param future   並列実行結果
+	 * @param deadline 待機期限(ミリ秒)
+	 * @return ポータル表示情報
+	 * @throws MospException 並列実行中に例外が発生した場合
+	 */
+	protected PortalSnapshot getSnapshot(Future<PortalSnapshot> future, long deadline) throws MospException {
+		try {
+			return future.get(Math.max(0L, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			return null;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new MospException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof MospException) {
+				throw (MospException)e.getCause();
+			}
+			throw new MospException(e.getCause());
+		}
+	}
+	
 	/**
 	 * 登録等の処理を行う。<br>
 	 * ポータルパラメータから処理を実施するポータルBeanクラス名を取得し、登録等の処理を行う。
@@ -209,6 +359,8 @@ public class PortalAction extends PlatformAction {
 		if (mospParams.hasErrorMessage() == false) {
 			// コミット
 			commit();
+			// ログインユーザのポータル表示情報を破棄
+			PortalSnapshotCache.invalidate(mospParams.getUser().getPersonalId());
 		}
 		// 表示処理
 		show();
@@ -236,4 +388,53 @@ public class PortalAction extends PlatformAction {
 		return MospUtility.split(afterAuthPortalBeans, MospConst.APP_PROPERTY_SEPARATOR);
 	}
 	
+	/**
+	 * MosP設定情報から並列実行ポータルBeanクラス群(クラス名)を取得する。<br>
+	 * DBへの参照のみを行い、他のポータルBeanの処理結果を用いないものが設定される。<br>
+	 * @return 並列実行ポータルBeanクラス群(クラス名)
+	 */
+	protected Set<String> getParallelPortalBeansClassNames() {
+		// 並列実行ポータルBeanクラス群(クラス名)取得
+		String parallelBeans = mospParams.getApplicationProperty(APP_PORTAL_PARALLEL_BEANS);
+		// 設定確認
+		if (parallelBeans == null) {
+			return new HashSet<String>();
+		}
+		// 分割
+		return new HashSet<String>(Arrays.asList(MospUtility.split(parallelBeans, MospConst.APP_PROPERTY_SEPARATOR)));
+	}
+	
+	/**
+	 * ポータルBean並列実行用スレッドプールを取得する。<br>
+	 * 初回のみMosPアプリケーション設定に従って生成し、待機しているスレッドは一定時間後に破棄する。<br>
+	 * 実行待ちは上限を設けず、待機期限までに実行されなかったものは呼出元で処理する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return ポータルBean並列実行用スレッドプール
+	 */
+	protected static synchronized ExecutorService getParallelExecutor(MospParams mospParams) {
+		if (parallelExecutor == null) {
+			int threads = Math.max(1,
+					mospParams.getApplicationProperty(APP_PORTAL_PARALLEL_THREADS, DEFAULT_PARALLEL_THREADS));
+			parallelExecutor = new ThreadPoolExecutor(threads, threads, PARALLEL_KEEP_ALIVE, TimeUnit.MILLISECONDS,
+					new LinkedBlockingQueue<Runnable>(), new PortalThreadFactory());
+			parallelExecutor.allowCoreThreadTimeOut(true);
+		}
+		return parallelExecutor;
+	}
+	
+	/**
+	 * ポータルBean並列実行スレッド生成クラス。<br>
+	 * アプリケーション終了を妨げないように、デーモンスレッドを生成する。<br>
+	 */
+	private static class PortalThreadFactory implements ThreadFactory {
+		
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + THREAD_NUMBER.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+		
+	}
+	
 }
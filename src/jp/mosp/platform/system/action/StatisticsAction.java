@@ -0,0 +1,132 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.system.action;
+
+import java.util.List;
+
+import jp.mosp.framework.base.MospCommandStatistics;
+import jp.mosp.framework.base.MospConnectionPool;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospMasterCache;
+import jp.mosp.framework.base.MospStatistics;
+import jp.mosp.framework.constant.ExceptionConst;
+import jp.mosp.framework.exporter.TextContents;
+import jp.mosp.framework.utils.DateUtility;
+import jp.mosp.framework.utils.MospUtility;
+import jp.mosp.platform.base.PlatformAction;
+import jp.mosp.platform.constant.PlatformConst;
+
+/**
+ * 統計情報の出力を行う。<br>
+ * <br>
+ * 処理時間の長いコマンドの統計情報、コネクションプール及びマスタキャッシュの統計情報を
+ * テキスト形式で出力する。<br>
+ * スーパーユーザのみが利用できる。<br>
+ * <br>
+ * リクエストパラメータ{@link PlatformConst#PRM_TRANSFERRED_CODE}で
+ * 出力するコマンドの件数を指定できる(指定しない場合は設定による)。<br>
+ * <br>
+ * 出力の例：<br>
+ * ../srv/?cmd=PF9140&amp;transferredCode=50<br>
+ * <br>
+ * コマンド統計情報の計測は、設定(CommandStatistics)で有効にする必要がある。<br>
+ */
+public class StatisticsAction extends PlatformAction {
+	
+	/**
+	 * 統計情報出力コマンド。<br>
+	 */
+	public static final String		CMD_OUTPUT		= "PF9140";
+	
+	/**
+	 * 統計情報出力ファイル名。<br>
+	 */
+	protected static final String	FILE_STATISTICS	= "statistics.txt";
+	
+	/**
+	 * 改行コード。<br>
+	 */
+	protected static final String	LINE_SEPARATOR	= "\r\n";
+	
+	
+	/**
+	 * {@link PlatformAction#PlatformAction()}を実行する。<br>
+	 */
+	public StatisticsAction() {
+		super();
+	}
+	
+	@Override
+	public void action() throws MospException {
+		if (mospParams.getCommand().equals(CMD_OUTPUT)) {
+			// 統計情報出力
+			output();
+		} else {
+			throwInvalidCommandException();
+		}
+	}
+	
+	/**
+	 * 統計情報をテキスト形式で出力する。<br>
+	 * @throws MospException スーパーユーザでない場合
+	 */
+	protected void output() throws MospException {
+		// スーパーユーザ確認
+		if (mospParams.getUserRole() == null || mospParams.getUserRole().isSuper() == false) {
+			mospParams.addErrorMessage(ExceptionConst.EX_NO_AUTHORITY);
+			mospParams.setErrorViewUrl();
+			throw new MospException(ExceptionConst.EX_NO_AUTHORITY);
+		}
+		// 出力件数取得
+		int count = mospParams.getApplicationProperty(MospStatistics.APP_COMMAND_STATISTICS_TOP,
+				MospStatistics.DEFAULT_TOP);
+		String transferredCode = getTransferredCode();
+		if (transferredCode != null && transferredCode.isEmpty() == false) {
+			count = getInt(transferredCode);
+		}
+		// 出力内容作成
+		StringBuilder sb = new StringBuilder();
+		sb.append(DateUtility.getStringDateAndTime(DateUtility.getSystemTimeAndSecond())).append(LINE_SEPARATOR);
+		sb.append(LINE_SEPARATOR);
+		sb.append("[commands] enabled=").append(MospCommandStatistics.isEnabled()).append(LINE_SEPARATOR);
+		append(sb, MospCommandStatistics.getSlowCommands(count));
+		sb.append(LINE_SEPARATOR);
+		sb.append("[connection pools]").append(LINE_SEPARATOR);
+		append(sb, MospConnectionPool.getStatistics());
+		sb.append(LINE_SEPARATOR);
+		sb.append("[master caches]").append(LINE_SEPARATOR);
+		for (MospMasterCache cache : MospMasterCache.getCaches()) {
+			sb.append(cache.toString()).append(LINE_SEPARATOR);
+		}
+		// MosP処理情報に設定
+		mospParams.setFile(new TextContents(MospUtility.CHARACTER_ENCODING, sb.toString()));
+		mospParams.setFileName(FILE_STATISTICS);
+	}
+	
+	/**
+	 * 文字列リストを一行ずつ追加する。<br>
+	 * @param sb   追加先
+	 * @param list 文字列リスト
+	 */
+	protected void append(StringBuilder sb, List<String> list) {
+		for (String line : list) {
+			sb.append(line).append(LINE_SEPARATOR);
+		}
+	}
+	
+}
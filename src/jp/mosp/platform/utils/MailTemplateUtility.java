@@ -18,6 +18,8 @@
 package jp.mosp.platform.utils;
 
 import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 import jp.mosp.framework.base.MospException;
@@ -42,17 +44,28 @@ import org.apache.velocity.runtime.resource.loader.FileResourceLoader;
  * jakarta-oro-2.0.8.jar
  * を追加してください。
  * </p>
+ * <p>
+ * VelocityEngine(テンプレートディレクトリ毎)及び解析済のテンプレートは、
+ * アプリケーション内で共有する。<br>
+ * テンプレートファイルを変更した場合は、アプリケーションの再起動が必要となる。<br>
+ * </p>
  */
 public class MailTemplateUtility {
 	
-	private Template		template;
-	private VelocityContext	context;
-	private VelocityEngine	engine;
-	private Properties		vp;
+	/**
+	 * VelocityEngine群(キー：テンプレートディレクトリのファイルパス)。
+	 */
+	private static final Map<String, VelocityEngine>	ENGINES		= new HashMap<String, VelocityEngine>();
+	
+	/**
+	 * 解析済テンプレート群(キー：テンプレートディレクトリのファイルパス及びテンプレートファイル名)。
+	 */
+	private static final Map<String, Template>			TEMPLATES	= new HashMap<String, Template>();
 	
-	private String			text;
+	private Template									template;
+	private VelocityContext								context;
 	
-	private boolean			loadercache	= true;
+	private String										text;
 	
 	
 	/**
@@ -60,8 +73,6 @@ public class MailTemplateUtility {
 	 */
 	public MailTemplateUtility() {
 		context = new VelocityContext();
-		engine = new VelocityEngine();
-		vp = new Properties();
 		text = "";
 	}
 	
@@ -72,11 +83,34 @@ public class MailTemplateUtility {
 	 * @param templateFileName テンプレートファイル名
 	 */
 	public void init(MospParams mospParams, String templatePath, String templateFileName) {
-		vp = getProperties(mospParams.getApplicationProperty(MospConst.APP_DOCBASE) + templatePath);
-		// エンジンの初期化
-		engine.init(vp);
 		// テンプレートの取得
-		template = engine.getTemplate(templateFileName, PlatformMailConst.ENCODING);
+		template = getTemplate(mospParams.getApplicationProperty(MospConst.APP_DOCBASE) + templatePath,
+				templateFileName);
+	}
+	
+	/**
+	 * 解析済テンプレートを取得する。<br>
+	 * 初回のみ、VelocityEngineの初期化及びテンプレートの解析を行う。<br>
+	 * @param templateDirectory テンプレートディレクトリのファイルパス
+	 * @param templateFileName  テンプレートファイル名
+	 * @return 解析済テンプレート
+	 */
+	protected static synchronized Template getTemplate(String templateDirectory, String templateFileName) {
+		String key = templateDirectory + templateFileName;
+		Template cached = TEMPLATES.get(key);
+		if (cached != null) {
+			return cached;
+		}
+		VelocityEngine engine = ENGINES.get(templateDirectory);
+		if (engine == null) {
+			// エンジンの初期化
+			engine = new VelocityEngine();
+			engine.init(getProperties(templateDirectory));
+			ENGINES.put(templateDirectory, engine);
+		}
+		cached = engine.getTemplate(templateFileName, PlatformMailConst.ENCODING);
+		TEMPLATES.put(key, cached);
+		return cached;
 	}
 	
 	/**
@@ -146,13 +180,13 @@ public class MailTemplateUtility {
 	 * @param templatePath テンプレートディレクトリのファイルパス
 	 * @return properties
 	 */
-	private Properties getProperties(String templatePath) {
+	private static Properties getProperties(String templatePath) {
 		Properties props = new Properties();
 		props.setProperty(PlatformMailConst.RESOURCE_LOADER, PlatformMailConst.FILE);
 		props.setProperty(PlatformMailConst.RESOURCE_LOADER_DESCRIPTION, "Velocity File Resource Loader");
 		props.setProperty(PlatformMailConst.RESOURCE_LOADER_CLASS, FileResourceLoader.class.getCanonicalName());
 		props.setProperty(PlatformMailConst.RESOURCE_LOADER_PATH, templatePath);
-		props.setProperty(PlatformMailConst.RESOURCE_LOADER_CACHE, Boolean.toString(loadercache));
+		props.setProperty(PlatformMailConst.RESOURCE_LOADER_CACHE, Boolean.toString(true));
 		props.setProperty(PlatformMailConst.RESOURCE_LOADER_INTERVAL, "0");
 		props.setProperty(PlatformMailConst.INPUT_ENCODING, PlatformMailConst.ENCODING);
 		props.setProperty(PlatformMailConst.OUTPUT_ENCODING, PlatformMailConst.ENCODING);
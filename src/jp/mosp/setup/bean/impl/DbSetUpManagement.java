@@ -29,8 +29,10 @@ import java.util.regex.Pattern;
 import jp.mosp.framework.base.BaseDao;
 import jp.mosp.framework.base.BaseDto;
 import jp.mosp.framework.base.BaseDtoInterface;
+import jp.mosp.framework.base.ConnectionStateTracker;
 import jp.mosp.framework.base.DBConnBean;
 import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospMasterCache;
 import jp.mosp.framework.base.MospParams;
 import jp.mosp.framework.constant.ExceptionConst;
 import jp.mosp.framework.constant.MospConst;
@@ -933,6 +935,10 @@ public class DbSetUpManagement {
 					return;
 				}
 				connection.commit();
+				// トランザクション終了通知
+				ConnectionStateTracker.transactionEnded(connection);
+				// マスタキャッシュにコミットを通知
+				MospMasterCache.committed(connection);
 			} catch (SQLException e) {
 				throw new DbSetUpException(e);
 			}
@@ -953,7 +959,11 @@ public class DbSetUpManagement {
 				if (connection.getAutoCommit() == false) {
 					// ロールバック
 					connection.rollback();
+					// マスタキャッシュにロールバックを通知
+					MospMasterCache.rolledBack(connection);
 				}
+				// コネクション状態破棄
+				ConnectionStateTracker.remove(connection);
 				// close
 				connection.close();
 			} catch (SQLException e) {
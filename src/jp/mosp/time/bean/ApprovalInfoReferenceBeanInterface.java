@@ -24,6 +24,7 @@ import java.util.Set;
 
 import jp.mosp.framework.base.BaseDtoInterface;
 import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.PageCursor;
 import jp.mosp.platform.dto.workflow.WorkflowDtoInterface;
 import jp.mosp.time.dto.settings.ManagementRequestListDtoInterface;
 import jp.mosp.time.dto.settings.RequestListDtoInterface;
@@ -101,6 +102,62 @@ public interface ApprovalInfoReferenceBeanInterface {
 			Set<String> functionCodeSet, String state, Set<String> personalIdSet, Set<String> subordinateIdSet)
 			throws MospException;
 	
+	/**
+	 * 対象期間における有効ワークフロー情報の件数を取得する。<br>
+	 * 件数は、{@link #getEffectiveList(String, Date, Date, Set, String, Set, Set, PageCursor, int)}
+	 * で抽出するワークフロー情報の件数とする。<br>
+	 * @param personalId       対象個人ID
+	 * @param fromDate         対象期間自
+	 * @param toDate           対象期間至
+	 * @param functionCodeSet  対象機能コードセット
+	 * @param state            対象ワークフロー状態
+	 * @param personalIdSet    対象申請者個人IDセット(検索条件による)
+	 * @param subordinateIdSet 対象申請者個人IDセット(部下)
+	 * @return 件数
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	int getEffectiveCount(String personalId, Date fromDate, Date toDate, Set<String> functionCodeSet, String state,
+			Set<String> personalIdSet, Set<String> subordinateIdSet) throws MospException;
+	
+	/**
+	 * 対象期間における有効ワークフロー情報一覧の対象頁を取得する。<br>
+	 * 頁操作用カーソルの並び順で抽出し、対象頁のワークフロー情報だけを勤怠申請一覧情報に変換する。<br>
+	 * 頁操作用カーソルには、対象頁のキー値が設定される。<br>
+	 * @param personalId       対象個人ID
+	 * @param fromDate         対象期間自
+	 * @param toDate           対象期間至
+	 * @param functionCodeSet  対象機能コードセット
+	 * @param state            対象ワークフロー状態
+	 * @param personalIdSet    対象申請者個人IDセット(検索条件による)
+	 * @param subordinateIdSet 対象申請者個人IDセット(部下)
+	 * @param cursor           頁操作用カーソル
+	 * @param page             対象頁番号
+	 * @return 勤怠申請一覧情報リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	List<ManagementRequestListDtoInterface> getEffectiveList(String personalId, Date fromDate, Date toDate,
+			Set<String> functionCodeSet, String state, Set<String> personalIdSet, Set<String> subordinateIdSet,
+			PageCursor cursor, int page) throws MospException;
+	
+	/**
+	 * 対象期間における有効ワークフロー情報一覧を、前後の申請への遷移用に全件取得する。<br>
+	 * 頁操作用カーソルの並び順で抽出し、頁を跨いで前後の申請へ遷移できるようにする。<br>
+	 * SQLで並び替えられる場合は、ワークフロー情報だけを設定し、勤怠申請一覧情報には変換しない。<br>
+	 * @param personalId       対象個人ID
+	 * @param fromDate         対象期間自
+	 * @param toDate           対象期間至
+	 * @param functionCodeSet  対象機能コードセット
+	 * @param state            対象ワークフロー状態
+	 * @param personalIdSet    対象申請者個人IDセット(検索条件による)
+	 * @param subordinateIdSet 対象申請者個人IDセット(部下)
+	 * @param cursor           頁操作用カーソル
+	 * @return 勤怠申請一覧情報リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	List<ManagementRequestListDtoInterface> getEffectiveRollList(String personalId, Date fromDate, Date toDate,
+			Set<String> functionCodeSet, String state, Set<String> personalIdSet, Set<String> subordinateIdSet,
+			PageCursor cursor) throws MospException;
+	
 	/**
 	 * 対象期間における承認済ワークフロー情報一覧を取得する。<br>
 	 * @param personalId 個人ID
@@ -44,6 +44,17 @@ public interface AttendanceRegistBeanInterface {
 	 */
 	void regist(AttendanceDtoInterface dto) throws MospException;
 	
+	/**
+	 * 一括登録処理を行う。<br>
+	 * 対象DTOリストの勤怠情報をまとめて取得して確認し、
+	 * 論理削除及び挿入をまとめて実行する。<br>
+	 * インポート等、大量の勤怠情報を登録する場合に用いる。<br>
+	 * 確認でエラーが発生した場合は、いずれも登録しない。<br>
+	 * @param list 対象DTOリスト
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	void regist(List<AttendanceDtoInterface> list) throws MospException;
+	
 	/**
 	 * 新規登録を行う。<br>
 	 * @param dto 対象DTO
@@ -36,6 +36,28 @@ public interface ExportTableReferenceBeanInterface {
 	 */
 	List<String[]> export() throws MospException;
 	
+	/**
+	 * エクスポートカーソルを準備する。<br>
+	 * 設定された条件で検索を行い、{@link #nextRow()}で一行ずつ取得できるようにする。<br>
+	 * 取得を終えたら、{@link #closeCursor()}を呼び出す必要がある。<br>
+	 * @return 準備結果(true：準備完了、false：エクスポート情報が存在しない)
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	boolean openCursor() throws MospException;
+	
+	/**
+	 * エクスポートカーソルから次の行を取得する。<br>
+	 * @return エクスポート行(全ての行を取得済である場合はnull)
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	String[] nextRow() throws MospException;
+	
+	/**
+	 * エクスポートカーソルを終了する。<br>
+	 * @throws MospException SQL例外が発生した場合
+	 */
+	void closeCursor() throws MospException;
+	
 	/**
 	 * @param exportCode セットする exportCode
 	 */
@@ -24,6 +24,7 @@ import java.util.Map;
 import jp.mosp.framework.base.MospException;
 import jp.mosp.time.dto.settings.HolidayRequestDtoInterface;
 import jp.mosp.time.dto.settings.PaidHolidayDataDtoInterface;
+import jp.mosp.time.entity.PaidHolidayBalanceEntity;
 
 /**
  * 有給休暇情報参照インターフェース。
@@ -51,6 +52,19 @@ public interface PaidHolidayInfoReferenceBeanInterface extends PaidHolidayReques
 	Map<String, Object> getPaidHolidayInfo(String personalId, Date targetDate, boolean containNotApproved)
 			throws MospException;
 	
+	/**
+	 * 有給休暇残を取得する。<br>
+	 * {@link #getPaidHolidayInfo(String, Date, boolean)}と同じ内容を、有給休暇残エンティティで取得する。<br>
+	 * 有給休暇台帳から取得し、対象日より後の事象を含む台帳情報のみ集計し直す。<br>
+	 * @param personalId 個人ID
+	 * @param targetDate 対象年月日
+	 * @param containNotApproved 未承認要否フラグ(true：未承認申請も含める、false：承認済のみ)
+	 * @return 有給休暇残
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	PaidHolidayBalanceEntity getPaidHolidayBalance(String personalId, Date targetDate, boolean containNotApproved)
+			throws MospException;
+	
 	/**
 	 * 承認済の有給休暇情報を取得する。<br>
 	 * 個別有給休暇確認画面で利用する。<br>
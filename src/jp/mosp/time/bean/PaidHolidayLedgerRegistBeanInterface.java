@@ -0,0 +1,70 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bean;
+
+import java.util.List;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.time.dto.settings.HolidayRequestDtoInterface;
+import jp.mosp.time.dto.settings.PaidHolidayLedgerDtoInterface;
+
+/**
+ * 有給休暇台帳登録インターフェース。<br>
+ * <br>
+ * 有給休暇台帳は、有給休暇データの履歴毎に、
+ * 有効日から期限日までの手動付与・破棄及び有給休暇申請の合計を保持する。<br>
+ * 有給休暇データ、有給休暇手動付与、休暇申請及びそのワークフローが更新された際に、
+ * 同一トランザクション内で個人単位に再作成される。<br>
+ */
+public interface PaidHolidayLedgerRegistBeanInterface {
+	
+	/**
+	 * 個人IDの有給休暇台帳を再作成する。<br>
+	 * 既存の台帳情報を削除した上で、現在の有給休暇データ、
+	 * 有給休暇手動付与及び有給休暇申請から台帳情報を算出し、登録する。<br>
+	 * @param personalId 個人ID
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	void regist(String personalId) throws MospException;
+	
+	/**
+	 * 休暇申請情報の更新に伴い、有給休暇台帳を再作成する。<br>
+	 * 有給休暇の申請でない場合は、何もしない。<br>
+	 * @param dto 休暇申請情報
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	void regist(HolidayRequestDtoInterface dto) throws MospException;
+	
+	/**
+	 * 個人IDの有給休暇台帳情報リストを算出する。<br>
+	 * 登録は行わない。<br>
+	 * @param personalId 個人ID
+	 * @return 有給休暇台帳情報リスト(取得日及び有効日の昇順)
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	List<PaidHolidayLedgerDtoInterface> calculate(String personalId) throws MospException;
+	
+	/**
+	 * 登録されている有給休暇台帳が、算出した台帳と一致するかを確認する。<br>
+	 * @param personalId 個人ID
+	 * @return 確認結果(true：一致する、false：一致しない)
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	boolean verify(String personalId) throws MospException;
+	
+}
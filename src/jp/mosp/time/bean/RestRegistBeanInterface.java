@@ -21,8 +21,10 @@
 package jp.mosp.time.bean;
 
 import java.util.Date;
+import java.util.List;
 
 import jp.mosp.framework.base.MospException;
+import jp.mosp.time.dto.settings.AttendanceDtoInterface;
 import jp.mosp.time.dto.settings.RestDtoInterface;
 import jp.mosp.time.dto.settings.TimeSettingDtoInterface;
 
@@ -67,6 +69,14 @@ public interface RestRegistBeanInterface {
 	 */
 	void delete(String personalId, Date workDate, int timesWork) throws MospException;
 	
+	/**
+	 * 一括削除処理を行う。<br>
+	 * 対象勤怠データリストの勤怠データ(個人ID、勤務日、勤務回数)に紐づく休憩情報を、まとめて論理削除する。<br>
+	 * @param attendanceList 対象勤怠データリスト
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	void delete(List<AttendanceDtoInterface> attendanceList) throws MospException;
+	
 	/**
 	 * 削除処理を行う。<br>
 	 * @param personalId 個人ID
@@ -0,0 +1,93 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bean;
+
+import java.util.Date;
+import java.util.List;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.time.dto.settings.TimePunchDtoInterface;
+
+/**
+ * 打刻受付クラスインターフェース。<br>
+ * <br>
+ * 打刻受付を用いる場合、打刻時には打刻受付情報のみを登録し、
+ * 勤怠データへの反映は打刻反映スレッドで受付順に行う。<br>
+ */
+public interface TimePunchBeanInterface {
+	
+	/**
+	 * 打刻受付を用いるかを確認する。<br>
+	 * @return 確認結果(true：打刻受付を用いる、false：打刻時に勤怠データへ反映する)
+	 */
+	boolean isQueueEnabled();
+	
+	/**
+	 * 打刻区分であるかを確認する。<br>
+	 * @param recordType 打刻区分
+	 * @return 確認結果(true：打刻区分である、false：打刻区分でない)
+	 */
+	boolean isRecordType(String recordType);
+	
+	/**
+	 * 打刻を受け付ける。<br>
+	 * 打刻受付情報を専用のDBコネクションで登録してコミットし、打刻反映スレッドに反映を依頼する。<br>
+	 * 反映結果は待たない。<br>
+	 * @param personalId 個人ID
+	 * @param recordType 打刻区分
+	 * @param recordTime 打刻時刻
+	 * @return 打刻受付情報
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	TimePunchDtoInterface enqueue(String personalId, String recordType, Date recordTime) throws MospException;
+	
+	/**
+	 * 打刻受付情報を勤怠データに反映する。<br>
+	 * 反映できた場合は、打刻受付情報を反映済とする。<br>
+	 * 反映できなかった場合は、MosP処理情報にエラーメッセージが設定される。<br>
+	 * @param dto 対象打刻受付情報
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	void apply(TimePunchDtoInterface dto) throws MospException;
+	
+	/**
+	 * 打刻受付情報を反映失敗とする。<br>
+	 * @param dto     対象打刻受付情報
+	 * @param message 反映できなかった理由
+	 * @throws MospException SQL実行に失敗した場合
+	 */
+	void fail(TimePunchDtoInterface dto, String message) throws MospException;
+	
+	/**
+	 * 反映待の打刻受付情報リストを受付順で取得する。<br>
+	 * @param limit 上限件数
+	 * @return 打刻受付情報リスト
+	 * @throws MospException SQL実行に失敗した場合
+	 */
+	List<TimePunchDtoInterface> getWaitingList(int limit) throws MospException;
+	
+	/**
+	 * 個人IDの反映済でない打刻受付情報リスト(反映待及び反映失敗)を取得する。<br>
+	 * @param personalId 個人ID
+	 * @param fromTime   対象日時(打刻時刻がこれ以降のものを取得)
+	 * @return 打刻受付情報リスト
+	 * @throws MospException SQL実行に失敗した場合
+	 */
+	List<TimePunchDtoInterface> getNotProcessedList(String personalId, Date fromTime) throws MospException;
+	
+}
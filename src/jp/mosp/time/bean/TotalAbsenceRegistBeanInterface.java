@@ -75,4 +75,16 @@ public interface TotalAbsenceRegistBeanInterface {
 	 */
 	void delete(List<String> personalIdList, int calculationYear, int calculationMonth) throws MospException;
 	
+	/**
+	 * 対象個人IDの集計年月における欠勤集計データを論理削除し、欠勤集計データリストを新規登録する。<br>
+	 * 論理削除及び新規登録は、それぞれまとめて行う。<br>
+	 * @param personalIdList 個人IDリスト
+	 * @param calculationYear 集計年
+	 * @param calculationMonth 集計月
+	 * @param list 欠勤集計データリスト
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	void regist(List<String> personalIdList, int calculationYear, int calculationMonth,
+			List<TotalAbsenceDtoInterface> list) throws MospException;
+	
 }
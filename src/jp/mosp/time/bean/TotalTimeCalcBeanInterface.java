@@ -20,6 +20,7 @@ package jp.mosp.time.bean;
 import java.util.List;
 
 import jp.mosp.framework.base.MospException;
+import jp.mosp.platform.bean.system.JobProgressInterface;
 import jp.mosp.time.dto.settings.CutoffErrorListDtoInterface;
 import jp.mosp.time.dto.settings.TotalTimeDataDtoInterface;
 
@@ -47,6 +48,25 @@ public interface TotalTimeCalcBeanInterface {
 	List<CutoffErrorListDtoInterface> tightening(int targetYear, int targetMonth, String cutoffCode)
 			throws MospException;
 	
+	/**
+	 * 仮締を行う。<br>
+	 * <br>
+	 * {@link #tightening(int, int, String)}と同じ処理を行い、
+	 * 仮締分割単位の処理が終わる毎に進捗を通知する。<br>
+	 * 勤怠集計(確認含む)とデータの登録を、それぞれ全体の半分として通知する。<br>
+	 * <br>
+	 * 仮締ジョブで用いる。<br>
+	 * <br>
+	 * @param targetYear  対象年
+	 * @param targetMonth 対象月
+	 * @param cutoffCode  締日コード
+	 * @param progress    ジョブ進捗(nullの場合は通知しない)
+	 * @return 集計時エラー内容情報リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	List<CutoffErrorListDtoInterface> tightening(int targetYear, int targetMonth, String cutoffCode,
+			JobProgressInterface progress) throws MospException;
+	
 	/**
 	 * 仮締を行う。<br>
 	 * <br>
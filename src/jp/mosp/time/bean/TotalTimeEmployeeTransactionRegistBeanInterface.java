@@ -52,6 +52,7 @@ public interface TotalTimeEmployeeTransactionRegistBeanInterface {
 	
 	/**
 	 * 仮締を行う。<br>
+	 * 社員勤怠集計管理情報の取得、論理削除及び新規登録は、それぞれまとめて行う。<br>
 	 * @param personalIdList 個人IDリスト
 	 * @param calculationYear 集計年
 	 * @param calculationMonth 集計月
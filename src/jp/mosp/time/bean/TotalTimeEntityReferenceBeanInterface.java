@@ -17,6 +17,8 @@
  */
 package jp.mosp.time.bean;
 
+import java.util.Set;
+
 import jp.mosp.framework.base.MospException;
 import jp.mosp.platform.bean.system.PlatformMasterBeanInterface;
 import jp.mosp.time.dto.settings.CutoffDtoInterface;
@@ -41,6 +43,27 @@ public interface TotalTimeEntityReferenceBeanInterface {
 	TotalTimeEntityInterface getTotalTimeEntity(String personalId, int targetYear, int targetMonth,
 			CutoffDtoInterface cutoffDto) throws MospException;
 	
+	/**
+	 * 勤怠集計エンティティの取得に必要な勤怠情報及び各種申請情報を、対象者分まとめて取得する。<br>
+	 * <br>
+	 * 以降、同じ対象年月及び締日情報で対象者の勤怠集計エンティティを取得する際は、
+	 * ここで取得した情報を用いる。<br>
+	 * 仮締時に、分割単位毎のSQL実行回数を減らすために用いる。<br>
+	 * <br>
+	 * @param personalIdSet 対象個人IDセット
+	 * @param targetYear    対象年
+	 * @param targetMonth   対象月
+	 * @param cutoffDto     締日情報
+	 * @throws MospException SQL実行に失敗した場合
+	 */
+	void preload(Set<String> personalIdSet, int targetYear, int targetMonth, CutoffDtoInterface cutoffDto)
+			throws MospException;
+	
+	/**
+	 * まとめて取得した勤怠情報及び各種申請情報を破棄する。<br>
+	 */
+	void clearPreload();
+	
 	/**
 	 * 申請検出エンティティを取得する。<br>
 	 * <br>
@@ -73,4 +73,16 @@ public interface TotalTimeRegistBeanInterface {
 	 */
 	void delete(List<String> personalIdList, int calculationYear, int calculationMonth) throws MospException;
 	
+	/**
+	 * 対象個人IDの集計年月における勤怠集計データを論理削除し、勤怠集計データリストを新規登録する。<br>
+	 * 論理削除及び新規登録は、それぞれまとめて行う。<br>
+	 * @param personalIdList 個人IDリスト
+	 * @param calculationYear 集計年
+	 * @param calculationMonth 集計月
+	 * @param list 勤怠集計データリスト
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	void regist(List<String> personalIdList, int calculationYear, int calculationMonth,
+			List<TotalTimeDataDtoInterface> list) throws MospException;
+	
 }
@@ -19,6 +19,8 @@ package jp.mosp.time.bean.impl;
 
 import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -28,14 +30,21 @@ import java.util.Set;
 import jp.mosp.framework.base.BaseDtoInterface;
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.base.PageCursor;
 import jp.mosp.framework.constant.MospConst;
+import jp.mosp.framework.instance.InstanceFactory;
 import jp.mosp.framework.utils.DateUtility;
 import jp.mosp.framework.utils.MospUtility;
 import jp.mosp.platform.base.PlatformBean;
 import jp.mosp.platform.bean.human.HumanReferenceBeanInterface;
 import jp.mosp.platform.bean.workflow.WorkflowCommentReferenceBeanInterface;
 import jp.mosp.platform.bean.workflow.WorkflowIntegrateBeanInterface;
+import jp.mosp.platform.bean.workflow.WorkflowReferenceBeanInterface;
+import jp.mosp.platform.comparator.base.EmployeeCodeComparator;
+import jp.mosp.platform.comparator.base.EmployeeNameComparator;
+import jp.mosp.platform.comparator.base.SectionCodeComparator;
 import jp.mosp.platform.constant.PlatformConst;
+import jp.mosp.platform.dao.workflow.WorkflowDaoInterface;
 import jp.mosp.platform.dto.human.HumanDtoInterface;
 import jp.mosp.platform.dto.workflow.WorkflowCommentDtoInterface;
 import jp.mosp.platform.dto.workflow.WorkflowDtoInterface;
@@ -50,6 +59,9 @@ import jp.mosp.time.bean.SubstituteReferenceBeanInterface;
 import jp.mosp.time.bean.WorkOnHolidayRequestReferenceBeanInterface;
 import jp.mosp.time.bean.WorkTypeChangeRequestReferenceBeanInterface;
 import jp.mosp.time.bean.WorkTypeReferenceBeanInterface;
+import jp.mosp.time.comparator.settings.ManagementRequestRequestDateComparator;
+import jp.mosp.time.comparator.settings.ManagementRequestRequestTypeComparator;
+import jp.mosp.time.comparator.settings.ManagementRequestStageStateComparator;
 import jp.mosp.time.constant.TimeConst;
 import jp.mosp.time.dao.settings.HolidayDaoInterface;
 import jp.mosp.time.dto.settings.AttendanceDtoInterface;
@@ -137,6 +149,11 @@ public class ApprovalInfoReferenceBean extends PlatformBean implements ApprovalI
 	 */
 	protected WorkflowIntegrateBeanInterface				workflowIntegrate;
 	
+	/**
+	 * ワークフロー参照
+	 */
+	protected WorkflowReferenceBeanInterface				workflowReference;
+	
 	/**
 	 * 振替休日データ参照
 	 */
@@ -182,6 +199,7 @@ public class ApprovalInfoReferenceBean extends PlatformBean implements ApprovalI
 		differenceRequest = (DifferenceRequestReferenceBeanInterface)createBean(DifferenceRequestReferenceBeanInterface.class);
 		workflowCommentReference = (WorkflowCommentReferenceBeanInterface)createBean(WorkflowCommentReferenceBeanInterface.class);
 		workflowIntegrate = (WorkflowIntegrateBeanInterface)createBean(WorkflowIntegrateBeanInterface.class);
+		workflowReference = (WorkflowReferenceBeanInterface)createBean(WorkflowReferenceBeanInterface.class);
 		holidayDao = (HolidayDaoInterface)createDao(HolidayDaoInterface.class);
 		substituteReference = (SubstituteReferenceBeanInterface)createBean(SubstituteReferenceBeanInterface.class);
 		requestUtil = (RequestUtilBeanInterface)createBean(RequestUtilBeanInterface.class);
@@ -267,22 +285,214 @@ public class ApprovalInfoReferenceBean extends PlatformBean implements ApprovalI
 	public List<ManagementRequestListDtoInterface> getEffectiveList(String personalId, Date fromDate, Date toDate,
 			Set<String> functionCodeSet, String state, Set<String> personalIdSet, Set<String> subordinateIdSet)
 			throws MospException {
-		// 承認可能勤怠申請情報リスト準備
-		List<ManagementRequestListDtoInterface> list = new ArrayList<ManagementRequestListDtoInterface>();
 		// 有効ワークフロー情報リスト取得
 		List<WorkflowDtoInterface> effectiveList = workflowIntegrate.getEffectiveList(personalId, fromDate, toDate,
 				functionCodeSet, state, personalIdSet, subordinateIdSet);
-		// 有効ワークフロー情報毎に処理
+		// 勤怠申請一覧情報リストに変換
+		return getManagementRequestList(effectiveList);
+	}
+	
+	@Override
+	public int getEffectiveCount(String personalId, Date fromDate, Date toDate, Set<String> functionCodeSet,
+			String state, Set<String> personalIdSet, Set<String> subordinateIdSet) throws MospException {
+		return workflowIntegrate.getEffectiveCount(personalId, fromDate, toDate, functionCodeSet, state,
+				personalIdSet, subordinateIdSet);
+	}
+	
+	@Override
+	public List<ManagementRequestListDtoInterface> getEffectiveList(String personalId, Date fromDate, Date toDate,
+			Set<String> functionCodeSet, String state, Set<String> personalIdSet, Set<String> subordinateIdSet,
+			PageCursor cursor, int page) throws MospException {
+		// ソートキー取得
+		String sortKey = getSortKey(cursor.getSortKey());
+		// SQLで並び替えられない場合
+		if (sortKey == null) {
+			// 全件を勤怠申請一覧情報に変換して並び替え
+			return getEffectiveListForPage(personalId, fromDate, toDate, functionCodeSet, state, personalIdSet,
+					subordinateIdSet, cursor, page);
+		}
+		int limit = cursor.getDataPerPage();
+		// 有効ワークフロー情報リスト取得
+		List<WorkflowDtoInterface> effectiveList;
+		if (cursor.isNextPage(page)) {
+			// 表示中の頁の末尾より後を検索
+			effectiveList = workflowIntegrate.getEffectiveList(personalId, fromDate, toDate, functionCodeSet, state,
+					personalIdSet, subordinateIdSet, sortKey, cursor.isDescending(), cursor.getLastKeys(), limit, 0);
+		} else if (cursor.isPreviousPage(page)) {
+			// 表示中の頁の先頭より前を逆順で検索
+			effectiveList = workflowIntegrate.getEffectiveList(personalId, fromDate, toDate, functionCodeSet, state,
+					personalIdSet, subordinateIdSet, sortKey, !cursor.isDescending(), cursor.getFirstKeys(), limit,
+					0);
+			Collections.reverse(effectiveList);
+		} else {
+			// 頁の先頭の位置まで読み飛ばして検索
+			effectiveList = workflowIntegrate.getEffectiveList(personalId, fromDate, toDate, functionCodeSet, state,
+					personalIdSet, subordinateIdSet, sortKey, cursor.isDescending(), null, limit,
+					cursor.getOffset(page));
+		}
+		// カーソルに表示する頁を設定
+		if (effectiveList.isEmpty()) {
+			cursor.clearKeys();
+		} else {
+			cursor.setPage(page, workflowReference.getKeys(effectiveList.get(0), sortKey),
+					workflowReference.getKeys(effectiveList.get(effectiveList.size() - 1), sortKey));
+		}
+		// 対象頁のワークフロー情報を勤怠申請一覧情報に変換
+		return getManagementRequestList(effectiveList);
+	}
+	
+	@Override
+	public List<ManagementRequestListDtoInterface> getEffectiveRollList(String personalId, Date fromDate,
+			Date toDate, Set<String> functionCodeSet, String state, Set<String> personalIdSet,
+			Set<String> subordinateIdSet, PageCursor cursor) throws MospException {
+		// ソートキー取得
+		String sortKey = getSortKey(cursor.getSortKey());
+		// SQLで並び替えられない場合
+		if (sortKey == null) {
+			// 全件を勤怠申請一覧情報に変換して並び替え
+			return getSortedEffectiveList(personalId, fromDate, toDate, functionCodeSet, state, personalIdSet,
+					subordinateIdSet, cursor);
+		}
+		// 有効ワークフロー情報リストを並び順で全件取得
+		List<WorkflowDtoInterface> effectiveList = workflowIntegrate.getEffectiveList(personalId, fromDate, toDate,
+				functionCodeSet, state, personalIdSet, subordinateIdSet, sortKey, cursor.isDescending(), null,
+				Integer.MAX_VALUE, 0);
+		// 前後の申請への遷移に必要な情報だけを設定
+		List<ManagementRequestListDtoInterface> list = new ArrayList<ManagementRequestListDtoInterface>();
 		for (WorkflowDtoInterface workflowDto : effectiveList) {
+			list.add(getManagementRequestListDtoForRoll(workflowDto));
+		}
+		return list;
+	}
+	
+	/**
+	 * 有効ワークフロー情報を全件抽出して並び替え、対象頁の勤怠申請一覧情報リストを取得する。<br>
+	 * 申請情報詳細で並び替える場合等、SQLで並び替えられないソートキーの場合に用いる。<br>
+	 * 表示中の頁のキー値は、保持しない。<br>
+	 * @param personalId       対象個人ID
+	 * @param fromDate         対象期間自
+	 * @param toDate           対象期間至
+	 * @param functionCodeSet  対象機能コードセット
+	 * @param state            対象ワークフロー状態
+	 * @param personalIdSet    対象申請者個人IDセット(検索条件による)
+	 * @param subordinateIdSet 対象申請者個人IDセット(部下)
+	 * @param cursor           頁操作用カーソル
+	 * @param page             対象頁番号
+	 * @return 勤怠申請一覧情報リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected List<ManagementRequestListDtoInterface> getEffectiveListForPage(String personalId, Date fromDate,
+			Date toDate, Set<String> functionCodeSet, String state, Set<String> personalIdSet,
+			Set<String> subordinateIdSet, PageCursor cursor, int page) throws MospException {
+		// 並び替えた勤怠申請一覧情報リストを取得
+		List<ManagementRequestListDtoInterface> list = getSortedEffectiveList(personalId, fromDate, toDate,
+				functionCodeSet, state, personalIdSet, subordinateIdSet, cursor);
+		// 対象頁のリストを取得
+		cursor.clearKeys();
+		int end = Math.min(cursor.getOffset(page) + cursor.getDataPerPage(), list.size());
+		int offset = Math.min(cursor.getOffset(page), end);
+		return new ArrayList<ManagementRequestListDtoInterface>(list.subList(offset, end));
+	}
+	
+	/**
+	 * 有効ワークフロー情報を全件抽出して勤怠申請一覧情報に変換し、頁操作用カーソルの並び順で並び替える。<br>
+	 * @param personalId       対象個人ID
+	 * @param fromDate         対象期間自
+	 * @param toDate           対象期間至
+	 * @param functionCodeSet  対象機能コードセット
+	 * @param state            対象ワークフロー状態
+	 * @param personalIdSet    対象申請者個人IDセット(検索条件による)
+	 * @param subordinateIdSet 対象申請者個人IDセット(部下)
+	 * @param cursor           頁操作用カーソル
+	 * @return 勤怠申請一覧情報リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected List<ManagementRequestListDtoInterface> getSortedEffectiveList(String personalId, Date fromDate,
+			Date toDate, Set<String> functionCodeSet, String state, Set<String> personalIdSet,
+			Set<String> subordinateIdSet, PageCursor cursor) throws MospException {
+		// 勤怠申請一覧情報リスト取得
+		List<ManagementRequestListDtoInterface> list = getEffectiveList(personalId, fromDate, toDate,
+				functionCodeSet, state, personalIdSet, subordinateIdSet);
+		// 並び替え
+		Comparator<Object> comp = InstanceFactory.loadComparator(cursor.getSortKey());
+		if (cursor.isDescending()) {
+			Collections.sort(list, Collections.reverseOrder(comp));
+		} else {
+			Collections.sort(list, comp);
+		}
+		return list;
+	}
+	
+	/**
+	 * ワークフロー情報リストを勤怠申請一覧情報リストに変換する。<br>
+	 * 勤怠申請一覧情報を取得できないワークフロー情報は、除く。<br>
+	 * @param workflowList ワークフロー情報リスト
+	 * @return 勤怠申請一覧情報リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected List<ManagementRequestListDtoInterface> getManagementRequestList(List<WorkflowDtoInterface> workflowList)
+			throws MospException {
+		List<ManagementRequestListDtoInterface> list = new ArrayList<ManagementRequestListDtoInterface>();
+		for (WorkflowDtoInterface workflowDto : workflowList) {
 			ManagementRequestListDtoInterface dto = getManagementRequestListDto(workflowDto, false);
 			if (dto != null) {
-				// 勤怠申請一覧情報を取得しリストに追加
 				list.add(dto);
 			}
 		}
 		return list;
 	}
 	
+	/**
+	 * 前後の申請への遷移用の勤怠申請一覧情報を取得する。<br>
+	 * ワークフロー情報だけを設定し、人事情報及び申請情報詳細等は設定しない。<br>
+	 * @param workflowDto ワークフロー情報
+	 * @return 勤怠申請一覧情報
+	 */
+	protected ManagementRequestListDtoInterface getManagementRequestListDtoForRoll(WorkflowDtoInterface workflowDto) {
+		// 勤怠申請一覧情報準備
+		ManagementRequestListDtoInterface dto = new ManagementRequestListDto();
+		dto.setPersonalId(workflowDto.getPersonalId());
+		dto.setRequestType(workflowDto.getFunctionCode());
+		dto.setRequestDate(workflowDto.getWorkflowDate());
+		dto.setWorkflow(workflowDto.getWorkflow());
+		dto.setState(workflowDto.getWorkflowStatus());
+		dto.setStage(workflowDto.getWorkflowStage());
+		dto.setEmployeeCode("");
+		dto.setLastName("");
+		dto.setFirstName("");
+		dto.setSectionCode("");
+		dto.setRequestInfo("");
+		return dto;
+	}
+	
+	/**
+	 * 比較クラス名に対応する、ワークフローDAOのソートキーを取得する。<br>
+	 * 申請者の社員コード、氏名及び所属は、ワークフロー日付時点の人事情報で並び替える。<br>
+	 * @param comparatorName 比較クラス名
+	 * @return ソートキー(SQLで並び替えられない場合はnull)
+	 */
+	protected String getSortKey(String comparatorName) {
+		if (comparatorName == null || comparatorName.equals(ManagementRequestRequestDateComparator.class.getName())) {
+			return WorkflowDaoInterface.SORT_WORKFLOW_DATE;
+		}
+		if (comparatorName.equals(ManagementRequestRequestTypeComparator.class.getName())) {
+			return WorkflowDaoInterface.SORT_FUNCTION_CODE;
+		}
+		if (comparatorName.equals(EmployeeCodeComparator.class.getName())) {
+			return WorkflowDaoInterface.SORT_EMPLOYEE_CODE;
+		}
+		if (comparatorName.equals(EmployeeNameComparator.class.getName())) {
+			return WorkflowDaoInterface.SORT_EMPLOYEE_NAME;
+		}
+		if (comparatorName.equals(SectionCodeComparator.class.getName())) {
+			return WorkflowDaoInterface.SORT_SECTION_CODE;
+		}
+		if (comparatorName.equals(ManagementRequestStageStateComparator.class.getName())) {
+			return WorkflowDaoInterface.SORT_STAGE_STATE;
+		}
+		return null;
+	}
+	
 	@Override
 	public List<ManagementRequestListDtoInterface> getCompletedList(String personalId, Date fromDate, Date toDate,
 			Set<String> functionCodeSet) throws MospException {
@@ -20,9 +20,6 @@ package jp.mosp.time.bean.impl;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.TreeMap;
 
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.constant.MospConst;
@@ -67,6 +64,7 @@ import jp.mosp.time.dto.settings.WorkOnHolidayRequestDtoInterface;
 import jp.mosp.time.dto.settings.WorkTypeDtoInterface;
 import jp.mosp.time.dto.settings.WorkTypeItemDtoInterface;
 import jp.mosp.time.dto.settings.impl.TmdOvertimeRequestDto;
+import jp.mosp.time.entity.MinuteIntervalEntity;
 import jp.mosp.time.entity.RequestEntity;
 import jp.mosp.time.entity.WorkTypeEntity;
 
@@ -208,12 +206,12 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 	/**
 	 * 分単位休暇A(分休)
 	 */
-	protected Map<Date, Date>							minutelyHolidayAMap;
+	protected MinuteIntervalEntity						minutelyHolidayAMap;
 	
 	/**
 	 * 分単位休暇B(分休)
 	 */
-	protected Map<Date, Date>							minutelyHolidayBMap;
+	protected MinuteIntervalEntity						minutelyHolidayBMap;
 	
 	/**
 	 * 減額対象時間
@@ -304,7 +302,7 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 	/**
 	 * 規定休憩
 	 */
-	protected Map<Date, Date>							regRestMap;
+	protected MinuteIntervalEntity						regRestMap;
 	
 	/**
 	 * 前半休と後半休の間の時間
@@ -474,22 +472,27 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 	/**
 	 * 遅刻休憩
 	 */
-	protected Map<Date, Date>							tardinessRestMap;
+	protected MinuteIntervalEntity						tardinessRestMap;
 	
 	/**
 	 * 早退休憩
 	 */
-	protected Map<Date, Date>							leaveEarlyRestMap;
+	protected MinuteIntervalEntity						leaveEarlyRestMap;
 	
 	/**
 	 * 規定終業時刻後時間外前休憩
 	 */
-	protected Map<Date, Date>							overtimeBeforeRestMap;
+	protected MinuteIntervalEntity						overtimeBeforeRestMap;
 	
 	/**
 	 * 規定終業時刻後時間外休憩
 	 */
-	protected Map<Date, Date>							overtimeRestMap;
+	protected MinuteIntervalEntity						overtimeRestMap;
+	
+	/**
+	 * 作業用時間帯
+	 */
+	protected MinuteIntervalEntity						workIntervals;
 	
 	/**
 	 * 24時以前の合計手動休憩時間
@@ -574,7 +577,7 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 	/**
 	 * 有給休暇(時間休)
 	 */
-	protected Map<Date, Date>							paidLeaveHourMap;
+	protected MinuteIntervalEntity						paidLeaveHourMap;
 	
 	/**
 	 * 有給休暇時間数
@@ -954,8 +957,7 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 		if (startTime != null) {
 			
 			// 規定始業時間よりも始業時刻が早い場合
-			int startTimeInt = DateUtility.getHour(startTime, workDate) * TimeConst.CODE_DEFINITION_HOUR
-					+ DateUtility.getMinute(startTime);
+			int startTimeInt = getDefferenceMinutes(workDate, startTime);
 			
 			if (startTimeInt < regWorkStart) {
 				// 始業前の時間外労働が無効である場合
@@ -1156,7 +1158,7 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 			if (restStart == restEnd) {
 				return;
 			}
-			regRestMap.put(getAttendanceTime(workDate, restStart), getAttendanceTime(workDate, restEnd));
+			regRestMap.put(restStart, restEnd);
 			return;
 		} else if (isPmHalfDayOff(requestUtil)) {
 			// 午後休の場合
@@ -1183,7 +1185,7 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 			if (restStart == restEnd) {
 				continue;
 			}
-			regRestMap.put(getAttendanceTime(workDate, restStart), getAttendanceTime(workDate, restEnd));
+			regRestMap.put(restStart, restEnd);
 		}
 	}
 	
@@ -1202,36 +1204,24 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 		for (RestDtoInterface dto : restDtoList) {
 			totalManualRest += dto.getRestTime();
 		}
-		Map<Integer, Integer> map = new TreeMap<Integer, Integer>();
+		MinuteIntervalEntity map = new MinuteIntervalEntity();
 		// 遅刻休憩時間
-		for (Entry<Date, Date> entry : tardinessRestMap.entrySet()) {
-			map.put(getDefferenceMinutes(workDate, entry.getKey()), getDefferenceMinutes(workDate, entry.getValue()));
-		}
+		map.putAll(tardinessRestMap);
 		// 早退休憩時間
-		for (Entry<Date, Date> entry : leaveEarlyRestMap.entrySet()) {
-			map.put(getDefferenceMinutes(workDate, entry.getKey()), getDefferenceMinutes(workDate, entry.getValue()));
-		}
+		map.putAll(leaveEarlyRestMap);
 		// 休憩時間
 		for (RestDtoInterface dto : restDtoList) {
 			Date startTime = getRoundMinute(dto.getRestStart(), timeSettingDto.getRoundDailyRestStart(),
 					timeSettingDto.getRoundDailyRestStartUnit());
 			Date endTime = getRoundMinute(dto.getRestEnd(), timeSettingDto.getRoundDailyRestEnd(),
 					timeSettingDto.getRoundDailyRestEndUnit());
-			int startTimeInt = DateUtility.getHour(startTime, workDate) * TimeConst.CODE_DEFINITION_HOUR
-					+ DateUtility.getMinute(startTime);
-			int endTimeInt = DateUtility.getHour(endTime, workDate) * TimeConst.CODE_DEFINITION_HOUR
-					+ DateUtility.getMinute(endTime);
+			int startTimeInt = getDefferenceMinutes(workDate, startTime);
+			int endTimeInt = getDefferenceMinutes(workDate, endTime);
 			if (endTimeInt > regWorkStart) {
 				if (startTimeInt < regWorkStart) {
 					startTimeInt = regWorkStart;
 				}
-				if (map.containsKey(startTimeInt)) {
-					if (map.get(startTimeInt).intValue() < endTimeInt) {
-						map.put(startTimeInt, endTimeInt);
-					}
-				} else {
-					map.put(startTimeInt, endTimeInt);
-				}
+				map.putLonger(startTimeInt, endTimeInt);
 			}
 		}
 		// 公用外出時間
@@ -1284,42 +1274,26 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 		for (GoOutDtoInterface dto : minutelyHolidayADtoList) {
 			Date startTime = dto.getGoOutStart();
 			Date endTime = dto.getGoOutEnd();
-			int startTimeInt = DateUtility.getHour(startTime, workDate) * TimeConst.CODE_DEFINITION_HOUR
-					+ DateUtility.getMinute(startTime);
-			int endTimeInt = DateUtility.getHour(endTime, workDate) * TimeConst.CODE_DEFINITION_HOUR
-					+ DateUtility.getMinute(endTime);
+			int startTimeInt = getDefferenceMinutes(workDate, startTime);
+			int endTimeInt = getDefferenceMinutes(workDate, endTime);
 			if (endTimeInt > regWorkStart) {
 				if (startTimeInt < regWorkStart) {
 					startTimeInt = regWorkStart;
 				}
-				if (map.containsKey(startTimeInt)) {
-					if (map.get(startTimeInt).intValue() < endTimeInt) {
-						map.put(startTimeInt, endTimeInt);
-					}
-				} else {
-					map.put(startTimeInt, endTimeInt);
-				}
+				map.putLonger(startTimeInt, endTimeInt);
 			}
 		}
 		// 分単位休暇B時間
 		for (GoOutDtoInterface dto : minutelyHolidayBDtoList) {
 			Date startTime = dto.getGoOutStart();
 			Date endTime = dto.getGoOutEnd();
-			int startTimeInt = DateUtility.getHour(startTime, workDate) * TimeConst.CODE_DEFINITION_HOUR
-					+ DateUtility.getMinute(startTime);
-			int endTimeInt = DateUtility.getHour(endTime, workDate) * TimeConst.CODE_DEFINITION_HOUR
-					+ DateUtility.getMinute(endTime);
+			int startTimeInt = getDefferenceMinutes(workDate, startTime);
+			int endTimeInt = getDefferenceMinutes(workDate, endTime);
 			if (endTimeInt > regWorkStart) {
 				if (startTimeInt < regWorkStart) {
 					startTimeInt = regWorkStart;
 				}
-				if (map.containsKey(startTimeInt)) {
-					if (map.get(startTimeInt).intValue() < endTimeInt) {
-						map.put(startTimeInt, endTimeInt);
-					}
-				} else {
-					map.put(startTimeInt, endTimeInt);
-				}
+				map.putLonger(startTimeInt, endTimeInt);
 			}
 		}
 		// 規定始業時刻準備
@@ -1327,9 +1301,9 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 		// 労働時間
 		int tmpWorkTime = 0;
 		int scheduledWorkEndTime = 0;
-		for (Entry<Integer, Integer> entry : map.entrySet()) {
-			int mapStartTimeInt = entry.getKey().intValue();
-			int mapEndTimeInt = entry.getValue().intValue();
+		for (int i = 0; i < map.size(); i++) {
+			int mapStartTimeInt = map.getStart(i);
+			int mapEndTimeInt = map.getEnd(i);
 			if (time <= mapStartTimeInt) {
 				int addWorkTime = mapStartTimeInt - time;
 				if (tmpWorkTime + addWorkTime >= autoRestCalcStart) {
@@ -1354,43 +1328,19 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 		}
 		if (scheduledWorkEndTime + overbefore >= calculatedEnd) {
 			// 終業時刻が残前休憩終了時刻以前の場合
-			int overtimeBeforeTime = 0;
-			if (scheduledWorkEndTime < calculatedStart) {
-				// 勤怠計算上の始業時刻より前の場合
-				if (calculatedEnd - calculatedStart > 0) {
-					overtimeBeforeTime = calculatedEnd - calculatedStart;
-					overtimeBeforeRestMap.put(getAttendanceTime(workDate, calculatedStart),
-							getAttendanceTime(workDate, calculatedEnd));
-				}
-			} else {
-				if (calculatedEnd - scheduledWorkEndTime > 0) {
-					overtimeBeforeTime = calculatedEnd - scheduledWorkEndTime;
-					overtimeBeforeRestMap.put(getAttendanceTime(workDate, scheduledWorkEndTime),
-							getAttendanceTime(workDate, calculatedEnd));
-				}
-			}
-			totalRest = totalManualRest + overtimeBeforeTime;
+			// 規定終業時刻から終業時刻までのうち勤怠計算上の始業時刻以後の部分
+			overtimeBeforeRestMap.put(scheduledWorkEndTime, calculatedEnd);
+			overtimeBeforeRestMap.clip(calculatedStart, calculatedEnd);
+			totalRest = totalManualRest + overtimeBeforeRestMap.getMinutes();
 			workTime = totalWorkTime(requestUtil);
 			return;
 		}
 		// 規定終業時刻後時間外労働開始時刻
 		int afterOvertimeWorkStart = scheduledWorkEndTime + overbefore;
-		// 規定終業時刻後時間外前休憩
-		int totalOvertimeBeforeRest = 0;
-		if (scheduledWorkEndTime >= calculatedStart) {
-			// 勤怠計算上の始業時刻以後の場合
-			if (afterOvertimeWorkStart - scheduledWorkEndTime > 0) {
-				totalOvertimeBeforeRest += afterOvertimeWorkStart - scheduledWorkEndTime;
-				overtimeBeforeRestMap.put(getAttendanceTime(workDate, scheduledWorkEndTime),
-						getAttendanceTime(workDate, afterOvertimeWorkStart));
-			}
-		} else if (afterOvertimeWorkStart >= calculatedStart) {
-			if (afterOvertimeWorkStart - calculatedStart > 0) {
-				totalOvertimeBeforeRest += afterOvertimeWorkStart - calculatedStart;
-				overtimeBeforeRestMap.put(getAttendanceTime(workDate, calculatedStart),
-						getAttendanceTime(workDate, afterOvertimeWorkStart));
-			}
-		}
+		// 規定終業時刻後時間外前休憩(勤怠計算上の始業時刻以後の部分)
+		overtimeBeforeRestMap.put(scheduledWorkEndTime, afterOvertimeWorkStart);
+		overtimeBeforeRestMap.clip(calculatedStart, Integer.MAX_VALUE);
+		int totalOvertimeBeforeRest = overtimeBeforeRestMap.getMinutes();
 		// 残業休憩時間
 		int totalOvertimeRest = 0;
 		if (!isWorkOnLegalDaysOff() && !isWorkOnPrescribedDaysOff()) {
@@ -1405,8 +1355,7 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 				int overtimeRestStart = previousOvertimeRestEnd + overper - overrest;
 				int overtimeRestEnd = previousOvertimeRestEnd + overper;
 				if (overtimeRestStart >= calculatedStart) {
-					overtimeRestMap.put(getAttendanceTime(workDate, overtimeRestStart),
-							getAttendanceTime(workDate, overtimeRestEnd));
+					overtimeRestMap.put(overtimeRestStart, overtimeRestEnd);
 					totalOvertimeRest += overtimeRestEnd - overtimeRestStart;
 				}
 				previousOvertimeRestEnd = overtimeRestEnd;
@@ -1607,7 +1556,8 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 	private void calcMinutelyHolidayATime() {
 		int total = 0;
 		for (GoOutDtoInterface dto : minutelyHolidayADtoList) {
-			minutelyHolidayAMap.put(dto.getGoOutStart(), dto.getGoOutEnd());
+			minutelyHolidayAMap.put(getDefferenceMinutes(workDate, dto.getGoOutStart()),
+					getDefferenceMinutes(workDate, dto.getGoOutEnd()));
 			total += dto.getGoOutTime();
 		}
 		totalMinutelyHolidayA = total;
@@ -1619,9 +1569,9 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 	protected void calcBeforeMinutelyHolidayMinute() {
 		// 分単位休暇A
 		int minutelyHolidayA = 0;
-		for (Entry<Date, Date> entry : minutelyHolidayAMap.entrySet()) {
-			int minutelyHolidayStart = getDefferenceMinutes(workDate, entry.getKey());
-			int minutelyHolidayEnd = getDefferenceMinutes(workDate, entry.getValue());
+		for (int i = 0; i < minutelyHolidayAMap.size(); i++) {
+			int minutelyHolidayStart = minutelyHolidayAMap.getStart(i);
+			int minutelyHolidayEnd = minutelyHolidayAMap.getEnd(i);
 			if (minutelyHolidayStart >= calculatedStart) {
 				// 分単位休暇A開始時刻が勤怠計算上の始業時刻以後の場合
 				continue;
@@ -1636,9 +1586,9 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 		}
 		// 分単位休暇B
 		int minutelyHolidayB = 0;
-		for (Entry<Date, Date> entry : minutelyHolidayBMap.entrySet()) {
-			int minutelyHolidayStart = getDefferenceMinutes(workDate, entry.getKey());
-			int minutelyHolidayEnd = getDefferenceMinutes(workDate, entry.getValue());
+		for (int i = 0; i < minutelyHolidayBMap.size(); i++) {
+			int minutelyHolidayStart = minutelyHolidayBMap.getStart(i);
+			int minutelyHolidayEnd = minutelyHolidayBMap.getEnd(i);
 			if (minutelyHolidayStart >= calculatedStart) {
 				// 分単位休暇B開始時刻が勤怠計算上の始業時刻以後の場合
 				continue;
@@ -1661,9 +1611,9 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 	protected void calcAfterMinutelyHolidayMinute() {
 		// 分単位休暇
 		int minutelyHolidayA = 0;
-		for (Entry<Date, Date> entry : minutelyHolidayAMap.entrySet()) {
-			int minutelyHolidayStart = getDefferenceMinutes(workDate, entry.getKey());
-			int minutelyHolidayEnd = getDefferenceMinutes(workDate, entry.getValue());
+		for (int i = 0; i < minutelyHolidayAMap.size(); i++) {
+			int minutelyHolidayStart = minutelyHolidayAMap.getStart(i);
+			int minutelyHolidayEnd = minutelyHolidayAMap.getEnd(i);
 			if (minutelyHolidayEnd <= calculatedEnd) {
 				// 分単位休暇終了時刻が勤怠計算上の終業時刻以前の場合
 				continue;
@@ -1679,9 +1629,9 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 		
 		// 分単位休暇
 		int minutelyHolidayB = 0;
-		for (Entry<Date, Date> entry : minutelyHolidayBMap.entrySet()) {
-			int minutelyHolidayStart = getDefferenceMinutes(workDate, entry.getKey());
-			int minutelyHolidayEnd = getDefferenceMinutes(workDate, entry.getValue());
+		for (int i = 0; i < minutelyHolidayBMap.size(); i++) {
+			int minutelyHolidayStart = minutelyHolidayBMap.getStart(i);
+			int minutelyHolidayEnd = minutelyHolidayBMap.getEnd(i);
 			if (minutelyHolidayEnd <= calculatedEnd) {
 				// 分単位休暇終了時刻が勤怠計算上の終業時刻以前の場合
 				continue;
@@ -1705,7 +1655,8 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 	private void calcMinutelyHolidayBTime() {
 		int total = 0;
 		for (GoOutDtoInterface dto : minutelyHolidayBDtoList) {
-			minutelyHolidayBMap.put(dto.getGoOutStart(), dto.getGoOutEnd());
+			minutelyHolidayBMap.put(getDefferenceMinutes(workDate, dto.getGoOutStart()),
+					getDefferenceMinutes(workDate, dto.getGoOutEnd()));
 			total += dto.getGoOutTime();
 		}
 		totalMinutelyHolidayB = total;
@@ -1726,185 +1677,26 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 			return;
 		}
 		int exclusion = 0;
-		// 休憩
-		for (Entry<Date, Date> entry : regRestMap.entrySet()) {
-			int restStart = getDefferenceMinutes(workDate, entry.getKey());
-			int restEnd = getDefferenceMinutes(workDate, entry.getValue());
-			if (restStart >= calculatedStart) {
-				// 休憩開始時刻が勤怠計算上の始業時刻以後の場合
-				continue;
-			}
-			// 休憩開始時刻が勤怠計算上の始業時刻より前の場合
-			if (restEnd > calculatedStart) {
-				// 休憩終了時刻が勤怠計算上の始業時刻より後の場合は
-				// 勤怠計算上の始業時刻を休憩終了時刻とする
-				restEnd = calculatedStart;
-			}
-			exclusion += restEnd - restStart;
-			// 遅刻休憩時間マップ設定
-			tardinessRestMap.put(getAttendanceTime(workDate, restStart), getAttendanceTime(workDate, restEnd));
-		}
-		// 分単位休暇A
-		for (Entry<Date, Date> entry : minutelyHolidayAMap.entrySet()) {
-			int minutelyHolidayStart = getDefferenceMinutes(workDate, entry.getKey());
-			int minutelyHolidayEnd = getDefferenceMinutes(workDate, entry.getValue());
-			if (minutelyHolidayStart >= calculatedStart) {
-				// 分単位休暇A開始時刻が勤怠計算上の始業時刻以後の場合
-				continue;
-			}
-			// 分単位休暇A開始時刻が勤怠計算上の始業時刻より前の場合
-			if (minutelyHolidayEnd > calculatedStart) {
-				// 分単位休暇A終了時刻が勤怠計算上の始業時刻より後の場合は
-				// 勤怠計算上の始業時刻を分単位休暇A終了時刻とする
-				minutelyHolidayEnd = calculatedStart;
-			}
-			for (Entry<Date, Date> restEntry : tardinessRestMap.entrySet()) {
-				int restStart = getDefferenceMinutes(workDate, restEntry.getKey());
-				int restEnd = getDefferenceMinutes(workDate, restEntry.getValue());
-				if (minutelyHolidayStart >= restStart && restEnd >= minutelyHolidayEnd) {
-					// 分単位休暇A開始時刻が休憩開始時刻以後且つ分単位休暇A終了時刻が休憩終了時刻以前の場合
-					minutelyHolidayStart = 0;
-					minutelyHolidayEnd = 0;
-					break;
-				}
-				if (minutelyHolidayStart >= restEnd) {
-					// 分単位休暇A開始時刻が休憩終了時刻以後の場合
-					continue;
-				}
-				if (minutelyHolidayEnd <= restStart) {
-					// 分単位休暇A終了時刻が休憩開始時刻以前の場合
-					continue;
-				}
-				if (minutelyHolidayStart < restStart && restEnd < minutelyHolidayEnd) {
-					// 分単位休暇A開始時刻が休憩開始時刻より前且つ分単位休暇A終了時刻が休憩終了時刻より後の場合
-					// 休憩開始時刻から分単位休暇A開始時刻を引いたものを加算
-					exclusion += restStart - minutelyHolidayStart;
-					// 休憩終了時刻を分単位休暇A開始時刻とする
-					minutelyHolidayStart = restEnd;
-					continue;
-				}
-				if (minutelyHolidayStart >= restStart && minutelyHolidayEnd > restEnd) {
-					// 分単位休暇A開始時刻が休憩開始時刻以後且つ分単位休暇A終了時刻が休憩終了時刻より後の場合は
-					// 休憩終了時刻を分単位休暇A開始時刻とする
-					minutelyHolidayStart = restEnd;
-				}
-				if (minutelyHolidayStart < restStart && minutelyHolidayEnd <= restEnd) {
-					// 分単位休暇A開始時刻が休憩開始時刻より前且つ分単位休暇A終了時刻が休憩終了時刻以前の場合は
-					// 休憩開始時刻を分単位休暇A終了時刻とする
-					minutelyHolidayEnd = restStart;
-				}
-			}
-			exclusion += minutelyHolidayEnd - minutelyHolidayStart;
-		}
-		// 分単位休暇B
-		for (Entry<Date, Date> entry : minutelyHolidayBMap.entrySet()) {
-			int minutelyHolidayStart = getDefferenceMinutes(workDate, entry.getKey());
-			int minutelyHolidayEnd = getDefferenceMinutes(workDate, entry.getValue());
-			if (minutelyHolidayStart >= calculatedStart) {
-				// 分単位休暇B開始時刻が勤怠計算上の始業時刻以後の場合
-				continue;
-			}
-			// 分単位休暇B開始時刻が勤怠計算上の始業時刻より前の場合
-			if (minutelyHolidayEnd > calculatedStart) {
-				// 分単位休暇B終了時刻が勤怠計算上の始業時刻より後の場合は
-				// 勤怠計算上の始業時刻を分単位休暇終了時刻とする
-				minutelyHolidayEnd = calculatedStart;
-			}
-			for (Entry<Date, Date> restEntry : tardinessRestMap.entrySet()) {
-				int restStart = getDefferenceMinutes(workDate, restEntry.getKey());
-				int restEnd = getDefferenceMinutes(workDate, restEntry.getValue());
-				if (minutelyHolidayStart >= restStart && restEnd >= minutelyHolidayEnd) {
-					// 分単位休暇B開始時刻が休憩開始時刻以後且つ分単位休暇B終了時刻が休憩終了時刻以前の場合
-					minutelyHolidayStart = 0;
-					minutelyHolidayEnd = 0;
-					break;
-				}
-				if (minutelyHolidayStart >= restEnd) {
-					// 分単位休暇B開始時刻が休憩終了時刻以後の場合
-					continue;
-				}
-				if (minutelyHolidayEnd <= restStart) {
-					// 分単位休暇B終了時刻が休憩開始時刻以前の場合
-					continue;
-				}
-				if (minutelyHolidayStart < restStart && restEnd < minutelyHolidayEnd) {
-					// 分単位休暇B開始時刻が休憩開始時刻より前且つ分単位休暇B終了時刻が休憩終了時刻より後の場合
-					// 休憩開始時刻から分単位休暇B開始時刻を引いたものを加算
-					exclusion += restStart - minutelyHolidayStart;
-					// 休憩終了時刻を分単位休暇B開始時刻とする
-					minutelyHolidayStart = restEnd;
-					continue;
-				}
-				if (minutelyHolidayStart >= restStart && minutelyHolidayEnd > restEnd) {
-					// 分単位休暇B開始時刻が休憩開始時刻以後且つ分単位休暇B終了時刻が休憩終了時刻より後の場合は
-					// 休憩終了時刻を有給休暇開始時刻とする
-					minutelyHolidayStart = restEnd;
-				}
-				if (minutelyHolidayStart < restStart && minutelyHolidayEnd <= restEnd) {
-					// 分単位休暇B開始時刻が休憩開始時刻より前且つ分単位休暇B終了時刻が休憩終了時刻以前の場合は
-					// 休憩開始時刻を分単位休暇B終了時刻とする
-					minutelyHolidayEnd = restStart;
-				}
-			}
-			exclusion += minutelyHolidayEnd - minutelyHolidayStart;
-		}
+		// 休憩(勤怠計算上の始業時刻より前の部分)
+		tardinessRestMap.putAll(regRestMap);
+		tardinessRestMap.clip(Integer.MIN_VALUE, calculatedStart);
+		exclusion += tardinessRestMap.getMinutes();
+		// 分単位休暇A(休憩と重なる部分を除く)
+		MinuteIntervalEntity intervals = getWorkIntervals(minutelyHolidayAMap, Integer.MIN_VALUE, calculatedStart);
+		intervals.subtract(tardinessRestMap);
+		exclusion += intervals.getMinutes();
+		// 分単位休暇B(休憩と重なる部分を除く)
+		intervals = getWorkIntervals(minutelyHolidayBMap, Integer.MIN_VALUE, calculatedStart);
+		intervals.subtract(tardinessRestMap);
+		exclusion += intervals.getMinutes();
 		// 始業時刻前分単位休暇AB分数を設定
 		calcBeforeMinutelyHolidayMinute();
 		
-		// 有給休暇
-		int paidLeave = 0;
-		for (Entry<Date, Date> entry : paidLeaveHourMap.entrySet()) {
-			int paidLeaveStart = getDefferenceMinutes(workDate, entry.getKey());
-			int paidLeaveEnd = getDefferenceMinutes(workDate, entry.getValue());
-			if (paidLeaveStart >= calculatedStart) {
-				// 有給休暇開始時刻が勤怠計算上の始業時刻以後の場合
-				continue;
-			}
-			// 有給休暇開始時刻が勤怠計算上の始業時刻より前の場合
-			if (paidLeaveEnd > calculatedStart) {
-				// 有給休暇終了時刻が勤怠計算上の始業時刻より後の場合は
-				// 勤怠計算上の始業時刻を有給休暇終了時刻とする
-				paidLeaveEnd = calculatedStart;
-			}
-			paidLeave += paidLeaveEnd - paidLeaveStart;
-			for (Entry<Date, Date> restEntry : tardinessRestMap.entrySet()) {
-				int restStart = getDefferenceMinutes(workDate, restEntry.getKey());
-				int restEnd = getDefferenceMinutes(workDate, restEntry.getValue());
-				if (paidLeaveStart >= restStart && restEnd >= paidLeaveEnd) {
-					// 有給休暇開始時刻が休憩開始時刻以後且つ有給休暇終了時刻が休憩終了時刻以前の場合
-					paidLeaveStart = 0;
-					paidLeaveEnd = 0;
-					break;
-				}
-				if (paidLeaveStart >= restEnd) {
-					// 有給休暇開始時刻が休憩終了時刻以後の場合
-					continue;
-				}
-				if (paidLeaveEnd <= restStart) {
-					// 有給休暇終了時刻が休憩開始時刻以前の場合
-					continue;
-				}
-				if (paidLeaveStart < restStart && restEnd < paidLeaveEnd) {
-					// 有給休暇開始時刻が休憩開始時刻より前且つ有給休暇終了時刻が休憩終了時刻より後の場合
-					// 休憩開始時刻から有給休暇開始時刻を引いたものを加算
-					exclusion += restStart - paidLeaveStart;
-					// 休憩終了時刻を有給休暇開始時刻とする
-					paidLeaveStart = restEnd;
-					continue;
-				}
-				if (paidLeaveStart >= restStart && paidLeaveEnd > restEnd) {
-					// 有給休暇開始時刻が休憩開始時刻以後且つ有給休暇終了時刻が休憩終了時刻より後の場合は
-					// 休憩終了時刻を有給休暇開始時刻とする
-					paidLeaveStart = restEnd;
-				}
-				if (paidLeaveStart < restStart && paidLeaveEnd <= restEnd) {
-					// 有給休暇開始時刻が休憩開始時刻より前且つ有給休暇終了時刻が休憩終了時刻以前の場合は
-					// 休憩開始時刻を有給休暇終了時刻とする
-					paidLeaveEnd = restStart;
-				}
-			}
-			exclusion += paidLeaveEnd - paidLeaveStart;
-		}
+		// 有給休暇(休憩と重なる部分を除く)
+		intervals = getWorkIntervals(paidLeaveHourMap, Integer.MIN_VALUE, calculatedStart);
+		int paidLeave = intervals.getMinutes();
+		intervals.subtract(tardinessRestMap);
+		exclusion += intervals.getMinutes();
 		// 始業時刻前有給休暇分数を設定
 		beforePaidLeaveMinute = paidLeave;
 		int tardinessWorkStart = calculatedStart;
@@ -1945,185 +1737,26 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 			return;
 		}
 		int exclusion = 0;
-		// 休憩
-		for (Entry<Date, Date> entry : regRestMap.entrySet()) {
-			int restStart = getDefferenceMinutes(workDate, entry.getKey());
-			int restEnd = getDefferenceMinutes(workDate, entry.getValue());
-			if (restEnd <= calculatedEnd) {
-				// 休憩終了時刻が勤怠計算上の終業時刻以前の場合
-				continue;
-			}
-			// 休憩終了時刻が勤怠計算上の終業時刻より後の場合
-			if (restStart < calculatedEnd) {
-				// 休憩開始時刻が勤怠計算上の終業時刻より前の場合は
-				// 勤怠計算上の終業時刻を休憩開始時刻とする
-				restStart = calculatedEnd;
-			}
-			exclusion += restEnd - restStart;
-			leaveEarlyRestMap.put(getAttendanceTime(workDate, restStart), getAttendanceTime(workDate, restEnd));
-		}
-		// 分単位休暇
-		for (Entry<Date, Date> entry : minutelyHolidayAMap.entrySet()) {
-			int minutelyHolidayStart = getDefferenceMinutes(workDate, entry.getKey());
-			int minutelyHolidayEnd = getDefferenceMinutes(workDate, entry.getValue());
-			if (minutelyHolidayEnd <= calculatedEnd) {
-				// 分単位休暇終了時刻が勤怠計算上の終業時刻以前の場合
-				continue;
-			}
-			// 分単位休暇終了時刻が勤怠計算上の始業時刻より後の場合
-			if (minutelyHolidayStart < calculatedEnd) {
-				// 分単位休暇開始時刻が勤怠計算上の終業時刻より前の場合は
-				// 勤怠計算上の終業時刻を分単位休暇開始時刻とする
-				minutelyHolidayStart = calculatedEnd;
-			}
-			for (Entry<Date, Date> restEntry : leaveEarlyRestMap.entrySet()) {
-				int restStart = getDefferenceMinutes(workDate, restEntry.getKey());
-				int restEnd = getDefferenceMinutes(workDate, restEntry.getValue());
-				if (minutelyHolidayStart >= restStart && restEnd >= minutelyHolidayEnd) {
-					// 分単位休暇開始時刻が休憩開始時刻以後且つ分単位休暇終了時刻が休憩終了時刻以前の場合
-					minutelyHolidayStart = 0;
-					minutelyHolidayEnd = 0;
-					break;
-				}
-				if (minutelyHolidayStart >= restEnd) {
-					// 分単位休暇開始時刻が休憩終了時刻以後の場合
-					continue;
-				}
-				if (minutelyHolidayEnd <= restStart) {
-					// 分単位休暇終了時刻が休憩開始時刻以前の場合
-					continue;
-				}
-				if (minutelyHolidayStart < restStart && restEnd < minutelyHolidayEnd) {
-					// 分単位休暇開始時刻が休憩開始時刻より前且つ有給休暇終了時刻が休憩終了時刻より後の場合
-					// 休憩開始時刻から分単位休暇開始時刻を引いたものを加算
-					exclusion += restStart - minutelyHolidayStart;
-					// 休憩終了時刻を分単位休暇開始時刻とする
-					minutelyHolidayStart = restEnd;
-					continue;
-				}
-				if (minutelyHolidayStart >= restStart && minutelyHolidayEnd > restEnd) {
-					// 分単位休暇開始時刻が休憩開始時刻以後且つ分単位休暇終了時刻が休憩終了時刻より後の場合は
-					// 休憩終了時刻を分単位休暇開始時刻とする
-					minutelyHolidayStart = restEnd;
-				}
-				if (minutelyHolidayStart < restStart && minutelyHolidayEnd <= restEnd) {
-					// 分単位休暇開始時刻が休憩開始時刻より前且つ分単位休暇終了時刻が休憩終了時刻以前の場合は
-					// 休憩開始時刻を分単位休暇終了時刻とする
-					minutelyHolidayEnd = restStart;
-				}
-			}
-			exclusion += minutelyHolidayEnd - minutelyHolidayStart;
-		}
-		
-		// 分単位休暇
-		for (Entry<Date, Date> entry : minutelyHolidayBMap.entrySet()) {
-			int minutelyHolidayStart = getDefferenceMinutes(workDate, entry.getKey());
-			int minutelyHolidayEnd = getDefferenceMinutes(workDate, entry.getValue());
-			if (minutelyHolidayEnd <= calculatedEnd) {
-				// 分単位休暇終了時刻が勤怠計算上の終業時刻以前の場合
-				continue;
-			}
-			// 分単位休暇終了時刻が勤怠計算上の始業時刻より後の場合
-			if (minutelyHolidayStart < calculatedEnd) {
-				// 分単位休暇開始時刻が勤怠計算上の終業時刻より前の場合は
-				// 勤怠計算上の終業時刻を分単位休暇開始時刻とする
-				minutelyHolidayStart = calculatedEnd;
-			}
-			for (Entry<Date, Date> restEntry : leaveEarlyRestMap.entrySet()) {
-				int restStart = getDefferenceMinutes(workDate, restEntry.getKey());
-				int restEnd = getDefferenceMinutes(workDate, restEntry.getValue());
-				if (minutelyHolidayStart >= restStart && restEnd >= minutelyHolidayEnd) {
-					// 分単位休暇開始時刻が休憩開始時刻以後且つ分単位休暇終了時刻が休憩終了時刻以前の場合
-					minutelyHolidayStart = 0;
-					minutelyHolidayEnd = 0;
-					break;
-				}
-				if (minutelyHolidayStart >= restEnd) {
-					// 分単位休暇開始時刻が休憩終了時刻以後の場合
-					continue;
-				}
-				if (minutelyHolidayEnd <= restStart) {
-					// 分単位休暇終了時刻が休憩開始時刻以前の場合
-					continue;
-				}
-				if (minutelyHolidayStart < restStart && restEnd < minutelyHolidayEnd) {
-					// 分単位休暇開始時刻が休憩開始時刻より前且つ有給休暇終了時刻が休憩終了時刻より後の場合
-					// 休憩開始時刻から分単位休暇開始時刻を引いたものを加算
-					exclusion += restStart - minutelyHolidayStart;
-					// 休憩終了時刻を分単位休暇開始時刻とする
-					minutelyHolidayStart = restEnd;
-					continue;
-				}
-				if (minutelyHolidayStart >= restStart && minutelyHolidayEnd > restEnd) {
-					// 分単位休暇開始時刻が休憩開始時刻以後且つ分単位休暇終了時刻が休憩終了時刻より後の場合は
-					// 休憩終了時刻を分単位休暇開始時刻とする
-					minutelyHolidayStart = restEnd;
-				}
-				if (minutelyHolidayStart < restStart && minutelyHolidayEnd <= restEnd) {
-					// 分単位休暇開始時刻が休憩開始時刻より前且つ分単位休暇終了時刻が休憩終了時刻以前の場合は
-					// 休憩開始時刻を分単位休暇終了時刻とする
-					minutelyHolidayEnd = restStart;
-				}
-			}
-			exclusion += minutelyHolidayEnd - minutelyHolidayStart;
-		}
+		// 休憩(勤怠計算上の終業時刻より後の部分)
+		leaveEarlyRestMap.putAll(regRestMap);
+		leaveEarlyRestMap.clip(calculatedEnd, Integer.MAX_VALUE);
+		exclusion += leaveEarlyRestMap.getMinutes();
+		// 分単位休暇A(休憩と重なる部分を除く)
+		MinuteIntervalEntity intervals = getWorkIntervals(minutelyHolidayAMap, calculatedEnd, Integer.MAX_VALUE);
+		intervals.subtract(leaveEarlyRestMap);
+		exclusion += intervals.getMinutes();
+		// 分単位休暇B(休憩と重なる部分を除く)
+		intervals = getWorkIntervals(minutelyHolidayBMap, calculatedEnd, Integer.MAX_VALUE);
+		intervals.subtract(leaveEarlyRestMap);
+		exclusion += intervals.getMinutes();
 		// 始業時刻後分単位休暇分数を設定
 		calcAfterMinutelyHolidayMinute();
 		
-		// 有休休暇
-		int paidLeave = 0;
-		for (Entry<Date, Date> entry : paidLeaveHourMap.entrySet()) {
-			int paidLeaveStart = getDefferenceMinutes(workDate, entry.getKey());
-			int paidLeaveEnd = getDefferenceMinutes(workDate, entry.getValue());
-			if (paidLeaveEnd <= calculatedEnd) {
-				// 有給休暇終了時刻が勤怠計算上の終業時刻以前の場合
-				continue;
-			}
-			// 有給休暇終了時刻が勤怠計算上の始業時刻より後の場合
-			if (paidLeaveStart < calculatedEnd) {
-				// 有給休暇開始時刻が勤怠計算上の終業時刻より前の場合は
-				// 勤怠計算上の終業時刻を有給休暇開始時刻とする
-				paidLeaveStart = calculatedEnd;
-			}
-			paidLeave += paidLeaveEnd - paidLeaveStart;
-			for (Entry<Date, Date> restEntry : leaveEarlyRestMap.entrySet()) {
-				int restStart = getDefferenceMinutes(workDate, restEntry.getKey());
-				int restEnd = getDefferenceMinutes(workDate, restEntry.getValue());
-				if (paidLeaveStart >= restStart && restEnd >= paidLeaveEnd) {
-					// 有給休暇開始時刻が休憩開始時刻以後且つ有給休暇終了時刻が休憩終了時刻以前の場合
-					paidLeaveStart = 0;
-					paidLeaveEnd = 0;
-					break;
-				}
-				if (paidLeaveStart >= restEnd) {
-					// 有給休暇開始時刻が休憩終了時刻以後の場合
-					continue;
-				}
-				if (paidLeaveEnd <= restStart) {
-					// 有給休暇終了時刻が休憩開始時刻以前の場合
-					continue;
-				}
-				if (paidLeaveStart < restStart && restEnd < paidLeaveEnd) {
-					// 有給休暇開始時刻が休憩開始時刻より前且つ有給休暇終了時刻が休憩終了時刻より後の場合
-					// 休憩開始時刻から有給休暇開始時刻を引いたものを加算
-					exclusion += restStart - paidLeaveStart;
-					// 休憩終了時刻を有給休暇開始時刻とする
-					paidLeaveStart = restEnd;
-					continue;
-				}
-				if (paidLeaveStart >= restStart && paidLeaveEnd > restEnd) {
-					// 有給休暇開始時刻が休憩開始時刻以後且つ有給休暇終了時刻が休憩終了時刻より後の場合は
-					// 休憩終了時刻を有給休暇開始時刻とする
-					paidLeaveStart = restEnd;
-				}
-				if (paidLeaveStart < restStart && paidLeaveEnd <= restEnd) {
-					// 有給休暇開始時刻が休憩開始時刻より前且つ有給休暇終了時刻が休憩終了時刻以前の場合は
-					// 休憩開始時刻を有給休暇終了時刻とする
-					paidLeaveEnd = restStart;
-				}
-			}
-			exclusion += paidLeaveEnd - paidLeaveStart;
-		}
+		// 有給休暇(休憩と重なる部分を除く)
+		intervals = getWorkIntervals(paidLeaveHourMap, calculatedEnd, Integer.MAX_VALUE);
+		int paidLeave = intervals.getMinutes();
+		intervals.subtract(leaveEarlyRestMap);
+		exclusion += intervals.getMinutes();
 		// 始業時刻後有給休暇分数を設定
 		afterPaidLeaveMinute = paidLeave;
 		int leaveEarlyWorkEnd = calculatedEnd;
@@ -2183,9 +1816,9 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 		totalBefore24HourManualRest = before24HourManualRest;
 		// 24時以前の規定終業時刻後時間外前休憩時間
 		int before24HourOvertimeBeforeRest = 0;
-		for (Entry<Date, Date> entry : overtimeBeforeRestMap.entrySet()) {
-			int start = getDefferenceMinutes(workDate, entry.getKey());
-			int end = getDefferenceMinutes(workDate, entry.getValue());
+		for (int i = 0; i < overtimeBeforeRestMap.size(); i++) {
+			int start = overtimeBeforeRestMap.getStart(i);
+			int end = overtimeBeforeRestMap.getEnd(i);
 			if (start < twentyFourHours) {
 				if (end > twentyFourHours) {
 					end = twentyFourHours;
@@ -2196,9 +1829,9 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 		totalBefore24HourOvertimeBeforeRest = before24HourOvertimeBeforeRest;
 		// 24時以前の合計残業休憩時間
 		int before24HourOvertimeRest = 0;
-		for (Entry<Date, Date> entry : overtimeRestMap.entrySet()) {
-			int start = getDefferenceMinutes(workDate, entry.getKey());
-			int end = getDefferenceMinutes(workDate, entry.getValue());
+		for (int i = 0; i < overtimeRestMap.size(); i++) {
+			int start = overtimeRestMap.getStart(i);
+			int end = overtimeRestMap.getEnd(i);
 			if (start < twentyFourHours) {
 				if (end > twentyFourHours) {
 					end = twentyFourHours;
@@ -2247,9 +1880,9 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 		calcAfterMinutelyHolidayMinute();
 		// 24時以前の合計分単位休暇A時間
 		int before24HourMinutelyHolidayA = 0;
-		for (Entry<Date, Date> entry : minutelyHolidayAMap.entrySet()) {
-			int start = getDefferenceMinutes(workDate, entry.getKey());
-			int end = getDefferenceMinutes(workDate, entry.getValue());
+		for (int i = 0; i < minutelyHolidayAMap.size(); i++) {
+			int start = minutelyHolidayAMap.getStart(i);
+			int end = minutelyHolidayAMap.getEnd(i);
 			if (start >= twentyFourHours) {
 				// 分単位休暇A開始時刻が24時以後の場合
 				continue;
@@ -2273,9 +1906,9 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 		totalBefore24HourMinutelyHolidayA = before24HourMinutelyHolidayA;
 		// 24時以前の合計分単位休暇B時間
 		int before24HourMinutelyHolidayB = 0;
-		for (Entry<Date, Date> entry : minutelyHolidayBMap.entrySet()) {
-			int start = getDefferenceMinutes(workDate, entry.getKey());
-			int end = getDefferenceMinutes(workDate, entry.getValue());
+		for (int i = 0; i < minutelyHolidayBMap.size(); i++) {
+			int start = minutelyHolidayBMap.getStart(i);
+			int end = minutelyHolidayBMap.getEnd(i);
 			if (start >= twentyFourHours) {
 				// 分単位休暇B開始時刻が24時以後の場合
 				continue;
@@ -2299,9 +1932,9 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 		totalBefore24HourMinutelyHolidayB = before24HourMinutelyHolidayB;
 		// 24時以後の合計有給休暇時間
 		int after24HourPaidLeave = 0;
-		for (Entry<Date, Date> entry : paidLeaveHourMap.entrySet()) {
-			int start = getDefferenceMinutes(workDate, entry.getKey());
-			int end = getDefferenceMinutes(workDate, entry.getValue());
+		for (int i = 0; i < paidLeaveHourMap.size(); i++) {
+			int start = paidLeaveHourMap.getStart(i);
+			int end = paidLeaveHourMap.getEnd(i);
 			if (start >= calculatedEnd) {
 				// 有給休暇開始時刻が勤怠計算上の終業時刻以後の場合
 				continue;
@@ -2342,9 +1975,9 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 		totalAfter24HourManualRest = after24HourManualRest;
 		// 24時以後の規定終業時刻後時間外前休憩時間
 		int after24HourOvertimeBeforeRest = 0;
-		for (Entry<Date, Date> entry : overtimeBeforeRestMap.entrySet()) {
-			int start = getDefferenceMinutes(workDate, entry.getKey());
-			int end = getDefferenceMinutes(workDate, entry.getValue());
+		for (int i = 0; i < overtimeBeforeRestMap.size(); i++) {
+			int start = overtimeBeforeRestMap.getStart(i);
+			int end = overtimeBeforeRestMap.getEnd(i);
 			if (end > twentyFourHours) {
 				if (start < twentyFourHours) {
 					start = twentyFourHours;
@@ -2355,9 +1988,9 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 		totalAfter24HourOvertimeBeforeRest = after24HourOvertimeBeforeRest;
 		// 24時以後の合計残業休憩時間
 		int after24HourOvertimeRest = 0;
-		for (Entry<Date, Date> entry : overtimeRestMap.entrySet()) {
-			int start = getDefferenceMinutes(workDate, entry.getKey());
-			int end = getDefferenceMinutes(workDate, entry.getValue());
+		for (int i = 0; i < overtimeRestMap.size(); i++) {
+			int start = overtimeRestMap.getStart(i);
+			int end = overtimeRestMap.getEnd(i);
 			if (end > twentyFourHours) {
 				if (start < twentyFourHours) {
 					start = twentyFourHours;
@@ -2411,16 +2044,16 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 			}
 			// 規定終業時刻後時間外前休憩時間
 			int totalOvertimeBeforeRest = 0;
-			for (Entry<Date, Date> entry : overtimeBeforeRestMap.entrySet()) {
-				int start = getDefferenceMinutes(workDate, entry.getKey());
-				int end = getDefferenceMinutes(workDate, entry.getValue());
+			for (int i = 0; i < overtimeBeforeRestMap.size(); i++) {
+				int start = overtimeBeforeRestMap.getStart(i);
+				int end = overtimeBeforeRestMap.getEnd(i);
 				totalOvertimeBeforeRest += end - start;
 			}
 			// 合計残業休憩時間
 			int totalOvertimeRest = 0;
-			for (Entry<Date, Date> entry : overtimeRestMap.entrySet()) {
-				int start = getDefferenceMinutes(workDate, entry.getKey());
-				int end = getDefferenceMinutes(workDate, entry.getValue());
+			for (int i = 0; i < overtimeRestMap.size(); i++) {
+				int start = overtimeRestMap.getStart(i);
+				int end = overtimeRestMap.getEnd(i);
 				totalOvertimeRest += end - start;
 			}
 			// 残業時間設定
@@ -2536,7 +2169,7 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 //			- before24HourPrivateGoOut
 					- prescribedWorkTime + lateTime + leaveEarlyTime + beforePaidLeaveMinute
 					+ beforeMinutelyHolidayMinute
-			
+
 //			+ afterPaidLeaveMinute+ afterMinutelyHolidayMinute
 			;
 			if (useShort1) {
@@ -2743,27 +2376,7 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 	 */
 	protected int getWorkTime(int start, int end) {
 		//  有休時間計算
-		int paidLeave = 0;
-		for (Entry<Date, Date> entry : paidLeaveHourMap.entrySet()) {
-			int paidLeaveStart = getDefferenceMinutes(workDate, entry.getKey());
-			int paidLeaveEnd = getDefferenceMinutes(workDate, entry.getValue());
-			if (paidLeaveStart >= end || paidLeaveEnd <= start) {
-				// 有給休暇開始時刻が終了時刻以後の場合
-				// 又は有給休暇終了時刻が開始時刻以前の場合
-				continue;
-			}
-			if (paidLeaveStart < start) {
-				// 有給休暇開始時刻が開始時刻より前の場合は
-				// 開始時刻を有給休暇開始時刻とする
-				paidLeaveStart = start;
-			}
-			if (paidLeaveEnd > end) {
-				// 有給休暇終了時刻が終了時刻より後の場合は
-				// 終了時刻を有給休暇終了時刻とする
-				paidLeaveEnd = end;
-			}
-			paidLeave += paidLeaveEnd - paidLeaveStart;
-		}
+		int paidLeave = paidLeaveHourMap.getMinutes(start, end);
 		int rest = 0;
 		for (RestDtoInterface dto : restDtoList) {
 			Date startTime = getRoundMinute(dto.getRestStart(), timeSettingDto.getRoundDailyRestStart(),
@@ -2784,36 +2397,8 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 			rest += getRoundMinute(endTimeInt - startTimeInt, timeSettingDto.getRoundDailyRestTime(),
 					timeSettingDto.getRoundDailyRestTimeUnit());
 		}
-		int overtimeBeforeRest = 0;
-		for (Entry<Date, Date> entry : overtimeBeforeRestMap.entrySet()) {
-			int startTimeInt = getDefferenceMinutes(workDate, entry.getKey());
-			int endTimeInt = getDefferenceMinutes(workDate, entry.getValue());
-			if (startTimeInt >= end || endTimeInt <= start) {
-				continue;
-			}
-			if (startTimeInt < start) {
-				startTimeInt = start;
-			}
-			if (endTimeInt > end) {
-				endTimeInt = end;
-			}
-			overtimeBeforeRest += endTimeInt - startTimeInt;
-		}
-		int overtimeRest = 0;
-		for (Entry<Date, Date> entry : overtimeRestMap.entrySet()) {
-			int startTimeInt = getDefferenceMinutes(workDate, entry.getKey());
-			int endTimeInt = getDefferenceMinutes(workDate, entry.getValue());
-			if (startTimeInt >= end || endTimeInt <= start) {
-				continue;
-			}
-			if (startTimeInt < start) {
-				startTimeInt = start;
-			}
-			if (endTimeInt > end) {
-				endTimeInt = end;
-			}
-			overtimeRest += endTimeInt - startTimeInt;
-		}
+		int overtimeBeforeRest = overtimeBeforeRestMap.getMinutes(start, end);
+		int overtimeRest = overtimeRestMap.getMinutes(start, end);
 		int publicGoOut = 0;
 		for (GoOutDtoInterface dto : publicGoOutDtoList) {
 			Date startTime = getRoundMinute(dto.getGoOutStart(), timeSettingDto.getRoundDailyPublicStart(),
@@ -3162,25 +2747,19 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 	 * 所定労働の計算
 	 */
 	protected void calcPrescribedWork() {
-		Map<Integer, Integer> map = new TreeMap<Integer, Integer>();
+		MinuteIntervalEntity map = new MinuteIntervalEntity();
 		// 遅刻休憩時間
-		for (Entry<Date, Date> entry : tardinessRestMap.entrySet()) {
-			map.put(getDefferenceMinutes(workDate, entry.getKey()), getDefferenceMinutes(workDate, entry.getValue()));
-		}
+		map.putAll(tardinessRestMap);
 		// 早退休憩時間
-		for (Entry<Date, Date> entry : leaveEarlyRestMap.entrySet()) {
-			map.put(getDefferenceMinutes(workDate, entry.getKey()), getDefferenceMinutes(workDate, entry.getValue()));
-		}
+		map.putAll(leaveEarlyRestMap);
 		// 休憩時間
 		for (RestDtoInterface dto : restDtoList) {
 			Date startTime = getRoundMinute(dto.getRestStart(), timeSettingDto.getRoundDailyRestStart(),
 					timeSettingDto.getRoundDailyRestStartUnit());
 			Date endTime = getRoundMinute(dto.getRestEnd(), timeSettingDto.getRoundDailyRestEnd(),
 					timeSettingDto.getRoundDailyRestEndUnit());
-			int startTimeInt = DateUtility.getHour(startTime, workDate) * TimeConst.CODE_DEFINITION_HOUR
-					+ DateUtility.getMinute(startTime);
-			int endTimeInt = DateUtility.getHour(endTime, workDate) * TimeConst.CODE_DEFINITION_HOUR
-					+ DateUtility.getMinute(endTime);
+			int startTimeInt = getDefferenceMinutes(workDate, startTime);
+			int endTimeInt = getDefferenceMinutes(workDate, endTime);
 			if (startTimeInt >= regWorkEnd || endTimeInt <= regWorkStart) {
 				continue;
 			}
@@ -3190,19 +2769,14 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 			if (endTimeInt > regWorkEnd) {
 				endTimeInt = regWorkEnd;
 			}
-			if (map.containsKey(startTimeInt)) {
-				if (map.get(startTimeInt).intValue() >= endTimeInt) {
-					continue;
-				}
-			}
-			map.put(startTimeInt, endTimeInt);
+			map.putLonger(startTimeInt, endTimeInt);
 		}
 		int time = regWorkStart;
 		// 労働時間
 		int totalWork = 0;
-		for (Entry<Integer, Integer> entry : map.entrySet()) {
-			int mapStart = entry.getKey().intValue();
-			int mapEnd = entry.getValue().intValue();
+		for (int i = 0; i < map.size(); i++) {
+			int mapStart = map.getStart(i);
+			int mapEnd = map.getEnd(i);
 			if (time <= mapStart) {
 				int addWork = mapStart - time;
 				if (totalWork + addWork >= prescribedWorkTime) {
@@ -3271,78 +2845,25 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 	 * @param i i
 	 */
 	private void calcNightWorkTime(int regNightWorkStart, int regNightWorkEnd, int i) {
-		// 始業時刻が規定深夜労働終了時刻以後又は終業時刻が規定深夜労働開始時刻以前の場合
-		if (calculatedStart >= regNightWorkEnd || calculatedEnd <= regNightWorkStart) {
+		// 勤怠計算上の始業時刻から終業時刻までのうち規定深夜労働時間帯の部分
+		MinuteIntervalEntity nightWindow = getWorkIntervals(calculatedStart, calculatedEnd, regNightWorkStart,
+				regNightWorkEnd);
+		// 規定深夜労働時間帯に勤務していない場合
+		if (nightWindow.isEmpty()) {
 			nightWorkArray[i] = 0;
 			nightRestArray[i] = 0;
 			return;
 		}
 		// 深夜労働開始時刻
-		int nightWorkStart = regNightWorkStart;
-		if (calculatedStart >= regNightWorkStart) {
-			// 始業時刻が規定深夜労働開始時刻以後の場合は
-			// 始業時刻を深夜労働開始時刻とする
-			nightWorkStart = calculatedStart;
-		}
+		int nightWorkStart = nightWindow.getStart(0);
 		// 深夜労働終了時刻
-		int nightWorkEnd = regNightWorkEnd;
-		if (calculatedEnd <= regNightWorkEnd) {
-			// 終業時刻が規定深夜労働終了時刻以前の場合は
-			// 終業時刻を深夜労働終了時刻とする
-			nightWorkEnd = calculatedEnd;
-		}
+		int nightWorkEnd = nightWindow.getEnd(0);
 		// 深夜労働開始時刻から深夜労働終了時刻までの合計有給休暇時間
-		int totalPaidLeave = 0;
-		for (Entry<Date, Date> entry : paidLeaveHourMap.entrySet()) {
-			int paidLeaveStart = getDefferenceMinutes(workDate, entry.getKey());
-			int paidLeaveEnd = getDefferenceMinutes(workDate, entry.getValue());
-			if (paidLeaveStart >= nightWorkEnd || paidLeaveEnd <= nightWorkStart) {
-				// 有給休暇開始時刻が深夜労働終了時刻以後の場合
-				// 又は有給休暇終了時刻が深夜労働開始時刻以前の場合
-				continue;
-			}
-			if (paidLeaveStart < nightWorkStart) {
-				// 有給休暇開始時刻が深夜労働開始時刻より前の場合は
-				// 深夜労働開始時刻を有給休暇開始時刻とする
-				paidLeaveStart = nightWorkStart;
-			}
-			if (paidLeaveEnd > nightWorkEnd) {
-				// 有給休暇終了時刻が深夜労働終了時刻より後の場合は
-				// 深夜労働終了時刻を有給休暇終了時刻とする
-				paidLeaveEnd = nightWorkEnd;
-			}
-			totalPaidLeave += paidLeaveEnd - paidLeaveStart;
-		}
+		int totalPaidLeave = paidLeaveHourMap.getMinutes(nightWorkStart, nightWorkEnd);
 		// 深夜労働開始時刻から深夜労働終了時刻までの合計規定終業時刻後時間外前休憩時間
-		int totalOvertimeBeforeRest = 0;
-		for (Entry<Date, Date> entry : overtimeBeforeRestMap.entrySet()) {
-			int start = getDefferenceMinutes(workDate, entry.getKey());
-			int end = getDefferenceMinutes(workDate, entry.getValue());
-			if (start < nightWorkEnd && end > nightWorkStart) {
-				if (start < nightWorkStart) {
-					start = nightWorkStart;
-				}
-				if (end > nightWorkEnd) {
-					end = nightWorkEnd;
-				}
-				totalOvertimeBeforeRest += end - start;
-			}
-		}
+		int totalOvertimeBeforeRest = overtimeBeforeRestMap.getMinutes(nightWorkStart, nightWorkEnd);
 		// 深夜労働開始時刻から深夜労働終了時刻までの合計残業休憩時間
-		int totalOvertimeRest = 0;
-		for (Entry<Date, Date> entry : overtimeRestMap.entrySet()) {
-			int start = getDefferenceMinutes(workDate, entry.getKey());
-			int end = getDefferenceMinutes(workDate, entry.getValue());
-			if (start < nightWorkEnd && end > nightWorkStart) {
-				if (start < nightWorkStart) {
-					start = nightWorkStart;
-				}
-				if (end > nightWorkEnd) {
-					end = nightWorkEnd;
-				}
-				totalOvertimeRest += end - start;
-			}
-		}
+		int totalOvertimeRest = overtimeRestMap.getMinutes(nightWorkStart, nightWorkEnd);
 		// 深夜労働開始時刻から深夜労働終了時刻までの合計手動休憩時間
 		int totalManualRest = 0;
 		for (RestDtoInterface dto : restDtoList) {
@@ -3563,46 +3084,19 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 	 * @return 深夜休日労働時間
 	 */
 	protected int getNightWork(int regNightWorkStart, int regNightWorkEnd) {
-		// 始業時刻が規定深夜労働終了時刻以後又は終業時刻が規定深夜労働開始時刻以前の場合
-		if (calculatedStart >= regNightWorkEnd || calculatedEnd <= regNightWorkStart) {
+		// 勤怠計算上の始業時刻から終業時刻までのうち規定深夜労働時間帯の部分
+		MinuteIntervalEntity nightWindow = getWorkIntervals(calculatedStart, calculatedEnd, regNightWorkStart,
+				regNightWorkEnd);
+		// 規定深夜労働時間帯に勤務していない場合
+		if (nightWindow.isEmpty()) {
 			return 0;
 		}
 		// 深夜労働開始時刻
-		int nightWorkStart = regNightWorkStart;
-		if (calculatedStart >= regNightWorkStart) {
-			// 始業時刻が規定深夜労働開始時刻以後の場合は
-			// 始業時刻を深夜労働開始時刻とする
-			nightWorkStart = calculatedStart;
-		}
+		int nightWorkStart = nightWindow.getStart(0);
 		// 深夜労働終了時刻
-		int nightWorkEnd = regNightWorkEnd;
-		if (calculatedEnd <= regNightWorkEnd) {
-			// 終業時刻が規定深夜労働終了時刻以前の場合は
-			// 終業時刻を深夜労働終了時刻とする
-			nightWorkEnd = calculatedEnd;
-		}
+		int nightWorkEnd = nightWindow.getEnd(0);
 		// 深夜労働開始時刻から深夜労働終了時刻までの合計有給休暇時間
-		int totalPaidLeave = 0;
-		for (Entry<Date, Date> entry : paidLeaveHourMap.entrySet()) {
-			int paidLeaveStart = getDefferenceMinutes(workDate, entry.getKey());
-			int paidLeaveEnd = getDefferenceMinutes(workDate, entry.getValue());
-			if (paidLeaveStart >= nightWorkEnd || paidLeaveEnd <= nightWorkStart) {
-				// 有給休暇開始時刻が深夜労働終了時刻以後の場合
-				// 又は有給休暇終了時刻が深夜労働開始時刻以前の場合
-				continue;
-			}
-			if (paidLeaveStart < nightWorkStart) {
-				// 有給休暇開始時刻が深夜労働開始時刻より前の場合は
-				// 深夜労働開始時刻を有給休暇開始時刻とする
-				paidLeaveStart = nightWorkStart;
-			}
-			if (paidLeaveEnd > nightWorkEnd) {
-				// 有給休暇終了時刻が深夜労働終了時刻より後の場合は
-				// 深夜労働終了時刻を有給休暇終了時刻とする
-				paidLeaveEnd = nightWorkEnd;
-			}
-			totalPaidLeave += paidLeaveEnd - paidLeaveStart;
-		}
+		int totalPaidLeave = paidLeaveHourMap.getMinutes(nightWorkStart, nightWorkEnd);
 		// 深夜労働開始時刻から深夜労働終了時刻までの合計規定終業時刻後時間外前休憩時間
 		int totalOvertimeBeforeRest = 0;
 		// 深夜労働開始時刻から深夜労働終了時刻までの合計残業休憩時間
@@ -3611,32 +3105,8 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 		int totalManualRest = 0;
 		if (!workTypeEntity.isNightRestExclude()) {
 			// 割増休憩除外が有効でない場合
-			for (Entry<Date, Date> entry : overtimeBeforeRestMap.entrySet()) {
-				int start = getDefferenceMinutes(workDate, entry.getKey());
-				int end = getDefferenceMinutes(workDate, entry.getValue());
-				if (start < nightWorkEnd && end > nightWorkStart) {
-					if (start < nightWorkStart) {
-						start = nightWorkStart;
-					}
-					if (end > nightWorkEnd) {
-						end = nightWorkEnd;
-					}
-					totalOvertimeBeforeRest += end - start;
-				}
-			}
-			for (Entry<Date, Date> entry : overtimeRestMap.entrySet()) {
-				int start = getDefferenceMinutes(workDate, entry.getKey());
-				int end = getDefferenceMinutes(workDate, entry.getValue());
-				if (start < nightWorkEnd && end > nightWorkStart) {
-					if (start < nightWorkStart) {
-						start = nightWorkStart;
-					}
-					if (end > nightWorkEnd) {
-						end = nightWorkEnd;
-					}
-					totalOvertimeRest += end - start;
-				}
-			}
+			totalOvertimeBeforeRest += overtimeBeforeRestMap.getMinutes(nightWorkStart, nightWorkEnd);
+			totalOvertimeRest += overtimeRestMap.getMinutes(nightWorkStart, nightWorkEnd);
 			for (RestDtoInterface dto : restDtoList) {
 				Date startTime = getRoundMinute(dto.getRestStart(), timeSettingDto.getRoundDailyRestStart(),
 						timeSettingDto.getRoundDailyRestStartUnit());
@@ -4216,16 +3686,17 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 		totalAfter24HourOvertimeRest = 0;
 		totalAfter24HourPublicGoOut = 0;
 		totalAfter24HourPrivateGoOut = 0;
-		regRestMap = new TreeMap<Date, Date>();
-		tardinessRestMap = new TreeMap<Date, Date>();
-		leaveEarlyRestMap = new TreeMap<Date, Date>();
-		overtimeBeforeRestMap = new TreeMap<Date, Date>();
-		overtimeRestMap = new TreeMap<Date, Date>();
+		regRestMap = getClearedIntervals(regRestMap);
+		tardinessRestMap = getClearedIntervals(tardinessRestMap);
+		leaveEarlyRestMap = getClearedIntervals(leaveEarlyRestMap);
+		overtimeBeforeRestMap = getClearedIntervals(overtimeBeforeRestMap);
+		overtimeRestMap = getClearedIntervals(overtimeRestMap);
+		workIntervals = getClearedIntervals(workIntervals);
 		isPaidLeaveAm = false;
 		isPaidLeavePm = false;
-		paidLeaveHourMap = new TreeMap<Date, Date>();
-		minutelyHolidayAMap = new TreeMap<Date, Date>();
-		minutelyHolidayBMap = new TreeMap<Date, Date>();
+		paidLeaveHourMap = getClearedIntervals(paidLeaveHourMap);
+		minutelyHolidayAMap = getClearedIntervals(minutelyHolidayAMap);
+		minutelyHolidayBMap = getClearedIntervals(minutelyHolidayBMap);
 		paidLeaveHour = 0;
 		beforePaidLeaveMinute = 0;
 		beforeMinutelyHolidayMinute = 0;
@@ -4659,7 +4130,8 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 				if (is1PaidLeave && is2PaidLeave) {
 					// 有給休暇の場合は使用時間数を加算する
 					paidLeaveHour += dto.getUseHour();
-					paidLeaveHourMap.put(dto.getStartTime(), dto.getEndTime());
+					paidLeaveHourMap.put(getDefferenceMinutes(workDate, dto.getStartTime()),
+							getDefferenceMinutes(workDate, dto.getEndTime()));
 				}
 			}
 		}
@@ -4925,14 +4397,8 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 	 * @return 確認結果(true：時間単位有給休暇に含まれる、false：含まれない)
 	 */
 	protected boolean isIncludedInHourlyPaidHoliday(Date targetTime) {
-		// 時間単位有給休暇情報毎に処理
-		for (Entry<Date, Date> entry : paidLeaveHourMap.entrySet()) {
-			// 対象時刻が時間単位有給休暇に含まれるかを確認
-			if (targetTime.before(entry.getKey()) == false && targetTime.after(entry.getValue()) == false) {
-				return true;
-			}
-		}
-		return false;
+		// 対象時刻が時間単位有給休暇に含まれるかを確認
+		return paidLeaveHourMap.isIncluded(getDefferenceMinutes(workDate, targetTime));
 	}
 	
 	/**
@@ -5160,10 +4626,8 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 					timeSettingDto.getRoundDailyRestStartUnit());
 			Date endTime = getRoundMinute(dto.getRestEnd(), timeSettingDto.getRoundDailyRestEnd(),
 					timeSettingDto.getRoundDailyRestEndUnit());
-			int start = DateUtility.getHour(startTime, workDate) * TimeConst.CODE_DEFINITION_HOUR
-					+ DateUtility.getMinute(startTime);
-			int end = DateUtility.getHour(endTime, workDate) * TimeConst.CODE_DEFINITION_HOUR
-					+ DateUtility.getMinute(endTime);
+			int start = getDefferenceMinutes(workDate, startTime);
+			int end = getDefferenceMinutes(workDate, endTime);
 			if (start < regWorkStart && end > calculatedStart) {
 				// 休憩開始時刻が規定始業時刻より前で且つ
 				// 休憩終了時刻が勤怠計算上の始業時刻より後の場合
@@ -5187,10 +4651,8 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 					timeSettingDto.getRoundDailyPublicStartUnit());
 			Date endTime = getRoundMinute(dto.getGoOutEnd(), timeSettingDto.getRoundDailyPublicEnd(),
 					timeSettingDto.getRoundDailyPublicEndUnit());
-			int start = DateUtility.getHour(startTime, workDate) * TimeConst.CODE_DEFINITION_HOUR
-					+ DateUtility.getMinute(startTime);
-			int end = DateUtility.getHour(endTime, workDate) * TimeConst.CODE_DEFINITION_HOUR
-					+ DateUtility.getMinute(endTime);
+			int start = getDefferenceMinutes(workDate, startTime);
+			int end = getDefferenceMinutes(workDate, endTime);
 			if (start < regWorkStart && end > calculatedStart) {
 				// 外出開始時刻が規定始業時刻より前で且つ
 				// 外出終了時刻が勤怠計算上の始業時刻より後の場合
@@ -5214,10 +4676,8 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 					timeSettingDto.getRoundDailyPrivateStartUnit());
 			Date endTime = getRoundMinute(dto.getGoOutEnd(), timeSettingDto.getRoundDailyPrivateEnd(),
 					timeSettingDto.getRoundDailyPrivateEndUnit());
-			int start = DateUtility.getHour(startTime, workDate) * TimeConst.CODE_DEFINITION_HOUR
-					+ DateUtility.getMinute(startTime);
-			int end = DateUtility.getHour(endTime, workDate) * TimeConst.CODE_DEFINITION_HOUR
-					+ DateUtility.getMinute(endTime);
+			int start = getDefferenceMinutes(workDate, startTime);
+			int end = getDefferenceMinutes(workDate, endTime);
 			if (start < regWorkStart && end > calculatedStart) {
 				// 外出開始時刻が規定始業時刻より前で且つ
 				// 外出終了時刻が勤怠計算上の始業時刻より後の場合
@@ -5239,10 +4699,8 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 		for (GoOutDtoInterface dto : minutelyHolidayADtoList) {
 			Date startTime = dto.getGoOutStart();
 			Date endTime = dto.getGoOutEnd();
-			int start = DateUtility.getHour(startTime, workDate) * TimeConst.CODE_DEFINITION_HOUR
-					+ DateUtility.getMinute(startTime);
-			int end = DateUtility.getHour(endTime, workDate) * TimeConst.CODE_DEFINITION_HOUR
-					+ DateUtility.getMinute(endTime);
+			int start = getDefferenceMinutes(workDate, startTime);
+			int end = getDefferenceMinutes(workDate, endTime);
 			if (start < regWorkStart && end > calculatedStart) {
 				// 外出開始時刻が規定始業時刻より前で且つ
 				// 外出終了時刻が勤怠計算上の始業時刻より後の場合
@@ -5264,10 +4722,8 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 		for (GoOutDtoInterface dto : minutelyHolidayBDtoList) {
 			Date startTime = dto.getGoOutStart();
 			Date endTime = dto.getGoOutEnd();
-			int start = DateUtility.getHour(startTime, workDate) * TimeConst.CODE_DEFINITION_HOUR
-					+ DateUtility.getMinute(startTime);
-			int end = DateUtility.getHour(endTime, workDate) * TimeConst.CODE_DEFINITION_HOUR
-					+ DateUtility.getMinute(endTime);
+			int start = getDefferenceMinutes(workDate, startTime);
+			int end = getDefferenceMinutes(workDate, endTime);
 			if (start < regWorkStart && end > calculatedStart) {
 				// 外出開始時刻が規定始業時刻より前で且つ
 				// 外出終了時刻が勤怠計算上の始業時刻より後の場合
@@ -5300,24 +4756,18 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 	 */
 	protected int getRoundStartTime(int actualWorkBegin, int betweenTime) {
 		// 全丸めマップ準備
-		Map<Date, Date> roundStartTimeMap = new TreeMap<Date, Date>();
+		MinuteIntervalEntity roundStartTimeMap = new MinuteIntervalEntity();
 		// 時間休・分単位A・分単位Bを全丸めマップに設定
-		for (Entry<Date, Date> entry : paidLeaveHourMap.entrySet()) {
-			roundStartTimeMap.put(entry.getKey(), entry.getValue());
-		}
-		for (Entry<Date, Date> entry : minutelyHolidayAMap.entrySet()) {
-			roundStartTimeMap.put(entry.getKey(), entry.getValue());
-		}
-		for (Entry<Date, Date> entry : minutelyHolidayBMap.entrySet()) {
-			roundStartTimeMap.put(entry.getKey(), entry.getValue());
-		}
+		roundStartTimeMap.putAll(paidLeaveHourMap);
+		roundStartTimeMap.putAll(minutelyHolidayAMap);
+		roundStartTimeMap.putAll(minutelyHolidayBMap);
 		// 
 		int roundLeaveEnd = actualWorkBegin;
 		// 全丸めマップ毎に処理
-		for (Entry<Date, Date> entry : roundStartTimeMap.entrySet()) {
+		for (int i = 0; i < roundStartTimeMap.size(); i++) {
 			// 開始時刻・終了時刻取得
-			int leaveHourStart = getDefferenceMinutes(workDate, entry.getKey());
-			int leaveHourEnd = getDefferenceMinutes(workDate, entry.getValue());
+			int leaveHourStart = roundStartTimeMap.getStart(i);
+			int leaveHourEnd = roundStartTimeMap.getEnd(i);
 			// 開始時刻以後且つ終了時刻より前の場合
 			if (roundLeaveEnd >= leaveHourStart && roundLeaveEnd < leaveHourEnd) {
 				// 有給休暇終了時刻を有休終了時間に設定
@@ -5464,27 +4914,27 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 			// 分単位休暇毎に処理
 			while (whileFlag) {
 				whileFlag = false;
-				for (Entry<Date, Date> entry : minutelyHolidayAMap.entrySet()) {
-					int minutelyHolidayStart = getDefferenceMinutes(workDate, entry.getKey());
-					int minutelyHolidayEnd = getDefferenceMinutes(workDate, entry.getValue());
+				for (int i = 0; i < minutelyHolidayAMap.size(); i++) {
+					int minutelyHolidayStart = minutelyHolidayAMap.getStart(i);
+					int minutelyHolidayEnd = minutelyHolidayAMap.getEnd(i);
 					if (paidLeaveStart > minutelyHolidayStart && paidLeaveStart <= minutelyHolidayEnd) {
 						// 分単位休暇開始時刻以後且つ分単位休暇終了時刻より前の場合
 						paidLeaveStart = minutelyHolidayStart;
 						whileFlag = true;
 					}
 				}
-				for (Entry<Date, Date> entry : minutelyHolidayBMap.entrySet()) {
-					int minutelyHolidayStart = getDefferenceMinutes(workDate, entry.getKey());
-					int minutelyHolidayEnd = getDefferenceMinutes(workDate, entry.getValue());
+				for (int i = 0; i < minutelyHolidayBMap.size(); i++) {
+					int minutelyHolidayStart = minutelyHolidayBMap.getStart(i);
+					int minutelyHolidayEnd = minutelyHolidayBMap.getEnd(i);
 					if (paidLeaveStart > minutelyHolidayStart && paidLeaveStart <= minutelyHolidayEnd) {
 						// 分単位休暇開始時刻以後且つ分単位休暇終了時刻より前の場合
 						paidLeaveStart = minutelyHolidayStart;
 						whileFlag = true;
 					}
 				}
-				for (Entry<Date, Date> entry : paidLeaveHourMap.entrySet()) {
-					int paidLeaveHourStart = getDefferenceMinutes(workDate, entry.getKey());
-					int paidLeaveHourEnd = getDefferenceMinutes(workDate, entry.getValue());
+				for (int i = 0; i < paidLeaveHourMap.size(); i++) {
+					int paidLeaveHourStart = paidLeaveHourMap.getStart(i);
+					int paidLeaveHourEnd = paidLeaveHourMap.getEnd(i);
 					if (paidLeaveStart > paidLeaveHourStart && paidLeaveStart <= paidLeaveHourEnd) {
 						// 時間休開始時刻以後且つ時間休終了時刻より前の場合
 						paidLeaveStart = paidLeaveHourStart;
@@ -5879,8 +5329,10 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 	 * @return 重複時間配列
 	 */
 	protected Date[] getOverlapOvertimeBeforeRestArray(Date startTime, Date endTime) {
-		for (Entry<Date, Date> entry : overtimeBeforeRestMap.entrySet()) {
-			Date[] array = getOverlapArray(startTime, endTime, entry.getKey(), entry.getValue());
+		for (int i = 0; i < overtimeBeforeRestMap.size(); i++) {
+			Date[] array = getOverlapArray(startTime, endTime,
+					getAttendanceTime(workDate, overtimeBeforeRestMap.getStart(i)),
+					getAttendanceTime(workDate, overtimeBeforeRestMap.getEnd(i)));
 			if (array.length == 0) {
 				continue;
 			}
@@ -5896,8 +5348,9 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 	 * @return 重複時間配列
 	 */
 	protected Date[] getOverlapOvertimeRestArray(Date startTime, Date endTime) {
-		for (Entry<Date, Date> entry : overtimeRestMap.entrySet()) {
-			Date[] array = getOverlapArray(startTime, endTime, entry.getKey(), entry.getValue());
+		for (int i = 0; i < overtimeRestMap.size(); i++) {
+			Date[] array = getOverlapArray(startTime, endTime, getAttendanceTime(workDate, overtimeRestMap.getStart(i)),
+					getAttendanceTime(workDate, overtimeRestMap.getEnd(i)));
 			if (array.length == 0) {
 				continue;
 			}
@@ -6096,6 +5549,51 @@ public class AttendanceCalcBean extends TimeBean implements AttendanceCalcBeanIn
 		return super.getDefferenceMinutes(startTime, endTime);
 	}
 	
+	/**
+	 * 時間帯を全て削除した分単位時間帯エンティティを取得する。<br>
+	 * 日毎の計算で配列を使い回すため、対象が存在する場合は削除して返す。<br>
+	 * @param intervals 対象分単位時間帯エンティティ
+	 * @return 分単位時間帯エンティティ
+	 */
+	protected MinuteIntervalEntity getClearedIntervals(MinuteIntervalEntity intervals) {
+		if (intervals == null) {
+			return new MinuteIntervalEntity();
+		}
+		intervals.clear();
+		return intervals;
+	}
+	
+	/**
+	 * 時間帯のうち対象時間帯の部分を、作業用時間帯として取得する。<br>
+	 * 作業用時間帯は使い回すため、次に作業用時間帯を取得するまでの間だけ用いる。<br>
+	 * @param intervals 時間帯
+	 * @param from      対象開始分
+	 * @param to        対象終了分
+	 * @return 作業用時間帯
+	 */
+	protected MinuteIntervalEntity getWorkIntervals(MinuteIntervalEntity intervals, int from, int to) {
+		workIntervals = getClearedIntervals(workIntervals);
+		workIntervals.putAll(intervals);
+		workIntervals.clip(from, to);
+		return workIntervals;
+	}
+	
+	/**
+	 * 時間帯のうち対象時間帯の部分を、作業用時間帯として取得する。<br>
+	 * 作業用時間帯は使い回すため、次に作業用時間帯を取得するまでの間だけ用いる。<br>
+	 * @param start 開始分
+	 * @param end   終了分
+	 * @param from  対象開始分
+	 * @param to    対象終了分
+	 * @return 作業用時間帯
+	 */
+	protected MinuteIntervalEntity getWorkIntervals(int start, int end, int from, int to) {
+		workIntervals = getClearedIntervals(workIntervals);
+		workIntervals.put(start, end);
+		workIntervals.clip(from, to);
+		return workIntervals;
+	}
+	
 	/**
 	 * 時刻を日付オブジェクトに変換し取得する。<br>
 	 * 時刻は分単位とする。<br>
@@ -20,9 +20,12 @@ package jp.mosp.time.bean.impl;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.TreeMap;
 
 import jp.mosp.framework.base.MospException;
@@ -31,6 +34,7 @@ import jp.mosp.framework.constant.MospConst;
 import jp.mosp.framework.utils.DateUtility;
 import jp.mosp.platform.bean.human.EntranceReferenceBeanInterface;
 import jp.mosp.platform.bean.human.RetirementReferenceBeanInterface;
+import jp.mosp.platform.bean.portal.impl.PortalSnapshotCache;
 import jp.mosp.platform.bean.workflow.WorkflowCommentReferenceBeanInterface;
 import jp.mosp.platform.bean.workflow.WorkflowCommentRegistBeanInterface;
 import jp.mosp.platform.bean.workflow.WorkflowIntegrateBeanInterface;
@@ -77,6 +81,7 @@ import jp.mosp.time.dto.settings.WorkTypeItemDtoInterface;
 import jp.mosp.time.dto.settings.impl.TmdAttendanceDto;
 import jp.mosp.time.entity.WorkTypeEntity;
 import jp.mosp.time.utils.TimeMessageUtility;
+import jp.mosp.time.utils.TimeUtility;
 
 /**
  * 勤怠データ登録クラス。
@@ -248,6 +253,96 @@ public class AttendanceRegistBean extends TimeApplicationBean implements Attenda
 		}
 	}
 	
+	@Override
+	public void regist(List<AttendanceDtoInterface> list) throws MospException {
+		if (list.isEmpty()) {
+			return;
+		}
+		// 対象個人IDセット及び対象期間を取得
+		Set<String> personalIdSet = new HashSet<String>();
+		Date startDate = null;
+		Date endDate = null;
+		for (AttendanceDtoInterface dto : list) {
+			personalIdSet.add(dto.getPersonalId());
+			if (startDate == null || dto.getWorkDate().before(startDate)) {
+				startDate = dto.getWorkDate();
+			}
+			if (endDate == null || dto.getWorkDate().after(endDate)) {
+				endDate = dto.getWorkDate();
+			}
+		}
+		// 対象期間の勤怠データ(履歴)をまとめて取得
+		Map<String, List<AttendanceDtoInterface>> historyMap = new HashMap<String, List<AttendanceDtoInterface>>();
+		for (AttendanceDtoInterface dto : dao.findForList(personalIdSet, startDate, endDate, false)) {
+			String key = getAttendanceKey(dto);
+			List<AttendanceDtoInterface> historyList = historyMap.get(key);
+			if (historyList == null) {
+				historyList = new ArrayList<AttendanceDtoInterface>();
+				historyMap.put(key, historyList);
+			}
+			historyList.add(dto);
+		}
+		// 対象期間の勤怠データ(取下以外)をまとめて取得
+		Set<String> registeredSet = new HashSet<String>();
+		for (AttendanceDtoInterface dto : dao.findForList(personalIdSet, startDate, endDate, true)) {
+			registeredSet.add(getAttendanceKey(dto));
+		}
+		// 論理削除対象レコード識別IDリスト準備
+		List<Long> deleteIdList = new ArrayList<Long>();
+		for (AttendanceDtoInterface dto : list) {
+			// DTOの妥当性確認
+			validate(dto);
+			String key = getAttendanceKey(dto);
+			List<AttendanceDtoInterface> historyList = historyMap.get(key);
+			if (historyList == null) {
+				historyList = new ArrayList<AttendanceDtoInterface>();
+			}
+			if (registeredSet.contains(key) == false) {
+				// 新規登録時は重複確認
+				checkDuplicateInsert(historyList);
+				continue;
+			}
+			// 履歴追加時は対象レコード識別IDのデータが削除されていないかを確認
+			AttendanceDtoInterface formerDto = null;
+			for (AttendanceDtoInterface historyDto : historyList) {
+				if (historyDto.getTmdAttendanceId() == dto.getTmdAttendanceId()) {
+					formerDto = historyDto;
+				}
+			}
+			checkExclusive(formerDto);
+			deleteIdList.add(dto.getTmdAttendanceId());
+		}
+		if (mospParams.hasErrorMessage()) {
+			return;
+		}
+		// 論理削除
+		if (dao.logicalDeleteAll(deleteIdList) != deleteIdList.size()) {
+			// 他の処理で削除された場合
+			addExclusiveErrorMessage();
+			return;
+		}
+		// レコード識別IDをまとめて取得してDTOに設定
+		long[] recordIds = dao.nextRecordIds(list.size());
+		for (int i = 0; i < list.size(); i++) {
+			list.get(i).setTmdAttendanceId(recordIds[i]);
+		}
+		// 登録処理
+		dao.insertAll(list);
+		// ポータル表示情報破棄
+		for (String personalId : personalIdSet) {
+			PortalSnapshotCache.invalidate(personalId);
+		}
+	}
+	
+	/**
+	 * 勤怠データのキー(個人ID、勤務日、勤務回数)を表す文字列を取得する。<br>
+	 * @param dto 対象DTO
+	 * @return キー文字列
+	 */
+	protected String getAttendanceKey(AttendanceDtoInterface dto) {
+		return TimeUtility.getAttendanceKey(dto.getPersonalId(), dto.getWorkDate(), dto.getTimesWork());
+	}
+	
 	@Override
 	public void insert(AttendanceDtoInterface dto) throws MospException {
 		// DTOの妥当性確認
@@ -264,6 +359,8 @@ public class AttendanceRegistBean extends TimeApplicationBean implements Attenda
 		dto.setTmdAttendanceId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// ポータル表示情報破棄
+		PortalSnapshotCache.invalidate(dto.getPersonalId());
 	}
 	
 	@Override
@@ -284,6 +381,8 @@ public class AttendanceRegistBean extends TimeApplicationBean implements Attenda
 		dto.setTmdAttendanceId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// ポータル表示情報破棄
+		PortalSnapshotCache.invalidate(dto.getPersonalId());
 	}
 	
 	/**
@@ -0,0 +1,200 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bean.impl;
+
+import jp.mosp.framework.base.DBConnBean;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.instance.InstanceFactory;
+import jp.mosp.orangesignal.CsvRowCursorInterface;
+import jp.mosp.time.bean.ExportTableReferenceBeanInterface;
+
+/**
+ * エクスポートテーブルCSV行カーソル。<br>
+ * <br>
+ * ファイル送出時に専用のDBコネクションを取得してエクスポートテーブル参照クラスで検索し、
+ * 検索結果を一行ずつ提供する。<br>
+ * アクションのDBコネクションはファイル送出前に開放されるため、専用のDBコネクションを用いる。<br>
+ * 最初の行の取得時に検索を行い、{@link #close()}でDBコネクションを開放する。<br>
+ */
+public class ExportTableCursor implements CsvRowCursorInterface {
+	
+	/**
+	 * MosP処理情報。<br>
+	 */
+	protected MospParams						mospParams;
+	
+	/**
+	 * エクスポートコード。<br>
+	 */
+	protected String							exportCode;
+	
+	/**
+	 * 開始年。<br>
+	 */
+	protected int								startYear;
+	
+	/**
+	 * 開始月。<br>
+	 */
+	protected int								startMonth;
+	
+	/**
+	 * 終了年。<br>
+	 */
+	protected int								endYear;
+	
+	/**
+	 * 終了月。<br>
+	 */
+	protected int								endMonth;
+	
+	/**
+	 * 締日コード。<br>
+	 */
+	protected String							cutoffCode;
+	
+	/**
+	 * 勤務地コード。<br>
+	 */
+	protected String							workPlaceCode;
+	
+	/**
+	 * 雇用契約コード。<br>
+	 */
+	protected String							employmentCode;
+	
+	/**
+	 * 所属コード。<br>
+	 */
+	protected String							sectionCode;
+	
+	/**
+	 * 職位コード。<br>
+	 */
+	protected String							positionCode;
+	
+	/**
+	 * 専用のDBコネクション(検索前はnull)。<br>
+	 */
+	protected DBConnBean						dbConnBean;
+	
+	/**
+	 * エクスポートテーブル参照クラス(検索前はnull)。<br>
+	 */
+	protected ExportTableReferenceBeanInterface	exportTable;
+	
+	/**
+	 * 終了フラグ。<br>
+	 */
+	protected boolean							isClosed;
+	
+	
+	/**
+	 * エクスポートテーブルCSV行カーソルを生成する。<br>
+	 * @param mospParams     MosP処理情報
+	 * @param exportCode     エクスポートコード
+	 * @param startYear      開始年
+	 * @param startMonth     開始月
+	 * @param endYear        終了年
+	 * @param endMonth       終了月
+	 * @param cutoffCode     締日コード
+	 * @param workPlaceCode  勤務地コード
+	 * @param employmentCode 雇用契約コード
+	 * @param sectionCode    所属コード
+	 * @param positionCode   職位コード
+	 */
+	public ExportTableCursor(MospParams mospParams, String exportCode, int startYear, int startMonth, int endYear,
+			int endMonth, String cutoffCode, String workPlaceCode, String employmentCode, String sectionCode,
+			String positionCode) {
+		this.mospParams = mospParams;
+		this.exportCode = exportCode;
+		this.startYear = startYear;
+		this.startMonth = startMonth;
+		this.endYear = endYear;
+		this.endMonth = endMonth;
+		this.cutoffCode = cutoffCode;
+		this.workPlaceCode = workPlaceCode;
+		this.employmentCode = employmentCode;
+		this.sectionCode = sectionCode;
+		this.positionCode = positionCode;
+	}
+	
+	@Override
+	public String[] next() throws MospException {
+		// 終了確認
+		if (isClosed) {
+			return null;
+		}
+		// 検索前である場合
+		if (exportTable == null && open() == false) {
+			return null;
+		}
+		return exportTable.nextRow();
+	}
+	
+	@Override
+	public void close() throws MospException {
+		// 終了確認
+		if (isClosed) {
+			return;
+		}
+		isClosed = true;
+		try {
+			// エクスポートカーソル終了
+			if (exportTable != null) {
+				exportTable.closeCursor();
+			}
+		} finally {
+			// DBコネクション開放
+			if (dbConnBean != null) {
+				dbConnBean.releaseConnection();
+			}
+		}
+	}
+	
+	/**
+	 * 専用のDBコネクションを取得し、検索を行う。<br>
+	 * @return 検索結果(true：検索済、false：エクスポート情報が存在しない)
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	protected boolean open() throws MospException {
+		// 専用のDBコネクションを取得
+		dbConnBean = new DBConnBean(mospParams);
+		// エクスポートテーブル参照クラスを取得し検索条件を設定
+		ExportTableReferenceBeanInterface bean = (ExportTableReferenceBeanInterface)InstanceFactory.loadBean(
+				ExportTableReferenceBeanInterface.class, mospParams, dbConnBean.getConnection());
+		bean.setExportCode(exportCode);
+		bean.setStartYear(startYear);
+		bean.setStartMonth(startMonth);
+		bean.setEndYear(endYear);
+		bean.setEndMonth(endMonth);
+		bean.setCutoffCode(cutoffCode);
+		bean.setWorkPlaceCode(workPlaceCode);
+		bean.setEmploymentCode(employmentCode);
+		bean.setSectionCode(sectionCode);
+		bean.setPositionCode(positionCode);
+		// エクスポートカーソル準備
+		if (bean.openCursor() == false) {
+			return false;
+		}
+		exportTable = bean;
+		return true;
+	}
+	
+}
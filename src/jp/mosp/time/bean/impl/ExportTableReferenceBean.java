@@ -22,6 +22,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 
 import jp.mosp.framework.base.MospException;
@@ -155,6 +156,76 @@ public class ExportTableReferenceBean extends PlatformBean implements ExportTabl
 	 */
 	protected SectionReferenceBeanInterface			section;
 	
+	/**
+	 * エクスポートフィールドマスタリスト(カーソル)。<br>
+	 */
+	protected List<ExportFieldDtoInterface>			exportFieldDtoList;
+	
+	/**
+	 * エクスポート時間フォーマット区分(カーソル)。<br>
+	 */
+	protected int									format;
+	
+	/**
+	 * 締期間最終日(カーソル)。<br>
+	 */
+	protected Date									endDate;
+	
+	/**
+	 * 締日確認用対象日(カーソル)。<br>
+	 */
+	protected Date									firstTargetDate;
+	
+	/**
+	 * 勤怠データフラグ(カーソル)。<br>
+	 */
+	protected boolean								isAttendance;
+	
+	/**
+	 * 勤怠集計データフラグ(カーソル)。<br>
+	 */
+	protected boolean								isTotalTime;
+	
+	/**
+	 * 有給休暇データフラグ(カーソル)。<br>
+	 */
+	protected boolean								isPaidHoliday;
+	
+	/**
+	 * ストック休暇データフラグ(カーソル)。<br>
+	 */
+	protected boolean								isStockHoliday;
+	
+	/**
+	 * 休暇データフラグ(カーソル)。<br>
+	 */
+	protected boolean								isHolidayData;
+	
+	/**
+	 * 出勤簿データフラグ(カーソル)。<br>
+	 */
+	protected boolean								isAttendanceBook;
+	
+	/**
+	 * 未出力のヘッダ行(カーソル)。<br>
+	 */
+	protected String[]								headerRow;
+	
+	/**
+	 * 検索結果(カーソル)。<br>
+	 */
+	protected ResultSet								resultSet;
+	
+	/**
+	 * 出勤簿データ対象人事情報(カーソル)。<br>
+	 */
+	protected Iterator<HumanDtoInterface>			humanIterator;
+	
+	/**
+	 * 出勤簿データ対象社員の行(カーソル)。<br>
+	 */
+	protected Iterator<String[]>					bookRowIterator;
+	
 	/**
 	 * MosPアプリケーション設定キー(エクスポート時間フォーマット)。
 	 */
@@ -191,22 +262,47 @@ public class ExportTableReferenceBean extends PlatformBean implements ExportTabl
 	
 	@Override
 	public List<String[]> export() throws MospException {
+		// エクスポートカーソル準備
+		if (openCursor() == false) {
+			return null;
+		}
+		// リスト準備
+		List<String[]> list = new ArrayList<String[]>();
+		try {
+			// 行毎に処理
+			String[] row = nextRow();
+			while (row != null) {
+				list.add(row);
+				row = nextRow();
+			}
+		} finally {
+			// エクスポートカーソル終了
+			closeCursor();
+		}
+		return list;
+	}
+	
+	@Override
+	public boolean openCursor() throws MospException {
+		// カーソル初期化
+		headerRow = null;
+		resultSet = null;
+		humanIterator = null;
+		bookRowIterator = null;
 		// エクスポート情報取得
 		ExportDtoInterface exportDto = exportDao.findForKey(exportCode);
 		// 情報確認
 		if (exportDto == null) {
-			return null;
+			return false;
 		}
 		// エクスポートフィールドマスタリストを取得
-		List<ExportFieldDtoInterface> exportFieldDtoList = exportFieldDao.findForList(exportCode);
+		exportFieldDtoList = exportFieldDao.findForList(exportCode);
 		// リスト確認
 		if (exportFieldDtoList.isEmpty()) {
-			return null;
+			return false;
 		}
 		// エクスポート時間フォーマット区分
-		int format = getExportTimeFormat();
-		// リスト準備
-		List<String[]> list = new ArrayList<String[]>();
+		format = getExportTimeFormat();
 		// ヘッダが有りの場合
 		if (exportDto.getHeader() == 1) {
 			// ヘッダリスト準備
@@ -217,47 +313,45 @@ public class ExportTableReferenceBean extends PlatformBean implements ExportTabl
 				headerList.add(mospParams.getProperties().getCodeItemName(exportDto.getExportTable(),
 						exportFieldDto.getFieldName()));
 			}
-			// 1行目にヘッダ名列追加
-			list.add(headerList.toArray(new String[0]));
+			// 1行目にヘッダ名列を設定
+			headerRow = headerList.toArray(new String[0]);
 		}
 		// 対象年月及び締日から締期間初日及び最終日を取得
 		Date startDate = cutoffUtil.getCutoffFirstDate(cutoffCode, startYear, startMonth);
-		Date endDate = cutoffUtil.getCutoffLastDate(cutoffCode, endYear, endMonth);
+		endDate = cutoffUtil.getCutoffLastDate(cutoffCode, endYear, endMonth);
 		// 対象日取得
-		Date firstTargetDate = MonthUtility.getYearMonthTargetDate(startYear, startMonth, mospParams);
-		// SQL準備
-		ResultSet rs = null;
+		firstTargetDate = MonthUtility.getYearMonthTargetDate(startYear, startMonth, mospParams);
 		// データ区分確認フラグ準備
-		boolean isAttendance = TimeFileConst.CODE_EXPORT_TYPE_TMD_ATTENDANCE.equals(exportDto.getExportTable());
-		boolean isTotalTime = TimeFileConst.CODE_EXPORT_TYPE_TMD_TOTAL_TIME.equals(exportDto.getExportTable());
-		boolean isPaidHoliday = TimeFileConst.CODE_EXPORT_TYPE_TMD_PAID_HOLIDAY.equals(exportDto.getExportTable());
-		boolean isStockHoliday = TimeFileConst.CODE_EXPORT_TYPE_TMD_STOCK_HOLIDAY.equals(exportDto.getExportTable());
-		boolean isHolidayData = TimeFileConst.CODE_EXPORT_TYPE_TMD_HOLIDAY.equals(exportDto.getExportTable());
-		boolean isAttendanceBook = TimeFileConst.CODE_EXPORT_TYPE_ATTENDANCE_BOOK.equals(exportDto.getExportTable());
+		isAttendance = TimeFileConst.CODE_EXPORT_TYPE_TMD_ATTENDANCE.equals(exportDto.getExportTable());
+		isTotalTime = TimeFileConst.CODE_EXPORT_TYPE_TMD_TOTAL_TIME.equals(exportDto.getExportTable());
+		isPaidHoliday = TimeFileConst.CODE_EXPORT_TYPE_TMD_PAID_HOLIDAY.equals(exportDto.getExportTable());
+		isStockHoliday = TimeFileConst.CODE_EXPORT_TYPE_TMD_STOCK_HOLIDAY.equals(exportDto.getExportTable());
+		isHolidayData = TimeFileConst.CODE_EXPORT_TYPE_TMD_HOLIDAY.equals(exportDto.getExportTable());
+		isAttendanceBook = TimeFileConst.CODE_EXPORT_TYPE_ATTENDANCE_BOOK.equals(exportDto.getExportTable());
 		if (isAttendance) {
 			// 勤怠データ
-			rs = exportDataDao.findForAttendance(startDate, endDate, cutoffCode, workPlaceCode, employmentCode,
-					sectionCode, positionCode);
+			resultSet = exportDataDao.findForAttendance(startDate, endDate, cutoffCode, workPlaceCode,
+					employmentCode, sectionCode, positionCode);
 		}
 		if (isTotalTime) {
 			// 勤怠集計データ
-			rs = exportDataDao.findForTotalTime(startDate, endDate, cutoffCode, workPlaceCode, employmentCode,
-					sectionCode, positionCode);
+			resultSet = exportDataDao.findForTotalTime(startDate, endDate, cutoffCode, workPlaceCode,
+					employmentCode, sectionCode, positionCode);
 		}
 		if (isPaidHoliday) {
 			// 有給休暇データ
-			rs = exportDataDao.findForPaidHoliday(startDate, endDate, cutoffCode, workPlaceCode, employmentCode,
-					sectionCode, positionCode);
+			resultSet = exportDataDao.findForPaidHoliday(startDate, endDate, cutoffCode, workPlaceCode,
+					employmentCode, sectionCode, positionCode);
 		}
 		if (isStockHoliday) {
 			// ストック休暇データ
-			rs = exportDataDao.findForStockHoliday(startDate, endDate, cutoffCode, workPlaceCode, employmentCode,
-					sectionCode, positionCode);
+			resultSet = exportDataDao.findForStockHoliday(startDate, endDate, cutoffCode, workPlaceCode,
+					employmentCode, sectionCode, positionCode);
 		}
 		if (isHolidayData) {
 			// 休暇データ
-			rs = exportDataDao.findForHolidayData(startDate, endDate, cutoffCode, workPlaceCode, employmentCode,
-					sectionCode, positionCode);
+			resultSet = exportDataDao.findForHolidayData(startDate, endDate, cutoffCode, workPlaceCode,
+					employmentCode, sectionCode, positionCode);
 		}
 		// 出勤簿データ
 		if (isAttendanceBook) {
@@ -290,442 +384,490 @@ public class ExportTableReferenceBean extends PlatformBean implements ExportTabl
 			List<HumanDtoInterface> humanList = new ArrayList<HumanDtoInterface>();
 			humanList.addAll(presenceHumanList);
 			humanList.addAll(suspendHumanList);
-			
+			humanIterator = humanList.iterator();
+		}
+		return true;
+	}
+	
+	@Override
+	public String[] nextRow() throws MospException {
+		// ヘッダ確認
+		if (headerRow != null) {
+			String[] row = headerRow;
+			headerRow = null;
+			return row;
+		}
+		// 出勤簿データ
+		if (isAttendanceBook) {
+			return nextAttendanceBookRow();
+		}
+		try {
+			while (resultSet != null && resultSet.next()) {
+				// 行の項目値を取得
+				String[] row = getRow(resultSet);
+				// 出力対象である場合
+				if (row != null) {
+					return row;
+				}
+			}
+		} catch (SQLException e) {
+			throw new MospException(e);
+		}
+		return null;
+	}
+	
+	@Override
+	public void closeCursor() throws MospException {
+		exportDataDao.closers();
+		resultSet = null;
+		humanIterator = null;
+		bookRowIterator = null;
+	}
+	
+	/**
+	 * 出勤簿データの次の行を取得する。<br>
+	 * 人事情報毎に実績一覧を取得し、その行を順に返す。<br>
+	 * @return 出勤簿データの行(全ての行を取得済である場合はnull)
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	protected String[] nextAttendanceBookRow() throws MospException {
+		// 対象社員の行を全て返した場合は次の人事情報を処理
+		while (bookRowIterator == null || bookRowIterator.hasNext() == false) {
 			// 人事情報確認
-			if (humanList.isEmpty()) {
-				return list;
+			if (humanIterator == null || humanIterator.hasNext() == false) {
+				return null;
 			}
-			// 人事情報毎に処理
-			for (HumanDtoInterface humanDto : humanList) {
-				// 締日コードがある場合
-				if (!cutoffCode.isEmpty()) {
-					// 締日情報取得
-					CutoffDtoInterface cutoff = cutoffUtil.getCutoffForPersonalId(humanDto.getPersonalId(), endDate);
-					// 締日がない又は同じでない場合
-					if (cutoff == null || !cutoffCode.equals(cutoff.getCutoffCode())) {
-						// エラーメッセージ削除
-						mospParams.getErrorMessageList().clear();
-						continue;
-					}
-				}
-				
-				// 実績一覧を取得
-				List<AttendanceListDto> actualList = attendanceList.getActualList(humanDto.getPersonalId(), startYear,
-						startMonth);
-				// 実績一覧確認
-				if (actualList == null || actualList.isEmpty()) {
+			HumanDtoInterface humanDto = humanIterator.next();
+			// 締日コードがある場合
+			if (!cutoffCode.isEmpty()) {
+				// 締日情報取得
+				CutoffDtoInterface cutoff = cutoffUtil.getCutoffForPersonalId(humanDto.getPersonalId(), endDate);
+				// 締日がない又は同じでない場合
+				if (cutoff == null || !cutoffCode.equals(cutoff.getCutoffCode())) {
 					// エラーメッセージ削除
 					mospParams.getErrorMessageList().clear();
 					continue;
 				}
-				// 対象社員出力リスト取得
-				List<String[]> AttandanceBookList = getFieldValue(humanDto, exportFieldDtoList, actualList);
-				// CSVデータをCSVデータリストに追加
-				list.addAll(AttandanceBookList);
 			}
-			exportDataDao.closers();
-			return list;
+			// 実績一覧を取得
+			List<AttendanceListDto> actualList = attendanceList.getActualList(humanDto.getPersonalId(), startYear,
+					startMonth);
+			// 実績一覧確認
+			if (actualList == null || actualList.isEmpty()) {
+				// エラーメッセージ削除
+				mospParams.getErrorMessageList().clear();
+				continue;
+			}
+			// 対象社員出力リスト取得
+			bookRowIterator = getFieldValue(humanDto, exportFieldDtoList, actualList).iterator();
 		}
+		return bookRowIterator.next();
+	}
+	
+	/**
+	 * 検索結果の現在の行から、出力する項目値を取得する。<br>
+	 * 締日コードが指定されており締日が異なる場合は、出力対象外としてnullを返す。<br>
+	 * @param rs 検索結果
+	 * @return 項目値(出力対象外の場合はnull)
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	protected String[] getRow(ResultSet rs) throws MospException {
 		try {
-			while (rs != null && rs.next()) {
-				List<String> dataList = new ArrayList<String>();
-				if (!cutoffCode.isEmpty()) {
-					String personalId = "";
-					if (isAttendance) {
-						// 勤怠データ
-						personalId = rs.getString(TmdAttendanceDao.COL_PERSONAL_ID);
-						firstTargetDate = rs.getDate(TmdAttendanceDao.COL_WORK_DATE);
-					}
-					if (isTotalTime) {
-						// 勤怠集計データ
-						personalId = rs.getString(TmdTotalTimeDao.COL_PERSONAL_ID);
-						firstTargetDate = rs.getDate(TmdTotalTimeDao.COL_CALCULATION_DATE);
-					}
-					if (isPaidHoliday) {
-						// 有給休暇データ
-						personalId = rs.getString(TmdPaidHolidayDao.COL_PERSONAL_ID);
-						firstTargetDate = rs.getDate(TmdPaidHolidayDao.COL_ACTIVATE_DATE);
-					}
-					if (isStockHoliday) {
-						// ストック休暇データ
-						personalId = rs.getString(TmdStockHolidayDao.COL_PERSONAL_ID);
-						firstTargetDate = rs.getDate(TmdStockHolidayDao.COL_ACTIVATE_DATE);
-					}
-					if (isHolidayData) {
-						// 休暇データ
-						personalId = rs.getString(TmdHolidayDataDao.COL_PERSONAL_ID);
-						firstTargetDate = rs.getDate(TmdHolidayDataDao.COL_ACTIVATE_DATE);
-					}
-					// 勤怠設定情報を取得
-					TimeSettingDtoInterface timeSettingDto = cutoffUtil.getTimeSettingNoMessage(personalId,
-							firstTargetDate);
-					if (timeSettingDto == null) {
+			List<String> dataList = new ArrayList<String>();
+			if (!cutoffCode.isEmpty()) {
+				String personalId = "";
+				if (isAttendance) {
+					// 勤怠データ
+					personalId = rs.getString(TmdAttendanceDao.COL_PERSONAL_ID);
+					firstTargetDate = rs.getDate(TmdAttendanceDao.COL_WORK_DATE);
+				}
+				if (isTotalTime) {
+					// 勤怠集計データ
+					personalId = rs.getString(TmdTotalTimeDao.COL_PERSONAL_ID);
+					firstTargetDate = rs.getDate(TmdTotalTimeDao.COL_CALCULATION_DATE);
+				}
+				if (isPaidHoliday) {
+					// 有給休暇データ
+					personalId = rs.getString(TmdPaidHolidayDao.COL_PERSONAL_ID);
+					firstTargetDate = rs.getDate(TmdPaidHolidayDao.COL_ACTIVATE_DATE);
+				}
+				if (isStockHoliday) {
+					// ストック休暇データ
+					personalId = rs.getString(TmdStockHolidayDao.COL_PERSONAL_ID);
+					firstTargetDate = rs.getDate(TmdStockHolidayDao.COL_ACTIVATE_DATE);
+				}
+				if (isHolidayData) {
+					// 休暇データ
+					personalId = rs.getString(TmdHolidayDataDao.COL_PERSONAL_ID);
+					firstTargetDate = rs.getDate(TmdHolidayDataDao.COL_ACTIVATE_DATE);
+				}
+				// 勤怠設定情報を取得
+				TimeSettingDtoInterface timeSettingDto = cutoffUtil.getTimeSettingNoMessage(personalId,
+						firstTargetDate);
+				if (timeSettingDto == null) {
+					return null;
+				}
+				if (!cutoffCode.equals(timeSettingDto.getCutoffCode())) {
+					return null;
+				}
+			}
+			// エクスポートフィールドマスタリスト毎に処理
+			for (ExportFieldDtoInterface exportFieldDto : exportFieldDtoList) {
+				String fieldName = exportFieldDto.getFieldName();
+				// 個人ID及び対象日準備
+				String personalId = "";
+				Date targetDate = null;
+				// 個人ID及び対象日設定
+				if (isAttendance) {
+					// 勤怠データ
+					personalId = rs.getString(TmdAttendanceDao.COL_PERSONAL_ID);
+					targetDate = rs.getDate(TmdAttendanceDao.COL_WORK_DATE);
+				}
+				if (isTotalTime) {
+					// 勤怠集計データ
+					personalId = rs.getString(TmdTotalTimeDao.COL_PERSONAL_ID);
+					targetDate = rs.getDate(TmdTotalTimeDao.COL_CALCULATION_DATE);
+				}
+				if (isPaidHoliday) {
+					// 有給休暇データ
+					personalId = rs.getString(TmdPaidHolidayDao.COL_PERSONAL_ID);
+					targetDate = rs.getDate(TmdPaidHolidayDao.COL_ACTIVATE_DATE);
+				}
+				if (isStockHoliday) {
+					// ストック休暇データ
+					personalId = rs.getString(TmdStockHolidayDao.COL_PERSONAL_ID);
+					targetDate = rs.getDate(TmdStockHolidayDao.COL_ACTIVATE_DATE);
+				}
+				if (isHolidayData) {
+					// 休暇データ
+					personalId = rs.getString(TmdHolidayDataDao.COL_PERSONAL_ID);
+					targetDate = rs.getDate(TmdHolidayDataDao.COL_ACTIVATE_DATE);
+				}
+				if (isAttendance) {
+					// 勤怠データ
+					if (TmdAttendanceDao.COL_WORK_DATE.equals(fieldName)) {
+						// 勤務日
+						dataList.add(DateUtility.getStringDate(rs.getDate(fieldName)));
 						continue;
 					}
-					if (!cutoffCode.equals(timeSettingDto.getCutoffCode())) {
+					// 始業時刻（丸め打刻）
+					if (TmdAttendanceDao.COL_START_TIME.equals(fieldName)) {
+						// 丸め時刻追加
+						dataList.add(DateUtility.getStringDateAndTime(rs
+							.getTimestamp(TmdAttendanceDao.COL_START_TIME)));
 						continue;
 					}
-				}
-				// エクスポートフィールドマスタリスト毎に処理
-				for (ExportFieldDtoInterface exportFieldDto : exportFieldDtoList) {
-					String fieldName = exportFieldDto.getFieldName();
-					// 個人ID及び対象日準備
-					String personalId = "";
-					Date targetDate = null;
-					// 個人ID及び対象日設定
-					if (isAttendance) {
-						// 勤怠データ
-						personalId = rs.getString(TmdAttendanceDao.COL_PERSONAL_ID);
-						targetDate = rs.getDate(TmdAttendanceDao.COL_WORK_DATE);
-					}
-					if (isTotalTime) {
-						// 勤怠集計データ
-						personalId = rs.getString(TmdTotalTimeDao.COL_PERSONAL_ID);
-						targetDate = rs.getDate(TmdTotalTimeDao.COL_CALCULATION_DATE);
-					}
-					if (isPaidHoliday) {
-						// 有給休暇データ
-						personalId = rs.getString(TmdPaidHolidayDao.COL_PERSONAL_ID);
-						targetDate = rs.getDate(TmdPaidHolidayDao.COL_ACTIVATE_DATE);
-					}
-					if (isStockHoliday) {
-						// ストック休暇データ
-						personalId = rs.getString(TmdStockHolidayDao.COL_PERSONAL_ID);
-						targetDate = rs.getDate(TmdStockHolidayDao.COL_ACTIVATE_DATE);
-					}
-					if (isHolidayData) {
-						// 休暇データ
-						personalId = rs.getString(TmdHolidayDataDao.COL_PERSONAL_ID);
-						targetDate = rs.getDate(TmdHolidayDataDao.COL_ACTIVATE_DATE);
+					// 始業時刻(実打刻)
+					if (TmdAttendanceDao.COL_ACTUAL_START_TIME.equals(fieldName)) {
+						// 実打刻追加
+						dataList.add(DateUtility.getStringDateAndTime(rs
+							.getTimestamp(TmdAttendanceDao.COL_ACTUAL_START_TIME)));
+						continue;
 					}
-					if (isAttendance) {
-						// 勤怠データ
-						if (TmdAttendanceDao.COL_WORK_DATE.equals(fieldName)) {
-							// 勤務日
-							dataList.add(DateUtility.getStringDate(rs.getDate(fieldName)));
-							continue;
-						}
-						// 始業時刻（丸め打刻）
-						if (TmdAttendanceDao.COL_START_TIME.equals(fieldName)) {
-							// 丸め時刻追加
-							dataList.add(DateUtility.getStringDateAndTime(rs
-								.getTimestamp(TmdAttendanceDao.COL_START_TIME)));
-							continue;
-						}
-						// 始業時刻(実打刻)
-						if (TmdAttendanceDao.COL_ACTUAL_START_TIME.equals(fieldName)) {
-							// 実打刻追加
-							dataList.add(DateUtility.getStringDateAndTime(rs
-								.getTimestamp(TmdAttendanceDao.COL_ACTUAL_START_TIME)));
-							continue;
-						}
-						// 始業時刻(ポータル打刻)
-						if (TimeFileConst.FIELD_TIME_ROCODE_START_TIME.equals(fieldName)) {
-							String timeRecodeStartTime = "";
-							// 打刻データを取得
-							TimeRecordDtoInterface recodeDto = timeRecord.findForKey(personalId, targetDate,
-									TimeBean.TIMES_WORK_DEFAULT, PortalTimeCardBean.RECODE_START_WORK);
-							// 打刻データがある場合
-							if (recodeDto != null) {
-								// 打刻データ取得
-								timeRecodeStartTime = DateUtility.getStringDateAndTime(recodeDto.getRecordTime());
-							}
-							// 打刻データ追加
-							dataList.add(timeRecodeStartTime);
-							continue;
-						}
-						// 終業時刻（丸め打刻）
-						if (TmdAttendanceDao.COL_END_TIME.equals(fieldName)) {
-							dataList.add(DateUtility.getStringDateAndTime(rs
-								.getTimestamp(TmdAttendanceDao.COL_END_TIME)));
-							continue;
-						}
-						// 終業時刻(実打刻)
-						if (TmdAttendanceDao.COL_ACTUAL_END_TIME.equals(fieldName)) {
-							// 実打刻追加
-							dataList.add(DateUtility.getStringDateAndTime(rs
-								.getTimestamp(TmdAttendanceDao.COL_ACTUAL_END_TIME)));
-							continue;
-						}
-						// 終業時刻(ポータル打刻)
-						if (TimeFileConst.FIELD_TIME_ROCODE_END_TIME.equals(fieldName)) {
-							String timeRecodeStartTime = "";
-							// 打刻データを取得
-							TimeRecordDtoInterface recodeDto = timeRecord.findForKey(personalId, targetDate,
-									TimeBean.TIMES_WORK_DEFAULT, PortalTimeCardBean.RECODE_END_WORK);
-							// 打刻データがある場合
-							if (recodeDto != null) {
-								timeRecodeStartTime = DateUtility.getStringDateAndTime(recodeDto.getRecordTime());
-							}
+					// 始業時刻(ポータル打刻)
+					if (TimeFileConst.FIELD_TIME_ROCODE_START_TIME.equals(fieldName)) {
+						String timeRecodeStartTime = "";
+						// 打刻データを取得
+						TimeRecordDtoInterface recodeDto = timeRecord.findForKey(personalId, targetDate,
+								TimeBean.TIMES_WORK_DEFAULT, PortalTimeCardBean.RECODE_START_WORK);
+						// 打刻データがある場合
+						if (recodeDto != null) {
 							// 打刻データ取得
-							dataList.add(timeRecodeStartTime);
-							continue;
+							timeRecodeStartTime = DateUtility.getStringDateAndTime(recodeDto.getRecordTime());
 						}
-						if (
-						// 遅刻時間
-						TmdAttendanceDao.COL_LATE_TIME.equals(fieldName)
-						// 実遅刻時間
-								|| TmdAttendanceDao.COL_ACTUAL_LATE_TIME.equals(fieldName)
-								// 遅刻30分以上時間
-								|| TmdAttendanceDao.COL_LATE_THIRTY_MINUTES_OR_MORE_TIME.equals(fieldName)
-								// 遅刻30分未満時間
-								|| TmdAttendanceDao.COL_LATE_LESS_THAN_THIRTY_MINUTES_TIME.equals(fieldName)
-								// 早退時間
-								|| TmdAttendanceDao.COL_LEAVE_EARLY_TIME.equals(fieldName)
-								// 実早退時間
-								|| TmdAttendanceDao.COL_ACTUAL_LEAVE_EARLY_TIME.equals(fieldName)
-								// 早退30分以上時間
-								|| TmdAttendanceDao.COL_LEAVE_EARLY_THIRTY_MINUTES_OR_MORE_TIME.equals(fieldName)
-								// 早退30分未満時間
-								|| TmdAttendanceDao.COL_LEAVE_EARLY_LESS_THAN_THIRTY_MINUTES_TIME.equals(fieldName)
-								// 勤務時間
-								|| TmdAttendanceDao.COL_WORK_TIME.equals(fieldName)
-								// 所定労働時間
-								|| TmdAttendanceDao.COL_GENERAL_WORK_TIME.equals(fieldName)
-								// 所定労働時間内労働時間
-								|| TmdAttendanceDao.COL_WORK_TIME_WITHIN_PRESCRIBED_WORK_TIME.equals(fieldName)
-								// 契約勤務時間
-								|| TmdAttendanceDao.COL_CONTRACT_WORK_TIME.equals(fieldName)
-								// 無給時短時間
-								|| TmdAttendanceDao.COL_SHORT_UNPAID.equals(fieldName)
-								// 休憩時間
-								|| TmdAttendanceDao.COL_REST_TIME.equals(fieldName)
-								// 法定外休憩時間
-								|| TmdAttendanceDao.COL_OVER_REST_TIME.equals(fieldName)
-								// 深夜休憩時間
-								|| TmdAttendanceDao.COL_NIGHT_REST_TIME.equals(fieldName)
-								// 法定休出休憩時間
-								|| TmdAttendanceDao.COL_LEGAL_HOLIDAY_REST_TIME.equals(fieldName)
-								// 所定休出休憩時間
-								|| TmdAttendanceDao.COL_PRESCRIBED_HOLIDAY_REST_TIME.equals(fieldName)
-								// 公用外出時間
-								|| TmdAttendanceDao.COL_PUBLIC_TIME.equals(fieldName)
-								// 私用外出時間
-								|| TmdAttendanceDao.COL_PRIVATE_TIME.equals(fieldName)
-								// 分単位休暇A時間
-								|| TmdAttendanceDao.COL_MINUTELY_HOLIDAY_A_TIME.equals(fieldName)
-								// 分単位休暇B時間
-								|| TmdAttendanceDao.COL_MINUTELY_HOLIDAY_B_TIME.equals(fieldName)
-								// 残業時間
-								|| TmdAttendanceDao.COL_OVERTIME.equals(fieldName)
-								// 前残業時間
-								|| TmdAttendanceDao.COL_OVERTIME_BEFORE.equals(fieldName)
-								// 後残業時間
-								|| TmdAttendanceDao.COL_OVERTIME_AFTER.equals(fieldName)
-								// 法定内残業時間
-								|| TmdAttendanceDao.COL_OVERTIME_IN.equals(fieldName)
-								// 法定外残業時間
-								|| TmdAttendanceDao.COL_OVERTIME_OUT.equals(fieldName)
-								// 平日法定時間内残業時間
-								|| TmdAttendanceDao.COL_WORKDAY_OVERTIME_IN.equals(fieldName)
-								// 平日法定時間外残業時間
-								|| TmdAttendanceDao.COL_WORKDAY_OVERTIME_OUT.equals(fieldName)
-								// 所定休日法定時間内残業時間
-								|| TmdAttendanceDao.COL_PRESCRIBED_HOLIDAY_OVERTIME_IN.equals(fieldName)
-								// 所定休日法定時間外残業時間
-								|| TmdAttendanceDao.COL_PRESCRIBED_HOLIDAY_OVERTIME_OUT.equals(fieldName)
-								// 深夜勤務時間
-								|| TmdAttendanceDao.COL_LATE_NIGHT_TIME.equals(fieldName)
-								// 深夜所定労働時間内時間
-								|| TmdAttendanceDao.COL_NIGHT_WORK_WITHIN_PRESCRIBED_WORK.equals(fieldName)
-								// 深夜時間外時間
-								|| TmdAttendanceDao.COL_NIGHT_OVERTIME_WORK.equals(fieldName)
-								// 深夜休日労働時間
-								|| TmdAttendanceDao.COL_NIGHT_WORK_ON_HOLIDAY.equals(fieldName)
-								// 所定休日勤務時間
-								|| TmdAttendanceDao.COL_SPECIFIC_WORK_TIME.equals(fieldName)
-								// 法定休日勤務時間
-								|| TmdAttendanceDao.COL_LEGAL_WORK_TIME.equals(fieldName)
-								// 減額対象時間
-								|| TmdAttendanceDao.COL_DECREASE_TIME.equals(fieldName)
-								// 法定休出時間(代休あり)
-								|| TmdAttendanceDao.COL_LEGAL_HOLIDAY_WORK_TIME_WITH_COMPENSATION_DAY.equals(fieldName)
-								// 法定休出時間(代休なし)
-								|| TmdAttendanceDao.COL_LEGAL_HOLIDAY_WORK_TIME_WITHOUT_COMPENSATION_DAY
-									.equals(fieldName)
-								// 所定休出時間(代休あり)
-								|| TmdAttendanceDao.COL_PRESCRIBED_HOLIDAY_WORK_TIME_WITH_COMPENSATION_DAY
-									.equals(fieldName)
-								// 所定休出時間(代休なし)
-								|| TmdAttendanceDao.COL_PRESCRIBED_HOLIDAY_WORK_TIME_WITHOUT_COMPENSATION_DAY
-									.equals(fieldName)
-								// 法定労働時間内残業時間(代休あり)
-								|| TmdAttendanceDao.COL_OVERTIME_IN_WITH_COMPENSATION_DAY.equals(fieldName)
-								// 法定労働時間内残業時間(代休なし)
-								|| TmdAttendanceDao.COL_OVERTIME_IN_WITHOUT_COMPENSATION_DAY.equals(fieldName)
-								// 法定労働時間外残業時間(代休あり)
-								|| TmdAttendanceDao.COL_OVERTIME_OUT_WITH_COMPENSATION_DAY.equals(fieldName)
-								// 法定労働時間外残業時間(代休なし)
-								|| TmdAttendanceDao.COL_OVERTIME_OUT_WITHOUT_COMPENSATION_DAY.equals(fieldName)
-								// 所定労働時間内法定休日労働時間
-								|| TmdAttendanceDao.COL_STATUTORY_HOLIDAY_WORK_TIME_IN.equals(fieldName)
-								// 所定労働時間外法定休日労働時間
-								|| TmdAttendanceDao.COL_STATUTORY_HOLIDAY_WORK_TIME_OUT.equals(fieldName)
-								// 所定労働時間内所定休日労働時間
-								|| TmdAttendanceDao.COL_PRESCRIBED_HOLIDAY_WORK_TIME_IN.equals(fieldName)
-								// 所定労働時間外所定休日労働時間
-								|| TmdAttendanceDao.COL_PRESCRIBED_HOLIDAY_WORK_TIME_OUT.equals(fieldName)) {
-							// 項目追加
-							dataList.add(getExportTime(rs.getInt(fieldName), format));
-							continue;
-						}
-					}
-					// TODO
-					if (isTotalTime) {
-						// 勤怠集計データ
-						if (TmdTotalTimeDao.COL_CALCULATION_DATE.equals(fieldName)) {
-							// 集計日
-							dataList.add(DateUtility.getStringDate(rs.getDate(fieldName)));
-							continue;
-						}
-						if (
-						// 勤務時間
-						TmdTotalTimeDao.COL_WORK_TIME.equals(fieldName)
-						// 所定勤務時間
-								|| TmdTotalTimeDao.COL_SPECIFIC_WORK_TIME.equals(fieldName)
-								// 契約勤務時間
-								|| TmdTotalTimeDao.COL_CONTRACT_WORK_TIME.equals(fieldName)
-								// 無給時短時間
-								|| TmdTotalTimeDao.COL_SHORT_UNPAID.equals(fieldName)
-								// 休憩時間
-								|| TmdTotalTimeDao.COL_REST_TIME.equals(fieldName)
-								// 深夜休憩時間
-								|| TmdTotalTimeDao.COL_REST_LATE_NIGHT.equals(fieldName)
-								// 所定休出休憩時間
-								|| TmdTotalTimeDao.COL_REST_WORK_ON_SPECIFIC_HOLIDAY.equals(fieldName)
-								// 法定休出休憩時間
-								|| TmdTotalTimeDao.COL_REST_WORK_ON_HOLIDAY.equals(fieldName)
-								// 公用外出時間
-								|| TmdTotalTimeDao.COL_PUBLIC_TIME.equals(fieldName)
-								// 私用外出時間
-								|| TmdTotalTimeDao.COL_PRIVATE_TIME.equals(fieldName)
-								// 分単位休暇A時間
-								|| TmdTotalTimeDao.COL_MINUTELY_HOLIDAY_A_TIME.equals(fieldName)
-								// 分単位休暇B時間
-								|| TmdTotalTimeDao.COL_MINUTELY_HOLIDAY_B_TIME.equals(fieldName)
-								// 残業時間
-								|| TmdTotalTimeDao.COL_OVERTIME.equals(fieldName)
-								// 法定内残業時間
-								|| TmdTotalTimeDao.COL_OVERTIME_IN.equals(fieldName)
-								// 法定外残業時間
-								|| TmdTotalTimeDao.COL_OVERTIME_OUT.equals(fieldName)
-								// 深夜時間
-								|| TmdTotalTimeDao.COL_LATE_NIGHT.equals(fieldName)
-								// 深夜所定労働時間内時間
-								|| TmdTotalTimeDao.COL_NIGHT_WORK_WITHIN_PRESCRIBED_WORK.equals(fieldName)
-								// 深夜時間外時間
-								|| TmdTotalTimeDao.COL_NIGHT_OVERTIME_WORK.equals(fieldName)
-								// 深夜休日労働時間
-								|| TmdTotalTimeDao.COL_NIGHT_WORK_ON_HOLIDAY.equals(fieldName)
-								// 所定休出時間
-								|| TmdTotalTimeDao.COL_WORK_ON_SPECIFIC_HOLIDAY.equals(fieldName)
-								// 法定休出時間
-								|| TmdTotalTimeDao.COL_WORK_ON_HOLIDAY.equals(fieldName)
-								// 減額対象時間
-								|| TmdTotalTimeDao.COL_DECREASE_TIME.equals(fieldName)
-								// 45時間超残業時間
-								|| TmdTotalTimeDao.COL_FORTY_FIVE_HOUR_OVERTIME.equals(fieldName)
-								// 合計遅刻時間
-								|| TmdTotalTimeDao.COL_LATE_TIME.equals(fieldName)
-								// 遅刻30分以上時間
-								|| TmdTotalTimeDao.COL_LATE_THIRTY_MINUTES_OR_MORE_TIME.equals(fieldName)
-								// 遅刻30分未満時間
-								|| TmdTotalTimeDao.COL_LATE_LESS_THAN_THIRTY_MINUTES_TIME.equals(fieldName)
-								// 合計早退時間
-								|| TmdTotalTimeDao.COL_LEAVE_EARLY_TIME.equals(fieldName)
-								// 早退30分以上時間
-								|| TmdTotalTimeDao.COL_LEAVE_EARLY_THIRTY_MINUTES_OR_MORE_TIME.equals(fieldName)
-								// 早退30分未満時間
-								|| TmdTotalTimeDao.COL_LEAVE_EARLY_LESS_THAN_THIRTY_MINUTES_TIME.equals(fieldName)
-								// 60時間超残業時間
-								|| TmdTotalTimeDao.COL_SIXTY_HOUR_OVERTIME.equals(fieldName)
-								// 平日時間外時間
-								|| TmdTotalTimeDao.COL_WEEK_DAY_OVERTIME.equals(fieldName)
-								// 所定休日時間外時間
-								|| TmdTotalTimeDao.COL_SPECIFIC_OVERTIME.equals(fieldName)
-								// 所定労働時間内法定休日労働時間
-								|| TmdTotalTimeDao.COL_STATUTORY_HOLIDAY_WORK_TIME_IN.equals(fieldName)
-								// 所定労働時間外法定休日労働時間
-								|| TmdTotalTimeDao.COL_STATUTORY_HOLIDAY_WORK_TIME_OUT.equals(fieldName)
-								// 所定労働時間内所定休日労働時間
-								|| TmdTotalTimeDao.COL_PRESCRIBED_HOLIDAY_WORK_TIME_IN.equals(fieldName)
-								// 所定労働時間外所定休日労働時間
-								|| TmdTotalTimeDao.COL_PRESCRIBED_HOLIDAY_WORK_TIME_OUT.equals(fieldName)
-								// 週40時間超勤務時間
-								|| TmdTotalTimeDao.COL_WEEKLY_OVER_FORTY_HOUR_WORK_TIME.equals(fieldName)
-								// 法定内残業時間(週40時間超除く)
-								|| TmdTotalTimeDao.COL_OVERTIME_IN_NO_WEEKLY_FORTY.equals(fieldName)
-								// 法定外残業時間(週40時間超除く)
-								|| TmdTotalTimeDao.COL_OVERTIME_OUT_NO_WEEKLY_FORTY.equals(fieldName)
-								// 平日残業合計時間
-								|| TmdTotalTimeDao.COL_WEEK_DAY_OVERTIME_TOTAL.equals(fieldName)
-								// 平日時間内時間(週40時間超除く)
-								|| TmdTotalTimeDao.COL_WEEK_DAY_OVERTIME_IN_NO_WEEKLY_FORTY.equals(fieldName)
-								// 平日時間外時間(週40時間超除く)
-								|| TmdTotalTimeDao.COL_WEEK_DAY_OVERTIME_OUT_NO_WEEKLY_FORTY.equals(fieldName)
-								// 平日時間内時間
-								|| TmdTotalTimeDao.COL_WEEK_DAY_OVERTIME_IN.equals(fieldName)) {
-							// 項目追加
-							dataList.add(getExportTime(rs.getInt(fieldName), format));
-							continue;
-						}
-						// TODO 計算するものは、ここに処理を加えるのか
-					}
-					if (isPaidHoliday
-							&& (TmdPaidHolidayDao.COL_ACTIVATE_DATE.equals(fieldName)
-									|| TmdPaidHolidayDao.COL_ACQUISITION_DATE.equals(fieldName) || TmdPaidHolidayDao.COL_LIMIT_DATE
-								.equals(fieldName))) {
-						// 有給休暇データ
-						// 有効日・取得日・期限日
-						dataList.add(DateUtility.getStringDate(rs.getDate(fieldName)));
+						// 打刻データ追加
+						dataList.add(timeRecodeStartTime);
 						continue;
 					}
-					if (isStockHoliday
-							&& (TmdStockHolidayDao.COL_ACTIVATE_DATE.equals(fieldName)
-									|| TmdStockHolidayDao.COL_ACQUISITION_DATE.equals(fieldName) || TmdStockHolidayDao.COL_LIMIT_DATE
-								.equals(fieldName))) {
-						// ストック休暇データ
-						// 有効日・取得日・期限日
-						dataList.add(DateUtility.getStringDate(rs.getDate(fieldName)));
+					// 終業時刻（丸め打刻）
+					if (TmdAttendanceDao.COL_END_TIME.equals(fieldName)) {
+						dataList.add(DateUtility.getStringDateAndTime(rs
+							.getTimestamp(TmdAttendanceDao.COL_END_TIME)));
 						continue;
 					}
-					if (isHolidayData
-							&& (TmdHolidayDataDao.COL_ACTIVATE_DATE.equals(fieldName) || TmdHolidayDataDao.COL_HOLIDAY_LIMIT_DATE
-								.equals(fieldName))) {
-						// 休暇データ
-						// 有効日・取得期限
-						dataList.add(DateUtility.getStringDate(rs.getDate(fieldName)));
+					// 終業時刻(実打刻)
+					if (TmdAttendanceDao.COL_ACTUAL_END_TIME.equals(fieldName)) {
+						// 実打刻追加
+						dataList.add(DateUtility.getStringDateAndTime(rs
+							.getTimestamp(TmdAttendanceDao.COL_ACTUAL_END_TIME)));
 						continue;
 					}
-					if (TimeFileConst.FIELD_FULL_NAME.equals(fieldName)) {
-						// 氏名
-						dataList.add(MospUtility.getHumansName(rs.getString(PfmHumanDao.COL_FIRST_NAME),
-								rs.getString(PfmHumanDao.COL_LAST_NAME)));
+					// 終業時刻(ポータル打刻)
+					if (TimeFileConst.FIELD_TIME_ROCODE_END_TIME.equals(fieldName)) {
+						String timeRecodeStartTime = "";
+						// 打刻データを取得
+						TimeRecordDtoInterface recodeDto = timeRecord.findForKey(personalId, targetDate,
+								TimeBean.TIMES_WORK_DEFAULT, PortalTimeCardBean.RECODE_END_WORK);
+						// 打刻データがある場合
+						if (recodeDto != null) {
+							timeRecodeStartTime = DateUtility.getStringDateAndTime(recodeDto.getRecordTime());
+						}
+						// 打刻データ取得
+						dataList.add(timeRecodeStartTime);
 						continue;
 					}
-					if (PlatformFileConst.FIELD_SECTION_NAME.equals(fieldName)) {
-						// 所属名称
-						dataList.add(section.getSectionName(rs.getString(PfmHumanDao.COL_SECTION_CODE), targetDate));
+					if (
+					// 遅刻時間
+					TmdAttendanceDao.COL_LATE_TIME.equals(fieldName)
+					// 実遅刻時間
+							|| TmdAttendanceDao.COL_ACTUAL_LATE_TIME.equals(fieldName)
+							// 遅刻30分以上時間
+							|| TmdAttendanceDao.COL_LATE_THIRTY_MINUTES_OR_MORE_TIME.equals(fieldName)
+							// 遅刻30分未満時間
+							|| TmdAttendanceDao.COL_LATE_LESS_THAN_THIRTY_MINUTES_TIME.equals(fieldName)
+							// 早退時間
+							|| TmdAttendanceDao.COL_LEAVE_EARLY_TIME.equals(fieldName)
+							// 実早退時間
+							|| TmdAttendanceDao.COL_ACTUAL_LEAVE_EARLY_TIME.equals(fieldName)
+							// 早退30分以上時間
+							|| TmdAttendanceDao.COL_LEAVE_EARLY_THIRTY_MINUTES_OR_MORE_TIME.equals(fieldName)
+							// 早退30分未満時間
+							|| TmdAttendanceDao.COL_LEAVE_EARLY_LESS_THAN_THIRTY_MINUTES_TIME.equals(fieldName)
+							// 勤務時間
+							|| TmdAttendanceDao.COL_WORK_TIME.equals(fieldName)
+							// 所定労働時間
+							|| TmdAttendanceDao.COL_GENERAL_WORK_TIME.equals(fieldName)
+							// 所定労働時間内労働時間
+							|| TmdAttendanceDao.COL_WORK_TIME_WITHIN_PRESCRIBED_WORK_TIME.equals(fieldName)
+							// 契約勤務時間
+							|| TmdAttendanceDao.COL_CONTRACT_WORK_TIME.equals(fieldName)
+							// 無給時短時間
+							|| TmdAttendanceDao.COL_SHORT_UNPAID.equals(fieldName)
+							// 休憩時間
+							|| TmdAttendanceDao.COL_REST_TIME.equals(fieldName)
+							// 法定外休憩時間
+							|| TmdAttendanceDao.COL_OVER_REST_TIME.equals(fieldName)
+							// 深夜休憩時間
+							|| TmdAttendanceDao.COL_NIGHT_REST_TIME.equals(fieldName)
+							// 法定休出休憩時間
+							|| TmdAttendanceDao.COL_LEGAL_HOLIDAY_REST_TIME.equals(fieldName)
+							// 所定休出休憩時間
+							|| TmdAttendanceDao.COL_PRESCRIBED_HOLIDAY_REST_TIME.equals(fieldName)
+							// 公用外出時間
+							|| TmdAttendanceDao.COL_PUBLIC_TIME.equals(fieldName)
+							// 私用外出時間
+							|| TmdAttendanceDao.COL_PRIVATE_TIME.equals(fieldName)
+							// 分単位休暇A時間
+							|| TmdAttendanceDao.COL_MINUTELY_HOLIDAY_A_TIME.equals(fieldName)
+							// 分単位休暇B時間
+							|| TmdAttendanceDao.COL_MINUTELY_HOLIDAY_B_TIME.equals(fieldName)
+							// 残業時間
+							|| TmdAttendanceDao.COL_OVERTIME.equals(fieldName)
+							// 前残業時間
+							|| TmdAttendanceDao.COL_OVERTIME_BEFORE.equals(fieldName)
+							// 後残業時間
+							|| TmdAttendanceDao.COL_OVERTIME_AFTER.equals(fieldName)
+							// 法定内残業時間
+							|| TmdAttendanceDao.COL_OVERTIME_IN.equals(fieldName)
+							// 法定外残業時間
+							|| TmdAttendanceDao.COL_OVERTIME_OUT.equals(fieldName)
+							// 平日法定時間内残業時間
+							|| TmdAttendanceDao.COL_WORKDAY_OVERTIME_IN.equals(fieldName)
+							// 平日法定時間外残業時間
+							|| TmdAttendanceDao.COL_WORKDAY_OVERTIME_OUT.equals(fieldName)
+							// 所定休日法定時間内残業時間
+							|| TmdAttendanceDao.COL_PRESCRIBED_HOLIDAY_OVERTIME_IN.equals(fieldName)
+							// 所定休日法定時間外残業時間
+							|| TmdAttendanceDao.COL_PRESCRIBED_HOLIDAY_OVERTIME_OUT.equals(fieldName)
+							// 深夜勤務時間
+							|| TmdAttendanceDao.COL_LATE_NIGHT_TIME.equals(fieldName)
+							// 深夜所定労働時間内時間
+							|| TmdAttendanceDao.COL_NIGHT_WORK_WITHIN_PRESCRIBED_WORK.equals(fieldName)
+							// 深夜時間外時間
+							|| TmdAttendanceDao.COL_NIGHT_OVERTIME_WORK.equals(fieldName)
+							// 深夜休日労働時間
+							|| TmdAttendanceDao.COL_NIGHT_WORK_ON_HOLIDAY.equals(fieldName)
+							// 所定休日勤務時間
+							|| TmdAttendanceDao.COL_SPECIFIC_WORK_TIME.equals(fieldName)
+							// 法定休日勤務時間
+							|| TmdAttendanceDao.COL_LEGAL_WORK_TIME.equals(fieldName)
+							// 減額対象時間
+							|| TmdAttendanceDao.COL_DECREASE_TIME.equals(fieldName)
+							// 法定休出時間(代休あり)
+							|| TmdAttendanceDao.COL_LEGAL_HOLIDAY_WORK_TIME_WITH_COMPENSATION_DAY.equals(fieldName)
+							// 法定休出時間(代休なし)
+							|| TmdAttendanceDao.COL_LEGAL_HOLIDAY_WORK_TIME_WITHOUT_COMPENSATION_DAY
+								.equals(fieldName)
+							// 所定休出時間(代休あり)
+							|| TmdAttendanceDao.COL_PRESCRIBED_HOLIDAY_WORK_TIME_WITH_COMPENSATION_DAY
+								.equals(fieldName)
+							// 所定休出時間(代休なし)
+							|| TmdAttendanceDao.COL_PRESCRIBED_HOLIDAY_WORK_TIME_WITHOUT_COMPENSATION_DAY
+								.equals(fieldName)
+							// 法定労働時間内残業時間(代休あり)
+							|| TmdAttendanceDao.COL_OVERTIME_IN_WITH_COMPENSATION_DAY.equals(fieldName)
+							// 法定労働時間内残業時間(代休なし)
+							|| TmdAttendanceDao.COL_OVERTIME_IN_WITHOUT_COMPENSATION_DAY.equals(fieldName)
+							// 法定労働時間外残業時間(代休あり)
+							|| TmdAttendanceDao.COL_OVERTIME_OUT_WITH_COMPENSATION_DAY.equals(fieldName)
+							// 法定労働時間外残業時間(代休なし)
+							|| TmdAttendanceDao.COL_OVERTIME_OUT_WITHOUT_COMPENSATION_DAY.equals(fieldName)
+							// 所定労働時間内法定休日労働時間
+							|| TmdAttendanceDao.COL_STATUTORY_HOLIDAY_WORK_TIME_IN.equals(fieldName)
+							// 所定労働時間外法定休日労働時間
+							|| TmdAttendanceDao.COL_STATUTORY_HOLIDAY_WORK_TIME_OUT.equals(fieldName)
+							// 所定労働時間内所定休日労働時間
+							|| TmdAttendanceDao.COL_PRESCRIBED_HOLIDAY_WORK_TIME_IN.equals(fieldName)
+							// 所定労働時間外所定休日労働時間
+							|| TmdAttendanceDao.COL_PRESCRIBED_HOLIDAY_WORK_TIME_OUT.equals(fieldName)) {
+						// 項目追加
+						dataList.add(getExportTime(rs.getInt(fieldName), format));
 						continue;
 					}
-					if (PlatformFileConst.FIELD_SECTION_DISPLAY.equals(fieldName)) {
-						// 所属表示名称
-						dataList.add(section.getSectionDisplay(rs.getString(PfmHumanDao.COL_SECTION_CODE), targetDate));
+				}
+				// TODO
+				if (isTotalTime) {
+					// 勤怠集計データ
+					if (TmdTotalTimeDao.COL_CALCULATION_DATE.equals(fieldName)) {
+						// 集計日
+						dataList.add(DateUtility.getStringDate(rs.getDate(fieldName)));
 						continue;
 					}
-					// 項目追加フィールド設定
-					if (addExtraField(personalId, targetDate, dataList, fieldName, rs)) {
+					if (
+					// 勤務時間
+					TmdTotalTimeDao.COL_WORK_TIME.equals(fieldName)
+					// 所定勤務時間
+							|| TmdTotalTimeDao.COL_SPECIFIC_WORK_TIME.equals(fieldName)
+							// 契約勤務時間
+							|| TmdTotalTimeDao.COL_CONTRACT_WORK_TIME.equals(fieldName)
+							// 無給時短時間
+							|| TmdTotalTimeDao.COL_SHORT_UNPAID.equals(fieldName)
+							// 休憩時間
+							|| TmdTotalTimeDao.COL_REST_TIME.equals(fieldName)
+							// 深夜休憩時間
+							|| TmdTotalTimeDao.COL_REST_LATE_NIGHT.equals(fieldName)
+							// 所定休出休憩時間
+							|| TmdTotalTimeDao.COL_REST_WORK_ON_SPECIFIC_HOLIDAY.equals(fieldName)
+							// 法定休出休憩時間
+							|| TmdTotalTimeDao.COL_REST_WORK_ON_HOLIDAY.equals(fieldName)
+							// 公用外出時間
+							|| TmdTotalTimeDao.COL_PUBLIC_TIME.equals(fieldName)
+							// 私用外出時間
+							|| TmdTotalTimeDao.COL_PRIVATE_TIME.equals(fieldName)
+							// 分単位休暇A時間
+							|| TmdTotalTimeDao.COL_MINUTELY_HOLIDAY_A_TIME.equals(fieldName)
+							// 分単位休暇B時間
+							|| TmdTotalTimeDao.COL_MINUTELY_HOLIDAY_B_TIME.equals(fieldName)
+							// 残業時間
+							|| TmdTotalTimeDao.COL_OVERTIME.equals(fieldName)
+							// 法定内残業時間
+							|| TmdTotalTimeDao.COL_OVERTIME_IN.equals(fieldName)
+							// 法定外残業時間
+							|| TmdTotalTimeDao.COL_OVERTIME_OUT.equals(fieldName)
+							// 深夜時間
+							|| TmdTotalTimeDao.COL_LATE_NIGHT.equals(fieldName)
+							// 深夜所定労働時間内時間
+							|| TmdTotalTimeDao.COL_NIGHT_WORK_WITHIN_PRESCRIBED_WORK.equals(fieldName)
+							// 深夜時間外時間
+							|| TmdTotalTimeDao.COL_NIGHT_OVERTIME_WORK.equals(fieldName)
+							// 深夜休日労働時間
+							|| TmdTotalTimeDao.COL_NIGHT_WORK_ON_HOLIDAY.equals(fieldName)
+							// 所定休出時間
+							|| TmdTotalTimeDao.COL_WORK_ON_SPECIFIC_HOLIDAY.equals(fieldName)
+							// 法定休出時間
+							|| TmdTotalTimeDao.COL_WORK_ON_HOLIDAY.equals(fieldName)
+							// 減額対象時間
+							|| TmdTotalTimeDao.COL_DECREASE_TIME.equals(fieldName)
+							// 45時間超残業時間
+							|| TmdTotalTimeDao.COL_FORTY_FIVE_HOUR_OVERTIME.equals(fieldName)
+							// 合計遅刻時間
+							|| TmdTotalTimeDao.COL_LATE_TIME.equals(fieldName)
+							// 遅刻30分以上時間
+							|| TmdTotalTimeDao.COL_LATE_THIRTY_MINUTES_OR_MORE_TIME.equals(fieldName)
+							// 遅刻30分未満時間
+							|| TmdTotalTimeDao.COL_LATE_LESS_THAN_THIRTY_MINUTES_TIME.equals(fieldName)
+							// 合計早退時間
+							|| TmdTotalTimeDao.COL_LEAVE_EARLY_TIME.equals(fieldName)
+							// 早退30分以上時間
+							|| TmdTotalTimeDao.COL_LEAVE_EARLY_THIRTY_MINUTES_OR_MORE_TIME.equals(fieldName)
+							// 早退30分未満時間
+							|| TmdTotalTimeDao.COL_LEAVE_EARLY_LESS_THAN_THIRTY_MINUTES_TIME.equals(fieldName)
+							// 60時間超残業時間
+							|| TmdTotalTimeDao.COL_SIXTY_HOUR_OVERTIME.equals(fieldName)
+							// 平日時間外時間
+							|| TmdTotalTimeDao.COL_WEEK_DAY_OVERTIME.equals(fieldName)
+							// 所定休日時間外時間
+							|| TmdTotalTimeDao.COL_SPECIFIC_OVERTIME.equals(fieldName)
+							// 所定労働時間内法定休日労働時間
+							|| TmdTotalTimeDao.COL_STATUTORY_HOLIDAY_WORK_TIME_IN.equals(fieldName)
+							// 所定労働時間外法定休日労働時間
+							|| TmdTotalTimeDao.COL_STATUTORY_HOLIDAY_WORK_TIME_OUT.equals(fieldName)
+							// 所定労働時間内所定休日労働時間
+							|| TmdTotalTimeDao.COL_PRESCRIBED_HOLIDAY_WORK_TIME_IN.equals(fieldName)
+							// 所定労働時間外所定休日労働時間
+							|| TmdTotalTimeDao.COL_PRESCRIBED_HOLIDAY_WORK_TIME_OUT.equals(fieldName)
+							// 週40時間超勤務時間
+							|| TmdTotalTimeDao.COL_WEEKLY_OVER_FORTY_HOUR_WORK_TIME.equals(fieldName)
+							// 法定内残業時間(週40時間超除く)
+							|| TmdTotalTimeDao.COL_OVERTIME_IN_NO_WEEKLY_FORTY.equals(fieldName)
+							// 法定外残業時間(週40時間超除く)
+							|| TmdTotalTimeDao.COL_OVERTIME_OUT_NO_WEEKLY_FORTY.equals(fieldName)
+							// 平日残業合計時間
+							|| TmdTotalTimeDao.COL_WEEK_DAY_OVERTIME_TOTAL.equals(fieldName)
+							// 平日時間内時間(週40時間超除く)
+							|| TmdTotalTimeDao.COL_WEEK_DAY_OVERTIME_IN_NO_WEEKLY_FORTY.equals(fieldName)
+							// 平日時間外時間(週40時間超除く)
+							|| TmdTotalTimeDao.COL_WEEK_DAY_OVERTIME_OUT_NO_WEEKLY_FORTY.equals(fieldName)
+							// 平日時間内時間
+							|| TmdTotalTimeDao.COL_WEEK_DAY_OVERTIME_IN.equals(fieldName)) {
+						// 項目追加
+						dataList.add(getExportTime(rs.getInt(fieldName), format));
 						continue;
 					}
-					dataList.add(rs.getString(fieldName));
+					// TODO 計算するものは、ここに処理を加えるのか
 				}
-				list.add(dataList.toArray(new String[0]));
+				if (isPaidHoliday
+						&& (TmdPaidHolidayDao.COL_ACTIVATE_DATE.equals(fieldName)
+								|| TmdPaidHolidayDao.COL_ACQUISITION_DATE.equals(fieldName) || TmdPaidHolidayDao.COL_LIMIT_DATE
+							.equals(fieldName))) {
+					// 有給休暇データ
+					// 有効日・取得日・期限日
+					dataList.add(DateUtility.getStringDate(rs.getDate(fieldName)));
+					continue;
+				}
+				if (isStockHoliday
+						&& (TmdStockHolidayDao.COL_ACTIVATE_DATE.equals(fieldName)
+								|| TmdStockHolidayDao.COL_ACQUISITION_DATE.equals(fieldName) || TmdStockHolidayDao.COL_LIMIT_DATE
+							.equals(fieldName))) {
+					// ストック休暇データ
+					// 有効日・取得日・期限日
+					dataList.add(DateUtility.getStringDate(rs.getDate(fieldName)));
+					continue;
+				}
+				if (isHolidayData
+						&& (TmdHolidayDataDao.COL_ACTIVATE_DATE.equals(fieldName) || TmdHolidayDataDao.COL_HOLIDAY_LIMIT_DATE
+							.equals(fieldName))) {
+					// 休暇データ
+					// 有効日・取得期限
+					dataList.add(DateUtility.getStringDate(rs.getDate(fieldName)));
+					continue;
+				}
+				if (TimeFileConst.FIELD_FULL_NAME.equals(fieldName)) {
+					// 氏名
+					dataList.add(MospUtility.getHumansName(rs.getString(PfmHumanDao.COL_FIRST_NAME),
+							rs.getString(PfmHumanDao.COL_LAST_NAME)));
+					continue;
+				}
+				if (PlatformFileConst.FIELD_SECTION_NAME.equals(fieldName)) {
+					// 所属名称
+					dataList.add(section.getSectionName(rs.getString(PfmHumanDao.COL_SECTION_CODE), targetDate));
+					continue;
+				}
+				if (PlatformFileConst.FIELD_SECTION_DISPLAY.equals(fieldName)) {
+					// 所属表示名称
+					dataList.add(section.getSectionDisplay(rs.getString(PfmHumanDao.COL_SECTION_CODE), targetDate));
+					continue;
+				}
+				// 項目追加フィールド設定
+				if (addExtraField(personalId, targetDate, dataList, fieldName, rs)) {
+					continue;
+				}
+				dataList.add(rs.getString(fieldName));
 			}
+			return dataList.toArray(new String[0]);
 		} catch (SQLException e) {
 			throw new MospException(e);
 		}
-		exportDataDao.closers();
-		return list;
 	}
 	
 	/**
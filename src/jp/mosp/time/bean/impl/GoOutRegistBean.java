@@ -21,8 +21,11 @@
 package jp.mosp.time.bean.impl;
 
 import java.sql.Connection;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.base.MospParams;
@@ -30,9 +33,11 @@ import jp.mosp.platform.base.PlatformBean;
 import jp.mosp.time.bean.AttendanceCalcBeanInterface;
 import jp.mosp.time.bean.GoOutRegistBeanInterface;
 import jp.mosp.time.dao.settings.GoOutDaoInterface;
+import jp.mosp.time.dto.settings.AttendanceDtoInterface;
 import jp.mosp.time.dto.settings.GoOutDtoInterface;
 import jp.mosp.time.dto.settings.TimeSettingDtoInterface;
 import jp.mosp.time.dto.settings.impl.TmdGoOutDto;
+import jp.mosp.time.utils.TimeUtility;
 
 /**
  * 勤怠データ外出情報登録クラス。
@@ -170,6 +175,42 @@ public class GoOutRegistBean extends PlatformBean implements GoOutRegistBeanInte
 		}
 	}
 	
+	@Override
+	public void delete(List<AttendanceDtoInterface> attendanceList) throws MospException {
+		if (attendanceList.isEmpty()) {
+			return;
+		}
+		// 対象キーセット、個人IDセット及び対象期間を取得
+		Set<String> keySet = new HashSet<String>();
+		Set<String> personalIdSet = new HashSet<String>();
+		Date startDate = null;
+		Date endDate = null;
+		for (AttendanceDtoInterface attendanceDto : attendanceList) {
+			keySet.add(TimeUtility.getAttendanceKey(attendanceDto.getPersonalId(), attendanceDto.getWorkDate(),
+					attendanceDto.getTimesWork()));
+			personalIdSet.add(attendanceDto.getPersonalId());
+			if (startDate == null || attendanceDto.getWorkDate().before(startDate)) {
+				startDate = attendanceDto.getWorkDate();
+			}
+			if (endDate == null || attendanceDto.getWorkDate().after(endDate)) {
+				endDate = attendanceDto.getWorkDate();
+			}
+		}
+		// 対象期間の外出情報をまとめて取得し、削除対象のレコード識別IDを取得
+		List<Long> idList = new ArrayList<Long>();
+		for (GoOutDtoInterface dto : dao.findForList(personalIdSet, startDate, endDate)) {
+			if (keySet.contains(TimeUtility.getAttendanceKey(dto.getPersonalId(), dto.getWorkDate(),
+					dto.getTimesWork()))) {
+				idList.add(dto.getTmdGoOutId());
+			}
+		}
+		// 論理削除
+		if (dao.logicalDeleteAll(idList) != idList.size()) {
+			// 他の処理で削除された場合
+			addExclusiveErrorMessage();
+		}
+	}
+	
 	/**
 	 * 削除時の確認処理を行う。<br>
 	 * 削除対象雇用契約を設定している社員がいないかの確認を行う。<br>
@@ -0,0 +1,118 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bean.impl;
+
+import java.sql.Connection;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.utils.DateUtility;
+import jp.mosp.platform.bean.system.JobBeanInterface;
+import jp.mosp.platform.bean.system.JobProgressInterface;
+import jp.mosp.platform.constant.PlatformMessageConst;
+import jp.mosp.time.base.TimeBean;
+import jp.mosp.time.bean.PaidHolidayDataGrantBeanInterface;
+import jp.mosp.time.bean.StockHolidayDataGrantBeanInterface;
+
+/**
+ * 休暇一括付与ジョブクラス。<br>
+ * <br>
+ * 有給休暇付与一覧画面で受け付けた有給休暇或いはストック休暇の一括付与を行う。<br>
+ * ジョブパラメータの先頭で休暇({@link #PRM_PAID}：有給休暇、{@link #PRM_STOCK}：ストック休暇)を指定し、<br>
+ * 以降に個人IDと付与日(yyyy/MM/dd)を交互に指定する。<br>
+ * 付与に失敗した場合は、それまでの付与も含めて登録しない。<br>
+ */
+public class HolidayDataGrantJobBean extends TimeBean implements JobBeanInterface {
+	
+	/**
+	 * ジョブパラメータ(有給休暇)。<br>
+	 */
+	public static final String						PRM_PAID	= "paid";
+	
+	/**
+	 * ジョブパラメータ(ストック休暇)。<br>
+	 */
+	public static final String						PRM_STOCK	= "stock";
+	
+	/**
+	 * 有給休暇付与クラス。<br>
+	 */
+	protected PaidHolidayDataGrantBeanInterface		paidHolidayDataGrant;
+	
+	/**
+	 * ストック休暇付与クラス。<br>
+	 */
+	protected StockHolidayDataGrantBeanInterface	stockHolidayDataGrant;
+	
+	
+	/**
+	 * {@link TimeBean#TimeBean()}を実行する。<br>
+	 */
+	public HolidayDataGrantJobBean() {
+		super();
+	}
+	
+	/**
+	 * {@link TimeBean#TimeBean(MospParams, Connection)}を実行する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param connection DBコネクション
+	 */
+	protected HolidayDataGrantJobBean(MospParams mospParams, Connection connection) {
+		super(mospParams, connection);
+	}
+	
+	@Override
+	public void initBean() throws MospException {
+		paidHolidayDataGrant = (PaidHolidayDataGrantBeanInterface)createBean(PaidHolidayDataGrantBeanInterface.class);
+		stockHolidayDataGrant = (StockHolidayDataGrantBeanInterface)createBean(
+				StockHolidayDataGrantBeanInterface.class);
+	}
+	
+	@Override
+	public void execute(JobProgressInterface progress, String... parameters) throws MospException {
+		// ジョブパラメータ確認
+		if (parameters.length == 0) {
+			return;
+		}
+		// 付与休暇取得
+		boolean isStock = PRM_STOCK.equals(parameters[0]);
+		// 対象件数取得
+		int total = (parameters.length - 1) / 2;
+		// 社員毎に処理
+		for (int i = 0; i < total; i++) {
+			// 個人ID及び付与日取得
+			String personalId = parameters[i * 2 + 1];
+			String grantDate = parameters[i * 2 + 2];
+			// 付与
+			if (isStock) {
+				stockHolidayDataGrant.grant(personalId, DateUtility.getDate(grantDate));
+			} else {
+				paidHolidayDataGrant.grant(personalId, DateUtility.getDate(grantDate));
+			}
+			// 処理結果確認
+			if (mospParams.hasErrorMessage()) {
+				return;
+			}
+			// 進捗設定
+			progress.setProgress(i + 1, total);
+		}
+		// 付与成功メッセージ設定
+		mospParams.addMessage(PlatformMessageConst.MSG_PROCESS_SUCCEED, mospParams.getName("Giving"));
+	}
+	
+}
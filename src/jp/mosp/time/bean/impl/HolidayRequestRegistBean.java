@@ -47,6 +47,7 @@ import jp.mosp.time.bean.HolidayReferenceBeanInterface;
 import jp.mosp.time.bean.HolidayRequestReferenceBeanInterface;
 import jp.mosp.time.bean.HolidayRequestRegistBeanInterface;
 import jp.mosp.time.bean.PaidHolidayInfoReferenceBeanInterface;
+import jp.mosp.time.bean.PaidHolidayLedgerRegistBeanInterface;
 import jp.mosp.time.bean.RequestUtilBeanInterface;
 import jp.mosp.time.bean.ScheduleUtilBeanInterface;
 import jp.mosp.time.bean.StockHolidayInfoReferenceBeanInterface;
@@ -200,6 +201,11 @@ public class HolidayRequestRegistBean extends TimeApplicationBean implements Hol
 	 */
 	private SubstituteDaoInterface					substituteDao;
 	
+	/**
+	 * 有給休暇台帳登録クラス。
+	 */
+	protected PaidHolidayLedgerRegistBeanInterface	paidHolidayLedgerRegist;
+	
 	
 	/**
 	 * {@link PlatformBean#PlatformBean()}を実行する。<br>
@@ -244,6 +250,7 @@ public class HolidayRequestRegistBean extends TimeApplicationBean implements Hol
 		holidayInfoReference = (HolidayInfoReferenceBeanInterface)createBean(HolidayInfoReferenceBeanInterface.class);
 		workTypeItemDao = (WorkTypeItemDaoInterface)createDao(WorkTypeItemDaoInterface.class);
 		substituteDao = (SubstituteDaoInterface)createDao(SubstituteDaoInterface.class);
+		paidHolidayLedgerRegist = (PaidHolidayLedgerRegistBeanInterface)createBean(PaidHolidayLedgerRegistBeanInterface.class);
 	}
 	
 	@Override
@@ -267,6 +274,8 @@ public class HolidayRequestRegistBean extends TimeApplicationBean implements Hol
 		dto.setTmdHolidayRequestId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 有給休暇台帳再作成
+		paidHolidayLedgerRegist.regist(dto);
 	}
 	
 	@Override
@@ -287,6 +296,8 @@ public class HolidayRequestRegistBean extends TimeApplicationBean implements Hol
 		dto.setTmdHolidayRequestId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 有給休暇台帳再作成
+		paidHolidayLedgerRegist.regist(dto);
 	}
 	
 	@Override
@@ -318,6 +329,8 @@ public class HolidayRequestRegistBean extends TimeApplicationBean implements Hol
 		dto.setTmdHolidayRequestId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 有給休暇台帳再作成
+		paidHolidayLedgerRegist.regist(dto);
 	}
 	
 	@Override
@@ -329,6 +342,8 @@ public class HolidayRequestRegistBean extends TimeApplicationBean implements Hol
 		}
 		// 論理削除
 		logicalDelete(dao, dto.getTmdHolidayRequestId());
+		// 有給休暇台帳再作成
+		paidHolidayLedgerRegist.regist(dto);
 	}
 	
 	@Override
@@ -21,7 +21,11 @@ import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.base.MospParams;
@@ -221,6 +225,16 @@ public class ImportTableReferenceBean extends PlatformBean implements ImportTabl
 			return null;
 		}
 		List<AttendanceDtoInterface> attendanceList = new ArrayList<AttendanceDtoInterface>();
+		// 社員コード毎の人事情報履歴をまとめて取得
+		Map<String, List<HumanDtoInterface>> humanMap = getHumanHistoryMap(importDto, importFieldDtoList, list);
+		// 勤務形態情報群(キー：勤務形態コードと勤務日)準備
+		Map<String, WorkTypeDtoInterface> workTypeMap = new HashMap<String, WorkTypeDtoInterface>();
+		// ファイル内重複確認用キーセット準備
+		Set<String> keySet = new HashSet<String>();
+		// 登録済確認対象(勤怠データ及び行インデックス)準備
+		int chunkSize = getImportChunkSize();
+		List<AttendanceDtoInterface> chunkList = new ArrayList<AttendanceDtoInterface>();
+		List<Integer> chunkIndexList = new ArrayList<Integer>();
 		int i = 0;
 		for (String[] csvArray : list) {
 			if (importDto.getHeader() == 1 && i == 0) {
@@ -1405,7 +1419,7 @@ public class ImportTableReferenceBean extends PlatformBean implements ImportTabl
 					hasError = true;
 				}
 				if (!hasError) {
-					HumanDtoInterface humanDto = humanDao.findForEmployeeCode(employeeCode, dto.getWorkDate());
+					HumanDtoInterface humanDto = getHumanForEmployeeCode(humanMap, employeeCode, dto.getWorkDate());
 					if (humanDto == null || humanDto.getPersonalId() == null || humanDto.getPersonalId().isEmpty()) {
 						hasError = true;
 					} else {
@@ -1417,7 +1431,7 @@ public class ImportTableReferenceBean extends PlatformBean implements ImportTabl
 					if (dto.getWorkTypeCode() == null || dto.getWorkTypeCode().isEmpty()) {
 						hasError = true;
 					} else {
-						WorkTypeDtoInterface workTypeDto = workTypeDao.findForInfo(dto.getWorkTypeCode(),
+						WorkTypeDtoInterface workTypeDto = getWorkType(workTypeMap, dto.getWorkTypeCode(),
 								dto.getWorkDate());
 						if (workTypeDto == null) {
 							hasError = true;
@@ -1426,51 +1440,240 @@ public class ImportTableReferenceBean extends PlatformBean implements ImportTabl
 				}
 				if (hasError) {
 					addInvalidDataErrorMessage(i);
-				} else {
+				} else if (keySet.add(getAttendanceKey(dto)) == false) {
 					// ファイル内重複チェック
-					for (AttendanceDtoInterface attendanceDto : attendanceList) {
-						if (attendanceDto.getPersonalId().equals(dto.getPersonalId())
-								&& attendanceDto.getWorkDate().equals(dto.getWorkDate())
-								&& attendanceDto.getTimesWork() == dto.getTimesWork()) {
-							addDuplicateDataErrorMessage(i);
-							hasError = true;
-							break;
-						}
-					}
+					addDuplicateDataErrorMessage(i);
+					hasError = true;
 				}
 				if (!hasError) {
-					AttendanceDtoInterface attendanceDto = attendanceDao.findForKey(dto.getPersonalId(),
-							dto.getWorkDate(), dto.getTimesWork());
-					if (attendanceDto != null) {
-						WorkflowDtoInterface workflowDto = workflowDao.findForKey(attendanceDto.getWorkflow());
-						if (workflowDto != null) {
-							if (PlatformConst.CODE_STATUS_DRAFT.equals(workflowDto.getWorkflowStatus())) {
-								// 下書の場合
-								dto.setTmdAttendanceId(attendanceDto.getTmdAttendanceId());
-								dto.setWorkflow(attendanceDto.getWorkflow());
-							} else if (PlatformConst.CODE_STATUS_APPLY.equals(workflowDto.getWorkflowStatus())
-									|| PlatformConst.CODE_STATUS_APPROVED.equals(workflowDto.getWorkflowStatus())
-									|| PlatformConst.CODE_STATUS_REVERT.equals(workflowDto.getWorkflowStatus())
-									|| PlatformConst.CODE_STATUS_CANCEL.equals(workflowDto.getWorkflowStatus())
-									|| PlatformConst.CODE_STATUS_COMPLETE.equals(workflowDto.getWorkflowStatus())
-									|| workflowIntegrate.isCancelApprovable(workflowDto)) {
-								// 未承認・承認・差戻・承認解除・承認済・解除申請の場合
-								addAlreadyRegisteredDataErrorMessage(i);
-								hasError = true;
-								break;
-							}
-						}
-					}
+					// 登録済確認対象に追加
+					chunkList.add(dto);
+					chunkIndexList.add(i);
 				}
-				if (!hasError) {
-					attendanceList.add(dto);
+				if (chunkList.size() >= chunkSize) {
+					// 登録済確認(まとめて確認)
+					checkRegisteredAttendance(chunkList, chunkIndexList, attendanceList);
 				}
 			}
 			i++;
 		}
+		// 登録済確認(残り)
+		checkRegisteredAttendance(chunkList, chunkIndexList, attendanceList);
 		return attendanceList;
 	}
 	
+	/**
+	 * 勤怠データが登録済であるかを、まとめて確認する。<br>
+	 * 対象勤怠データの既存情報及びワークフロー情報をまとめて取得し、
+	 * 下書であればレコード識別ID及びワークフロー番号を引き継ぐ。<br>
+	 * 申請済等であればエラーメッセージを追加する。<br>
+	 * 確認後、問題の無い勤怠データを勤怠データリストに追加し、
+	 * 確認対象リストは空にする。<br>
+	 * @param chunkList      確認対象勤怠データリスト
+	 * @param chunkIndexList 確認対象行インデックスリスト
+	 * @param attendanceList 勤怠データリスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected void checkRegisteredAttendance(List<AttendanceDtoInterface> chunkList, List<Integer> chunkIndexList,
+			List<AttendanceDtoInterface> attendanceList) throws MospException {
+		if (chunkList.isEmpty()) {
+			return;
+		}
+		// 対象個人IDセット及び対象期間を取得
+		Set<String> personalIdSet = new HashSet<String>();
+		Date startDate = null;
+		Date endDate = null;
+		for (AttendanceDtoInterface dto : chunkList) {
+			personalIdSet.add(dto.getPersonalId());
+			if (startDate == null || dto.getWorkDate().before(startDate)) {
+				startDate = dto.getWorkDate();
+			}
+			if (endDate == null || dto.getWorkDate().after(endDate)) {
+				endDate = dto.getWorkDate();
+			}
+		}
+		// 登録済勤怠データ(取下以外)をまとめて取得
+		Map<String, AttendanceDtoInterface> registeredMap = new HashMap<String, AttendanceDtoInterface>();
+		Set<Long> workflowSet = new HashSet<Long>();
+		for (AttendanceDtoInterface dto : attendanceDao.findForList(personalIdSet, startDate, endDate, true)) {
+			registeredMap.put(getAttendanceKey(dto), dto);
+			workflowSet.add(dto.getWorkflow());
+		}
+		// ワークフロー情報をまとめて取得
+		Map<Long, WorkflowDtoInterface> workflowMap = workflowDao.findForInKey(workflowSet);
+		for (int j = 0; j < chunkList.size(); j++) {
+			AttendanceDtoInterface dto = chunkList.get(j);
+			AttendanceDtoInterface attendanceDto = registeredMap.get(getAttendanceKey(dto));
+			if (attendanceDto != null) {
+				WorkflowDtoInterface workflowDto = workflowMap.get(attendanceDto.getWorkflow());
+				if (workflowDto != null) {
+					if (PlatformConst.CODE_STATUS_DRAFT.equals(workflowDto.getWorkflowStatus())) {
+						// 下書の場合
+						dto.setTmdAttendanceId(attendanceDto.getTmdAttendanceId());
+						dto.setWorkflow(attendanceDto.getWorkflow());
+					} else if (PlatformConst.CODE_STATUS_APPLY.equals(workflowDto.getWorkflowStatus())
+							|| PlatformConst.CODE_STATUS_APPROVED.equals(workflowDto.getWorkflowStatus())
+							|| PlatformConst.CODE_STATUS_REVERT.equals(workflowDto.getWorkflowStatus())
+							|| PlatformConst.CODE_STATUS_CANCEL.equals(workflowDto.getWorkflowStatus())
+							|| PlatformConst.CODE_STATUS_COMPLETE.equals(workflowDto.getWorkflowStatus())
+							|| workflowIntegrate.isCancelApprovable(workflowDto)) {
+						// 未承認・承認・差戻・承認解除・承認済・解除申請の場合
+						addAlreadyRegisteredDataErrorMessage(chunkIndexList.get(j));
+						continue;
+					}
+				}
+			}
+			attendanceList.add(dto);
+		}
+		chunkList.clear();
+		chunkIndexList.clear();
+	}
+	
+	/**
+	 * 社員コード毎の人事情報履歴群を取得する。<br>
+	 * インポート対象データの社員コードを集め、
+	 * 該当する個人の人事情報履歴をまとめて取得する。<br>
+	 * @param importDto          インポート情報
+	 * @param importFieldDtoList インポートフィールド情報リスト
+	 * @param list               インポート対象データリスト
+	 * @return 社員コード毎の人事情報履歴群(キー：社員コード、値：有効日昇順の人事情報リスト群)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected Map<String, List<HumanDtoInterface>> getHumanHistoryMap(ImportDtoInterface importDto,
+			List<ImportFieldDtoInterface> importFieldDtoList, List<String[]> list) throws MospException {
+		Map<String, List<HumanDtoInterface>> humanMap = new HashMap<String, List<HumanDtoInterface>>();
+		// 社員コードのフィールド順序を取得
+		int fieldOrder = 0;
+		for (ImportFieldDtoInterface importFieldDto : importFieldDtoList) {
+			if (importFieldDto.getFieldName().equals(PfmHumanDao.COL_EMPLOYEE_CODE)) {
+				fieldOrder = importFieldDto.getFieldOrder();
+			}
+		}
+		if (fieldOrder <= 0) {
+			return humanMap;
+		}
+		// インポート対象データの社員コードセットを取得
+		Set<String> employeeCodeSet = new HashSet<String>();
+		for (int i = importDto.getHeader() == 1 ? 1 : 0; i < list.size(); i++) {
+			String[] csvArray = list.get(i);
+			if (csvArray.length > fieldOrder - 1 && csvArray[fieldOrder - 1].isEmpty() == false) {
+				employeeCodeSet.add(csvArray[fieldOrder - 1]);
+			}
+		}
+		// 社員コードを分割して人事情報履歴を取得
+		int chunkSize = getImportChunkSize();
+		List<String> employeeCodeList = new ArrayList<String>(employeeCodeSet);
+		for (int i = 0; i < employeeCodeList.size(); i += chunkSize) {
+			Set<String> codeSet = new HashSet<String>(employeeCodeList.subList(i,
+					Math.min(i + chunkSize, employeeCodeList.size())));
+			// 個人毎の履歴を有効日昇順で取得
+			Map<String, List<HumanDtoInterface>> personMap = new HashMap<String, List<HumanDtoInterface>>();
+			for (HumanDtoInterface humanDto : humanDao.findForEmployeeCodeHistory(codeSet)) {
+				List<HumanDtoInterface> historyList = personMap.get(humanDto.getPersonalId());
+				if (historyList == null) {
+					historyList = new ArrayList<HumanDtoInterface>();
+					personMap.put(humanDto.getPersonalId(), historyList);
+				}
+				historyList.add(humanDto);
+			}
+			// 社員コード毎に、その社員コードが設定されたことのある個人の履歴を設定
+			for (List<HumanDtoInterface> historyList : personMap.values()) {
+				Set<String> personCodeSet = new HashSet<String>();
+				for (HumanDtoInterface humanDto : historyList) {
+					personCodeSet.add(humanDto.getEmployeeCode());
+				}
+				for (String employeeCode : personCodeSet) {
+					if (codeSet.contains(employeeCode) == false) {
+						continue;
+					}
+					List<HumanDtoInterface> humanList = humanMap.get(employeeCode);
+					if (humanList == null) {
+						humanList = new ArrayList<HumanDtoInterface>();
+						humanMap.put(employeeCode, humanList);
+					}
+					humanList.addAll(historyList);
+				}
+			}
+		}
+		return humanMap;
+	}
+	
+	/**
+	 * 社員コード毎の人事情報履歴群から、対象日時点で対象社員コードが設定されている人事情報を取得する。<br>
+	 * {@link HumanDaoInterface#findForEmployeeCode(String, Date)}と同じ条件で取得する。<br>
+	 * 該当する情報が存在しない場合は、nullを返す。<br>
+	 * @param humanMap     社員コード毎の人事情報履歴群
+	 * @param employeeCode 社員コード
+	 * @param targetDate   対象日
+	 * @return 人事情報
+	 */
+	protected HumanDtoInterface getHumanForEmployeeCode(Map<String, List<HumanDtoInterface>> humanMap,
+			String employeeCode, Date targetDate) {
+		List<HumanDtoInterface> humanList = humanMap.get(employeeCode);
+		if (humanList == null) {
+			return null;
+		}
+		// 個人毎に対象日時点の最新の情報を取得
+		Map<String, HumanDtoInterface> latestMap = new HashMap<String, HumanDtoInterface>();
+		for (HumanDtoInterface humanDto : humanList) {
+			if (humanDto.getActivateDate().after(targetDate)) {
+				continue;
+			}
+			HumanDtoInterface latestDto = latestMap.get(humanDto.getPersonalId());
+			if (latestDto == null || latestDto.getActivateDate().before(humanDto.getActivateDate())) {
+				latestMap.put(humanDto.getPersonalId(), humanDto);
+			}
+		}
+		// 社員コードが一致する情報のうち有効日が最新のものを取得
+		HumanDtoInterface dto = null;
+		for (HumanDtoInterface latestDto : latestMap.values()) {
+			if (latestDto.getEmployeeCode().equals(employeeCode) == false) {
+				continue;
+			}
+			if (dto == null || dto.getActivateDate().before(latestDto.getActivateDate())) {
+				dto = latestDto;
+			}
+		}
+		return dto;
+	}
+	
+	/**
+	 * 勤務形態情報を取得する。<br>
+	 * 勤務形態コード及び勤務日毎に、一度だけ検索する。<br>
+	 * @param workTypeMap  勤務形態情報群(キー：勤務形態コードと勤務日)
+	 * @param workTypeCode 勤務形態コード
+	 * @param workDate     勤務日
+	 * @return 勤務形態情報
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected WorkTypeDtoInterface getWorkType(Map<String, WorkTypeDtoInterface> workTypeMap, String workTypeCode,
+			Date workDate) throws MospException {
+		String key = workTypeCode + ":" + workDate.getTime();
+		if (workTypeMap.containsKey(key)) {
+			return workTypeMap.get(key);
+		}
+		WorkTypeDtoInterface workTypeDto = workTypeDao.findForInfo(workTypeCode, workDate);
+		workTypeMap.put(key, workTypeDto);
+		return workTypeDto;
+	}
+	
+	/**
+	 * 勤怠データのキー(個人ID、勤務日、勤務回数)を表す文字列を取得する。<br>
+	 * @param dto 勤怠データ
+	 * @return キー文字列
+	 */
+	protected String getAttendanceKey(AttendanceDtoInterface dto) {
+		return TimeUtility.getAttendanceKey(dto.getPersonalId(), dto.getWorkDate(), dto.getTimesWork());
+	}
+	
+	/**
+	 * インポート時にまとめて処理する件数を取得する。<br>
+	 * @return インポート時にまとめて処理する件数
+	 */
+	protected int getImportChunkSize() {
+		return Math.max(1, mospParams.getApplicationProperty(TimeConst.APP_IMPORT_CHUNK_SIZE, 1000));
+	}
+	
 	@Override
 	public List<TotalTimeDataDtoInterface> getTotalTimeList(String importCode, List<String[]> list)
 			throws MospException {
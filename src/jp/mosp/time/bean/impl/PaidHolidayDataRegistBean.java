@@ -29,6 +29,7 @@ import jp.mosp.platform.base.PlatformBean;
 import jp.mosp.platform.utils.InputCheckUtility;
 import jp.mosp.time.bean.HolidayRequestReferenceBeanInterface;
 import jp.mosp.time.bean.PaidHolidayDataRegistBeanInterface;
+import jp.mosp.time.bean.PaidHolidayLedgerRegistBeanInterface;
 import jp.mosp.time.bean.PaidHolidayTransactionReferenceBeanInterface;
 import jp.mosp.time.constant.TimeConst;
 import jp.mosp.time.constant.TimeFileConst;
@@ -61,6 +62,11 @@ public class PaidHolidayDataRegistBean extends PlatformBean implements PaidHolid
 	 */
 	protected HolidayRequestReferenceBeanInterface			holidayRequestReference;
 	
+	/**
+	 * 有給休暇台帳登録クラス。
+	 */
+	protected PaidHolidayLedgerRegistBeanInterface			paidHolidayLedgerRegist;
+	
 	
 	/**
 	 * {@link PlatformBean#PlatformBean()}を実行する。<br>
@@ -84,6 +90,7 @@ public class PaidHolidayDataRegistBean extends PlatformBean implements PaidHolid
 		dao = (PaidHolidayDataDaoInterface)createDao(PaidHolidayDataDaoInterface.class);
 		paidHolidayTransactionReference = (PaidHolidayTransactionReferenceBeanInterface)createBean(PaidHolidayTransactionReferenceBeanInterface.class);
 		holidayRequestReference = (HolidayRequestReferenceBeanInterface)createBean(HolidayRequestReferenceBeanInterface.class);
+		paidHolidayLedgerRegist = (PaidHolidayLedgerRegistBeanInterface)createBean(PaidHolidayLedgerRegistBeanInterface.class);
 	}
 	
 	@Override
@@ -120,6 +127,8 @@ public class PaidHolidayDataRegistBean extends PlatformBean implements PaidHolid
 		dto.setTmdPaidHolidayId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 有給休暇台帳再作成
+		paidHolidayLedgerRegist.regist(dto.getPersonalId());
 	}
 	
 	@Override
@@ -140,6 +149,8 @@ public class PaidHolidayDataRegistBean extends PlatformBean implements PaidHolid
 		dto.setTmdPaidHolidayId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 有給休暇台帳再作成
+		paidHolidayLedgerRegist.regist(dto.getPersonalId());
 	}
 	
 	@Override
@@ -156,6 +167,8 @@ public class PaidHolidayDataRegistBean extends PlatformBean implements PaidHolid
 		}
 		// 論理削除
 		logicalDelete(dao, dto.getTmdPaidHolidayId());
+		// 有給休暇台帳再作成
+		paidHolidayLedgerRegist.regist(dto.getPersonalId());
 	}
 	
 	@Override
@@ -170,6 +183,8 @@ public class PaidHolidayDataRegistBean extends PlatformBean implements PaidHolid
 			// 論理削除
 			logicalDelete(dao, dto.getTmdPaidHolidayId());
 		}
+		// 有給休暇台帳再作成
+		paidHolidayLedgerRegist.regist(personalId);
 	}
 	
 	/**
@@ -50,6 +50,7 @@ import jp.mosp.time.dao.settings.HolidayRequestDaoInterface;
 import jp.mosp.time.dao.settings.PaidHolidayDataDaoInterface;
 import jp.mosp.time.dao.settings.PaidHolidayEntranceDateDaoInterface;
 import jp.mosp.time.dao.settings.PaidHolidayFirstYearDaoInterface;
+import jp.mosp.time.dao.settings.PaidHolidayLedgerDaoInterface;
 import jp.mosp.time.dao.settings.PaidHolidayPointDateDaoInterface;
 import jp.mosp.time.dao.settings.PaidHolidayTransactionDaoInterface;
 import jp.mosp.time.dao.settings.TotalTimeDataDaoInterface;
@@ -57,11 +58,14 @@ import jp.mosp.time.dto.settings.HolidayRequestDtoInterface;
 import jp.mosp.time.dto.settings.PaidHolidayDataDtoInterface;
 import jp.mosp.time.dto.settings.PaidHolidayEntranceDateDtoInterface;
 import jp.mosp.time.dto.settings.PaidHolidayFirstYearDtoInterface;
+import jp.mosp.time.dto.settings.PaidHolidayLedgerDtoInterface;
 import jp.mosp.time.dto.settings.PaidHolidayPointDateDtoInterface;
 import jp.mosp.time.dto.settings.PaidHolidayTransactionDtoInterface;
 import jp.mosp.time.dto.settings.ScheduleDateDtoInterface;
 import jp.mosp.time.dto.settings.ScheduleDtoInterface;
 import jp.mosp.time.dto.settings.TotalTimeDataDtoInterface;
+import jp.mosp.time.dto.settings.impl.TmdPaidHolidayLedgerDto;
+import jp.mosp.time.entity.PaidHolidayBalanceEntity;
 import jp.mosp.time.utils.TimeUtility;
 
 /**
@@ -79,6 +83,11 @@ public class PaidHolidayInfoReferenceBean extends TimeApplicationBean implements
 	 */
 	private PaidHolidayTransactionDaoInterface				paidHolidayTransactionDao;
 	
+	/**
+	 * 有給休暇台帳DAO。
+	 */
+	private PaidHolidayLedgerDaoInterface					paidHolidayLedgerDao;
+	
 	/**
 	 * 休暇申請DAO。
 	 */
@@ -179,6 +188,8 @@ public class PaidHolidayInfoReferenceBean extends TimeApplicationBean implements
 		paidHolidayDataDao = (PaidHolidayDataDaoInterface)createDao(PaidHolidayDataDaoInterface.class);
 		// 有給休暇トランザクションDAO取得
 		paidHolidayTransactionDao = (PaidHolidayTransactionDaoInterface)createDao(PaidHolidayTransactionDaoInterface.class);
+		// 有給休暇台帳DAO取得
+		paidHolidayLedgerDao = (PaidHolidayLedgerDaoInterface)createDao(PaidHolidayLedgerDaoInterface.class);
 		// 休暇申請DAO
 		holidayRequestDao = (HolidayRequestDaoInterface)createDao(HolidayRequestDaoInterface.class);
 		// 休暇申請参照クラス取得
@@ -213,26 +224,28 @@ public class PaidHolidayInfoReferenceBean extends TimeApplicationBean implements
 	@Override
 	public Map<String, Object> getPaidHolidayInfo(String personalId, Date targetDate, boolean containNotApproved)
 			throws MospException {
+		// 有給休暇残取得
+		PaidHolidayBalanceEntity balance = getPaidHolidayBalance(personalId, targetDate, containNotApproved);
 		Map<String, Object> map = new HashMap<String, Object>();
-		map.put(TimeConst.CODE_ACTIVATE_DATE, targetDate);
-		map.put(TimeConst.CODE_CURRENT_YEAR_DAY, 0.0);
-		map.put(TimeConst.CODE_CURRENT_TIME, 0);
-		map.put(TimeConst.CODE_FORMER_YEAR_DAY, 0.0);
-		map.put(TimeConst.CODE_FORMER_YEAR_TIME, 0);
-		map.put(TimeConst.CODE_GIVING_DAY, 0.0);
-		map.put(TimeConst.CODE_GIVING_TIME, 0);
-		map.put(TimeConst.CODE_CANCEL_DAY, 0.0);
-		map.put(TimeConst.CODE_CANCEL_TIME, 0);
-		map.put(TimeConst.CODE_USE_DAY, 0.0);
-		map.put(TimeConst.CODE_USE_TIME, 0);
-		// 今年度残日数
-		double currentDay = 0;
-		// 今年度残時間
-		int currentTime = 0;
-		// 前年度残日数
-		double formerDay = 0;
-		// 前年度残時間
-		int formerTime = 0;
+		map.put(TimeConst.CODE_ACTIVATE_DATE, balance.getActivateDate());
+		map.put(TimeConst.CODE_CURRENT_YEAR_DAY, balance.getCurrentDay());
+		map.put(TimeConst.CODE_CURRENT_TIME, balance.getCurrentTime());
+		map.put(TimeConst.CODE_FORMER_YEAR_DAY, balance.getFormerDay());
+		map.put(TimeConst.CODE_FORMER_YEAR_TIME, balance.getFormerTime());
+		map.put(TimeConst.CODE_GIVING_DAY, balance.getGivingDay());
+		map.put(TimeConst.CODE_GIVING_TIME, balance.getGivingTime());
+		map.put(TimeConst.CODE_CANCEL_DAY, balance.getCancelDay());
+		map.put(TimeConst.CODE_CANCEL_TIME, balance.getCancelTime());
+		map.put(TimeConst.CODE_USE_DAY, balance.getUseDay());
+		map.put(TimeConst.CODE_USE_TIME, balance.getUseTime());
+		return map;
+	}
+	
+	@Override
+	public PaidHolidayBalanceEntity getPaidHolidayBalance(String personalId, Date targetDate,
+			boolean containNotApproved) throws MospException {
+		// 有給休暇残準備
+		PaidHolidayBalanceEntity balance = new PaidHolidayBalanceEntity(targetDate);
 		// 今年度保有日数
 		double currentHoldDay = 0;
 		// 今年度保有時間
@@ -267,10 +280,8 @@ public class PaidHolidayInfoReferenceBean extends TimeApplicationBean implements
 		int formerUseTime = 0;
 		// 今年度付与日準備
 		Date currentAcquisitionDate = null;
-		// 所定労働時間を取得
-		int generalWorkHour = 0;
 		if (!hasPaidHolidaySettings(personalId, targetDate)) {
-			return map;
+			return balance;
 		}
 		int paidHolidayType = paidHolidayDto.getPaidHolidayType();
 		// 基準日又は対象外の場合
@@ -292,109 +303,163 @@ public class PaidHolidayInfoReferenceBean extends TimeApplicationBean implements
 		}
 		
 		if (currentAcquisitionDate == null) {
-			return map;
+			return balance;
 		}
 		// 有休時間取得限度時間取得
-		generalWorkHour = paidHolidayDto.getTimeAcquisitionLimitTimes();
-		// 有給休暇データリスト取得
-		List<PaidHolidayDataDtoInterface> paidHolidayDataDtoList = paidHolidayDataDao.findForInfoList(personalId,
-				targetDate);
-		// 有給休暇データリスト毎に処理
-		for (PaidHolidayDataDtoInterface paidHolidayDataDto : paidHolidayDataDtoList) {
+		int generalWorkHour = paidHolidayDto.getTimeAcquisitionLimitTimes();
+		// 有給休暇台帳情報リスト取得
+		List<PaidHolidayLedgerDtoInterface> ledgerList = getPaidHolidayLedgerList(personalId, targetDate,
+				containNotApproved);
+		// 有給休暇台帳情報毎に処理
+		for (PaidHolidayLedgerDtoInterface ledgerDto : ledgerList) {
 			// 有効日設定
-			map.put(TimeConst.CODE_ACTIVATE_DATE, paidHolidayDataDto.getActivateDate());
-			// 取得日取得
-			Date acquisitionDate = paidHolidayDataDto.getAcquisitionDate();
+			balance.setActivateDate(ledgerDto.getActivateDate());
+			// 利用日数及び利用時間取得(未承認申請を含むか承認済のみか)
+			double useDay = containNotApproved ? ledgerDto.getUseDay() : ledgerDto.getApprovedDay();
+			int useTime = containNotApproved ? ledgerDto.getUseHour() : ledgerDto.getApprovedHour();
 			// 取得日が今年度付与日の前でない場合
-			if (!acquisitionDate.before(currentAcquisitionDate)) {
+			if (!ledgerDto.getAcquisitionDate().before(currentAcquisitionDate)) {
 				// 今年度
-				currentHoldDay += paidHolidayDataDto.getHoldDay();
-				currentHoldTime += paidHolidayDataDto.getHoldHour();
-				// 手動付与・破棄
-				List<PaidHolidayTransactionDtoInterface> paidHolidayTransactionDtoList = paidHolidayTransactionDao
-					.findForList(personalId, acquisitionDate, paidHolidayDataDto.getActivateDate(), targetDate);
-				for (PaidHolidayTransactionDtoInterface paidHolidayTransactionDto : paidHolidayTransactionDtoList) {
-					// 付与日数・付与時間・廃棄日数・廃棄時間数
-					currentGivingDay += paidHolidayTransactionDto.getGivingDay();
-					currentGivingTime += paidHolidayTransactionDto.getGivingHour();
-					currentCancelDay += paidHolidayTransactionDto.getCancelDay();
-					currentCancelTime += paidHolidayTransactionDto.getCancelHour();
-				}
-				// 申請
-				if (containNotApproved) {
-					// 未承認申請を含む場合
-					Map<String, Object> requestMap = holidayRequest.getRequestDayHour(personalId, acquisitionDate, 1,
-							Integer.toString(1), paidHolidayDataDto.getActivateDate(), targetDate);
-					currentUseDay += ((Double)requestMap.get(TimeConst.CODE_REQUEST_DAY)).doubleValue();
-					currentUseTime += ((Integer)requestMap.get(TimeConst.CODE_REQUEST_HOUR)).intValue();
-				} else {
-					// 承認済のみの場合
-					Map<String, Object> approvedMap = holidayRequest.getApprovedDayHour(personalId, acquisitionDate, 1,
-							Integer.toString(1), paidHolidayDataDto.getActivateDate(), targetDate);
-					// 承認済の合計日数
-					currentUseDay += ((Double)approvedMap.get(TimeConst.CODE_APPROVED_DAY)).doubleValue();
-					// 承認済の合計時間数
-					currentUseTime += ((Integer)approvedMap.get(TimeConst.CODE_APPROVED_HOUR)).intValue();
-				}
-				currentDay = currentHoldDay + currentGivingDay - currentCancelDay - currentUseDay;
-				currentTime = currentHoldTime + currentGivingTime - currentCancelTime - currentUseTime;
-				if (generalWorkHour > 0) {
-					while (currentTime < 0 && currentDay >= 1) {
-						currentDay--;
-						currentTime += generalWorkHour;
-					}
-				}
-			} else if (acquisitionDate.before(currentAcquisitionDate)) {
+				currentHoldDay += ledgerDto.getHoldDay();
+				currentHoldTime += ledgerDto.getHoldHour();
+				currentGivingDay += ledgerDto.getGivingDay();
+				currentGivingTime += ledgerDto.getGivingHour();
+				currentCancelDay += ledgerDto.getCancelDay();
+				currentCancelTime += ledgerDto.getCancelHour();
+				currentUseDay += useDay;
+				currentUseTime += useTime;
+			} else {
 				// 前年度以前
-				formerHoldDay += paidHolidayDataDto.getHoldDay();
-				formerHoldTime += paidHolidayDataDto.getHoldHour();
-				// 手動付与・破棄
-				List<PaidHolidayTransactionDtoInterface> paidHolidayTransactionDtoList = paidHolidayTransactionDao
-					.findForList(personalId, acquisitionDate, paidHolidayDataDto.getActivateDate(), targetDate);
-				for (PaidHolidayTransactionDtoInterface paidHolidayTransactionDto : paidHolidayTransactionDtoList) {
-					// 付与日数・付与時間・廃棄日数・廃棄時間数
-					formerGivingDay += paidHolidayTransactionDto.getGivingDay();
-					formerGivingTime += paidHolidayTransactionDto.getGivingHour();
-					formerCancelDay += paidHolidayTransactionDto.getCancelDay();
-					formerCancelTime += paidHolidayTransactionDto.getCancelHour();
-				}
-				// 申請
-				if (containNotApproved) {
-					// 未承認申請を含む場合
-					Map<String, Object> requestMap = holidayRequest.getRequestDayHour(personalId, acquisitionDate, 1,
-							Integer.toString(1), paidHolidayDataDto.getActivateDate(), targetDate);
-					formerUseDay += ((Double)requestMap.get(TimeConst.CODE_REQUEST_DAY)).doubleValue();
-					formerUseTime += ((Integer)requestMap.get(TimeConst.CODE_REQUEST_HOUR)).intValue();
-				} else {
-					// 承認済のみの場合
-					Map<String, Object> approvedMap = holidayRequest.getApprovedDayHour(personalId, acquisitionDate, 1,
-							Integer.toString(1), paidHolidayDataDto.getActivateDate(), targetDate);
-					// 承認済の合計日数
-					formerUseDay += ((Double)approvedMap.get(TimeConst.CODE_APPROVED_DAY)).doubleValue();
-					// 承認済の合計時間数
-					formerUseTime += ((Integer)approvedMap.get(TimeConst.CODE_APPROVED_HOUR)).intValue();
-				}
-				formerDay = formerHoldDay + formerGivingDay - formerCancelDay - formerUseDay;
-				formerTime = formerHoldTime + formerGivingTime - formerCancelTime - formerUseTime;
-				if (generalWorkHour > 0) {
-					while (formerTime < 0 && formerDay >= 1) {
-						formerDay--;
-						formerTime += generalWorkHour;
-					}
-				}
+				formerHoldDay += ledgerDto.getHoldDay();
+				formerHoldTime += ledgerDto.getHoldHour();
+				formerGivingDay += ledgerDto.getGivingDay();
+				formerGivingTime += ledgerDto.getGivingHour();
+				formerCancelDay += ledgerDto.getCancelDay();
+				formerCancelTime += ledgerDto.getCancelHour();
+				formerUseDay += useDay;
+				formerUseTime += useTime;
+			}
+		}
+		// 今年度残日数及び残時間
+		double currentDay = currentHoldDay + currentGivingDay - currentCancelDay - currentUseDay;
+		int currentTime = currentHoldTime + currentGivingTime - currentCancelTime - currentUseTime;
+		// 前年度残日数及び残時間
+		double formerDay = formerHoldDay + formerGivingDay - formerCancelDay - formerUseDay;
+		int formerTime = formerHoldTime + formerGivingTime - formerCancelTime - formerUseTime;
+		if (generalWorkHour > 0) {
+			while (currentTime < 0 && currentDay >= 1) {
+				currentDay--;
+				currentTime += generalWorkHour;
+			}
+			while (formerTime < 0 && formerDay >= 1) {
+				formerDay--;
+				formerTime += generalWorkHour;
 			}
 		}
-		map.put(TimeConst.CODE_CURRENT_YEAR_DAY, currentDay);
-		map.put(TimeConst.CODE_CURRENT_TIME, currentTime);
-		map.put(TimeConst.CODE_FORMER_YEAR_DAY, formerDay);
-		map.put(TimeConst.CODE_FORMER_YEAR_TIME, formerTime);
-		map.put(TimeConst.CODE_GIVING_DAY, currentGivingDay + formerGivingDay);
-		map.put(TimeConst.CODE_GIVING_TIME, currentGivingTime + formerGivingTime);
-		map.put(TimeConst.CODE_CANCEL_DAY, currentCancelDay + formerCancelDay);
-		map.put(TimeConst.CODE_CANCEL_TIME, currentCancelTime + formerCancelTime);
-		map.put(TimeConst.CODE_USE_DAY, currentUseDay + formerUseDay);
-		map.put(TimeConst.CODE_USE_TIME, currentUseTime + formerUseTime);
-		return map;
+		balance.setCurrentDay(currentDay);
+		balance.setCurrentTime(currentTime);
+		balance.setFormerDay(formerDay);
+		balance.setFormerTime(formerTime);
+		balance.setGivingDay(currentGivingDay + formerGivingDay);
+		balance.setGivingTime(currentGivingTime + formerGivingTime);
+		balance.setCancelDay(currentCancelDay + formerCancelDay);
+		balance.setCancelTime(currentCancelTime + formerCancelTime);
+		balance.setUseDay(currentUseDay + formerUseDay);
+		balance.setUseTime(currentUseTime + formerUseTime);
+		return balance;
+	}
+	
+	/**
+	 * 対象日時点の有給休暇台帳情報リストを取得する。<br>
+	 * <br>
+	 * 台帳情報は有効日から期限日までの合計を保持しているため、
+	 * 最終事象日が対象日より後の台帳情報は、対象日までの手動付与・破棄及び申請を集計し直す。<br>
+	 * 台帳が作成されていない場合は、有給休暇データから同様に集計する。<br>
+	 * @param personalId 個人ID
+	 * @param targetDate 対象日
+	 * @param containNotApproved 未承認要否フラグ(true：未承認申請も含める、false：承認済のみ)
+	 * @return 有給休暇台帳情報リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected List<PaidHolidayLedgerDtoInterface> getPaidHolidayLedgerList(String personalId, Date targetDate,
+			boolean containNotApproved) throws MospException {
+		// 有給休暇台帳情報リスト取得
+		List<PaidHolidayLedgerDtoInterface> list = new ArrayList<PaidHolidayLedgerDtoInterface>(
+				paidHolidayLedgerDao.findForInfoList(personalId, targetDate));
+		// 台帳が作成されていない場合
+		if (list.isEmpty()) {
+			// 有給休暇データリスト毎に台帳情報を準備
+			for (PaidHolidayDataDtoInterface paidHolidayDataDto : paidHolidayDataDao.findForInfoList(personalId,
+					targetDate)) {
+				PaidHolidayLedgerDtoInterface dto = new TmdPaidHolidayLedgerDto();
+				dto.setPersonalId(personalId);
+				dto.setActivateDate(paidHolidayDataDto.getActivateDate());
+				dto.setAcquisitionDate(paidHolidayDataDto.getAcquisitionDate());
+				dto.setLimitDate(paidHolidayDataDto.getLimitDate());
+				dto.setHoldDay(paidHolidayDataDto.getHoldDay());
+				dto.setHoldHour(paidHolidayDataDto.getHoldHour());
+				list.add(dto);
+			}
+		}
+		// 有給休暇台帳情報毎に処理
+		for (PaidHolidayLedgerDtoInterface dto : list) {
+			// 最終事象日が対象日以前である場合
+			if (dto.getLastEventDate() != null && !dto.getLastEventDate().after(targetDate)) {
+				continue;
+			}
+			// 対象日までの手動付与・破棄及び申請を集計
+			setPaidHolidayUse(personalId, dto, targetDate, containNotApproved);
+		}
+		return list;
+	}
+	
+	/**
+	 * 有給休暇台帳情報の有効日から対象日までの手動付与・破棄及び申請を集計し、設定する。<br>
+	 * 未承認申請を含める場合は利用日数(時間)を、承認済のみの場合は承認済日数(時間)を設定する。<br>
+	 * @param personalId 個人ID
+	 * @param dto 有給休暇台帳情報
+	 * @param targetDate 対象日
+	 * @param containNotApproved 未承認要否フラグ(true：未承認申請も含める、false：承認済のみ)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected void setPaidHolidayUse(String personalId, PaidHolidayLedgerDtoInterface dto, Date targetDate,
+			boolean containNotApproved) throws MospException {
+		// 取得日取得
+		Date acquisitionDate = dto.getAcquisitionDate();
+		// 手動付与・破棄
+		double givingDay = 0;
+		int givingHour = 0;
+		double cancelDay = 0;
+		int cancelHour = 0;
+		List<PaidHolidayTransactionDtoInterface> paidHolidayTransactionDtoList = paidHolidayTransactionDao.findForList(
+				personalId, acquisitionDate, dto.getActivateDate(), targetDate);
+		for (PaidHolidayTransactionDtoInterface paidHolidayTransactionDto : paidHolidayTransactionDtoList) {
+			// 付与日数・付与時間・廃棄日数・廃棄時間数
+			givingDay += paidHolidayTransactionDto.getGivingDay();
+			givingHour += paidHolidayTransactionDto.getGivingHour();
+			cancelDay += paidHolidayTransactionDto.getCancelDay();
+			cancelHour += paidHolidayTransactionDto.getCancelHour();
+		}
+		dto.setGivingDay(givingDay);
+		dto.setGivingHour(givingHour);
+		dto.setCancelDay(cancelDay);
+		dto.setCancelHour(cancelHour);
+		// 申請
+		if (containNotApproved) {
+			// 未承認申請を含む場合
+			Map<String, Object> requestMap = holidayRequest.getRequestDayHour(personalId, acquisitionDate, 1,
+					Integer.toString(1), dto.getActivateDate(), targetDate);
+			dto.setUseDay(((Double)requestMap.get(TimeConst.CODE_REQUEST_DAY)).doubleValue());
+			dto.setUseHour(((Integer)requestMap.get(TimeConst.CODE_REQUEST_HOUR)).intValue());
+			return;
+		}
+		// 承認済のみの場合
+		Map<String, Object> approvedMap = holidayRequest.getApprovedDayHour(personalId, acquisitionDate, 1,
+				Integer.toString(1), dto.getActivateDate(), targetDate);
+		// 承認済の合計日数
+		dto.setApprovedDay(((Double)approvedMap.get(TimeConst.CODE_APPROVED_DAY)).doubleValue());
+		// 承認済の合計時間数
+		dto.setApprovedHour(((Integer)approvedMap.get(TimeConst.CODE_APPROVED_HOUR)).intValue());
 	}
 	
 	@Override
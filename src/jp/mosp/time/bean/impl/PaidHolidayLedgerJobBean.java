@@ -0,0 +1,137 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bean.impl;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.exporter.TextContents;
+import jp.mosp.framework.utils.MospUtility;
+import jp.mosp.platform.bean.system.JobBeanInterface;
+import jp.mosp.platform.bean.system.JobProgressInterface;
+import jp.mosp.platform.constant.PlatformMessageConst;
+import jp.mosp.time.base.TimeBean;
+import jp.mosp.time.bean.PaidHolidayLedgerRegistBeanInterface;
+import jp.mosp.time.dao.settings.PaidHolidayDataDaoInterface;
+
+/**
+ * 有給休暇台帳ジョブクラス。<br>
+ * <br>
+ * 有給休暇データが存在する全ての個人について、有給休暇台帳の再作成或いは確認を行う。<br>
+ * ジョブパラメータで処理({@link #PRM_REBUILD}：再作成、{@link #PRM_VERIFY}：確認)を指定する。<br>
+ * 確認の場合、台帳が一致しない個人IDを結果ファイルに出力する。<br>
+ * 台帳の導入時や、台帳を経由しない経路で有給休暇データ等を更新した後に実行する。<br>
+ */
+public class PaidHolidayLedgerJobBean extends TimeBean implements JobBeanInterface {
+	
+	/**
+	 * ジョブパラメータ(再作成)。<br>
+	 */
+	public static final String						PRM_REBUILD		= "rebuild";
+	
+	/**
+	 * ジョブパラメータ(確認)。<br>
+	 */
+	public static final String						PRM_VERIFY		= "verify";
+	
+	/**
+	 * 結果ファイル名。<br>
+	 */
+	protected static final String					FILE_RESULT		= "paidHolidayLedger.txt";
+	
+	/**
+	 * 改行コード。<br>
+	 */
+	protected static final String					LINE_SEPARATOR	= "\r\n";
+	
+	/**
+	 * 有給休暇データDAO。<br>
+	 */
+	protected PaidHolidayDataDaoInterface			paidHolidayDataDao;
+	
+	/**
+	 * 有給休暇台帳登録クラス。<br>
+	 */
+	protected PaidHolidayLedgerRegistBeanInterface	paidHolidayLedgerRegist;
+	
+	
+	/**
+	 * {@link TimeBean#TimeBean()}を実行する。<br>
+	 */
+	public PaidHolidayLedgerJobBean() {
+		super();
+	}
+	
+	/**
+	 * {@link TimeBean#TimeBean(MospParams, Connection)}を実行する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param connection DBコネクション
+	 */
+	protected PaidHolidayLedgerJobBean(MospParams mospParams, Connection connection) {
+		super(mospParams, connection);
+	}
+	
+	@Override
+	public void initBean() throws MospException {
+		paidHolidayDataDao = (PaidHolidayDataDaoInterface)createDao(PaidHolidayDataDaoInterface.class);
+		paidHolidayLedgerRegist = (PaidHolidayLedgerRegistBeanInterface)createBean(PaidHolidayLedgerRegistBeanInterface.class);
+	}
+	
+	@Override
+	public void execute(JobProgressInterface progress, String... parameters) throws MospException {
+		// ジョブパラメータ取得
+		boolean isVerify = parameters.length > 0 && PRM_VERIFY.equals(parameters[0]);
+		// 対象個人ID群取得(個人IDの昇順)
+		List<String> personalIdList = new ArrayList<String>(new TreeSet<String>(
+				paidHolidayDataDao.findForPersonalIdSet()));
+		// 一致しない個人IDリスト準備
+		List<String> mismatchList = new ArrayList<String>();
+		// 個人ID毎に処理
+		int total = personalIdList.size();
+		for (int i = 0; i < total; i++) {
+			String personalId = personalIdList.get(i);
+			if (isVerify) {
+				// 確認
+				if (paidHolidayLedgerRegist.verify(personalId) == false) {
+					mismatchList.add(personalId);
+				}
+			} else {
+				// 再作成
+				paidHolidayLedgerRegist.regist(personalId);
+			}
+			// 進捗設定
+			progress.setProgress(i + 1, total);
+		}
+		// 結果ファイル設定
+		StringBuilder sb = new StringBuilder();
+		sb.append(isVerify ? PRM_VERIFY : PRM_REBUILD).append(" total=").append(total);
+		sb.append(" mismatch=").append(mismatchList.size()).append(LINE_SEPARATOR);
+		for (String personalId : mismatchList) {
+			sb.append(personalId).append(LINE_SEPARATOR);
+		}
+		mospParams.setFile(new TextContents(MospUtility.CHARACTER_ENCODING, sb.toString()));
+		mospParams.setFileName(FILE_RESULT);
+		// 処理成功メッセージ設定
+		mospParams.addMessage(PlatformMessageConst.MSG_PROCESS_SUCCEED, mospParams.getName("PaidVacation"));
+	}
+	
+}
@@ -0,0 +1,358 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bean.impl;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.utils.DateUtility;
+import jp.mosp.platform.base.PlatformBean;
+import jp.mosp.time.bean.PaidHolidayLedgerRegistBeanInterface;
+import jp.mosp.time.constant.TimeConst;
+import jp.mosp.time.dao.settings.HolidayRequestDaoInterface;
+import jp.mosp.time.dao.settings.PaidHolidayDataDaoInterface;
+import jp.mosp.time.dao.settings.PaidHolidayLedgerDaoInterface;
+import jp.mosp.time.dao.settings.PaidHolidayTransactionDaoInterface;
+import jp.mosp.time.dto.settings.HolidayRequestDtoInterface;
+import jp.mosp.time.dto.settings.PaidHolidayDataDtoInterface;
+import jp.mosp.time.dto.settings.PaidHolidayLedgerDtoInterface;
+import jp.mosp.time.dto.settings.PaidHolidayTransactionDtoInterface;
+import jp.mosp.time.dto.settings.impl.TmdPaidHolidayLedgerDto;
+
+/**
+ * 有給休暇台帳登録クラス。<br>
+ * <br>
+ * 台帳情報は、差分の加減算ではなく、個人単位で全件を算出し直して登録する。<br>
+ * 休暇申請の取下や承認解除、有給休暇データの履歴削除等、
+ * 更新前の状態が分からない経路でも台帳が崩れないようにするためである。<br>
+ * 一人分の算出に必要な情報は、4回の検索でまとめて取得する。<br>
+ * <br>
+ * 利用日数(時間)と承認済日数(時間)は、
+ * {@link HolidayRequestReferenceBean#getRequestDayHour(String, Date, int, String, Date, Date)}と
+ * {@link HolidayRequestReferenceBean#getApprovedDayHour(String, Date, int, String, Date, Date)}で
+ * 数え方が異なるため、それぞれの数え方で別に保持する。<br>
+ */
+public class PaidHolidayLedgerRegistBean extends PlatformBean implements PaidHolidayLedgerRegistBeanInterface {
+	
+	/**
+	 * 有給休暇台帳DAO。
+	 */
+	protected PaidHolidayLedgerDaoInterface			dao;
+	
+	/**
+	 * 有給休暇データDAO。
+	 */
+	protected PaidHolidayDataDaoInterface			paidHolidayDataDao;
+	
+	/**
+	 * 有給休暇トランザクションDAO。
+	 */
+	protected PaidHolidayTransactionDaoInterface	paidHolidayTransactionDao;
+	
+	/**
+	 * 休暇申請DAO。
+	 */
+	protected HolidayRequestDaoInterface			holidayRequestDao;
+	
+	
+	/**
+	 * {@link PlatformBean#PlatformBean()}を実行する。<br>
+	 */
+	public PaidHolidayLedgerRegistBean() {
+		super();
+	}
+	
+	/**
+	 * {@link PlatformBean#PlatformBean(MospParams, Connection)}を実行する。<br>
+	 * @param mospParams MosPパラメータクラス
+	 * @param connection DBコネクション
+	 */
+	public PaidHolidayLedgerRegistBean(MospParams mospParams, Connection connection) {
+		super(mospParams, connection);
+	}
+	
+	@Override
+	public void initBean() throws MospException {
+		// DAO準備
+		dao = (PaidHolidayLedgerDaoInterface)createDao(PaidHolidayLedgerDaoInterface.class);
+		paidHolidayDataDao = (PaidHolidayDataDaoInterface)createDao(PaidHolidayDataDaoInterface.class);
+		paidHolidayTransactionDao = (PaidHolidayTransactionDaoInterface)createDao(PaidHolidayTransactionDaoInterface.class);
+		holidayRequestDao = (HolidayRequestDaoInterface)createDao(HolidayRequestDaoInterface.class);
+	}
+	
+	@Override
+	public void regist(String personalId) throws MospException {
+		// 有給休暇台帳情報リストを算出
+		List<PaidHolidayLedgerDtoInterface> list = calculate(personalId);
+		// 既存の台帳情報を削除
+		dao.deleteForPersonalId(personalId);
+		// 台帳情報が存在しない場合
+		if (list.isEmpty()) {
+			return;
+		}
+		// レコード識別IDを取得
+		long[] ids = dao.nextRecordIds(list.size());
+		for (int i = 0; i < ids.length; i++) {
+			list.get(i).setTmdPaidHolidayLedgerId(ids[i]);
+		}
+		// 登録処理
+		dao.insertAll(list);
+	}
+	
+	@Override
+	public void regist(HolidayRequestDtoInterface dto) throws MospException {
+		// 有給休暇の申請でない場合
+		if (isPaidHolidayRequest(dto) == false) {
+			return;
+		}
+		// 有給休暇台帳を再作成
+		regist(dto.getPersonalId());
+	}
+	
+	@Override
+	public List<PaidHolidayLedgerDtoInterface> calculate(String personalId) throws MospException {
+		// 有給休暇データリスト(無効を含む)を取得
+		List<PaidHolidayDataDtoInterface> dataList = paidHolidayDataDao.findForHistoryList(personalId);
+		// 有給休暇台帳情報リスト準備
+		List<PaidHolidayLedgerDtoInterface> list = new ArrayList<PaidHolidayLedgerDtoInterface>();
+		// 有給休暇データが存在しない場合
+		if (dataList.isEmpty()) {
+			return list;
+		}
+		// 有給休暇トランザクションリストを取得
+		List<PaidHolidayTransactionDtoInterface> transactionList = paidHolidayTransactionDao
+			.findForHistoryList(personalId);
+		// 有給休暇申請リスト(下書及び取下を除く)を取得
+		List<HolidayRequestDtoInterface> requestList = holidayRequestDao.findForRequestList(personalId,
+				TimeConst.CODE_HOLIDAYTYPE_HOLIDAY, Integer.toString(TimeConst.CODE_HOLIDAYTYPE_HOLIDAY));
+		// 承認完了有給休暇申請リストを取得
+		List<HolidayRequestDtoInterface> approvedList = holidayRequestDao.findForApprovedList(personalId,
+				TimeConst.CODE_HOLIDAYTYPE_HOLIDAY, Integer.toString(TimeConst.CODE_HOLIDAYTYPE_HOLIDAY));
+		// 有給休暇データ毎に台帳情報を算出
+		for (PaidHolidayDataDtoInterface dataDto : dataList) {
+			list.add(calculate(dataDto, transactionList, requestList, approvedList));
+		}
+		return list;
+	}
+	
+	@Override
+	public boolean verify(String personalId) throws MospException {
+		// 登録されている台帳情報リストを取得
+		List<PaidHolidayLedgerDtoInterface> storedList = dao.findForPersonalId(personalId);
+		// 台帳情報リストを算出
+		List<PaidHolidayLedgerDtoInterface> list = calculate(personalId);
+		// 件数確認
+		if (storedList.size() != list.size()) {
+			return false;
+		}
+		// 台帳情報毎に確認(いずれも取得日及び有効日の昇順)
+		for (int i = 0; i < list.size(); i++) {
+			if (isSameLedger(storedList.get(i), list.get(i)) == false) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * 有給休暇データ1件分の有給休暇台帳情報を算出する。<br>
+	 * 有給休暇データの有効日から期限日までの手動付与・破棄及び申請を集計する。<br>
+	 * @param dataDto         有給休暇データ
+	 * @param transactionList 有給休暇トランザクションリスト
+	 * @param requestList     有給休暇申請リスト(下書及び取下を除く)
+	 * @param approvedList    承認完了有給休暇申請リスト
+	 * @return 有給休暇台帳情報
+	 */
+	protected PaidHolidayLedgerDtoInterface calculate(PaidHolidayDataDtoInterface dataDto,
+			List<PaidHolidayTransactionDtoInterface> transactionList, List<HolidayRequestDtoInterface> requestList,
+			List<HolidayRequestDtoInterface> approvedList) {
+		// 取得日、有効日及び期限日を取得
+		Date acquisitionDate = dataDto.getAcquisitionDate();
+		Date startDate = dataDto.getActivateDate();
+		Date endDate = dataDto.getLimitDate();
+		// 台帳情報準備
+		PaidHolidayLedgerDtoInterface dto = new TmdPaidHolidayLedgerDto();
+		dto.setPersonalId(dataDto.getPersonalId());
+		dto.setActivateDate(startDate);
+		dto.setAcquisitionDate(acquisitionDate);
+		dto.setLimitDate(endDate);
+		dto.setHoldDay(dataDto.getHoldDay());
+		dto.setHoldHour(dataDto.getHoldHour());
+		dto.setInactivateFlag(dataDto.getInactivateFlag());
+		// 最終事象日準備
+		Date lastEventDate = startDate;
+		// 手動付与・破棄
+		double givingDay = 0;
+		int givingHour = 0;
+		double cancelDay = 0;
+		int cancelHour = 0;
+		for (PaidHolidayTransactionDtoInterface transactionDto : transactionList) {
+			// 無効又は取得日が異なる場合
+			if (isDtoActivate(transactionDto) == false
+					|| acquisitionDate.equals(transactionDto.getAcquisitionDate()) == false) {
+				continue;
+			}
+			// 有効日が期間外の場合
+			Date activateDate = transactionDto.getActivateDate();
+			if (activateDate.before(startDate) || activateDate.after(endDate)) {
+				continue;
+			}
+			givingDay += transactionDto.getGivingDay();
+			givingHour += transactionDto.getGivingHour();
+			cancelDay += transactionDto.getCancelDay();
+			cancelHour += transactionDto.getCancelHour();
+			lastEventDate = getLaterDate(lastEventDate, activateDate);
+		}
+		dto.setGivingDay(givingDay);
+		dto.setGivingHour(givingHour);
+		dto.setCancelDay(cancelDay);
+		dto.setCancelHour(cancelHour);
+		// 申請(申請日数及び申請時間数の合計)
+		double useDay = 0;
+		int useHour = 0;
+		for (HolidayRequestDtoInterface requestDto : requestList) {
+			if (isTarget(requestDto, acquisitionDate, startDate, endDate) == false) {
+				continue;
+			}
+			useDay += requestDto.getUseDay();
+			useHour += requestDto.getUseHour();
+			lastEventDate = getLaterDate(lastEventDate, requestDto.getRequestEndDate());
+		}
+		dto.setUseDay(useDay);
+		dto.setUseHour(useHour);
+		// 承認済(期間内の日毎に数える)
+		double approvedDay = 0;
+		int approvedHour = 0;
+		for (HolidayRequestDtoInterface requestDto : approvedList) {
+			if (isTarget(requestDto, acquisitionDate, startDate, endDate) == false) {
+				continue;
+			}
+			// 期間内の申請日数を取得
+			int days = getDays(getLaterDate(startDate, requestDto.getRequestStartDate()),
+					getEarlierDate(endDate, requestDto.getRequestEndDate()));
+			// 休暇範囲取得
+			int holidayRange = requestDto.getHolidayRange();
+			// 全休の場合
+			if (holidayRange == TimeConst.CODE_HOLIDAY_RANGE_ALL) {
+				approvedDay += days;
+			}
+			// 半休の場合
+			if (holidayRange == TimeConst.CODE_HOLIDAY_RANGE_AM || holidayRange == TimeConst.CODE_HOLIDAY_RANGE_PM) {
+				approvedDay += TimeConst.HOLIDAY_TIMES_HALF * days;
+			}
+			// 時間休の場合
+			if (holidayRange == TimeConst.CODE_HOLIDAY_RANGE_TIME) {
+				approvedHour += requestDto.getUseHour() * days;
+			}
+			lastEventDate = getLaterDate(lastEventDate, requestDto.getRequestEndDate());
+		}
+		dto.setApprovedDay(approvedDay);
+		dto.setApprovedHour(approvedHour);
+		dto.setLastEventDate(lastEventDate);
+		return dto;
+	}
+	
+	/**
+	 * 休暇申請が有給休暇台帳情報の集計対象であるかを確認する。<br>
+	 * 取得日が一致し、申請期間が有効日から期限日までの期間と重なる場合に、対象とする。<br>
+	 * @param dto             休暇申請情報
+	 * @param acquisitionDate 取得日
+	 * @param startDate       有効日
+	 * @param endDate         期限日
+	 * @return 確認結果(true：対象である、false：対象でない)
+	 */
+	protected boolean isTarget(HolidayRequestDtoInterface dto, Date acquisitionDate, Date startDate, Date endDate) {
+		// 取得日確認
+		if (acquisitionDate.equals(dto.getHolidayAcquisitionDate()) == false) {
+			return false;
+		}
+		// 期間確認
+		return dto.getRequestStartDate().after(endDate) == false && dto.getRequestEndDate().before(startDate) == false;
+	}
+	
+	/**
+	 * 休暇申請が有給休暇の申請であるかを確認する。<br>
+	 * @param dto 休暇申請情報
+	 * @return 確認結果(true：有給休暇の申請である、false：そうでない)
+	 */
+	protected boolean isPaidHolidayRequest(HolidayRequestDtoInterface dto) {
+		return dto.getHolidayType1() == TimeConst.CODE_HOLIDAYTYPE_HOLIDAY
+				&& Integer.toString(TimeConst.CODE_HOLIDAYTYPE_HOLIDAY).equals(dto.getHolidayType2());
+	}
+	
+	/**
+	 * 有給休暇台帳情報が一致するかを確認する。<br>
+	 * レコード識別ID及び登録情報は、比較しない。<br>
+	 * @param stored 登録されている台帳情報
+	 * @param dto    算出した台帳情報
+	 * @return 確認結果(true：一致する、false：一致しない)
+	 */
+	protected boolean isSameLedger(PaidHolidayLedgerDtoInterface stored, PaidHolidayLedgerDtoInterface dto) {
+		return stored.getAcquisitionDate().equals(dto.getAcquisitionDate())
+				&& stored.getActivateDate().equals(dto.getActivateDate())
+				&& stored.getLimitDate().equals(dto.getLimitDate())
+				&& stored.getInactivateFlag() == dto.getInactivateFlag() && stored.getHoldDay() == dto.getHoldDay()
+				&& stored.getHoldHour() == dto.getHoldHour() && stored.getGivingDay() == dto.getGivingDay()
+				&& stored.getGivingHour() == dto.getGivingHour() && stored.getCancelDay() == dto.getCancelDay()
+				&& stored.getCancelHour() == dto.getCancelHour() && stored.getUseDay() == dto.getUseDay()
+				&& stored.getUseHour() == dto.getUseHour() && stored.getApprovedDay() == dto.getApprovedDay()
+				&& stored.getApprovedHour() == dto.getApprovedHour()
+				&& stored.getLastEventDate().equals(dto.getLastEventDate());
+	}
+	
+	/**
+	 * 開始日から終了日までの日数(両端を含む)を取得する。<br>
+	 * @param startDate 開始日
+	 * @param endDate   終了日
+	 * @return 日数
+	 */
+	protected int getDays(Date startDate, Date endDate) {
+		int days = 0;
+		Date date = startDate;
+		while (date.after(endDate) == false) {
+			days++;
+			date = DateUtility.addDay(date, 1);
+		}
+		return days;
+	}
+	
+	/**
+	 * 遅い方の日付を取得する。<br>
+	 * @param date1 日付1
+	 * @param date2 日付2
+	 * @return 遅い方の日付
+	 */
+	protected Date getLaterDate(Date date1, Date date2) {
+		return date2.after(date1) ? date2 : date1;
+	}
+	
+	/**
+	 * 早い方の日付を取得する。<br>
+	 * @param date1 日付1
+	 * @param date2 日付2
+	 * @return 早い方の日付
+	 */
+	protected Date getEarlierDate(Date date1, Date date2) {
+		return date2.before(date1) ? date2 : date1;
+	}
+	
+}
@@ -21,7 +21,6 @@ import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
-import java.util.Map;
 
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.base.MospParams;
@@ -32,9 +31,9 @@ import jp.mosp.platform.dto.human.HumanDtoInterface;
 import jp.mosp.time.bean.PaidHolidayInfoReferenceBeanInterface;
 import jp.mosp.time.bean.PaidHolidayManagementSearchBeanInterface;
 import jp.mosp.time.bean.StockHolidayInfoReferenceBeanInterface;
-import jp.mosp.time.constant.TimeConst;
 import jp.mosp.time.dto.settings.PaidHolidayManagementListDtoInterface;
 import jp.mosp.time.dto.settings.impl.PaidHolidayManagementListDto;
+import jp.mosp.time.entity.PaidHolidayBalanceEntity;
 
 /**
  * 有給休暇確認検索クラス。
@@ -122,12 +121,12 @@ public class PaidHolidayManagementSearchBean extends PlatformBean implements Pai
 			paidHolidayManagementListDto.setDate(0);
 			paidHolidayManagementListDto.setTime(0);
 			// 有給休暇
-			Map<String, Object> map = paidHolidayInfo.getPaidHolidayInfo(personalId, activateDate);
-			paidHolidayManagementListDto.setActivateDate((Date)map.get(TimeConst.CODE_ACTIVATE_DATE));
-			paidHolidayManagementListDto.setFormerDate(((Double)map.get(TimeConst.CODE_FORMER_YEAR_DAY)).doubleValue());
-			paidHolidayManagementListDto.setFormerTime(((Integer)map.get(TimeConst.CODE_FORMER_YEAR_TIME)).intValue());
-			paidHolidayManagementListDto.setDate(((Double)map.get(TimeConst.CODE_CURRENT_YEAR_DAY)).doubleValue());
-			paidHolidayManagementListDto.setTime(((Integer)map.get(TimeConst.CODE_CURRENT_TIME)).intValue());
+			PaidHolidayBalanceEntity balance = paidHolidayInfo.getPaidHolidayBalance(personalId, activateDate, true);
+			paidHolidayManagementListDto.setActivateDate(balance.getActivateDate());
+			paidHolidayManagementListDto.setFormerDate(balance.getFormerDay());
+			paidHolidayManagementListDto.setFormerTime(balance.getFormerTime());
+			paidHolidayManagementListDto.setDate(balance.getCurrentDay());
+			paidHolidayManagementListDto.setTime(balance.getCurrentTime());
 			// ストック休暇
 			double stock = 0;
 			Double remainDay = stockHolidayInfo.getRemainDay(personalId, activateDate);
@@ -27,6 +27,7 @@ import jp.mosp.framework.utils.DateUtility;
 import jp.mosp.platform.base.PlatformBean;
 import jp.mosp.time.bean.ApplicationReferenceBeanInterface;
 import jp.mosp.time.bean.HolidayRequestReferenceBeanInterface;
+import jp.mosp.time.bean.PaidHolidayLedgerRegistBeanInterface;
 import jp.mosp.time.bean.PaidHolidayTransactionRegistBeanInterface;
 import jp.mosp.time.bean.TimeSettingReferenceBeanInterface;
 import jp.mosp.time.constant.TimeConst;
@@ -46,27 +47,32 @@ public class PaidHolidayTransactionRegistBean extends PlatformBean implements Pa
 	/**
 	 * 有給休暇トランザクションDAOクラス。
 	 */
-	private PaidHolidayTransactionDaoInterface	dao;
+	private PaidHolidayTransactionDaoInterface		dao;
 	
 	/**
 	 * 有給休暇データDAO。
 	 */
-	private PaidHolidayDataDaoInterface			paidHolidayDataDao;
+	private PaidHolidayDataDaoInterface				paidHolidayDataDao;
 	
 	/**
 	 * 休暇申請参照。
 	 */
-	HolidayRequestReferenceBeanInterface		holidayRequest;
+	HolidayRequestReferenceBeanInterface			holidayRequest;
 	
 	/**
 	 * 設定適用管理参照。
 	 */
-	private ApplicationReferenceBeanInterface	application;
+	private ApplicationReferenceBeanInterface		application;
 	
 	/**
 	 * 勤怠設定参照。
 	 */
-	private TimeSettingReferenceBeanInterface	timeSetting;
+	private TimeSettingReferenceBeanInterface		timeSetting;
+	
+	/**
+	 * 有給休暇台帳登録。
+	 */
+	private PaidHolidayLedgerRegistBeanInterface	paidHolidayLedgerRegist;
 	
 	
 	/**
@@ -97,6 +103,8 @@ public class PaidHolidayTransactionRegistBean extends PlatformBean implements Pa
 		application = (ApplicationReferenceBeanInterface)createBean(ApplicationReferenceBeanInterface.class);
 		// 勤怠設定参照クラス取得
 		timeSetting = (TimeSettingReferenceBeanInterface)createBean(TimeSettingReferenceBeanInterface.class);
+		// 有給休暇台帳登録クラス取得
+		paidHolidayLedgerRegist = (PaidHolidayLedgerRegistBeanInterface)createBean(PaidHolidayLedgerRegistBeanInterface.class);
 	}
 	
 	@Override
@@ -122,6 +130,8 @@ public class PaidHolidayTransactionRegistBean extends PlatformBean implements Pa
 		dto.setTmtPaidHolidayId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 有給休暇台帳再作成
+		paidHolidayLedgerRegist.regist(dto.getPersonalId());
 	}
 	
 	@Override
@@ -142,6 +152,8 @@ public class PaidHolidayTransactionRegistBean extends PlatformBean implements Pa
 		dto.setTmtPaidHolidayId(dao.nextRecordId());
 		// 登録処理
 		dao.insert(dto);
+		// 有給休暇台帳再作成
+		paidHolidayLedgerRegist.regist(dto.getPersonalId());
 	}
 	
 	/**
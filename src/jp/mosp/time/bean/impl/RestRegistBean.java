@@ -21,8 +21,11 @@
 package jp.mosp.time.bean.impl;
 
 import java.sql.Connection;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.base.MospParams;
@@ -30,9 +33,11 @@ import jp.mosp.platform.base.PlatformBean;
 import jp.mosp.time.bean.AttendanceCalcBeanInterface;
 import jp.mosp.time.bean.RestRegistBeanInterface;
 import jp.mosp.time.dao.settings.RestDaoInterface;
+import jp.mosp.time.dto.settings.AttendanceDtoInterface;
 import jp.mosp.time.dto.settings.RestDtoInterface;
 import jp.mosp.time.dto.settings.TimeSettingDtoInterface;
 import jp.mosp.time.dto.settings.impl.TmdRestDto;
+import jp.mosp.time.utils.TimeUtility;
 
 /**
  * 勤怠データ休憩情報登録クラス。
@@ -140,6 +145,42 @@ public class RestRegistBean extends PlatformBean implements RestRegistBeanInterf
 		}
 	}
 	
+	@Override
+	public void delete(List<AttendanceDtoInterface> attendanceList) throws MospException {
+		if (attendanceList.isEmpty()) {
+			return;
+		}
+		// 対象キーセット、個人IDセット及び対象期間を取得
+		Set<String> keySet = new HashSet<String>();
+		Set<String> personalIdSet = new HashSet<String>();
+		Date startDate = null;
+		Date endDate = null;
+		for (AttendanceDtoInterface attendanceDto : attendanceList) {
+			keySet.add(TimeUtility.getAttendanceKey(attendanceDto.getPersonalId(), attendanceDto.getWorkDate(),
+					attendanceDto.getTimesWork()));
+			personalIdSet.add(attendanceDto.getPersonalId());
+			if (startDate == null || attendanceDto.getWorkDate().before(startDate)) {
+				startDate = attendanceDto.getWorkDate();
+			}
+			if (endDate == null || attendanceDto.getWorkDate().after(endDate)) {
+				endDate = attendanceDto.getWorkDate();
+			}
+		}
+		// 対象期間の休憩情報をまとめて取得し、削除対象のレコード識別IDを取得
+		List<Long> idList = new ArrayList<Long>();
+		for (RestDtoInterface dto : dao.findForList(personalIdSet, startDate, endDate)) {
+			if (keySet.contains(TimeUtility.getAttendanceKey(dto.getPersonalId(), dto.getWorkDate(),
+					dto.getTimesWork()))) {
+				idList.add(dto.getTmdRestId());
+			}
+		}
+		// 論理削除
+		if (dao.logicalDeleteAll(idList) != idList.size()) {
+			// 他の処理で削除された場合
+			addExclusiveErrorMessage();
+		}
+	}
+	
 	@Override
 	public void delete(String personalId, Date workDate, int timesWork, int rest) throws MospException {
 		RestDtoInterface dto = dao.findForKey(personalId, workDate, timesWork, rest);
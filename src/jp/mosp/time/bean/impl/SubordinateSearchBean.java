@@ -19,6 +19,7 @@ package jp.mosp.time.bean.impl;
 
 import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.Set;
 
@@ -31,7 +32,6 @@ import jp.mosp.platform.bean.system.PlatformMasterBeanInterface;
 import jp.mosp.platform.bean.workflow.WorkflowIntegrateBeanInterface;
 import jp.mosp.platform.constant.PlatformConst;
 import jp.mosp.platform.dto.human.HumanDtoInterface;
-import jp.mosp.platform.dto.workflow.RouteApplicationDtoInterface;
 import jp.mosp.platform.utils.PlatformNamingUtility;
 import jp.mosp.platform.utils.PlatformUtility;
 import jp.mosp.time.bean.LimitStandardReferenceBeanInterface;
@@ -201,12 +201,8 @@ public class SubordinateSearchBean extends HumanSearchBean implements Subordinat
 		if (humanType.isEmpty()) {
 			// 部下検索リスト取得
 			resultList = search();
-			// 検索条件再設定(操作区分)(承認対象者全員が検索対象となるためnullを設定)
-			setOperationType(null);
-			// 全社員検索リスト取得
-			List<HumanDtoInterface> humanList = search();
-			// 承認できる社員個人ID群取得
-			List<HumanDtoInterface> approvalList = getApprovaleForApplicantList(humanList);
+			// 承認すべき申請者リスト取得
+			List<HumanDtoInterface> approvalList = searchApplicantList();
 			// 個人IDセットを取得
 			Set<String> resultSet = PlatformUtility.getPersonalIdSet(resultList);
 			// 部下検索リスト毎に処理
@@ -221,12 +217,8 @@ public class SubordinateSearchBean extends HumanSearchBean implements Subordinat
 		}
 		// 検索条件が承認すべき申請者の場合
 		if (humanType.equals(TYPE_APPLICANTS_APPROVE)) {
-			// 検索条件再設定(操作区分)(承認対象者全員が検索対象となるためnullを設定)
-			setOperationType(null);
-			// 検索結果リスト人事情報検索追加
-			List<HumanDtoInterface> humanList = search();
-			// 承認できる社員個人ID群取得
-			resultList = getApprovaleForApplicantList(humanList);
+			// 承認すべき申請者リスト取得
+			resultList = searchApplicantList();
 		}
 		// 検索条件が部下の場合
 		if (humanType.equals(TYPE_SUBORDINATE)) {
@@ -237,29 +229,92 @@ public class SubordinateSearchBean extends HumanSearchBean implements Subordinat
 		return getSubordinateList(resultList);
 	}
 	
+	/**
+	 * 承認すべき申請者リストを取得する。<br>
+	 * <br>
+	 * 承認者(ログインユーザ)が承認できる申請者個人ID群を引き、
+	 * その個人ID群を検索条件として人事情報を検索する。<br>
+	 * 申請者が一人もいない場合は、人事情報を検索しない。<br>
+	 * <br>
+	 * @return 承認すべき申請者リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected List<HumanDtoInterface> searchApplicantList() throws MospException {
+		// 申請者個人ID群取得
+		Set<String> applicantSet = getApplicantSet();
+		// 申請者が存在しない場合
+		if (applicantSet != null && applicantSet.isEmpty()) {
+			// 空のリストを取得
+			return new ArrayList<HumanDtoInterface>();
+		}
+		// 検索条件再設定(操作区分)(承認対象者全員が検索対象となるためnullを設定)
+		setOperationType(null);
+		// 検索条件設定(個人ID群)(スーパーユーザの場合はnullで全員が承認対象)
+		setPersonalIdSet(applicantSet);
+		try {
+			// 検索結果リスト人事情報検索追加
+			return search();
+		} finally {
+			// 検索条件再設定(個人ID群)
+			setPersonalIdSet(null);
+		}
+	}
+	
 	/**
 	 * ログインユーザが承認できる社員の個人IDセット群を取得する。<br>
-	 * 対象人事情報リストから承認ルート適用設定情報を取得し、そのルートコードが
-	 * 承認対象ルートリストに含まれるかで、被承認者であるかを確認する。<br>
+	 * 対象人事情報リストのうち、承認対象ルートが適用されている
+	 * 申請者だけを抽出する。<br>
 	 * @param humanList 社員リスト
 	 * @return ログインユーザが承認者の社員個人ID群
 	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
 	 */
 	protected List<HumanDtoInterface> getApprovaleForApplicantList(List<HumanDtoInterface> humanList)
 			throws MospException {
+		// 申請者個人ID群取得
+		Set<String> applicantSet = getApplicantSet();
 		// スーパーユーザ権限の場合
-		if (mospParams.getUserRole().isSuper()) {
+		if (applicantSet == null) {
 			// 社員リストをそのまま取得(スーパーユーザは全員が承認対象)
 			return humanList;
 		}
+		// 申請者個人ID群で絞込
+		return getApplicantList(humanList, applicantSet);
+	}
+	
+	/**
+	 * ログインユーザが承認できる申請者の個人ID群を取得する。<br>
+	 * <br>
+	 * {@link WorkflowIntegrateBeanInterface#getApplicantSet(String, Date, int)}で、
+	 * 承認者(ログインユーザ)及び承認者が代理承認者となっている承認者が
+	 * ユニットとして登録されているルートが適用されている申請者を引く。<br>
+	 * スーパーユーザは全員が承認対象となるため、nullを返す。<br>
+	 * <br>
+	 * @return 申請者個人ID群(スーパーユーザの場合はnull)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected Set<String> getApplicantSet() throws MospException {
+		// スーパーユーザ権限の場合
+		if (mospParams.getUserRole().isSuper()) {
+			return null;
+		}
+		// 承認者(代理を含む)が承認できる申請者個人ID群を取得
+		return workflowIntegrate.getApplicantSet(mospParams.getUser().getPersonalId(), targetDate,
+				PlatformConst.WORKFLOW_TYPE_TIME);
+	}
+	
+	/**
+	 * 社員リストから申請者個人ID群に含まれる社員を抽出する。<br>
+	 * @param humanList    社員リスト
+	 * @param applicantSet 申請者個人ID群
+	 * @return 抽出した社員リスト
+	 */
+	protected List<HumanDtoInterface> getApplicantList(List<HumanDtoInterface> humanList, Set<String> applicantSet) {
 		// 個人IDリスト準備
 		List<HumanDtoInterface> list = new ArrayList<HumanDtoInterface>();
-		// 承認者がユニットとして登録されているルート群を取得
-		Set<String> routeSet = workflowIntegrate.getApproverRouteSet(mospParams.getUser().getPersonalId(), targetDate);
 		// 検索人事情報毎に被承認者かどうかを確認して人事情報リストに追加
 		for (HumanDtoInterface humanDto : humanList) {
 			// ログインユーザが対象者を承認できる場合
-			if (isApprovable(humanDto, routeSet)) {
+			if (applicantSet.contains(humanDto.getPersonalId())) {
 				// 承認すべき申請者追加
 				list.add(humanDto);
 			}
@@ -267,32 +322,6 @@ public class SubordinateSearchBean extends HumanSearchBean implements Subordinat
 		return list;
 	}
 	
-	/**
-	 * ログインユーザが対象者を承認できるか確認する。<br>
-	 * <br>
-	 * 対象者のルート適用情報を取得し、
-	 * 承認者(ログインユーザ)がユニットとして登録されているルート群に<br>
-	 * 含まれるかを確認する。<br>
-	 * <br>
-	 * @param humanDto 対象者人事情報
-	 * @param routeSet 承認者(ログインユーザ)がユニットとして登録されているルート群
-	 * @return 確認結果(true：ログインユーザが対象者を承認できる、false：できない)
-	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
-	 */
-	protected boolean isApprovable(HumanDtoInterface humanDto, Set<String> routeSet) throws MospException {
-		// フロー区分(勤怠)を準備
-		int workflowType = PlatformConst.WORKFLOW_TYPE_TIME;
-		// 個人ID及び対象日から、適用されている設定を取得
-		RouteApplicationDtoInterface dto = platformMaster.getRouteApplication(humanDto, targetDate, workflowType);
-		// ルート適用情報が取得できない場合
-		if (dto == null) {
-			// ログインユーザが対象者を承認でないと判断
-			return false;
-		}
-		// ルート群に含まれるかを確認
-		return routeSet.contains(dto.getRouteCode());
-	}
-	
 	@Override
 	public Set<String> getSubordinateIdSet() throws MospException {
 		// 検索条件(部下)設定
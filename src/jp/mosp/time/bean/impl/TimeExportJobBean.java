@@ -0,0 +1,98 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bean.impl;
+
+import java.sql.Connection;
+import java.util.List;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.orangesignal.OrangeSignalUtility;
+import jp.mosp.platform.bean.system.JobBeanInterface;
+import jp.mosp.platform.bean.system.JobProgressInterface;
+import jp.mosp.platform.constant.PlatformMessageConst;
+import jp.mosp.time.base.TimeBean;
+import jp.mosp.time.bean.ExportTableReferenceBeanInterface;
+
+/**
+ * 勤怠情報エクスポートジョブクラス。<br>
+ * <br>
+ * 勤怠情報エクスポート画面で受け付けたエクスポートを行い、CSVを結果ファイルとして出力する。<br>
+ * ジョブパラメータは、エクスポートコード、開始年、開始月、終了年、終了月、締日コード、
+ * 勤務地コード、雇用契約コード、所属コード、職位コード、送出ファイル名の順で指定する。<br>
+ */
+public class TimeExportJobBean extends TimeBean implements JobBeanInterface {
+	
+	/**
+	 * エクスポートテーブル参照クラス。<br>
+	 */
+	protected ExportTableReferenceBeanInterface	exportTable;
+	
+	
+	/**
+	 * {@link TimeBean#TimeBean()}を実行する。<br>
+	 */
+	public TimeExportJobBean() {
+		super();
+	}
+	
+	/**
+	 * {@link TimeBean#TimeBean(MospParams, Connection)}を実行する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param connection DBコネクション
+	 */
+	protected TimeExportJobBean(MospParams mospParams, Connection connection) {
+		super(mospParams, connection);
+	}
+	
+	@Override
+	public void initBean() throws MospException {
+		exportTable = (ExportTableReferenceBeanInterface)createBean(ExportTableReferenceBeanInterface.class);
+	}
+	
+	@Override
+	public void execute(JobProgressInterface progress, String... parameters) throws MospException {
+		// エクスポート条件設定
+		exportTable.setExportCode(parameters[0]);
+		exportTable.setStartYear(Integer.parseInt(parameters[1]));
+		exportTable.setStartMonth(Integer.parseInt(parameters[2]));
+		exportTable.setEndYear(Integer.parseInt(parameters[3]));
+		exportTable.setEndMonth(Integer.parseInt(parameters[4]));
+		exportTable.setCutoffCode(parameters[5]);
+		exportTable.setWorkPlaceCode(parameters[6]);
+		exportTable.setEmploymentCode(parameters[7]);
+		exportTable.setSectionCode(parameters[8]);
+		exportTable.setPositionCode(parameters[9]);
+		// CSVデータリスト取得
+		List<String[]> csvDataList = exportTable.export();
+		if (mospParams.hasErrorMessage()) {
+			return;
+		}
+		// 該当するエクスポート情報が存在しない場合
+		if (csvDataList.isEmpty()) {
+			mospParams.addErrorMessage(PlatformMessageConst.MSG_NO_ITEM, mospParams.getName("Export", "Information"));
+			return;
+		}
+		// CSVデータリスト及び送出ファイル名をMosP処理情報に設定
+		mospParams.setFile(OrangeSignalUtility.getOrangeSignalParams(csvDataList));
+		mospParams.setFileName(parameters[10]);
+		// エクスポート成功メッセージ設定
+		mospParams.addMessage(PlatformMessageConst.MSG_PROCESS_SUCCEED, mospParams.getName("Export"));
+	}
+	
+}
@@ -18,6 +18,7 @@
 package jp.mosp.time.bean.impl;
 
 import java.sql.Connection;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -26,7 +27,9 @@ import java.util.Map;
 import java.util.Set;
 
 import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospMasterCache;
 import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.utils.DateUtility;
 import jp.mosp.platform.base.PlatformBean;
 import jp.mosp.platform.constant.PlatformConst;
 import jp.mosp.platform.dao.human.HumanDaoInterface;
@@ -40,6 +43,8 @@ import jp.mosp.time.dao.settings.CutoffDaoInterface;
 import jp.mosp.time.dao.settings.HolidayDaoInterface;
 import jp.mosp.time.dao.settings.ScheduleDateDaoInterface;
 import jp.mosp.time.dao.settings.TimeSettingDaoInterface;
+import jp.mosp.time.dao.settings.WorkTypeDaoInterface;
+import jp.mosp.time.dao.settings.WorkTypeItemDaoInterface;
 import jp.mosp.time.dto.settings.ApplicationDtoInterface;
 import jp.mosp.time.dto.settings.CutoffDtoInterface;
 import jp.mosp.time.dto.settings.HolidayDtoInterface;
@@ -64,9 +69,48 @@ import jp.mosp.time.utils.TimeUtility;
  * DBにアクセスする回数が減る分メモリを使うことになるため、
  * 保持する情報の量に応じてメモリを調整する必要がある。<br>
  * <br>
+ * DBから取得した情報は{@link MospMasterCache}にも保持し、リクエストを跨いで再利用する。<br>
+ * 締日及び勤怠設定は、コード毎に履歴を保持し、対象日時点の情報を履歴から取得する。<br>
+ * カレンダ日は、カレンダコード及び年月毎に保持する。<br>
+ * <br>
  */
 public class TimeMasterBean extends PlatformBean implements TimeMasterBeanInterface {
 	
+	/**
+	 * マスタキャッシュ名(設定適用情報リスト、キー：対象日)。<br>
+	 */
+	protected static final String								CACHE_APPLICATION	= "TimeMasterBean.application";
+	
+	/**
+	 * マスタキャッシュ名(勤怠設定情報履歴、キー：勤怠設定コード)。<br>
+	 */
+	protected static final String								CACHE_TIME_SETTING	= "TimeMasterBean.timeSetting";
+	
+	/**
+	 * マスタキャッシュ名(締日管理情報履歴、キー：締日コード)。<br>
+	 */
+	protected static final String								CACHE_CUTOFF		= "TimeMasterBean.cutoff";
+	
+	/**
+	 * マスタキャッシュ名(カレンダ日情報群、キー：カレンダコード及び年月初日)。<br>
+	 */
+	protected static final String								CACHE_SCHEDULE_DATE	= "TimeMasterBean.scheduleDate";
+	
+	/**
+	 * マスタキャッシュ名(休暇種別情報群、キー：対象日)。<br>
+	 */
+	protected static final String								CACHE_HOLIDAY		= "TimeMasterBean.holiday";
+	
+	/**
+	 * マスタキャッシュ名(勤務形態エンティティ履歴、キー：勤務形態コード)。<br>
+	 */
+	protected static final String								CACHE_WORK_TYPE		= "TimeMasterBean.workType";
+	
+	/**
+	 * マスタキャッシュキー区切文字。<br>
+	 */
+	protected static final String								SEPARATOR_CACHE_KEY	= ",";
+	
 	/**
 	 * 人事情報DAOクラス。<br>
 	 */
@@ -173,6 +217,36 @@ public class TimeMasterBean extends PlatformBean implements TimeMasterBeanInterf
 	 */
 	protected Map<Date, Set<HolidayDtoInterface>>				holidayMap;
 	
+	/**
+	 * マスタキャッシュ(設定適用情報リスト)。<br>
+	 */
+	protected MospMasterCache									applicationCache;
+	
+	/**
+	 * マスタキャッシュ(勤怠設定情報履歴)。<br>
+	 */
+	protected MospMasterCache									timeSettingCache;
+	
+	/**
+	 * マスタキャッシュ(締日管理情報履歴)。<br>
+	 */
+	protected MospMasterCache									cutoffCache;
+	
+	/**
+	 * マスタキャッシュ(カレンダ日情報群)。<br>
+	 */
+	protected MospMasterCache									scheduleDateCache;
+	
+	/**
+	 * マスタキャッシュ(休暇種別情報群)。<br>
+	 */
+	protected MospMasterCache									holidayCache;
+	
+	/**
+	 * マスタキャッシュ(勤務形態エンティティ履歴)。<br>
+	 */
+	protected MospMasterCache									workTypeCache;
+	
 	
 	/**
 	 * {@link PlatformBean#PlatformBean()}を実行する。<br>
@@ -210,6 +284,14 @@ public class TimeMasterBean extends PlatformBean implements TimeMasterBeanInterf
 		scheduleMap = new HashMap<String, Map<Date, ScheduleDateDtoInterface>>();
 		workTypeMap = new HashMap<String, List<WorkTypeEntity>>();
 		holidayMap = new HashMap<Date, Set<HolidayDtoInterface>>();
+		// マスタキャッシュの準備
+		applicationCache = getMasterCache(CACHE_APPLICATION, applicationDao);
+		timeSettingCache = getMasterCache(CACHE_TIME_SETTING, timeSettingDao);
+		cutoffCache = getMasterCache(CACHE_CUTOFF, cutoffDao);
+		scheduleDateCache = getMasterCache(CACHE_SCHEDULE_DATE, scheduleDateDao);
+		holidayCache = getMasterCache(CACHE_HOLIDAY, holidayDao);
+		workTypeCache = getMasterCache(CACHE_WORK_TYPE, createDao(WorkTypeDaoInterface.class),
+				createDao(WorkTypeItemDaoInterface.class));
 	}
 	
 	@Override
@@ -337,8 +419,8 @@ public class TimeMasterBean extends PlatformBean implements TimeMasterBeanInterf
 				return dto;
 			}
 		}
-		// DBから締日管理情報を取得(フィールドから締日管理情報を取得できなかった場合)
-		CutoffDtoInterface dto = cutoffDao.findForInfo(cutoffCode, targetDate);
+		// 締日管理情報を取得(フィールドから締日管理情報を取得できなかった場合)
+		CutoffDtoInterface dto = findCutoff(cutoffCode, targetDate);
 		// フィールドに設定(nullであればnullを設定)
 		set.add(dto);
 		// 締日管理情報を取得
@@ -362,8 +444,8 @@ public class TimeMasterBean extends PlatformBean implements TimeMasterBeanInterf
 			// カレンダ日情報を取得
 			return dto;
 		}
-		// DBからカレンダ日情報を取得(フィールドからカレンダ日情報を取得できなかった場合)
-		dto = scheduleDateDao.findForKey(scheduleCode, targetDate);
+		// 年月毎のカレンダ日情報群から取得(フィールドからカレンダ日情報を取得できなかった場合)
+		dto = getScheduleMonthMap(scheduleCode, targetDate).get(targetDate);
 		// フィールドに設定(nullであればnullを設定)
 		map.put(targetDate, dto);
 		// カレンダ日情報を取得
@@ -382,13 +464,65 @@ public class TimeMasterBean extends PlatformBean implements TimeMasterBeanInterf
 		// カレンダ日情報群を準備しフィールドに設定
 		map = new HashMap<Date, ScheduleDateDtoInterface>();
 		scheduleMap.put(scheduleCode, map);
-		// DBからカレンダ日情報を取得
-		List<ScheduleDateDtoInterface> list = scheduleDateDao.findForList(scheduleCode, firstDate, lastDate);
-		// カレンダ日情報毎に処理
-		for (ScheduleDateDtoInterface dto : list) {
-			// カレンダ日情報群に設定
+		// 期間の年月毎に処理
+		Date monthFirstDate = getMonthFirstDate(firstDate);
+		while (monthFirstDate.after(lastDate) == false) {
+			// 年月毎のカレンダ日情報群を取得
+			Map<Date, ScheduleDateDtoInterface> monthMap = getScheduleMonthMap(scheduleCode, monthFirstDate);
+			// カレンダ日情報毎に処理
+			for (ScheduleDateDtoInterface dto : monthMap.values()) {
+				// 期間内のカレンダ日情報をカレンダ日情報群に設定
+				Date scheduleDate = dto.getScheduleDate();
+				if (scheduleDate.before(firstDate) == false && scheduleDate.after(lastDate) == false) {
+					map.put(scheduleDate, dto);
+				}
+			}
+			monthFirstDate = DateUtility.addMonth(monthFirstDate, 1);
+		}
+	}
+	
+	/**
+	 * 年月毎のカレンダ日情報群(キー：カレンダ日)を取得する。<br>
+	 * <br>
+	 * マスタキャッシュから取得できなかった場合は、
+	 * 対象日が含まれる月(暦月)のカレンダ日情報をDBから取得しマスタキャッシュに設定する。<br>
+	 * <br>
+	 * @param scheduleCode カレンダコード
+	 * @param targetDate   対象日
+	 * @return 年月毎のカレンダ日情報群(キー：カレンダ日)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	@SuppressWarnings("unchecked")
+	protected Map<Date, ScheduleDateDtoInterface> getScheduleMonthMap(String scheduleCode, Date targetDate)
+			throws MospException {
+		// 対象日が含まれる月の初日を取得
+		Date monthFirstDate = getMonthFirstDate(targetDate);
+		// マスタキャッシュから取得
+		String key = scheduleCode + SEPARATOR_CACHE_KEY + monthFirstDate.getTime();
+		Map<Date, ScheduleDateDtoInterface> map = (Map<Date, ScheduleDateDtoInterface>)scheduleDateCache.get(key);
+		if (map != null) {
+			return map;
+		}
+		// DBから対象月のカレンダ日情報を取得
+		long version = scheduleDateCache.getVersion();
+		Date monthLastDate = DateUtility.addDay(DateUtility.addMonth(monthFirstDate, 1), -1);
+		map = new HashMap<Date, ScheduleDateDtoInterface>();
+		for (ScheduleDateDtoInterface dto : scheduleDateDao.findForList(scheduleCode, monthFirstDate, monthLastDate)) {
 			map.put(dto.getScheduleDate(), dto);
 		}
+		// マスタキャッシュに設定
+		scheduleDateCache.put(key, map, version);
+		return map;
+	}
+	
+	/**
+	 * 対象日が含まれる月(暦月)の初日を取得する。<br>
+	 * @param targetDate 対象日
+	 * @return 対象日が含まれる月の初日
+	 * @throws MospException 日付の取得に失敗した場合
+	 */
+	protected Date getMonthFirstDate(Date targetDate) throws MospException {
+		return DateUtility.getDate(DateUtility.getYear(targetDate), DateUtility.getMonth(targetDate), 1);
 	}
 	
 	@Override
@@ -397,8 +531,8 @@ public class TimeMasterBean extends PlatformBean implements TimeMasterBeanInterf
 		Set<HolidayDtoInterface> set = holidayMap.get(targetDate);
 		// フィールドから休暇種別情報群を取得できなかった場合
 		if (set == null) {
-			// 休暇種別情報群をDBから準備しフィールドに設定
-			set = holidayDao.findForActivateDate(targetDate);
+			// 休暇種別情報群をマスタキャッシュ或いはDBから準備しフィールドに設定(マスタキャッシュを変更しないように複製)
+			set = new HashSet<HolidayDtoInterface>(findHolidaySet(targetDate));
 			holidayMap.put(targetDate, set);
 		}
 		// 休暇種別情報群を取得
@@ -463,8 +597,8 @@ public class TimeMasterBean extends PlatformBean implements TimeMasterBeanInterf
 		// 適用範囲区分(比較用)を準備
 		int person = Integer.parseInt(PlatformConst.APPLICATION_TYPE_PERSON);
 		int master = Integer.parseInt(PlatformConst.APPLICATION_TYPE_MASTER);
-		// 設定適用情報リストをDBから取得
-		List<ApplicationDtoInterface> list = applicationDao.findForActivateDate(targetDate);
+		// 設定適用情報リストをマスタキャッシュ或いはDBから取得
+		List<ApplicationDtoInterface> list = findApplicationList(targetDate);
 		// 設定適用情報毎に処理
 		for (ApplicationDtoInterface dto : list) {
 			// 適用範囲区分が個人指定の場合
@@ -542,8 +676,9 @@ public class TimeMasterBean extends PlatformBean implements TimeMasterBeanInterf
 				return dto;
 			}
 		}
-		// DBから勤怠設定情報を取得(フィールドから勤怠設定情報を取得できなかった場合)
-		TimeSettingDtoInterface dto = timeSettingDao.findForInfo(workSettingCode, targetDate);
+		// 勤怠設定情報履歴から取得(フィールドから勤怠設定情報を取得できなかった場合)
+		TimeSettingDtoInterface dto = (TimeSettingDtoInterface)PlatformUtility
+			.getLatestDto(findTimeSettingHistory(workSettingCode), targetDate);
 		// フィールドに設定(nullであればnullを設定)
 		set.add(dto);
 		// 勤怠設定情報を取得
@@ -551,6 +686,7 @@ public class TimeMasterBean extends PlatformBean implements TimeMasterBeanInterf
 	}
 	
 	@Override
+	@SuppressWarnings("unchecked")
 	public List<WorkTypeEntity> getWorkTypeEntityHistory(String workTypeCode) throws MospException {
 		// 勤務形態エンティティ履歴(有効日昇順)を取得
 		List<WorkTypeEntity> history = workTypeMap.get(workTypeCode);
@@ -559,12 +695,109 @@ public class TimeMasterBean extends PlatformBean implements TimeMasterBeanInterf
 			// 勤務形態エンティティ履歴(有効日昇順)を取得
 			return history;
 		}
-		// 勤務形態エンティティ履歴(有効日昇順)を準備
-		history = workTypeRefer.getWorkTypeEntityHistory(workTypeCode);
+		// マスタキャッシュから勤務形態エンティティ履歴(有効日昇順)を取得
+		long version = workTypeCache.getVersion();
+		List<WorkTypeEntity> cached = (List<WorkTypeEntity>)workTypeCache.get(workTypeCode);
+		// マスタキャッシュから取得できなかった場合
+		if (cached == null) {
+			// 勤務形態エンティティ履歴(有効日昇順)をDBから取得しマスタキャッシュに設定
+			cached = workTypeRefer.getWorkTypeEntityHistory(workTypeCode);
+			workTypeCache.put(workTypeCode, cached, version);
+		}
+		// 勤務形態エンティティ履歴(有効日昇順)を準備(マスタキャッシュの履歴を変更しないように複製)
+		history = new ArrayList<WorkTypeEntity>(cached);
 		// 勤務形態エンティティ群に追加
 		workTypeMap.put(workTypeCode, history);
 		// 勤務形態エンティティ履歴(有効日昇順)を取得
 		return history;
 	}
 	
+	/**
+	 * 設定適用情報リストを取得する。<br>
+	 * マスタキャッシュから取得できなかった場合は、DBから取得しマスタキャッシュに設定する。<br>
+	 * @param targetDate 対象日
+	 * @return 対象日における最新の設定適用情報リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	@SuppressWarnings("unchecked")
+	protected List<ApplicationDtoInterface> findApplicationList(Date targetDate) throws MospException {
+		// マスタキャッシュから取得
+		long version = applicationCache.getVersion();
+		List<ApplicationDtoInterface> list = (List<ApplicationDtoInterface>)applicationCache.get(targetDate);
+		if (list == null) {
+			// DBから取得しマスタキャッシュに設定
+			list = applicationDao.findForActivateDate(targetDate);
+			applicationCache.put(targetDate, list, version);
+		}
+		return list;
+	}
+	
+	/**
+	 * 勤怠設定情報履歴(有効日昇順)を取得する。<br>
+	 * マスタキャッシュから取得できなかった場合は、DBから取得しマスタキャッシュに設定する。<br>
+	 * @param workSettingCode 勤怠設定コード
+	 * @return 勤怠設定情報履歴(有効日昇順)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	@SuppressWarnings("unchecked")
+	protected List<TimeSettingDtoInterface> findTimeSettingHistory(String workSettingCode) throws MospException {
+		// マスタキャッシュから取得
+		long version = timeSettingCache.getVersion();
+		List<TimeSettingDtoInterface> list = (List<TimeSettingDtoInterface>)timeSettingCache.get(workSettingCode);
+		if (list == null) {
+			// DBから取得しマスタキャッシュに設定
+			list = timeSettingDao.findForHistory(workSettingCode);
+			timeSettingCache.put(workSettingCode, list, version);
+		}
+		return list;
+	}
+	
+	/**
+	 * 対象日時点の締日管理情報を取得する。<br>
+	 * 締日コード毎の履歴(有効日昇順)をマスタキャッシュ或いはDBから取得し、
+	 * 対象日以前で最新の情報を取得する。<br>
+	 * 締日コードが指定されていない場合は、DBから直接取得する。<br>
+	 * @param cutoffCode 締日コード
+	 * @param targetDate 対象日
+	 * @return 締日管理情報
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	@SuppressWarnings("unchecked")
+	protected CutoffDtoInterface findCutoff(String cutoffCode, Date targetDate) throws MospException {
+		// 締日コードが指定されていない場合
+		if (cutoffCode == null || cutoffCode.isEmpty()) {
+			return cutoffDao.findForInfo(cutoffCode, targetDate);
+		}
+		// マスタキャッシュから取得
+		long version = cutoffCache.getVersion();
+		List<CutoffDtoInterface> list = (List<CutoffDtoInterface>)cutoffCache.get(cutoffCode);
+		if (list == null) {
+			// DBから取得しマスタキャッシュに設定
+			list = cutoffDao.findForHistory(cutoffCode);
+			cutoffCache.put(cutoffCode, list, version);
+		}
+		// 対象日以前で最新の情報を取得
+		return (CutoffDtoInterface)PlatformUtility.getLatestDto(list, targetDate);
+	}
+	
+	/**
+	 * 休暇種別情報群を取得する。<br>
+	 * マスタキャッシュから取得できなかった場合は、DBから取得しマスタキャッシュに設定する。<br>
+	 * @param targetDate 対象日
+	 * @return 対象日における最新の休暇種別情報群
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	@SuppressWarnings("unchecked")
+	protected Set<HolidayDtoInterface> findHolidaySet(Date targetDate) throws MospException {
+		// マスタキャッシュから取得
+		long version = holidayCache.getVersion();
+		Set<HolidayDtoInterface> set = (Set<HolidayDtoInterface>)holidayCache.get(targetDate);
+		if (set == null) {
+			// DBから取得しマスタキャッシュに設定
+			set = holidayDao.findForActivateDate(targetDate);
+			holidayCache.put(targetDate, set, version);
+		}
+		return set;
+	}
+	
 }
@@ -0,0 +1,178 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bean.impl;
+
+import java.sql.Connection;
+import java.util.Date;
+import java.util.List;
+
+import jp.mosp.framework.base.DBConnBean;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.instance.InstanceFactory;
+import jp.mosp.platform.base.PlatformBean;
+import jp.mosp.time.bean.TimePunchBeanInterface;
+import jp.mosp.time.bean.TimeRecordBeanInterface;
+import jp.mosp.time.constant.TimeConst;
+import jp.mosp.time.dao.settings.TimePunchDaoInterface;
+import jp.mosp.time.dto.settings.TimePunchDtoInterface;
+import jp.mosp.time.dto.settings.impl.TmtTimePunchDto;
+import jp.mosp.time.portal.bean.impl.PortalTimeCardBean;
+
+/**
+ * 打刻受付クラス。<br>
+ * <br>
+ * 打刻の受付は、打刻受付情報の登録のみを行う。<br>
+ * 勤怠データへの反映は、{@link TimePunchRunner}から打刻者毎のMosP処理情報及び
+ * DBコネクションを用いて呼び出され、打刻クラスの処理をそのまま用いる。<br>
+ */
+public class TimePunchBean extends PlatformBean implements TimePunchBeanInterface {
+	
+	/**
+	 * 打刻受付DAO。
+	 */
+	protected TimePunchDaoInterface	dao;
+	
+	
+	/**
+	 * {@link PlatformBean#PlatformBean()}を実行する。<br>
+	 */
+	public TimePunchBean() {
+		super();
+	}
+	
+	/**
+	 * {@link PlatformBean#PlatformBean(MospParams, Connection)}を実行する。<br>
+	 * @param mospParams MosPパラメータクラス
+	 * @param connection DBコネクション
+	 */
+	public TimePunchBean(MospParams mospParams, Connection connection) {
+		super(mospParams, connection);
+	}
+	
+	@Override
+	public void initBean() throws MospException {
+		// 打刻受付DAO取得
+		dao = (TimePunchDaoInterface)createDao(TimePunchDaoInterface.class);
+	}
+	
+	@Override
+	public boolean isQueueEnabled() {
+		return mospParams.getApplicationPropertyBool(TimeConst.APP_TIME_PUNCH_QUEUE);
+	}
+	
+	@Override
+	public boolean isRecordType(String recordType) {
+		return PortalTimeCardBean.RECODE_START_WORK.equals(recordType)
+				|| PortalTimeCardBean.RECODE_END_WORK.equals(recordType)
+				|| PortalTimeCardBean.RECODE_START_REST.equals(recordType)
+				|| PortalTimeCardBean.RECODE_END_REST.equals(recordType)
+				|| PortalTimeCardBean.RECODE_REGULAR_END.equals(recordType)
+				|| PortalTimeCardBean.RECODE_OVER_END.equals(recordType)
+				|| PortalTimeCardBean.RECODE_REGULAR_WORK.equals(recordType);
+	}
+	
+	@Override
+	public TimePunchDtoInterface enqueue(String personalId, String recordType, Date recordTime)
+			throws MospException {
+		// 打刻受付情報準備
+		TimePunchDtoInterface dto = new TmtTimePunchDto();
+		dto.setPersonalId(personalId);
+		dto.setUserId(mospParams.getUser().getUserId());
+		dto.setRoleCode(mospParams.getUser().getRole());
+		dto.setRecordType(recordType);
+		dto.setRecordTime(recordTime);
+		dto.setPunchStatus(TimeConst.CODE_PUNCH_STATUS_WAITING);
+		dto.setPunchMessage("");
+		// 打刻反映スレッドから参照できるように専用のDBコネクションで登録してコミット
+		DBConnBean dbConnBean = new DBConnBean(mospParams);
+		try {
+			TimePunchDaoInterface punchDao = (TimePunchDaoInterface)InstanceFactory.loadDao(
+					TimePunchDaoInterface.class, mospParams, dbConnBean.getConnection());
+			dto.setTmtTimePunchId(punchDao.nextRecordId());
+			punchDao.insert(dto);
+			dbConnBean.commit();
+		} finally {
+			dbConnBean.releaseConnection();
+		}
+		// 打刻反映スレッドに反映を依頼
+		TimePunchRunner.request(mospParams);
+		return dto;
+	}
+	
+	@Override
+	public void apply(TimePunchDtoInterface dto) throws MospException {
+		// 打刻クラス取得
+		TimeRecordBeanInterface timeRecord = (TimeRecordBeanInterface)createBean(TimeRecordBeanInterface.class);
+		// 打刻区分毎の処理
+		String personalId = dto.getPersonalId();
+		String recordType = dto.getRecordType();
+		Date recordTime = dto.getRecordTime();
+		if (recordType.equals(PortalTimeCardBean.RECODE_START_WORK)) {
+			// 出勤
+			timeRecord.recordStartWork(personalId, recordTime);
+		} else if (recordType.equals(PortalTimeCardBean.RECODE_END_WORK)) {
+			// 退勤
+			timeRecord.recordEndWork(personalId, recordTime);
+		} else if (recordType.equals(PortalTimeCardBean.RECODE_START_REST)) {
+			// 休憩入
+			timeRecord.recordStartRest(personalId, recordTime);
+		} else if (recordType.equals(PortalTimeCardBean.RECODE_END_REST)) {
+			// 休憩戻
+			timeRecord.recordEndRest(personalId, recordTime);
+		} else if (recordType.equals(PortalTimeCardBean.RECODE_REGULAR_END)) {
+			// 定時終業
+			timeRecord.recordRegularEnd(personalId, recordTime);
+		} else if (recordType.equals(PortalTimeCardBean.RECODE_OVER_END)) {
+			// 残業有終業
+			timeRecord.recordOverEnd(personalId, recordTime);
+		} else if (recordType.equals(PortalTimeCardBean.RECODE_REGULAR_WORK)) {
+			// 出勤
+			timeRecord.recordRegularWork(personalId, recordTime);
+		}
+		// 処理結果確認
+		if (mospParams.hasErrorMessage()) {
+			return;
+		}
+		// 反映済に更新
+		dto.setPunchStatus(TimeConst.CODE_PUNCH_STATUS_PROCESSED);
+		dto.setProcessTime(getSystemTimeAndSecond());
+		dto.setPunchMessage("");
+		dao.update(dto);
+	}
+	
+	@Override
+	public void fail(TimePunchDtoInterface dto, String message) throws MospException {
+		// 反映失敗に更新
+		dto.setPunchStatus(TimeConst.CODE_PUNCH_STATUS_FAILED);
+		dto.setProcessTime(getSystemTimeAndSecond());
+		dto.setPunchMessage(message);
+		dao.update(dto);
+	}
+	
+	@Override
+	public List<TimePunchDtoInterface> getWaitingList(int limit) throws MospException {
+		return dao.findForWaiting(limit);
+	}
+	
+	@Override
+	public List<TimePunchDtoInterface> getNotProcessedList(String personalId, Date fromTime) throws MospException {
+		return dao.findForNotProcessed(personalId, fromTime);
+	}
+	
+}
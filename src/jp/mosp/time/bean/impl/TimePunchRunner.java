@@ -0,0 +1,214 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bean.impl;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jp.mosp.framework.base.DBConnBean;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospJobExecutor;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.base.MospUser;
+import jp.mosp.framework.constant.ExceptionConst;
+import jp.mosp.framework.instance.InstanceFactory;
+import jp.mosp.framework.utils.LogUtility;
+import jp.mosp.framework.utils.MospUtility;
+import jp.mosp.time.bean.TimePunchBeanInterface;
+import jp.mosp.time.constant.TimeConst;
+import jp.mosp.time.dto.settings.TimePunchDtoInterface;
+
+/**
+ * 打刻反映実行クラス。<br>
+ * <br>
+ * ジョブ実行スレッドで、反映待の打刻を受付順に勤怠データへ反映する。<br>
+ * 反映は打刻毎に打刻者のMosP処理情報及びDBコネクションを用いて行い、コミットする。<br>
+ * 同時に反映するスレッドは一つとし、反映中に依頼された場合は、
+ * 反映中のスレッドが続けて反映する。これにより、個人毎の打刻順が保たれる。<br>
+ * <br>
+ * 反映に失敗した打刻は反映失敗とし、エラーメッセージと共にポータルに表示される。<br>
+ * アプリケーションの再起動等で反映待のまま残った打刻は、次回の依頼時に反映される。<br>
+ */
+public class TimePunchRunner implements Runnable {
+	
+	/**
+	 * 反映中フラグ。
+	 */
+	protected static final AtomicBoolean	RUNNING		= new AtomicBoolean();
+	
+	/**
+	 * 反映依頼フラグ。
+	 */
+	protected static final AtomicBoolean	REQUESTED	= new AtomicBoolean();
+	
+	/**
+	 * MosP処理情報(ジョブ用)。<br>
+	 */
+	protected MospParams					mospParams;
+	
+	
+	/**
+	 * 打刻反映実行クラスを生成する。<br>
+	 * @param mospParams MosP処理情報(ジョブ用)
+	 */
+	protected TimePunchRunner(MospParams mospParams) {
+		this.mospParams = mospParams;
+	}
+	
+	/**
+	 * 反映待の打刻の反映を依頼する。<br>
+	 * 反映中でなければ、ジョブ実行スレッドに反映を受け付けさせる。<br>
+	 * 実行待ち上限数を超えた場合、打刻は反映待のまま残り、次回の依頼時に反映される。<br>
+	 * @param mospParams MosP処理情報
+	 */
+	public static void request(MospParams mospParams) {
+		REQUESTED.set(true);
+		if (RUNNING.compareAndSet(false, true) == false) {
+			// 反映中のスレッドが続けて反映する
+			return;
+		}
+		try {
+			MospJobExecutor.execute(mospParams, new TimePunchRunner(mospParams.createJobParams()));
+		} catch (MospException e) {
+			RUNNING.set(false);
+			LogUtility.error(mospParams, e);
+		}
+	}
+	
+	@Override
+	public void run() {
+		try {
+			execute();
+		} catch (Throwable e) {
+			LogUtility.error(mospParams, e);
+		} finally {
+			RUNNING.set(false);
+		}
+		// 反映中に依頼された場合
+		if (REQUESTED.get()) {
+			request(mospParams);
+		}
+	}
+	
+	/**
+	 * 反映待の打刻を反映する。<br>
+	 * 反映待の打刻が無くなるまで続ける。<br>
+	 * @throws MospException 打刻受付情報の取得或いは更新に失敗した場合
+	 */
+	protected void execute() throws MospException {
+		int batchSize = Math.max(1, mospParams.getApplicationProperty(TimeConst.APP_TIME_PUNCH_BATCH_SIZE,
+				TimeConst.DEFAULT_TIME_PUNCH_BATCH_SIZE));
+		while (REQUESTED.getAndSet(false)) {
+			int count = processQueue(batchSize);
+			while (count > 0 && Thread.currentThread().isInterrupted() == false) {
+				count = processQueue(batchSize);
+			}
+		}
+	}
+	
+	/**
+	 * 反映待の打刻を上限件数まで受付順に反映する。<br>
+	 * @param limit 上限件数
+	 * @return 処理件数
+	 * @throws MospException 打刻受付情報の取得或いは更新に失敗した場合
+	 */
+	protected int processQueue(int limit) throws MospException {
+		// 反映待の打刻を取得
+		List<TimePunchDtoInterface> list;
+		DBConnBean dbConnBean = new DBConnBean(mospParams);
+		try {
+			TimePunchBeanInterface punch = (TimePunchBeanInterface)InstanceFactory.loadBean(
+					TimePunchBeanInterface.class, mospParams, dbConnBean.getConnection());
+			list = punch.getWaitingList(limit);
+		} finally {
+			dbConnBean.releaseConnection();
+		}
+		// 受付順に反映
+		int count = 0;
+		for (TimePunchDtoInterface dto : list) {
+			if (Thread.currentThread().isInterrupted()) {
+				break;
+			}
+			process(dto);
+			count++;
+		}
+		return count;
+	}
+	
+	/**
+	 * 打刻を反映し、コミットする。<br>
+	 * 反映に失敗した場合は、ロールバックして反映失敗に更新する。<br>
+	 * @param dto 打刻受付情報
+	 * @throws MospException 反映失敗の更新に失敗した場合
+	 */
+	protected void process(TimePunchDtoInterface dto) throws MospException {
+		// 打刻者のMosP処理情報を準備
+		MospParams params = createPunchParams(dto);
+		DBConnBean dbConnBean = null;
+		try {
+			dbConnBean = new DBConnBean(params);
+			TimePunchBeanInterface punch = (TimePunchBeanInterface)InstanceFactory.loadBean(
+					TimePunchBeanInterface.class, params, dbConnBean.getConnection());
+			punch.apply(dto);
+			// エラーメッセージが無い場合はコミット
+			if (params.hasErrorMessage() == false) {
+				dbConnBean.commit();
+				return;
+			}
+		} catch (Throwable e) {
+			// 反映処理で例外が発生した場合
+			LogUtility.error(params, e);
+			params.addErrorMessage(ExceptionConst.EX_RUNTIME);
+		} finally {
+			if (dbConnBean != null) {
+				dbConnBean.releaseConnection();
+			}
+		}
+		// 反映失敗に更新
+		String message = MospUtility.toSeparatedString(MospUtility.toArray(params.getErrorMessageList()), "\n");
+		DBConnBean failConnBean = new DBConnBean(mospParams);
+		try {
+			TimePunchBeanInterface punch = (TimePunchBeanInterface)InstanceFactory.loadBean(
+					TimePunchBeanInterface.class, mospParams, failConnBean.getConnection());
+			punch.fail(dto, message);
+			failConnBean.commit();
+		} finally {
+			failConnBean.releaseConnection();
+		}
+	}
+	
+	/**
+	 * 打刻者のMosP処理情報を生成する。<br>
+	 * 打刻を受け付けた時のユーザID、個人ID及びロールコードをログインユーザ情報とする。<br>
+	 * @param dto 打刻受付情報
+	 * @return 打刻者のMosP処理情報
+	 */
+	protected MospParams createPunchParams(TimePunchDtoInterface dto) {
+		MospParams params = mospParams.createJobParams();
+		MospUser user = new MospUser();
+		if (mospParams.getUser() != null) {
+			user.setAspUserId(mospParams.getUser().getAspUserId());
+		}
+		user.setUserId(dto.getUserId());
+		user.setPersonalId(dto.getPersonalId());
+		user.setRole(dto.getRoleCode());
+		params.setUser(user);
+		return params;
+	}
+	
+}
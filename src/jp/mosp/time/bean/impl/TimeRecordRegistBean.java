@@ -20,6 +20,7 @@ package jp.mosp.time.bean.impl;
 import java.sql.Connection;
 import java.sql.SQLException;
 
+import jp.mosp.framework.base.ConnectionStateTracker;
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.base.MospParams;
 import jp.mosp.platform.base.PlatformBean;
@@ -142,6 +143,8 @@ public class TimeRecordRegistBean extends PlatformBean implements TimeRecordRegi
 			}
 			// コミット
 			connection.commit();
+			// トランザクション終了通知
+			ConnectionStateTracker.transactionEnded(connection);
 		} catch (SQLException e) {
 			throw new MospException(e);
 		}
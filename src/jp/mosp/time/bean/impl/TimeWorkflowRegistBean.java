@@ -0,0 +1,90 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bean.impl;
+
+import java.sql.Connection;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.platform.base.PlatformBean;
+import jp.mosp.platform.bean.workflow.ExtraWorkflowRegistBeanInterface;
+import jp.mosp.platform.dto.workflow.WorkflowDtoInterface;
+import jp.mosp.time.bean.PaidHolidayLedgerRegistBeanInterface;
+import jp.mosp.time.constant.TimeConst;
+import jp.mosp.time.dao.settings.HolidayRequestDaoInterface;
+import jp.mosp.time.dto.settings.HolidayRequestDtoInterface;
+
+/**
+ * 勤怠用ワークフロー登録追加クラス。<br>
+ * ワークフロー情報の登録及び削除時に、
+ * 勤怠管理側で行うべき処理を実装する。<br>
+ */
+public class TimeWorkflowRegistBean extends PlatformBean implements ExtraWorkflowRegistBeanInterface {
+	
+	/**
+	 * 休暇申請DAO。
+	 */
+	protected HolidayRequestDaoInterface			holidayRequestDao;
+	
+	/**
+	 * 有給休暇台帳登録クラス。
+	 */
+	protected PaidHolidayLedgerRegistBeanInterface	paidHolidayLedgerRegist;
+	
+	
+	/**
+	 * {@link PlatformBean#PlatformBean()}を実行する。<br>
+	 */
+	public TimeWorkflowRegistBean() {
+		super();
+	}
+	
+	/**
+	 * {@link PlatformBean#PlatformBean(MospParams, Connection)}を実行する。<br>
+	 * @param mospParams MosPパラメータクラス
+	 * @param connection DBコネクション
+	 */
+	public TimeWorkflowRegistBean(MospParams mospParams, Connection connection) {
+		super(mospParams, connection);
+	}
+	
+	@Override
+	public void initBean() throws MospException {
+		// 休暇申請DAO取得
+		holidayRequestDao = (HolidayRequestDaoInterface)createDao(HolidayRequestDaoInterface.class);
+		// 有給休暇台帳登録クラス取得
+		paidHolidayLedgerRegist = (PaidHolidayLedgerRegistBeanInterface)createBean(PaidHolidayLedgerRegistBeanInterface.class);
+	}
+	
+	@Override
+	public void regist(WorkflowDtoInterface dto) throws MospException {
+		// 休暇申請でない場合
+		if (TimeConst.CODE_FUNCTION_VACATION.equals(dto.getFunctionCode()) == false) {
+			return;
+		}
+		// 休暇申請情報取得
+		HolidayRequestDtoInterface requestDto = holidayRequestDao.findForWorkflow(dto.getWorkflow());
+		// 休暇申請情報が登録されていない場合(申請情報の登録時に台帳を再作成する)
+		if (requestDto == null) {
+			return;
+		}
+		// 有給休暇台帳再作成
+		paidHolidayLedgerRegist.regist(requestDto);
+	}
+	
+}
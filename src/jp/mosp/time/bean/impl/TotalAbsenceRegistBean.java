@@ -21,6 +21,8 @@
 package jp.mosp.time.bean.impl;
 
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 
 import jp.mosp.framework.base.MospException;
@@ -139,23 +141,48 @@ public class TotalAbsenceRegistBean extends PlatformBean implements TotalAbsence
 	
 	@Override
 	public void delete(List<String> personalIdList, int calculationYear, int calculationMonth) throws MospException {
-		for (String personalId : personalIdList) {
-			List<TotalAbsenceDtoInterface> list = dao.findForList(personalId, calculationYear, calculationMonth);
-			for (TotalAbsenceDtoInterface dto : list) {
-				// DTO妥当性確認
-				validate(dto);
-				if (mospParams.hasErrorMessage()) {
-					return;
-				}
-				// 確認
-				checkDelete(dto);
-				if (mospParams.hasErrorMessage()) {
-					return;
-				}
-				// 論理削除
-				logicalDelete(dao, dto.getTmdTotalAbsenceId());
+		// 対象個人IDの欠勤集計データをまとめて取得
+		List<TotalAbsenceDtoInterface> list = dao.findForList(new HashSet<String>(personalIdList), calculationYear,
+				calculationMonth);
+		// 論理削除対象レコード識別IDリストを準備
+		List<Long> idList = new ArrayList<Long>();
+		for (TotalAbsenceDtoInterface dto : list) {
+			// DTO妥当性確認
+			validate(dto);
+			if (mospParams.hasErrorMessage()) {
+				return;
+			}
+			idList.add(dto.getTmdTotalAbsenceId());
+		}
+		// 論理削除
+		if (dao.logicalDeleteAll(idList) != idList.size()) {
+			// 取得後に他の処理で削除された場合
+			addExclusiveErrorMessage();
+		}
+	}
+	
+	@Override
+	public void regist(List<String> personalIdList, int calculationYear, int calculationMonth,
+			List<TotalAbsenceDtoInterface> list) throws MospException {
+		// 対象個人IDの欠勤集計データを論理削除
+		delete(personalIdList, calculationYear, calculationMonth);
+		if (mospParams.hasErrorMessage()) {
+			return;
+		}
+		for (TotalAbsenceDtoInterface dto : list) {
+			// DTO妥当性確認
+			validate(dto);
+			if (mospParams.hasErrorMessage()) {
+				return;
 			}
 		}
+		// レコード識別IDをまとめて取得してDTOに設定
+		long[] recordIds = dao.nextRecordIds(list.size());
+		for (int i = 0; i < list.size(); i++) {
+			list.get(i).setTmdTotalAbsenceId(recordIds[i]);
+		}
+		// 登録処理
+		dao.insertAll(list);
 	}
 	
 	/**
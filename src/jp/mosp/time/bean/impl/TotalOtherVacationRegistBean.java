@@ -18,6 +18,8 @@
 package jp.mosp.time.bean.impl;
 
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 
 import jp.mosp.framework.base.MospException;
@@ -136,12 +138,48 @@ public class TotalOtherVacationRegistBean extends PlatformBean implements TotalO
 	
 	@Override
 	public void delete(List<String> personalIdList, int calculationYear, int calculationMonth) throws MospException {
-		for (String personalId : personalIdList) {
-			delete(personalId, calculationYear, calculationMonth);
+		// 対象個人IDのその他休暇集計データをまとめて取得
+		List<TotalOtherVacationDtoInterface> list = dao.findForList(new HashSet<String>(personalIdList), calculationYear,
+				calculationMonth);
+		// 論理削除対象レコード識別IDリストを準備
+		List<Long> idList = new ArrayList<Long>();
+		for (TotalOtherVacationDtoInterface dto : list) {
+			// DTO妥当性確認
+			validate(dto);
+			if (mospParams.hasErrorMessage()) {
+				return;
+			}
+			idList.add(dto.getTmdTotalOtherVacationId());
+		}
+		// 論理削除
+		if (dao.logicalDeleteAll(idList) != idList.size()) {
+			// 取得後に他の処理で削除された場合
+			addExclusiveErrorMessage();
+		}
+	}
+	
+	@Override
+	public void regist(List<String> personalIdList, int calculationYear, int calculationMonth,
+			List<TotalOtherVacationDtoInterface> list) throws MospException {
+		// 対象個人IDのその他休暇集計データを論理削除
+		delete(personalIdList, calculationYear, calculationMonth);
+		if (mospParams.hasErrorMessage()) {
+			return;
+		}
+		for (TotalOtherVacationDtoInterface dto : list) {
+			// DTO妥当性確認
+			validate(dto);
 			if (mospParams.hasErrorMessage()) {
 				return;
 			}
 		}
+		// レコード識別IDをまとめて取得してDTOに設定
+		long[] recordIds = dao.nextRecordIds(list.size());
+		for (int i = 0; i < list.size(); i++) {
+			list.get(i).setTmdTotalOtherVacationId(recordIds[i]);
+		}
+		// 登録処理
+		dao.insertAll(list);
 	}
 	
 	/**
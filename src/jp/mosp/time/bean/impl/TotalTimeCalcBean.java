@@ -19,15 +19,26 @@ package jp.mosp.time.bean.impl;
 
 import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.base.MospParams;
 import jp.mosp.platform.base.PlatformBean;
+import jp.mosp.platform.bean.system.JobProgressInterface;
 import jp.mosp.platform.bean.system.PlatformMasterBeanInterface;
 import jp.mosp.platform.dto.human.HumanDtoInterface;
 import jp.mosp.platform.dto.workflow.WorkflowDtoInterface;
@@ -85,6 +96,27 @@ public class TotalTimeCalcBean extends TimeBean implements TotalTimeCalcBeanInte
 	 */
 	public static final int										LEGAL_OVERTIME_WORK			= 45;
 	
+	/**
+	 * 待機しているスレッドの破棄までの時間(ミリ秒)。
+	 */
+	protected static final long									CUTOFF_KEEP_ALIVE			= 60000L;
+	
+	/**
+	 * スレッド名接頭辞。
+	 */
+	protected static final String								THREAD_NAME_PREFIX			= "mosp-cutoff-";
+	
+	/**
+	 * スレッド番号。
+	 */
+	protected static final AtomicInteger						THREAD_NUMBER				= new AtomicInteger();
+	
+	/**
+	 * 仮締並列実行用スレッドプール(初回実行時に生成)。<br>
+	 * 同時に複数の仮締が行われた場合も共用し、スレッド数及びDBコネクション数を仮締並列数に抑える。<br>
+	 */
+	private static ThreadPoolExecutor							cutoffExecutor;
+	
 	/**
 	 * 締日ユーティリティインターフェース参照。
 	 */
@@ -189,6 +221,12 @@ public class TotalTimeCalcBean extends TimeBean implements TotalTimeCalcBeanInte
 	@Override
 	public List<CutoffErrorListDtoInterface> tightening(int targetYear, int targetMonth, String cutoffCode)
 			throws MospException {
+		return tightening(targetYear, targetMonth, cutoffCode, (JobProgressInterface)null);
+	}
+	
+	@Override
+	public List<CutoffErrorListDtoInterface> tightening(int targetYear, int targetMonth, String cutoffCode,
+			JobProgressInterface progress) throws MospException {
 		// 集計時エラー内容情報リストを準備
 		List<CutoffErrorListDtoInterface> errorList = new ArrayList<CutoffErrorListDtoInterface>();
 		// 勤怠集計エンティティリストを準備
@@ -201,39 +239,16 @@ public class TotalTimeCalcBean extends TimeBean implements TotalTimeCalcBeanInte
 			PlatformMessageUtility.addErrorEmployeeNotExist(mospParams);
 			return errorList;
 		}
-		// 個人ID毎に処理
-		for (String personalId : personalIdSet) {
-			// 未締でない場合
-			if (cutoffUtil.isNotTighten(personalId, targetYear, targetMonth) == false) {
-				// 仮締対象外
-				continue;
-			}
-			// 勤怠集計エンティティを取得
-			TotalTimeEntityInterface entity = getTotalTimeEntity(personalId, targetYear, targetMonth, cutoffCode);
-			// 勤怠集計エンティティリストに追加
-			entityList.add(entity);
-			// 各種申請及び振替休日情報から申請済でないものを除去
-			removeUnusedRequests(entity, false);
-			// 勤怠集計前の確認
-			errorList.addAll(check(entity));
-		}
+		// 勤怠集計エンティティを取得し勤怠集計前の確認及び勤怠集計
+		calcForTightening(new ArrayList<String>(personalIdSet), targetYear, targetMonth, cutoffCode, entityList,
+				errorList, progress);
 		// 勤怠集計前の確認でエラーがあった場合
 		if (errorList.isEmpty() == false) {
 			// 集計時エラー内容情報リストを取得
 			return errorList;
 		}
-		// 勤怠集計エンティティ毎に処理
-		for (TotalTimeEntityInterface entity : entityList) {
-			// 各種申請及び振替休日情報から承認済でないものを除去
-			removeUnusedRequests(entity, true);
-			// 勤怠集計
-			entity.total();
-		}
-		// 勤怠集計エンティティ毎に処理
-		for (TotalTimeEntityInterface entity : entityList) {
-			// 仮締(DBへの登録)
-			tightening(entity);
-		}
+		// 仮締(DBへの登録)
+		registTightening(entityList, progress);
 		// 締日仮締
 		tightenCutoff(targetYear, targetMonth, cutoffCode);
 		// 集計時エラー内容情報リスト(空)を取得
@@ -247,39 +262,16 @@ public class TotalTimeCalcBean extends TimeBean implements TotalTimeCalcBeanInte
 		List<CutoffErrorListDtoInterface> errorList = new ArrayList<CutoffErrorListDtoInterface>();
 		// 勤怠集計エンティティリストを準備
 		List<TotalTimeEntityInterface> entityList = new ArrayList<TotalTimeEntityInterface>();
-		// 個人ID毎に処理
-		for (String personalId : aryPersonalId) {
-			// 未締でない場合
-			if (cutoffUtil.isNotTighten(personalId, targetYear, targetMonth) == false) {
-				// 仮締対象外
-				continue;
-			}
-			// 勤怠集計エンティティを取得
-			TotalTimeEntityInterface entity = getTotalTimeEntity(personalId, targetYear, targetMonth, cutoffCode);
-			// 勤怠集計エンティティリストに追加
-			entityList.add(entity);
-			// 各種申請及び振替休日情報から申請済でないものを除去
-			removeUnusedRequests(entity, false);
-			// 勤怠集計前の確認
-			errorList.addAll(check(entity));
-		}
+		// 勤怠集計エンティティを取得し勤怠集計前の確認及び勤怠集計
+		calcForTightening(Arrays.asList(aryPersonalId), targetYear, targetMonth, cutoffCode, entityList,
+				errorList, null);
 		// 勤怠集計前の確認でエラーがあった場合
 		if (errorList.isEmpty() == false) {
 			// 集計時エラー内容情報リストを取得
 			return errorList;
 		}
-		// 勤怠集計エンティティ毎に処理
-		for (TotalTimeEntityInterface entity : entityList) {
-			// 各種申請及び振替休日情報から承認済でないものを除去
-			removeUnusedRequests(entity, true);
-			// 勤怠集計
-			entity.total();
-		}
-		// 勤怠集計エンティティ毎に処理
-		for (TotalTimeEntityInterface entity : entityList) {
-			// 仮締(DBへの登録)
-			tightening(entity);
-		}
+		// 仮締(DBへの登録)
+		registTightening(entityList, null);
 		// 締日が設定されている社員全員が仮締である場合
 		if (isAllTightened(targetYear, targetMonth, cutoffCode)) {
 			// 締日仮締
@@ -382,6 +374,210 @@ public class TotalTimeCalcBean extends TimeBean implements TotalTimeCalcBeanInte
 		return totalTimeEntityRefer.getTotalTimeEntity(personalId, targetYear, targetMonth, cutoffDto);
 	}
 	
+	/**
+	 * 仮締のために勤怠集計エンティティを取得し、勤怠集計前の確認及び勤怠集計を行う。<br>
+	 * <br>
+	 * 対象個人IDのうち未締であるものにつき、勤怠集計エンティティを取得して勤怠集計前の確認を行う。<br>
+	 * 勤怠集計前の確認でエラーがなかった場合は、勤怠集計を行う。<br>
+	 * DBへの登録は行わない。<br>
+	 * <br>
+	 * 仮締並列数が2以上且つ対象個人IDが仮締分割単位を超える場合は、
+	 * 対象個人IDを仮締分割単位毎に分割し、並列に処理する。<br>
+	 * 並列に処理した場合も、各リストの内容及び順序は逐次処理した場合と同じになる。<br>
+	 * <br>
+	 * 仮締分割単位の処理が終わる毎に、処理済の個人ID数をジョブ進捗に通知する。<br>
+	 * 全件数は、データの登録分も含めて対象個人ID数の2倍とする。<br>
+	 * <br>
+	 * @param personalIdList 対象個人IDリスト
+	 * @param targetYear     対象年
+	 * @param targetMonth    対象月
+	 * @param cutoffCode     締日コード
+	 * @param entityList     勤怠集計エンティティリスト(処理結果を追加)
+	 * @param errorList      集計時エラー内容情報リスト(処理結果を追加)
+	 * @param progress       ジョブ進捗(nullの場合は通知しない)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected void calcForTightening(List<String> personalIdList, int targetYear, int targetMonth, String cutoffCode,
+			List<TotalTimeEntityInterface> entityList, List<CutoffErrorListDtoInterface> errorList,
+			JobProgressInterface progress) throws MospException {
+		// 仮締並列数及び仮締分割単位を取得
+		int threads = mospParams.getApplicationProperty(TimeConst.APP_CUTOFF_THREADS, 1);
+		int chunkSize = getCutoffChunkSize();
+		// 全件数(勤怠集計及びデータの登録)を取得
+		int allCount = personalIdList.size() * 2;
+		// 並列に処理しない場合
+		if (threads <= 1 || personalIdList.size() <= chunkSize) {
+			// 仮締分割単位毎に処理
+			for (int i = 0; i < personalIdList.size(); i += chunkSize) {
+				int end = Math.min(i + chunkSize, personalIdList.size());
+				// 勤怠集計エンティティを取得し勤怠集計前の確認
+				prepareTightening(personalIdList.subList(i, end), targetYear, targetMonth, cutoffCode, entityList,
+						errorList);
+				// 進捗通知
+				setProgress(progress, end, allCount);
+			}
+			// 勤怠集計前の確認でエラーがなかった場合
+			if (errorList.isEmpty()) {
+				// 勤怠集計
+				total(entityList);
+			}
+			return;
+		}
+		// 並列実行単位リストを準備(仮締分割単位毎)
+		List<TotalTimeCalcWorker> workerList = new ArrayList<TotalTimeCalcWorker>();
+		for (int i = 0; i < personalIdList.size(); i += chunkSize) {
+			List<String> chunk = personalIdList.subList(i, Math.min(i + chunkSize, personalIdList.size()));
+			workerList.add(new TotalTimeCalcWorker(mospParams, getClass().getName(), new ArrayList<String>(chunk),
+					targetYear, targetMonth, cutoffCode));
+		}
+		// 並列実行
+		List<Future<TotalTimeCalcWorker>> futureList = new ArrayList<Future<TotalTimeCalcWorker>>();
+		try {
+			ExecutorService executor = getCutoffExecutor(mospParams);
+			for (TotalTimeCalcWorker worker : workerList) {
+				futureList.add(executor.submit(worker));
+			}
+			// 処理済件数を準備
+			int count = 0;
+			// 処理結果を分割順に取得(実行単位の終了を待機)
+			for (Future<TotalTimeCalcWorker> future : futureList) {
+				TotalTimeCalcWorker worker = future.get();
+				// 進捗通知
+				count += worker.getPersonalIdList().size();
+				setProgress(progress, count, allCount);
+				entityList.addAll(worker.getEntityList());
+				errorList.addAll(worker.getErrorList());
+				// 実行単位で設定されたメッセージを分割順に戻す
+				mospParams.getMessageList().addAll(worker.getMospParams().getMessageList());
+				mospParams.getErrorMessageList().addAll(worker.getMospParams().getErrorMessageList());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new MospException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof MospException) {
+				throw (MospException)e.getCause();
+			}
+			throw new MospException(e.getCause());
+		} finally {
+			// 例外が発生した場合に残りの実行単位を中止
+			for (Future<TotalTimeCalcWorker> future : futureList) {
+				future.cancel(true);
+			}
+		}
+	}
+	
+	/**
+	 * 仮締並列実行用スレッドプールを取得する。<br>
+	 * 初回にMosPアプリケーション設定(仮締並列数)に従って生成し、待機しているスレッドは一定時間後に破棄する。<br>
+	 * 仮締並列数が変更されている場合は、再起動せずに変更後の仮締並列数に合わせる。<br>
+	 * 実行待ちの実行単位は、スレッドが空くまで待機する。<br>
+	 * @param mospParams MosP処理情報
+	 * @return 仮締並列実行用スレッドプール
+	 */
+	protected static synchronized ExecutorService getCutoffExecutor(MospParams mospParams) {
+		int threads = Math.max(1, mospParams.getApplicationProperty(TimeConst.APP_CUTOFF_THREADS, 1));
+		if (cutoffExecutor == null) {
+			cutoffExecutor = new ThreadPoolExecutor(threads, threads, CUTOFF_KEEP_ALIVE, TimeUnit.MILLISECONDS,
+					new LinkedBlockingQueue<Runnable>(), new CutoffThreadFactory());
+			cutoffExecutor.allowCoreThreadTimeOut(true);
+			return cutoffExecutor;
+		}
+		// 仮締並列数が増えた場合(最大スレッド数を先に増やす)
+		if (threads > cutoffExecutor.getMaximumPoolSize()) {
+			cutoffExecutor.setMaximumPoolSize(threads);
+			cutoffExecutor.setCorePoolSize(threads);
+		}
+		// 仮締並列数が減った場合(実行中のスレッドは実行単位の終了後に破棄される)
+		if (threads < cutoffExecutor.getMaximumPoolSize()) {
+			cutoffExecutor.setCorePoolSize(threads);
+			cutoffExecutor.setMaximumPoolSize(threads);
+		}
+		return cutoffExecutor;
+	}
+	
+	/**
+	 * 仮締のために勤怠集計エンティティを取得し、勤怠集計前の確認を行う。<br>
+	 * <br>
+	 * 対象個人IDのうち未締でないものは、対象外とする。<br>
+	 * 勤怠情報及び各種申請情報は、仮締分割単位毎にまとめて取得する。<br>
+	 * DBへの参照のみを行うため、{@link TotalTimeCalcWorker}からも用いられる。<br>
+	 * <br>
+	 * @param personalIdList 対象個人IDリスト
+	 * @param targetYear     対象年
+	 * @param targetMonth    対象月
+	 * @param cutoffCode     締日コード
+	 * @param entityList     勤怠集計エンティティリスト(処理結果を追加)
+	 * @param errorList      集計時エラー内容情報リスト(処理結果を追加)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected void prepareTightening(List<String> personalIdList, int targetYear, int targetMonth, String cutoffCode,
+			List<TotalTimeEntityInterface> entityList, List<CutoffErrorListDtoInterface> errorList)
+			throws MospException {
+		// 仮締分割単位を取得
+		int chunkSize = getCutoffChunkSize();
+		// 締日情報を取得
+		CutoffDtoInterface cutoffDto = timeMaster.getCutoff(cutoffCode, targetYear, targetMonth);
+		// 仮締分割単位毎に処理
+		for (int i = 0; i < personalIdList.size(); i += chunkSize) {
+			// 未締である個人IDを取得
+			List<String> targetList = new ArrayList<String>();
+			for (String personalId : personalIdList.subList(i, Math.min(i + chunkSize, personalIdList.size()))) {
+				// 未締でない場合
+				if (cutoffUtil.isNotTighten(personalId, targetYear, targetMonth) == false) {
+					// 仮締対象外
+					continue;
+				}
+				targetList.add(personalId);
+			}
+			try {
+				// 分割単位の勤怠情報及び各種申請情報をまとめて取得
+				totalTimeEntityRefer.preload(new HashSet<String>(targetList), targetYear, targetMonth, cutoffDto);
+				// 個人ID毎に処理
+				for (String personalId : targetList) {
+					// 勤怠集計エンティティを取得
+					TotalTimeEntityInterface entity = getTotalTimeEntity(personalId, targetYear, targetMonth,
+							cutoffCode);
+					// 勤怠集計エンティティリストに追加
+					entityList.add(entity);
+					// 各種申請及び振替休日情報から申請済でないものを除去
+					removeUnusedRequests(entity, false);
+					// 勤怠集計前の確認
+					errorList.addAll(check(entity));
+				}
+			} finally {
+				// まとめて取得した情報を破棄
+				totalTimeEntityRefer.clearPreload();
+			}
+		}
+	}
+	
+	/**
+	 * 仮締分割単位を取得する。<br>
+	 * 仮締時の並列実行、情報の取得及び登録は、仮締分割単位毎に行う。<br>
+	 * @return 仮締分割単位
+	 */
+	protected int getCutoffChunkSize() {
+		return Math.max(1, mospParams.getApplicationProperty(TimeConst.APP_CUTOFF_CHUNK_SIZE, 100));
+	}
+	
+	/**
+	 * 勤怠集計エンティティ毎に勤怠集計を行う。<br>
+	 * <br>
+	 * 計算のみで、データの登録は行わない。<br>
+	 * <br>
+	 * @param entityList 勤怠集計エンティティリスト
+	 */
+	protected void total(List<TotalTimeEntityInterface> entityList) {
+		// 勤怠集計エンティティ毎に処理
+		for (TotalTimeEntityInterface entity : entityList) {
+			// 各種申請及び振替休日情報から承認済でないものを除去
+			removeUnusedRequests(entity, true);
+			// 勤怠集計
+			entity.total();
+		}
+	}
+	
 	/**
 	 * 勤怠集計前の確認を行う。<br>
 	 * <br>
@@ -468,10 +664,114 @@ public class TotalTimeCalcBean extends TimeBean implements TotalTimeCalcBeanInte
 	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
 	 */
 	protected void tightening(TotalTimeEntityInterface entity) throws MospException {
-		// 個人IDを準備
-		String personalId = entity.getPersonalId();
 		// 勤怠集計
 		entity.total();
+		// 仮締(DBへの登録)
+		registTightening(entity);
+	}
+	
+	/**
+	 * 仮締の登録を行う。<br>
+	 * <br>
+	 * 勤怠集計済の勤怠集計エンティティを用いて、データの登録を行う。<br>
+	 * 勤怠集計情報、休暇集計情報及び社員勤怠集計管理情報は、
+	 * 仮締分割単位毎にまとめて登録する。<br>
+	 * 勤怠集計エンティティの対象年月及び締日コードは、全て同じであるものとする。<br>
+	 * <br>
+	 * 仮締分割単位の登録が終わる毎に、ジョブ進捗に通知する。<br>
+	 * 勤怠集計が終わっている(全体の半分)ものとして、残りの半分を登録済件数の割合で通知する。<br>
+	 * <br>
+	 * @param entityList 勤怠集計エンティティリスト(勤怠集計済)
+	 * @param progress   ジョブ進捗(nullの場合は通知しない)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected void registTightening(List<TotalTimeEntityInterface> entityList, JobProgressInterface progress)
+			throws MospException {
+		// 仮締分割単位を取得
+		int chunkSize = getCutoffChunkSize();
+		// 仮締分割単位毎に処理
+		for (int i = 0; i < entityList.size(); i += chunkSize) {
+			int end = Math.min(i + chunkSize, entityList.size());
+			// 仮締の登録
+			registTighteningChunk(entityList.subList(i, end));
+			if (mospParams.hasErrorMessage()) {
+				return;
+			}
+			// 進捗通知
+			setProgress(progress, entityList.size() + end, entityList.size() * 2);
+		}
+	}
+	
+	/**
+	 * ジョブ進捗を通知する。<br>
+	 * ジョブ進捗がnullの場合(ジョブとして実行していない場合)は、何もしない。<br>
+	 * @param progress ジョブ進捗
+	 * @param count    処理済件数
+	 * @param total    全件数
+	 * @throws MospException SQL実行に失敗した場合
+	 */
+	protected void setProgress(JobProgressInterface progress, int count, int total) throws MospException {
+		if (progress != null) {
+			progress.setProgress(count, total);
+		}
+	}
+	
+	/**
+	 * 仮締分割単位の仮締の登録を行う。<br>
+	 * <br>
+	 * @param entityList 勤怠集計エンティティリスト(勤怠集計済、仮締分割単位)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected void registTighteningChunk(List<TotalTimeEntityInterface> entityList) throws MospException {
+		// 計算年月と締日コードを準備
+		int targetYear = entityList.get(0).getCalculationYear();
+		int targetMonth = entityList.get(0).getCalculationMonth();
+		String cutoffCode = entityList.get(0).getCutoffCode();
+		// 個人IDリスト及び登録情報リストを準備
+		List<String> personalIdList = new ArrayList<String>();
+		List<TotalTimeDataDtoInterface> totalTimeList = new ArrayList<TotalTimeDataDtoInterface>();
+		List<TotalLeaveDtoInterface> leaveList = new ArrayList<TotalLeaveDtoInterface>();
+		List<TotalOtherVacationDtoInterface> otherVacationList = new ArrayList<TotalOtherVacationDtoInterface>();
+		List<TotalAbsenceDtoInterface> absenceList = new ArrayList<TotalAbsenceDtoInterface>();
+		// 勤怠集計エンティティ毎に処理
+		for (TotalTimeEntityInterface entity : entityList) {
+			personalIdList.add(entity.getPersonalId());
+			// 勤怠集計情報を取得
+			totalTimeList.add(getTotalTimeData(entity));
+			// 休暇集計情報を取得
+			leaveList.addAll(getTotalLeaveList(entity));
+			otherVacationList.addAll(getTotalOtherVacationList(entity));
+			absenceList.addAll(getTotalAbsenceList(entity));
+		}
+		// 勤怠集計情報を登録
+		totalTimeRegist.regist(personalIdList, targetYear, targetMonth, totalTimeList);
+		// 休暇集計情報を登録
+		totalLeaveRegist.regist(personalIdList, targetYear, targetMonth, leaveList);
+		totalOtherVacationRegist.regist(personalIdList, targetYear, targetMonth, otherVacationList);
+		totalAbsenceRegist.regist(personalIdList, targetYear, targetMonth, absenceList);
+		if (mospParams.hasErrorMessage()) {
+			return;
+		}
+		// 勤怠集計エンティティ毎に処理
+		for (TotalTimeEntityInterface entity : entityList) {
+			// 勤怠トランザクションを登録
+			attendanceTransactionRegist.regist(entity.getPersonalId(), entity.getAttendanceTransactionMap());
+		}
+		// 仮締
+		employeeTransRegist.draft(personalIdList, targetYear, targetMonth, cutoffCode);
+	}
+	
+	/**
+	 * 仮締の登録を行う。<br>
+	 * <br>
+	 * 勤怠集計済の勤怠集計エンティティを用いて、データの登録を行う。<br>
+	 * <br>
+	 * @param entity 勤怠集計エンティティ(勤怠集計済)
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected void registTightening(TotalTimeEntityInterface entity) throws MospException {
+		// 個人IDを準備
+		String personalId = entity.getPersonalId();
 		// 勤怠集計情報を取得して登録
 		totalTimeRegist.regist(getTotalTimeData(entity));
 		// 休暇集計情報を登録
@@ -552,52 +852,100 @@ public class TotalTimeCalcBean extends TimeBean implements TotalTimeCalcBeanInte
 		int targetMonth = entity.getCalculationMonth();
 		// 特別休暇集計情報を削除
 		totalLeaveRegist.delete(personalId, targetYear, targetMonth);
+		// 特別休暇集計情報毎に処理
+		for (TotalLeaveDtoInterface dto : getTotalLeaveList(entity)) {
+			// 登録
+			totalLeaveRegist.insert(dto);
+		}
+		// その他休暇集計情報を削除
+		totalOtherVacationRegist.delete(personalId, targetYear, targetMonth);
+		// その他休暇集計情報毎に処理
+		for (TotalOtherVacationDtoInterface dto : getTotalOtherVacationList(entity)) {
+			// 登録
+			totalOtherVacationRegist.insert(dto);
+		}
+		// 欠勤集計情報を削除
+		totalAbsenceRegist.delete(personalId, targetYear, targetMonth);
+		// 欠勤集計情報毎に処理
+		for (TotalAbsenceDtoInterface dto : getTotalAbsenceList(entity)) {
+			// 登録
+			totalAbsenceRegist.insert(dto);
+		}
+	}
+	
+	/**
+	 * 特別休暇集計情報リストを取得する。<br>
+	 * <br>
+	 * @param entity 勤怠集計エンティティ
+	 * @return 特別休暇集計情報リスト
+	 */
+	protected List<TotalLeaveDtoInterface> getTotalLeaveList(TotalTimeEntityInterface entity) {
+		// 特別休暇集計情報リストを準備
+		List<TotalLeaveDtoInterface> list = new ArrayList<TotalLeaveDtoInterface>();
 		// 特別休暇回数群(キー：休暇コード)を取得
 		Map<String, Float> specialHolidayMap = entity.getSpecialHolidayMap();
 		// 休暇コード毎に処理
 		for (String holidayCode : specialHolidayMap.keySet()) {
 			// 特別休暇集計情報を準備
 			TotalLeaveDtoInterface dto = totalLeaveRegist.getInitDto();
-			dto.setPersonalId(personalId);
-			dto.setCalculationYear(targetYear);
-			dto.setCalculationMonth(targetMonth);
+			dto.setPersonalId(entity.getPersonalId());
+			dto.setCalculationYear(entity.getCalculationYear());
+			dto.setCalculationMonth(entity.getCalculationMonth());
 			dto.setHolidayCode(holidayCode);
 			dto.setTimes(specialHolidayMap.get(holidayCode));
-			// 登録
-			totalLeaveRegist.insert(dto);
+			list.add(dto);
 		}
-		// その他休暇集計情報を削除
-		totalOtherVacationRegist.delete(personalId, targetYear, targetMonth);
+		return list;
+	}
+	
+	/**
+	 * その他休暇集計情報リストを取得する。<br>
+	 * <br>
+	 * @param entity 勤怠集計エンティティ
+	 * @return その他休暇集計情報リスト
+	 */
+	protected List<TotalOtherVacationDtoInterface> getTotalOtherVacationList(TotalTimeEntityInterface entity) {
+		// その他休暇集計情報リストを準備
+		List<TotalOtherVacationDtoInterface> list = new ArrayList<TotalOtherVacationDtoInterface>();
 		// その他休暇回数群(キー：休暇コード)を取得
 		Map<String, Float> otherHolidayMap = entity.getOtherHolidayMap();
 		// 休暇コード毎に処理
 		for (String holidayCode : otherHolidayMap.keySet()) {
-			// 特別休暇集計情報を準備
+			// その他休暇集計情報を準備
 			TotalOtherVacationDtoInterface dto = totalOtherVacationRegist.getInitDto();
-			dto.setPersonalId(personalId);
-			dto.setCalculationYear(targetYear);
-			dto.setCalculationMonth(targetMonth);
+			dto.setPersonalId(entity.getPersonalId());
+			dto.setCalculationYear(entity.getCalculationYear());
+			dto.setCalculationMonth(entity.getCalculationMonth());
 			dto.setHolidayCode(holidayCode);
 			dto.setTimes(otherHolidayMap.get(holidayCode));
-			// 登録
-			totalOtherVacationRegist.insert(dto);
+			list.add(dto);
 		}
-		// 欠勤集計情報を削除
-		totalAbsenceRegist.delete(personalId, targetYear, targetMonth);
+		return list;
+	}
+	
+	/**
+	 * 欠勤集計情報リストを取得する。<br>
+	 * <br>
+	 * @param entity 勤怠集計エンティティ
+	 * @return 欠勤集計情報リスト
+	 */
+	protected List<TotalAbsenceDtoInterface> getTotalAbsenceList(TotalTimeEntityInterface entity) {
+		// 欠勤集計情報リストを準備
+		List<TotalAbsenceDtoInterface> list = new ArrayList<TotalAbsenceDtoInterface>();
 		// 欠勤回数群(キー：休暇コード)を取得
 		Map<String, Float> absenceMap = entity.getAbsenceMap();
 		// 休暇コード毎に処理
 		for (String holidayCode : absenceMap.keySet()) {
-			// 特別休暇集計情報を準備
+			// 欠勤集計情報を準備
 			TotalAbsenceDtoInterface dto = totalAbsenceRegist.getInitDto();
-			dto.setPersonalId(personalId);
-			dto.setCalculationYear(targetYear);
-			dto.setCalculationMonth(targetMonth);
+			dto.setPersonalId(entity.getPersonalId());
+			dto.setCalculationYear(entity.getCalculationYear());
+			dto.setCalculationMonth(entity.getCalculationMonth());
 			dto.setAbsenceCode(holidayCode);
 			dto.setTimes(absenceMap.get(holidayCode));
-			// 登録
-			totalAbsenceRegist.insert(dto);
+			list.add(dto);
 		}
+		return list;
 	}
 	
 	/**
@@ -1017,4 +1365,19 @@ public class TotalTimeCalcBean extends TimeBean implements TotalTimeCalcBeanInte
 		return getRoundMinute(time, dto.getRoundMonthlyWork(), dto.getRoundMonthlyWorkUnit());
 	}
 	
+	/**
+	 * 仮締並列実行スレッド生成クラス。<br>
+	 * アプリケーション終了を妨げないように、デーモンスレッドを生成する。<br>
+	 */
+	private static class CutoffThreadFactory implements ThreadFactory {
+		
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + THREAD_NUMBER.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+		
+	}
+	
 }
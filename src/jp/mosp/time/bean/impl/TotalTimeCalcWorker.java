@@ -0,0 +1,159 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ *
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bean.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import jp.mosp.framework.base.DBConnBean;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.instance.InstanceFactory;
+import jp.mosp.time.dto.settings.CutoffErrorListDtoInterface;
+import jp.mosp.time.entity.TotalTimeEntityInterface;
+
+/**
+ * 仮締処理(勤怠集計)の並列実行単位。<br>
+ * <br>
+ * 担当する個人ID群につき、勤怠集計エンティティの取得、勤怠集計前の確認及び勤怠集計を行う。<br>
+ * 専用のMosP処理情報及びDBコネクションを取得し、勤怠集計クラスも専用のインスタンスを用いるため、
+ * 他の実行単位と並列に実行することができる。<br>
+ * 実行単位で設定されたメッセージは、呼出元で分割順にMosP処理情報へ戻される。<br>
+ * DBへの参照のみを行い、登録は呼出元で行う。<br>
+ */
+public class TotalTimeCalcWorker implements Callable<TotalTimeCalcWorker> {
+	
+	/**
+	 * MosP処理情報(実行単位専用)。<br>
+	 */
+	protected MospParams						mospParams;
+	
+	/**
+	 * 勤怠集計クラス名(呼出元と同じクラスを用いる)。<br>
+	 */
+	protected String							modelClass;
+	
+	/**
+	 * 対象個人IDリスト。<br>
+	 */
+	protected List<String>						personalIdList;
+	
+	/**
+	 * 対象年。<br>
+	 */
+	protected int								targetYear;
+	
+	/**
+	 * 対象月。<br>
+	 */
+	protected int								targetMonth;
+	
+	/**
+	 * 締日コード。<br>
+	 */
+	protected String							cutoffCode;
+	
+	/**
+	 * 勤怠集計エンティティリスト(処理結果)。<br>
+	 */
+	protected List<TotalTimeEntityInterface>	entityList;
+	
+	/**
+	 * 集計時エラー内容情報リスト(処理結果)。<br>
+	 */
+	protected List<CutoffErrorListDtoInterface>	errorList;
+	
+	
+	/**
+	 * 仮締処理の並列実行単位を生成する。<br>
+	 * MosP処理情報は、{@link MospParams#createJobParams()}で実行単位専用のものを作成して用いる。<br>
+	 * @param mospParams     MosP処理情報(呼出元)
+	 * @param modelClass     勤怠集計クラス名
+	 * @param personalIdList 対象個人IDリスト
+	 * @param targetYear     対象年
+	 * @param targetMonth    対象月
+	 * @param cutoffCode     締日コード
+	 */
+	public TotalTimeCalcWorker(MospParams mospParams, String modelClass, List<String> personalIdList,
+			int targetYear, int targetMonth, String cutoffCode) {
+		this.mospParams = mospParams.createJobParams();
+		this.modelClass = modelClass;
+		this.personalIdList = personalIdList;
+		this.targetYear = targetYear;
+		this.targetMonth = targetMonth;
+		this.cutoffCode = cutoffCode;
+		entityList = new ArrayList<TotalTimeEntityInterface>();
+		errorList = new ArrayList<CutoffErrorListDtoInterface>();
+	}
+	
+	@Override
+	public TotalTimeCalcWorker call() throws MospException {
+		// 専用のDBコネクションを取得
+		DBConnBean dbConnBean = new DBConnBean(mospParams);
+		try {
+			// 専用の勤怠集計クラスを取得
+			TotalTimeCalcBean calc = (TotalTimeCalcBean)InstanceFactory.loadBean(modelClass, mospParams,
+					dbConnBean.getConnection());
+			// 勤怠集計エンティティを取得し勤怠集計前の確認
+			calc.prepareTightening(personalIdList, targetYear, targetMonth, cutoffCode, entityList, errorList);
+			// 勤怠集計前の確認でエラーがなかった場合
+			if (errorList.isEmpty()) {
+				// 勤怠集計
+				calc.total(entityList);
+			}
+			return this;
+		} finally {
+			// DBコネクション開放
+			dbConnBean.releaseConnection();
+		}
+	}
+	
+	/**
+	 * MosP処理情報(実行単位専用)を取得する。<br>
+	 * @return MosP処理情報
+	 */
+	public MospParams getMospParams() {
+		return mospParams;
+	}
+	
+	/**
+	 * 対象個人IDリストを取得する。<br>
+	 * @return 対象個人IDリスト
+	 */
+	public List<String> getPersonalIdList() {
+		return personalIdList;
+	}
+	
+	/**
+	 * 勤怠集計エンティティリスト(処理結果)を取得する。<br>
+	 * @return 勤怠集計エンティティリスト
+	 */
+	public List<TotalTimeEntityInterface> getEntityList() {
+		return entityList;
+	}
+	
+	/**
+	 * 集計時エラー内容情報リスト(処理結果)を取得する。<br>
+	 * @return 集計時エラー内容情報リスト
+	 */
+	public List<CutoffErrorListDtoInterface> getErrorList() {
+		return errorList;
+	}
+	
+}
@@ -21,8 +21,12 @@
 package jp.mosp.time.bean.impl;
 
 import java.sql.Connection;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.base.MospParams;
@@ -114,43 +118,51 @@ public class TotalTimeEmployeeTransactionRegistBean extends PlatformBean impleme
 	@Override
 	public void draft(List<String> personalIdList, int calculationYear, int calculationMonth, String cutoffCode)
 			throws MospException {
-		TotalTimeEmployeeDtoInterface dto = getInitDto();
-		dto.setCalculationYear(calculationYear);
-		dto.setCalculationMonth(calculationMonth);
-		dto.setCutoffCode(cutoffCode);
-		// 集計日設定
-		dto.setCalculationDate(cutoffUtil.getCutoffCalculationDate(cutoffCode, calculationYear, calculationMonth));
-		// 締状態設定(仮締)
-		dto.setCutoffState(TimeConst.CODE_CUTOFF_STATE_TEMP_TIGHT);
+		// 集計日取得
+		Date calculationDate = cutoffUtil.getCutoffCalculationDate(cutoffCode, calculationYear, calculationMonth);
+		// 対象個人IDの社員勤怠集計管理情報をまとめて取得
+		Map<String, TotalTimeEmployeeDtoInterface> registeredMap = new HashMap<String, TotalTimeEmployeeDtoInterface>();
+		for (TotalTimeEmployeeDtoInterface registeredDto : dao.findForList(new HashSet<String>(personalIdList),
+				calculationYear, calculationMonth)) {
+			registeredMap.put(registeredDto.getPersonalId(), registeredDto);
+		}
+		// 論理削除対象レコード識別IDリスト及び登録対象リストを準備
+		List<Long> idList = new ArrayList<Long>();
+		List<TotalTimeEmployeeDtoInterface> list = new ArrayList<TotalTimeEmployeeDtoInterface>();
 		for (String personalId : personalIdList) {
+			TotalTimeEmployeeDtoInterface dto = getInitDto();
 			dto.setPersonalId(personalId);
+			dto.setCalculationYear(calculationYear);
+			dto.setCalculationMonth(calculationMonth);
+			dto.setCutoffCode(cutoffCode);
+			dto.setCalculationDate(calculationDate);
+			// 締状態設定(仮締)
+			dto.setCutoffState(TimeConst.CODE_CUTOFF_STATE_TEMP_TIGHT);
 			// DTO妥当性確認
 			validate(dto);
 			if (mospParams.hasErrorMessage()) {
 				return;
 			}
-			TotalTimeEmployeeDtoInterface totalTimeEmployeeDto = dao.findForKey(dto.getPersonalId(),
-					dto.getCalculationYear(), dto.getCalculationMonth());
-			if (totalTimeEmployeeDto == null) {
-				// 新規登録情報の検証
-				checkInsert(dto);
-				if (mospParams.hasErrorMessage()) {
-					return;
-				}
-			} else {
-				// 履歴更新情報の検証
-				checkUpdate(totalTimeEmployeeDto);
-				if (mospParams.hasErrorMessage()) {
-					return;
-				}
-				// 論理削除
-				logicalDelete(dao, totalTimeEmployeeDto.getTmtTotalTimeEmployeeId());
+			// 社員勤怠集計管理情報が存在する場合
+			TotalTimeEmployeeDtoInterface registeredDto = registeredMap.get(personalId);
+			if (registeredDto != null) {
+				idList.add(registeredDto.getTmtTotalTimeEmployeeId());
 			}
-			// レコード識別ID最大値をインクリメントしてDTOに設定
-			dto.setTmtTotalTimeEmployeeId(dao.nextRecordId());
-			// 登録処理
-			dao.insert(dto);
+			list.add(dto);
 		}
+		// 論理削除
+		if (dao.logicalDeleteAll(idList) != idList.size()) {
+			// 取得後に他の処理で削除された場合
+			addExclusiveErrorMessage();
+			return;
+		}
+		// レコード識別IDをまとめて取得してDTOに設定
+		long[] recordIds = dao.nextRecordIds(list.size());
+		for (int i = 0; i < list.size(); i++) {
+			list.get(i).setTmtTotalTimeEmployeeId(recordIds[i]);
+		}
+		// 登録処理
+		dao.insertAll(list);
 	}
 	
 	@Override
@@ -17,6 +17,7 @@
  */
 package jp.mosp.time.bean.impl;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
@@ -32,6 +33,7 @@ import jp.mosp.platform.bean.system.PlatformMasterBeanInterface;
 import jp.mosp.platform.dao.human.EntranceDaoInterface;
 import jp.mosp.platform.dao.human.RetirementDaoInterface;
 import jp.mosp.platform.dao.workflow.WorkflowDaoInterface;
+import jp.mosp.platform.dto.base.RequestDtoInterface;
 import jp.mosp.platform.dto.human.EntranceDtoInterface;
 import jp.mosp.platform.dto.human.HumanDtoInterface;
 import jp.mosp.platform.dto.human.RetirementDtoInterface;
@@ -84,107 +86,168 @@ public class TotalTimeEntityReferenceBean extends TimeBean implements TotalTimeE
 	 * 前日が法定休日出勤だった場合に、7日前が必要になる。<br>
 	 * <br>
 	 */
-	public static final int							DAYS_FORMER_ATTENDANCE	= -7;
+	public static final int											DAYS_FORMER_ATTENDANCE	= -7;
 	
 	/**
 	 * 入社情報DAOクラス。<br>
 	 */
-	protected EntranceDaoInterface					entranceDao;
+	protected EntranceDaoInterface									entranceDao;
 	
 	/**
 	 * 休職情報参照クラス。<br>
 	 */
-	protected SuspensionReferenceBeanInterface		suspentionReference;
+	protected SuspensionReferenceBeanInterface						suspentionReference;
 	
 	/**
 	 * 退社情報DAOクラス。<br>
 	 */
-	protected RetirementDaoInterface				retirementDao;
+	protected RetirementDaoInterface								retirementDao;
 	
 	/**
 	 * 休暇種別管理DAOクラス。<br>
 	 */
-	protected HolidayDaoInterface					holidayDao;
+	protected HolidayDaoInterface									holidayDao;
 	
 	/**
 	 * 勤怠データDAOクラス。<br>
 	 */
-	protected AttendanceDaoInterface				attendanceDao;
+	protected AttendanceDaoInterface								attendanceDao;
 	
 	/**
 	 * 残業申請データDAOクラス。<br>
 	 */
-	protected OvertimeRequestDaoInterface			overtimeRequestDao;
+	protected OvertimeRequestDaoInterface							overtimeRequestDao;
 	
 	/**
 	 * 休暇申請データDAOクラス。<br>
 	 */
-	protected HolidayRequestDaoInterface			holidayRequestDao;
+	protected HolidayRequestDaoInterface							holidayRequestDao;
 	
 	/**
 	 * 休日出勤申請データDAOクラス。<br>
 	 */
-	protected WorkOnHolidayRequestDaoInterface		workOnHolidayRequestDao;
+	protected WorkOnHolidayRequestDaoInterface						workOnHolidayRequestDao;
 	
 	/**
 	 * 代休申請データDAOクラス。<br>
 	 */
-	protected SubHolidayRequestDaoInterface			subHolidayRequestDao;
+	protected SubHolidayRequestDaoInterface							subHolidayRequestDao;
 	
 	/**
 	 * 勤務形態変更申請DAOクラス。<br>
 	 */
-	protected WorkTypeChangeRequestDaoInterface		workTypeChangeRequestDao;
+	protected WorkTypeChangeRequestDaoInterface						workTypeChangeRequestDao;
 	
 	/**
 	 * 時差出勤申請データDAOクラス。<br>
 	 */
-	protected DifferenceRequestDaoInterface			differenceRequestDao;
+	protected DifferenceRequestDaoInterface							differenceRequestDao;
 	
 	/**
 	 * 振替休日データDAOクラス。<br>
 	 */
-	protected SubstituteDaoInterface				substituteDao;
+	protected SubstituteDaoInterface								substituteDao;
 	
 	/**
 	 * 代休データDAOクラス。<br>
 	 */
-	protected SubHolidayDaoInterface				subHolidayDao;
+	protected SubHolidayDaoInterface								subHolidayDao;
 	
 	/**
 	 * ワークフローDAOクラス。<br>
 	 */
-	protected WorkflowDaoInterface					workflowDao;
+	protected WorkflowDaoInterface									workflowDao;
 	
 	/**
 	 * 勤怠トランザクションDAO。<br>
 	 */
-	protected AttendanceTransactionDaoInterface		attendanceTransactionDao;
+	protected AttendanceTransactionDaoInterface						attendanceTransactionDao;
 	
 	/**
 	 * 勤怠設定管理DAOクラス。<br>
 	 */
-	protected TimeSettingDaoInterface				timeSettingDao;
+	protected TimeSettingDaoInterface								timeSettingDao;
 	
 	/**
 	 * カレンダ日管理参照。<br>
 	 */
-	protected ScheduleDateReferenceBeanInterface	scheduleDateReference;
+	protected ScheduleDateReferenceBeanInterface					scheduleDateReference;
 	
 	/**
 	 * 勤務形態マスタ参照クラス。<br>
 	 */
-	protected WorkTypeReferenceBeanInterface		workTypeReference;
+	protected WorkTypeReferenceBeanInterface						workTypeReference;
 	
 	/**
 	 * プラットフォームマスタ参照クラス。<br>
 	 */
-	protected PlatformMasterBeanInterface			platformMaster;
+	protected PlatformMasterBeanInterface							platformMaster;
 	
 	/**
 	 * 勤怠関連マスタ参照クラス。<br>
 	 */
-	protected TimeMasterBeanInterface				timeMaster;
+	protected TimeMasterBeanInterface								timeMaster;
+	
+	/**
+	 * 事前取得対象個人IDセット。<br>
+	 * 事前取得していない場合は、空のセット。<br>
+	 */
+	protected Set<String>											preloadPersonalIdSet	= Collections.emptySet();
+	
+	/**
+	 * 事前取得対象年。<br>
+	 */
+	protected int													preloadYear;
+	
+	/**
+	 * 事前取得対象月。<br>
+	 */
+	protected int													preloadMonth;
+	
+	/**
+	 * 事前取得締日コード。<br>
+	 */
+	protected String												preloadCutoffCode;
+	
+	/**
+	 * 事前取得勤怠情報群(キー：個人ID)。<br>
+	 */
+	protected Map<String, List<AttendanceDtoInterface>>				preloadAttendanceMap;
+	
+	/**
+	 * 事前取得休暇申請情報群(キー：個人ID)。<br>
+	 */
+	protected Map<String, List<HolidayRequestDtoInterface>>			preloadHolidayRequestMap;
+	
+	/**
+	 * 事前取得休日出勤申請情報群(キー：個人ID)。<br>
+	 */
+	protected Map<String, List<WorkOnHolidayRequestDtoInterface>>	preloadWorkOnHolidayRequestMap;
+	
+	/**
+	 * 事前取得残業申請情報群(キー：個人ID)。<br>
+	 */
+	protected Map<String, List<OvertimeRequestDtoInterface>>		preloadOvertimeRequestMap;
+	
+	/**
+	 * 事前取得勤務形態変更申請情報群(キー：個人ID)。<br>
+	 */
+	protected Map<String, List<WorkTypeChangeRequestDtoInterface>>	preloadWorkTypeChangeRequestMap;
+	
+	/**
+	 * 事前取得時差出勤申請情報群(キー：個人ID)。<br>
+	 */
+	protected Map<String, List<DifferenceRequestDtoInterface>>		preloadDifferenceRequestMap;
+	
+	/**
+	 * 事前取得振替休日情報群(キー：個人ID)。<br>
+	 */
+	protected Map<String, List<SubstituteDtoInterface>>				preloadSubstituteMap;
+	
+	/**
+	 * 事前取得勤怠トランザクション群(キー：個人ID)。<br>
+	 */
+	protected Map<String, Set<AttendanceTransactionDtoInterface>>	preloadAttendanceTransactionMap;
 	
 	
 	@Override
@@ -263,20 +326,28 @@ public class TotalTimeEntityReferenceBean extends TimeBean implements TotalTimeE
 		entity.setTimeSettingMap(timeMaster.getTimeSettingMap(entity.getApplicationMap()));
 		// カレンダ日情報群設定(締期間(個人))
 		entity.setScheduleMap(getScheduleMap(personalId, targetDateList));
-		// 勤怠申請リスト取得
-		entity.setAttendanceList(attendanceDao.findForList(personalId, attendanceFirstDate, lastDate));
-		// 休暇申請リスト取得
-		entity.setHolidayRequestList(holidayRequestDao.findForTerm(personalId, firstDate, lastDate));
-		// 休日出勤申請リスト取得
-		entity.setWorkOnHolidayRequestList(workOnHolidayRequestDao.findForList(personalId, firstDate, lastDate));
-		// 残業申請リスト取得
-		entity.setOvertimeRequestList(overtimeRequestDao.findForList(personalId, firstDate, lastDate));
-		// 勤務形態変更申請リスト取得
-		entity.setWorkTypeChangeRequestList(workTypeChangeRequestDao.findForTerm(personalId, firstDate, lastDate));
-		// 時差出勤申請リスト取得
-		entity.setDifferenceRequestList(differenceRequestDao.findForList(personalId, firstDate, lastDate));
-		// 振替休日データ取得
-		entity.setSubstitubeList(substituteDao.findForTerm(personalId, firstDate, lastDate));
+		// 勤怠情報及び各種申請情報を事前取得している場合
+		if (isPreloaded(personalId, targetYear, targetMonth, cutoffDto)) {
+			// 事前取得した情報を設定
+			setPreloadedList(entity);
+		} else {
+			// 勤怠申請リスト取得
+			entity.setAttendanceList(attendanceDao.findForList(personalId, attendanceFirstDate, lastDate));
+			// 休暇申請リスト取得
+			entity.setHolidayRequestList(holidayRequestDao.findForTerm(personalId, firstDate, lastDate));
+			// 休日出勤申請リスト取得
+			entity.setWorkOnHolidayRequestList(workOnHolidayRequestDao.findForList(personalId, firstDate, lastDate));
+			// 残業申請リスト取得
+			entity.setOvertimeRequestList(overtimeRequestDao.findForList(personalId, firstDate, lastDate));
+			// 勤務形態変更申請リスト取得
+			entity.setWorkTypeChangeRequestList(workTypeChangeRequestDao.findForTerm(personalId, firstDate, lastDate));
+			// 時差出勤申請リスト取得
+			entity.setDifferenceRequestList(differenceRequestDao.findForList(personalId, firstDate, lastDate));
+			// 振替休日データ取得
+			entity.setSubstitubeList(substituteDao.findForTerm(personalId, firstDate, lastDate));
+			// 勤怠トランザクション群取得
+			entity.setAttendanceTransactionSet(getAttendanceTransactionSet(personalId, firstDate, lastDate));
+		}
 		// 締期間初日(個人)から代休取得期限だけ遡った日付を取得
 		Date subHolidayFirstDate = getDateOnTimeSetteingDto(entity);
 		// 代休データリスト取得
@@ -288,7 +359,6 @@ public class TotalTimeEntityReferenceBean extends TimeBean implements TotalTimeE
 		Date workflowLastDate = getRequestEndDateForWorkflow(entity);
 		// ワークフロー情報群取得
 		entity.setWorkflowMap(workflowDao.findForCondition(personalId, workflowFirstDate, workflowLastDate));
-		entity.setAttendanceTransactionSet(getAttendanceTransactionSet(personalId, firstDate, lastDate));
 		// 振替勤務形態コード群設定
 		entity.setSubstitutedMap(getSubstitutedMap(entity));
 		// 勤務形態エンティティ群を準備
@@ -304,6 +374,170 @@ public class TotalTimeEntityReferenceBean extends TimeBean implements TotalTimeE
 		return entity;
 	}
 	
+	@Override
+	public void preload(Set<String> personalIdSet, int targetYear, int targetMonth, CutoffDtoInterface cutoffDto)
+			throws MospException {
+		// 事前取得した情報を破棄
+		clearPreload();
+		// 締日情報が取得できない或いは対象者がいない場合
+		if (cutoffDto == null || personalIdSet.isEmpty()) {
+			return;
+		}
+		// 締日を取得
+		int cutoffDate = cutoffDto.getCutoffDate();
+		// 締期間初日及び最終日を取得
+		Date firstDate = TimeUtility.getCutoffFirstDate(cutoffDate, targetYear, targetMonth);
+		Date lastDate = TimeUtility.getCutoffLastDate(cutoffDate, targetYear, targetMonth);
+		// 締期間初日の7日前を取得(週40時間計算用に勤怠申請情報を取得するため)
+		Date attendanceFirstDate = DateUtility.addDay(firstDate, DAYS_FORMER_ATTENDANCE);
+		// 勤怠情報群を取得
+		preloadAttendanceMap = new HashMap<String, List<AttendanceDtoInterface>>();
+		for (AttendanceDtoInterface dto : attendanceDao.findForList(personalIdSet, attendanceFirstDate, lastDate,
+				false)) {
+			getList(preloadAttendanceMap, dto.getPersonalId()).add(dto);
+		}
+		// 各種申請情報群を取得
+		preloadHolidayRequestMap = groupByPersonalId(holidayRequestDao.findForTerm(personalIdSet, firstDate,
+				lastDate));
+		preloadWorkOnHolidayRequestMap = groupByPersonalId(workOnHolidayRequestDao.findForList(personalIdSet,
+				firstDate, lastDate));
+		preloadOvertimeRequestMap = groupByPersonalId(overtimeRequestDao.findForList(personalIdSet, firstDate,
+				lastDate));
+		preloadWorkTypeChangeRequestMap = groupByPersonalId(workTypeChangeRequestDao.findForTerm(personalIdSet,
+				firstDate, lastDate));
+		preloadDifferenceRequestMap = groupByPersonalId(differenceRequestDao.findForList(personalIdSet, firstDate,
+				lastDate));
+		// 振替休日情報群を取得
+		preloadSubstituteMap = groupByPersonalId(substituteDao.findForTerm(personalIdSet, firstDate, lastDate));
+		// 勤怠トランザクション群を取得
+		preloadAttendanceTransactionMap = new HashMap<String, Set<AttendanceTransactionDtoInterface>>();
+		for (AttendanceTransactionDtoInterface dto : attendanceTransactionDao.findForTerm(personalIdSet, firstDate,
+				lastDate)) {
+			Set<AttendanceTransactionDtoInterface> set = preloadAttendanceTransactionMap.get(dto.getPersonalId());
+			if (set == null) {
+				set = new HashSet<AttendanceTransactionDtoInterface>();
+				preloadAttendanceTransactionMap.put(dto.getPersonalId(), set);
+			}
+			set.add(dto);
+		}
+		// 事前取得条件を保持
+		preloadPersonalIdSet = new HashSet<String>(personalIdSet);
+		preloadYear = targetYear;
+		preloadMonth = targetMonth;
+		preloadCutoffCode = cutoffDto.getCutoffCode();
+	}
+	
+	@Override
+	public void clearPreload() {
+		preloadPersonalIdSet = Collections.emptySet();
+		preloadCutoffCode = null;
+		preloadAttendanceMap = null;
+		preloadHolidayRequestMap = null;
+		preloadWorkOnHolidayRequestMap = null;
+		preloadOvertimeRequestMap = null;
+		preloadWorkTypeChangeRequestMap = null;
+		preloadDifferenceRequestMap = null;
+		preloadSubstituteMap = null;
+		preloadAttendanceTransactionMap = null;
+	}
+	
+	/**
+	 * 対象個人IDの勤怠情報及び各種申請情報を事前取得しているかを確認する。<br>
+	 * <br>
+	 * @param personalId  個人ID
+	 * @param targetYear  対象年
+	 * @param targetMonth 対象月
+	 * @param cutoffDto   締日情報
+	 * @return 確認結果(true：事前取得している、false：していない)
+	 */
+	protected boolean isPreloaded(String personalId, int targetYear, int targetMonth, CutoffDtoInterface cutoffDto) {
+		// 事前取得対象個人IDでない場合
+		if (preloadPersonalIdSet.contains(personalId) == false) {
+			return false;
+		}
+		// 対象年月及び締日コードが事前取得時と同じであるかを確認
+		return targetYear == preloadYear && targetMonth == preloadMonth
+				&& cutoffDto.getCutoffCode().equals(preloadCutoffCode);
+	}
+	
+	/**
+	 * 事前取得した勤怠情報及び各種申請情報を勤怠集計エンティティに設定する。<br>
+	 * <br>
+	 * 勤怠集計エンティティでリストの要素が除去されるため、複製したリストを設定する。<br>
+	 * <br>
+	 * @param entity 勤怠集計エンティティ
+	 */
+	protected void setPreloadedList(TotalTimeEntityInterface entity) {
+		// 個人IDを取得
+		String personalId = entity.getPersonalId();
+		// 事前取得した情報を設定
+		entity.setAttendanceList(getPreloadedList(preloadAttendanceMap, personalId));
+		entity.setHolidayRequestList(getPreloadedList(preloadHolidayRequestMap, personalId));
+		entity.setWorkOnHolidayRequestList(getPreloadedList(preloadWorkOnHolidayRequestMap, personalId));
+		entity.setOvertimeRequestList(getPreloadedList(preloadOvertimeRequestMap, personalId));
+		entity.setWorkTypeChangeRequestList(getPreloadedList(preloadWorkTypeChangeRequestMap, personalId));
+		entity.setDifferenceRequestList(getPreloadedList(preloadDifferenceRequestMap, personalId));
+		entity.setSubstitubeList(getPreloadedList(preloadSubstituteMap, personalId));
+		// 勤怠トランザクション群を設定
+		Set<AttendanceTransactionDtoInterface> set = preloadAttendanceTransactionMap.get(personalId);
+		if (set == null) {
+			set = new HashSet<AttendanceTransactionDtoInterface>();
+		}
+		entity.setAttendanceTransactionSet(new HashSet<AttendanceTransactionDtoInterface>(set));
+	}
+	
+	/**
+	 * 申請情報リストを個人ID毎にまとめる。<br>
+	 * 各個人IDのリストにおける順序は、元のリストの順序と同じになる。<br>
+	 * <br>
+	 * @param <T>  申請情報の型
+	 * @param list 申請情報リスト
+	 * @return 申請情報群(キー：個人ID)
+	 */
+	protected <T extends RequestDtoInterface> Map<String, List<T>> groupByPersonalId(List<T> list) {
+		// 申請情報群を準備
+		Map<String, List<T>> map = new HashMap<String, List<T>>();
+		// 申請情報毎に処理
+		for (T dto : list) {
+			getList(map, dto.getPersonalId()).add(dto);
+		}
+		return map;
+	}
+	
+	/**
+	 * 情報群から個人IDのリストを取得する。<br>
+	 * 個人IDのリストが存在しない場合は、空のリストを情報群に追加して取得する。<br>
+	 * <br>
+	 * @param <T>        情報の型
+	 * @param map        情報群(キー：個人ID)
+	 * @param personalId 個人ID
+	 * @return 個人IDのリスト
+	 */
+	protected <T> List<T> getList(Map<String, List<T>> map, String personalId) {
+		List<T> list = map.get(personalId);
+		if (list == null) {
+			list = new ArrayList<T>();
+			map.put(personalId, list);
+		}
+		return list;
+	}
+	
+	/**
+	 * 事前取得した情報群から個人IDのリストを複製して取得する。<br>
+	 * <br>
+	 * @param <T>        情報の型
+	 * @param map        事前取得した情報群(キー：個人ID)
+	 * @param personalId 個人ID
+	 * @return 個人IDのリスト(複製)
+	 */
+	protected <T> List<T> getPreloadedList(Map<String, List<T>> map, String personalId) {
+		List<T> list = map.get(personalId);
+		if (list == null) {
+			return new ArrayList<T>();
+		}
+		return new ArrayList<T>(list);
+	}
+	
 	/**
 	 * 締期間初日(個人)を取得する。<br>
 	 * 対象個人IDの最も古い人事基本情報の有効日が締期間初日よりも後の場合は、
@@ -21,6 +21,8 @@
 package jp.mosp.time.bean.impl;
 
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 
 import jp.mosp.framework.base.MospException;
@@ -136,27 +138,48 @@ public class TotalTimeRegistBean extends PlatformBean implements TotalTimeRegist
 	
 	@Override
 	public void delete(List<String> personalIdList, int calculationYear, int calculationMonth) throws MospException {
-		for (String personalId : personalIdList) {
-			// 勤怠集計データ取得
-			TotalTimeDataDtoInterface dto = dao.findForKey(personalId, calculationYear, calculationMonth);
-			// 勤怠集計データ確認
-			if (dto == null) {
-				// 勤怠集計データが無い場合は削除不要
-				continue;
-			}
+		// 対象個人IDの勤怠集計データをまとめて取得
+		List<TotalTimeDataDtoInterface> list = dao.findForList(new HashSet<String>(personalIdList), calculationYear,
+				calculationMonth);
+		// 論理削除対象レコード識別IDリストを準備
+		List<Long> idList = new ArrayList<Long>();
+		for (TotalTimeDataDtoInterface dto : list) {
 			// DTO妥当性確認
 			validate(dto);
 			if (mospParams.hasErrorMessage()) {
 				return;
 			}
-			// 確認
-			checkDelete(dto);
+			idList.add(dto.getTmdTotalTimeId());
+		}
+		// 論理削除
+		if (dao.logicalDeleteAll(idList) != idList.size()) {
+			// 取得後に他の処理で削除された場合
+			addExclusiveErrorMessage();
+		}
+	}
+	
+	@Override
+	public void regist(List<String> personalIdList, int calculationYear, int calculationMonth,
+			List<TotalTimeDataDtoInterface> list) throws MospException {
+		// 対象個人IDの勤怠集計データを論理削除
+		delete(personalIdList, calculationYear, calculationMonth);
+		if (mospParams.hasErrorMessage()) {
+			return;
+		}
+		for (TotalTimeDataDtoInterface dto : list) {
+			// DTO妥当性確認
+			validate(dto);
 			if (mospParams.hasErrorMessage()) {
 				return;
 			}
-			// 論理削除
-			logicalDelete(dao, dto.getTmdTotalTimeId());
 		}
+		// レコード識別IDをまとめて取得してDTOに設定
+		long[] recordIds = dao.nextRecordIds(list.size());
+		for (int i = 0; i < list.size(); i++) {
+			list.get(i).setTmdTotalTimeId(recordIds[i]);
+		}
+		// 登録処理
+		dao.insertAll(list);
 	}
 	
 	/**
@@ -0,0 +1,131 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bean.impl;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.utils.DateUtility;
+import jp.mosp.orangesignal.OrangeSignalUtility;
+import jp.mosp.platform.bean.system.JobBeanInterface;
+import jp.mosp.platform.bean.system.JobProgressInterface;
+import jp.mosp.platform.constant.PlatformMessageConst;
+import jp.mosp.time.base.TimeBean;
+import jp.mosp.time.bean.TotalTimeCalcBeanInterface;
+import jp.mosp.time.constant.TimeMessageConst;
+import jp.mosp.time.dto.settings.CutoffErrorListDtoInterface;
+
+/**
+ * 仮締ジョブクラス。<br>
+ * <br>
+ * 仮締(勤怠集計)をジョブとして実行する。<br>
+ * ジョブパラメータは、対象年、対象月、締日コードの順で指定する。<br>
+ * 集計時エラーがあった場合は、エラー内容をCSVの結果ファイルとして出力し、異常終了とする。<br>
+ */
+public class TotalTimeTighteningJobBean extends TimeBean implements JobBeanInterface {
+	
+	/**
+	 * 結果ファイル名接頭辞(集計時エラー内容)。<br>
+	 */
+	protected static final String			FILE_PREFIX_ERROR	= "cutoffError_";
+	
+	/**
+	 * 結果ファイル拡張子。<br>
+	 */
+	protected static final String			FILE_EXTENSION		= ".csv";
+	
+	/**
+	 * 勤怠集計クラス。<br>
+	 */
+	protected TotalTimeCalcBeanInterface	calc;
+	
+	
+	/**
+	 * {@link TimeBean#TimeBean()}を実行する。<br>
+	 */
+	public TotalTimeTighteningJobBean() {
+		super();
+	}
+	
+	/**
+	 * {@link TimeBean#TimeBean(MospParams, Connection)}を実行する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param connection DBコネクション
+	 */
+	protected TotalTimeTighteningJobBean(MospParams mospParams, Connection connection) {
+		super(mospParams, connection);
+	}
+	
+	@Override
+	public void initBean() throws MospException {
+		calc = (TotalTimeCalcBeanInterface)createBean(TotalTimeCalcBeanInterface.class);
+	}
+	
+	@Override
+	public void execute(JobProgressInterface progress, String... parameters) throws MospException {
+		// ジョブパラメータ取得
+		int targetYear = Integer.parseInt(parameters[0]);
+		int targetMonth = Integer.parseInt(parameters[1]);
+		String cutoffCode = parameters[2];
+		// 仮締(勤怠集計、仮締分割単位毎に進捗を通知)
+		List<CutoffErrorListDtoInterface> list = calc.tightening(targetYear, targetMonth, cutoffCode, progress);
+		if (mospParams.hasErrorMessage()) {
+			return;
+		}
+		// 集計時エラー内容がある場合
+		if (list.isEmpty() == false) {
+			// 集計時エラー内容を結果ファイルに設定
+			setErrorFile(list, targetYear, targetMonth, cutoffCode);
+			mospParams.addErrorMessage(TimeMessageConst.MSG_NOT_APPROVAL);
+			return;
+		}
+		// 仮締成功メッセージ設定
+		mospParams.addMessage(PlatformMessageConst.MSG_PROCESS_SUCCEED, mospParams.getName("Provisional", "Cutoff"));
+	}
+	
+	/**
+	 * 集計時エラー内容をCSVとしてMosP処理情報に設定する。<br>
+	 * @param list        集計時エラー内容リスト
+	 * @param targetYear  対象年
+	 * @param targetMonth 対象月
+	 * @param cutoffCode  締日コード
+	 */
+	protected void setErrorFile(List<CutoffErrorListDtoInterface> list, int targetYear, int targetMonth,
+			String cutoffCode) {
+		// CSVデータリスト準備
+		List<String[]> csvDataList = new ArrayList<String[]>();
+		// ヘッダ
+		csvDataList.add(new String[]{ mospParams.getName("Date"), mospParams.getName("Employee", "Code"),
+			mospParams.getName("WorkPlace"), mospParams.getName("EmploymentContract"), mospParams.getName("Section"),
+			mospParams.getName("Position"), mospParams.getName("Type"), mospParams.getName("State") });
+		// 集計時エラー内容毎に処理
+		for (CutoffErrorListDtoInterface dto : list) {
+			csvDataList.add(new String[]{ DateUtility.getStringDate(dto.getDate()), dto.getEmployeeCode(),
+				dto.getWorkPlaceCode(), dto.getEmploymentCode(), dto.getSectionCode(), dto.getPositionCode(),
+				dto.getType(), dto.getState() });
+		}
+		// CSVデータリスト及び送出ファイル名をMosP処理情報に設定
+		mospParams.setFile(OrangeSignalUtility.getOrangeSignalParams(csvDataList));
+		mospParams.setFileName(FILE_PREFIX_ERROR + cutoffCode + "_" + targetYear + String.format("%02d", targetMonth)
+				+ FILE_EXTENSION);
+	}
+	
+}
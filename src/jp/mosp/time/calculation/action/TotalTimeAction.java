@@ -41,6 +41,7 @@ import jp.mosp.time.bean.TotalTimeEmployeeTransactionReferenceBeanInterface;
 import jp.mosp.time.bean.TotalTimeEmployeeTransactionRegistBeanInterface;
 import jp.mosp.time.bean.TotalTimeTransactionRegistBeanInterface;
 import jp.mosp.time.bean.TotalTimeTransactionSearchBeanInterface;
+import jp.mosp.time.bean.impl.TotalTimeTighteningJobBean;
 import jp.mosp.time.calculation.vo.TotalTimeVo;
 import jp.mosp.time.comparator.settings.TotalTimeCutoffListCutoffCodeComparator;
 import jp.mosp.time.constant.TimeConst;
@@ -275,6 +276,11 @@ public class TotalTimeAction extends TotalTimeBaseAction {
 		// VOから年月を取得
 		int targetYear = Integer.parseInt(vo.getPltEditRequestYear());
 		int targetMonth = Integer.parseInt(vo.getPltEditRequestMonth());
+		// 仮締をジョブとして実行する場合
+		if (mospParams.getApplicationPropertyBool(TimeConst.APP_CUTOFF_ASYNC)) {
+			submitTightening(targetYear, targetMonth, cutoffCode);
+			return;
+		}
 		// 集計クラス取得
 		TotalTimeCalcBeanInterface calc = time().totalTimeCalc();
 		// 仮締(勤怠集計)
@@ -303,6 +309,31 @@ public class TotalTimeAction extends TotalTimeBaseAction {
 		search();
 	}
 	
+	/**
+	 * 仮締処理をジョブとして受け付ける。<br>
+	 * ジョブの終了を待たずに、受付メッセージを設定して検索する。<br>
+	 * 集計時エラー内容は、ジョブの結果ファイルとして出力される。<br>
+	 * @param targetYear  対象年
+	 * @param targetMonth 対象月
+	 * @param cutoffCode  締日コード
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	protected void submitTightening(int targetYear, int targetMonth, String cutoffCode) throws MospException {
+		// ジョブ名称取得
+		String jobName = mospParams.getName("Provisional", "Cutoff");
+		// ジョブ受付
+		long jobId = platform().jobRegist().submit(jobName, TotalTimeTighteningJobBean.class,
+				String.valueOf(targetYear), String.valueOf(targetMonth), cutoffCode);
+		// 処理結果確認
+		if (mospParams.hasErrorMessage()) {
+			return;
+		}
+		// 受付メッセージ設定(画面表示時にジョブの状況を表示)
+		addJobAcceptedMessage(jobName, jobId);
+		// 検索
+		search();
+	}
+	
 	/**
 	 * 確定処理を行う。<br>
 	 * @throws MospException 比較クラスのインスタンス生成に失敗した場合
@@ -2316,4 +2316,74 @@ public final class TimeConst {
 	 */
 	public static final String	APP_SHOW_APPLIABLE_EXIST											= "ShowAppliableExist";
 	
+	/**
+	 * MosPアプリケーション設定キー(仮締並列数)。
+	 */
+	public static final String	APP_CUTOFF_THREADS													= "CutoffThreads";
+	
+	/**
+	 * MosPアプリケーション設定キー(仮締分割単位)。
+	 */
+	public static final String	APP_CUTOFF_CHUNK_SIZE												= "CutoffChunkSize";
+	
+	/**
+	 * MosPアプリケーション設定キー(仮締ジョブ実行要否)。
+	 */
+	public static final String	APP_CUTOFF_ASYNC													= "CutoffAsync";
+	
+	/**
+	 * MosPアプリケーション設定キー(休暇一括付与ジョブ実行要否)。
+	 */
+	public static final String	APP_HOLIDAY_GRANT_ASYNC												= "HolidayGrantAsync";
+	
+	/**
+	 * MosPアプリケーション設定キー(エクスポート逐次出力要否)。
+	 */
+	public static final String	APP_EXPORT_STREAMING												= "ExportStreaming";
+	
+	/**
+	 * MosPアプリケーション設定キー(エクスポート検索時取得件数)。
+	 */
+	public static final String	APP_EXPORT_FETCH_SIZE												= "ExportFetchSize";
+	
+	/**
+	 * MosPアプリケーション設定キー(エクスポートジョブ実行要否)。
+	 */
+	public static final String	APP_EXPORT_ASYNC													= "ExportAsync";
+	
+	/**
+	 * MosPアプリケーション設定キー(インポート時一括処理件数)。
+	 */
+	public static final String	APP_IMPORT_CHUNK_SIZE												= "ImportChunkSize";
+	
+	/**
+	 * MosPアプリケーション設定キー(打刻受付要否)。
+	 */
+	public static final String	APP_TIME_PUNCH_QUEUE												= "TimePunchQueue";
+	
+	/**
+	 * MosPアプリケーション設定キー(打刻反映件数)。
+	 */
+	public static final String	APP_TIME_PUNCH_BATCH_SIZE											= "TimePunchBatchSize";
+	
+	/**
+	 * 打刻反映件数初期値。
+	 */
+	public static final int		DEFAULT_TIME_PUNCH_BATCH_SIZE										= 100;
+	
+	/**
+	 * 打刻反映状態(反映待)。
+	 */
+	public static final String	CODE_PUNCH_STATUS_WAITING											= "0";
+	
+	/**
+	 * 打刻反映状態(反映済)。
+	 */
+	public static final String	CODE_PUNCH_STATUS_PROCESSED											= "2";
+	
+	/**
+	 * 打刻反映状態(反映失敗)。
+	 */
+	public static final String	CODE_PUNCH_STATUS_FAILED											= "9";
+	
 }
@@ -462,6 +462,11 @@ public final class TimeMessageConst {
 	 */
 	public static final String	MSG_HALF_HOLIDAY_WORK_TYPE_ERROR					= "TMW0335";
 	
+	/**
+	 * 受け付けた打刻を勤怠データに反映できなかった時のエラーメッセージ。
+	 */
+	public static final String	MSG_TIME_PUNCH_FAILED								= "TMW0336";
+	
 	/**
 	 * 汎用エラーメッセージ。
 	 */
@@ -487,4 +492,14 @@ public final class TimeMessageConst {
 	 */
 	public static final String	MSG_HALF_SUBHOLIDAY_REQUEST							= "TMI0006";
 	
+	/**
+	 * 打刻を受け付けた時のメッセージ。<br>
+	 */
+	public static final String	MSG_TIME_PUNCH_ACCEPTED								= "TMI0007";
+	
+	/**
+	 * 勤怠データに反映されていない打刻がある時のメッセージ。<br>
+	 */
+	public static final String	MSG_TIME_PUNCH_WAITING								= "TMI0008";
+	
 }
@@ -23,6 +23,7 @@ package jp.mosp.time.dao.settings;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDaoInterface;
 import jp.mosp.framework.base.MospException;
@@ -65,6 +66,19 @@ public interface AttendanceDaoInterface extends BaseDaoInterface {
 	 */
 	List<AttendanceDtoInterface> findForList(String personalId, Date startDate, Date endDate) throws MospException;
 	
+	/**
+	 * 個人IDセットと開始年月日と終了年月日から勤怠情報を取得する。<br>
+	 * 一括登録時に、対象となる勤怠情報をまとめて取得するために用いる。<br>
+	 * @param personalIdSet 個人IDセット
+	 * @param startDate 開始年月日
+	 * @param endDate 終了年月日
+	 * @param excludeWithdrawn ワークフローの状態が取下であるものを除く場合true
+	 * @return 勤怠情報リスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<AttendanceDtoInterface> findForList(Set<String> personalIdSet, Date startDate, Date endDate,
+			boolean excludeWithdrawn) throws MospException;
+	
 	/**
 	 * 履歴一覧。
 	 * <p>
@@ -18,6 +18,7 @@
 package jp.mosp.time.dao.settings;
 
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -50,6 +51,18 @@ public interface AttendanceTransactionDaoInterface extends BaseDaoInterface {
 	Map<Date, AttendanceTransactionDtoInterface> findForTerm(String personalId, Date firstDate, Date lastDate)
 			throws MospException;
 	
+	/**
+	 * 個人IDセットと対象期間から勤怠トランザクションリストを取得する。<br>
+	 * 仮締時に、対象者の情報をまとめて取得するために用いる。<br>
+	 * @param personalIdSet 個人IDセット
+	 * @param firstDate 対象期間初日
+	 * @param lastDate 対象期間末日
+	 * @return 勤怠トランザクションリスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<AttendanceTransactionDtoInterface> findForTerm(Set<String> personalIdSet, Date firstDate, Date lastDate)
+			throws MospException;
+	
 	/**
 	 * 勤怠トランザクションの和を取得する。<br>
 	 * @param personalId 個人ID
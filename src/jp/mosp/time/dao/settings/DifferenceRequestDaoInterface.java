@@ -20,6 +20,7 @@ package jp.mosp.time.dao.settings;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDaoInterface;
 import jp.mosp.framework.base.MospException;
@@ -61,6 +62,18 @@ public interface DifferenceRequestDaoInterface extends BaseDaoInterface {
 	List<DifferenceRequestDtoInterface> findForList(String personalId, Date startDate, Date endDate)
 			throws MospException;
 	
+	/**
+	 * 個人IDセットと対象期間から時差出勤申請リストを取得する。<br>
+	 * 仮締時に、対象者の情報をまとめて取得するために用いる。<br>
+	 * @param personalIdSet 個人IDセット
+	 * @param startDate 開始日
+	 * @param endDate 終了日
+	 * @return 時差出勤申請リスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<DifferenceRequestDtoInterface> findForList(Set<String> personalIdSet, Date startDate, Date endDate)
+			throws MospException;
+	
 	/**
 	 * 個人IDと対象期間から時差出勤申請情報リストを取得する。<br>
 	 * @param personalId 個人ID
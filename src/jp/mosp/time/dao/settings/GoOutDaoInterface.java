@@ -20,6 +20,7 @@ package jp.mosp.time.dao.settings;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDaoInterface;
 import jp.mosp.framework.base.MospException;
@@ -43,6 +44,17 @@ public interface GoOutDaoInterface extends BaseDaoInterface {
 	 */
 	List<GoOutDtoInterface> findForList(String personalId, Date workDate, int timesWork) throws MospException;
 	
+	/**
+	 * 個人IDセットと開始年月日と終了年月日から勤怠データ外出情報リストを取得する。<br>
+	 * 一括削除時に、対象となる情報をまとめて取得するために用いる。<br>
+	 * @param personalIdSet 個人IDセット
+	 * @param startDate 開始年月日
+	 * @param endDate 終了年月日
+	 * @return 勤怠データ外出情報リスト
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	List<GoOutDtoInterface> findForList(Set<String> personalIdSet, Date startDate, Date endDate) throws MospException;
+	
 	/**
 	 * 勤怠データ休憩情報リスト取得。
 	 * <p>
@@ -20,6 +20,7 @@ package jp.mosp.time.dao.settings;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDaoInterface;
 import jp.mosp.framework.base.MospException;
@@ -66,6 +67,18 @@ public interface HolidayRequestDaoInterface extends BaseDaoInterface {
 	 */
 	List<HolidayRequestDtoInterface> findForTerm(String personalId, Date firstDate, Date lastDate) throws MospException;
 	
+	/**
+	 * 個人IDセットと対象期間から休暇申請情報リストを取得する。<br>
+	 * 仮締時に、対象者の情報をまとめて取得するために用いる。<br>
+	 * @param personalIdSet 個人IDセット
+	 * @param firstDate 対象期間初日
+	 * @param lastDate 対象期間最終日
+	 * @return 休暇申請情報リスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<HolidayRequestDtoInterface> findForTerm(Set<String> personalIdSet, Date firstDate, Date lastDate)
+			throws MospException;
+	
 	/**
 	 * 個人IDと対象期間と休暇種別1と休暇種別2から休暇申請情報リストを取得する。<br>
 	 * @param personalId 個人ID
@@ -132,6 +145,30 @@ public interface HolidayRequestDaoInterface extends BaseDaoInterface {
 	List<HolidayRequestDtoInterface> findForApprovedList(String personalId, Date acquisitionDate, int holidayType1,
 			String holidayType2, Date requestStartDate, Date requestEndDate) throws MospException;
 	
+	/**
+	 * 個人IDと休暇種別1と休暇種別2から承認完了休暇申請リストを取得する。<br>
+	 * 取得日及び申請日に依らず取得する。<br>
+	 * @param personalId 個人ID
+	 * @param holidayType1 休暇種別1
+	 * @param holidayType2 休暇種別2
+	 * @return 承認完了休暇申請リスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<HolidayRequestDtoInterface> findForApprovedList(String personalId, int holidayType1, String holidayType2)
+			throws MospException;
+	
+	/**
+	 * 個人IDと休暇種別1と休暇種別2から休暇申請リストを取得する。<br>
+	 * 取得日及び申請日に依らず、下書及び取下を除いて取得する。<br>
+	 * @param personalId 個人ID
+	 * @param holidayType1 休暇種別1
+	 * @param holidayType2 休暇種別2
+	 * @return 休暇申請リスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<HolidayRequestDtoInterface> findForRequestList(String personalId, int holidayType1, String holidayType2)
+			throws MospException;
+	
 	/**
 	 * 個人IDと取得日と休暇種別1と休暇種別2と申請日から休暇申請リストを取得する。<br>
 	 * @param personalId 個人ID
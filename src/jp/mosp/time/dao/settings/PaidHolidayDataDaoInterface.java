@@ -19,6 +19,7 @@ package jp.mosp.time.dao.settings;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDaoInterface;
 import jp.mosp.framework.base.MospException;
@@ -67,6 +68,22 @@ public interface PaidHolidayDataDaoInterface extends BaseDaoInterface {
 	 */
 	List<PaidHolidayDataDtoInterface> findForHistory(String personalId, Date acquisitionDate) throws MospException;
 	
+	/**
+	 * 個人IDの有給休暇データリストを取得する。<br>
+	 * 無効の情報も含め、取得日及び有効日の昇順で並べる。<br>
+	 * @param personalId 個人ID
+	 * @return 有給休暇データリスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<PaidHolidayDataDtoInterface> findForHistoryList(String personalId) throws MospException;
+	
+	/**
+	 * 有給休暇データが存在する個人IDを取得する。<br>
+	 * @return 個人IDセット
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	Set<String> findForPersonalIdSet() throws MospException;
+	
 	/**
 	 * 有給休暇データ取得。
 	 * <p>
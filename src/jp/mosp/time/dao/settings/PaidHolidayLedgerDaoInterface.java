@@ -0,0 +1,62 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.dao.settings;
+
+import java.util.Date;
+import java.util.List;
+
+import jp.mosp.framework.base.BaseDaoInterface;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.time.dto.settings.PaidHolidayLedgerDtoInterface;
+
+/**
+ * 有給休暇台帳DAOインターフェース。<br>
+ */
+public interface PaidHolidayLedgerDaoInterface extends BaseDaoInterface {
+	
+	/**
+	 * 対象日時点で有効な有給休暇台帳情報リストを取得する。<br>
+	 * 有給休暇データDAOの{@link PaidHolidayDataDaoInterface#findForInfoList(String, Date)}と同じ条件で、
+	 * 取得日毎に対象日以前で最新の情報を取得する。<br>
+	 * 取得日の昇順で並べる。<br>
+	 * @param personalId 個人ID
+	 * @param targetDate 対象日
+	 * @return 有給休暇台帳DTOリスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<PaidHolidayLedgerDtoInterface> findForInfoList(String personalId, Date targetDate) throws MospException;
+	
+	/**
+	 * 個人IDの有給休暇台帳情報リストを取得する。<br>
+	 * 取得日及び有効日の昇順で並べる。<br>
+	 * @param personalId 個人ID
+	 * @return 有給休暇台帳DTOリスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<PaidHolidayLedgerDtoInterface> findForPersonalId(String personalId) throws MospException;
+	
+	/**
+	 * 個人IDの有給休暇台帳情報を物理削除する。<br>
+	 * 条件と合致する情報が存在しない場合は、何もしない。<br>
+	 * @param personalId 個人ID
+	 * @return 削除件数
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	int deleteForPersonalId(String personalId) throws MospException;
+	
+}
@@ -22,6 +22,7 @@ package jp.mosp.time.dao.settings;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDaoInterface;
 import jp.mosp.framework.base.MospException;
@@ -92,4 +93,16 @@ public interface SubstituteDaoInterface extends BaseDaoInterface {
 	 */
 	List<SubstituteDtoInterface> findForTerm(String personalId, Date firstDate, Date lastDate) throws MospException;
 	
+	/**
+	 * 個人IDセットと対象期間から振替休日情報リストを取得する。<br>
+	 * 仮締時に、対象者の情報をまとめて取得するために用いる。<br>
+	 * @param personalIdSet 個人IDセット
+	 * @param firstDate 対象期間初日
+	 * @param lastDate 対象期間最終日
+	 * @return 振替休日情報リスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<SubstituteDtoInterface> findForTerm(Set<String> personalIdSet, Date firstDate, Date lastDate)
+			throws MospException;
+	
 }
@@ -0,0 +1,51 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.dao.settings;
+
+import java.util.Date;
+import java.util.List;
+
+import jp.mosp.framework.base.BaseDaoInterface;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.time.dto.settings.TimePunchDtoInterface;
+
+/**
+ * 打刻受付DAOインターフェース。
+ */
+public interface TimePunchDaoInterface extends BaseDaoInterface {
+	
+	/**
+	 * 反映待の打刻受付情報リストを取得する。<br>
+	 * 受付順(レコード識別IDの昇順)で上限件数まで取得する。<br>
+	 * @param limit 上限件数
+	 * @return 打刻受付情報リスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<TimePunchDtoInterface> findForWaiting(int limit) throws MospException;
+	
+	/**
+	 * 個人IDの反映済でない打刻受付情報リスト(反映待及び反映失敗)を取得する。<br>
+	 * 打刻時刻が対象日時以降のものを、受付順で取得する。<br>
+	 * @param personalId 個人ID
+	 * @param fromTime   対象日時
+	 * @return 打刻受付情報リスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<TimePunchDtoInterface> findForNotProcessed(String personalId, Date fromTime) throws MospException;
+	
+}
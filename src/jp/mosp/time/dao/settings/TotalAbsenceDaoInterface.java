@@ -22,6 +22,7 @@ package jp.mosp.time.dao.settings;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDaoInterface;
 import jp.mosp.framework.base.MospException;
@@ -62,4 +63,16 @@ public interface TotalAbsenceDaoInterface extends BaseDaoInterface {
 	List<TotalAbsenceDtoInterface> findForList(String personalId, int calculationYear, int calculationMonth)
 			throws MospException;
 	
+	/**
+	 * 個人IDセットと計算年と計算月から欠勤集計データリストを取得する。<br>
+	 * 確定時に、対象者の情報をまとめて取得するために用いる。<br>
+	 * @param personalIdSet 個人IDセット
+	 * @param calculationYear 集計年
+	 * @param calculationMonth 集計月
+	 * @return 欠勤集計データリスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<TotalAbsenceDtoInterface> findForList(Set<String> personalIdSet, int calculationYear,
+			int calculationMonth) throws MospException;
+	
 }
@@ -21,6 +21,7 @@
 package jp.mosp.time.dao.settings;
 
 import java.util.List;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDaoInterface;
 import jp.mosp.framework.base.MospException;
@@ -43,6 +44,18 @@ public interface TotalTimeDataDaoInterface extends BaseDaoInterface {
 	TotalTimeDataDtoInterface findForKey(String personalId, int calculationYear, int calculationMonth)
 			throws MospException;
 	
+	/**
+	 * 個人IDセットと計算年と計算月から勤怠集計データリストを取得する。<br>
+	 * 確定時に、対象者の情報をまとめて取得するために用いる。<br>
+	 * @param personalIdSet 個人IDセット
+	 * @param calculationYear 集計年
+	 * @param calculationMonth 集計月
+	 * @return 勤怠集計データリスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<TotalTimeDataDtoInterface> findForList(Set<String> personalIdSet, int calculationYear,
+			int calculationMonth) throws MospException;
+	
 	/**
 	 * 個人ID配列と年と月から勤怠集計データリストを取得する。<br>
 	 * @param personalIdArray 個人ID配列
@@ -23,6 +23,7 @@ package jp.mosp.time.dao.settings;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDaoInterface;
 import jp.mosp.framework.base.MospException;
@@ -45,6 +46,18 @@ public interface TotalTimeEmployeeDaoInterface extends BaseDaoInterface {
 	TotalTimeEmployeeDtoInterface findForKey(String personalId, int calculationYear, int calculationMonth)
 			throws MospException;
 	
+	/**
+	 * 個人IDセットと計算年と計算月から社員勤怠集計管理情報リストを取得する。<br>
+	 * 確定時に、対象者の情報をまとめて取得するために用いる。<br>
+	 * @param personalIdSet 個人IDセット
+	 * @param calculationYear 集計年
+	 * @param calculationMonth 集計月
+	 * @return 社員勤怠集計管理情報リスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<TotalTimeEmployeeDtoInterface> findForList(Set<String> personalIdSet, int calculationYear,
+			int calculationMonth) throws MospException;
+	
 	/**
 	 * 個人IDが設定されている、有効日の範囲内で情報を取得する。<br>
 	 * 検索結果に、有効日が開始日または終了日の情報も含める。<br>
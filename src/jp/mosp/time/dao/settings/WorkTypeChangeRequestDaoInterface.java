@@ -20,6 +20,7 @@ package jp.mosp.time.dao.settings;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDaoInterface;
 import jp.mosp.framework.base.MospException;
@@ -61,6 +62,18 @@ public interface WorkTypeChangeRequestDaoInterface extends BaseDaoInterface {
 	List<WorkTypeChangeRequestDtoInterface> findForTerm(String personalId, Date firstDate, Date lastDate)
 			throws MospException;
 	
+	/**
+	 * 個人IDセットと対象期間から勤務形態変更申請リストを取得する。<br>
+	 * 仮締時に、対象者の情報をまとめて取得するために用いる。<br>
+	 * @param personalIdSet 個人IDセット
+	 * @param firstDate 対象期間初日
+	 * @param lastDate 対象期間末日
+	 * @return 勤務形態変更申請リスト
+	 * @throws MospException SQLの作成に失敗した場合、或いはSQL例外が発生した場合
+	 */
+	List<WorkTypeChangeRequestDtoInterface> findForTerm(Set<String> personalIdSet, Date firstDate, Date lastDate)
+			throws MospException;
+	
 	/**
 	 * 個人IDと対象期間から勤務形態変更承認情報リストを取得する。<br>
 	 * ワークフローの状態が取下げであるものは除く。<br>
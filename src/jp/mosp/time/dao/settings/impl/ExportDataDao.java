@@ -28,6 +28,7 @@ import jp.mosp.platform.base.PlatformDao;
 import jp.mosp.platform.dao.human.HumanDaoInterface;
 import jp.mosp.platform.dao.human.impl.PfmHumanDao;
 import jp.mosp.platform.dao.workflow.WorkflowDaoInterface;
+import jp.mosp.time.constant.TimeConst;
 import jp.mosp.time.dao.settings.ExportDataDaoInterface;
 
 /**
@@ -35,6 +36,11 @@ import jp.mosp.time.dao.settings.ExportDataDaoInterface;
  */
 public class ExportDataDao extends PlatformDao implements ExportDataDaoInterface {
 	
+	/**
+	 * 検索時に一度に取得する件数(デフォルト)。<br>
+	 */
+	protected static final int		DEFAULT_FETCH_SIZE	= 1000;
+	
 	private WorkflowDaoInterface	workflowDao;
 	private HumanDaoInterface		humanDao;
 	
@@ -158,6 +164,7 @@ public class ExportDataDao extends PlatformDao implements ExportDataDaoInterface
 			sb.append(getOrderByColumns(PfmHumanDao.COL_EMPLOYEE_CODE, TmdAttendanceDao.COL_WORK_DATE,
 					TmdAttendanceDao.COL_TIMES_WORK));
 			prepareStatement(sb.toString());
+			setFetchSize(getFetchSize());
 			setParam(index++, startDate);
 			setParam(index++, endDate);
 			if (!workPlaceCode.isEmpty()) {
@@ -264,6 +271,7 @@ public class ExportDataDao extends PlatformDao implements ExportDataDaoInterface
 			}
 			sb.append(getOrderByColumns(PfmHumanDao.COL_EMPLOYEE_CODE, TmdTotalTimeDao.COL_CALCULATION_DATE));
 			prepareStatement(sb.toString());
+			setFetchSize(getFetchSize());
 			setParam(index++, startDate);
 			setParam(index++, endDate);
 			if (!workPlaceCode.isEmpty()) {
@@ -371,6 +379,7 @@ public class ExportDataDao extends PlatformDao implements ExportDataDaoInterface
 			sb.append(getOrderByColumns(PfmHumanDao.COL_EMPLOYEE_CODE, TmdPaidHolidayDao.COL_ACQUISITION_DATE,
 					TmdPaidHolidayDao.COL_ACTIVATE_DATE));
 			prepareStatement(sb.toString());
+			setFetchSize(getFetchSize());
 			setParam(index++, startDate);
 			setParam(index++, endDate);
 			if (!workPlaceCode.isEmpty()) {
@@ -479,6 +488,7 @@ public class ExportDataDao extends PlatformDao implements ExportDataDaoInterface
 			sb.append(getOrderByColumns(PfmHumanDao.COL_EMPLOYEE_CODE, TmdStockHolidayDao.COL_ACQUISITION_DATE,
 					TmdStockHolidayDao.COL_ACTIVATE_DATE));
 			prepareStatement(sb.toString());
+			setFetchSize(getFetchSize());
 			setParam(index++, startDate);
 			setParam(index++, endDate);
 			if (!workPlaceCode.isEmpty()) {
@@ -586,6 +596,7 @@ public class ExportDataDao extends PlatformDao implements ExportDataDaoInterface
 			sb.append(getOrderByColumns(PfmHumanDao.COL_EMPLOYEE_CODE, TmdHolidayDataDao.COL_ACTIVATE_DATE,
 					TmdHolidayDataDao.COL_HOLIDAY_TYPE, TmdHolidayDataDao.COL_HOLIDAY_CODE));
 			prepareStatement(sb.toString());
+			setFetchSize(getFetchSize());
 			setParam(index++, startDate);
 			setParam(index++, endDate);
 			if (!workPlaceCode.isEmpty()) {
@@ -611,6 +622,15 @@ public class ExportDataDao extends PlatformDao implements ExportDataDaoInterface
 		}
 	}
 	
+	/**
+	 * 検索時に一度に取得する件数を取得する。<br>
+	 * 検索結果を全て保持せずに順に処理できるよう、設定する。<br>
+	 * @return 検索時に一度に取得する件数
+	 */
+	protected int getFetchSize() {
+		return mospParams.getApplicationProperty(TimeConst.APP_EXPORT_FETCH_SIZE, DEFAULT_FETCH_SIZE);
+	}
+	
 	@Override
 	public void closers() throws MospException {
 		releaseResultSet();
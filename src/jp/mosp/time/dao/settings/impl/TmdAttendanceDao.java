@@ -23,6 +23,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDto;
 import jp.mosp.framework.base.BaseDtoInterface;
@@ -911,6 +912,44 @@ public class TmdAttendanceDao extends PlatformDao implements AttendanceDaoInterf
 		}
 	}
 	
+	@Override
+	public List<AttendanceDtoInterface> findForList(Set<String> personalIdSet, Date startDate, Date endDate,
+			boolean excludeWithdrawn) throws MospException {
+		if (personalIdSet.isEmpty()) {
+			return new ArrayList<AttendanceDtoInterface>();
+		}
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_PERSONAL_ID, personalIdSet.size()));
+			sb.append(and());
+			sb.append(greaterEqual(COL_WORK_DATE));
+			sb.append(and());
+			sb.append(lessEqual(COL_WORK_DATE));
+			if (excludeWithdrawn) {
+				sb.append(and());
+				sb.append(COL_WORKFLOW);
+				sb.append(in());
+				sb.append(leftParenthesis());
+				sb.append(workflowDao.getSubQueryForNotEqualWithdrawn());
+				sb.append(rightParenthesis());
+			}
+			prepareStatement(sb.toString());
+			setParamsIn(personalIdSet.toArray(new String[personalIdSet.size()]));
+			setParam(index++, startDate);
+			setParam(index++, endDate);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public AttendanceDtoInterface findForWorkflow(long workflow) throws MospException {
 		try {
@@ -23,6 +23,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDto;
 import jp.mosp.framework.base.BaseDtoInterface;
@@ -272,7 +273,38 @@ public class TmdDifferenceRequestDao extends PlatformDao implements DifferenceRe
 	}
 	
 	@Override
-	public DifferenceRequestDtoInterface findForKeyOnWorkflow(String personalId, Date requestDate) throws MospException {
+	public List<DifferenceRequestDtoInterface> findForList(Set<String> personalIdSet, Date startDate, Date endDate)
+			throws MospException {
+		if (personalIdSet.isEmpty()) {
+			return new ArrayList<DifferenceRequestDtoInterface>();
+		}
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_PERSONAL_ID, personalIdSet.size()));
+			sb.append(and());
+			sb.append(greaterEqual(COL_REQUEST_DATE));
+			sb.append(and());
+			sb.append(lessEqual(COL_REQUEST_DATE));
+			prepareStatement(sb.toString());
+			setParamsIn(personalIdSet.toArray(new String[personalIdSet.size()]));
+			setParam(index++, startDate);
+			setParam(index++, endDate);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public DifferenceRequestDtoInterface findForKeyOnWorkflow(String personalId, Date requestDate)
+			throws MospException {
 		try {
 			index = 1;
 			StringBuffer sb = getSelectQuery(getClass());
@@ -22,6 +22,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDto;
 import jp.mosp.framework.base.BaseDtoInterface;
@@ -269,6 +270,91 @@ public class TmdHolidayRequestDao extends PlatformDao implements HolidayRequestD
 		}
 	}
 	
+	@Override
+	public List<HolidayRequestDtoInterface> findForApprovedList(String personalId, int holidayType1,
+			String holidayType2) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(equal(COL_PERSONAL_ID));
+			sb.append(and());
+			sb.append(equal(COL_HOLIDAY_TYPE1));
+			sb.append(and());
+			sb.append(equal(COL_HOLIDAY_TYPE2));
+			sb.append(and());
+			sb.append(COL_WORKFLOW);
+			sb.append(in());
+			sb.append(leftParenthesis());
+			sb.append(select());
+			sb.append(PftWorkflowDao.COL_WORKFLOW);
+			sb.append(from(PftWorkflowDao.TABLE));
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(PftWorkflowDao.COL_WORKFLOW_STATUS);
+			sb.append(" = '");
+			sb.append(PlatformConst.CODE_STATUS_COMPLETE);
+			sb.append("'");
+			sb.append(rightParenthesis());
+			sb.append(getOrderByColumns(COL_REQUEST_START_DATE, COL_REQUEST_END_DATE));
+			prepareStatement(sb.toString());
+			setParam(index++, personalId);
+			setParam(index++, holidayType1);
+			setParam(index++, holidayType2);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public List<HolidayRequestDtoInterface> findForRequestList(String personalId, int holidayType1,
+			String holidayType2) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(equal(COL_PERSONAL_ID));
+			sb.append(and());
+			sb.append(equal(COL_HOLIDAY_TYPE1));
+			sb.append(and());
+			sb.append(equal(COL_HOLIDAY_TYPE2));
+			sb.append(and());
+			sb.append(COL_WORKFLOW);
+			sb.append(in());
+			sb.append(leftParenthesis());
+			sb.append(workflowDao.getSubQueryForNotEqualWithdrawn());
+			sb.append(rightParenthesis());
+			sb.append(and());
+			sb.append(COL_WORKFLOW);
+			sb.append(in());
+			sb.append(leftParenthesis());
+			sb.append(workflowDao.getSubQueryForNotEqualDraft());
+			sb.append(rightParenthesis());
+			sb.append(getOrderByColumns(COL_REQUEST_START_DATE, COL_REQUEST_END_DATE));
+			prepareStatement(sb.toString());
+			setParam(index++, personalId);
+			setParam(index++, holidayType1);
+			setParam(index++, holidayType2);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public List<HolidayRequestDtoInterface> findForRequestList(String personalId, Date acquisitionDate,
 			int holidayType1, String holidayType2, Date requestDate) throws MospException {
@@ -853,6 +939,37 @@ public class TmdHolidayRequestDao extends PlatformDao implements HolidayRequestD
 		}
 	}
 	
+	@Override
+	public List<HolidayRequestDtoInterface> findForTerm(Set<String> personalIdSet, Date firstDate, Date lastDate)
+			throws MospException {
+		if (personalIdSet.isEmpty()) {
+			return new ArrayList<HolidayRequestDtoInterface>();
+		}
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_PERSONAL_ID, personalIdSet.size()));
+			sb.append(and());
+			sb.append(lessEqual(COL_REQUEST_START_DATE));
+			sb.append(and());
+			sb.append(greaterEqual(COL_REQUEST_END_DATE));
+			sb.append(getOrderByColumn(COL_REQUEST_START_DATE, COL_REQUEST_END_DATE));
+			prepareStatement(sb.toString());
+			setParamsIn(personalIdSet.toArray(new String[personalIdSet.size()]));
+			setParam(index++, lastDate, false);
+			setParam(index++, firstDate, false);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public List<HolidayRequestDtoInterface> findForTerm(String personalId, Date firstDate, Date lastDate,
 			int holidayType1, String holidayType2) throws MospException {
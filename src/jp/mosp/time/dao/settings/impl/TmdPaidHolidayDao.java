@@ -20,6 +20,7 @@ package jp.mosp.time.dao.settings.impl;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDto;
 import jp.mosp.framework.base.BaseDtoInterface;
@@ -287,6 +288,49 @@ public class TmdPaidHolidayDao extends PlatformDao implements PaidHolidayDataDao
 		}
 	}
 	
+	@Override
+	public List<PaidHolidayDataDtoInterface> findForHistoryList(String personalId) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(equal(COL_PERSONAL_ID));
+			sb.append(getOrderByColumn(COL_ACQUISITION_DATE, COL_ACTIVATE_DATE));
+			prepareStatement(sb.toString());
+			setParam(index++, personalId);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public Set<String> findForPersonalIdSet() throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = new StringBuffer();
+			sb.append(select());
+			sb.append(COL_PERSONAL_ID);
+			sb.append(from(TABLE));
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			prepareStatement(sb.toString());
+			executeQuery();
+			return getResultAsSet(COL_PERSONAL_ID);
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public PaidHolidayDataDtoInterface findForInfo(String personalId, Date activateDate, Date acquisitionDate)
 			throws MospException {
@@ -0,0 +1,326 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.dao.settings.impl;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import jp.mosp.framework.base.BaseDto;
+import jp.mosp.framework.base.BaseDtoInterface;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.platform.base.PlatformDao;
+import jp.mosp.time.dao.settings.PaidHolidayLedgerDaoInterface;
+import jp.mosp.time.dto.settings.PaidHolidayLedgerDtoInterface;
+import jp.mosp.time.dto.settings.impl.TmdPaidHolidayLedgerDto;
+
+/**
+ * 有給休暇台帳DAOクラス。<br>
+ * <br>
+ * 有給休暇データ(取得日及び有効日)毎に1レコードを保持する。<br>
+ * 論理削除は行わず、個人毎に物理削除及び登録を行う。<br>
+ */
+public class TmdPaidHolidayLedgerDao extends PlatformDao implements PaidHolidayLedgerDaoInterface {
+	
+	/**
+	 * 有給休暇台帳。
+	 */
+	public static final String	TABLE							= "tmd_paid_holiday_ledger";
+	
+	/**
+	 * レコード識別ID。
+	 */
+	public static final String	COL_TMD_PAID_HOLIDAY_LEDGER_ID	= "tmd_paid_holiday_ledger_id";
+	
+	/**
+	 * 個人ID。
+	 */
+	public static final String	COL_PERSONAL_ID					= "personal_id";
+	
+	/**
+	 * 有効日。
+	 */
+	public static final String	COL_ACTIVATE_DATE				= "activate_date";
+	
+	/**
+	 * 取得日。
+	 */
+	public static final String	COL_ACQUISITION_DATE			= "acquisition_date";
+	
+	/**
+	 * 期限日。
+	 */
+	public static final String	COL_LIMIT_DATE					= "limit_date";
+	
+	/**
+	 * 保有日数。
+	 */
+	public static final String	COL_HOLD_DAY					= "hold_day";
+	
+	/**
+	 * 保有時間数。
+	 */
+	public static final String	COL_HOLD_HOUR					= "hold_hour";
+	
+	/**
+	 * 付与日数。
+	 */
+	public static final String	COL_GIVING_DAY					= "giving_day";
+	
+	/**
+	 * 付与時間数。
+	 */
+	public static final String	COL_GIVING_HOUR					= "giving_hour";
+	
+	/**
+	 * 廃棄日数。
+	 */
+	public static final String	COL_CANCEL_DAY					= "cancel_day";
+	
+	/**
+	 * 廃棄時間数。
+	 */
+	public static final String	COL_CANCEL_HOUR					= "cancel_hour";
+	
+	/**
+	 * 使用日数(承認済及び承認待)。
+	 */
+	public static final String	COL_USE_DAY						= "use_day";
+	
+	/**
+	 * 使用時間数(承認済及び承認待)。
+	 */
+	public static final String	COL_USE_HOUR					= "use_hour";
+	
+	/**
+	 * 使用日数(承認済)。
+	 */
+	public static final String	COL_APPROVED_DAY				= "approved_day";
+	
+	/**
+	 * 使用時間数(承認済)。
+	 */
+	public static final String	COL_APPROVED_HOUR				= "approved_hour";
+	
+	/**
+	 * 最終計上日。
+	 */
+	public static final String	COL_LAST_EVENT_DATE				= "last_event_date";
+	
+	/**
+	 * 無効フラグ。
+	 */
+	public static final String	COL_INACTIVATE_FLAG				= "inactivate_flag";
+	
+	/**
+	 * キー。
+	 */
+	public static final String	KEY_1							= COL_TMD_PAID_HOLIDAY_LEDGER_ID;
+	
+	
+	/**
+	 * コンストラクタ。
+	 */
+	public TmdPaidHolidayLedgerDao() {
+		// 処理無し
+	}
+	
+	@Override
+	public void initDao() {
+		// 処理無し
+	}
+	
+	@Override
+	public BaseDto mapping() throws MospException {
+		TmdPaidHolidayLedgerDto dto = new TmdPaidHolidayLedgerDto();
+		dto.setTmdPaidHolidayLedgerId(getLong(COL_TMD_PAID_HOLIDAY_LEDGER_ID));
+		dto.setPersonalId(getString(COL_PERSONAL_ID));
+		dto.setActivateDate(getDate(COL_ACTIVATE_DATE));
+		dto.setAcquisitionDate(getDate(COL_ACQUISITION_DATE));
+		dto.setLimitDate(getDate(COL_LIMIT_DATE));
+		dto.setHoldDay(getDouble(COL_HOLD_DAY));
+		dto.setHoldHour(getInt(COL_HOLD_HOUR));
+		dto.setGivingDay(getDouble(COL_GIVING_DAY));
+		dto.setGivingHour(getInt(COL_GIVING_HOUR));
+		dto.setCancelDay(getDouble(COL_CANCEL_DAY));
+		dto.setCancelHour(getInt(COL_CANCEL_HOUR));
+		dto.setUseDay(getDouble(COL_USE_DAY));
+		dto.setUseHour(getInt(COL_USE_HOUR));
+		dto.setApprovedDay(getDouble(COL_APPROVED_DAY));
+		dto.setApprovedHour(getInt(COL_APPROVED_HOUR));
+		dto.setLastEventDate(getDate(COL_LAST_EVENT_DATE));
+		dto.setInactivateFlag(getInt(COL_INACTIVATE_FLAG));
+		mappingCommonInfo(dto);
+		return dto;
+	}
+	
+	@Override
+	public List<PaidHolidayLedgerDtoInterface> mappingAll() throws MospException {
+		List<PaidHolidayLedgerDtoInterface> all = new ArrayList<PaidHolidayLedgerDtoInterface>();
+		while (next()) {
+			all.add(castDto(mapping()));
+		}
+		return all;
+	}
+	
+	@Override
+	public List<PaidHolidayLedgerDtoInterface> findForInfoList(String personalId, Date targetDate)
+			throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(getQueryForMaxActivateDate(TABLE, COL_ACTIVATE_DATE, COL_PERSONAL_ID, COL_ACQUISITION_DATE));
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(inactivateFlagOff());
+			sb.append(and());
+			sb.append(equal(COL_PERSONAL_ID));
+			sb.append(and());
+			sb.append(lessEqual(COL_ACQUISITION_DATE));
+			sb.append(and());
+			sb.append(greaterEqual(COL_LIMIT_DATE));
+			sb.append(getOrderByColumn(COL_ACQUISITION_DATE));
+			prepareStatement(sb.toString());
+			setParam(index++, targetDate);
+			setParam(index++, personalId);
+			setParam(index++, targetDate);
+			setParam(index++, targetDate);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public List<PaidHolidayLedgerDtoInterface> findForPersonalId(String personalId) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(equal(COL_PERSONAL_ID));
+			sb.append(getOrderByColumn(COL_ACQUISITION_DATE, COL_ACTIVATE_DATE));
+			prepareStatement(sb.toString());
+			setParam(index++, personalId);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public int deleteForPersonalId(String personalId) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = new StringBuffer();
+			sb.append("DELETE");
+			sb.append(from(TABLE));
+			sb.append(where());
+			sb.append(equal(COL_PERSONAL_ID));
+			prepareStatement(sb.toString());
+			setParam(index++, personalId);
+			executeUpdate();
+			return cnt;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public int update(BaseDtoInterface baseDto) throws MospException {
+		try {
+			index = 1;
+			prepareStatement(getUpdateQuery(getClass()));
+			setParams(baseDto, false);
+			PaidHolidayLedgerDtoInterface dto = castDto(baseDto);
+			setParam(index++, dto.getTmdPaidHolidayLedgerId());
+			executeUpdate();
+			chkUpdate(1);
+			return cnt;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public int delete(BaseDtoInterface baseDto) throws MospException {
+		try {
+			index = 1;
+			prepareStatement(getDeleteQuery(getClass()));
+			PaidHolidayLedgerDtoInterface dto = castDto(baseDto);
+			setParam(index++, dto.getTmdPaidHolidayLedgerId());
+			executeUpdate();
+			chkDelete(1);
+			return cnt;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public void setParams(BaseDtoInterface baseDto, boolean isInsert) throws MospException {
+		PaidHolidayLedgerDtoInterface dto = castDto(baseDto);
+		setParam(index++, dto.getTmdPaidHolidayLedgerId());
+		setParam(index++, dto.getPersonalId());
+		setParam(index++, dto.getActivateDate());
+		setParam(index++, dto.getAcquisitionDate());
+		setParam(index++, dto.getLimitDate());
+		setParam(index++, dto.getHoldDay());
+		setParam(index++, dto.getHoldHour());
+		setParam(index++, dto.getGivingDay());
+		setParam(index++, dto.getGivingHour());
+		setParam(index++, dto.getCancelDay());
+		setParam(index++, dto.getCancelHour());
+		setParam(index++, dto.getUseDay());
+		setParam(index++, dto.getUseHour());
+		setParam(index++, dto.getApprovedDay());
+		setParam(index++, dto.getApprovedHour());
+		setParam(index++, dto.getLastEventDate());
+		setParam(index++, dto.getInactivateFlag());
+		setCommonParams(baseDto, isInsert);
+	}
+	
+	/**
+	 * DTOインスタンスのキャストを行う。<br>
+	 * @param baseDto 対象DTO
+	 * @return キャストされたDTO
+	 */
+	protected PaidHolidayLedgerDtoInterface castDto(BaseDtoInterface baseDto) {
+		return (PaidHolidayLedgerDtoInterface)baseDto;
+	}
+	
+}
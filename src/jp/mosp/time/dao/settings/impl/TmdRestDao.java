@@ -25,6 +25,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDto;
 import jp.mosp.framework.base.BaseDtoInterface;
@@ -172,6 +173,37 @@ public class TmdRestDao extends PlatformDao implements RestDaoInterface {
 		}
 	}
 	
+	@Override
+	public List<RestDtoInterface> findForList(Set<String> personalIdSet, Date startDate, Date endDate)
+			throws MospException {
+		if (personalIdSet.isEmpty()) {
+			return new ArrayList<RestDtoInterface>();
+		}
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_PERSONAL_ID, personalIdSet.size()));
+			sb.append(and());
+			sb.append(greaterEqual(COL_WORK_DATE));
+			sb.append(and());
+			sb.append(lessEqual(COL_WORK_DATE));
+			sb.append(getOrderByColumn(COL_REST));
+			prepareStatement(sb.toString());
+			setParamsIn(personalIdSet.toArray(new String[personalIdSet.size()]));
+			setParam(index++, startDate);
+			setParam(index++, endDate);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public int update(BaseDtoInterface baseDto) throws MospException {
 		try {
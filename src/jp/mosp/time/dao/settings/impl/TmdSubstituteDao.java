@@ -23,6 +23,7 @@ package jp.mosp.time.dao.settings.impl;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDto;
 import jp.mosp.framework.base.BaseDtoInterface;
@@ -260,6 +261,37 @@ public class TmdSubstituteDao extends PlatformDao implements SubstituteDaoInterf
 		}
 	}
 	
+	@Override
+	public List<SubstituteDtoInterface> findForTerm(Set<String> personalIdSet, Date firstDate, Date lastDate)
+			throws MospException {
+		if (personalIdSet.isEmpty()) {
+			return new ArrayList<SubstituteDtoInterface>();
+		}
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_PERSONAL_ID, personalIdSet.size()));
+			sb.append(and());
+			sb.append(lessEqual(COL_SUBSTITUTE_DATE));
+			sb.append(and());
+			sb.append(greaterEqual(COL_SUBSTITUTE_DATE));
+			sb.append(getOrderByColumn(COL_SUBSTITUTE_DATE));
+			prepareStatement(sb.toString());
+			setParamsIn(personalIdSet.toArray(new String[personalIdSet.size()]));
+			setParam(index++, lastDate, false);
+			setParam(index++, firstDate, false);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public List<SubstituteDtoInterface> findForWorkflow(long workflow) throws MospException {
 		try {
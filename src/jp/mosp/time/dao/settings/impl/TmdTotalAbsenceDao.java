@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDto;
 import jp.mosp.framework.base.BaseDtoInterface;
@@ -222,4 +223,35 @@ public class TmdTotalAbsenceDao extends PlatformDao implements TotalAbsenceDaoIn
 		}
 	}
 	
+	@Override
+	public List<TotalAbsenceDtoInterface> findForList(Set<String> personalIdSet, int calculationYear,
+			int calculationMonth) throws MospException {
+		if (personalIdSet.isEmpty()) {
+			return new ArrayList<TotalAbsenceDtoInterface>();
+		}
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_PERSONAL_ID, personalIdSet.size()));
+			sb.append(and());
+			sb.append(equal(COL_CALCULATION_YEAR));
+			sb.append(and());
+			sb.append(equal(COL_CALCULATION_MONTH));
+			sb.append(getOrderByColumn(COL_PERSONAL_ID, COL_ABSENCE_CODE));
+			prepareStatement(sb.toString());
+			setParamsIn(personalIdSet.toArray(new String[personalIdSet.size()]));
+			setParam(index++, calculationYear);
+			setParam(index++, calculationMonth);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 }
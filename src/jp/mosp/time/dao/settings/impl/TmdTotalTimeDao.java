@@ -19,6 +19,7 @@ package jp.mosp.time.dao.settings.impl;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDto;
 import jp.mosp.framework.base.BaseDtoInterface;
@@ -694,6 +695,37 @@ public class TmdTotalTimeDao extends PlatformDao implements TotalTimeDataDaoInte
 		}
 	}
 	
+	@Override
+	public List<TotalTimeDataDtoInterface> findForList(Set<String> personalIdSet, int calculationYear,
+			int calculationMonth) throws MospException {
+		if (personalIdSet.isEmpty()) {
+			return new ArrayList<TotalTimeDataDtoInterface>();
+		}
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_PERSONAL_ID, personalIdSet.size()));
+			sb.append(and());
+			sb.append(equal(COL_CALCULATION_YEAR));
+			sb.append(and());
+			sb.append(equal(COL_CALCULATION_MONTH));
+			sb.append(getOrderByColumn(COL_PERSONAL_ID));
+			prepareStatement(sb.toString());
+			setParamsIn(personalIdSet.toArray(new String[personalIdSet.size()]));
+			setParam(index++, calculationYear);
+			setParam(index++, calculationMonth);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public int update(BaseDtoInterface baseDto) throws MospException {
 		try {
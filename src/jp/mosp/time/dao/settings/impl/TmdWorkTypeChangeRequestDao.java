@@ -22,6 +22,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDao;
 import jp.mosp.framework.base.BaseDto;
@@ -247,6 +248,37 @@ public class TmdWorkTypeChangeRequestDao extends BaseDao implements WorkTypeChan
 		}
 	}
 	
+	@Override
+	public List<WorkTypeChangeRequestDtoInterface> findForTerm(Set<String> personalIdSet, Date firstDate,
+			Date lastDate) throws MospException {
+		if (personalIdSet.isEmpty()) {
+			return new ArrayList<WorkTypeChangeRequestDtoInterface>();
+		}
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_PERSONAL_ID, personalIdSet.size()));
+			sb.append(and());
+			sb.append(lessEqual(COL_REQUEST_DATE));
+			sb.append(and());
+			sb.append(greaterEqual(COL_REQUEST_DATE));
+			sb.append(getOrderByColumn(COL_REQUEST_DATE));
+			prepareStatement(sb.toString());
+			setParamsIn(personalIdSet.toArray(new String[personalIdSet.size()]));
+			setParam(index++, lastDate, false);
+			setParam(index++, firstDate, false);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public List<WorkTypeChangeRequestDtoInterface> findForTermOnWorkflow(String personalId, Date firstDate,
 			Date lastDate) throws MospException {
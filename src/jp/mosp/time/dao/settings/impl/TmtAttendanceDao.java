@@ -220,7 +220,39 @@ public class TmtAttendanceDao extends PlatformDao implements AttendanceTransacti
 	}
 	
 	@Override
-	public AttendanceTransactionDtoInterface sum(String personalId, Date firstDate, Date lastDate) throws MospException {
+	public List<AttendanceTransactionDtoInterface> findForTerm(Set<String> personalIdSet, Date firstDate,
+			Date lastDate) throws MospException {
+		if (personalIdSet.isEmpty()) {
+			return new ArrayList<AttendanceTransactionDtoInterface>();
+		}
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_PERSONAL_ID, personalIdSet.size()));
+			sb.append(and());
+			sb.append(lessEqual(COL_WORK_DATE));
+			sb.append(and());
+			sb.append(greaterEqual(COL_WORK_DATE));
+			sb.append(getOrderByColumn(COL_PERSONAL_ID, COL_WORK_DATE));
+			prepareStatement(sb.toString());
+			setParamsIn(personalIdSet.toArray(new String[personalIdSet.size()]));
+			setParam(index++, lastDate);
+			setParam(index++, firstDate);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public AttendanceTransactionDtoInterface sum(String personalId, Date firstDate, Date lastDate)
+			throws MospException {
 		try {
 			index = 1;
 			StringBuffer sb = new StringBuffer();
@@ -0,0 +1,232 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.dao.settings.impl;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import jp.mosp.framework.base.BaseDao;
+import jp.mosp.framework.base.BaseDto;
+import jp.mosp.framework.base.BaseDtoInterface;
+import jp.mosp.framework.base.MospException;
+import jp.mosp.time.constant.TimeConst;
+import jp.mosp.time.dao.settings.TimePunchDaoInterface;
+import jp.mosp.time.dto.settings.TimePunchDtoInterface;
+import jp.mosp.time.dto.settings.impl.TmtTimePunchDto;
+
+/**
+ * 打刻受付DAOクラス。
+ */
+public class TmtTimePunchDao extends BaseDao implements TimePunchDaoInterface {
+	
+	/**
+	 * 打刻受付。
+	 */
+	public static final String	TABLE					= "tmt_time_punch";
+	
+	/**
+	 * レコード識別ID。
+	 */
+	public static final String	COL_TMT_TIME_PUNCH_ID	= "tmt_time_punch_id";
+	
+	/**
+	 * 個人ID。
+	 */
+	public static final String	COL_PERSONAL_ID			= "personal_id";
+	
+	/**
+	 * ユーザID(打刻者)。
+	 */
+	public static final String	COL_USER_ID				= "user_id";
+	
+	/**
+	 * ロールコード(打刻者)。
+	 */
+	public static final String	COL_ROLE_CODE			= "role_code";
+	
+	/**
+	 * 打刻区分。
+	 */
+	public static final String	COL_RECORD_TYPE			= "record_type";
+	
+	/**
+	 * 打刻時刻。
+	 */
+	public static final String	COL_RECORD_TIME			= "record_time";
+	
+	/**
+	 * 反映状態。
+	 */
+	public static final String	COL_PUNCH_STATUS		= "punch_status";
+	
+	/**
+	 * 反映日時。
+	 */
+	public static final String	COL_PROCESS_TIME		= "process_time";
+	
+	/**
+	 * メッセージ。
+	 */
+	public static final String	COL_PUNCH_MESSAGE		= "punch_message";
+	
+	/**
+	 * キー。
+	 */
+	public static final String	KEY_1					= COL_TMT_TIME_PUNCH_ID;
+	
+	
+	/**
+	 * コンストラクタ。
+	 */
+	public TmtTimePunchDao() {
+		// 処理無し
+	}
+	
+	@Override
+	public void initDao() {
+		// 処理無し
+	}
+	
+	@Override
+	public BaseDto mapping() throws MospException {
+		TmtTimePunchDto dto = new TmtTimePunchDto();
+		dto.setTmtTimePunchId(getLong(COL_TMT_TIME_PUNCH_ID));
+		dto.setPersonalId(getString(COL_PERSONAL_ID));
+		dto.setUserId(getString(COL_USER_ID));
+		dto.setRoleCode(getString(COL_ROLE_CODE));
+		dto.setRecordType(getString(COL_RECORD_TYPE));
+		dto.setRecordTime(getTimestamp(COL_RECORD_TIME));
+		dto.setPunchStatus(getString(COL_PUNCH_STATUS));
+		dto.setProcessTime(getTimestamp(COL_PROCESS_TIME));
+		dto.setPunchMessage(getString(COL_PUNCH_MESSAGE));
+		mappingCommonInfo(dto);
+		return dto;
+	}
+	
+	@Override
+	public List<TimePunchDtoInterface> mappingAll() throws MospException {
+		List<TimePunchDtoInterface> all = new ArrayList<TimePunchDtoInterface>();
+		while (next()) {
+			all.add(castDto(mapping()));
+		}
+		return all;
+	}
+	
+	@Override
+	public void setParams(BaseDtoInterface baseDto, boolean isInsert) throws MospException {
+		TimePunchDtoInterface dto = castDto(baseDto);
+		setParam(index++, dto.getTmtTimePunchId());
+		setParam(index++, dto.getPersonalId());
+		setParam(index++, dto.getUserId());
+		setParam(index++, dto.getRoleCode());
+		setParam(index++, dto.getRecordType());
+		setParam(index++, dto.getRecordTime(), true);
+		setParam(index++, dto.getPunchStatus());
+		setParam(index++, dto.getProcessTime(), true);
+		setParam(index++, dto.getPunchMessage());
+		setCommonParams(dto, isInsert);
+	}
+	
+	@Override
+	public int update(BaseDtoInterface baseDto) throws MospException {
+		try {
+			index = 1;
+			prepareStatement(getUpdateQuery(getClass()));
+			setParams(baseDto, false);
+			TimePunchDtoInterface dto = castDto(baseDto);
+			setParam(index++, dto.getTmtTimePunchId());
+			executeUpdate();
+			chkUpdate(1);
+			return cnt;
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public int delete(BaseDtoInterface baseDto) {
+		// 処理無し
+		return 0;
+	}
+	
+	@Override
+	public List<TimePunchDtoInterface> findForWaiting(int limit) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(equal(COL_PUNCH_STATUS));
+			sb.append(getOrderByColumn(COL_TMT_TIME_PUNCH_ID));
+			sb.append(getLimit());
+			sb.append("?");
+			prepareStatement(sb.toString());
+			setParam(index++, TimeConst.CODE_PUNCH_STATUS_WAITING);
+			setParam(index++, limit);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	@Override
+	public List<TimePunchDtoInterface> findForNotProcessed(String personalId, Date fromTime) throws MospException {
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(and());
+			sb.append(equal(COL_PERSONAL_ID));
+			sb.append(and());
+			sb.append(greaterEqual(COL_RECORD_TIME));
+			sb.append(and());
+			sb.append(notEqual(COL_PUNCH_STATUS));
+			sb.append(getOrderByColumn(COL_TMT_TIME_PUNCH_ID));
+			prepareStatement(sb.toString());
+			setParam(index++, personalId);
+			setParam(index++, fromTime, true);
+			setParam(index++, TimeConst.CODE_PUNCH_STATUS_PROCESSED);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
+	/**
+	 * DTOインスタンスのキャストを行う。<br>
+	 * @param baseDto 対象DTO
+	 * @return キャストされたDTO
+	 */
+	protected TimePunchDtoInterface castDto(BaseDtoInterface baseDto) {
+		return (TimePunchDtoInterface)baseDto;
+	}
+	
+}
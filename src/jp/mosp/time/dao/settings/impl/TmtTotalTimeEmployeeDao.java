@@ -25,6 +25,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jp.mosp.framework.base.BaseDto;
 import jp.mosp.framework.base.BaseDtoInterface;
@@ -184,6 +185,37 @@ public class TmtTotalTimeEmployeeDao extends PlatformDao implements TotalTimeEmp
 		}
 	}
 	
+	@Override
+	public List<TotalTimeEmployeeDtoInterface> findForList(Set<String> personalIdSet, int calculationYear,
+			int calculationMonth) throws MospException {
+		if (personalIdSet.isEmpty()) {
+			return new ArrayList<TotalTimeEmployeeDtoInterface>();
+		}
+		try {
+			index = 1;
+			StringBuffer sb = getSelectQuery(getClass());
+			sb.append(where());
+			sb.append(deleteFlagOff());
+			sb.append(in(COL_PERSONAL_ID, personalIdSet.size()));
+			sb.append(and());
+			sb.append(equal(COL_CALCULATION_YEAR));
+			sb.append(and());
+			sb.append(equal(COL_CALCULATION_MONTH));
+			sb.append(getOrderByColumn(COL_PERSONAL_ID));
+			prepareStatement(sb.toString());
+			setParamsIn(personalIdSet.toArray(new String[personalIdSet.size()]));
+			setParam(index++, calculationYear);
+			setParam(index++, calculationMonth);
+			executeQuery();
+			return mappingAll();
+		} catch (Throwable e) {
+			throw new MospException(e);
+		} finally {
+			releaseResultSet();
+			releasePreparedStatement();
+		}
+	}
+	
 	@Override
 	public List<TotalTimeEmployeeDtoInterface> findPersonTerm(String personalId, Date startDate, Date endDate)
 			throws MospException {
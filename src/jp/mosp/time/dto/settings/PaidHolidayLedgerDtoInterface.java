@@ -0,0 +1,184 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.dto.settings;
+
+import java.util.Date;
+
+import jp.mosp.platform.base.PlatformDtoInterface;
+
+/**
+ * 有給休暇台帳DTOインターフェース。<br>
+ * <br>
+ * 有給休暇データ(取得日及び有効日)毎に、有効日以降期限日までの
+ * 付与、廃棄及び使用の合計を保持する。<br>
+ * 最終計上日は、合計に含まれる有給休暇トランザクションの有効日及び休暇申請の申請終了日のうち、
+ * 最も遅い日である(計上対象が無い場合は有効日)。<br>
+ */
+public interface PaidHolidayLedgerDtoInterface extends PlatformDtoInterface {
+	
+	/**
+	 * @return レコード識別ID。
+	 */
+	long getTmdPaidHolidayLedgerId();
+	
+	/**
+	 * @return 個人ID。
+	 */
+	String getPersonalId();
+	
+	/**
+	 * @return 取得日。
+	 */
+	Date getAcquisitionDate();
+	
+	/**
+	 * @return 期限日。
+	 */
+	Date getLimitDate();
+	
+	/**
+	 * @return 保有日数。
+	 */
+	double getHoldDay();
+	
+	/**
+	 * @return 保有時間数。
+	 */
+	int getHoldHour();
+	
+	/**
+	 * @return 付与日数。
+	 */
+	double getGivingDay();
+	
+	/**
+	 * @return 付与時間数。
+	 */
+	int getGivingHour();
+	
+	/**
+	 * @return 廃棄日数。
+	 */
+	double getCancelDay();
+	
+	/**
+	 * @return 廃棄時間数。
+	 */
+	int getCancelHour();
+	
+	/**
+	 * @return 使用日数(承認済及び承認待)。
+	 */
+	double getUseDay();
+	
+	/**
+	 * @return 使用時間数(承認済及び承認待)。
+	 */
+	int getUseHour();
+	
+	/**
+	 * @return 使用日数(承認済)。
+	 */
+	double getApprovedDay();
+	
+	/**
+	 * @return 使用時間数(承認済)。
+	 */
+	int getApprovedHour();
+	
+	/**
+	 * @return 最終計上日。
+	 */
+	Date getLastEventDate();
+	
+	/**
+	 * @param tmdPaidHolidayLedgerId セットする レコード識別ID。
+	 */
+	void setTmdPaidHolidayLedgerId(long tmdPaidHolidayLedgerId);
+	
+	/**
+	 * @param personalId セットする 個人ID。
+	 */
+	void setPersonalId(String personalId);
+	
+	/**
+	 * @param acquisitionDate セットする 取得日。
+	 */
+	void setAcquisitionDate(Date acquisitionDate);
+	
+	/**
+	 * @param limitDate セットする 期限日。
+	 */
+	void setLimitDate(Date limitDate);
+	
+	/**
+	 * @param holdDay セットする 保有日数。
+	 */
+	void setHoldDay(double holdDay);
+	
+	/**
+	 * @param holdHour セットする 保有時間数。
+	 */
+	void setHoldHour(int holdHour);
+	
+	/**
+	 * @param givingDay セットする 付与日数。
+	 */
+	void setGivingDay(double givingDay);
+	
+	/**
+	 * @param givingHour セットする 付与時間数。
+	 */
+	void setGivingHour(int givingHour);
+	
+	/**
+	 * @param cancelDay セットする 廃棄日数。
+	 */
+	void setCancelDay(double cancelDay);
+	
+	/**
+	 * @param cancelHour セットする 廃棄時間数。
+	 */
+	void setCancelHour(int cancelHour);
+	
+	/**
+	 * @param useDay セットする 使用日数(承認済及び承認待)。
+	 */
+	void setUseDay(double useDay);
+	
+	/**
+	 * @param useHour セットする 使用時間数(承認済及び承認待)。
+	 */
+	void setUseHour(int useHour);
+	
+	/**
+	 * @param approvedDay セットする 使用日数(承認済)。
+	 */
+	void setApprovedDay(double approvedDay);
+	
+	/**
+	 * @param approvedHour セットする 使用時間数(承認済)。
+	 */
+	void setApprovedHour(int approvedHour);
+	
+	/**
+	 * @param lastEventDate セットする 最終計上日。
+	 */
+	void setLastEventDate(Date lastEventDate);
+	
+}
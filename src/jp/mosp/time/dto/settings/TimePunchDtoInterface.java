@@ -0,0 +1,122 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.dto.settings;
+
+import java.util.Date;
+
+import jp.mosp.framework.base.BaseDtoInterface;
+
+/**
+ * 打刻受付DTOインターフェース。<br>
+ * <br>
+ * 打刻を受け付けた時点の個人ID、打刻区分及び打刻時刻を保持する。<br>
+ * 勤怠データへの反映は、打刻反映スレッドで受付順に行う。<br>
+ */
+public interface TimePunchDtoInterface extends BaseDtoInterface {
+	
+	/**
+	 * @return レコード識別ID。
+	 */
+	long getTmtTimePunchId();
+	
+	/**
+	 * @return 個人ID。
+	 */
+	String getPersonalId();
+	
+	/**
+	 * @return ユーザID(打刻者)。
+	 */
+	String getUserId();
+	
+	/**
+	 * @return ロールコード(打刻者)。
+	 */
+	String getRoleCode();
+	
+	/**
+	 * @return 打刻区分。
+	 */
+	String getRecordType();
+	
+	/**
+	 * @return 打刻時刻。
+	 */
+	Date getRecordTime();
+	
+	/**
+	 * @return 反映状態。
+	 */
+	String getPunchStatus();
+	
+	/**
+	 * @return 反映日時。
+	 */
+	Date getProcessTime();
+	
+	/**
+	 * @return メッセージ(反映できなかった理由)。
+	 */
+	String getPunchMessage();
+	
+	/**
+	 * @param tmtTimePunchId セットする レコード識別ID。
+	 */
+	void setTmtTimePunchId(long tmtTimePunchId);
+	
+	/**
+	 * @param personalId セットする 個人ID。
+	 */
+	void setPersonalId(String personalId);
+	
+	/**
+	 * @param userId セットする ユーザID(打刻者)。
+	 */
+	void setUserId(String userId);
+	
+	/**
+	 * @param roleCode セットする ロールコード(打刻者)。
+	 */
+	void setRoleCode(String roleCode);
+	
+	/**
+	 * @param recordType セットする 打刻区分。
+	 */
+	void setRecordType(String recordType);
+	
+	/**
+	 * @param recordTime セットする 打刻時刻。
+	 */
+	void setRecordTime(Date recordTime);
+	
+	/**
+	 * @param punchStatus セットする 反映状態。
+	 */
+	void setPunchStatus(String punchStatus);
+	
+	/**
+	 * @param processTime セットする 反映日時。
+	 */
+	void setProcessTime(Date processTime);
+	
+	/**
+	 * @param punchMessage セットする メッセージ(反映できなかった理由)。
+	 */
+	void setPunchMessage(String punchMessage);
+	
+}
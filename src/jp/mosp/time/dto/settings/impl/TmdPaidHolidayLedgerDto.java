@@ -0,0 +1,291 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.dto.settings.impl;
+
+import java.util.Date;
+
+import jp.mosp.framework.base.BaseDto;
+import jp.mosp.time.dto.settings.PaidHolidayLedgerDtoInterface;
+
+/**
+ * 有給休暇台帳DTO。<br>
+ */
+public class TmdPaidHolidayLedgerDto extends BaseDto implements PaidHolidayLedgerDtoInterface {
+	
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = 4735926152831760211L;
+	
+	/**
+	 * レコード識別ID。<br>
+	 */
+	private long tmdPaidHolidayLedgerId;
+	
+	/**
+	 * 個人ID。<br>
+	 */
+	private String personalId;
+	
+	/**
+	 * 有効日。<br>
+	 */
+	private Date activateDate;
+	
+	/**
+	 * 取得日。<br>
+	 */
+	private Date acquisitionDate;
+	
+	/**
+	 * 期限日。<br>
+	 */
+	private Date limitDate;
+	
+	/**
+	 * 保有日数。<br>
+	 */
+	private double holdDay;
+	
+	/**
+	 * 保有時間数。<br>
+	 */
+	private int holdHour;
+	
+	/**
+	 * 付与日数。<br>
+	 */
+	private double givingDay;
+	
+	/**
+	 * 付与時間数。<br>
+	 */
+	private int givingHour;
+	
+	/**
+	 * 廃棄日数。<br>
+	 */
+	private double cancelDay;
+	
+	/**
+	 * 廃棄時間数。<br>
+	 */
+	private int cancelHour;
+	
+	/**
+	 * 使用日数(承認済及び承認待)。<br>
+	 */
+	private double useDay;
+	
+	/**
+	 * 使用時間数(承認済及び承認待)。<br>
+	 */
+	private int useHour;
+	
+	/**
+	 * 使用日数(承認済)。<br>
+	 */
+	private double approvedDay;
+	
+	/**
+	 * 使用時間数(承認済)。<br>
+	 */
+	private int approvedHour;
+	
+	/**
+	 * 最終計上日。<br>
+	 */
+	private Date lastEventDate;
+	
+	/**
+	 * 無効フラグ。<br>
+	 */
+	private int inactivateFlag;
+	
+	
+	@Override
+	public long getTmdPaidHolidayLedgerId() {
+		return tmdPaidHolidayLedgerId;
+	}
+	
+	@Override
+	public String getPersonalId() {
+		return personalId;
+	}
+	
+	@Override
+	public Date getActivateDate() {
+		return getDateClone(activateDate);
+	}
+	
+	@Override
+	public Date getAcquisitionDate() {
+		return getDateClone(acquisitionDate);
+	}
+	
+	@Override
+	public Date getLimitDate() {
+		return getDateClone(limitDate);
+	}
+	
+	@Override
+	public double getHoldDay() {
+		return holdDay;
+	}
+	
+	@Override
+	public int getHoldHour() {
+		return holdHour;
+	}
+	
+	@Override
+	public double getGivingDay() {
+		return givingDay;
+	}
+	
+	@Override
+	public int getGivingHour() {
+		return givingHour;
+	}
+	
+	@Override
+	public double getCancelDay() {
+		return cancelDay;
+	}
+	
+	@Override
+	public int getCancelHour() {
+		return cancelHour;
+	}
+	
+	@Override
+	public double getUseDay() {
+		return useDay;
+	}
+	
+	@Override
+	public int getUseHour() {
+		return useHour;
+	}
+	
+	@Override
+	public double getApprovedDay() {
+		return approvedDay;
+	}
+	
+	@Override
+	public int getApprovedHour() {
+		return approvedHour;
+	}
+	
+	@Override
+	public Date getLastEventDate() {
+		return getDateClone(lastEventDate);
+	}
+	
+	@Override
+	public int getInactivateFlag() {
+		return inactivateFlag;
+	}
+	
+	@Override
+	public void setTmdPaidHolidayLedgerId(long tmdPaidHolidayLedgerId) {
+		this.tmdPaidHolidayLedgerId = tmdPaidHolidayLedgerId;
+	}
+	
+	@Override
+	public void setPersonalId(String personalId) {
+		this.personalId = personalId;
+	}
+	
+	@Override
+	public void setActivateDate(Date activateDate) {
+		this.activateDate = getDateClone(activateDate);
+	}
+	
+	@Override
+	public void setAcquisitionDate(Date acquisitionDate) {
+		this.acquisitionDate = getDateClone(acquisitionDate);
+	}
+	
+	@Override
+	public void setLimitDate(Date limitDate) {
+		this.limitDate = getDateClone(limitDate);
+	}
+	
+	@Override
+	public void setHoldDay(double holdDay) {
+		this.holdDay = holdDay;
+	}
+	
+	@Override
+	public void setHoldHour(int holdHour) {
+		this.holdHour = holdHour;
+	}
+	
+	@Override
+	public void setGivingDay(double givingDay) {
+		this.givingDay = givingDay;
+	}
+	
+	@Override
+	public void setGivingHour(int givingHour) {
+		this.givingHour = givingHour;
+	}
+	
+	@Override
+	public void setCancelDay(double cancelDay) {
+		this.cancelDay = cancelDay;
+	}
+	
+	@Override
+	public void setCancelHour(int cancelHour) {
+		this.cancelHour = cancelHour;
+	}
+	
+	@Override
+	public void setUseDay(double useDay) {
+		this.useDay = useDay;
+	}
+	
+	@Override
+	public void setUseHour(int useHour) {
+		this.useHour = useHour;
+	}
+	
+	@Override
+	public void setApprovedDay(double approvedDay) {
+		this.approvedDay = approvedDay;
+	}
+	
+	@Override
+	public void setApprovedHour(int approvedHour) {
+		this.approvedHour = approvedHour;
+	}
+	
+	@Override
+	public void setLastEventDate(Date lastEventDate) {
+		this.lastEventDate = getDateClone(lastEventDate);
+	}
+	
+	@Override
+	public void setInactivateFlag(int inactivateFlag) {
+		this.inactivateFlag = inactivateFlag;
+	}
+	
+}
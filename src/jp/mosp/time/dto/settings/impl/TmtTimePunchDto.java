@@ -0,0 +1,160 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.dto.settings.impl;
+
+import java.util.Date;
+
+import jp.mosp.framework.base.BaseDto;
+import jp.mosp.time.dto.settings.TimePunchDtoInterface;
+
+/**
+ * 打刻受付DTO
+ */
+public class TmtTimePunchDto extends BaseDto implements TimePunchDtoInterface {
+	
+	private static final long	serialVersionUID	= 6012384737195216538L;
+	
+	/**
+	 * レコード識別ID。
+	 */
+	private long				tmtTimePunchId;
+	/**
+	 * 個人ID。
+	 */
+	private String				personalId;
+	/**
+	 * ユーザID(打刻者)。
+	 */
+	private String				userId;
+	/**
+	 * ロールコード(打刻者)。
+	 */
+	private String				roleCode;
+	/**
+	 * 打刻区分。
+	 */
+	private String				recordType;
+	/**
+	 * 打刻時刻。
+	 */
+	private Date				recordTime;
+	/**
+	 * 反映状態。
+	 */
+	private String				punchStatus;
+	/**
+	 * 反映日時。
+	 */
+	private Date				processTime;
+	/**
+	 * メッセージ(反映できなかった理由)。
+	 */
+	private String				punchMessage;
+	
+	
+	@Override
+	public long getTmtTimePunchId() {
+		return tmtTimePunchId;
+	}
+	
+	@Override
+	public String getPersonalId() {
+		return personalId;
+	}
+	
+	@Override
+	public String getUserId() {
+		return userId;
+	}
+	
+	@Override
+	public String getRoleCode() {
+		return roleCode;
+	}
+	
+	@Override
+	public String getRecordType() {
+		return recordType;
+	}
+	
+	@Override
+	public Date getRecordTime() {
+		return getDateClone(recordTime);
+	}
+	
+	@Override
+	public String getPunchStatus() {
+		return punchStatus;
+	}
+	
+	@Override
+	public Date getProcessTime() {
+		return getDateClone(processTime);
+	}
+	
+	@Override
+	public String getPunchMessage() {
+		return punchMessage;
+	}
+	
+	@Override
+	public void setTmtTimePunchId(long tmtTimePunchId) {
+		this.tmtTimePunchId = tmtTimePunchId;
+	}
+	
+	@Override
+	public void setPersonalId(String personalId) {
+		this.personalId = personalId;
+	}
+	
+	@Override
+	public void setUserId(String userId) {
+		this.userId = userId;
+	}
+	
+	@Override
+	public void setRoleCode(String roleCode) {
+		this.roleCode = roleCode;
+	}
+	
+	@Override
+	public void setRecordType(String recordType) {
+		this.recordType = recordType;
+	}
+	
+	@Override
+	public void setRecordTime(Date recordTime) {
+		this.recordTime = getDateClone(recordTime);
+	}
+	
+	@Override
+	public void setPunchStatus(String punchStatus) {
+		this.punchStatus = punchStatus;
+	}
+	
+	@Override
+	public void setProcessTime(Date processTime) {
+		this.processTime = getDateClone(processTime);
+	}
+	
+	@Override
+	public void setPunchMessage(String punchMessage) {
+		this.punchMessage = punchMessage;
+	}
+	
+}
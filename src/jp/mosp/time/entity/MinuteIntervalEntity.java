@@ -0,0 +1,457 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.entity;
+
+import jp.mosp.time.utils.TimeUtility;
+
+/**
+ * 分単位時間帯エンティティクラス。<br>
+ * <br>
+ * 勤務日の0:00からの分数で表した時間帯(開始分、終了分)の集合を、int配列で保持する。<br>
+ * 時間帯は開始分の昇順で保持し、同じ開始分の時間帯を追加した場合は終了分を置き換える。<br>
+ * これは、開始時刻をキーとしたTreeMap&lt;Date, Date&gt;と同じ扱いである。<br>
+ * <br>
+ * 和、積、差及び切取の各集合演算は、重複する時間帯を結合した上で、保持している配列上で行う。<br>
+ * 配列の拡張時を除き、オブジェクトを生成しない。<br>
+ * <br>
+ * 同期化されていないため、複数のスレッドから利用する場合は外部で同期化する必要がある。<br>
+ */
+public class MinuteIntervalEntity {
+	
+	/**
+	 * 初期容量(時間帯数)。<br>
+	 */
+	protected static final int	DEFAULT_CAPACITY	= 8;
+	
+	/**
+	 * 時間帯配列。<br>
+	 * 偶数番目に開始分、奇数番目に終了分を格納する。<br>
+	 */
+	protected int[]				intervals;
+	
+	/**
+	 * 作業用配列。<br>
+	 * 積の算出に用いる。<br>
+	 */
+	protected int[]				work;
+	
+	/**
+	 * 時間帯数。<br>
+	 */
+	protected int				size;
+	
+	
+	/**
+	 * {@link MinuteIntervalEntity}を生成する。<br>
+	 */
+	public MinuteIntervalEntity() {
+		intervals = new int[DEFAULT_CAPACITY * 2];
+		work = new int[0];
+		size = 0;
+	}
+	
+	/**
+	 * 時間帯数を取得する。<br>
+	 * @return 時間帯数
+	 */
+	public int size() {
+		return size;
+	}
+	
+	/**
+	 * 時間帯が存在しないかを確認する。<br>
+	 * @return 確認結果(true：時間帯が存在しない、false：存在する)
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+	
+	/**
+	 * 開始分を取得する。<br>
+	 * @param index 時間帯の位置
+	 * @return 開始分
+	 */
+	public int getStart(int index) {
+		checkIndex(index);
+		return intervals[index * 2];
+	}
+	
+	/**
+	 * 終了分を取得する。<br>
+	 * @param index 時間帯の位置
+	 * @return 終了分
+	 */
+	public int getEnd(int index) {
+		checkIndex(index);
+		return intervals[index * 2 + 1];
+	}
+	
+	/**
+	 * 開始分に対応する時間帯の位置を取得する。<br>
+	 * 存在しない場合は、(-(挿入位置) - 1)を返す。<br>
+	 * @param start 開始分
+	 * @return 時間帯の位置
+	 */
+	public int indexOf(int start) {
+		int low = 0;
+		int high = size - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int midStart = intervals[mid * 2];
+			if (midStart < start) {
+				low = mid + 1;
+			} else if (midStart > start) {
+				high = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return -(low + 1);
+	}
+	
+	/**
+	 * 時間帯を追加する。<br>
+	 * 同じ開始分の時間帯が存在する場合は、終了分を置き換える。<br>
+	 * @param start 開始分
+	 * @param end   終了分
+	 */
+	public void put(int start, int end) {
+		int index = indexOf(start);
+		if (index >= 0) {
+			intervals[index * 2 + 1] = end;
+			return;
+		}
+		insert(-(index + 1), start, end);
+	}
+	
+	/**
+	 * 時間帯を追加する。<br>
+	 * 同じ開始分の時間帯が存在する場合は、終了分が後の方を残す。<br>
+	 * @param start 開始分
+	 * @param end   終了分
+	 */
+	public void putLonger(int start, int end) {
+		int index = indexOf(start);
+		if (index >= 0) {
+			if (intervals[index * 2 + 1] < end) {
+				intervals[index * 2 + 1] = end;
+			}
+			return;
+		}
+		insert(-(index + 1), start, end);
+	}
+	
+	/**
+	 * 時間帯を全て追加する。<br>
+	 * 同じ開始分の時間帯が存在する場合は、終了分を置き換える。<br>
+	 * @param other 追加する時間帯
+	 */
+	public void putAll(MinuteIntervalEntity other) {
+		for (int i = 0; i < other.size; i++) {
+			put(other.intervals[i * 2], other.intervals[i * 2 + 1]);
+		}
+	}
+	
+	/**
+	 * 時間帯を全て削除する。<br>
+	 */
+	public void clear() {
+		size = 0;
+	}
+	
+	/**
+	 * 時間帯毎の分数の合計を取得する。<br>
+	 * @return 分数
+	 */
+	public int getMinutes() {
+		int minutes = 0;
+		for (int i = 0; i < size; i++) {
+			minutes += intervals[i * 2 + 1] - intervals[i * 2];
+		}
+		return minutes;
+	}
+	
+	/**
+	 * 時間帯毎に対象時間帯と重なる分数を算出し、その合計を取得する。<br>
+	 * @param from 対象開始分
+	 * @param to   対象終了分
+	 * @return 分数
+	 */
+	public int getMinutes(int from, int to) {
+		int minutes = 0;
+		for (int i = 0; i < size; i++) {
+			int start = intervals[i * 2];
+			int end = intervals[i * 2 + 1];
+			if (start >= to || end <= from) {
+				continue;
+			}
+			minutes += Math.min(end, to) - Math.max(start, from);
+		}
+		return minutes;
+	}
+	
+	/**
+	 * 対象分がいずれかの時間帯(開始分及び終了分を含む)に含まれるかを確認する。<br>
+	 * @param minute 対象分
+	 * @return 確認結果(true：含まれる、false：含まれない)
+	 */
+	public boolean isIncluded(int minute) {
+		for (int i = 0; i < size; i++) {
+			if (intervals[i * 2] <= minute && minute <= intervals[i * 2 + 1]) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * 重なる或いは接する時間帯を結合する(和)。<br>
+	 * 終了分が開始分以前の時間帯は除く。<br>
+	 */
+	public void unite() {
+		int count = 0;
+		for (int i = 0; i < size; i++) {
+			int start = intervals[i * 2];
+			int end = intervals[i * 2 + 1];
+			if (end <= start) {
+				continue;
+			}
+			if (count > 0 && start <= intervals[count * 2 - 1]) {
+				if (end > intervals[count * 2 - 1]) {
+					intervals[count * 2 - 1] = end;
+				}
+				continue;
+			}
+			intervals[count * 2] = start;
+			intervals[count * 2 + 1] = end;
+			count++;
+		}
+		size = count;
+	}
+	
+	/**
+	 * 時間帯を追加し、重なる時間帯を結合する(和)。<br>
+	 * @param other 追加する時間帯
+	 */
+	public void unite(MinuteIntervalEntity other) {
+		for (int i = 0; i < other.size; i++) {
+			putLonger(other.intervals[i * 2], other.intervals[i * 2 + 1]);
+		}
+		unite();
+	}
+	
+	/**
+	 * 対象時間帯外を除く(切取)。<br>
+	 * @param from 対象開始分
+	 * @param to   対象終了分
+	 */
+	public void clip(int from, int to) {
+		unite();
+		int count = 0;
+		for (int i = 0; i < size; i++) {
+			int start = Math.max(intervals[i * 2], from);
+			int end = Math.min(intervals[i * 2 + 1], to);
+			if (end <= start) {
+				continue;
+			}
+			intervals[count * 2] = start;
+			intervals[count * 2 + 1] = end;
+			count++;
+		}
+		size = count;
+	}
+	
+	/**
+	 * 対象時間帯と重なる部分を除く(差)。<br>
+	 * @param from 対象開始分
+	 * @param to   対象終了分
+	 */
+	public void subtract(int from, int to) {
+		unite();
+		if (to <= from) {
+			return;
+		}
+		for (int i = 0; i < size; i++) {
+			int start = intervals[i * 2];
+			int end = intervals[i * 2 + 1];
+			if (start >= to) {
+				return;
+			}
+			if (end <= from) {
+				continue;
+			}
+			if (start < from && to < end) {
+				// 対象時間帯が時間帯の内側にある場合は分割
+				intervals[i * 2 + 1] = from;
+				insert(i + 1, to, end);
+				return;
+			}
+			if (start < from) {
+				intervals[i * 2 + 1] = from;
+				continue;
+			}
+			if (to < end) {
+				intervals[i * 2] = to;
+				return;
+			}
+			remove(i);
+			i--;
+		}
+	}
+	
+	/**
+	 * 時間帯と重なる部分を除く(差)。<br>
+	 * @param other 除く時間帯
+	 */
+	public void subtract(MinuteIntervalEntity other) {
+		unite();
+		for (int i = 0; i < other.size; i++) {
+			subtract(other.intervals[i * 2], other.intervals[i * 2 + 1]);
+		}
+	}
+	
+	/**
+	 * 時間帯と重なる部分だけを残す(積)。<br>
+	 * @param other 対象時間帯
+	 */
+	public void intersect(MinuteIntervalEntity other) {
+		unite();
+		int count = 0;
+		for (int j = 0; j < other.size; j++) {
+			int from = other.intervals[j * 2];
+			int to = other.intervals[j * 2 + 1];
+			for (int i = 0; i < size; i++) {
+				int start = Math.max(intervals[i * 2], from);
+				int end = Math.min(intervals[i * 2 + 1], to);
+				if (end <= start) {
+					continue;
+				}
+				if (work.length < count * 2 + 2) {
+					int[] array = new int[Math.max(intervals.length, count * 4 + 2)];
+					System.arraycopy(work, 0, array, 0, count * 2);
+					work = array;
+				}
+				work[count * 2] = start;
+				work[count * 2 + 1] = end;
+				count++;
+			}
+		}
+		int[] swap = intervals;
+		intervals = work;
+		work = swap;
+		size = count;
+		// 対象時間帯同士が重なる場合に備えて並べ替え及び結合
+		sort();
+		unite();
+	}
+	
+	/**
+	 * 各時間帯の開始分及び終了分を丸める。<br>
+	 * 丸めは勤務日の0:00からの分数に対して行い、丸め後に重なる時間帯を結合する。<br>
+	 * @param startType 開始分丸め種別
+	 * @param startUnit 開始分丸め単位
+	 * @param endType   終了分丸め種別
+	 * @param endUnit   終了分丸め単位
+	 */
+	public void round(int startType, int startUnit, int endType, int endUnit) {
+		for (int i = 0; i < size; i++) {
+			intervals[i * 2] = TimeUtility.getRoundMinute(intervals[i * 2], startType, startUnit);
+			intervals[i * 2 + 1] = TimeUtility.getRoundMinute(intervals[i * 2 + 1], endType, endUnit);
+		}
+		sort();
+		unite();
+	}
+	
+	/**
+	 * 時間帯を挿入する。<br>
+	 * @param index 挿入位置
+	 * @param start 開始分
+	 * @param end   終了分
+	 */
+	protected void insert(int index, int start, int end) {
+		ensureCapacity(size + 1);
+		System.arraycopy(intervals, index * 2, intervals, index * 2 + 2, (size - index) * 2);
+		intervals[index * 2] = start;
+		intervals[index * 2 + 1] = end;
+		size++;
+	}
+	
+	/**
+	 * 時間帯を削除する。<br>
+	 * @param index 削除位置
+	 */
+	protected void remove(int index) {
+		System.arraycopy(intervals, index * 2 + 2, intervals, index * 2, (size - index - 1) * 2);
+		size--;
+	}
+	
+	/**
+	 * 時間帯を開始分の昇順に並べ替える。<br>
+	 * 時間帯数は少ないため、挿入ソートで行う。<br>
+	 */
+	protected void sort() {
+		for (int i = 1; i < size; i++) {
+			int start = intervals[i * 2];
+			int end = intervals[i * 2 + 1];
+			int j = i - 1;
+			while (j >= 0 && intervals[j * 2] > start) {
+				intervals[j * 2 + 2] = intervals[j * 2];
+				intervals[j * 2 + 3] = intervals[j * 2 + 1];
+				j--;
+			}
+			intervals[j * 2 + 2] = start;
+			intervals[j * 2 + 3] = end;
+		}
+	}
+	
+	/**
+	 * 容量を確保する。<br>
+	 * @param capacity 必要な時間帯数
+	 */
+	protected void ensureCapacity(int capacity) {
+		if (intervals.length >= capacity * 2) {
+			return;
+		}
+		int[] array = new int[Math.max(capacity, size * 2) * 2];
+		System.arraycopy(intervals, 0, array, 0, size * 2);
+		intervals = array;
+	}
+	
+	/**
+	 * 時間帯の位置を確認する。<br>
+	 * @param index 時間帯の位置
+	 */
+	protected void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException(String.valueOf(index));
+		}
+	}
+	
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < size; i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+			sb.append(intervals[i * 2]).append('-').append(intervals[i * 2 + 1]);
+		}
+		return sb.append(']').toString();
+	}
+	
+}
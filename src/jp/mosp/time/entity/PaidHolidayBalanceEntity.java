@@ -0,0 +1,250 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.entity;
+
+import java.util.Date;
+
+/**
+ * 有給休暇残エンティティクラス。<br>
+ * <br>
+ * 対象日時点の有給休暇の残日数(時間)、支給・廃棄・利用の日数(時間)を保持する。<br>
+ * 今年度は今年度付与日以降に取得した有給休暇、前年度は今年度付与日より前に取得した有給休暇である。<br>
+ * 残時間が負となる場合は、有休時間取得限度時間毎に残日数から繰り下げた値を保持する。<br>
+ */
+public class PaidHolidayBalanceEntity {
+	
+	/**
+	 * 有効日。<br>
+	 * 最後に集計した有給休暇データの有効日。有給休暇データが存在しない場合は対象日。<br>
+	 */
+	protected Date		activateDate;
+	
+	/**
+	 * 今年度残日数。<br>
+	 */
+	protected double	currentDay;
+	
+	/**
+	 * 今年度残時間。<br>
+	 */
+	protected int		currentTime;
+	
+	/**
+	 * 前年度残日数。<br>
+	 */
+	protected double	formerDay;
+	
+	/**
+	 * 前年度残時間。<br>
+	 */
+	protected int		formerTime;
+	
+	/**
+	 * 支給日数。<br>
+	 */
+	protected double	givingDay;
+	
+	/**
+	 * 支給時間。<br>
+	 */
+	protected int		givingTime;
+	
+	/**
+	 * 廃棄日数。<br>
+	 */
+	protected double	cancelDay;
+	
+	/**
+	 * 廃棄時間。<br>
+	 */
+	protected int		cancelTime;
+	
+	/**
+	 * 利用日数。<br>
+	 */
+	protected double	useDay;
+	
+	/**
+	 * 利用時間。<br>
+	 */
+	protected int		useTime;
+	
+	
+	/**
+	 * {@link PaidHolidayBalanceEntity}を生成する。<br>
+	 * @param targetDate 対象日
+	 */
+	public PaidHolidayBalanceEntity(Date targetDate) {
+		activateDate = targetDate;
+	}
+	
+	/**
+	 * @return 有効日
+	 */
+	public Date getActivateDate() {
+		return activateDate;
+	}
+	
+	/**
+	 * @param activateDate 有効日
+	 */
+	public void setActivateDate(Date activateDate) {
+		this.activateDate = activateDate;
+	}
+	
+	/**
+	 * @return 今年度残日数
+	 */
+	public double getCurrentDay() {
+		return currentDay;
+	}
+	
+	/**
+	 * @param currentDay 今年度残日数
+	 */
+	public void setCurrentDay(double currentDay) {
+		this.currentDay = currentDay;
+	}
+	
+	/**
+	 * @return 今年度残時間
+	 */
+	public int getCurrentTime() {
+		return currentTime;
+	}
+	
+	/**
+	 * @param currentTime 今年度残時間
+	 */
+	public void setCurrentTime(int currentTime) {
+		this.currentTime = currentTime;
+	}
+	
+	/**
+	 * @return 前年度残日数
+	 */
+	public double getFormerDay() {
+		return formerDay;
+	}
+	
+	/**
+	 * @param formerDay 前年度残日数
+	 */
+	public void setFormerDay(double formerDay) {
+		this.formerDay = formerDay;
+	}
+	
+	/**
+	 * @return 前年度残時間
+	 */
+	public int getFormerTime() {
+		return formerTime;
+	}
+	
+	/**
+	 * @param formerTime 前年度残時間
+	 */
+	public void setFormerTime(int formerTime) {
+		this.formerTime = formerTime;
+	}
+	
+	/**
+	 * @return 支給日数
+	 */
+	public double getGivingDay() {
+		return givingDay;
+	}
+	
+	/**
+	 * @param givingDay 支給日数
+	 */
+	public void setGivingDay(double givingDay) {
+		this.givingDay = givingDay;
+	}
+	
+	/**
+	 * @return 支給時間
+	 */
+	public int getGivingTime() {
+		return givingTime;
+	}
+	
+	/**
+	 * @param givingTime 支給時間
+	 */
+	public void setGivingTime(int givingTime) {
+		this.givingTime = givingTime;
+	}
+	
+	/**
+	 * @return 廃棄日数
+	 */
+	public double getCancelDay() {
+		return cancelDay;
+	}
+	
+	/**
+	 * @param cancelDay 廃棄日数
+	 */
+	public void setCancelDay(double cancelDay) {
+		this.cancelDay = cancelDay;
+	}
+	
+	/**
+	 * @return 廃棄時間
+	 */
+	public int getCancelTime() {
+		return cancelTime;
+	}
+	
+	/**
+	 * @param cancelTime 廃棄時間
+	 */
+	public void setCancelTime(int cancelTime) {
+		this.cancelTime = cancelTime;
+	}
+	
+	/**
+	 * @return 利用日数
+	 */
+	public double getUseDay() {
+		return useDay;
+	}
+	
+	/**
+	 * @param useDay 利用日数
+	 */
+	public void setUseDay(double useDay) {
+		this.useDay = useDay;
+	}
+	
+	/**
+	 * @return 利用時間
+	 */
+	public int getUseTime() {
+		return useTime;
+	}
+	
+	/**
+	 * @param useTime 利用時間
+	 */
+	public void setUseTime(int useTime) {
+		this.useTime = useTime;
+	}
+	
+}
@@ -42,7 +42,6 @@ import jp.mosp.time.dto.settings.WorkTypeChangeRequestDtoInterface;
 import jp.mosp.time.dto.settings.impl.CutoffErrorListDto;
 import jp.mosp.time.utils.TimeNamingUtility;
 import jp.mosp.time.utils.TimeUtility;
-import jp.mosp.time.utils.TotalTimeUtility;
 
 /**
  * 申請検出エンティティクラス。<br>
@@ -121,6 +120,13 @@ public class RequestDetectEntity implements RequestDetectEntityInterface {
 	 */
 	protected Map<Long, WorkflowDtoInterface>			workflowMap;
 	
+	/**
+	 * 日毎申請索引。<br>
+	 * 初めて必要になった時に、フィールドに設定されている情報から作成する。<br>
+	 * 情報が設定された場合は破棄する。<br>
+	 */
+	protected RequestIndexEntity						requestIndex;
+	
 	/**
 	 * 未承認ワークフロー情報リスト。<br>
 	 * <br>
@@ -379,8 +385,7 @@ public class RequestDetectEntity implements RequestDetectEntityInterface {
 	 */
 	protected boolean isOvertimeApplied(Date targetDate, int overtimeType, Map<Long, WorkflowDtoInterface> workflowMap) {
 		// 対象日の残業申請リストを取得
-		List<OvertimeRequestDtoInterface> list = TotalTimeUtility.getOvertimeRequestList(overtimeRequestList,
-				workflowMap, targetDate);
+		List<OvertimeRequestDtoInterface> list = getRequestIndex().getOvertimeRequestList(targetDate);
 		// 残業申請毎に処理
 		for (OvertimeRequestDtoInterface dto : list) {
 			// 残業区分が異なる場合
@@ -482,25 +487,41 @@ public class RequestDetectEntity implements RequestDetectEntityInterface {
 	protected RequestEntity getRequestEntity(Date targetDate) {
 		// 申請エンティティを取得
 		RequestEntity entity = new RequestEntity(personalId, targetDate);
+		// 日毎申請索引を取得
+		RequestIndexEntity index = getRequestIndex();
 		// 申請エンティティに各種情報を設定
-		entity.setAttendanceDto(TotalTimeUtility.getAttendanceDto(attendanceList, targetDate));
-		entity.setWorkOnHolidayRequestDto(TotalTimeUtility.getWorkOnHolidayRequestDto(workOnHolidayRequestList,
-				workflowMap, targetDate));
-		entity.setHolidayRequestList(TotalTimeUtility
-			.getHolidayRequestList(holidayRequestList, workflowMap, targetDate));
-		entity.setSubHolidayRequestList(TotalTimeUtility.getSubHolidayRequestList(subHolidayRequestList, workflowMap,
-				targetDate));
-		entity.setOverTimeRequestList(TotalTimeUtility.getOvertimeRequestList(overtimeRequestList, workflowMap,
-				targetDate));
-		entity.setDifferenceRequestDto(TotalTimeUtility.getDifferenceRequestDto(differenceRequestList, workflowMap,
-				targetDate));
-		entity.setSubstituteList(TotalTimeUtility.getSubstitutList(substituteList, workflowMap, targetDate));
+		entity.setAttendanceDto(index.getAttendanceDto(targetDate));
+		entity.setWorkOnHolidayRequestDto(index.getWorkOnHolidayRequestDto(targetDate));
+		entity.setHolidayRequestList(index.getHolidayRequestList(targetDate));
+		entity.setSubHolidayRequestList(index.getSubHolidayRequestList(targetDate));
+		entity.setOverTimeRequestList(index.getOvertimeRequestList(targetDate));
+		entity.setDifferenceRequestDto(index.getDifferenceRequestDto(targetDate));
+		entity.setSubstituteList(index.getSubstituteList(targetDate));
 		entity.setWorkflowMap(workflowMap);
 		entity.setScheduledWorkTypeCode(scheduleMap.get(targetDate));
 		// 申請エンティティを取得
 		return entity;
 	}
 	
+	/**
+	 * 日毎申請索引を取得する。<br>
+	 * <br>
+	 * 日毎申請索引が作成されていない場合は、フィールドに設定されている情報から作成する。<br>
+	 * 勤務形態変更申請は申請エンティティに設定しないため、索引しない。<br>
+	 * <br>
+	 * @return 日毎申請索引
+	 */
+	protected RequestIndexEntity getRequestIndex() {
+		// 日毎申請索引が作成されていない場合
+		if (requestIndex == null) {
+			// 日毎申請索引を作成
+			requestIndex = new RequestIndexEntity(attendanceList, workOnHolidayRequestList, holidayRequestList,
+					subHolidayRequestList, overtimeRequestList, null, differenceRequestList, substituteList,
+					workflowMap);
+		}
+		return requestIndex;
+	}
+	
 	@Override
 	public List<CutoffErrorListDtoInterface> getCutoffErrorList(MospParams mospParams, HumanDtoInterface humanDto) {
 		// 集計時エラー内容情報リストを準備
@@ -630,26 +651,31 @@ public class RequestDetectEntity implements RequestDetectEntityInterface {
 	@Override
 	public void setAttendanceList(List<AttendanceDtoInterface> attendanceList) {
 		this.attendanceList = attendanceList;
+		requestIndex = null;
 	}
 	
 	@Override
 	public void setWorkOnHolidayRequestList(List<WorkOnHolidayRequestDtoInterface> workOnHolidayRequestList) {
 		this.workOnHolidayRequestList = workOnHolidayRequestList;
+		requestIndex = null;
 	}
 	
 	@Override
 	public void setHolidayRequestList(List<HolidayRequestDtoInterface> holidayRequestList) {
 		this.holidayRequestList = holidayRequestList;
+		requestIndex = null;
 	}
 	
 	@Override
 	public void setSubHolidayRequestList(List<SubHolidayRequestDtoInterface> subHolidayRequestList) {
 		this.subHolidayRequestList = subHolidayRequestList;
+		requestIndex = null;
 	}
 	
 	@Override
 	public void setOvertimeRequestList(List<OvertimeRequestDtoInterface> overtimeRequestList) {
 		this.overtimeRequestList = overtimeRequestList;
+		requestIndex = null;
 	}
 	
 	@Override
@@ -660,16 +686,19 @@ public class RequestDetectEntity implements RequestDetectEntityInterface {
 	@Override
 	public void setDifferenceRequestList(List<DifferenceRequestDtoInterface> differenceRequestList) {
 		this.differenceRequestList = differenceRequestList;
+		requestIndex = null;
 	}
 	
 	@Override
 	public void setSubstituteList(List<SubstituteDtoInterface> substituteList) {
 		this.substituteList = substituteList;
+		requestIndex = null;
 	}
 	
 	@Override
 	public void setWorkflowMap(Map<Long, WorkflowDtoInterface> workflowMap) {
 		this.workflowMap = workflowMap;
+		requestIndex = null;
 	}
 	
 }
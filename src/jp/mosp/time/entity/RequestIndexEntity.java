@@ -0,0 +1,346 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.entity;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+
+import jp.mosp.platform.dto.workflow.WorkflowDtoInterface;
+import jp.mosp.platform.utils.WorkflowUtility;
+import jp.mosp.time.dto.settings.AttendanceDtoInterface;
+import jp.mosp.time.dto.settings.DifferenceRequestDtoInterface;
+import jp.mosp.time.dto.settings.HolidayRequestDtoInterface;
+import jp.mosp.time.dto.settings.OvertimeRequestDtoInterface;
+import jp.mosp.time.dto.settings.SubHolidayRequestDtoInterface;
+import jp.mosp.time.dto.settings.SubstituteDtoInterface;
+import jp.mosp.time.dto.settings.WorkOnHolidayRequestDtoInterface;
+import jp.mosp.time.dto.settings.WorkTypeChangeRequestDtoInterface;
+import jp.mosp.time.utils.TotalTimeUtility;
+
+/**
+ * 日毎申請索引エンティティクラス。<br>
+ * <br>
+ * 個人の勤怠情報及び各種申請情報を、日(1970/01/01からの日数)をキーとして索引する。<br>
+ * 生成時に一度だけ各リストを走査するため、日毎の取得はリストの件数に依らず行える。<br>
+ * 休暇申請は、申請開始日から申請終了日までの各日に索引する。<br>
+ * <br>
+ * 取下の申請は索引しない。<br>
+ * 日毎の情報の並びは、元のリストの並びと同じになる。<br>
+ * 取得結果は{@link TotalTimeUtility}の各メソッドで対象日毎にリストを走査した場合と同じになる。<br>
+ * <br>
+ */
+public class RequestIndexEntity {
+	
+	/**
+	 * 一日のミリ秒。<br>
+	 */
+	protected static final long										DAY_MILLIS	= 24L * 60L * 60L * 1000L;
+	
+	/**
+	 * 日のキーを算出するタイムゾーン。<br>
+	 */
+	protected final TimeZone										timeZone;
+	
+	/**
+	 * 勤怠情報群(キー：日)。<br>
+	 */
+	protected final Map<Long, AttendanceDtoInterface>				attendanceMap;
+	
+	/**
+	 * 休日出勤申請情報群(キー：日)。<br>
+	 */
+	protected final Map<Long, WorkOnHolidayRequestDtoInterface>		workOnHolidayMap;
+	
+	/**
+	 * 休暇申請リスト群(キー：日)。<br>
+	 */
+	protected final Map<Long, List<HolidayRequestDtoInterface>>		holidayMap;
+	
+	/**
+	 * 代休申請リスト群(キー：日)。<br>
+	 */
+	protected final Map<Long, List<SubHolidayRequestDtoInterface>>	subHolidayMap;
+	
+	/**
+	 * 残業申請リスト群(キー：日)。<br>
+	 */
+	protected final Map<Long, List<OvertimeRequestDtoInterface>>	overtimeMap;
+	
+	/**
+	 * 勤務形態変更申請情報群(キー：日)。<br>
+	 */
+	protected final Map<Long, WorkTypeChangeRequestDtoInterface>	workTypeChangeMap;
+	
+	/**
+	 * 時差出勤申請情報群(キー：日)。<br>
+	 */
+	protected final Map<Long, DifferenceRequestDtoInterface>		differenceMap;
+	
+	/**
+	 * 振替休日リスト群(キー：振替日)。<br>
+	 */
+	protected final Map<Long, List<SubstituteDtoInterface>>			substituteMap;
+	
+	
+	/**
+	 * 各リストを走査して日毎申請索引エンティティを生成する。<br>
+	 * リストがnullの場合は、空のリストとして扱う。<br>
+	 * @param attendanceList            勤怠情報リスト
+	 * @param workOnHolidayRequestList  休日出勤申請リスト
+	 * @param holidayRequestList        休暇申請リスト
+	 * @param subHolidayRequestList     代休申請リスト
+	 * @param overtimeRequestList       残業申請リスト
+	 * @param workTypeChangeRequestList 勤務形態変更申請リスト
+	 * @param differenceRequestList     時差出勤申請リスト
+	 * @param substituteList            振替休日リスト
+	 * @param workflowMap               ワークフロー情報群
+	 */
+	public RequestIndexEntity(List<AttendanceDtoInterface> attendanceList,
+			List<WorkOnHolidayRequestDtoInterface> workOnHolidayRequestList,
+			List<HolidayRequestDtoInterface> holidayRequestList,
+			List<SubHolidayRequestDtoInterface> subHolidayRequestList,
+			List<OvertimeRequestDtoInterface> overtimeRequestList,
+			List<WorkTypeChangeRequestDtoInterface> workTypeChangeRequestList,
+			List<DifferenceRequestDtoInterface> differenceRequestList, List<SubstituteDtoInterface> substituteList,
+			Map<Long, WorkflowDtoInterface> workflowMap) {
+		timeZone = TimeZone.getDefault();
+		attendanceMap = new HashMap<Long, AttendanceDtoInterface>();
+		workOnHolidayMap = new HashMap<Long, WorkOnHolidayRequestDtoInterface>();
+		holidayMap = new HashMap<Long, List<HolidayRequestDtoInterface>>();
+		subHolidayMap = new HashMap<Long, List<SubHolidayRequestDtoInterface>>();
+		overtimeMap = new HashMap<Long, List<OvertimeRequestDtoInterface>>();
+		workTypeChangeMap = new HashMap<Long, WorkTypeChangeRequestDtoInterface>();
+		differenceMap = new HashMap<Long, DifferenceRequestDtoInterface>();
+		substituteMap = new HashMap<Long, List<SubstituteDtoInterface>>();
+		// 勤怠情報を索引(勤怠情報には取下状態が無いため、ワークフロー情報は用いない)
+		if (attendanceList != null) {
+			for (AttendanceDtoInterface dto : attendanceList) {
+				putFirst(attendanceMap, dto.getWorkDate(), dto);
+			}
+		}
+		// 休日出勤申請を索引
+		if (workOnHolidayRequestList != null) {
+			for (WorkOnHolidayRequestDtoInterface dto : workOnHolidayRequestList) {
+				if (isWithDrawn(workflowMap, dto.getWorkflow()) == false) {
+					putFirst(workOnHolidayMap, dto.getRequestDate(), dto);
+				}
+			}
+		}
+		// 休暇申請を申請開始日から申請終了日までの各日に索引
+		if (holidayRequestList != null) {
+			for (HolidayRequestDtoInterface dto : holidayRequestList) {
+				if (isWithDrawn(workflowMap, dto.getWorkflow())) {
+					continue;
+				}
+				long endKey = getDayKey(dto.getRequestEndDate());
+				for (long key = getDayKey(dto.getRequestStartDate()); key <= endKey; key++) {
+					add(holidayMap, Long.valueOf(key), dto);
+				}
+			}
+		}
+		// 代休申請を索引
+		if (subHolidayRequestList != null) {
+			for (SubHolidayRequestDtoInterface dto : subHolidayRequestList) {
+				if (isWithDrawn(workflowMap, dto.getWorkflow()) == false) {
+					add(subHolidayMap, Long.valueOf(getDayKey(dto.getRequestDate())), dto);
+				}
+			}
+		}
+		// 残業申請を索引
+		if (overtimeRequestList != null) {
+			for (OvertimeRequestDtoInterface dto : overtimeRequestList) {
+				if (isWithDrawn(workflowMap, dto.getWorkflow()) == false) {
+					add(overtimeMap, Long.valueOf(getDayKey(dto.getRequestDate())), dto);
+				}
+			}
+		}
+		// 勤務形態変更申請を索引
+		if (workTypeChangeRequestList != null) {
+			for (WorkTypeChangeRequestDtoInterface dto : workTypeChangeRequestList) {
+				if (isWithDrawn(workflowMap, dto.getWorkflow()) == false) {
+					putFirst(workTypeChangeMap, dto.getRequestDate(), dto);
+				}
+			}
+		}
+		// 時差出勤申請を索引
+		if (differenceRequestList != null) {
+			for (DifferenceRequestDtoInterface dto : differenceRequestList) {
+				if (isWithDrawn(workflowMap, dto.getWorkflow()) == false) {
+					putFirst(differenceMap, dto.getRequestDate(), dto);
+				}
+			}
+		}
+		// 振替休日を振替日に索引
+		if (substituteList != null) {
+			for (SubstituteDtoInterface dto : substituteList) {
+				if (isWithDrawn(workflowMap, dto.getWorkflow()) == false) {
+					add(substituteMap, Long.valueOf(getDayKey(dto.getSubstituteDate())), dto);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * 対象日の勤怠情報を取得する。<br>
+	 * @param targetDate 対象日
+	 * @return 勤怠情報(無い場合はnull)
+	 */
+	public AttendanceDtoInterface getAttendanceDto(Date targetDate) {
+		return attendanceMap.get(getDayKey(targetDate));
+	}
+	
+	/**
+	 * 対象日の休日出勤申請情報を取得する。<br>
+	 * @param targetDate 対象日
+	 * @return 休日出勤申請情報(無い場合はnull)
+	 */
+	public WorkOnHolidayRequestDtoInterface getWorkOnHolidayRequestDto(Date targetDate) {
+		return workOnHolidayMap.get(getDayKey(targetDate));
+	}
+	
+	/**
+	 * 対象日の休暇申請リストを取得する。<br>
+	 * @param targetDate 対象日
+	 * @return 休暇申請リスト
+	 */
+	public List<HolidayRequestDtoInterface> getHolidayRequestList(Date targetDate) {
+		return getList(holidayMap, targetDate);
+	}
+	
+	/**
+	 * 対象日の代休申請リストを取得する。<br>
+	 * @param targetDate 対象日
+	 * @return 代休申請リスト
+	 */
+	public List<SubHolidayRequestDtoInterface> getSubHolidayRequestList(Date targetDate) {
+		return getList(subHolidayMap, targetDate);
+	}
+	
+	/**
+	 * 対象日の残業申請リストを取得する。<br>
+	 * @param targetDate 対象日
+	 * @return 残業申請リスト
+	 */
+	public List<OvertimeRequestDtoInterface> getOvertimeRequestList(Date targetDate) {
+		return getList(overtimeMap, targetDate);
+	}
+	
+	/**
+	 * 対象日の勤務形態変更申請情報を取得する。<br>
+	 * @param targetDate 対象日
+	 * @return 勤務形態変更申請情報(無い場合はnull)
+	 */
+	public WorkTypeChangeRequestDtoInterface getWorkTypeChangeRequestDto(Date targetDate) {
+		return workTypeChangeMap.get(getDayKey(targetDate));
+	}
+	
+	/**
+	 * 対象日の時差出勤申請情報を取得する。<br>
+	 * @param targetDate 対象日
+	 * @return 時差出勤申請情報(無い場合はnull)
+	 */
+	public DifferenceRequestDtoInterface getDifferenceRequestDto(Date targetDate) {
+		return differenceMap.get(getDayKey(targetDate));
+	}
+	
+	/**
+	 * 対象日を振替日とする振替休日リストを取得する。<br>
+	 * @param targetDate 対象日
+	 * @return 振替休日リスト
+	 */
+	public List<SubstituteDtoInterface> getSubstituteList(Date targetDate) {
+		return getList(substituteMap, targetDate);
+	}
+	
+	/**
+	 * 日のキー(1970/01/01からの日数)を取得する。<br>
+	 * 日付はタイムゾーンにおける日で判断する。<br>
+	 * @param date 対象日
+	 * @return 日のキー
+	 */
+	protected long getDayKey(Date date) {
+		long time = date.getTime() + timeZone.getOffset(date.getTime());
+		long key = time / DAY_MILLIS;
+		// 1970/01/01より前の場合は切下
+		if (time < 0 && time % DAY_MILLIS != 0) {
+			key--;
+		}
+		return key;
+	}
+	
+	/**
+	 * 対象日のリストを取得する。<br>
+	 * 取得したリストの変更が索引に影響しないように、複製を返す。<br>
+	 * @param <T> 情報の型
+	 * @param map        リスト群(キー：日)
+	 * @param targetDate 対象日
+	 * @return リスト
+	 */
+	protected <T> List<T> getList(Map<Long, List<T>> map, Date targetDate) {
+		List<T> list = map.get(getDayKey(targetDate));
+		if (list == null) {
+			return new ArrayList<T>();
+		}
+		return new ArrayList<T>(list);
+	}
+	
+	/**
+	 * 対象日に情報が無い場合のみ、情報を設定する(リストで最初の情報を優先)。<br>
+	 * @param <T> 情報の型
+	 * @param map  情報群(キー：日)
+	 * @param date 対象日
+	 * @param dto  情報
+	 */
+	protected <T> void putFirst(Map<Long, T> map, Date date, T dto) {
+		Long key = Long.valueOf(getDayKey(date));
+		if (map.containsKey(key) == false) {
+			map.put(key, dto);
+		}
+	}
+	
+	/**
+	 * 対象日のリストに情報を追加する。<br>
+	 * @param <T> 情報の型
+	 * @param map リスト群(キー：日)
+	 * @param key 日のキー
+	 * @param dto 情報
+	 */
+	protected <T> void add(Map<Long, List<T>> map, Long key, T dto) {
+		List<T> list = map.get(key);
+		if (list == null) {
+			list = new ArrayList<T>();
+			map.put(key, list);
+		}
+		list.add(dto);
+	}
+	
+	/**
+	 * 申請が取下であるかを確認する。<br>
+	 * @param workflowMap ワークフロー情報群
+	 * @param workflow    ワークフロー番号
+	 * @return 確認結果(true：取下である、false：取下でない)
+	 */
+	protected boolean isWithDrawn(Map<Long, WorkflowDtoInterface> workflowMap, long workflow) {
+		return WorkflowUtility.isWithDrawn(workflowMap.get(workflow));
+	}
+	
+}
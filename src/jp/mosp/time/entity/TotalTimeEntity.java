@@ -245,6 +245,12 @@ public class TotalTimeEntity implements TotalTimeEntityInterface {
 	 */
 	protected Map<Date, RequestEntity>					requestEntityMap;
 	
+	/**
+	 * 日毎申請索引。<br>
+	 * 初めて申請エンティティを作成する時に、フィールドに設定されている情報から作成する。<br>
+	 */
+	protected RequestIndexEntity						requestIndex;
+	
 	/**------------- 変数(勤怠集計後) -------------**/
 	
 	/**
@@ -1165,7 +1171,7 @@ public class TotalTimeEntity implements TotalTimeEntityInterface {
 		// 計算対象日毎に処理
 		for (Date targetDate : dateListForWeeklyForty) {
 			// 勤怠申請情報を取得
-			AttendanceDtoInterface dto = TotalTimeUtility.getAttendanceDto(attendanceList, targetDate);
+			AttendanceDtoInterface dto = getRequestIndex().getAttendanceDto(targetDate);
 			// 週40時間計算用勤怠申請情報リストに設定
 			weeklyAttendanceList.add(dto);
 			// 対象日が週の終了曜日でも締期間最終日でもない場合
@@ -2013,6 +2019,7 @@ public class TotalTimeEntity implements TotalTimeEntityInterface {
 		generalDoubleItem4 = 0;
 		generalDoubleItem5 = 0;
 		requestEntityMap = new HashMap<Date, RequestEntity>();
+		requestIndex = null;
 	}
 	
 	/**
@@ -2068,21 +2075,17 @@ public class TotalTimeEntity implements TotalTimeEntityInterface {
 		entity = new RequestEntity(personalId, targetDate);
 		// 申請エンティティ群に設定
 		requestEntityMap.put(targetDate, entity);
+		// 日毎申請索引を取得
+		RequestIndexEntity index = getRequestIndex();
 		// 申請エンティティに各種情報を設定
-		entity.setAttendanceDto(TotalTimeUtility.getAttendanceDto(attendanceList, targetDate));
-		entity.setWorkOnHolidayRequestDto(TotalTimeUtility.getWorkOnHolidayRequestDto(workOnHolidayRequestList,
-				workflowMap, targetDate));
-		entity.setHolidayRequestList(TotalTimeUtility
-			.getHolidayRequestList(holidayRequestList, workflowMap, targetDate));
-		entity.setSubHolidayRequestList(TotalTimeUtility.getSubHolidayRequestList(subHolidayRequestList, workflowMap,
-				targetDate));
-		entity.setOverTimeRequestList(TotalTimeUtility.getOvertimeRequestList(overtimeRequestList, workflowMap,
-				targetDate));
-		entity.setWorkTypeChangeRequestDto(TotalTimeUtility.getWorkTypeChangeRequestList(workTypeChangeRequestList,
-				workflowMap, targetDate));
-		entity.setDifferenceRequestDto(TotalTimeUtility.getDifferenceRequestDto(differenceRequestList, workflowMap,
-				targetDate));
-		entity.setSubstituteList(TotalTimeUtility.getSubstitutList(substitubeList, workflowMap, targetDate));
+		entity.setAttendanceDto(index.getAttendanceDto(targetDate));
+		entity.setWorkOnHolidayRequestDto(index.getWorkOnHolidayRequestDto(targetDate));
+		entity.setHolidayRequestList(index.getHolidayRequestList(targetDate));
+		entity.setSubHolidayRequestList(index.getSubHolidayRequestList(targetDate));
+		entity.setOverTimeRequestList(index.getOvertimeRequestList(targetDate));
+		entity.setWorkTypeChangeRequestDto(index.getWorkTypeChangeRequestDto(targetDate));
+		entity.setDifferenceRequestDto(index.getDifferenceRequestDto(targetDate));
+		entity.setSubstituteList(index.getSubstituteList(targetDate));
 		entity.setWorkflowMap(workflowMap);
 		entity.setScheduledWorkTypeCode(scheduleMap.get(targetDate));
 		entity.setSubstitutedWorkTypeCode(substitutedMap.get(targetDate));
@@ -2090,6 +2093,24 @@ public class TotalTimeEntity implements TotalTimeEntityInterface {
 		return entity;
 	}
 	
+	/**
+	 * 日毎申請索引を取得する。<br>
+	 * <br>
+	 * 日毎申請索引が作成されていない場合は、フィールドに設定されている情報から作成する。<br>
+	 * <br>
+	 * @return 日毎申請索引
+	 */
+	protected RequestIndexEntity getRequestIndex() {
+		// 日毎申請索引が作成されていない場合
+		if (requestIndex == null) {
+			// 日毎申請索引を作成
+			requestIndex = new RequestIndexEntity(attendanceList, workOnHolidayRequestList, holidayRequestList,
+					subHolidayRequestList, overtimeRequestList, workTypeChangeRequestList, differenceRequestList,
+					substitubeList, workflowMap);
+		}
+		return requestIndex;
+	}
+	
 	/**
 	 * ワークフロー情報を取得する。<br>
 	 * <br>
@@ -18,7 +18,10 @@
 package jp.mosp.time.file.action;
 
 import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import jp.mosp.framework.base.MospException;
 import jp.mosp.orangesignal.OrangeSignalUtility;
@@ -33,6 +36,7 @@ import jp.mosp.platform.file.vo.ImportListVo;
 import jp.mosp.time.base.TimeBeanHandlerInterface;
 import jp.mosp.time.base.TimeReferenceBeanHandlerInterface;
 import jp.mosp.time.bean.ApplicationReferenceBeanInterface;
+import jp.mosp.time.bean.AttendanceListRegistBeanInterface;
 import jp.mosp.time.bean.AttendanceRegistBeanInterface;
 import jp.mosp.time.bean.AttendanceTransactionRegistBeanInterface;
 import jp.mosp.time.bean.CutoffReferenceBeanInterface;
@@ -299,30 +303,42 @@ public class TimeImportListAction extends ImportListAction {
 			return;
 		}
 		AttendanceRegistBeanInterface regist = time.attendanceRegist();
+		// 勤怠一覧登録クラス群(キー：勤務日)準備
+		Map<Date, AttendanceListRegistBeanInterface> listRegistMap = new HashMap<Date, AttendanceListRegistBeanInterface>();
+		// 登録対象勤怠データリスト準備
+		int chunkSize = getImportChunkSize();
+		List<AttendanceDtoInterface> registList = new ArrayList<AttendanceDtoInterface>();
 		for (AttendanceDtoInterface dto : list) {
-			// エラー確認
-			if (mospParams.hasErrorMessage()) {
-				continue;
-			}
 			// 始業・終業必須チェック
 			regist.checkTimeExist(dto);
 			// 妥当性チェック
 			regist.checkValidate(dto);
 			// 申請の相関チェック
 			regist.checkDraft(dto);
-			// エラー確認
+			// エラー確認(エラーが発生した場合も確認は全行に対して行う)
 			if (mospParams.hasErrorMessage()) {
 				continue;
 			}
 			// ワークフロー番号設定
-			time.attendanceListRegist(dto.getWorkDate()).draft(dto);
+			getAttendanceListRegist(listRegistMap, dto.getWorkDate()).draft(dto);
 			// エラー確認
 			if (mospParams.hasErrorMessage()) {
 				continue;
 			}
-			// 勤怠データ登録
-			regist.regist(dto);
+			// 登録対象勤怠データリストに追加
+			registList.add(dto);
+			if (registList.size() >= chunkSize) {
+				// 勤怠データ一括登録
+				regist.regist(registList);
+				registList.clear();
+			}
 		}
+		// エラー確認
+		if (mospParams.hasErrorMessage()) {
+			return;
+		}
+		// 勤怠データ一括登録(残り)
+		regist.regist(registList);
 	}
 	
 	/**
@@ -344,30 +360,20 @@ public class TimeImportListAction extends ImportListAction {
 		if (mospParams.hasErrorMessage() || list.isEmpty()) {
 			return;
 		}
+		// 登録対象勤怠データリスト準備
+		int chunkSize = getImportChunkSize();
+		List<AttendanceDtoInterface> registList = new ArrayList<AttendanceDtoInterface>();
 		for (AttendanceDtoInterface attendanceDto : list) {
-			// エラー確認
-			if (mospParams.hasErrorMessage()) {
-				continue;
-			}
-			// 休憩削除
-			restRegist.delete(attendanceDto.getPersonalId(), attendanceDto.getWorkDate(), attendanceDto.getTimesWork());
-			// エラー確認
-			if (mospParams.hasErrorMessage()) {
-				continue;
-			}
-			// 外出等削除
-			goOutRegist
-				.delete(attendanceDto.getPersonalId(), attendanceDto.getWorkDate(), attendanceDto.getTimesWork());
-			// エラー確認
-			if (mospParams.hasErrorMessage()) {
-				continue;
-			}
 			// 始業・終業必須チェック
 			regist.checkTimeExist(attendanceDto);
 			// 妥当性チェック
 			regist.checkValidate(attendanceDto);
 			// 申請の相関チェック
 			regist.checkAppli(attendanceDto);
+			// エラー確認(エラーが発生した場合も確認は全行に対して行う)
+			if (mospParams.hasErrorMessage()) {
+				continue;
+			}
 			// ワークフロー情報取得
 			WorkflowDtoInterface workflowDto = workflowIntegrate.getLatestWorkflowInfo(attendanceDto.getWorkflow());
 			if (workflowDto == null) {
@@ -386,11 +392,80 @@ public class TimeImportListAction extends ImportListAction {
 			}
 			// ワークフロー番号設定
 			attendanceDto.setWorkflow(workflowDto.getWorkflow());
-			// 勤怠データ登録
-			regist.regist(attendanceDto);
+			// 登録対象勤怠データリストに追加
+			registList.add(attendanceDto);
+			if (registList.size() >= chunkSize) {
+				// 勤怠データ一括登録
+				registAttendanceSelf(registList, regist, restRegist, goOutRegist, transactionRegist);
+			}
+		}
+		// エラー確認
+		if (mospParams.hasErrorMessage()) {
+			return;
+		}
+		// 勤怠データ一括登録(残り)
+		registAttendanceSelf(registList, regist, restRegist, goOutRegist, transactionRegist);
+	}
+	
+	/**
+	 * 勤怠データ【自己承認】を一括で登録する。<br>
+	 * 休憩及び外出等を一括で削除し、勤怠データを一括で登録する。<br>
+	 * 登録後、登録対象勤怠データリストは空にする。<br>
+	 * @param registList        登録対象勤怠データリスト
+	 * @param regist            勤怠データ登録クラス
+	 * @param restRegist        休憩登録クラス
+	 * @param goOutRegist       外出登録クラス
+	 * @param transactionRegist 勤怠トランザクション登録クラス
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected void registAttendanceSelf(List<AttendanceDtoInterface> registList, AttendanceRegistBeanInterface regist,
+			RestRegistBeanInterface restRegist, GoOutRegistBeanInterface goOutRegist,
+			AttendanceTransactionRegistBeanInterface transactionRegist) throws MospException {
+		// エラー確認
+		if (mospParams.hasErrorMessage() || registList.isEmpty()) {
+			return;
+		}
+		// 休憩一括削除
+		restRegist.delete(registList);
+		// 外出等一括削除
+		goOutRegist.delete(registList);
+		// 勤怠データ一括登録
+		regist.regist(registList);
+		// エラー確認
+		if (mospParams.hasErrorMessage()) {
+			return;
+		}
+		for (AttendanceDtoInterface attendanceDto : registList) {
 			// 勤怠トランザクション登録
 			transactionRegist.regist(attendanceDto);
 		}
+		registList.clear();
+	}
+	
+	/**
+	 * 勤務日に対応する勤怠一覧登録クラスを取得する。<br>
+	 * 勤務日毎に一度だけ生成し、勤怠一覧登録クラス群に保持する。<br>
+	 * @param listRegistMap 勤怠一覧登録クラス群(キー：勤務日)
+	 * @param workDate      勤務日
+	 * @return 勤怠一覧登録クラス
+	 * @throws MospException インスタンスの取得に失敗した場合
+	 */
+	protected AttendanceListRegistBeanInterface getAttendanceListRegist(
+			Map<Date, AttendanceListRegistBeanInterface> listRegistMap, Date workDate) throws MospException {
+		AttendanceListRegistBeanInterface listRegist = listRegistMap.get(workDate);
+		if (listRegist == null) {
+			listRegist = time.attendanceListRegist(workDate);
+			listRegistMap.put(workDate, listRegist);
+		}
+		return listRegist;
+	}
+	
+	/**
+	 * インポート時にまとめて登録する件数を取得する。<br>
+	 * @return インポート時にまとめて登録する件数
+	 */
+	protected int getImportChunkSize() {
+		return Math.max(1, mospParams.getApplicationProperty(TimeConst.APP_IMPORT_CHUNK_SIZE, 1000));
 	}
 	
 	/**
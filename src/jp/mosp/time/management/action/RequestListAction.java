@@ -25,6 +25,7 @@ import java.util.Set;
 import jp.mosp.framework.base.BaseDtoInterface;
 import jp.mosp.framework.base.BaseVo;
 import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.PageCursor;
 import jp.mosp.framework.property.MospProperties;
 import jp.mosp.framework.utils.DateUtility;
 import jp.mosp.platform.bean.human.HumanSearchBeanInterface;
@@ -215,26 +216,60 @@ public class RequestListAction extends TimeSettingAction {
 		if (mospParams.hasErrorMessage()) {
 			return;
 		}
-		// 申請情報検索条件取得(ログインユーザ個人ID)
+		// 申請情報検索条件取得(ログインユーザ個人ID及び申請者個人IDセット)
 		String personalId = mospParams.getUser().getPersonalId();
-		// 申請情報取得
-		List<ManagementRequestListDtoInterface> list = timeReference().approvalInfo().getEffectiveList(personalId,
-				getFromDate(), getToDate(), getFunctionCodeSet(), vo.getPltSearchState(), getConditionIdSet(),
-				getSubordinateIdSet());
-		// 検索結果リスト設定
-		vo.setList(list);
+		Set<String> conditionIdSet = getConditionIdSet();
+		Set<String> subordinateIdSet = getSubordinateIdSet();
 		// デフォルトソートキー及びソート順設定
 		vo.setComparatorName(ManagementRequestRequestDateComparator.class.getName());
 		vo.setAscending(false);
-		// ソート
-		sort();
+		// 頁操作用カーソル準備(件数はここでのみ算出)
+		PageCursor cursor = new PageCursor(vo.getComparatorName(), vo.isAscending(), vo.getDataPerPage());
+		cursor.setCount(timeReference().approvalInfo().getEffectiveCount(personalId, getFromDate(), getToDate(),
+				getFunctionCodeSet(), vo.getPltSearchState(), conditionIdSet, subordinateIdSet));
+		vo.setPageCursor(cursor);
+		// 1頁目を検索
+		searchPage(1, conditionIdSet, subordinateIdSet);
 		// 検索結果確認
-		if (list.isEmpty()) {
+		if (vo.getList().isEmpty()) {
 			// 検索結果無しメッセージ設定
 			addNoSearchResultMessage();
 		}
 	}
 	
+	/**
+	 * 頁操作用カーソルを用いて、対象頁を検索しVOに設定する。<br>
+	 * 検索条件は、VOの検索条件とする。<br>
+	 * @param page 対象頁番号
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected void searchPage(int page) throws MospException {
+		searchPage(page, getConditionIdSet(), getSubordinateIdSet());
+	}
+	
+	/**
+	 * 頁操作用カーソルを用いて、対象頁を検索しVOに設定する。<br>
+	 * @param page             対象頁番号
+	 * @param conditionIdSet   検索条件個人IDセット
+	 * @param subordinateIdSet 部下個人IDセット
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected void searchPage(int page, Set<String> conditionIdSet, Set<String> subordinateIdSet)
+			throws MospException {
+		// VO準備
+		RequestListVo vo = (RequestListVo)mospParams.getVo();
+		// 申請情報検索条件取得(ログインユーザ個人ID)
+		String personalId = mospParams.getUser().getPersonalId();
+		// 対象頁の申請情報取得
+		vo.setSelectIndex(String.valueOf(page));
+		List<ManagementRequestListDtoInterface> list = timeReference().approvalInfo().getEffectiveList(personalId,
+				getFromDate(), getToDate(), getFunctionCodeSet(), vo.getPltSearchState(), conditionIdSet,
+				subordinateIdSet, vo.getPageCursor(), page);
+		// 検索結果設定(表示中の頁のみ)
+		vo.setList(list);
+		setVoList(list);
+	}
+	
 	/**
 	 * 検索条件個人IDセットを取得する。<br>
 	 * @return 検索条件個人IDセット
@@ -372,8 +407,9 @@ public class RequestListAction extends TimeSettingAction {
 	/**
 	 * ワークフロー番号をMosP処理情報に設定し、
 	 * 連続実行コマンドを設定する。<br>
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
 	 */
-	protected void transfer() {
+	protected void transfer() throws MospException {
 		// VO準備
 		RequestListVo vo = (RequestListVo)mospParams.getVo();
 		// MosP処理情報に対象ワークフローを設定
@@ -385,26 +421,72 @@ public class RequestListAction extends TimeSettingAction {
 			// 承認履歴画面へ遷移(連続実行コマンド設定)
 			mospParams.setNextCommand(vo.getAryHistoryCmd(getTransferredIndex()));
 		} else if (actionName.equals(ApprovalCardAction.class.getName())) {
-			mospParams.addGeneralParam(TimeConst.PRM_ROLL_ARRAY, getArray());
+			// 前後の申請への遷移用に頁を跨いだ一覧を設定
+			mospParams.addGeneralParam(TimeConst.PRM_ROLL_ARRAY, getRollArray());
 			// 承認管理詳細画面へ遷移(連続実行コマンド設定)
 			mospParams.setNextCommand(vo.getAryRequestTypeCmd(getTransferredIndex()));
 		}
 	}
 	
+	/**
+	 * 前後の申請への遷移用の一覧を取得する。<br>
+	 * 表示中の頁だけでなく、検索結果の全件を表示中の並び順で取得する。<br>
+	 * @return 前後の申請への遷移用の一覧
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected BaseDtoInterface[] getRollArray() throws MospException {
+		// VO準備
+		RequestListVo vo = (RequestListVo)mospParams.getVo();
+		// 頁操作用カーソル確認
+		if (vo.getPageCursor() == null) {
+			return getArray();
+		}
+		// 申請情報検索条件取得(ログインユーザ個人ID)
+		String personalId = mospParams.getUser().getPersonalId();
+		// 検索結果の全件を取得
+		List<ManagementRequestListDtoInterface> list = timeReference().approvalInfo().getEffectiveRollList(
+				personalId, getFromDate(), getToDate(), getFunctionCodeSet(), vo.getPltSearchState(),
+				getConditionIdSet(), getSubordinateIdSet(), vo.getPageCursor());
+		return list.toArray(new BaseDtoInterface[list.size()]);
+	}
+	
 	/**
 	 * 一覧のソート処理を行う。<br>
+	 * 並び替えた1頁目を検索する。<br>
 	 * @throws MospException 比較クラスのインスタンス生成に失敗した場合
 	 */
 	protected void sort() throws MospException {
-		setVoList(sortList(getTransferredSortKey()));
+		// VO準備
+		RequestListVo vo = (RequestListVo)mospParams.getVo();
+		// 頁操作用カーソル確認
+		if (vo.getPageCursor() == null) {
+			// 検索前はVOのリストをソート
+			setVoList(sortList(getTransferredSortKey()));
+			return;
+		}
+		// ソートキー及びソート順設定
+		setSortKey(getTransferredSortKey());
+		vo.getPageCursor().setOrder(vo.getComparatorName(), vo.isAscending());
+		// 1頁目を検索
+		searchPage(1);
 	}
 	
 	/**
 	 * 一覧のページ処理を行う。
+	 * 選択ページを検索する。<br>
 	 * @throws MospException 例外発生時
 	 */
 	protected void page() throws MospException {
-		setVoList(pageList());
+		// VO準備
+		RequestListVo vo = (RequestListVo)mospParams.getVo();
+		// 頁操作用カーソル確認
+		if (vo.getPageCursor() == null) {
+			// ページ繰り及びリスト設定
+			setVoList(pageList());
+			return;
+		}
+		// 選択ページを検索
+		searchPage(vo.getPageCursor().getValidPage(getInt(vo.getSelectIndex())));
 	}
 	
 	/**
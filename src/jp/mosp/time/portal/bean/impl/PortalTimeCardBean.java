@@ -19,6 +19,7 @@ package jp.mosp.time.portal.bean.impl;
 
 import java.sql.Connection;
 import java.util.Date;
+import java.util.List;
 
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.base.MospParams;
@@ -28,8 +29,11 @@ import jp.mosp.platform.bean.portal.impl.PortalBean;
 import jp.mosp.platform.utils.IpAddressUtility;
 import jp.mosp.time.base.TimeBean;
 import jp.mosp.time.bean.ApplicationReferenceBeanInterface;
+import jp.mosp.time.bean.TimePunchBeanInterface;
 import jp.mosp.time.bean.TimeRecordBeanInterface;
 import jp.mosp.time.bean.TimeRecordReferenceBeanInterface;
+import jp.mosp.time.constant.TimeConst;
+import jp.mosp.time.dto.settings.TimePunchDtoInterface;
 import jp.mosp.time.dto.settings.TimeRecordDtoInterface;
 import jp.mosp.time.entity.ApplicationEntity;
 import jp.mosp.time.utils.TimeMessageUtility;
@@ -155,12 +159,25 @@ public class PortalTimeCardBean extends PortalBean implements PortalBeanInterfac
 			// ポータル休憩ボタン表示設定(非表示)
 			putPortalParameter(PRM_REST_BUTTON, CODE_REST_BUTTON_DISABLE);
 		}
+		// 打刻受付状況設定
+		setPunchStatus(personalId, targetDate);
 	}
 	
 	@Override
 	public void regist() throws MospException {
 		// VOから値を受け取り変数に詰める
 		String recodeType = getPortalParameter(PRM_RECODE_TYPE);
+		// 打刻受付を利用する場合
+		TimePunchBeanInterface timePunch = getTimePunchBean();
+		if (timePunch.isQueueEnabled() && timePunch.isRecordType(recodeType)) {
+			// 打刻を受け付け(勤怠データへの反映は打刻反映実行クラスが行う)
+			TimePunchDtoInterface dto = timePunch.enqueue(mospParams.getUser().getPersonalId(), recodeType,
+					getSystemTimeAndSecond());
+			// 打刻受付メッセージ設定
+			TimeMessageUtility.addMessageTimePunchAccepted(mospParams,
+					DateUtility.getStringTimeAndSecond(dto.getRecordTime()), recodeType);
+			return;
+		}
 		// コマンド毎の処理
 		if (recodeType.equals(RECODE_START_WORK)) {
 			// 出勤
@@ -186,6 +203,40 @@ public class PortalTimeCardBean extends PortalBean implements PortalBeanInterfac
 		}
 	}
 	
+	/**
+	 * 打刻受付状況を設定する。<br>
+	 * 対象日以降に受け付けた打刻のうち、反映待の件数と、反映失敗の打刻をメッセージとして設定する。<br>
+	 * @param personalId 個人ID
+	 * @param targetDate 対象日
+	 * @throws MospException インスタンスの取得及びSQL実行に失敗した場合
+	 */
+	protected void setPunchStatus(String personalId, Date targetDate) throws MospException {
+		// 打刻受付を利用しない場合
+		TimePunchBeanInterface timePunch = getTimePunchBean();
+		if (timePunch.isQueueEnabled() == false) {
+			return;
+		}
+		// 未反映の打刻受付情報を取得
+		List<TimePunchDtoInterface> list = timePunch.getNotProcessedList(personalId, targetDate);
+		int waitingCount = 0;
+		for (TimePunchDtoInterface dto : list) {
+			// 反映待の場合
+			if (TimeConst.CODE_PUNCH_STATUS_WAITING.equals(dto.getPunchStatus())) {
+				waitingCount++;
+				continue;
+			}
+			// 反映失敗メッセージ設定
+			TimeMessageUtility.addErrorTimePunchFailed(mospParams,
+					DateUtility.getStringTimeAndSecond(dto.getRecordTime()), dto.getRecordType(),
+					dto.getPunchMessage());
+		}
+		// 反映待がある場合
+		if (waitingCount > 0) {
+			// 反映待メッセージ設定
+			TimeMessageUtility.addMessageTimePunchWaiting(mospParams, waitingCount);
+		}
+	}
+	
 	/**
 	 * 始業を打刻する。<br>
 	 * @throws MospException インスタンスの取得及びSQL実行に失敗した場合
@@ -330,6 +381,15 @@ public class PortalTimeCardBean extends PortalBean implements PortalBeanInterfac
 		return (TimeRecordBeanInterface)createBean(TimeRecordBeanInterface.class);
 	}
 	
+	/**
+	 * 打刻受付クラスを取得する。<br>
+	 * @return 打刻受付クラス
+	 * @throws MospException インスタンスの取得に失敗した場合
+	 */
+	protected TimePunchBeanInterface getTimePunchBean() throws MospException {
+		return (TimePunchBeanInterface)createBean(TimePunchBeanInterface.class);
+	}
+	
 	/**
 	 * 打刻データ参照クラスを取得する。<br>
 	 * @return 打刻データ参照クラス
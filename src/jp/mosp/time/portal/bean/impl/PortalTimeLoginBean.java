@@ -20,12 +20,15 @@ package jp.mosp.time.portal.bean.impl;
 import java.sql.Connection;
 import java.sql.SQLException;
 
+import jp.mosp.framework.base.ConnectionStateTracker;
 import jp.mosp.framework.base.MospException;
 import jp.mosp.framework.base.MospParams;
 import jp.mosp.framework.utils.DateUtility;
 import jp.mosp.platform.bean.portal.PortalBeanInterface;
 import jp.mosp.platform.bean.portal.impl.PortalBean;
+import jp.mosp.time.bean.TimePunchBeanInterface;
 import jp.mosp.time.bean.TimeRecordBeanInterface;
+import jp.mosp.time.dto.settings.TimePunchDtoInterface;
 import jp.mosp.time.utils.TimeMessageUtility;
 
 /**
@@ -48,6 +51,11 @@ public class PortalTimeLoginBean extends PortalBean implements PortalBeanInterfa
 	 */
 	TimeRecordBeanInterface		timeRecord;
 	
+	/**
+	 * 打刻受付クラス。
+	 */
+	TimePunchBeanInterface		timePunch;
+	
 	
 	/**
 	 * {@link PortalBean#PortalBean()}を実行する。<br>
@@ -69,6 +77,7 @@ public class PortalTimeLoginBean extends PortalBean implements PortalBeanInterfa
 	public void initBean() throws MospException {
 		// Bean取得
 		timeRecord = (TimeRecordBeanInterface)createBean(TimeRecordBeanInterface.class);
+		timePunch = (TimePunchBeanInterface)createBean(TimePunchBeanInterface.class);
 	}
 	
 	@Override
@@ -80,7 +89,10 @@ public class PortalTimeLoginBean extends PortalBean implements PortalBeanInterfa
 			return;
 		}
 		// コマンド毎の処理
-		if (recodeType.equals(PortalTimeCardBean.RECODE_START_WORK)) {
+		if (recodeType.equals(PortalTimeCardBean.RECODE_START_WORK) && timePunch.isQueueEnabled()) {
+			// 出勤(打刻受付)
+			acceptStartWork();
+		} else if (recodeType.equals(PortalTimeCardBean.RECODE_START_WORK)) {
 			// 出勤	
 			recordStartWork();
 			// 処理結果確認
@@ -109,6 +121,20 @@ public class PortalTimeLoginBean extends PortalBean implements PortalBeanInterfa
 		TimeMessageUtility.addMessageRecordStartWork(mospParams, recordTime);
 	}
 	
+	/**
+	 * 始業の打刻を受け付ける。<br>
+	 * 勤怠データへの反映は、打刻反映実行クラスが行う。<br>
+	 * @throws MospException インスタンスの取得及びSQL実行に失敗した場合
+	 */
+	protected void acceptStartWork() throws MospException {
+		// 打刻受付
+		TimePunchDtoInterface dto = timePunch.enqueue(mospParams.getUser().getPersonalId(),
+				PortalTimeCardBean.RECODE_START_WORK, getSystemTimeAndSecond());
+		// 打刻受付メッセージ設定
+		TimeMessageUtility.addMessageTimePunchAccepted(mospParams,
+				DateUtility.getStringTimeAndSecond(dto.getRecordTime()), PortalTimeCardBean.RECODE_START_WORK);
+	}
+	
 	@Override
 	public void regist() throws MospException {
 		// 処理なし
@@ -127,6 +153,8 @@ public class PortalTimeLoginBean extends PortalBean implements PortalBeanInterfa
 			}
 			// コミット
 			connection.commit();
+			// トランザクション終了通知
+			ConnectionStateTracker.transactionEnded(connection);
 		} catch (SQLException e) {
 			throw new MospException(e);
 		}
@@ -22,6 +22,7 @@ import java.util.List;
 
 import jp.mosp.framework.base.BaseVo;
 import jp.mosp.framework.base.MospException;
+import jp.mosp.orangesignal.OrangeSignalStreamParams;
 import jp.mosp.orangesignal.OrangeSignalUtility;
 import jp.mosp.platform.constant.PlatformFileConst;
 import jp.mosp.platform.constant.PlatformMessageConst;
@@ -29,6 +30,9 @@ import jp.mosp.platform.dto.file.ExportDtoInterface;
 import jp.mosp.platform.utils.MonthUtility;
 import jp.mosp.time.base.TimeAction;
 import jp.mosp.time.bean.ExportTableReferenceBeanInterface;
+import jp.mosp.time.bean.impl.ExportTableCursor;
+import jp.mosp.time.bean.impl.TimeExportJobBean;
+import jp.mosp.time.constant.TimeConst;
 import jp.mosp.time.constant.TimeFileConst;
 import jp.mosp.time.dto.settings.CutoffDtoInterface;
 import jp.mosp.time.file.vo.TimeExportListVo;
@@ -110,6 +114,22 @@ public class TimeExportAction extends TimeAction {
 		if (addGeneralExportTimeType(dto.getExportTable(), startYear, startMonth, endYear, endMonth)) {
 			return;
 		}
+		// ジョブ実行確認
+		if (mospParams.getApplicationPropertyBool(TimeConst.APP_EXPORT_ASYNC)) {
+			// エクスポートをジョブとして受付
+			submitExport(startYear, startMonth, endYear, endMonth);
+			return;
+		}
+		// ストリーミング出力確認
+		if (mospParams.getApplicationPropertyBool(TimeConst.APP_EXPORT_STREAMING)) {
+			// CSV行カーソルをMosP処理情報に設定(検索はファイル送出時に行う)
+			mospParams.setFile(new OrangeSignalStreamParams(new ExportTableCursor(mospParams, vo.getRadSelect(),
+					startYear, startMonth, endYear, endMonth, vo.getPltCutoff(), vo.getPltWorkPlace(),
+					vo.getPltEmployment(), vo.getPltSection(), vo.getPltPosition())));
+			// 送出ファイル名をMosP処理情報に設定
+			setFileName();
+			return;
+		}
 		// 検索クラス取得
 		ExportTableReferenceBeanInterface exportTable = timeReference().exportTable();
 		exportTable.setExportCode(vo.getRadSelect());
@@ -145,6 +165,38 @@ public class TimeExportAction extends TimeAction {
 		setFileName();
 	}
 	
+	/**
+	 * エクスポートをジョブとして受け付ける。<br>
+	 * エクスポート結果は、ジョブの結果ファイルとして出力する。<br>
+	 * @param startYear  開始年
+	 * @param startMonth 開始月
+	 * @param endYear    終了年
+	 * @param endMonth   終了月
+	 * @throws MospException インスタンスの取得或いはSQL実行に失敗した場合
+	 */
+	protected void submitExport(int startYear, int startMonth, int endYear, int endMonth) throws MospException {
+		// VO取得
+		TimeExportListVo vo = (TimeExportListVo)mospParams.getVo();
+		// 送出ファイル名取得(締日の確認を含む)
+		setFileName();
+		if (mospParams.hasErrorMessage()) {
+			return;
+		}
+		String fileName = mospParams.getFileName();
+		// ジョブ名取得
+		String jobName = mospParams.getName("Export");
+		// ジョブ登録(送出ファイル名は空にならないため末尾に指定)
+		long jobId = platform().jobRegist().submit(jobName, TimeExportJobBean.class, vo.getRadSelect(),
+				String.valueOf(startYear), String.valueOf(startMonth), String.valueOf(endYear),
+				String.valueOf(endMonth), vo.getPltCutoff(), vo.getPltWorkPlace(), vo.getPltEmployment(),
+				vo.getPltSection(), vo.getPltPosition(), fileName);
+		if (mospParams.hasErrorMessage()) {
+			return;
+		}
+		// 受付メッセージ設定(画面表示時にジョブの状況を表示)
+		addJobAcceptedMessage(jobName, jobId);
+	}
+	
 	/**
 	 * 送出ファイル名をMosP処理情報に設定する。<br>
 	 * @throws MospException 例外発生時
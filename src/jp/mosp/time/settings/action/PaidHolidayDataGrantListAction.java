@@ -18,6 +18,7 @@
 package jp.mosp.time.settings.action;
 
 import java.text.Format;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
@@ -27,6 +28,7 @@ import java.util.Set;
 import jp.mosp.framework.base.BaseDtoInterface;
 import jp.mosp.framework.base.BaseVo;
 import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.utils.DateUtility;
 import jp.mosp.platform.bean.system.EmploymentContractReferenceBeanInterface;
 import jp.mosp.platform.bean.system.PositionReferenceBeanInterface;
 import jp.mosp.platform.bean.system.SectionReferenceBeanInterface;
@@ -41,6 +43,8 @@ import jp.mosp.time.bean.PaidHolidayDataGrantBeanInterface;
 import jp.mosp.time.bean.PaidHolidayDataSearchBeanInterface;
 import jp.mosp.time.bean.PaidHolidayReferenceBeanInterface;
 import jp.mosp.time.bean.StockHolidayDataGrantBeanInterface;
+import jp.mosp.time.bean.impl.HolidayDataGrantJobBean;
+import jp.mosp.time.constant.TimeConst;
 import jp.mosp.time.dto.settings.PaidHolidayDataGrantListDtoInterface;
 import jp.mosp.time.settings.vo.PaidHolidayDataGrantListVo;
 
@@ -329,6 +333,23 @@ public class PaidHolidayDataGrantListAction extends TimeAction {
 	protected void batchUpdate() throws MospException {
 		// VO取得
 		PaidHolidayDataGrantListVo vo = (PaidHolidayDataGrantListVo)mospParams.getVo();
+		// 一括付与をジョブとして実行する場合
+		if (mospParams.getApplicationPropertyBool(TimeConst.APP_HOLIDAY_GRANT_ASYNC)) {
+			// ジョブパラメータ準備
+			List<String> parameterList = new ArrayList<String>();
+			parameterList.add(HolidayDataGrantJobBean.PRM_PAID);
+			for (String index : vo.getCkbSelect()) {
+				int i = Integer.parseInt(index);
+				// 達成である場合
+				if (mospParams.getName("Accomplish").equals(vo.getAryLblAccomplish()[i])) {
+					parameterList.add(vo.getAryPersonalId()[i]);
+					parameterList.add(vo.getAryLblGrantDate()[i]);
+				}
+			}
+			// 一括付与ジョブ受付
+			submitGrant(mospParams.getName("PaidVacation", "Giving"), parameterList);
+			return;
+		}
 		PaidHolidayDataGrantBeanInterface paidHolidayDataGrant = time().paidHolidayDataGrant();
 		for (String index : vo.getCkbSelect()) {
 			int i = Integer.parseInt(index);
@@ -460,6 +481,22 @@ public class PaidHolidayDataGrantListAction extends TimeAction {
 	protected void otherBatchUpdate1() throws MospException {
 		// VO取得
 		PaidHolidayDataGrantListVo vo = (PaidHolidayDataGrantListVo)mospParams.getVo();
+		// 一括付与をジョブとして実行する場合
+		if (mospParams.getApplicationPropertyBool(TimeConst.APP_HOLIDAY_GRANT_ASYNC)) {
+			// ジョブパラメータ準備
+			List<String> parameterList = new ArrayList<String>();
+			parameterList.add(HolidayDataGrantJobBean.PRM_PAID);
+			for (int i = 0; i < vo.getAryPersonalId().length; i++) {
+				// 達成である場合
+				if (mospParams.getName("Accomplish").equals(vo.getAryLblAccomplish()[i])) {
+					parameterList.add(vo.getAryPersonalId()[i]);
+					parameterList.add(vo.getAryLblGrantDate()[i]);
+				}
+			}
+			// 一括付与ジョブ受付
+			submitGrant(mospParams.getName("PaidVacation", "Giving"), parameterList);
+			return;
+		}
 		PaidHolidayDataGrantBeanInterface paidHolidayDataGrant = time().paidHolidayDataGrant();
 		// 検索対象個人ID
 		Set<String> set = new HashSet<String>();
@@ -497,8 +534,21 @@ public class PaidHolidayDataGrantListAction extends TimeAction {
 	protected void otherBatchUpdate2() throws MospException {
 		// VO取得
 		PaidHolidayDataGrantListVo vo = (PaidHolidayDataGrantListVo)mospParams.getVo();
-		StockHolidayDataGrantBeanInterface stockHolidayDataGrant = time().stockHolidayDataGrant();
 		Date searchActivateDate = getSearchActivateDate();
+		// 一括付与をジョブとして実行する場合
+		if (mospParams.getApplicationPropertyBool(TimeConst.APP_HOLIDAY_GRANT_ASYNC)) {
+			// ジョブパラメータ準備
+			List<String> parameterList = new ArrayList<String>();
+			parameterList.add(HolidayDataGrantJobBean.PRM_STOCK);
+			for (String personalId : vo.getAryPersonalId()) {
+				parameterList.add(personalId);
+				parameterList.add(DateUtility.getStringDate(searchActivateDate));
+			}
+			// 一括付与ジョブ受付
+			submitGrant(mospParams.getName("Stock", "Vacation", "Giving"), parameterList);
+			return;
+		}
+		StockHolidayDataGrantBeanInterface stockHolidayDataGrant = time().stockHolidayDataGrant();
 		for (String personalId : vo.getAryPersonalId()) {
 			// 付与
 			stockHolidayDataGrant.grant(personalId, searchActivateDate);
@@ -516,6 +566,27 @@ public class PaidHolidayDataGrantListAction extends TimeAction {
 		search();
 	}
 	
+	/**
+	 * 休暇一括付与をジョブとして受け付ける。<br>
+	 * ジョブの終了を待たずに、受付メッセージを設定して検索する。<br>
+	 * @param jobName       ジョブ名称
+	 * @param parameterList ジョブパラメータリスト
+	 * @throws MospException インスタンスの取得、或いはSQL実行に失敗した場合
+	 */
+	protected void submitGrant(String jobName, List<String> parameterList) throws MospException {
+		// ジョブ受付
+		long jobId = platform().jobRegist().submit(jobName, HolidayDataGrantJobBean.class,
+				parameterList.toArray(new String[parameterList.size()]));
+		// 処理結果確認
+		if (mospParams.hasErrorMessage()) {
+			return;
+		}
+		// 受付メッセージ設定(画面表示時にジョブの状況を表示)
+		addJobAcceptedMessage(jobName, jobId);
+		// 検索
+		search();
+	}
+	
 	/**
 	 * 勤怠トランザクション一括登録処理を行う。<br>
 	 * 検索結果全員に引継ぎデータを作成する。<br>
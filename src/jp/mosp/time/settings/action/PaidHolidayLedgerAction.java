@@ -0,0 +1,98 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.settings.action;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.constant.ExceptionConst;
+import jp.mosp.framework.exporter.TextContents;
+import jp.mosp.framework.utils.MospUtility;
+import jp.mosp.platform.constant.PlatformConst;
+import jp.mosp.time.base.TimeAction;
+import jp.mosp.time.bean.impl.PaidHolidayLedgerJobBean;
+
+/**
+ * 有給休暇台帳の再作成或いは確認を、ジョブとして受け付ける。<br>
+ * <br>
+ * リクエストパラメータ{@link PlatformConst#PRM_TRANSFERRED_CODE}で処理を指定する
+ * ({@link PaidHolidayLedgerJobBean#PRM_REBUILD}：再作成(既定)、{@link PaidHolidayLedgerJobBean#PRM_VERIFY}：確認)。<br>
+ * 受け付けたジョブIDをテキスト形式で出力する。
+ * ジョブの状況及び結果ファイルは、PF9130及びPF9131で参照する。<br>
+ * スーパーユーザのみが利用できる。<br>
+ * <br>
+ * 有給休暇台帳を削除して作り直すため、他の登録処理と同様に、
+ * POSTで処理シーケンスと共に送信された場合のみ受け付ける。<br>
+ */
+public class PaidHolidayLedgerAction extends TimeAction {
+	
+	/**
+	 * ジョブ受付コマンド。<br>
+	 */
+	public static final String		CMD_SUBMIT	= "TM9910";
+	
+	/**
+	 * 出力ファイル名。<br>
+	 */
+	protected static final String	FILE_JOB	= "paidHolidayLedgerJob.txt";
+	
+	
+	/**
+	 * {@link TimeAction#TimeAction()}を実行する。<br>
+	 */
+	public PaidHolidayLedgerAction() {
+		super();
+	}
+	
+	@Override
+	public void action() throws MospException {
+		if (mospParams.getCommand().equals(CMD_SUBMIT)) {
+			// ジョブ受付
+			submit();
+		} else {
+			throwInvalidCommandException();
+		}
+	}
+	
+	/**
+	 * 有給休暇台帳ジョブを受け付け、ジョブIDをテキスト形式で出力する。<br>
+	 * @throws MospException スーパーユーザでない場合、或いはジョブの受付に失敗した場合
+	 */
+	protected void submit() throws MospException {
+		// スーパーユーザ確認
+		if (mospParams.getUserRole() == null || mospParams.getUserRole().isSuper() == false) {
+			mospParams.addErrorMessage(ExceptionConst.EX_NO_AUTHORITY);
+			mospParams.setErrorViewUrl();
+			throw new MospException(ExceptionConst.EX_NO_AUTHORITY);
+		}
+		// 処理取得
+		String parameter = PaidHolidayLedgerJobBean.PRM_REBUILD;
+		if (PaidHolidayLedgerJobBean.PRM_VERIFY.equals(getTransferredCode())) {
+			parameter = PaidHolidayLedgerJobBean.PRM_VERIFY;
+		}
+		// ジョブ受付
+		long jobId = platform().jobRegist().submit(mospParams.getName("PaidVacation"),
+				PaidHolidayLedgerJobBean.class, parameter);
+		// 処理結果確認
+		if (mospParams.hasErrorMessage()) {
+			return;
+		}
+		// MosP処理情報に設定
+		mospParams.setFile(new TextContents(MospUtility.CHARACTER_ENCODING, String.valueOf(jobId)));
+		mospParams.setFileName(FILE_JOB);
+	}
+	
+}
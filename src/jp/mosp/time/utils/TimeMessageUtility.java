@@ -25,6 +25,7 @@ import jp.mosp.framework.utils.MessageUtility;
 import jp.mosp.platform.constant.PlatformMessageConst;
 import jp.mosp.time.constant.TimeMessageConst;
 import jp.mosp.time.dto.settings.CutoffErrorListDtoInterface;
+import jp.mosp.time.portal.bean.impl.PortalTimeCardBean;
 
 /**
  * メッセージに関するユーティリティクラス。<br>
@@ -238,6 +239,40 @@ public class TimeMessageUtility {
 				getNameRecordTime(mospParams));
 	}
 	
+	/**
+	 * %1%に%2%の打刻を受け付けました。勤怠への反映には時間が掛かる場合があります。<br>
+	 * @param mospParams MosP処理情報
+	 * @param recordTime 打刻時刻
+	 * @param recordType 打刻区分
+	 */
+	public static void addMessageTimePunchAccepted(MospParams mospParams, String recordTime, String recordType) {
+		mospParams.addMessage(TimeMessageConst.MSG_TIME_PUNCH_ACCEPTED, recordTime,
+				getNameRecordType(mospParams, recordType), getNameRecordTime(mospParams));
+	}
+	
+	/**
+	 * 勤怠に反映されていない打刻が%1%件あります。<br>
+	 * @param mospParams MosP処理情報
+	 * @param count      件数
+	 */
+	public static void addMessageTimePunchWaiting(MospParams mospParams, int count) {
+		mospParams.addMessage(TimeMessageConst.MSG_TIME_PUNCH_WAITING, getNameRecordTime(mospParams),
+				String.valueOf(count));
+	}
+	
+	/**
+	 * %1%の%2%を勤怠に反映できませんでした。%3%<br>
+	 * @param mospParams MosP処理情報
+	 * @param recordTime 打刻時刻
+	 * @param recordType 打刻区分
+	 * @param message    反映できなかった理由
+	 */
+	public static void addErrorTimePunchFailed(MospParams mospParams, String recordTime, String recordType,
+			String message) {
+		mospParams.addErrorMessage(TimeMessageConst.MSG_TIME_PUNCH_FAILED, recordTime,
+				getNameRecordType(mospParams, recordType), message);
+	}
+	
 	/**
 	 * 終業時刻を更新しました。<br>
 	 * @param mospParams MosP処理情報
@@ -682,6 +717,37 @@ public class TimeMessageUtility {
 		return mospParams.getName("GoingWork");
 	}
 	
+	/**
+	 * 打刻区分の名称を取得する。<br>
+	 * @param mospParams MosP処理情報
+	 * @param recordType 打刻区分
+	 * @return 打刻区分の名称
+	 */
+	public static String getNameRecordType(MospParams mospParams, String recordType) {
+		if (PortalTimeCardBean.RECODE_START_WORK.equals(recordType)) {
+			return getNameStartWork(mospParams);
+		}
+		if (PortalTimeCardBean.RECODE_END_WORK.equals(recordType)) {
+			return getNameEndWork(mospParams);
+		}
+		if (PortalTimeCardBean.RECODE_START_REST.equals(recordType)) {
+			return getNameStartRest(mospParams);
+		}
+		if (PortalTimeCardBean.RECODE_END_REST.equals(recordType)) {
+			return getNameEndRest(mospParams);
+		}
+		if (PortalTimeCardBean.RECODE_REGULAR_END.equals(recordType)) {
+			return getNameRegularEnd(mospParams);
+		}
+		if (PortalTimeCardBean.RECODE_OVER_END.equals(recordType)) {
+			return getNameOverEnd(mospParams);
+		}
+		if (PortalTimeCardBean.RECODE_REGULAR_WORK.equals(recordType)) {
+			return getNameRegularWork(mospParams);
+		}
+		return recordType;
+	}
+	
 	/**
 	 * 休憩1名称を取得する。<br>
 	 * @param mospParams MosP処理情報
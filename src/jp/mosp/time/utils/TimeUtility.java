@@ -554,4 +554,19 @@ public class TimeUtility {
 		return getRoundHalfUp2(dotMinutes);
 	}
 	
+	/**
+	 * 勤怠関連情報のキー(個人ID、勤務日、勤務回数)を表す文字列を取得する。<br>
+	 * 一括登録時等に、勤怠関連情報をマップで扱う場合に用いる。<br>
+	 * @param personalId 個人ID
+	 * @param workDate   勤務日
+	 * @param timesWork  勤務回数
+	 * @return キー文字列
+	 */
+	public static String getAttendanceKey(String personalId, Date workDate, int timesWork) {
+		StringBuffer sb = new StringBuffer(personalId);
+		sb.append(':').append(workDate.getTime());
+		sb.append(':').append(timesWork);
+		return sb.toString();
+	}
+	
 }
@@ -0,0 +1,300 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ *
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.addon.ldap.bean.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+
+import javax.naming.NamingException;
+import javax.naming.ldap.LdapContext;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
+import com.unboundid.ldap.listener.InMemoryListenerConfig;
+import com.unboundid.ldap.sdk.Modification;
+import com.unboundid.ldap.sdk.ModificationType;
+
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.property.MospProperties;
+import jp.mosp.test.InMemoryDatabase;
+
+/**
+ * {@link LdapAuthBean}の認証を、インメモリLDAPサーバに対して確認する。<br>
+ * <br>
+ * LDAPコンテキストプールの貸出枠を使い切った場合の取得、応答しないLDAPプロバイダがある場合の認証、
+ * パスワードが変更された場合の認証キャッシュの扱いを確認する。<br>
+ */
+public class LdapAuthBeanTest {
+	
+	/**
+	 * ベースDN。<br>
+	 */
+	protected static final String		BASE_DN			= "dc=mosp,dc=jp";
+	
+	/**
+	 * LDAPディレクトリ名。<br>
+	 */
+	protected static final String		DIR_NAME		= "uid=%,ou=People," + BASE_DN;
+	
+	/**
+	 * ユーザID。<br>
+	 */
+	protected static final String		USER_ID			= "ldapuser";
+	
+	/**
+	 * パスワード。<br>
+	 */
+	protected static final String		PASSWORD		= "password1";
+	
+	/**
+	 * 変更後のパスワード。<br>
+	 */
+	protected static final String		NEW_PASSWORD	= "password2";
+	
+	/**
+	 * LDAPコンテキストプール最大貸出数。<br>
+	 */
+	protected static final int			MAX_TOTAL		= 2;
+	
+	/**
+	 * LDAPコンテキストプール最大待機時間(ミリ秒)。<br>
+	 */
+	protected static final long			MAX_WAIT		= 500L;
+	
+	/**
+	 * LDAP読込タイムアウト(ミリ秒)。<br>
+	 */
+	protected static final long			READ_TIMEOUT	= 3000L;
+	
+	/**
+	 * インメモリLDAPサーバ。<br>
+	 */
+	protected InMemoryDirectoryServer	server;
+	
+	/**
+	 * 応答しないLDAPプロバイダ(接続は受け付けるが読み込まない)。<br>
+	 */
+	protected ServerSocket				deadProvider;
+	
+	/**
+	 * MosP処理情報。<br>
+	 */
+	protected MospParams				mospParams;
+	
+	
+	/**
+	 * インメモリLDAPサーバを起動し、ユーザを登録する。<br>
+	 * @throws Exception 起動或いは登録に失敗した場合
+	 */
+	@Before
+	public void setUp() throws Exception {
+		InMemoryDirectoryServerConfig config = new InMemoryDirectoryServerConfig(BASE_DN);
+		config.setListenerConfigs(InMemoryListenerConfig.createLDAPConfig("default", 0));
+		server = new InMemoryDirectoryServer(config);
+		server.add("dn: " + BASE_DN, "objectClass: top", "objectClass: domain", "dc: mosp");
+		server.add("dn: ou=People," + BASE_DN, "objectClass: top", "objectClass: organizationalUnit", "ou: People");
+		server.add("dn: " + getDn(USER_ID), "objectClass: inetOrgPerson", "uid: " + USER_ID, "cn: " + USER_ID,
+				"sn: " + USER_ID, "userPassword: " + PASSWORD);
+		server.startListening();
+		deadProvider = new ServerSocket(0, 50, InetAddress.getByName("localhost"));
+		mospParams = InMemoryDatabase.createMospParams("", USER_ID);
+		MospProperties properties = mospParams.getProperties();
+		properties.setApplicationProperty(LdapAuthBean.APP_LDAP_PROVIDER_URL, getProviderUrl());
+		properties.setApplicationProperty(LdapAuthBean.APP_LDAP_DIR_NAME, DIR_NAME);
+		properties.setApplicationProperty(LdapAuthBean.APP_SUFFIX_USER_ID, "");
+		properties.setApplicationProperty(LdapContextPool.APP_LDAP_READ_TIMEOUT, String.valueOf(READ_TIMEOUT));
+		properties.setApplicationProperty(LdapContextPool.APP_LDAP_POOL_MAX_TOTAL, String.valueOf(MAX_TOTAL));
+		properties.setApplicationProperty(LdapContextPool.APP_LDAP_POOL_MAX_WAIT, String.valueOf(MAX_WAIT));
+		properties.setApplicationProperty(LdapAuthCache.APP_LDAP_AUTH_CACHE_TTL, "60");
+		LdapAuthCache.remove(USER_ID);
+	}
+	
+	/**
+	 * インメモリLDAPサーバを停止し、LDAPコンテキストプール及び認証キャッシュを破棄する。<br>
+	 * @throws Exception 停止に失敗した場合
+	 */
+	@After
+	public void tearDown() throws Exception {
+		LdapContextPool.POOLS.clear();
+		LdapAuthCache.remove(USER_ID);
+		deadProvider.close();
+		server.shutDown(true);
+	}
+	
+	/**
+	 * パスワードが妥当な場合にのみ認証されることを確認する。<br>
+	 * @throws Exception 認証処理に失敗した場合
+	 */
+	@Test
+	public void testAuthenticate() throws Exception {
+		assertTrue(authenticate(USER_ID, PASSWORD));
+		LdapAuthCache.remove(USER_ID);
+		assertFalse(authenticate(USER_ID, NEW_PASSWORD));
+		assertFalse(authenticate(USER_ID, ""));
+		assertFalse(authenticate("unknown", PASSWORD));
+		// 認証毎に接続せず、プールしたコンテキストを用いる
+		LdapContextPool pool = LdapContextPool.getPool(mospParams, getProviderUrl());
+		assertEquals(1, pool.getIdleCount());
+		assertEquals(MAX_TOTAL, pool.getAvailableCount());
+	}
+	
+	/**
+	 * LDAPコンテキストプールの貸出枠を使い切った場合、
+	 * 最大待機時間まで返却を待ち、返却されなければ取得に失敗することを確認する。<br>
+	 * 貸出枠を使い切っている間の認証は、待たされ続けずに失敗することを確認する。<br>
+	 * @throws Exception 取得或いは認証処理に失敗した場合
+	 */
+	@Test
+	public void testPoolExhausted() throws Exception {
+		final LdapContextPool pool = LdapContextPool.getPool(mospParams, getProviderUrl());
+		final LdapContext first = pool.getContext();
+		LdapContext second = pool.getContext();
+		assertEquals(0, pool.getAvailableCount());
+		// 返却されない場合は最大待機時間後に失敗
+		long start = System.currentTimeMillis();
+		try {
+			pool.getContext();
+			fail();
+		} catch (NamingException e) {
+			assertTrue(System.currentTimeMillis() - start >= MAX_WAIT - 50L);
+		}
+		assertFalse(authenticate(USER_ID, PASSWORD));
+		assertEquals(0, pool.getAvailableCount());
+		// 待機中に返却された場合は返却されたものを取得
+		Thread thread = new Thread() {
+			
+			@Override
+			public void run() {
+				try {
+					Thread.sleep(MAX_WAIT / 5);
+				} catch (InterruptedException e) {
+					return;
+				}
+				pool.returnContext(first);
+			}
+		};
+		thread.start();
+		LdapContext third = pool.getContext();
+		thread.join();
+		assertSame(first, third);
+		// 返却後は認証可能
+		pool.returnContext(second);
+		pool.returnContext(third);
+		assertEquals(MAX_TOTAL, pool.getAvailableCount());
+		assertEquals(MAX_TOTAL, pool.getIdleCount());
+		assertTrue(authenticate(USER_ID, PASSWORD));
+		assertEquals(MAX_TOTAL, pool.getAvailableCount());
+	}
+	
+	/**
+	 * 応答しないLDAPプロバイダがあっても、他のLDAPプロバイダで認証できれば待たされないことを確認する。<br>
+	 * 全てのLDAPプロバイダで認証できない場合は、読込タイムアウト後に認証に失敗することを確認する。<br>
+	 * @throws Exception 認証処理に失敗した場合
+	 */
+	@Test
+	public void testProbeFailed() throws Exception {
+		String deadUrl = "ldap://localhost:" + deadProvider.getLocalPort();
+		mospParams.getProperties().setApplicationProperty(LdapAuthBean.APP_LDAP_PROVIDER_URL,
+				deadUrl + "," + getProviderUrl());
+		long start = System.currentTimeMillis();
+		assertTrue(authenticate(USER_ID, PASSWORD));
+		assertTrue(System.currentTimeMillis() - start < READ_TIMEOUT);
+		// 応答しないLDAPプロバイダのみの場合
+		LdapAuthCache.remove(USER_ID);
+		mospParams.getProperties().setApplicationProperty(LdapAuthBean.APP_LDAP_PROVIDER_URL, deadUrl + "," + deadUrl);
+		start = System.currentTimeMillis();
+		assertFalse(authenticate(USER_ID, PASSWORD));
+		assertTrue(System.currentTimeMillis() - start >= READ_TIMEOUT - 50L);
+		// 応答しないLDAPプロバイダのコンテキストはプールしない
+		assertEquals(0, LdapContextPool.getPool(mospParams, deadUrl).getIdleCount());
+	}
+	
+	/**
+	 * パスワードが変更された場合の認証キャッシュの扱いを確認する。<br>
+	 * 保持時間内は変更前のパスワードでも認証済となるが、変更後のパスワードで認証した後、
+	 * 或いはLDAPで認証に失敗した後は、変更前のパスワードで認証できないことを確認する。<br>
+	 * @throws Exception 認証処理に失敗した場合
+	 */
+	@Test
+	public void testCacheInvalidated() throws Exception {
+		assertTrue(authenticate(USER_ID, PASSWORD));
+		changePassword(NEW_PASSWORD);
+		// 保持時間内(LDAPに問い合わせない)
+		assertTrue(authenticate(USER_ID, PASSWORD));
+		// 変更後のパスワードで認証(キャッシュの値が一致しないためLDAPに問い合わせる)
+		assertTrue(authenticate(USER_ID, NEW_PASSWORD));
+		assertFalse(authenticate(USER_ID, PASSWORD));
+		assertTrue(authenticate(USER_ID, NEW_PASSWORD));
+		// 変更後のパスワードで認証する前に、LDAPで認証に失敗した場合
+		changePassword(PASSWORD);
+		assertTrue(authenticate(USER_ID, NEW_PASSWORD));
+		assertFalse(authenticate(USER_ID, "wrong"));
+		assertFalse(authenticate(USER_ID, NEW_PASSWORD));
+		assertTrue(authenticate(USER_ID, PASSWORD));
+	}
+	
+	/**
+	 * 認証を行う。<br>
+	 * @param userId   ユーザID
+	 * @param password パスワード
+	 * @return 認証結果(true：認証成功、false：認証失敗)
+	 * @throws Exception 認証処理に失敗した場合
+	 */
+	protected boolean authenticate(String userId, String password) throws Exception {
+		mospParams.getErrorMessageList().clear();
+		LdapAuthBean bean = new LdapAuthBean(mospParams, null);
+		bean.initBean();
+		bean.authenticate(userId, password);
+		return mospParams.hasErrorMessage() == false;
+	}
+	
+	/**
+	 * LDAPのパスワードを変更する。<br>
+	 * @param password 変更後のパスワード
+	 * @throws Exception 変更に失敗した場合
+	 */
+	protected void changePassword(String password) throws Exception {
+		server.modify(getDn(USER_ID), new Modification(ModificationType.REPLACE, "userPassword", password));
+	}
+	
+	/**
+	 * @return インメモリLDAPサーバのLDAPプロバイダURL
+	 */
+	protected String getProviderUrl() {
+		return "ldap://localhost:" + server.getListenPort();
+	}
+	
+	/**
+	 * @param userId ユーザID
+	 * @return ユーザのDN
+	 */
+	protected String getDn(String userId) {
+		return DIR_NAME.replace("%", userId);
+	}
+	
+}
@@ -0,0 +1,479 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ *
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.base;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.utils.DateUtility;
+import jp.mosp.platform.constant.PlatformConst;
+import jp.mosp.platform.dao.system.impl.PfmSectionDao;
+import jp.mosp.platform.dto.system.SectionDtoInterface;
+import jp.mosp.test.InMemoryDatabase;
+
+/**
+ * 有効終了日(valid_to_date)による有効日における最新の情報の抽出を、PostgreSQL上で確認する。<br>
+ * <br>
+ * 有効終了日はplatform.sqlのトリガ(PL/pgSQL)で更新されるため、インメモリDB(H2)では確認できない。<br>
+ * システムプロパティ{@link #PROP_PG_URL}で接続先を指定した場合にのみ実行し、指定しない場合は飛ばす。<br>
+ * (例：mvn test -Dtest=ValidToDateTest -Dmosp.test.pgUrl=jdbc:postgresql://localhost/postgres?user=postgres)<br>
+ * <br>
+ * テスト毎にスキーマを作成してplatform.sqlを実行し、テスト後にスキーマを削除する。<br>
+ * platform.sqlは有効終了日の導入({@link #MIGRATION_START})の前後に分けて実行し、
+ * 導入前に登録した履歴の埋戻しも確認する。<br>
+ */
+public class ValidToDateTest {
+	
+	/**
+	 * システムプロパティキー(PostgreSQL接続URL)。<br>
+	 */
+	public static final String		PROP_PG_URL		= "mosp.test.pgUrl";
+	
+	/**
+	 * PostgreSQLドライバ。<br>
+	 */
+	protected static final String	DRIVER			= "org.postgresql.Driver";
+	
+	/**
+	 * DDLファイル。<br>
+	 */
+	protected static final String	DDL_FILE		= "sql/platform.sql";
+	
+	/**
+	 * 有効終了日の導入の開始SQL(DDLファイル内)。<br>
+	 */
+	protected static final String	MIGRATION_START	= "CREATE OR REPLACE FUNCTION pf_update_valid_to_date";
+	
+	/**
+	 * スキーマ名の接頭辞。<br>
+	 */
+	protected static final String	SCHEMA_PREFIX	= "mosp_valid_to_";
+	
+	/**
+	 * 個人ID。<br>
+	 */
+	protected static final String	PERSONAL_ID		= "M000000001";
+	
+	/**
+	 * 人事項目区分。<br>
+	 */
+	protected static final String	ITEM_TYPE		= "test";
+	
+	/**
+	 * 所属コード数。<br>
+	 */
+	protected static final int		SECTION_COUNT	= 30;
+	
+	/**
+	 * 履歴を登録する期間(日数)。<br>
+	 */
+	protected static final int		DAYS			= 1096;
+	
+	/**
+	 * 抽出を確認する対象日の間隔(日数)。<br>
+	 */
+	protected static final int		TARGET_INTERVAL	= 3;
+	
+	/**
+	 * 乱数の種(登録する履歴を毎回同じにする)。<br>
+	 */
+	protected static final long		RANDOM_SEED		= 20190101L;
+	
+	/**
+	 * 有効終了日(最新の履歴)。<br>
+	 */
+	protected static final String	MAX_DATE		= "9999/12/31";
+	
+	/**
+	 * 待機時間(ミリ秒)。<br>
+	 */
+	protected static final long		TIMEOUT			= 10000L;
+	
+	/**
+	 * ロック待ち確認間隔(ミリ秒)。<br>
+	 */
+	protected static final long		POLL_INTERVAL	= 50L;
+	
+	/**
+	 * PostgreSQL接続URL。<br>
+	 */
+	protected String				url;
+	
+	/**
+	 * スキーマ名。<br>
+	 */
+	protected String				schema;
+	
+	/**
+	 * DBコネクション。<br>
+	 */
+	protected Connection			connection;
+	
+	/**
+	 * DBコネクション(同時に更新する別のトランザクション)。<br>
+	 */
+	protected Connection			otherConnection;
+	
+	/**
+	 * 有効終了日の導入SQL(DDLファイルの{@link #MIGRATION_START}以降)。<br>
+	 */
+	protected String				migration;
+	
+	/**
+	 * 履歴の登録に用いる乱数。<br>
+	 */
+	protected Random				random;
+	
+	/**
+	 * 最後に登録した所属マスタのレコード識別ID。<br>
+	 */
+	protected long					sectionId;
+	
+	/**
+	 * 履歴を登録する期間の最初の日。<br>
+	 */
+	protected Date					firstDate;
+	
+	
+	/**
+	 * スキーマを作成し、platform.sqlの有効終了日の導入より前の部分を実行する。<br>
+	 * @throws Exception DBの作成に失敗した場合
+	 */
+	@Before
+	public void setUp() throws Exception {
+		url = System.getProperty(PROP_PG_URL, "");
+		Assume.assumeTrue(url.isEmpty() == false);
+		Class.forName(DRIVER);
+		schema = SCHEMA_PREFIX + System.currentTimeMillis();
+		connection = connect();
+		execute(connection, "CREATE SCHEMA " + schema);
+		// DDLファイルを有効終了日の導入の前後に分割
+		String ddl = new String(Files.readAllBytes(new File(InMemoryDatabase.getDocBase(), DDL_FILE).toPath()),
+				Charset.forName("UTF-8"));
+		int index = ddl.indexOf(MIGRATION_START);
+		assertTrue(index > 0);
+		execute(connection, ddl.substring(0, index));
+		connection.commit();
+		migration = ddl.substring(index);
+		random = new Random(RANDOM_SEED);
+		sectionId = 0L;
+		firstDate = DateUtility.getDate(2019, 1, 1);
+	}
+	
+	/**
+	 * スキーマを削除する。<br>
+	 * @throws SQLException スキーマの削除に失敗した場合
+	 */
+	@After
+	public void tearDown() throws SQLException {
+		if (connection == null) {
+			return;
+		}
+		if (otherConnection != null) {
+			otherConnection.rollback();
+			otherConnection.close();
+		}
+		connection.rollback();
+		execute(connection, "DROP SCHEMA " + schema + " CASCADE");
+		connection.commit();
+		connection.close();
+	}
+	
+	/**
+	 * 有効終了日による条件と集約(MAX(activate_date))による条件で、同じ所属が取得されることを確認する。<br>
+	 * 導入前に登録した履歴の埋戻し後と、導入後の登録、更新及び削除(トリガ)の後で確認する。<br>
+	 * @throws Exception 確認に失敗した場合
+	 */
+	@Test
+	public void testSameAsMaxActivateDate() throws Exception {
+		// 導入前に履歴を登録して有効終了日を導入(埋戻し)
+		insertSections(SECTION_COUNT * 4);
+		execute(connection, migration);
+		connection.commit();
+		assertSameAsMaxActivateDate();
+		// 論理削除、論理削除の取消、有効日の変更、物理削除及び所属コードの変更
+		execute(connection, "UPDATE pfm_section SET delete_flag = 1 WHERE pfm_section_id % 7 = 0");
+		execute(connection, "UPDATE pfm_section SET delete_flag = 0 WHERE pfm_section_id % 21 = 0");
+		execute(connection, "UPDATE pfm_section SET activate_date = activate_date + 45 WHERE pfm_section_id % 5 = 0");
+		execute(connection, "DELETE FROM pfm_section WHERE pfm_section_id % 11 = 0");
+		execute(connection, "UPDATE pfm_section SET section_code = 'S99' WHERE section_code = 'S03'");
+		connection.commit();
+		// 導入後に履歴を登録
+		insertSections(SECTION_COUNT * 2);
+		assertSameAsMaxActivateDate();
+	}
+	
+	/**
+	 * 同じ個人の履歴を二つのトランザクションで同時に登録した場合に、
+	 * 先の履歴の有効終了日が後の履歴の有効日の前日となることを確認する。<br>
+	 * 後のトランザクションは、先のトランザクションがコミットされるまでロック待ちとなる。<br>
+	 * @throws Exception 確認に失敗した場合
+	 */
+	@Test
+	public void testConcurrentInsert() throws Exception {
+		execute(connection, migration);
+		connection.commit();
+		otherConnection = connect();
+		int otherPid = getBackendPid(otherConnection);
+		final Date nextDate = DateUtility.addDay(firstDate, 30);
+		// 先の履歴を登録(コミットしない)
+		insertHumanHistory(connection, 1L, firstDate);
+		// 別のトランザクションで後の履歴を登録
+		final List<SQLException> errorList = Collections.synchronizedList(new ArrayList<SQLException>());
+		Thread thread = new Thread(new Runnable() {
+			
+			@Override
+			public void run() {
+				try {
+					insertHumanHistory(otherConnection, 2L, nextDate);
+					otherConnection.commit();
+				} catch (SQLException e) {
+					errorList.add(e);
+				}
+			}
+		});
+		thread.start();
+		// 別のトランザクションがロック待ちになってからコミット
+		boolean isWaiting = awaitLockWaiting(thread, otherPid);
+		connection.commit();
+		thread.join(TIMEOUT);
+		assertFalse(thread.isAlive());
+		assertEquals(0, errorList.size());
+		// 有効終了日を確認
+		assertEquals(DateUtility.getStringDate(DateUtility.addDay(nextDate, -1)), getHumanHistoryValidToDate(1L));
+		assertEquals(MAX_DATE, getHumanHistoryValidToDate(2L));
+		assertTrue(isWaiting);
+	}
+	
+	/**
+	 * 対象日毎に、有効終了日による条件と集約による条件で取得した所属を比較する。<br>
+	 * @throws MospException 所属の取得に失敗した場合
+	 */
+	protected void assertSameAsMaxActivateDate() throws MospException {
+		PfmSectionDao maxDao = createSectionDao("");
+		PfmSectionDao validToDao = createSectionDao(PfmSectionDao.TABLE);
+		assertFalse(maxDao.isValidToDateAvailable(PfmSectionDao.TABLE));
+		assertTrue(validToDao.isValidToDateAvailable(PfmSectionDao.TABLE));
+		int count = 0;
+		Date lastDate = DateUtility.addDay(firstDate, DAYS + 60);
+		for (Date targetDate = DateUtility.addDay(firstDate, -TARGET_INTERVAL); targetDate.before(lastDate);
+				targetDate = DateUtility.addDay(targetDate, TARGET_INTERVAL)) {
+			List<Long> expected = getIdList(maxDao.findForActivateDate(targetDate, new String[0]));
+			List<Long> actual = getIdList(validToDao.findForActivateDate(targetDate, new String[0]));
+			assertEquals(DateUtility.getStringDate(targetDate), expected, actual);
+			count += expected.size();
+		}
+		assertTrue(count > 0);
+	}
+	
+	/**
+	 * 所属マスタの履歴を無作為に登録する。<br>
+	 * 一部は廃止或いは論理削除とする。<br>
+	 * @param count 登録件数
+	 * @throws SQLException 登録に失敗した場合
+	 */
+	protected void insertSections(int count) throws SQLException {
+		PreparedStatement ps = connection.prepareStatement("INSERT INTO pfm_section (pfm_section_id, section_code, "
+				+ "activate_date, class_route, close_flag, delete_flag, insert_date, update_date) "
+				+ "VALUES (?, ?, ?, ?, ?, ?, now(), now())");
+		try {
+			for (int i = 0; i < count; i++) {
+				String sectionCode = String.format("S%02d", random.nextInt(SECTION_COUNT));
+				Date activateDate = DateUtility.addDay(firstDate, random.nextInt(DAYS));
+				ps.setLong(1, ++sectionId);
+				ps.setString(2, sectionCode);
+				ps.setDate(3, new java.sql.Date(activateDate.getTime()));
+				ps.setString(4, sectionCode);
+				ps.setInt(5, random.nextInt(10) == 0 ? 1 : 0);
+				ps.setInt(6, random.nextInt(8) == 0 ? 1 : 0);
+				ps.addBatch();
+			}
+			ps.executeBatch();
+		} finally {
+			ps.close();
+		}
+		connection.commit();
+	}
+	
+	/**
+	 * 人事汎用履歴情報を登録する。<br>
+	 * @param conn         DBコネクション
+	 * @param id           レコード識別ID
+	 * @param activateDate 有効日
+	 * @throws SQLException 登録に失敗した場合
+	 */
+	protected void insertHumanHistory(Connection conn, long id, Date activateDate) throws SQLException {
+		PreparedStatement ps = conn.prepareStatement("INSERT INTO pfa_human_history (pfa_human_history_id, "
+				+ "personal_id, human_item_type, activate_date, insert_date, update_date) "
+				+ "VALUES (?, ?, ?, ?, now(), now())");
+		try {
+			ps.setLong(1, id);
+			ps.setString(2, PERSONAL_ID);
+			ps.setString(3, ITEM_TYPE);
+			ps.setDate(4, new java.sql.Date(activateDate.getTime()));
+			ps.executeUpdate();
+		} finally {
+			ps.close();
+		}
+	}
+	
+	/**
+	 * 人事汎用履歴情報の有効終了日を取得する。<br>
+	 * @param id レコード識別ID
+	 * @return 有効終了日(yyyy/MM/dd)
+	 * @throws SQLException 取得に失敗した場合
+	 */
+	protected String getHumanHistoryValidToDate(long id) throws SQLException {
+		PreparedStatement ps = connection.prepareStatement(
+				"SELECT valid_to_date FROM pfa_human_history WHERE pfa_human_history_id = ?");
+		try {
+			ps.setLong(1, id);
+			ResultSet rs = ps.executeQuery();
+			assertTrue(rs.next());
+			return DateUtility.getStringDate(rs.getDate(1));
+		} finally {
+			ps.close();
+		}
+	}
+	
+	/**
+	 * 別のトランザクションがロック待ちになるまで待機する。<br>
+	 * ロック待ちにならずに登録を終えた場合は、待機を終了する。<br>
+	 * @param thread 別のトランザクションで登録するスレッド
+	 * @param pid    別のトランザクションのプロセスID
+	 * @return 確認結果(true：ロック待ちになった、false：ロック待ちにならなかった)
+	 * @throws Exception 確認に失敗した場合
+	 */
+	protected boolean awaitLockWaiting(Thread thread, int pid) throws Exception {
+		long limit = System.currentTimeMillis() + TIMEOUT;
+		PreparedStatement ps = connection.prepareStatement(
+				"SELECT count(*) FROM pg_locks WHERE pid = ? AND NOT granted");
+		try {
+			ps.setInt(1, pid);
+			while (thread.isAlive() && System.currentTimeMillis() < limit) {
+				ResultSet rs = ps.executeQuery();
+				rs.next();
+				if (rs.getInt(1) > 0) {
+					return true;
+				}
+				Thread.sleep(POLL_INTERVAL);
+			}
+		} finally {
+			ps.close();
+		}
+		return false;
+	}
+	
+	/**
+	 * DBコネクションのプロセスIDを取得する。<br>
+	 * @param conn DBコネクション
+	 * @return プロセスID
+	 * @throws SQLException 取得に失敗した場合
+	 */
+	protected int getBackendPid(Connection conn) throws SQLException {
+		Statement st = conn.createStatement();
+		try {
+			ResultSet rs = st.executeQuery("SELECT pg_backend_pid()");
+			rs.next();
+			return rs.getInt(1);
+		} finally {
+			st.close();
+		}
+	}
+	
+	/**
+	 * 所属マスタDAOを作成する。<br>
+	 * @param validToDateTables 有効終了日利用テーブル
+	 * @return 所属マスタDAO
+	 * @throws MospException MosP処理情報の作成に失敗した場合
+	 */
+	protected PfmSectionDao createSectionDao(String validToDateTables) throws MospException {
+		MospParams mospParams = InMemoryDatabase.createMospParams(url, PERSONAL_ID);
+		mospParams.getProperties().setApplicationProperty(PlatformConst.APP_VALID_TO_DATE_TABLES, validToDateTables);
+		PfmSectionDao dao = new PfmSectionDao();
+		dao.setInitParams(mospParams, connection);
+		dao.initDao();
+		return dao;
+	}
+	
+	/**
+	 * 所属のレコード識別IDを昇順で取得する。<br>
+	 * @param list 所属リスト
+	 * @return レコード識別IDリスト
+	 */
+	protected List<Long> getIdList(List<SectionDtoInterface> list) {
+		List<Long> idList = new ArrayList<Long>();
+		for (SectionDtoInterface dto : list) {
+			idList.add(dto.getPfmSectionId());
+		}
+		Collections.sort(idList);
+		return idList;
+	}
+	
+	/**
+	 * スキーマを検索パスとしたDBコネクションを取得する。<br>
+	 * @return DBコネクション
+	 * @throws SQLException 接続に失敗した場合
+	 */
+	protected Connection connect() throws SQLException {
+		Connection conn = DriverManager.getConnection(url);
+		conn.setAutoCommit(false);
+		execute(conn, "SET search_path TO " + schema);
+		conn.commit();
+		return conn;
+	}
+	
+	/**
+	 * SQLを実行する(コミットはしない)。<br>
+	 * @param conn DBコネクション
+	 * @param sql  SQL
+	 * @throws SQLException 実行に失敗した場合
+	 */
+	protected static void execute(Connection conn, String sql) throws SQLException {
+		Statement st = conn.createStatement();
+		try {
+			st.execute(sql);
+		} finally {
+			st.close();
+		}
+	}
+	
+}
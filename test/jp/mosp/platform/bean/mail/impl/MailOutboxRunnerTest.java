@@ -0,0 +1,342 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ *
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.platform.bean.mail.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospJobExecutor;
+import jp.mosp.framework.property.MospProperties;
+import jp.mosp.platform.bean.mail.MailBeanInterface;
+import jp.mosp.platform.constant.PlatformMailConst;
+import jp.mosp.platform.dao.mail.MailOutboxDaoInterface;
+import jp.mosp.platform.dto.mail.MailOutboxDtoInterface;
+import jp.mosp.platform.dto.mail.impl.PftMailOutboxDto;
+import jp.mosp.test.FakeSmtpServer;
+import jp.mosp.test.InMemoryDatabase;
+
+/**
+ * {@link MailOutboxRunner}によるメール送信を、テスト用SMTPサーバに対して確認する。<br>
+ * <br>
+ * メールの登録から送信済となるまで、送信に失敗した場合の再送及び送信失敗、
+ * 再起動前に送信待ちのまま残ったメールの送信を確認する。<br>
+ * 送信はジョブ実行スレッドで行われるため、送信状態が期待値になるまで待機して確認する。<br>
+ */
+public class MailOutboxRunnerTest {
+	
+	/**
+	 * 個人ID。<br>
+	 */
+	protected static final String	PERSONAL_ID		= "M000000001";
+	
+	/**
+	 * 送信元メールアドレス。<br>
+	 */
+	protected static final String	MAIL_ADDRESS	= "mosp@localhost";
+	
+	/**
+	 * メール送信件数(一度の接続で送信する件数より多く登録して確認する)。<br>
+	 */
+	protected static final String	BATCH_SIZE		= "2";
+	
+	/**
+	 * メール再送間隔(秒)。<br>
+	 */
+	protected static final String	RETRY_INTERVAL	= "1";
+	
+	/**
+	 * 待機時間(ミリ秒)。<br>
+	 */
+	protected static final long		TIMEOUT			= 10000L;
+	
+	/**
+	 * 送信状態確認間隔(ミリ秒)。<br>
+	 */
+	protected static final long		POLL_INTERVAL	= 50L;
+	
+	/**
+	 * テスト用SMTPサーバ。<br>
+	 * メールセッションはVM内で共有されるため、全テストで同じサーバを用いる。<br>
+	 */
+	protected static FakeSmtpServer	server;
+	
+	/**
+	 * インメモリDB。<br>
+	 */
+	protected InMemoryDatabase		database;
+	
+	
+	/**
+	 * テスト用SMTPサーバを起動する。<br>
+	 * @throws Exception 起動に失敗した場合
+	 */
+	@BeforeClass
+	public static void setUpClass() throws Exception {
+		server = new FakeSmtpServer();
+	}
+	
+	/**
+	 * テスト用SMTPサーバを停止する。<br>
+	 */
+	@AfterClass
+	public static void tearDownClass() {
+		server.close();
+	}
+	
+	/**
+	 * インメモリDBを作成し、テスト用SMTPサーバに送信するよう設定する。<br>
+	 * @throws MospException DBの作成に失敗した場合
+	 */
+	@Before
+	public void setUp() throws MospException {
+		database = new InMemoryDatabase(PERSONAL_ID);
+		MospProperties properties = database.getMospParams().getProperties();
+		properties.setApplicationProperty(PlatformMailConst.APP_MAIL_HOST, server.getHost());
+		properties.setApplicationProperty(PlatformMailConst.APP_MAIL_PORT, String.valueOf(server.getPort()));
+		properties.setApplicationProperty(PlatformMailConst.APP_MAIL_ADDRESS, MAIL_ADDRESS);
+		properties.setApplicationProperty(PlatformMailConst.APP_MAIL_BATCH_SIZE, BATCH_SIZE);
+		properties.setApplicationProperty(PlatformMailConst.APP_MAIL_RETRY_INTERVAL, RETRY_INTERVAL);
+		server.clear();
+		server.setRejecting(false);
+	}
+	
+	/**
+	 * メール送信スレッドの終了を待って予約を破棄し、インメモリDBを破棄する。<br>
+	 * @throws Exception 待機中に割込が発生した場合、或いはDBの破棄に失敗した場合
+	 */
+	@After
+	public void tearDown() throws Exception {
+		awaitRunner();
+		MospJobExecutor.shutdown();
+		awaitRunner();
+		MailOutboxRunner.REQUESTED.set(false);
+		database.close();
+	}
+	
+	/**
+	 * 登録したメールが送信され、送信済となることを確認する。<br>
+	 * メールアドレスが設定されていない送信先は、登録されないことを確認する。<br>
+	 * @throws Exception 登録或いは送信に失敗した場合
+	 */
+	@Test
+	public void testSend() throws Exception {
+		MailBeanInterface mail = database.createBean(MailBeanInterface.class);
+		String[][] aryPersonalId = { { "M000000002", "a@localhost" }, { "M000000003", "" },
+			{ "M000000004", "b@localhost" }, { "M000000005", "c@localhost" } };
+		assertEquals(3, mail.enqueueMail(aryPersonalId, "title", "text"));
+		List<String> recipients = server.awaitRecipients(3, TIMEOUT);
+		Collections.sort(recipients);
+		assertEquals(Arrays.asList("a@localhost", "b@localhost", "c@localhost"), recipients);
+		List<MailOutboxDtoInterface> list = awaitStatus(PlatformMailConst.CODE_MAIL_STATUS_SENT, 3);
+		for (MailOutboxDtoInterface dto : list) {
+			assertEquals(0, dto.getRetryCount());
+			assertNotNull(dto.getSendTime());
+		}
+		assertNull(mail.getNextSendTime());
+	}
+	
+	/**
+	 * メールサーバに拒否されたメールが、再送間隔後に再送されることを確認する。<br>
+	 * @throws Exception 登録或いは送信に失敗した場合
+	 */
+	@Test
+	public void testRetry() throws Exception {
+		server.setRejecting(true);
+		MailBeanInterface mail = database.createBean(MailBeanInterface.class);
+		Date enqueueTime = new Date();
+		assertEquals(1, mail.enqueueMail(new String[][]{ { "M000000002", "a@localhost" } }, "title", "text"));
+		assertEquals(1, server.awaitRejects(1, TIMEOUT));
+		// 再送待ち(再送回数及び次回送信日時を更新)
+		MailOutboxDtoInterface dto = awaitRetry(1);
+		assertEquals(PlatformMailConst.CODE_MAIL_STATUS_WAITING, dto.getMailStatus());
+		assertTrue(dto.getNextSendTime().after(enqueueTime));
+		assertFalse(dto.getMailMessage().isEmpty());
+		// 予約された再送で送信
+		server.setRejecting(false);
+		assertEquals(Arrays.asList("a@localhost"), server.awaitRecipients(1, TIMEOUT));
+		dto = awaitStatus(PlatformMailConst.CODE_MAIL_STATUS_SENT, 1).get(0);
+		assertEquals(1, dto.getRetryCount());
+		assertEquals("", dto.getMailMessage());
+	}
+	
+	/**
+	 * 再送上限回数を超えて拒否されたメールが、送信失敗となり再送されないことを確認する。<br>
+	 * @throws Exception 登録或いは送信に失敗した場合
+	 */
+	@Test
+	public void testRetryLimit() throws Exception {
+		database.getMospParams().getProperties().setApplicationProperty(PlatformMailConst.APP_MAIL_RETRY_LIMIT, "1");
+		server.setRejecting(true);
+		MailBeanInterface mail = database.createBean(MailBeanInterface.class);
+		assertEquals(1, mail.enqueueMail(new String[][]{ { "M000000002", "a@localhost" } }, "title", "text"));
+		MailOutboxDtoInterface dto = awaitStatus(PlatformMailConst.CODE_MAIL_STATUS_FAILED, 1).get(0);
+		assertEquals(2, dto.getRetryCount());
+		assertEquals(2, server.awaitRejects(2, TIMEOUT));
+		assertNull(mail.getNextSendTime());
+		assertTrue(server.awaitRecipients(1, 0L).isEmpty());
+	}
+	
+	/**
+	 * 再起動前に送信待ちのまま残ったメールが、再起動後の依頼で送信されることを確認する。<br>
+	 * 送信中に停止したメール(送信済とする前に停止したもの)も、送信待ちのまま残るため再送される。<br>
+	 * @throws Exception 登録或いは送信に失敗した場合
+	 */
+	@Test
+	public void testRestart() throws Exception {
+		// 停止前に登録され送信待ちのまま残ったメール
+		MailOutboxDaoInterface dao = database.createDao(MailOutboxDaoInterface.class);
+		long[] ids = dao.nextRecordIds(2);
+		Date past = new Date(System.currentTimeMillis() - 60000L);
+		List<MailOutboxDtoInterface> list = new ArrayList<MailOutboxDtoInterface>();
+		list.add(createWaiting(ids[0], "a@localhost", 0, past));
+		list.add(createWaiting(ids[1], "b@localhost", 1, past));
+		database.insert(MailOutboxDaoInterface.class, list);
+		database.commit();
+		// 再起動後(送信中フラグ等は初期状態)は依頼されるまで送信しない
+		assertFalse(MailOutboxRunner.RUNNING.get());
+		assertTrue(server.awaitRecipients(1, 0L).isEmpty());
+		// 再起動後の登録による依頼で、残ったメールも送信
+		MailBeanInterface mail = database.createBean(MailBeanInterface.class);
+		assertEquals(1, mail.enqueueMail(new String[][]{ { "M000000004", "c@localhost" } }, "title", "text"));
+		List<String> recipients = server.awaitRecipients(3, TIMEOUT);
+		Collections.sort(recipients);
+		assertEquals(Arrays.asList("a@localhost", "b@localhost", "c@localhost"), recipients);
+		awaitStatus(PlatformMailConst.CODE_MAIL_STATUS_SENT, 3);
+	}
+	
+	/**
+	 * 送信待ちのメール送信待ち情報を作成する。<br>
+	 * @param id            レコード識別ID
+	 * @param mailAddress   メールアドレス
+	 * @param retryCount    再送回数
+	 * @param nextSendTime  次回送信日時
+	 * @return メール送信待ち情報
+	 */
+	protected MailOutboxDtoInterface createWaiting(long id, String mailAddress, int retryCount, Date nextSendTime) {
+		MailOutboxDtoInterface dto = new PftMailOutboxDto();
+		dto.setPftMailOutboxId(id);
+		dto.setPersonalId(PERSONAL_ID);
+		dto.setMailAddress(mailAddress);
+		dto.setMailTitle("title");
+		dto.setMailText("text");
+		dto.setMailStatus(PlatformMailConst.CODE_MAIL_STATUS_WAITING);
+		dto.setRetryCount(retryCount);
+		dto.setNextSendTime(nextSendTime);
+		dto.setMailMessage("");
+		return dto;
+	}
+	
+	/**
+	 * 全てのメール送信待ち情報の送信状態が、指定の送信状態になるまで待機する。<br>
+	 * @param mailStatus 送信状態
+	 * @param count      件数
+	 * @return メール送信待ち情報リスト
+	 * @throws Exception 取得に失敗した場合、或いは待機中に割込が発生した場合
+	 */
+	protected List<MailOutboxDtoInterface> awaitStatus(String mailStatus, int count) throws Exception {
+		long limit = System.currentTimeMillis() + TIMEOUT;
+		List<MailOutboxDtoInterface> list = findAll();
+		while (isAll(list, mailStatus, count) == false && System.currentTimeMillis() < limit) {
+			Thread.sleep(POLL_INTERVAL);
+			list = findAll();
+		}
+		assertEquals(count, list.size());
+		for (MailOutboxDtoInterface dto : list) {
+			assertEquals(dto.getMailAddress(), mailStatus, dto.getMailStatus());
+		}
+		return list;
+	}
+	
+	/**
+	 * メール送信待ち情報(一件)の再送回数が、指定の回数になるまで待機する。<br>
+	 * @param retryCount 再送回数
+	 * @return メール送信待ち情報
+	 * @throws Exception 取得に失敗した場合、或いは待機中に割込が発生した場合
+	 */
+	protected MailOutboxDtoInterface awaitRetry(int retryCount) throws Exception {
+		long limit = System.currentTimeMillis() + TIMEOUT;
+		List<MailOutboxDtoInterface> list = findAll();
+		while ((list.size() != 1 || list.get(0).getRetryCount() < retryCount) && System.currentTimeMillis() < limit) {
+			Thread.sleep(POLL_INTERVAL);
+			list = findAll();
+		}
+		assertEquals(1, list.size());
+		assertEquals(retryCount, list.get(0).getRetryCount());
+		return list.get(0);
+	}
+	
+	/**
+	 * 全てのメール送信待ち情報が指定の送信状態であるかを確認する。<br>
+	 * @param list       メール送信待ち情報リスト
+	 * @param mailStatus 送信状態
+	 * @param count      件数
+	 * @return 確認結果(true：全て指定の送信状態である、false：そうでない)
+	 */
+	protected boolean isAll(List<MailOutboxDtoInterface> list, String mailStatus, int count) {
+		if (list.size() != count) {
+			return false;
+		}
+		for (MailOutboxDtoInterface dto : list) {
+			if (dto.getMailStatus().equals(mailStatus) == false) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * メール送信待ち情報を全て取得する。<br>
+	 * メール送信スレッドがコミットした内容を読むため、読込前にコミットする。<br>
+	 * @return メール送信待ち情報リスト
+	 * @throws MospException 取得に失敗した場合
+	 */
+	@SuppressWarnings("unchecked")
+	protected List<MailOutboxDtoInterface> findAll() throws MospException {
+		database.commit();
+		MailOutboxDaoInterface dao = database.createDao(MailOutboxDaoInterface.class);
+		return (List<MailOutboxDtoInterface>)dao.findAll();
+	}
+	
+	/**
+	 * メール送信スレッドが送信中でなくなるまで待機する。<br>
+	 * @throws InterruptedException 待機中に割込が発生した場合
+	 */
+	protected void awaitRunner() throws InterruptedException {
+		long limit = System.currentTimeMillis() + TIMEOUT;
+		while (MailOutboxRunner.RUNNING.get() && System.currentTimeMillis() < limit) {
+			Thread.sleep(POLL_INTERVAL);
+		}
+	}
+	
+}
@@ -0,0 +1,289 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ *
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * テスト用SMTPサーバクラス。<br>
+ * <br>
+ * ローカルの空いているポートで接続を待ち受け、SMTPの最低限のコマンドに応答する。<br>
+ * 受信したメールは送信先毎に記録し、実際には配送しない。<br>
+ * 拒否中とした場合は、MAILコマンドに一時エラー(451)を返してメールを受け取らない。<br>
+ * <br>
+ * 接続は一つずつ順に処理する(MosPのメール送信スレッドは一つであるため)。<br>
+ */
+public class FakeSmtpServer implements Runnable {
+	
+	/**
+	 * 文字コード。<br>
+	 */
+	protected static final Charset	CHARSET			= Charset.forName("US-ASCII");
+	
+	/**
+	 * サーバ名。<br>
+	 */
+	protected static final String	SERVER_NAME		= "localhost";
+	
+	/**
+	 * 送信先アドレスの開始文字。<br>
+	 */
+	protected static final String	ADDRESS_START	= "<";
+	
+	/**
+	 * 送信先アドレスの終了文字。<br>
+	 */
+	protected static final String	ADDRESS_END		= ">";
+	
+	/**
+	 * 待受ソケット。<br>
+	 */
+	protected final ServerSocket	serverSocket;
+	
+	/**
+	 * 受信済送信先リスト。<br>
+	 */
+	protected final List<String>	recipientList	= new ArrayList<String>();
+	
+	/**
+	 * 拒否回数。<br>
+	 */
+	protected int					rejectCount;
+	
+	/**
+	 * 拒否中フラグ。<br>
+	 */
+	protected volatile boolean		rejecting;
+	
+	
+	/**
+	 * ローカルの空いているポートで待ち受けを開始する。<br>
+	 * @throws IOException 待ち受けの開始に失敗した場合
+	 */
+	public FakeSmtpServer() throws IOException {
+		serverSocket = new ServerSocket(0, 50, InetAddress.getByName(SERVER_NAME));
+		Thread thread = new Thread(this, getClass().getSimpleName());
+		thread.setDaemon(true);
+		thread.start();
+	}
+	
+	@Override
+	public void run() {
+		while (serverSocket.isClosed() == false) {
+			Socket socket = null;
+			try {
+				socket = serverSocket.accept();
+				handle(socket);
+			} catch (IOException e) {
+				// 待ち受けを終了した場合或いは接続が切れた場合(次の接続を待つ)
+			} finally {
+				closeSocket(socket);
+			}
+		}
+	}
+	
+	/**
+	 * 一つの接続のコマンドに応答する。<br>
+	 * @param socket ソケット
+	 * @throws IOException 送受信に失敗した場合
+	 */
+	protected void handle(Socket socket) throws IOException {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), CHARSET));
+		OutputStream out = socket.getOutputStream();
+		reply(out, "220 " + SERVER_NAME + " ESMTP");
+		List<String> recipients = new ArrayList<String>();
+		boolean isRejected = false;
+		String line = reader.readLine();
+		while (line != null) {
+			String command = line.toUpperCase(Locale.ENGLISH);
+			if (command.startsWith("EHLO") || command.startsWith("HELO")) {
+				reply(out, "250 " + SERVER_NAME);
+			} else if (command.startsWith("MAIL")) {
+				recipients.clear();
+				isRejected = rejecting;
+				if (isRejected) {
+					countReject();
+					reply(out, "451 Requested action aborted");
+				} else {
+					reply(out, "250 OK");
+				}
+			} else if (command.startsWith("RCPT")) {
+				recipients.add(getAddress(line));
+				reply(out, isRejected ? "503 Bad sequence of commands" : "250 OK");
+			} else if (command.startsWith("DATA")) {
+				if (isRejected) {
+					reply(out, "503 Bad sequence of commands");
+				} else {
+					reply(out, "354 End data with <CR><LF>.<CR><LF>");
+					// 本文を読み飛ばす
+					String data = reader.readLine();
+					while (data != null && data.equals(".") == false) {
+						data = reader.readLine();
+					}
+					addRecipients(recipients);
+					reply(out, "250 OK");
+				}
+			} else if (command.startsWith("QUIT")) {
+				reply(out, "221 Bye");
+				return;
+			} else {
+				// RSET及びNOOP等
+				reply(out, "250 OK");
+			}
+			line = reader.readLine();
+		}
+	}
+	
+	/**
+	 * 応答を送信する。<br>
+	 * @param out   出力ストリーム
+	 * @param reply 応答
+	 * @throws IOException 送信に失敗した場合
+	 */
+	protected void reply(OutputStream out, String reply) throws IOException {
+		out.write((reply + "\r\n").getBytes(CHARSET));
+		out.flush();
+	}
+	
+	/**
+	 * コマンドから送信先アドレスを取得する。<br>
+	 * @param line コマンド
+	 * @return 送信先アドレス
+	 */
+	protected String getAddress(String line) {
+		int start = line.indexOf(ADDRESS_START);
+		int end = line.indexOf(ADDRESS_END);
+		if (start < 0 || end < start) {
+			return line.substring(line.indexOf(':') + 1).trim();
+		}
+		return line.substring(start + 1, end);
+	}
+	
+	/**
+	 * 受信したメールの送信先を記録する。<br>
+	 * @param recipients 送信先リスト
+	 */
+	protected synchronized void addRecipients(List<String> recipients) {
+		recipientList.addAll(recipients);
+		notifyAll();
+	}
+	
+	/**
+	 * 拒否回数を数える。<br>
+	 */
+	protected synchronized void countReject() {
+		rejectCount++;
+		notifyAll();
+	}
+	
+	/**
+	 * 受信したメールの送信先が指定数になるまで待機する。<br>
+	 * @param count   送信先数
+	 * @param timeout 待機時間(ミリ秒)
+	 * @return 受信済送信先リスト
+	 * @throws InterruptedException 待機中に割込が発生した場合
+	 */
+	public synchronized List<String> awaitRecipients(int count, long timeout) throws InterruptedException {
+		long limit = System.currentTimeMillis() + timeout;
+		while (recipientList.size() < count && System.currentTimeMillis() < limit) {
+			wait(Math.max(1L, limit - System.currentTimeMillis()));
+		}
+		return new ArrayList<String>(recipientList);
+	}
+	
+	/**
+	 * 拒否回数が指定数になるまで待機する。<br>
+	 * @param count   拒否回数
+	 * @param timeout 待機時間(ミリ秒)
+	 * @return 拒否回数
+	 * @throws InterruptedException 待機中に割込が発生した場合
+	 */
+	public synchronized int awaitRejects(int count, long timeout) throws InterruptedException {
+		long limit = System.currentTimeMillis() + timeout;
+		while (rejectCount < count && System.currentTimeMillis() < limit) {
+			wait(Math.max(1L, limit - System.currentTimeMillis()));
+		}
+		return rejectCount;
+	}
+	
+	/**
+	 * 受信済送信先及び拒否回数を消去する。<br>
+	 */
+	public synchronized void clear() {
+		recipientList.clear();
+		rejectCount = 0;
+	}
+	
+	/**
+	 * @param rejecting 拒否中フラグ
+	 */
+	public void setRejecting(boolean rejecting) {
+		this.rejecting = rejecting;
+	}
+	
+	/**
+	 * @return ホスト名
+	 */
+	public String getHost() {
+		return SERVER_NAME;
+	}
+	
+	/**
+	 * @return ポート番号
+	 */
+	public int getPort() {
+		return serverSocket.getLocalPort();
+	}
+	
+	/**
+	 * 待ち受けを終了する。<br>
+	 */
+	public void close() {
+		try {
+			serverSocket.close();
+		} catch (IOException e) {
+			// 処理無し
+		}
+	}
+	
+	/**
+	 * ソケットを閉じる。<br>
+	 * @param socket ソケット
+	 */
+	protected static void closeSocket(Socket socket) {
+		if (socket == null) {
+			return;
+		}
+		try {
+			socket.close();
+		} catch (IOException e) {
+			// 処理無し
+		}
+	}
+	
+}
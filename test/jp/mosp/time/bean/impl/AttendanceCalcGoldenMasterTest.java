@@ -0,0 +1,724 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bean.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Method;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.utils.DateUtility;
+import jp.mosp.platform.constant.PlatformConst;
+import jp.mosp.platform.dao.human.EntranceDaoInterface;
+import jp.mosp.platform.dao.human.HumanDaoInterface;
+import jp.mosp.platform.dao.workflow.WorkflowDaoInterface;
+import jp.mosp.platform.dto.human.EntranceDtoInterface;
+import jp.mosp.platform.dto.human.HumanDtoInterface;
+import jp.mosp.platform.dto.human.impl.PfaHumanEntranceDto;
+import jp.mosp.platform.dto.human.impl.PfmHumanDto;
+import jp.mosp.platform.dto.workflow.WorkflowDtoInterface;
+import jp.mosp.platform.dto.workflow.impl.PftWorkflowDto;
+import jp.mosp.platform.utils.MonthUtility;
+import jp.mosp.test.InMemoryDatabase;
+import jp.mosp.time.bean.AttendanceCalcBeanInterface;
+import jp.mosp.time.constant.TimeConst;
+import jp.mosp.time.dao.settings.ApplicationDaoInterface;
+import jp.mosp.time.dao.settings.AttendanceDaoInterface;
+import jp.mosp.time.dao.settings.CutoffDaoInterface;
+import jp.mosp.time.dao.settings.GoOutDaoInterface;
+import jp.mosp.time.dao.settings.HolidayRequestDaoInterface;
+import jp.mosp.time.dao.settings.OvertimeRequestDaoInterface;
+import jp.mosp.time.dao.settings.RestDaoInterface;
+import jp.mosp.time.dao.settings.ScheduleDaoInterface;
+import jp.mosp.time.dao.settings.ScheduleDateDaoInterface;
+import jp.mosp.time.dao.settings.TimeSettingDaoInterface;
+import jp.mosp.time.dao.settings.WorkOnHolidayRequestDaoInterface;
+import jp.mosp.time.dao.settings.WorkTypeDaoInterface;
+import jp.mosp.time.dao.settings.WorkTypeItemDaoInterface;
+import jp.mosp.time.dto.settings.ApplicationDtoInterface;
+import jp.mosp.time.dto.settings.AttendanceDtoInterface;
+import jp.mosp.time.dto.settings.CutoffDtoInterface;
+import jp.mosp.time.dto.settings.GoOutDtoInterface;
+import jp.mosp.time.dto.settings.HolidayRequestDtoInterface;
+import jp.mosp.time.dto.settings.OvertimeRequestDtoInterface;
+import jp.mosp.time.dto.settings.RestDtoInterface;
+import jp.mosp.time.dto.settings.ScheduleDateDtoInterface;
+import jp.mosp.time.dto.settings.ScheduleDtoInterface;
+import jp.mosp.time.dto.settings.TimeSettingDtoInterface;
+import jp.mosp.time.dto.settings.WorkOnHolidayRequestDtoInterface;
+import jp.mosp.time.dto.settings.WorkTypeDtoInterface;
+import jp.mosp.time.dto.settings.WorkTypeItemDtoInterface;
+import jp.mosp.time.dto.settings.impl.TmdAttendanceDto;
+import jp.mosp.time.dto.settings.impl.TmdGoOutDto;
+import jp.mosp.time.dto.settings.impl.TmdHolidayRequestDto;
+import jp.mosp.time.dto.settings.impl.TmdOvertimeRequestDto;
+import jp.mosp.time.dto.settings.impl.TmdRestDto;
+import jp.mosp.time.dto.settings.impl.TmdWorkOnHolidayRequestDto;
+import jp.mosp.time.dto.settings.impl.TmmApplicationDto;
+import jp.mosp.time.dto.settings.impl.TmmCutoffDto;
+import jp.mosp.time.dto.settings.impl.TmmScheduleDateDto;
+import jp.mosp.time.dto.settings.impl.TmmScheduleDto;
+import jp.mosp.time.dto.settings.impl.TmmTimeSettingDto;
+import jp.mosp.time.dto.settings.impl.TmmWorkTypeDto;
+import jp.mosp.time.dto.settings.impl.TmmWorkTypeItemDto;
+
+/**
+ * {@link AttendanceCalcBean}の勤怠計算結果を、記録済の計算結果(ゴールデンマスタ)と比較する。<br>
+ * <br>
+ * 勤務形態(9:00-18:00、休憩12:00-13:00)、カレンダ(土曜は所定休日、日曜は法定休日)を設定し、
+ * 深夜勤務、休憩、外出、分単位休暇、直行直帰、時間単位有給休暇、休憩を挟む休暇による遅刻及び早退、
+ * 並びに日を跨ぐ休日労働を含む勤務日を計算する。<br>
+ * 計算結果は、勤怠情報の数値項目及び時刻項目と、計算時のエラーメッセージである。<br>
+ * <br>
+ * 記録済の計算結果は、時間帯を日付のTreeMapで保持していた実装で計算したものである。<br>
+ * システムプロパティ{@link #PROP_RECORD}にファイルパスを指定した場合は、比較せずに計算結果を記録する。<br>
+ */
+public class AttendanceCalcGoldenMasterTest {
+	
+	/**
+	 * システムプロパティキー(計算結果の記録先)。<br>
+	 */
+	public static final String						PROP_RECORD			= "mosp.test.golden.record";
+	
+	/**
+	 * 記録済の計算結果ファイル。<br>
+	 */
+	protected static final String					FILE_GOLDEN			= "AttendanceCalcGoldenMasterTest.txt";
+	
+	/**
+	 * 各種マスタのコード。<br>
+	 */
+	protected static final String					CODE				= "GOLDEN";
+	
+	/**
+	 * 個人ID。<br>
+	 */
+	protected static final String					PERSONAL_ID			= "G000000001";
+	
+	/**
+	 * 計算対象の勤務日が属する年度。<br>
+	 */
+	protected static final int						FISCAL_YEAR			= 2016;
+	
+	/**
+	 * 規定始業時刻(分)。<br>
+	 */
+	protected static final int						WORK_START			= 9 * 60;
+	
+	/**
+	 * 規定終業時刻(分)。<br>
+	 */
+	protected static final int						WORK_END			= 18 * 60;
+	
+	/**
+	 * 休憩開始時刻(分)。<br>
+	 */
+	protected static final int						REST_START			= 12 * 60;
+	
+	/**
+	 * 休憩終了時刻(分)。<br>
+	 */
+	protected static final int						REST_END			= 13 * 60;
+	
+	/**
+	 * 所定労働時間(分)。<br>
+	 */
+	protected static final int						GENERAL_WORK_TIME	= 8 * 60;
+	
+	/**
+	 * 計算結果の時刻の書式。<br>
+	 */
+	protected static final String					TIME_FORMAT			= "yyyy/MM/dd HH:mm";
+	
+	/**
+	 * 計算結果に含めない勤怠情報の項目。<br>
+	 */
+	protected static final List<String>				EXCLUDED_GETTERS	= Arrays.asList("getTmdAttendanceId",
+			"getWorkflow");
+	
+	/**
+	 * インメモリDB。<br>
+	 */
+	protected InMemoryDatabase						database;
+	
+	/**
+	 * 各種マスタの有効日。<br>
+	 */
+	protected Date									masterDate;
+	
+	/**
+	 * 最後に採番したレコード識別ID。<br>
+	 */
+	protected long									lastId;
+	
+	/**
+	 * 計算対象の勤怠情報群(キー：計算対象名)。<br>
+	 */
+	protected Map<String, AttendanceDtoInterface>	caseMap;
+	
+	
+	/**
+	 * インメモリDBを作成し、マスタ及び計算対象の勤務日を登録する。<br>
+	 * @throws MospException DBの作成或いは登録に失敗した場合
+	 */
+	@Before
+	public void setUp() throws MospException {
+		database = new InMemoryDatabase(PERSONAL_ID);
+		masterDate = DateUtility.getDate(2015, 1, 1);
+		lastId = 0;
+		caseMap = new LinkedHashMap<String, AttendanceDtoInterface>();
+		createMasters();
+		createCases();
+		database.commit();
+	}
+	
+	/**
+	 * インメモリDBを破棄する。<br>
+	 * @throws MospException DBの破棄に失敗した場合
+	 */
+	@After
+	public void tearDown() throws MospException {
+		database.close();
+	}
+	
+	/**
+	 * 計算対象の勤務日毎に勤怠計算を行い、記録済の計算結果と比較する。<br>
+	 * @throws Exception 勤怠計算或いは計算結果の読込に失敗した場合
+	 */
+	@Test
+	public void testAttendanceCalc() throws Exception {
+		// 計算結果取得
+		Map<String, String> actualMap = new LinkedHashMap<String, String>();
+		for (Entry<String, AttendanceDtoInterface> entry : caseMap.entrySet()) {
+			actualMap.put(entry.getKey(), calc(entry.getValue()));
+		}
+		// 計算結果を記録する場合
+		String record = System.getProperty(PROP_RECORD);
+		if (record != null) {
+			List<String> lines = new ArrayList<String>();
+			for (Entry<String, String> entry : actualMap.entrySet()) {
+				lines.add(entry.getKey() + "\t" + entry.getValue());
+			}
+			Files.write(new File(record).toPath(), lines, Charset.forName("UTF-8"));
+			return;
+		}
+		// 記録済の計算結果と比較
+		Map<String, String> expectedMap = readGolden();
+		assertEquals(expectedMap.keySet().toString(), actualMap.keySet().toString());
+		for (Entry<String, String> entry : expectedMap.entrySet()) {
+			assertEquals(entry.getKey(), entry.getValue(), actualMap.get(entry.getKey()));
+		}
+	}
+	
+	/**
+	 * 勤怠計算を行い、計算結果を文字列で取得する。<br>
+	 * @param attendanceDto 対象勤怠情報
+	 * @return 計算結果
+	 * @throws Exception 勤怠計算に失敗した場合
+	 */
+	protected String calc(AttendanceDtoInterface attendanceDto) throws Exception {
+		// 勤怠計算
+		AttendanceCalcBeanInterface attendanceCalc = database.createBean(AttendanceCalcBeanInterface.class);
+		attendanceCalc.attendanceCalc(attendanceDto);
+		// 勤怠情報の数値項目及び時刻項目を取得(項目名順)
+		StringBuilder sb = new StringBuilder();
+		Method[] getters = AttendanceDtoInterface.class.getDeclaredMethods();
+		Arrays.sort(getters, new MethodNameComparator());
+		for (Method getter : getters) {
+			Class<?> type = getter.getReturnType();
+			if (getter.getParameterTypes().length != 0 || EXCLUDED_GETTERS.contains(getter.getName())) {
+				continue;
+			}
+			if (type != int.class && type != long.class && type != double.class && type != Date.class) {
+				continue;
+			}
+			Object value = getter.invoke(attendanceDto);
+			if (value instanceof Date) {
+				value = DateUtility.getStringDate((Date)value, TIME_FORMAT);
+			}
+			sb.append(getter.getName().substring(3)).append('=').append(value).append(' ');
+		}
+		// エラーメッセージを取得し、次の計算のために消去
+		List<String> errorList = database.getMospParams().getErrorMessageList();
+		sb.append("Errors=").append(errorList);
+		errorList.clear();
+		return sb.toString();
+	}
+	
+	/**
+	 * 記録済の計算結果を読み込む。<br>
+	 * @return 記録済の計算結果(キー：計算対象名)
+	 * @throws Exception 読込に失敗した場合
+	 */
+	protected Map<String, String> readGolden() throws Exception {
+		Map<String, String> map = new LinkedHashMap<String, String>();
+		InputStream stream = getClass().getResourceAsStream(FILE_GOLDEN);
+		assertNotNull(FILE_GOLDEN, stream);
+		BufferedReader reader = new BufferedReader(new InputStreamReader(stream, "UTF-8"));
+		try {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				int index = line.indexOf('\t');
+				if (index < 0) {
+					continue;
+				}
+				map.put(line.substring(0, index), line.substring(index + 1));
+			}
+		} finally {
+			reader.close();
+		}
+		return map;
+	}
+	
+	/**
+	 * 勤怠設定、締日、カレンダ、勤務形態、設定適用及び人事情報を登録する。<br>
+	 * @throws MospException 登録に失敗した場合
+	 */
+	protected void createMasters() throws MospException {
+		// 締日(月末締)
+		CutoffDtoInterface cutoffDto = new TmmCutoffDto();
+		cutoffDto.setTmmCutoffId(nextId());
+		cutoffDto.setCutoffCode(CODE);
+		cutoffDto.setActivateDate(masterDate);
+		cutoffDto.setCutoffDate(TimeConst.CUTOFF_DATE_LAST_DAY);
+		cutoffDto.setCutoffType(TimeConst.CODE_CUTOFF_TYPE_MONTH_END_CLOSING);
+		database.insert(CutoffDaoInterface.class, cutoffDto);
+		// 勤怠設定(丸め無し、始業前の時間外労働無効)
+		TimeSettingDtoInterface timeSettingDto = new TmmTimeSettingDto();
+		timeSettingDto.setTmmTimeSettingId(nextId());
+		timeSettingDto.setWorkSettingCode(CODE);
+		timeSettingDto.setActivateDate(masterDate);
+		timeSettingDto.setCutoffCode(CODE);
+		timeSettingDto.setBeforeOvertimeFlag(TimeConst.CODE_BEFORE_OVERTIME_INVALID);
+		timeSettingDto.setGeneralWorkTime(DateUtility.getTime(GENERAL_WORK_TIME / 60, 0));
+		timeSettingDto.setStartDayTime(DateUtility.getTime(0, 0));
+		timeSettingDto.setLateEarlyFull(DateUtility.getTime(4, 0));
+		timeSettingDto.setLateEarlyHalf(DateUtility.getTime(2, 0));
+		timeSettingDto.setSubHolidayAllNorm(DateUtility.getTime(GENERAL_WORK_TIME / 60, 0));
+		timeSettingDto.setSubHolidayHalfNorm(DateUtility.getTime(GENERAL_WORK_TIME / 120, 0));
+		timeSettingDto.setStartWeek(1);
+		timeSettingDto.setStartMonth(1);
+		timeSettingDto.setStartYear(1);
+		database.insert(TimeSettingDaoInterface.class, timeSettingDto);
+		// 勤務形態(9:00-18:00、休憩12:00-13:00)
+		WorkTypeDtoInterface workTypeDto = new TmmWorkTypeDto();
+		workTypeDto.setTmmWorkTypeId(nextId());
+		workTypeDto.setWorkTypeCode(CODE);
+		workTypeDto.setActivateDate(masterDate);
+		database.insert(WorkTypeDaoInterface.class, workTypeDto);
+		addWorkTypeItem(TimeConst.CODE_WORKSTART, WORK_START);
+		addWorkTypeItem(TimeConst.CODE_WORKEND, WORK_END);
+		addWorkTypeItem(TimeConst.CODE_WORKTIME, GENERAL_WORK_TIME);
+		addWorkTypeItem(TimeConst.CODE_RESTTIME, REST_END - REST_START);
+		addWorkTypeItem(TimeConst.CODE_RESTSTART1, REST_START);
+		addWorkTypeItem(TimeConst.CODE_RESTEND1, REST_END);
+		addWorkTypeItem(TimeConst.CODE_RESTSTART2, 0);
+		addWorkTypeItem(TimeConst.CODE_RESTEND2, 0);
+		addWorkTypeItem(TimeConst.CODE_RESTSTART3, 0);
+		addWorkTypeItem(TimeConst.CODE_RESTEND3, 0);
+		addWorkTypeItem(TimeConst.CODE_RESTSTART4, 0);
+		addWorkTypeItem(TimeConst.CODE_RESTEND4, 0);
+		addWorkTypeItem(TimeConst.CODE_FRONTSTART, WORK_START);
+		addWorkTypeItem(TimeConst.CODE_FRONTEND, REST_START);
+		addWorkTypeItem(TimeConst.CODE_BACKSTART, REST_END);
+		addWorkTypeItem(TimeConst.CODE_BACKEND, WORK_END);
+		addWorkTypeItem(TimeConst.CODE_OVERBEFORE, 0);
+		addWorkTypeItem(TimeConst.CODE_OVERPER, 2 * 60);
+		addWorkTypeItem(TimeConst.CODE_OVERREST, 15);
+		addWorkTypeItem(TimeConst.CODE_HALFREST, 0);
+		addWorkTypeItem(TimeConst.CODE_HALFRESTSTART, 0);
+		addWorkTypeItem(TimeConst.CODE_HALFRESTEND, 0);
+		// カレンダ(平日は勤務、土曜は所定休日、日曜は法定休日、年度毎に登録)
+		for (int fiscalYear = FISCAL_YEAR - 1; fiscalYear <= FISCAL_YEAR; fiscalYear++) {
+			addSchedule(fiscalYear);
+		}
+		// 設定適用(全社員に適用)
+		ApplicationDtoInterface applicationDto = new TmmApplicationDto();
+		applicationDto.setTmmApplicationId(nextId());
+		applicationDto.setApplicationCode(CODE);
+		applicationDto.setActivateDate(masterDate);
+		applicationDto.setApplicationType(Integer.parseInt(PlatformConst.APPLICATION_TYPE_MASTER));
+		applicationDto.setWorkSettingCode(CODE);
+		applicationDto.setScheduleCode(CODE);
+		database.insert(ApplicationDaoInterface.class, applicationDto);
+		// 人事情報及び入社情報
+		HumanDtoInterface humanDto = new PfmHumanDto();
+		humanDto.setPfmHumanId(nextId());
+		humanDto.setPersonalId(PERSONAL_ID);
+		humanDto.setActivateDate(masterDate);
+		humanDto.setEmployeeCode(CODE);
+		database.insert(HumanDaoInterface.class, humanDto);
+		EntranceDtoInterface entranceDto = new PfaHumanEntranceDto();
+		entranceDto.setPfaHumanEntranceId(nextId());
+		entranceDto.setPersonalId(PERSONAL_ID);
+		entranceDto.setEntranceDate(masterDate);
+		database.insert(EntranceDaoInterface.class, entranceDto);
+	}
+	
+	/**
+	 * 計算対象の勤務日を登録する。<br>
+	 * 2016/04/01は金曜日、04/02は土曜日(所定休日)、04/03は日曜日(法定休日)である。<br>
+	 * @throws MospException 登録に失敗した場合
+	 */
+	protected void createCases() throws MospException {
+		// 平日から所定休日に跨ぐ深夜勤務(9:00-27:00、休憩は日を跨いで三回)
+		AttendanceDtoInterface dto = addCase("nightIntoPrescribedHoliday", date(4, 1), 9 * 60, 27 * 60);
+		addRest(dto, 1, REST_START, REST_END);
+		addRest(dto, 2, 22 * 60, 22 * 60 + 30);
+		addRest(dto, 3, 25 * 60, 25 * 60 + 30);
+		addOvertimeRequest(dto, 8 * 60);
+		// 所定休日から法定休日に跨ぐ休日労働(20:00-29:00、休憩は0:00-0:30)
+		dto = addCase("prescribedHolidayIntoLegalHoliday", date(4, 2), 20 * 60, 29 * 60);
+		addWorkOnHolidayRequest(dto, TimeConst.CODE_HOLIDAY_PRESCRIBED_HOLIDAY, 20 * 60, 29 * 60);
+		addRest(dto, 1, 24 * 60, 24 * 60 + 30);
+		// 法定休日労働(9:00-23:00、休憩は昼及び夜)
+		dto = addCase("legalHolidayWork", date(4, 3), 9 * 60, 23 * 60);
+		addWorkOnHolidayRequest(dto, TimeConst.CODE_HOLIDAY_LEGAL_HOLIDAY, 9 * 60, 23 * 60);
+		addRest(dto, 1, REST_START, REST_END);
+		addRest(dto, 2, 19 * 60, 19 * 60 + 30);
+		// 通常勤務(9:00-18:00)
+		dto = addCase("regular", date(4, 4), WORK_START, WORK_END);
+		addRest(dto, 1, REST_START, REST_END);
+		// 遅刻及び早退(9:25-17:40)
+		dto = addCase("lateAndLeaveEarly", date(4, 5), 9 * 60 + 25, 17 * 60 + 40);
+		addRest(dto, 1, REST_START, REST_END);
+		// 深夜残業(9:00-23:30、残業休憩を含む)
+		dto = addCase("overtimeIntoNight", date(4, 6), WORK_START, 23 * 60 + 30);
+		addRest(dto, 1, REST_START, REST_END);
+		addRest(dto, 2, 18 * 60, 18 * 60 + 30);
+		addRest(dto, 3, 22 * 60 + 15, 22 * 60 + 45);
+		addOvertimeRequest(dto, 5 * 60 + 30);
+		// 公用外出及び私用外出
+		dto = addCase("goOut", date(4, 7), WORK_START, WORK_END);
+		addRest(dto, 1, REST_START, REST_END);
+		addGoOut(dto, TimeConst.CODE_GO_OUT_PUBLIC, 1, 10 * 60, 11 * 60);
+		addGoOut(dto, TimeConst.CODE_GO_OUT_PRIVATE, 1, 15 * 60, 15 * 60 + 30);
+		addGoOut(dto, TimeConst.CODE_GO_OUT_PRIVATE, 2, 16 * 60, 16 * 60 + 20);
+		// 分単位休暇(始業時刻前後及び終業時刻前後)
+		dto = addCase("minutelyHoliday", date(4, 8), 9 * 60 + 30, 17 * 60 + 15);
+		addRest(dto, 1, REST_START, REST_END);
+		addGoOut(dto, TimeConst.CODE_GO_OUT_MINUTELY_HOLIDAY_A, 1, WORK_START, 9 * 60 + 30);
+		addGoOut(dto, TimeConst.CODE_GO_OUT_MINUTELY_HOLIDAY_B, 1, 17 * 60 + 15, WORK_END);
+		// 法定休日から平日に跨ぐ休日労働(22:00-30:00、休憩は2:00-2:30)
+		dto = addCase("legalHolidayIntoWorkday", date(4, 10), 22 * 60, 30 * 60);
+		addWorkOnHolidayRequest(dto, TimeConst.CODE_HOLIDAY_LEGAL_HOLIDAY, 22 * 60, 30 * 60);
+		addRest(dto, 1, 26 * 60, 26 * 60 + 30);
+		// 直行直帰(10:00-16:30)
+		dto = addCase("directStartAndEnd", date(4, 11), 10 * 60, 16 * 60 + 30);
+		dto.setDirectStart(1);
+		dto.setDirectEnd(1);
+		addRest(dto, 1, REST_START, REST_END);
+		// 時間単位有給休暇(9:00-11:00)
+		dto = addCase("hourlyPaidHoliday", date(4, 12), 11 * 60, WORK_END);
+		addRest(dto, 1, REST_START, REST_END);
+		addHourlyHolidayRequest(dto, WORK_START, 11 * 60);
+		// 休憩を挟む時間単位有給休暇(10:00-14:00)後の遅刻(14:30-18:00)
+		dto = addCase("lateAfterPaidHolidayOverRest", date(4, 13), 14 * 60 + 30, WORK_END);
+		addHourlyHolidayRequest(dto, 10 * 60, 14 * 60);
+		// 休憩と一部重なる分単位休暇(11:00-12:30)後の遅刻(13:15-18:00)
+		dto = addCase("lateAfterMinutelyHolidayOverRest", date(4, 14), 13 * 60 + 15, WORK_END);
+		addGoOut(dto, TimeConst.CODE_GO_OUT_MINUTELY_HOLIDAY_A, 1, 11 * 60, 12 * 60 + 30);
+		// 早退(9:00-11:30)後の休憩を挟む分単位休暇(11:30-14:00)
+		dto = addCase("leaveEarlyBeforeMinutelyHolidayOverRest", date(4, 15), WORK_START, 11 * 60 + 30);
+		addGoOut(dto, TimeConst.CODE_GO_OUT_MINUTELY_HOLIDAY_B, 1, 11 * 60 + 30, 14 * 60);
+		// 勤怠情報登録
+		database.insert(AttendanceDaoInterface.class, new ArrayList<AttendanceDtoInterface>(caseMap.values()));
+	}
+	
+	/**
+	 * 計算対象の勤怠情報を作成する。<br>
+	 * 勤怠情報は、全ての申請等を登録した後に{@link #createCases()}で登録する。<br>
+	 * @param name     計算対象名
+	 * @param workDate 勤務日
+	 * @param start    始業時刻(分)
+	 * @param end      終業時刻(分)
+	 * @return 勤怠情報
+	 * @throws MospException 登録に失敗した場合
+	 */
+	protected AttendanceDtoInterface addCase(String name, Date workDate, int start, int end) throws MospException {
+		String workTypeCode = CODE;
+		if (TimeConst.CODE_HOLIDAY_LEGAL_HOLIDAY.equals(getScheduledWorkTypeCode(workDate))) {
+			workTypeCode = TimeConst.CODE_WORK_ON_LEGAL_HOLIDAY;
+		} else if (TimeConst.CODE_HOLIDAY_PRESCRIBED_HOLIDAY.equals(getScheduledWorkTypeCode(workDate))) {
+			workTypeCode = TimeConst.CODE_WORK_ON_PRESCRIBED_HOLIDAY;
+		}
+		AttendanceDtoInterface dto = new TmdAttendanceDto();
+		dto.setTmdAttendanceId(nextId());
+		dto.setPersonalId(PERSONAL_ID);
+		dto.setWorkDate(workDate);
+		dto.setTimesWork(1);
+		dto.setWorkTypeCode(workTypeCode);
+		dto.setStartTime(DateUtility.addMinute(workDate, start));
+		dto.setActualStartTime(DateUtility.addMinute(workDate, start));
+		dto.setEndTime(DateUtility.addMinute(workDate, end));
+		dto.setActualEndTime(DateUtility.addMinute(workDate, end));
+		dto.setWorkflow(addWorkflow(workDate, TimeConst.CODE_FUNCTION_WORK_MANGE));
+		caseMap.put(name, dto);
+		return dto;
+	}
+	
+	/**
+	 * 休憩情報を登録する。<br>
+	 * @param attendanceDto 勤怠情報
+	 * @param rest          休憩回数
+	 * @param start         休憩開始時刻(分)
+	 * @param end           休憩終了時刻(分)
+	 * @throws MospException 登録に失敗した場合
+	 */
+	protected void addRest(AttendanceDtoInterface attendanceDto, int rest, int start, int end) throws MospException {
+		Date workDate = attendanceDto.getWorkDate();
+		RestDtoInterface dto = new TmdRestDto();
+		dto.setTmdRestId(nextId());
+		dto.setPersonalId(PERSONAL_ID);
+		dto.setWorkDate(workDate);
+		dto.setTimesWork(1);
+		dto.setRest(rest);
+		dto.setRestStart(DateUtility.addMinute(workDate, start));
+		dto.setRestEnd(DateUtility.addMinute(workDate, end));
+		dto.setRestTime(end - start);
+		database.insert(RestDaoInterface.class, dto);
+	}
+	
+	/**
+	 * 外出情報(公用外出、私用外出及び分単位休暇)を登録する。<br>
+	 * @param attendanceDto 勤怠情報
+	 * @param goOutType     外出区分
+	 * @param timesGoOut    外出回数
+	 * @param start         外出開始時刻(分)
+	 * @param end           外出終了時刻(分)
+	 * @throws MospException 登録に失敗した場合
+	 */
+	protected void addGoOut(AttendanceDtoInterface attendanceDto, int goOutType, int timesGoOut, int start, int end)
+			throws MospException {
+		Date workDate = attendanceDto.getWorkDate();
+		GoOutDtoInterface dto = new TmdGoOutDto();
+		dto.setTmdGoOutId(nextId());
+		dto.setPersonalId(PERSONAL_ID);
+		dto.setWorkDate(workDate);
+		dto.setTimesWork(1);
+		dto.setGoOutType(goOutType);
+		dto.setTimesGoOut(timesGoOut);
+		dto.setGoOutStart(DateUtility.addMinute(workDate, start));
+		dto.setGoOutEnd(DateUtility.addMinute(workDate, end));
+		dto.setGoOutTime(end - start);
+		database.insert(GoOutDaoInterface.class, dto);
+	}
+	
+	/**
+	 * 承認済の残業(勤務後)申請情報を登録する。<br>
+	 * @param attendanceDto 勤怠情報
+	 * @param requestTime   申請時間(分)
+	 * @throws MospException 登録に失敗した場合
+	 */
+	protected void addOvertimeRequest(AttendanceDtoInterface attendanceDto, int requestTime) throws MospException {
+		OvertimeRequestDtoInterface dto = new TmdOvertimeRequestDto();
+		dto.setTmdOvertimeRequestId(nextId());
+		dto.setPersonalId(PERSONAL_ID);
+		dto.setRequestDate(attendanceDto.getWorkDate());
+		dto.setTimesWork(1);
+		dto.setOvertimeType(TimeConst.CODE_OVERTIME_WORK_AFTER);
+		dto.setRequestTime(requestTime);
+		dto.setWorkflow(addWorkflow(attendanceDto.getWorkDate(), TimeConst.CODE_FUNCTION_OVER_WORK));
+		database.insert(OvertimeRequestDaoInterface.class, dto);
+	}
+	
+	/**
+	 * 承認済の休日出勤申請情報(振替無し)を登録する。<br>
+	 * @param attendanceDto     勤怠情報
+	 * @param workOnHolidayType 休日種別
+	 * @param start             出勤予定時刻(分)
+	 * @param end               退勤予定時刻(分)
+	 * @throws MospException 登録に失敗した場合
+	 */
+	protected void addWorkOnHolidayRequest(AttendanceDtoInterface attendanceDto, String workOnHolidayType, int start,
+			int end) throws MospException {
+		Date workDate = attendanceDto.getWorkDate();
+		WorkOnHolidayRequestDtoInterface dto = new TmdWorkOnHolidayRequestDto();
+		dto.setTmdWorkOnHolidayRequestId(nextId());
+		dto.setPersonalId(PERSONAL_ID);
+		dto.setRequestDate(workDate);
+		dto.setTimesWork(1);
+		dto.setSubstitute(TimeConst.CODE_WORK_ON_HOLIDAY_SUBSTITUTE_OFF);
+		dto.setWorkOnHolidayType(workOnHolidayType);
+		dto.setStartTime(DateUtility.addMinute(workDate, start));
+		dto.setEndTime(DateUtility.addMinute(workDate, end));
+		dto.setWorkflow(addWorkflow(workDate, TimeConst.CODE_FUNCTION_WORK_HOLIDAY));
+		database.insert(WorkOnHolidayRequestDaoInterface.class, dto);
+	}
+	
+	/**
+	 * 承認済の時間単位有給休暇申請情報を登録する。<br>
+	 * @param attendanceDto 勤怠情報
+	 * @param start         休暇開始時刻(分)
+	 * @param end           休暇終了時刻(分)
+	 * @throws MospException 登録に失敗した場合
+	 */
+	protected void addHourlyHolidayRequest(AttendanceDtoInterface attendanceDto, int start, int end)
+			throws MospException {
+		Date workDate = attendanceDto.getWorkDate();
+		HolidayRequestDtoInterface dto = new TmdHolidayRequestDto();
+		dto.setTmdHolidayRequestId(nextId());
+		dto.setPersonalId(PERSONAL_ID);
+		dto.setRequestStartDate(workDate);
+		dto.setRequestEndDate(workDate);
+		dto.setHolidayType1(TimeConst.CODE_HOLIDAYTYPE_HOLIDAY);
+		dto.setHolidayType2(String.valueOf(TimeConst.CODE_HOLIDAYTYPE_HOLIDAY));
+		dto.setHolidayRange(TimeConst.CODE_HOLIDAY_RANGE_TIME);
+		dto.setStartTime(DateUtility.addMinute(workDate, start));
+		dto.setEndTime(DateUtility.addMinute(workDate, end));
+		dto.setHolidayAcquisitionDate(workDate);
+		dto.setUseHour((end - start) / 60);
+		dto.setWorkflow(addWorkflow(workDate, TimeConst.CODE_FUNCTION_VACATION));
+		database.insert(HolidayRequestDaoInterface.class, dto);
+	}
+	
+	/**
+	 * 承認済のワークフロー情報を登録する。<br>
+	 * @param workflowDate 対象日
+	 * @param functionCode 機能コード
+	 * @return ワークフロー番号
+	 * @throws MospException 登録に失敗した場合
+	 */
+	protected long addWorkflow(Date workflowDate, String functionCode) throws MospException {
+		long workflow = nextId();
+		WorkflowDtoInterface dto = new PftWorkflowDto();
+		dto.setPftWorkflowId(workflow);
+		dto.setWorkflow(workflow);
+		dto.setWorkflowStage(PlatformConst.WORKFLOW_STAGE_FIRST);
+		dto.setWorkflowStatus(PlatformConst.CODE_STATUS_COMPLETE);
+		dto.setPersonalId(PERSONAL_ID);
+		dto.setWorkflowDate(workflowDate);
+		dto.setFunctionCode(functionCode);
+		database.insert(WorkflowDaoInterface.class, dto);
+		return workflow;
+	}
+	
+	/**
+	 * 勤務形態項目情報を登録する。<br>
+	 * @param itemCode 勤務形態項目コード
+	 * @param minutes  項目値(0時からの分)
+	 * @throws MospException 登録に失敗した場合
+	 */
+	protected void addWorkTypeItem(String itemCode, int minutes) throws MospException {
+		WorkTypeItemDtoInterface dto = new TmmWorkTypeItemDto();
+		dto.setTmmWorkTypeItemId(nextId());
+		dto.setWorkTypeCode(CODE);
+		dto.setActivateDate(masterDate);
+		dto.setWorkTypeItemCode(itemCode);
+		dto.setWorkTypeItemValue(DateUtility.getTime(minutes / 60, minutes % 60));
+		database.insert(WorkTypeItemDaoInterface.class, dto);
+	}
+	
+	/**
+	 * カレンダ上の勤務形態コードを取得する。<br>
+	 * @param date 対象日
+	 * @return 勤務形態コード
+	 */
+	protected String getScheduledWorkTypeCode(Date date) {
+		if (DateUtility.isSunday(date)) {
+			return TimeConst.CODE_HOLIDAY_LEGAL_HOLIDAY;
+		}
+		if (DateUtility.isSaturday(date)) {
+			return TimeConst.CODE_HOLIDAY_PRESCRIBED_HOLIDAY;
+		}
+		return CODE;
+	}
+	
+	/**
+	 * 年度のカレンダを登録する。<br>
+	 * カレンダマスタは年度の初日を有効日とし、年度の全日についてカレンダ日を登録する。<br>
+	 * @param fiscalYear 年度
+	 * @throws MospException 登録に失敗した場合
+	 */
+	protected void addSchedule(int fiscalYear) throws MospException {
+		MospParams mospParams = database.getMospParams();
+		Date yearDate = MonthUtility.getYearDate(fiscalYear, mospParams);
+		ScheduleDtoInterface scheduleDto = new TmmScheduleDto();
+		scheduleDto.setTmmScheduleId(nextId());
+		scheduleDto.setScheduleCode(CODE);
+		scheduleDto.setActivateDate(yearDate);
+		scheduleDto.setFiscalYear(fiscalYear);
+		database.insert(ScheduleDaoInterface.class, scheduleDto);
+		List<ScheduleDateDtoInterface> scheduleDateList = new ArrayList<ScheduleDateDtoInterface>();
+		Date lastDate = MonthUtility.getFiscalYearLastDate(fiscalYear, mospParams);
+		for (Date date = yearDate; date.after(lastDate) == false; date = DateUtility.addDay(date, 1)) {
+			ScheduleDateDtoInterface dto = new TmmScheduleDateDto();
+			dto.setTmmScheduleDateId(nextId());
+			dto.setScheduleCode(CODE);
+			dto.setActivateDate(yearDate);
+			dto.setScheduleDate(date);
+			dto.setWorks(1);
+			dto.setWorkTypeCode(getScheduledWorkTypeCode(date));
+			scheduleDateList.add(dto);
+		}
+		database.insert(ScheduleDateDaoInterface.class, scheduleDateList);
+	}
+	
+	/**
+	 * 2016年の日付を取得する。<br>
+	 * @param month 月
+	 * @param day   日
+	 * @return 日付
+	 * @throws MospException 日付の変換に失敗した場合
+	 */
+	protected static Date date(int month, int day) throws MospException {
+		return DateUtility.getDate(2016, month, day);
+	}
+	
+	/**
+	 * レコード識別IDを採番する。<br>
+	 * ワークフロー番号も同じ番号から採番する。<br>
+	 * @return レコード識別ID
+	 */
+	protected long nextId() {
+		return ++lastId;
+	}
+	
+	/**
+	 * メソッド名の昇順に並べる比較クラス。<br>
+	 */
+	protected static class MethodNameComparator implements Comparator<Method> {
+		
+		@Override
+		public int compare(Method o1, Method o2) {
+			return o1.getName().compareTo(o2.getName());
+		}
+		
+	}
+	
+}
@@ -0,0 +1,598 @@
+/*
+ * MosP - Mind Open Source Project    http://www.mosp.jp/
+ * Copyright (C) MIND Co., Ltd.       http://www.e-mind.co.jp/
+ *
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Affero General Public License
+ * as published by the Free Software Foundation, either version 3
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package jp.mosp.time.bean.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import jp.mosp.framework.base.MospException;
+import jp.mosp.framework.base.MospParams;
+import jp.mosp.framework.utils.DateUtility;
+import jp.mosp.platform.constant.PlatformConst;
+import jp.mosp.platform.dao.human.EntranceDaoInterface;
+import jp.mosp.platform.dao.human.HumanDaoInterface;
+import jp.mosp.platform.dao.workflow.WorkflowDaoInterface;
+import jp.mosp.platform.dto.human.EntranceDtoInterface;
+import jp.mosp.platform.dto.human.HumanDtoInterface;
+import jp.mosp.platform.dto.human.impl.PfaHumanEntranceDto;
+import jp.mosp.platform.dto.human.impl.PfmHumanDto;
+import jp.mosp.platform.dto.workflow.WorkflowDtoInterface;
+import jp.mosp.platform.dto.workflow.impl.PftWorkflowDto;
+import jp.mosp.platform.utils.MonthUtility;
+import jp.mosp.test.InMemoryDatabase;
+import jp.mosp.time.bean.AttendanceCalcBeanInterface;
+import jp.mosp.time.bean.TotalTimeCalcBeanInterface;
+import jp.mosp.time.constant.TimeConst;
+import jp.mosp.time.dao.settings.ApplicationDaoInterface;
+import jp.mosp.time.dao.settings.AttendanceDaoInterface;
+import jp.mosp.time.dao.settings.CutoffDaoInterface;
+import jp.mosp.time.dao.settings.OvertimeRequestDaoInterface;
+import jp.mosp.time.dao.settings.RestDaoInterface;
+import jp.mosp.time.dao.settings.ScheduleDaoInterface;
+import jp.mosp.time.dao.settings.ScheduleDateDaoInterface;
+import jp.mosp.time.dao.settings.TimeSettingDaoInterface;
+import jp.mosp.time.dao.settings.WorkTypeDaoInterface;
+import jp.mosp.time.dao.settings.WorkTypeItemDaoInterface;
+import jp.mosp.time.dto.settings.ApplicationDtoInterface;
+import jp.mosp.time.dto.settings.AttendanceDtoInterface;
+import jp.mosp.time.dto.settings.CutoffDtoInterface;
+import jp.mosp.time.dto.settings.CutoffErrorListDtoInterface;
+import jp.mosp.time.dto.settings.OvertimeRequestDtoInterface;
+import jp.mosp.time.dto.settings.RestDtoInterface;
+import jp.mosp.time.dto.settings.ScheduleDateDtoInterface;
+import jp.mosp.time.dto.settings.ScheduleDtoInterface;
+import jp.mosp.time.dto.settings.TimeSettingDtoInterface;
+import jp.mosp.time.dto.settings.WorkTypeDtoInterface;
+import jp.mosp.time.dto.settings.WorkTypeItemDtoInterface;
+import jp.mosp.time.dto.settings.impl.TmdAttendanceDto;
+import jp.mosp.time.dto.settings.impl.TmdOvertimeRequestDto;
+import jp.mosp.time.dto.settings.impl.TmdRestDto;
+import jp.mosp.time.dto.settings.impl.TmmApplicationDto;
+import jp.mosp.time.dto.settings.impl.TmmCutoffDto;
+import jp.mosp.time.dto.settings.impl.TmmScheduleDateDto;
+import jp.mosp.time.dto.settings.impl.TmmScheduleDto;
+import jp.mosp.time.dto.settings.impl.TmmTimeSettingDto;
+import jp.mosp.time.dto.settings.impl.TmmWorkTypeDto;
+import jp.mosp.time.dto.settings.impl.TmmWorkTypeItemDto;
+
+/**
+ * {@link TotalTimeCalcBean}の仮締を、並列に処理した場合と逐次処理した場合とで比較する。<br>
+ * <br>
+ * 同じ勤怠情報を登録したインメモリDBを二つ作成し、
+ * 一方は仮締並列数1、他方は仮締並列数2以上で同じ締日の仮締を行う。<br>
+ * 登録された勤怠集計系のテーブル(tmd_total_*)の内容が、
+ * レコード識別ID及び登録更新情報を除いて一致することを確認する。<br>
+ */
+public class TotalTimeCalcParallelTest {
+	
+	/**
+	 * 各種マスタのコード。<br>
+	 */
+	protected static final String	CODE				= "PARALLEL";
+	
+	/**
+	 * 社員数(仮締分割単位を超え、分割数が仮締並列数を超える数)。<br>
+	 */
+	protected static final int		EMPLOYEES			= 7;
+	
+	/**
+	 * 仮締分割単位。<br>
+	 */
+	protected static final int		CHUNK_SIZE			= 2;
+	
+	/**
+	 * 仮締並列数(並列に処理する場合)。<br>
+	 */
+	protected static final int		THREADS				= 3;
+	
+	/**
+	 * 対象年度。<br>
+	 */
+	protected static final int		FISCAL_YEAR			= 2016;
+	
+	/**
+	 * 対象年。<br>
+	 */
+	protected static final int		TARGET_YEAR			= 2016;
+	
+	/**
+	 * 対象月。<br>
+	 */
+	protected static final int		TARGET_MONTH		= 4;
+	
+	/**
+	 * 規定始業時刻(分)。<br>
+	 */
+	protected static final int		WORK_START			= 9 * 60;
+	
+	/**
+	 * 規定終業時刻(分)。<br>
+	 */
+	protected static final int		WORK_END			= 18 * 60;
+	
+	/**
+	 * 休憩開始時刻(分)。<br>
+	 */
+	protected static final int		REST_START			= 12 * 60;
+	
+	/**
+	 * 休憩終了時刻(分)。<br>
+	 */
+	protected static final int		REST_END			= 13 * 60;
+	
+	/**
+	 * 所定労働時間(分)。<br>
+	 */
+	protected static final int		GENERAL_WORK_TIME	= 8 * 60;
+	
+	/**
+	 * 比較対象テーブル名の接頭辞。<br>
+	 */
+	protected static final String	TABLE_PREFIX		= "TMD_TOTAL";
+	
+	/**
+	 * 比較に含めない列名(登録更新情報)。<br>
+	 */
+	protected static final String[]	EXCLUDED_COLUMNS	= { "INSERT_DATE", "INSERT_USER", "UPDATE_DATE",
+		"UPDATE_USER" };
+	
+	/**
+	 * インメモリDB(逐次処理)。<br>
+	 */
+	protected InMemoryDatabase		sequentialDatabase;
+	
+	/**
+	 * インメモリDB(並列処理)。<br>
+	 */
+	protected InMemoryDatabase		parallelDatabase;
+	
+	/**
+	 * 登録先のインメモリDB。<br>
+	 */
+	protected InMemoryDatabase		database;
+	
+	/**
+	 * 各種マスタの有効日。<br>
+	 */
+	protected Date					masterDate;
+	
+	/**
+	 * 最後に採番したレコード識別ID。<br>
+	 */
+	protected long					lastId;
+	
+	
+	/**
+	 * 同じ勤怠情報を登録したインメモリDBを二つ作成する。<br>
+	 * @throws MospException DBの作成或いは登録に失敗した場合
+	 */
+	@Before
+	public void setUp() throws MospException {
+		masterDate = DateUtility.getDate(2015, 1, 1);
+		sequentialDatabase = createDatabase(1);
+		parallelDatabase = createDatabase(THREADS);
+	}
+	
+	/**
+	 * インメモリDBを破棄する。<br>
+	 * @throws MospException DBの破棄に失敗した場合
+	 */
+	@After
+	public void tearDown() throws MospException {
+		if (sequentialDatabase != null) {
+			sequentialDatabase.close();
+		}
+		if (parallelDatabase != null) {
+			parallelDatabase.close();
+		}
+	}
+	
+	/**
+	 * 仮締並列数1と仮締並列数2以上で仮締を行い、登録された勤怠集計系のテーブルを比較する。<br>
+	 * @throws Exception 仮締或いは登録内容の取得に失敗した場合
+	 */
+	@Test
+	public void testTighteningParallel() throws Exception {
+		Map<String, List<String>> expected = tighten(sequentialDatabase);
+		Map<String, List<String>> actual = tighten(parallelDatabase);
+		// 全社員の勤怠集計データが登録されていることを確認
+		assertEquals(EMPLOYEES, expected.get("TMD_TOTAL_TIME").size());
+		// テーブル毎に比較
+		assertEquals(expected.keySet(), actual.keySet());
+		for (Entry<String, List<String>> entry : expected.entrySet()) {
+			List<String> actualRows = actual.get(entry.getKey());
+			assertEquals(entry.getKey(), entry.getValue().size(), actualRows.size());
+			for (int i = 0; i < entry.getValue().size(); i++) {
+				assertEquals(entry.getKey(), entry.getValue().get(i), actualRows.get(i));
+			}
+		}
+	}
+	
+	/**
+	 * 仮締を行い、登録された勤怠集計系のテーブルの内容を取得する。<br>
+	 * @param target 対象インメモリDB
+	 * @return 登録内容(キー：テーブル名、値：レコードを文字列にしたものの昇順リスト)
+	 * @throws Exception 仮締或いは登録内容の取得に失敗した場合
+	 */
+	protected Map<String, List<String>> tighten(InMemoryDatabase target) throws Exception {
+		TotalTimeCalcBeanInterface totalTimeCalc = target.createBean(TotalTimeCalcBeanInterface.class);
+		List<CutoffErrorListDtoInterface> errorList = totalTimeCalc.tightening(TARGET_YEAR, TARGET_MONTH, CODE);
+		assertTrue(errorList.toString(), errorList.isEmpty());
+		assertTrue(target.getMospParams().getErrorMessageList().toString(),
+				target.getMospParams().getErrorMessageList().isEmpty());
+		target.commit();
+		// テーブル名取得
+		List<String> tableList = new ArrayList<String>();
+		PreparedStatement ps = target.getConnection().prepareStatement(
+				"SELECT table_name FROM information_schema.tables WHERE table_name LIKE ? ORDER BY table_name");
+		try {
+			ps.setString(1, TABLE_PREFIX + "%");
+			ResultSet rs = ps.executeQuery();
+			while (rs.next()) {
+				tableList.add(rs.getString(1));
+			}
+		} finally {
+			ps.close();
+		}
+		// テーブル毎に登録内容を取得
+		Map<String, List<String>> map = new TreeMap<String, List<String>>();
+		for (String table : tableList) {
+			map.put(table, getRows(target, table));
+		}
+		return map;
+	}
+	
+	/**
+	 * テーブルの全レコードを文字列にして取得する。<br>
+	 * レコード識別ID(先頭列)及び登録更新情報は、処理順により異なるため含めない。<br>
+	 * @param target 対象インメモリDB
+	 * @param table  テーブル名
+	 * @return レコードを文字列にしたものの昇順リスト
+	 * @throws SQLException 取得に失敗した場合
+	 */
+	protected List<String> getRows(InMemoryDatabase target, String table) throws SQLException {
+		List<String> list = new ArrayList<String>();
+		PreparedStatement ps = target.getConnection().prepareStatement("SELECT * FROM " + table);
+		try {
+			ResultSet rs = ps.executeQuery();
+			ResultSetMetaData meta = rs.getMetaData();
+			while (rs.next()) {
+				StringBuilder sb = new StringBuilder();
+				for (int i = 2; i <= meta.getColumnCount(); i++) {
+					String column = meta.getColumnName(i);
+					if (isExcluded(column)) {
+						continue;
+					}
+					sb.append(column).append('=').append(rs.getString(i)).append(' ');
+				}
+				list.add(sb.toString());
+			}
+		} finally {
+			ps.close();
+		}
+		Collections.sort(list);
+		return list;
+	}
+	
+	/**
+	 * 比較に含めない列であるかを確認する。<br>
+	 * @param column 列名
+	 * @return 確認結果(true：含めない、false：含める)
+	 */
+	protected boolean isExcluded(String column) {
+		for (String excluded : EXCLUDED_COLUMNS) {
+			if (excluded.equalsIgnoreCase(column)) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * インメモリDBを作成し、マスタ及び社員毎の勤怠情報を登録する。<br>
+	 * 勤怠情報は、勤怠計算を行った上で登録する。<br>
+	 * @param threads 仮締並列数
+	 * @return インメモリDB
+	 * @throws MospException DBの作成或いは登録に失敗した場合
+	 */
+	protected InMemoryDatabase createDatabase(int threads) throws MospException {
+		database = new InMemoryDatabase("P000000000");
+		database.getMospParams().getProperties().setApplicationProperty(TimeConst.APP_CUTOFF_THREADS,
+				String.valueOf(threads));
+		database.getMospParams().getProperties().setApplicationProperty(TimeConst.APP_CUTOFF_CHUNK_SIZE,
+				String.valueOf(CHUNK_SIZE));
+		lastId = 0;
+		createMasters();
+		for (int i = 0; i < EMPLOYEES; i++) {
+			createEmployee(String.format("P%09d", i), i);
+		}
+		database.commit();
+		return database;
+	}
+	
+	/**
+	 * 勤怠設定、締日、カレンダ、勤務形態及び設定適用を登録する。<br>
+	 * @throws MospException 登録に失敗した場合
+	 */
+	protected void createMasters() throws MospException {
+		// 締日(月末締)
+		CutoffDtoInterface cutoffDto = new TmmCutoffDto();
+		cutoffDto.setTmmCutoffId(nextId());
+		cutoffDto.setCutoffCode(CODE);
+		cutoffDto.setActivateDate(masterDate);
+		cutoffDto.setCutoffDate(TimeConst.CUTOFF_DATE_LAST_DAY);
+		cutoffDto.setCutoffType(TimeConst.CODE_CUTOFF_TYPE_MONTH_END_CLOSING);
+		database.insert(CutoffDaoInterface.class, cutoffDto);
+		// 勤怠設定(丸め無し、始業前の時間外労働無効)
+		TimeSettingDtoInterface timeSettingDto = new TmmTimeSettingDto();
+		timeSettingDto.setTmmTimeSettingId(nextId());
+		timeSettingDto.setWorkSettingCode(CODE);
+		timeSettingDto.setActivateDate(masterDate);
+		timeSettingDto.setCutoffCode(CODE);
+		timeSettingDto.setBeforeOvertimeFlag(TimeConst.CODE_BEFORE_OVERTIME_INVALID);
+		timeSettingDto.setGeneralWorkTime(DateUtility.getTime(GENERAL_WORK_TIME / 60, 0));
+		timeSettingDto.setStartDayTime(DateUtility.getTime(0, 0));
+		timeSettingDto.setLateEarlyFull(DateUtility.getTime(4, 0));
+		timeSettingDto.setLateEarlyHalf(DateUtility.getTime(2, 0));
+		timeSettingDto.setSubHolidayAllNorm(DateUtility.getTime(GENERAL_WORK_TIME / 60, 0));
+		timeSettingDto.setSubHolidayHalfNorm(DateUtility.getTime(GENERAL_WORK_TIME / 120, 0));
+		timeSettingDto.setStartWeek(1);
+		timeSettingDto.setStartMonth(1);
+		timeSettingDto.setStartYear(1);
+		database.insert(TimeSettingDaoInterface.class, timeSettingDto);
+		// 勤務形態(9:00-18:00、休憩12:00-13:00)
+		WorkTypeDtoInterface workTypeDto = new TmmWorkTypeDto();
+		workTypeDto.setTmmWorkTypeId(nextId());
+		workTypeDto.setWorkTypeCode(CODE);
+		workTypeDto.setActivateDate(masterDate);
+		database.insert(WorkTypeDaoInterface.class, workTypeDto);
+		addWorkTypeItem(TimeConst.CODE_WORKSTART, WORK_START);
+		addWorkTypeItem(TimeConst.CODE_WORKEND, WORK_END);
+		addWorkTypeItem(TimeConst.CODE_WORKTIME, GENERAL_WORK_TIME);
+		addWorkTypeItem(TimeConst.CODE_RESTTIME, REST_END - REST_START);
+		addWorkTypeItem(TimeConst.CODE_RESTSTART1, REST_START);
+		addWorkTypeItem(TimeConst.CODE_RESTEND1, REST_END);
+		addWorkTypeItem(TimeConst.CODE_RESTSTART2, 0);
+		addWorkTypeItem(TimeConst.CODE_RESTEND2, 0);
+		addWorkTypeItem(TimeConst.CODE_RESTSTART3, 0);
+		addWorkTypeItem(TimeConst.CODE_RESTEND3, 0);
+		addWorkTypeItem(TimeConst.CODE_RESTSTART4, 0);
+		addWorkTypeItem(TimeConst.CODE_RESTEND4, 0);
+		addWorkTypeItem(TimeConst.CODE_FRONTSTART, WORK_START);
+		addWorkTypeItem(TimeConst.CODE_FRONTEND, REST_START);
+		addWorkTypeItem(TimeConst.CODE_BACKSTART, REST_END);
+		addWorkTypeItem(TimeConst.CODE_BACKEND, WORK_END);
+		addWorkTypeItem(TimeConst.CODE_OVERBEFORE, 0);
+		addWorkTypeItem(TimeConst.CODE_OVERPER, 2 * 60);
+		addWorkTypeItem(TimeConst.CODE_OVERREST, 15);
+		addWorkTypeItem(TimeConst.CODE_HALFREST, 0);
+		addWorkTypeItem(TimeConst.CODE_HALFRESTSTART, 0);
+		addWorkTypeItem(TimeConst.CODE_HALFRESTEND, 0);
+		// カレンダ(平日は勤務、土曜は所定休日、日曜は法定休日)
+		addSchedule(FISCAL_YEAR);
+		// 設定適用(全社員に適用)
+		ApplicationDtoInterface applicationDto = new TmmApplicationDto();
+		applicationDto.setTmmApplicationId(nextId());
+		applicationDto.setApplicationCode(CODE);
+		applicationDto.setActivateDate(masterDate);
+		applicationDto.setApplicationType(Integer.parseInt(PlatformConst.APPLICATION_TYPE_MASTER));
+		applicationDto.setWorkSettingCode(CODE);
+		applicationDto.setScheduleCode(CODE);
+		database.insert(ApplicationDaoInterface.class, applicationDto);
+	}
+	
+	/**
+	 * 社員一人分の人事情報、入社情報及び対象月の勤怠情報を登録する。<br>
+	 * 勤務日毎に、社員の通番及び日付によって遅刻、残業及び深夜勤務の有無を変える。<br>
+	 * @param personalId 個人ID
+	 * @param index      社員の通番
+	 * @throws MospException 登録或いは勤怠計算に失敗した場合
+	 */
+	protected void createEmployee(String personalId, int index) throws MospException {
+		// 人事情報及び入社情報
+		HumanDtoInterface humanDto = new PfmHumanDto();
+		humanDto.setPfmHumanId(nextId());
+		humanDto.setPersonalId(personalId);
+		humanDto.setActivateDate(masterDate);
+		humanDto.setEmployeeCode(String.format("E%05d", index));
+		database.insert(HumanDaoInterface.class, humanDto);
+		EntranceDtoInterface entranceDto = new PfaHumanEntranceDto();
+		entranceDto.setPfaHumanEntranceId(nextId());
+		entranceDto.setPersonalId(personalId);
+		entranceDto.setEntranceDate(masterDate);
+		database.insert(EntranceDaoInterface.class, entranceDto);
+		// 対象月の勤務日毎に勤怠情報を作成
+		List<AttendanceDtoInterface> attendanceList = new ArrayList<AttendanceDtoInterface>();
+		Date firstDate = DateUtility.getDate(TARGET_YEAR, TARGET_MONTH, 1);
+		Date lastDate = DateUtility.addDay(DateUtility.addMonth(firstDate, 1), -1);
+		int day = 0;
+		for (Date date = firstDate; date.after(lastDate) == false; date = DateUtility.addDay(date, 1)) {
+			day++;
+			if (CODE.equals(getScheduledWorkTypeCode(date)) == false) {
+				continue;
+			}
+			int start = WORK_START + (index + day) % 3 * 10;
+			int end = WORK_END + (index * 7 + day * 13) % 6 * 60;
+			attendanceList.add(addAttendance(personalId, date, start, end));
+		}
+		// 勤怠計算及び登録(休憩及び申請を登録した後に計算)
+		AttendanceCalcBeanInterface attendanceCalc = database.createBean(AttendanceCalcBeanInterface.class);
+		for (AttendanceDtoInterface dto : attendanceList) {
+			attendanceCalc.attendanceCalc(dto);
+		}
+		database.insert(AttendanceDaoInterface.class, attendanceList);
+	}
+	
+	/**
+	 * 勤怠情報を作成し、休憩情報及び承認済の残業申請情報を登録する。<br>
+	 * @param personalId 個人ID
+	 * @param workDate   勤務日
+	 * @param start      始業時刻(分)
+	 * @param end        終業時刻(分)
+	 * @return 勤怠情報(未登録)
+	 * @throws MospException 登録に失敗した場合
+	 */
+	protected AttendanceDtoInterface addAttendance(String personalId, Date workDate, int start, int end)
+			throws MospException {
+		AttendanceDtoInterface dto = new TmdAttendanceDto();
+		dto.setTmdAttendanceId(nextId());
+		dto.setPersonalId(personalId);
+		dto.setWorkDate(workDate);
+		dto.setTimesWork(1);
+		dto.setWorkTypeCode(CODE);
+		dto.setStartTime(DateUtility.addMinute(workDate, start));
+		dto.setActualStartTime(DateUtility.addMinute(workDate, start));
+		dto.setEndTime(DateUtility.addMinute(workDate, end));
+		dto.setActualEndTime(DateUtility.addMinute(workDate, end));
+		dto.setWorkflow(addWorkflow(personalId, workDate, TimeConst.CODE_FUNCTION_WORK_MANGE));
+		InMemoryDatabase.fill(dto);
+		// 休憩情報
+		RestDtoInterface restDto = new TmdRestDto();
+		restDto.setTmdRestId(nextId());
+		restDto.setPersonalId(personalId);
+		restDto.setWorkDate(workDate);
+		restDto.setTimesWork(1);
+		restDto.setRest(1);
+		restDto.setRestStart(DateUtility.addMinute(workDate, REST_START));
+		restDto.setRestEnd(DateUtility.addMinute(workDate, REST_END));
+		restDto.setRestTime(REST_END - REST_START);
+		database.insert(RestDaoInterface.class, restDto);
+		// 残業がある場合は残業申請情報
+		if (end > WORK_END) {
+			OvertimeRequestDtoInterface requestDto = new TmdOvertimeRequestDto();
+			requestDto.setTmdOvertimeRequestId(nextId());
+			requestDto.setPersonalId(personalId);
+			requestDto.setRequestDate(workDate);
+			requestDto.setTimesWork(1);
+			requestDto.setOvertimeType(TimeConst.CODE_OVERTIME_WORK_AFTER);
+			requestDto.setRequestTime(end - WORK_END);
+			requestDto.setWorkflow(addWorkflow(personalId, workDate, TimeConst.CODE_FUNCTION_OVER_WORK));
+			database.insert(OvertimeRequestDaoInterface.class, requestDto);
+		}
+		return dto;
+	}
+	
+	/**
+	 * 承認済のワークフロー情報を登録する。<br>
+	 * @param personalId   個人ID
+	 * @param workflowDate 対象日
+	 * @param functionCode 機能コード
+	 * @return ワークフロー番号
+	 * @throws MospException 登録に失敗した場合
+	 */
+	protected long addWorkflow(String personalId, Date workflowDate, String functionCode) throws MospException {
+		long workflow = nextId();
+		WorkflowDtoInterface dto = new PftWorkflowDto();
+		dto.setPftWorkflowId(workflow);
+		dto.setWorkflow(workflow);
+		dto.setWorkflowStage(PlatformConst.WORKFLOW_STAGE_FIRST);
+		dto.setWorkflowStatus(PlatformConst.CODE_STATUS_COMPLETE);
+		dto.setPersonalId(personalId);
+		dto.setWorkflowDate(workflowDate);
+		dto.setFunctionCode(functionCode);
+		database.insert(WorkflowDaoInterface.class, dto);
+		return workflow;
+	}
+	
+	/**
+	 * 勤務形態項目情報を登録する。<br>
+	 * @param itemCode 勤務形態項目コード
+	 * @param minutes  項目値(0時からの分)
+	 * @throws MospException 登録に失敗した場合
+	 */
+	protected void addWorkTypeItem(String itemCode, int minutes) throws MospException {
+		WorkTypeItemDtoInterface dto = new TmmWorkTypeItemDto();
+		dto.setTmmWorkTypeItemId(nextId());
+		dto.setWorkTypeCode(CODE);
+		dto.setActivateDate(masterDate);
+		dto.setWorkTypeItemCode(itemCode);
+		dto.setWorkTypeItemValue(DateUtility.getTime(minutes / 60, minutes % 60));
+		database.insert(WorkTypeItemDaoInterface.class, dto);
+	}
+	
+	/**
+	 * カレンダ上の勤務形態コードを取得する。<br>
+	 * @param date 対象日
+	 * @return 勤務形態コード
+	 */
+	protected String getScheduledWorkTypeCode(Date date) {
+		if (DateUtility.isSunday(date)) {
+			return TimeConst.CODE_HOLIDAY_LEGAL_HOLIDAY;
+		}
+		if (DateUtility.isSaturday(date)) {
+			return TimeConst.CODE_HOLIDAY_PRESCRIBED_HOLIDAY;
+		}
+		return CODE;
+	}
+	
+	/**
+	 * 年度のカレンダを登録する。<br>
+	 * カレンダマスタは年度の初日を有効日とし、年度の全日についてカレンダ日を登録する。<br>
+	 * @param fiscalYear 年度
+	 * @throws MospException 登録に失敗した場合
+	 */
+	protected void addSchedule(int fiscalYear) throws MospException {
+		MospParams mospParams = database.getMospParams();
+		Date yearDate = MonthUtility.getYearDate(fiscalYear, mospParams);
+		ScheduleDtoInterface scheduleDto = new TmmScheduleDto();
+		scheduleDto.setTmmScheduleId(nextId());
+		scheduleDto.setScheduleCode(CODE);
+		scheduleDto.setActivateDate(yearDate);
+		scheduleDto.setFiscalYear(fiscalYear);
+		database.insert(ScheduleDaoInterface.class, scheduleDto);
+		List<ScheduleDateDtoInterface> scheduleDateList = new ArrayList<ScheduleDateDtoInterface>();
+		Date lastDate = MonthUtility.getFiscalYearLastDate(fiscalYear, mospParams);
+		for (Date date = yearDate; date.after(lastDate) == false; date = DateUtility.addDay(date, 1)) {
+			ScheduleDateDtoInterface dto = new TmmScheduleDateDto();
+			dto.setTmmScheduleDateId(nextId());
+			dto.setScheduleCode(CODE);
+			dto.setActivateDate(yearDate);
+			dto.setScheduleDate(date);
+			dto.setWorks(1);
+			dto.setWorkTypeCode(getScheduledWorkTypeCode(date));
+			scheduleDateList.add(dto);
+		}
+		database.insert(ScheduleDateDaoInterface.class, scheduleDateList);
+	}
+	
+	/**
+	 * レコード識別IDを採番する。<br>
+	 * ワークフロー番号も同じ番号から採番する。<br>
+	 * @return レコード識別ID
+	 */
+	protected long nextId() {
+		return ++lastId;
+	}
+	
+}